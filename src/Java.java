@@ -1,63 +1,394 @@
+import cache.CompileCache;
+import codegen.Emitter;
+import codegen.Generator;
 import codegen.platform.isa.ISA;
 import codegen.platform.isa.ISAProvider;
+import commons.Logger;
+import commons.Names;
+import commons.OutputRouter;
 import phase.*;
+import server.CompileClient;
+import server.CompileServer;
+import snapshot.AstSnapshot;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static phase.CompilerState.EXIT_FAILURE;
 import static phase.CompilerState.EXIT_SUCCESS;
 
 public class Java {
     public static void main(String[] args) {
-        var tasks = parseTasks(args);
-        if (tasks == null) {
-            System.err.println("Usage: Java [-S | -T | -I | -B | -V] <file1.java, file2.java, ...>");
-            System.exit(EXIT_FAILURE);
+        if (args.length > 0 && args[0].equals("--serve")) {
+            if (args.length != 2) {
+                System.err.println("Usage: Java --serve <socket | port>");
+                System.exit(EXIT_FAILURE);
+            }
+            try {
+                CompileServer.serve(args[1], Java::run);
+            } catch (IOException e) {
+                System.err.printf("Cannot serve on %s: %s%n", args[1], e.getMessage());
+                System.exit(EXIT_FAILURE);
+            }
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("--connect")) {
+            if (args.length < 2) {
+                System.err.println("Usage: Java --connect <socket | port> [--inline] <args ...>");
+                System.exit(EXIT_FAILURE);
+            }
+            boolean inline = args.length > 2 && args[2].equals("--inline");
+            var forwarded = Arrays.copyOfRange(args, inline ? 3 : 2, args.length);
+            int status;
+            try {
+                status = CompileClient.compile(args[1], forwarded, inline);
+            } catch (IOException e) {
+                // no server listening: behave exactly like a regular invocation
+                status = run(forwarded);
+            }
+            System.exit(status);
+        }
+
+        System.exit(run(args));
+    }
+
+    /**
+     * Compiles as specified by the command-line arguments. Safe to call concurrently.
+     * @param args The command-line arguments.
+     * @return The exit status of the invocation.
+     */
+    public static int run(String[] args) {
+        var options = new Options();
+        var tasks = parseTasks(args, options);
+        if (tasks == null || !validateOutput(tasks, options)) {
+            System.err.println("Usage: Java [-j <jobs>] [-o <file.s> | -d <dir>] [--time-phases | --stats=<table | json>] "
+                    + "[--cache <dir> [--cache-size <MB>]] [--via-ir] [-O<level>] [-S | -T | -I | -B | -R | --ssa | -V] <file1.java, file2.java, ...>");
+            return EXIT_FAILURE;
+        }
+
+        if (options.cacheDirectory != null) {
+            try {
+                options.cache = CompileCache.open(options.cacheDirectory.toPath(), options.cacheMegabytes << 20);
+            } catch (IOException e) {
+                System.err.printf("Cannot open cache %s, compiling without it: %s%n", options.cacheDirectory, e.getMessage());
+            }
+        }
+
+        int status;
+        if (options.jobs > 1 && tasks.size() > 1) {
+            status = compileParallel(tasks, options);
+        } else {
+            status = compileSequential(tasks, options);
+        }
+
+        if (options.cache != null) {
+            try {
+                options.cache.evict();
+            } catch (IOException e) {
+                System.err.printf("Cannot evict cache entries: %s%n", e.getMessage());
+            }
         }
 
+        if (options.statistics != null) {
+            if (options.json) {
+                options.statistics.printJson(System.err);
+            } else {
+                options.statistics.printTable(System.err);
+            }
+        }
+        return status;
+    }
+
+    private static int compileSequential(Queue<Task> tasks, Options options) {
         int status = EXIT_SUCCESS;
         while (!tasks.isEmpty()) {
-            var task = tasks.poll();
-            final var initialState = CompilerState.builder()
-                    .status(status)
-                    .sourceFile(task.input)
-                    .isa(task.isa)
-                    .build();
-            final var phases = new CompilerPhaseChain();
+            status |= compile(tasks.poll(), options);
+        }
+        return status;
+    }
+
+    /**
+     * Compiles each task on its own worker. Each compilation's stdout and stderr
+     * are captured separately and replayed in input order, so the output does not
+     * depend on which worker ran which task.
+     */
+    private static int compileParallel(Queue<Task> tasks, Options options) {
+        final ExecutorService workers = Executors.newFixedThreadPool(Math.min(options.jobs, tasks.size()));
+        final List<Future<OutputRouter.Captured>> results = new ArrayList<>();
+        for (final var task : tasks) {
+            results.add(workers.submit(() -> OutputRouter.capture(() -> compile(task, options))));
+        }
+
+        int status = EXIT_SUCCESS;
+        try {
+            for (final var result : results) {
+                OutputRouter.Captured r;
+                try {
+                    r = result.get();
+                } catch (final Exception e) {
+                    e.printStackTrace();
+                    System.err.printf("Unexpected internal compiler error: %s%n", e);
+                    status = EXIT_FAILURE;
+                    continue;
+                }
+                r.out().writeTo(System.out);
+                r.err().writeTo(System.err);
+                System.out.flush();
+                System.err.flush();
+                status |= r.status();
+            }
+        } catch (final IOException e) {
+            e.printStackTrace();
+            status = EXIT_FAILURE;
+        } finally {
+            workers.shutdownNow();
+        }
+        return status;
+    }
+
+    /**
+     * Compiles the specified task, through the compilation cache if one is used.
+     * @return The exit status of the compilation.
+     */
+    private static int compile(Task task, Options options) {
+        if (options.cache == null) {
+            return compile(task, options, emitterFor(task, options), null);
+        }
+
+        String key;
+        String snapshotKey;
+        try {
+            var source = Files.readAllBytes(task.input.toPath());
+            var variant = task.type.name();
+            if (options.viaIr()) {
+                variant += "+IR-O" + options.optimization;
+            }
+            key = options.cache.key(task.isa.getClass().getSimpleName(), variant, task.input.getName(), source);
+            snapshotKey = options.cache.key("", "AST", "", source);  // the AST depends on neither
+        } catch (IOException e) {
+            return compile(task, options, emitterFor(task, options), null);  // let the scanner report the unreadable file
+        }
+
+        var entry = options.cache.lookup(key);
+        if (entry != null) {
+            if (options.statistics != null) {
+                options.statistics.recordCacheHit(task.index, task.input, entry.status());
+            }
+            return replay(task, options, entry);
+        }
+
+        if (options.statistics != null) {
+            options.statistics.recordCacheMiss();
+        }
+        final var assembly = new ByteArrayOutputStream();
+        final var emitter = task.type == TaskType.COMPILE ? Emitter.to(assembly) : emitterFor(task, options);
+        final var captured = OutputRouter.capture(() -> compile(task, options, emitter, snapshotKey));
+        entry = new CompileCache.Entry(captured.status(), assembly.toByteArray(),
+                captured.out().toByteArray(), captured.err().toByteArray());
+        if (entry.status() == EXIT_SUCCESS) {  // failures are recompiled, so internal errors are never cached
             try {
-                switch (task.type) {
-                    case SCAN -> phases.add(new ScanPhase(true));
-                    case TABLE -> phases.add(new ScanPhase())
-                            .add(new ParsePhase())
-                            .add(new StaticAnalysisPhase(true));
-                    case INSTRUCTIONS -> phases.add(new ScanPhase())
-                            .add(new ParsePhase())
-                            .add(new StaticAnalysisPhase())
-                            .add(new DataflowAnalysisPhase(true, false));
-                    case BLOCKS -> phases.add(new ScanPhase())
-                            .add(new ParsePhase())
-                            .add(new StaticAnalysisPhase())
-                            .add(new DataflowAnalysisPhase(false, true));
-                    case COMPILE -> phases.add(new ScanPhase())
-                            .add(new ParsePhase())
-                            .add(new StaticAnalysisPhase())
+                options.cache.store(key, entry);
+            } catch (IOException e) {
+                System.err.printf("Cannot write cache entry for %s: %s%n", task.input.getPath(), e.getMessage());
+            }
+        }
+        return replay(task, options, entry);
+    }
+
+    /**
+     * Writes the output of a compilation as if it had just been compiled.
+     * @return The exit status of the compilation.
+     */
+    private static int replay(Task task, Options options, CompileCache.Entry entry) {
+        System.out.writeBytes(entry.out());
+        if (entry.assembly().length > 0) {
+            var target = outputPathFor(task, options);
+            if (target == null) {
+                System.out.writeBytes(entry.assembly());
+            } else {
+                try {
+                    Files.write(target, entry.assembly());
+                } catch (IOException e) {
+                    System.err.printf("Cannot write %s: %s%n", target, e.getMessage());
+                    entry = new CompileCache.Entry(EXIT_FAILURE, entry.assembly(), entry.out(), entry.err());
+                }
+            }
+        }
+        System.err.writeBytes(entry.err());
+        System.out.flush();
+        System.err.flush();
+        return entry.status();
+    }
+
+    /**
+     * Runs the phases for the specified task with its own logger and generator.
+     * @param emitter The emitter that the assembly is written to.
+     * @param snapshotKey The cache key of the AST snapshot of the task's source, or <code>null</code>
+     *                    if no cache is used. If a snapshot exists, scanning and parsing are skipped,
+     *                    otherwise a snapshot is stored once the source has been parsed.
+     * @return The exit status of the compilation.
+     */
+    private static int compile(Task task, Options options, Emitter emitter, String snapshotKey) {
+        try {
+            task.isa.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_FAILURE;
+        }
+        Names.acquire();
+
+        final var initialState = CompilerState.builder()
+                .status(EXIT_SUCCESS)
+                .sourceFile(task.input)
+                .isa(task.isa)
+                .logger(Logger.create())
+                .generator(Generator.create(task.isa, emitter))
+                .ast(task.type != TaskType.SCAN && snapshotKey != null ? loadSnapshot(options.cache, snapshotKey) : null)
+                .build();
+        final var phases = new CompilerPhaseChain();
+        if (options.statistics != null) {
+            phases.timed();
+        }
+
+        int status = EXIT_FAILURE;
+        try {
+            if (task.type != TaskType.SCAN) {
+                phases.add(new ScanPhase())
+                        .add(new ParsePhase());
+                if (snapshotKey != null) {
+                    phases.add(new SnapshotPhase(ast -> storeSnapshot(options.cache, snapshotKey, ast)));
+                }
+            }
+            switch (task.type) {
+                case SCAN -> phases.add(new ScanPhase(true));
+                case TABLE -> phases.add(new StaticAnalysisPhase(true));
+                case INSTRUCTIONS -> phases.add(new StaticAnalysisPhase())
+                        .add(new DataflowAnalysisPhase(true, false));
+                case BLOCKS -> phases.add(new StaticAnalysisPhase())
+                        .add(new DataflowAnalysisPhase(false, true));
+                case IR -> phases.add(new StaticAnalysisPhase())
+                        .add(new DataflowAnalysisPhase())
+                        .add(new ConstantFoldingPhase())
+                        .add(new IrLoweringPhase(true, false));
+                case SSA -> phases.add(new StaticAnalysisPhase())
+                        .add(new DataflowAnalysisPhase())
+                        .add(new ConstantFoldingPhase())
+                        .add(new IrLoweringPhase(true, true));
+                case COMPILE -> {
+                    phases.add(new StaticAnalysisPhase())
                             .add(new DataflowAnalysisPhase())
-                            .add(new CodeGenerationPhase());
+                            .add(new ConstantFoldingPhase());
+                    if (options.viaIr()) {
+                        phases.add(new IrLoweringPhase(false, true));
+                    }
+                    phases.add(new CodeGenerationPhase(options.optimization > 0));
+                }
+            }
+            var finalState = phases.run(initialState);
+            status = finalState.getStatus();
+            if (options.statistics != null && finalState.getSymbolContext() != null) {
+                options.statistics.recordResolutions(finalState.getSymbolContext().getResolutionCounts());
+            }
+            if (options.statistics != null && finalState.getFolds() != null) {
+                options.statistics.recordFolds(finalState.getFolds());
+            }
+            if (options.statistics != null && finalState.getGenerator() != null) {
+                options.statistics.recordTiles(finalState.getGenerator().getTileCounts());
+                options.statistics.recordRewrites(finalState.getGenerator().getRewriteCounts());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.err.printf("Unexpected internal compiler error: %s%n", e);
+        } finally {
+            Names.release();
+            task.isa.release();
+            if (options.statistics != null) {
+                options.statistics.record(task.index, task.input, status, phases.getTimings());
+            }
+        }
+        return status;
+    }
+
+    /**
+     * @return The AST stored under the specified key, or <code>null</code> if there is no
+     *         usable snapshot, in which case the source is parsed again.
+     */
+    private static ast.Program loadSnapshot(CompileCache cache, String key) {
+        var bytes = cache.load(key);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return AstSnapshot.read(bytes);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void storeSnapshot(CompileCache cache, String key, ast.Program ast) {
+        try {
+            cache.save(key, AstSnapshot.write(ast));
+        } catch (IOException ignored) {
+            // a missing snapshot only costs a parse next time
+        }
+    }
+
+    /**
+     * @return The emitter that the assembly for the specified task should be written to.
+     */
+    private static Emitter emitterFor(Task task, Options options) {
+        var target = outputPathFor(task, options);
+        return target != null ? Emitter.to(target) : Emitter.to(System.out);
+    }
+
+    /**
+     * @return The file that the assembly for the specified task should be written to,
+     *         or <code>null</code> if it should be written to standard output.
+     */
+    private static Path outputPathFor(Task task, Options options) {
+        if (task.type == TaskType.COMPILE) {
+            if (options.outputFile != null) {
+                return options.outputFile.toPath();
+            }
+            if (options.outputDirectory != null) {
+                String name = task.input.getName();
+                if (name.endsWith(".java")) {
+                    name = name.substring(0, name.length() - ".java".length());
                 }
-                status |= phases.run(initialState).getStatus();
-            } catch (Exception e) {
-                e.printStackTrace();
-                System.err.printf("Unexpected internal compiler error: %s%n", e);
-                status = EXIT_FAILURE;
+                return new File(options.outputDirectory, name + ".s").toPath();
             }
         }
+        return null;
+    }
 
-        System.exit(status);
+    private static boolean validateOutput(Queue<Task> tasks, Options options) {
+        if (options.outputFile != null && options.outputDirectory != null) {
+            System.err.println("Cannot specify both an output file and an output directory");
+            return false;
+        }
+        if (options.outputFile != null && tasks.stream().filter(t -> t.type == TaskType.COMPILE).count() > 1) {
+            System.err.printf("Cannot write multiple compilations to %s, use -d <dir> instead%n", options.outputFile);
+            return false;
+        }
+        var directory = options.outputDirectory;
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            System.err.printf("Cannot create output directory: %s%n", options.outputDirectory);
+            return false;
+        }
+        return true;
     }
 
-    private static Queue<Task> parseTasks(String[] args) {
+    private static Queue<Task> parseTasks(String[] args, Options options) {
         if (args.length == 0) {
             return null;
         }
@@ -69,6 +400,80 @@ public class Java {
             ISA isa = ISAProvider.getISA_x86_64();  // default isa
             int j;
 
+            if (args[i].equals("-j") || args[i].equalsIgnoreCase("--jobs")) {
+                if (i + 1 >= args.length) {
+                    System.err.printf("Missing job count for %s%n", args[i]);
+                    return null;
+                }
+                try {
+                    options.jobs = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    options.jobs = 0;
+                }
+                if (options.jobs < 1) {
+                    System.err.printf("Invalid job count: %s%n", args[i]);
+                    return null;
+                }
+                continue;
+            }
+
+            if (args[i].equalsIgnoreCase("--time-phases") || args[i].toLowerCase().startsWith("--stats=")) {
+                var format = args[i].toLowerCase().startsWith("--stats=")
+                        ? args[i].substring("--stats=".length()).toLowerCase()
+                        : "table";
+                if (!format.equals("table") && !format.equals("json")) {
+                    System.err.printf("Invalid statistics format: %s. Supported formats: table, json%n", format);
+                    return null;
+                }
+                options.statistics = new PhaseStatistics();
+                options.json = format.equals("json");
+                continue;
+            }
+
+            if (args[i].equalsIgnoreCase("--via-ir")) {
+                options.viaIr = true;
+                continue;
+            }
+
+            if (args[i].matches("-O\\d+")) {
+                options.optimization = Integer.parseInt(args[i].substring(2));
+                continue;
+            }
+
+            if (args[i].equalsIgnoreCase("--cache") || args[i].equalsIgnoreCase("--cache-size")) {
+                if (i + 1 >= args.length) {
+                    System.err.printf("Missing value for %s%n", args[i]);
+                    return null;
+                }
+                if (args[i].equalsIgnoreCase("--cache")) {
+                    options.cacheDirectory = new File(args[++i]);
+                    continue;
+                }
+                try {
+                    options.cacheMegabytes = Long.parseLong(args[++i]);
+                } catch (NumberFormatException e) {
+                    options.cacheMegabytes = -1;
+                }
+                if (options.cacheMegabytes < 0) {
+                    System.err.printf("Invalid cache size: %s%n", args[i]);
+                    return null;
+                }
+                continue;
+            }
+
+            if (args[i].equals("-o") || args[i].equals("-d")) {
+                if (i + 1 >= args.length) {
+                    System.err.printf("Missing output path for %s%n", args[i]);
+                    return null;
+                }
+                if (args[i].equals("-o")) {
+                    options.outputFile = new File(args[++i]);
+                } else {
+                    options.outputDirectory = new File(args[++i]);
+                }
+                continue;
+            }
+
             if (args[i].charAt(0) == '-') {  // operator found
                 j = i + 1;
                 String operator = args[i];
@@ -77,6 +482,8 @@ public class Java {
                     case "-t", "--table" -> type = TaskType.TABLE;
                     case "-i", "--instructions" -> type = TaskType.INSTRUCTIONS;
                     case "-b", "--blocks" -> type = TaskType.BLOCKS;
+                    case "-r", "--ir" -> type = TaskType.IR;
+                    case "--ssa" -> type = TaskType.SSA;
                     case "-v", "--version" -> {
                         type = TaskType.COMPILE;
                         String version = args[j++];
@@ -119,7 +526,7 @@ public class Java {
                                 continue;
                             }
 
-                            tasks.offer(new Task(type, child, isa));
+                            tasks.offer(new Task(tasks.size(), type, child, isa));
                             foundValidArgs = true;
                         }
                     }
@@ -129,7 +536,7 @@ public class Java {
                         return null;
                     }
 
-                    tasks.offer(new Task(type, f, isa));
+                    tasks.offer(new Task(tasks.size(), type, f, isa));
                     foundValidArgs = true;
                 }
 
@@ -144,13 +551,35 @@ public class Java {
         return tasks;
     }
 
-    private record Task(TaskType type, File input, ISA isa) {}
+    private record Task(int index, TaskType type, File input, ISA isa) {}
+
+    /**
+     * Options which apply to all tasks of a single invocation.
+     */
+    private static final class Options {
+        int jobs = 1;
+        File outputFile;
+        File outputDirectory;
+        PhaseStatistics statistics;
+        boolean json;
+        File cacheDirectory;
+        long cacheMegabytes = 256;
+        CompileCache cache;
+        boolean viaIr;  // generate code from the three-address IR, through SSA form, instead of the AST
+        int optimization;  // from 1 up, also allocate registers, which implies generating code from the IR
+
+        boolean viaIr() {
+            return viaIr || optimization > 0;
+        }
+    }
 
     private enum TaskType {
         SCAN,          // scan
         TABLE,         // scan, parse, static semantic analysis, and print symbol tables
         INSTRUCTIONS,  // scan, parse, static semantic analysis, dataflow analysis, and print instruction graph
         BLOCKS,        // scan, parse, static semantic analysis, dataflow analysis, and print block graph
+        IR,            // scan, parse, static semantic analysis, dataflow analysis, and print three-address IR
+        SSA,           // scan, parse, static semantic analysis, dataflow analysis, and print IR in SSA form
         COMPILE        // scan, parse, static semantic analysis, dataflow analysis, code generation
     }
 }
@@ -3,11 +3,13 @@ package ast;
 import commons.Visitor;
 import java_cup.runtime.ComplexSymbolFactory.Location;
 import commons.Logger;
+import semantics.info.MethodInfo;
 
 public class Call extends Exp {
     public Expression e;
     public Identifier i;
     public ExpressionList el;
+    public MethodInfo resolvedMethod;
 
     public Call(Expression ae, Identifier ai, ExpressionList ael, Location pos) {
         super(pos);
@@ -23,6 +23,10 @@ public class ExpressionList extends ASTNode implements Iterable<Expression> {
       return list.get(i); 
    }
 
+   public void set(int i, Expression n) {
+      list.set(i, n);
+   }
+
    public int size() { 
       return list.size(); 
    }
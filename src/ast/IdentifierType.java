@@ -3,13 +3,16 @@ package ast;
 import commons.Visitor;
 import java_cup.runtime.ComplexSymbolFactory.Location;
 import commons.Logger;
+import commons.Names;
 
 public class IdentifierType extends SingularType {
     public String s;
+    public int id;  // s, interned
 
     public IdentifierType(String as, Location pos) {
         super(pos);
-        s = as;
+        id = Names.intern(as);
+        s = Names.name(id);  // the same string for every occurrence of the name
     }
 
     public void accept(Visitor v) {
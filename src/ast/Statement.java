@@ -4,17 +4,77 @@ import commons.Visitor;
 import dataflow.Symbol;
 import java_cup.runtime.ComplexSymbolFactory.Location;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
 
 public abstract class Statement extends ASTNode {
-    public final Set<Symbol> used;
-    public final Set<Symbol> defined;
+    private static final long[] NONE = new long[0];
+
+    // the variables used and defined by this statement, as filled in by LiveVariableVisitor,
+    // packed by Symbol#pack into arrays of exactly their size, which most statements leave
+    // as the shared empty array
+    private long[] used = NONE;
+    private long[] defined = NONE;
 
     public Statement(Location pos) {
         super(pos);
-        used = new HashSet<>();
-        defined = new HashSet<>();
     }
     public abstract void accept(Visitor v);
+
+    /**
+     * Adds the specified variable to those used by this statement, unless a variable of the
+     * same name is already among them.
+     */
+    public void addUsed(Symbol v) {
+        used = add(used, v);
+    }
+
+    /**
+     * Adds the specified variable to those defined by this statement, unless a variable of
+     * the same name is already among them.
+     */
+    public void addDefined(Symbol v) {
+        defined = add(defined, v);
+    }
+
+    public void forEachUsed(Consumer<Symbol> action) {
+        forEach(used, action);
+    }
+
+    public void forEachDefined(Consumer<Symbol> action) {
+        forEach(defined, action);
+    }
+
+    public List<Symbol> getUsed() {
+        return toList(used);
+    }
+
+    public List<Symbol> getDefined() {
+        return toList(defined);
+    }
+
+    private static long[] add(long[] symbols, Symbol v) {
+        for (long s : symbols) {
+            if (Symbol.unpackId(s) == v.id()) {
+                return symbols;
+            }
+        }
+        var result = Arrays.copyOf(symbols, symbols.length + 1);
+        result[symbols.length] = v.pack();
+        return result;
+    }
+
+    private static void forEach(long[] symbols, Consumer<Symbol> action) {
+        for (long s : symbols) {
+            action.accept(Symbol.unpack(s));
+        }
+    }
+
+    private static List<Symbol> toList(long[] symbols) {
+        List<Symbol> result = new ArrayList<>(symbols.length);
+        forEach(symbols, result::add);
+        return result;
+    }
 }
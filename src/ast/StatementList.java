@@ -23,6 +23,10 @@ public class StatementList extends ASTNode implements Iterable<Statement> {
       return list.get(i); 
    }
 
+   public void set(int i, Statement n) {
+      list.set(i, n);
+   }
+
    public int size() { 
       return list.size(); 
    }
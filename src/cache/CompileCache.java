@@ -0,0 +1,306 @@
+package cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * An on-disk cache of compilation results, keyed by the content of everything a
+ * compilation depends on: the compiler itself, the target ISA, the task type, the
+ * source file name (which appears in diagnostics) and the source bytes. Besides
+ * {@link Entry entries}, the cache stores arbitrary byte blobs, such as AST snapshots,
+ * under keys built the same way.
+ * <p>
+ * Entries are stored as <code>&lt;directory&gt;/&lt;hh&gt;/&lt;key&gt;</code>, where
+ * <code>hh</code> are the first two hex digits of the key. Every entry is written to a
+ * temporary file and atomically moved into place, so concurrent builds sharing a cache
+ * never observe a partial entry. The cache is bounded by size: {@link CompileCache#evict()}
+ * removes the least recently used entries, using the modification time of each entry,
+ * which is refreshed on every hit.
+ */
+public final class CompileCache {
+    private static final int MAGIC = 0x4A434331;  // "JCC1"
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final long STALE_TEMPORARY_MILLIS = 60 * 60 * 1000;
+    private static final String MAIN_CLASS = "Java";
+
+    private static String compilerFingerprint;
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /**
+     * The result of a single compilation.
+     * @param status The exit status.
+     * @param assembly The generated assembly, empty if the task does not generate any.
+     * @param out Everything else written to standard output.
+     * @param err Everything written to standard error.
+     */
+    public record Entry(int status, byte[] assembly, byte[] out, byte[] err) {}
+
+    /**
+     * Opens the cache in the specified directory, creating the directory if needed.
+     * @param directory The cache directory, which may be shared between concurrent builds.
+     * @param maxBytes The size that {@link CompileCache#evict()} shrinks the cache to.
+     * @throws IOException If the directory cannot be created, or the compiler cannot be fingerprinted.
+     */
+    public static CompileCache open(Path directory, long maxBytes) throws IOException {
+        Files.createDirectories(directory);
+        fingerprint();
+        return new CompileCache(directory, maxBytes);
+    }
+
+    private CompileCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return The key of a compilation with the specified inputs.
+     */
+    public String key(String isa, String type, String fileName, byte[] source) {
+        var digest = sha256();
+        for (var part : new String[] { compilerFingerprint, isa, type, fileName }) {
+            var bytes = part.getBytes(StandardCharsets.UTF_8);
+            digest.update(intBytes(bytes.length));
+            digest.update(bytes);
+        }
+        digest.update(source);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return The entry with the specified key, or <code>null</code> if there is none.
+     *         Unreadable or corrupt entries are treated as absent.
+     */
+    public Entry lookup(String key) {
+        var bytes = load(key);
+        if (bytes == null) {
+            return null;
+        }
+
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                return null;
+            }
+            var entry = new Entry(in.readInt(), readBytes(in), readBytes(in), readBytes(in));
+            return in.available() == 0 ? entry : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the specified entry under the specified key, replacing any existing entry.
+     * @throws IOException If the entry cannot be written.
+     */
+    public void store(String key, Entry entry) throws IOException {
+        var buffer = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(entry.status());
+            writeBytes(out, entry.assembly());
+            writeBytes(out, entry.out());
+            writeBytes(out, entry.err());
+        }
+        save(key, buffer.toByteArray());
+    }
+
+    /**
+     * @return The bytes stored under the specified key, or <code>null</code> if there are none.
+     */
+    public byte[] load(String key) {
+        var path = pathOf(key);
+        try {
+            var bytes = Files.readAllBytes(path);
+            touch(path);
+            return bytes;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the specified bytes under the specified key, replacing anything stored before.
+     * @throws IOException If the bytes cannot be written.
+     */
+    public void save(String key, byte[] bytes) throws IOException {
+        var path = pathOf(key);
+        Files.createDirectories(path.getParent());
+        var temporary = Files.createTempFile(path.getParent(), key, TEMPORARY_SUFFIX);
+        try {
+            Files.write(temporary, bytes);
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the cache is no larger than its
+     * maximum size, along with temporary files abandoned by interrupted builds.
+     * Entries removed concurrently by another build are skipped.
+     * @throws IOException If the cache directory cannot be listed.
+     */
+    public void evict() throws IOException {
+        record Candidate(Path path, long size, long lastUsed) {}
+
+        List<Candidate> candidates = new ArrayList<>();
+        long total = 0;
+        long now = System.currentTimeMillis();
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            for (var path : (Iterable<Path>) files::iterator) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                long lastUsed = attributes.lastModifiedTime().toMillis();
+                if (path.getFileName().toString().endsWith(TEMPORARY_SUFFIX)) {
+                    if (now - lastUsed > STALE_TEMPORARY_MILLIS) {
+                        Files.deleteIfExists(path);
+                    }
+                    continue;
+                }
+                candidates.add(new Candidate(path, attributes.size(), lastUsed));
+                total += attributes.size();
+            }
+        }
+
+        candidates.sort(Comparator.comparingLong(Candidate::lastUsed));
+        for (int i = 0; i < candidates.size() && total > maxBytes; i++) {
+            var candidate = candidates.get(i);
+            try {
+                Files.deleteIfExists(candidate.path);
+            } catch (IOException ignored) {
+                continue;  // in use elsewhere, try the next one
+            }
+            total -= candidate.size;
+        }
+    }
+
+    private Path pathOf(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // evicted concurrently, or a read-only cache: the entry is still valid
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the compiler once per process: a hash over every
+     * class file of the compiler, so any rebuild of the compiler invalidates the cache.
+     * The test and benchmark classes are built into the same directory, in the unnamed
+     * package, so only the named packages and the main class are hashed there; otherwise
+     * rebuilding a test would invalidate the cache too.
+     */
+    private static synchronized void fingerprint() throws IOException {
+        if (compilerFingerprint != null) {
+            return;
+        }
+
+        Path location;
+        try {
+            var codeSource = CompileCache.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null) {
+                throw new IOException("Cannot locate the compiler classes");
+            }
+            location = Path.of(codeSource.getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Cannot locate the compiler classes", e);
+        }
+
+        var digest = sha256();
+        if (Files.isDirectory(location)) {
+            List<Path> classes;
+            try (Stream<Path> files = Files.walk(location)) {
+                classes = files.filter(p -> isCompilerClass(location.relativize(p))).sorted().toList();
+            }
+            for (var path : classes) {
+                digest.update(location.relativize(path).toString().getBytes(StandardCharsets.UTF_8));
+                update(digest, path);
+            }
+        } else {
+            update(digest, location);  // a jar
+        }
+        compilerFingerprint = HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return Whether the class file at the specified path, relative to the class path
+     *         entry, belongs to the compiler.
+     */
+    private static boolean isCompilerClass(Path path) {
+        var name = path.getFileName().toString();
+        if (!name.endsWith(".class")) {
+            return false;
+        }
+        return path.getNameCount() > 1 || name.equals(MAIN_CLASS + ".class") || name.startsWith(MAIN_CLASS + "$");
+    }
+
+    private static void update(MessageDigest digest, Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            var buffer = new byte[8192];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);  // every JVM supports SHA-256
+        }
+    }
+
+    private static byte[] intBytes(int value) {
+        return new byte[] { (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value };
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Corrupt cache entry");
+        }
+        return in.readNBytes(length);
+    }
+}
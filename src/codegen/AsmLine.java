@@ -0,0 +1,49 @@
+package codegen;
+
+import codegen.platform.IDestination;
+import codegen.platform.ISource;
+import codegen.platform.Label;
+import codegen.platform.Memory;
+import codegen.platform.Operation;
+
+/**
+ * A line of a generated function, buffered by the {@link Generator} until the function is
+ * complete so that the {@link Peephole peephole optimizer} can rewrite it before it is printed.
+ */
+public sealed interface AsmLine {
+    /**
+     * An instruction, e.g. <code>movq %rdi,%rax</code>. A single operand is the source if the
+     * instruction reads it, e.g. <code>pushq %rax</code>, or the destination if it only writes
+     * it, e.g. <code>popq %rax</code>. Both are <code>null</code> if it has no operands, e.g.
+     * <code>cqto</code>.
+     */
+    record Op(Operation op, ISource src, IDestination dst, String comment) implements AsmLine {}
+
+    /**
+     * A conditional or unconditional jump to a label, e.g. <code>jne loop</code>.
+     */
+    record Jump(Operation op, Label target, String comment) implements AsmLine {}
+
+    /**
+     * A call of a label. A standard call follows the calling convention: it reads only the
+     * argument registers and clobbers every caller-saved one. Calls of the synthetic functions
+     * may pass values in any register.
+     */
+    record Call(Label target, boolean standard, String comment) implements AsmLine {}
+
+    /**
+     * A call through a method table, e.g. <code>call *8(%rax)</code>. It follows the calling
+     * convention.
+     */
+    record IndirectCall(Memory target, String comment) implements AsmLine {}
+
+    /**
+     * The definition of a label, e.g. <code>loop:</code>.
+     */
+    record Define(Label label) implements AsmLine {}
+
+    /**
+     * Padding which aligns the next instruction, e.g. <code>.p2align 4</code>.
+     */
+    record Align(int log2) implements AsmLine {}
+}
@@ -0,0 +1,210 @@
+package codegen;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Accumulates emitted assembly in a reusable byte buffer and flushes it to the
+ * underlying channel once the buffer fills up, or when {@link Emitter#flush()}
+ * is called. Text is written directly into the buffer, without any intermediate
+ * formatting.
+ */
+public final class Emitter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte NEW_LINE = (byte) '\n';
+    private static final byte SPACE = (byte) ' ';
+
+    private final ByteBuffer buffer;
+    private final Path path;
+    private final boolean owned;
+    private WritableByteChannel channel;
+    private long lineStart;
+    private long written;
+
+    /**
+     * @param out The output stream to flush to. It is not closed when the emitter is closed.
+     * @return A new {@link Emitter} which writes to the specified stream.
+     */
+    public static Emitter to(OutputStream out) {
+        return new Emitter(Channels.newChannel(out), null, false);
+    }
+
+    /**
+     * @param channel The channel to flush to. It is closed when the emitter is closed.
+     * @return A new {@link Emitter} which writes to the specified channel.
+     */
+    public static Emitter to(WritableByteChannel channel) {
+        return new Emitter(channel, null, true);
+    }
+
+    /**
+     * The file is only created (or truncated) once the first bytes are flushed,
+     * so a compilation which never reaches code generation leaves no file behind.
+     * @param path The assembly file to write to.
+     * @return A new {@link Emitter} which writes to the specified file.
+     */
+    public static Emitter to(Path path) {
+        return new Emitter(null, path, true);
+    }
+
+    private Emitter(WritableByteChannel channel, Path path, boolean owned) {
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.channel = channel;
+        this.path = path;
+        this.owned = owned;
+    }
+
+    /**
+     * Appends the specified text.
+     * @param s The text to append.
+     * @return This emitter.
+     */
+    public Emitter append(String s) {
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {  // rare: fall back to the charset encoder
+                appendEncoded(s.substring(i));
+                return this;
+            }
+            put((byte) c);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the string representation of the specified object.
+     * @param o The object to append.
+     * @return This emitter.
+     */
+    public Emitter append(Object o) {
+        return append(String.valueOf(o));
+    }
+
+    /**
+     * Appends the specified ASCII character.
+     * @param c The character to append.
+     * @return This emitter.
+     */
+    public Emitter append(char c) {
+        if (c >= 0x80) {
+            return append(String.valueOf(c));
+        }
+        put((byte) c);
+        return this;
+    }
+
+    /**
+     * Appends <code>count</code> spaces. Non-positive counts append nothing.
+     * @param count The number of spaces.
+     * @return This emitter.
+     */
+    public Emitter spaces(int count) {
+        for (int i = 0; i < count; i++) {
+            put(SPACE);
+        }
+        return this;
+    }
+
+    /**
+     * Pads the current line with spaces until it is at least <code>column</code> bytes long.
+     * @param column The column to pad to, relative to the start of the current line.
+     * @return This emitter.
+     */
+    public Emitter padTo(int column) {
+        return spaces(column - column());
+    }
+
+    /**
+     * @return The number of bytes emitted since the start of the current line.
+     */
+    public int column() {
+        return (int) (position() - lineStart);
+    }
+
+    /**
+     * Terminates the current line.
+     * @return This emitter.
+     */
+    public Emitter newLine() {
+        put(NEW_LINE);
+        lineStart = position();
+        return this;
+    }
+
+    /**
+     * @return The total number of bytes emitted so far, flushed or not.
+     */
+    public long position() {
+        return written + buffer.position();
+    }
+
+    /**
+     * Writes out all buffered bytes to the underlying channel.
+     */
+    public void flush() {
+        buffer.flip();
+        try {
+            if (buffer.hasRemaining()) {
+                var out = channel();
+                while (buffer.hasRemaining()) {
+                    written += out.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Flushes this emitter, closing the underlying channel if this emitter owns it.
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            if (owned && channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private WritableByteChannel channel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING);
+        }
+        return channel;
+    }
+
+    private void put(byte b) {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put(b);
+    }
+
+    private void appendEncoded(String s) {
+        var bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(s));
+        while (bytes.hasRemaining()) {
+            put(bytes.get());
+        }
+    }
+}
@@ -4,17 +4,25 @@ import codegen.platform.*;
 import codegen.platform.isa.ISA;
 import codegen.synth.SyntheticFunction;
 import codegen.synth.SyntheticFunctionRegistry;
+import commons.Counts;
 import semantics.info.Signature;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static codegen.platform.Operation.*;
 import static codegen.platform.Register.*;
 
+/**
+ * Generates assembly for a single compilation. The instructions of each function are buffered
+ * as {@link AsmLine lines} until the function returns, and rewritten by the
+ * {@link Peephole peephole optimizer} before they are printed.
+ */
 public final class Generator {
-    private static Generator instance;
     public static final int WORD_SIZE = 8;
+    public static final int LOOP_ALIGNMENT = 4;  // log2 of the alignment of loop headers, in bytes
     public static final Register[] ARGUMENT_REGISTERS = new Register[] { RDI, RSI, RDX, RCX, R8, R9 };
     private static final int OPERATOR_SIZE = 8;
     private static final int INDENT_SIZE = 4;
@@ -25,17 +33,60 @@ public final class Generator {
     private boolean assignable;
     private final Map<String, Integer> labelCounts;
     private final ISA isa;
+    private final Emitter emitter;
+    private final SyntheticFunctionRegistry syntheticFunctionRegistry;
+    private final Counts<Tile> tileCounts = new Counts<>(Tile.class);
+    private final Counts<Rewrite> rewriteCounts = new Counts<>(Rewrite.class);
+    private final Peephole peephole = new Peephole(rewriteCounts);
+    private final List<AsmLine> function = new ArrayList<>();
 
-    public static Generator getInstance(ISA isa) {
-        if (instance == null) {
-            instance = new Generator(isa);
-        }
-        return instance;
+    /**
+     * Creates a new {@link Generator} which emits to standard output, along with
+     * its own {@link SyntheticFunctionRegistry}. Each compilation should use its own generator.
+     * @param isa The target ISA.
+     * @return A new {@link Generator}.
+     */
+    public static Generator create(ISA isa) {
+        return create(isa, Emitter.to(System.out));
+    }
+
+    /**
+     * Creates a new {@link Generator} which emits to the specified {@link Emitter emitter},
+     * along with its own {@link SyntheticFunctionRegistry}. Each compilation should use its own generator.
+     * @param isa The target ISA.
+     * @param emitter The emitter to write assembly to.
+     * @return A new {@link Generator}.
+     */
+    public static Generator create(ISA isa, Emitter emitter) {
+        return new Generator(isa, emitter);
     }
 
-    private Generator(ISA isa) {
+    private Generator(ISA isa, Emitter emitter) {
         this.isa = isa;
+        this.emitter = emitter;
         this.labelCounts = new HashMap<>();
+        this.syntheticFunctionRegistry = SyntheticFunctionRegistry.create(this);
+    }
+
+    /**
+     * @return The synthetic function registry owned by this generator.
+     */
+    public SyntheticFunctionRegistry getSyntheticFunctionRegistry() {
+        return syntheticFunctionRegistry;
+    }
+
+    /**
+     * @return How many times the instruction selector used each {@link Tile tile} so far.
+     */
+    public Counts<Tile> getTileCounts() {
+        return tileCounts;
+    }
+
+    /**
+     * @return How many times the peephole optimizer applied each {@link Rewrite rewrite} so far.
+     */
+    public Counts<Rewrite> getRewriteCounts() {
+        return rewriteCounts;
     }
 
     /**
@@ -69,8 +120,7 @@ public final class Generator {
      * @param comment The comment to append at the end of the instruction.
      */
     public void genUnary(Operation op, ISource src, String comment) {
-        String instruction = String.format("%s%s%s", op, getTab(op), src);
-        gen(instruction, comment);
+        function.add(new AsmLine.Op(op, src, null, comment));
     }
 
     /**
@@ -104,8 +154,7 @@ public final class Generator {
      * @param label The label to use.
      */
     public void genUnary(Operation op, Label label, String comment) {
-        String instruction = String.format("%s%s%s", op, getTab(op), label);
-        gen(instruction, comment);
+        function.add(new AsmLine.Jump(op, label, comment));
     }
 
     /**
@@ -139,8 +188,9 @@ public final class Generator {
      * @param label The label to use.
      */
     public void genUnary(Directive dir, Label label, String comment) {
-        String instruction = String.format("%s%s%s", dir, getTab(dir), label);
-        gen(instruction, comment);
+        endFunction();
+        beginInstruction(dir).append(label);
+        endInstruction(comment);
     }
 
     /**
@@ -178,8 +228,7 @@ public final class Generator {
      * @param dst The destination location to use.
      */
     public void genBinary(Operation op, ISource src, IDestination dst, String comment) {
-        String instruction = String.format("%s%s%s,%s", op, getTab(op), src, dst);
-        gen(instruction, comment);
+        function.add(new AsmLine.Op(op, src, dst, comment));
     }
 
     /**
@@ -231,7 +280,7 @@ public final class Generator {
      * @param syntheticFunction The synthetic function to call.
      */
     public void genCall(SyntheticFunction syntheticFunction) {
-        genCall(SyntheticFunctionRegistry.getInstance(isa).getSyntheticFunctionLabel(syntheticFunction));
+        genCall(syntheticFunctionRegistry.getSyntheticFunctionLabel(syntheticFunction), false, "");
     }
 
     /**
@@ -258,17 +307,24 @@ public final class Generator {
      * @param label The label to use.
      */
     public void genCall(Label label, String comment) {
+        genCall(label, true, comment);
+    }
+
+    public void genCall(Memory memory) {
         boolean aligned = stackSize % 2 == 0;
         if (!aligned) genBinary(SUB, Immediate.of(WORD_SIZE), RSP);
-        genUnary(CALL, label, comment);
+        function.add(new AsmLine.IndirectCall(memory, ""));
         if (!aligned) genBinary(ADD, Immediate.of(WORD_SIZE), RSP);
     }
 
-    public void genCall(Memory memory) {
+    /**
+     * Generates a call instruction to the specified label, aligning the stack around it.
+     * @param standard Whether the callee follows the calling convention.
+     */
+    private void genCall(Label label, boolean standard, String comment) {
         boolean aligned = stackSize % 2 == 0;
         if (!aligned) genBinary(SUB, Immediate.of(WORD_SIZE), RSP);
-        String instruction = String.format("%s%s*%s", CALL, getTab(CALL), memory);
-        gen(instruction);
+        function.add(new AsmLine.Call(label, standard, comment));
         if (!aligned) genBinary(ADD, Immediate.of(WORD_SIZE), RSP);
     }
 
@@ -355,15 +411,15 @@ public final class Generator {
      * @param label The name of the label.
      */
     public void genLabel(Label label) {
-        System.out.printf("%s:%n", label);
+        function.add(new AsmLine.Define(label));
     }
 
     /**
      * Generates a return instruction.
      */
     public void genReturn() {
-        indent();
-        System.out.println(RET);
+        function.add(new AsmLine.Op(RET, null, null, ""));
+        endFunction();
 
         if (stackSize > 0) {
             throw new IllegalStateException();
@@ -387,29 +443,57 @@ public final class Generator {
         genReturn();
     }
 
+    /**
+     * Aligns the next instruction to a multiple of the specified power of two, padding with
+     * no-ops, e.g. <code>.p2align 4</code> for a loop header.
+     * @param log2 The base 2 logarithm of the alignment in bytes.
+     */
+    public void genAlign(int log2) {
+        function.add(new AsmLine.Align(log2));
+    }
+
     /**
      * Generates the ASM code section header.
      */
     public void genCodeSection() {
+        endFunction();
         indent();
-        System.out.println(".text");
+        emitter.append(".text").newLine();
         indent();
-        System.out.printf("%s%s_asm_main%n", ".globl", getTab(".globl"));
+        emitter.append(".globl").spaces(OPERATOR_SIZE - ".globl".length()).append("_asm_main").newLine();
     }
 
     /**
      * Generates the ASM data section header.
      */
     public void genDataSection() {
+        endFunction();
         indent();
-        System.out.println(".data");
+        emitter.append(".data").newLine();
     }
 
     /**
      * Generates a new line.
      */
     public void newLine() {
-        System.out.println();
+        endFunction();
+        emitter.newLine();
+    }
+
+    /**
+     * Writes out all assembly generated so far.
+     */
+    public void flush() {
+        endFunction();
+        emitter.flush();
+    }
+
+    /**
+     * Writes out all assembly generated so far and releases the underlying {@link Emitter emitter}.
+     */
+    public void close() {
+        endFunction();
+        emitter.close();
     }
 
     /**
@@ -522,12 +606,10 @@ public final class Generator {
      * @param comment The comment to follow the instruction.
      */
     public void gen(String instruction, String comment) {
+        endFunction();
         indent();
-        if (COMMENTS_ENABLED && !comment.isBlank()) {
-            System.out.printf("%s%s# %s%n", instruction, getCommentTab(instruction), comment);
-        } else {
-            System.out.printf("%s%n", instruction);
-        }
+        emitter.append(instruction);
+        endInstruction(comment);
     }
 
     /**
@@ -543,35 +625,81 @@ public final class Generator {
      * @param operation The operation to generate.
      */
     public void gen(Operation operation) {
-        gen(String.valueOf(operation), "");
-    }
-
-    private void genUnary(Operation op, IDestination dst) {
-        genUnary(op, dst, "");
+        function.add(new AsmLine.Op(operation, null, null, ""));
     }
 
     private void genUnary(Operation op, IDestination dst, String comment) {
-        String instruction = String.format("%s%s%s", op, getTab(op), dst);
-        gen(instruction, comment);
+        function.add(new AsmLine.Op(op, null, dst, comment));
     }
 
-    private void indent() {
-        System.out.print(" ".repeat(INDENT_SIZE));
-    }
-
-    private String getTab(Operation op) {
-        return getTab(op.toString());
+    /**
+     * Optimizes and prints the lines buffered since the end of the previous function.
+     */
+    private void endFunction() {
+        if (function.isEmpty()) {
+            return;
+        }
+        peephole.optimize(function);
+        for (var line : function) {
+            print(line);
+        }
+        function.clear();
+    }
+
+    private void print(AsmLine line) {
+        if (line instanceof AsmLine.Op op && op.src() == null && op.dst() == null) {
+            indent();
+            emitter.append(op.op());
+            endInstruction(op.comment());
+        } else if (line instanceof AsmLine.Op op) {
+            var instruction = beginInstruction(op.op());
+            if (op.src() != null) {
+                instruction.append(op.src());
+            }
+            if (op.src() != null && op.dst() != null) {
+                instruction.append(',');
+            }
+            if (op.dst() != null) {
+                instruction.append(op.dst());
+            }
+            endInstruction(op.comment());
+        } else if (line instanceof AsmLine.Jump jump) {
+            beginInstruction(jump.op()).append(jump.target());
+            endInstruction(jump.comment());
+        } else if (line instanceof AsmLine.Call call) {
+            beginInstruction(CALL).append(call.target());
+            endInstruction(call.comment());
+        } else if (line instanceof AsmLine.IndirectCall call) {
+            beginInstruction(CALL).append('*').append(call.target());
+            endInstruction(call.comment());
+        } else if (line instanceof AsmLine.Define define) {
+            emitter.append(define.label()).append(':').newLine();
+        } else if (line instanceof AsmLine.Align align) {
+            indent();
+            emitter.append(".p2align").append(' ').append(align.log2()).newLine();
+        }
     }
 
-    private String getTab(Directive dir) {
-        return getTab(dir.toString());
+    private void indent() {
+        emitter.spaces(INDENT_SIZE);
     }
 
-    private String getTab(String str) {
-        return " ".repeat(OPERATOR_SIZE - str.length());
+    /**
+     * Emits the indentation and mnemonic of an instruction, padded to the operand column.
+     */
+    private Emitter beginInstruction(Object mnemonic) {
+        indent();
+        int start = emitter.column();
+        return emitter.append(mnemonic).padTo(start + OPERATOR_SIZE);
     }
 
-    private String getCommentTab(String instruction) {
-        return " ".repeat(INSTRUCTION_SIZE - instruction.length());
+    /**
+     * Terminates the instruction on the current line, aligning the comment (if any) to the comment column.
+     */
+    private void endInstruction(String comment) {
+        if (COMMENTS_ENABLED && !comment.isBlank()) {
+            emitter.padTo(INDENT_SIZE + INSTRUCTION_SIZE).append("# ").append(comment);
+        }
+        emitter.newLine();
     }
 }
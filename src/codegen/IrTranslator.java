@@ -0,0 +1,551 @@
+package codegen;
+
+import codegen.platform.*;
+import codegen.synth.SyntheticFunction;
+import ir.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static codegen.platform.Operation.*;
+import static codegen.platform.Register.*;
+
+/**
+ * Translates the IR into assembly through a {@link Generator}. Without register allocation
+ * (<code>-O0</code>), every virtual register lives in its own stack slot, numbered from
+ * <code>-8(%rbp)</code> down. With it, virtual registers live in the callee-saved registers
+ * assigned by a {@link LinearScanAllocator}, and only the spilled ones get a stack slot,
+ * below the slots where the prologue saves the callee-saved registers in use. Either way,
+ * every instruction loads the operands it needs in a register into fixed scratch registers,
+ * which are all caller-saved, so that no scratch register stays live across instructions.
+ * Calls, runtime checks, allocation and printing follow the same conventions as
+ * {@link codegen.visitor.CodeGenVisitor}.
+ * <p>
+ * Blocks are laid out by {@link BlockLayout}, which keeps loops contiguous and sinks cold
+ * blocks to the end, and the first block of every loop is aligned to 16 bytes unless it is
+ * entered by falling through.
+ * </p>
+ * <p>
+ * Failed runtime checks jump to a stub at the end of the function, which aligns the stack
+ * as at the entry of a called function before jumping on to the exception handler, since
+ * the handlers are C functions that are entered by a jump.
+ * </p>
+ */
+public final class IrTranslator implements InstructionVisitor {
+    private final Generator generator;
+    private final boolean allocateRegisters;
+    private Function function;
+    private LinearScanAllocator allocator;  // null without register allocation
+    private List<Register> saved;  // callee-saved registers used by the function
+    private Map<BasicBlock, Label> labels;
+    private Map<String, Label> exceptions;  // exception stub by handler, in order of first use
+    private BasicBlock next;  // the block laid out after the current one, or null
+    private Label returnLabel;
+
+    /**
+     * @param allocateRegisters Whether virtual registers are allocated to machine registers,
+     *                          rather than all living in stack slots.
+     */
+    public IrTranslator(Generator generator, boolean allocateRegisters) {
+        this.generator = generator;
+        this.allocateRegisters = allocateRegisters;
+    }
+
+    /**
+     * Generates the code section for the specified program, including the synthetic
+     * functions it uses.
+     */
+    public void translate(IrProgram program) {
+        generator.genCodeSection();
+        program.getFunctions().forEach(this::translate);
+        generator.getSyntheticFunctionRegistry().generateAll();
+    }
+
+    private void translate(Function f) {
+        function = f;
+        labels = new HashMap<>();
+        exceptions = new LinkedHashMap<>();
+        returnLabel = Label.of("ret$" + f.getName());
+
+        var layout = new BlockLayout(f);
+        var aligned = layout.layOut();
+        allocator = allocateRegisters ? new LinearScanAllocator(f, layout.getLoops()) : null;
+        saved = allocator != null ? allocator.getUsedRegisters() : List.of();
+
+        generator.genLabel(Label.of(f.getName()));
+        generator.genPrologue();
+
+        // allocate one slot per saved register and per spilled register, keeping the frame 16-byte aligned
+        int slotCount = allocator != null ? allocator.getSlotCount() : f.getRegisterCount();
+        int frameSize = (saved.size() + slotCount) * Generator.WORD_SIZE;
+        frameSize += frameSize % 16;
+        if (frameSize > 0) {
+            generator.genBinary(SUB, Immediate.of(frameSize), RSP);
+        }
+        for (int k = 0; k < saved.size(); k++) {
+            generator.genBinary(MOV, saved.get(k), Memory.of(RBP, -Generator.WORD_SIZE * (k + 1)));
+        }
+
+        // move the parameters that are used to their locations, the object pointer first
+        var parameters = f.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            store(generator.getArgumentRegister(i), parameters.get(i));
+        }
+
+        var blocks = f.getBlocks();
+        for (int k = 0; k < blocks.size(); k++) {
+            var b = blocks.get(k);
+            next = k + 1 < blocks.size() ? blocks.get(k + 1) : null;
+            if (aligned.contains(b)) {
+                generator.genAlign(Generator.LOOP_ALIGNMENT);
+            }
+            if (k > 0) {
+                generator.genLabel(label(b));
+            }
+            b.getInstructions().forEach(i -> i.accept(this));
+        }
+
+        generator.genLabel(returnLabel);
+        for (int k = 0; k < saved.size(); k++) {
+            generator.genBinary(MOV, Memory.of(RBP, -Generator.WORD_SIZE * (k + 1)), saved.get(k));
+        }
+        generator.genEpilogue();
+
+        exceptions.forEach((handler, stub) -> {
+            generator.genLabel(stub);
+            generator.genBinary(AND, Immediate.of(-16), RSP);
+            generator.genBinary(SUB, Immediate.of(Generator.WORD_SIZE), RSP);  // as if just called
+            generator.genUnary(JMP, Label.of(handler));
+        });
+    }
+
+    @Override
+    public void visit(Copy i) {
+        var destination = destination(i.getResult());
+        var source = operand(i.getValue());
+        if (destination == null || source.equals(destination)) {
+            return;
+        }
+        if (source instanceof Memory && destination instanceof Memory) {
+            generator.genBinary(MOV, source, RAX);
+            source = RAX;
+        }
+        generator.genBinary(MOV, source, destination);
+    }
+
+    @Override
+    public void visit(Binary i) {
+        var target = register(i.getResult());
+        var right = operand(i.getRight());
+        boolean direct = switch (i.getOperator()) {
+            case ADD, SUB, MUL, AND, OR, XOR -> true;
+            default -> false;
+        };
+        if (direct && target != null && !right.equals(target)) {
+            // compute in the register of the result, which no other operand is read from
+            load(i.getLeft(), target);
+            generator.genBinary(arithmetic(i.getOperator()), right, target);
+            return;
+        }
+
+        load(i.getLeft(), RAX);
+        switch (i.getOperator()) {
+            case ADD, SUB, MUL, AND, OR, XOR -> generator.genBinary(arithmetic(i.getOperator()), right, RAX);
+            case DIV, MOD -> {
+                load(i.getRight(), RCX);
+                generator.gen(CQTO);  // sign extend rax to rdx:rax
+                generator.genUnary(IDIV, RCX);  // divide rdx:rax by rcx, quotient in rax, remainder in rdx
+                if (i.getOperator() == Binary.Operator.MOD) {
+                    generator.genBinary(MOV, RDX, RAX);
+                }
+            }
+            case SHL, SHR, SAR -> {
+                load(i.getRight(), RCX);  // shift amount in cl
+                var op = i.getOperator() == Binary.Operator.SHL ? SHL : i.getOperator() == Binary.Operator.SHR ? SHR : SAR;
+                generator.genBinary(op, CL, RAX);
+            }
+        }
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(Unary i) {
+        load(i.getValue(), RAX);
+        generator.genUnary(i.getOperator() == Unary.Operator.NEG ? NEG : NOT, RAX);
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(Compare i) {
+        var trueLabel = generator.nextLabel("true");
+        compare(i.getLeft(), i.getRight());
+        generator.genBinary(MOV, Immediate.of(1), RDX);  // does not affect the flags
+        generator.genUnary(jump(i.getCondition()), trueLabel);
+        generator.genBinary(MOV, Immediate.of(0), RDX);
+        generator.genLabel(trueLabel);
+        store(RDX, i.getResult());
+    }
+
+    @Override
+    public void visit(LoadField i) {
+        var object = inRegister(i.getObject(), RAX);
+        generator.genBinary(MOV, Memory.of(object, i.getField().getInstanceVariableOffset()), RAX);
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(StoreField i) {
+        var object = inRegister(i.getObject(), RDX);
+        var value = inRegister(i.getValue(), RAX);
+        generator.genBinary(MOV, value, Memory.of(object, i.getField().getInstanceVariableOffset()));
+    }
+
+    @Override
+    public void visit(ArrayLength i) {
+        var array = inRegister(i.getArray(), RAX);
+        generator.genBinary(MOV, Memory.of(array, 0), RAX);  // length is stored first
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(LoadElement i) {
+        var array = inRegister(i.getArray(), RCX);
+        var index = inRegister(i.getIndex(), RDI);
+        generator.genBinary(MOV, MemoryScaledIndex.of(array, index, Generator.WORD_SIZE, Generator.WORD_SIZE), RAX);
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(StoreElement i) {
+        var array = inRegister(i.getArray(), RCX);
+        var index = inRegister(i.getIndex(), RDI);
+        var value = inRegister(i.getValue(), RAX);
+        generator.genBinary(MOV, value, MemoryScaledIndex.of(array, index, Generator.WORD_SIZE, Generator.WORD_SIZE));
+    }
+
+    @Override
+    public void visit(Call i) {
+        for (int k = 0; k < i.operandCount(); k++) {
+            load(i.getOperand(k), generator.getArgumentRegister(k));
+        }
+
+        var callee = i.getCallee();
+        if (callee instanceof Call.Method m) {
+            generator.genBinary(MOV, Memory.of(RDI, 0), RAX);  // load vtable addr
+            generator.genCall(Memory.of(RAX, m.method().getOffset()));  // call method from vtable
+        } else if (callee instanceof Call.Constructor c) {
+            generator.genCall(c.signature(), c.postOnly());
+        } else {
+            generator.genCall(((Call.Runtime) callee).function());
+        }
+
+        if (i.getResult() != null) {
+            store(RAX, i.getResult());
+        }
+    }
+
+    @Override
+    public void visit(NewObject i) {
+        var class_ = i.getClass_();
+        generator.genBinary(MOV, Immediate.of(class_.size()), RDI);  // load obj size into first arg
+        generator.genCall(CFunction.MALLOC);  // allocate space on heap
+        generator.genBinary(LEA, Memory.of(RIP, "_" + class_.name + "$$"), RDX);  // lea of vtable
+        generator.genBinary(MOV, RDX, Memory.of(RAX, 0));  // store vtable at start of obj
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(NewArray i) {
+        load(i.getOperand(0), RDI);
+        generator.genCall(SyntheticFunction.ALLOCATE_ARRAY);
+        if (i.getDimensionCount() > 1) {
+            // nested arrays are allocated with the outer array in rax, and its length in rdi
+            generator.clearArgumentRegisters();
+            for (int k = 1; k < i.getDimensionCount(); k++) {
+                load(i.getOperand(k), generator.getArgumentRegister(k));
+            }
+            load(i.getOperand(0), RDI);
+            generator.genCall(SyntheticFunction.ALLOCATE_NESTED_ARRAY);
+        }
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(NewString i) {
+        var s = i.getString();
+        // load str length + 1 into rdi, including len(str)
+        generator.genBinary(MOV, Immediate.of((s.length() + 1) * Generator.WORD_SIZE), RDI);
+        generator.genCall(CFunction.MALLOC);
+        // put len(str) at the start
+        generator.genBinary(MOV, Immediate.of(s.length()), Memory.of(RAX, 0));
+        for (int k = 0; k < s.length(); k++) {
+            generator.genBinary(MOV, Immediate.of(s.charAt(k)), Memory.of(RAX, (k + 1) * Generator.WORD_SIZE));
+        }
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(Check i) {
+        var line = Immediate.of(i.getLineNumber());
+        switch (i.getKind()) {
+            case NULL -> {
+                generator.genBinary(CMP, Immediate.of(0), inRegister(i.getOperand(0), RAX));
+                generator.genBinary(MOV, line, RDI);
+                generator.genUnary(JE, exception("exception_null_pointer"));
+            }
+            case BOUNDS -> {
+                var array = inRegister(i.getOperand(0), RCX);
+                load(i.getOperand(1), RDI);
+                generator.genBinary(MOV, Memory.of(array, 0), RSI);  // load sizeof(arr) into rsi
+                generator.genBinary(MOV, line, RDX);
+                generator.genBinary(CMP, Immediate.of(0), RDI);
+                generator.genUnary(JL, exception("exception_array"));
+                generator.genBinary(CMP, RSI, RDI);
+                generator.genUnary(JGE, exception("exception_array"));
+            }
+            case DIVISOR -> {
+                load(i.getOperand(0), RCX);
+                generator.genBinary(MOV, line, RDI);
+                generator.genBinary(CMP, Immediate.of(0), RCX);
+                generator.genUnary(JE, exception("exception_division"));
+            }
+            case ARRAY_SIZE -> {
+                load(i.getOperand(0), RDI);
+                generator.genBinary(MOV, line, RSI);
+                generator.genBinary(CMP, Immediate.of(0), RDI);
+                generator.genUnary(JL, exception("exception_array_size"));
+            }
+        }
+    }
+
+    @Override
+    public void visit(InstanceOf i) {
+        var instanceOfLabel = generator.nextLabel("top");
+        var endInstanceOfLabel = generator.nextLabel("end_instance_of");
+
+        generator.genBinary(LEA, Memory.of(RIP, "_" + i.getClass_().name + "$$"), RDX);  // lea of vtable into rdx
+        load(i.getValue(), RAX);
+        generator.genBinary(CMP, Immediate.of(0), RAX); // initial null ptr check
+        generator.genUnary(JE, endInstanceOfLabel);  // if null, jump to end (rax = 0)
+        generator.genLabel(instanceOfLabel);
+        generator.genBinary(MOV, Memory.of(RAX, 0), RAX);  // load vtable ptr of obj
+        generator.genBinary(CMP, Immediate.of(0), RAX);  // check if vtable ptr is null
+        generator.genUnary(JE, endInstanceOfLabel);  // if null, jump to end (rax = 0)
+        generator.genBinary(CMP, RAX, RDX);  // compare vtable ptrs
+        generator.genUnary(JNE, instanceOfLabel);  // if not equal, loop
+        generator.genBinary(MOV, Immediate.of(1), RAX);  // vtable ptrs are equal
+        generator.genLabel(endInstanceOfLabel);
+        store(RAX, i.getResult());
+    }
+
+    @Override
+    public void visit(Print i) {
+        switch (i.getKind()) {
+            case INT -> {
+                load(i.getValue(), RDI);
+                generator.genCall(CFunction.PRINT);
+                return;
+            }
+            case BOOLEAN -> {
+                load(i.getValue(), RDI);
+                generator.genCall(CFunction.PRINTB);
+                return;
+            }
+        }
+
+        // print null iff 0, string if non-null string, otherwise memory address
+        var printNullLabel = generator.nextLabel("print_null");
+        var printDone = generator.nextLabel("print_done");
+        load(i.getValue(), RAX);
+        generator.genBinary(CMP, Immediate.of(0), RAX);
+        generator.genUnary(JE, printNullLabel);
+        if (i.getKind() == Print.Kind.STRING) {
+            var printLabel = generator.nextLabel("print");
+            var printTest = generator.nextLabel("print_test");
+            generator.genBinary(MOV, Immediate.of(1), RDX);  // string index in rdx
+            generator.genBinary(MOV, Memory.of(RAX, 0), RCX);  // load len(str) in rcx
+            generator.genUnary(JMP, printTest);
+            generator.genLabel(printLabel);
+            generator.genBinary(MOV, MemoryScaledIndex.of(RAX, RDX, Generator.WORD_SIZE, 0), RDI);  // deref str[i] into rdi
+            generator.genPush(RAX);  // save str
+            generator.genPush(RDX);  // save i
+            generator.genPush(RCX);  // save len(str)
+            generator.genCall(CFunction.PRINTC);  // call printc with str[i] in rdi
+            generator.genPop(RCX);  // restore len(str)
+            generator.genPop(RDX);  // restore i
+            generator.genPop(RAX);  // restore str
+            generator.genBinary(ADD, Immediate.of(1), RDX);  // i++
+            generator.genLabel(printTest);
+            generator.genBinary(CMP, RCX, RDX);
+            generator.genUnary(JLE, printLabel);
+            generator.genBinary(MOV, Immediate.of('\n'), RDI);
+            generator.genCall(CFunction.PRINTC);  // print newline
+        } else {  // print as mem addr
+            generator.genPush(RAX);
+            generator.genBinary(MOV, Immediate.of('@'), RDI); // memory addr symbol
+            generator.genCall(CFunction.PRINTC);
+            generator.genPop(RDI);
+            generator.genCall(CFunction.PRINT); // print addr as int
+        }
+        generator.genUnary(JMP, printDone);
+        generator.genLabel(printNullLabel);
+        generator.genCall(CFunction.PRINTN);
+        generator.genLabel(printDone);
+    }
+
+    @Override
+    public void visit(Jump i) {
+        if (i.getTarget() != next) {
+            generator.genUnary(JMP, label(i.getTarget()));
+        }
+    }
+
+    @Override
+    public void visit(Branch i) {
+        compare(i.getLeft(), i.getRight());
+        if (i.getIfTrue() == next) {
+            generator.genUnary(jump(i.getCondition().negate()), label(i.getIfFalse()));
+        } else {
+            generator.genUnary(jump(i.getCondition()), label(i.getIfTrue()));
+            if (i.getIfFalse() != next) {
+                generator.genUnary(JMP, label(i.getIfFalse()));
+            }
+        }
+    }
+
+    @Override
+    public void visit(Return i) {
+        if (function.getKind() == Function.Kind.PRE_CONSTRUCTOR) {
+            // leave the object pointer and the arguments in the argument registers
+            for (int k = 0; k < i.operandCount(); k++) {
+                load(i.getOperand(k), generator.getArgumentRegister(k));
+            }
+        } else if (i.operandCount() > 0) {
+            load(i.getOperand(0), RAX);
+        }
+
+        if (next != null) {
+            generator.genUnary(JMP, returnLabel);
+        }
+    }
+
+    @Override
+    public void visit(Phi i) {
+        throw new IllegalStateException("phis must be replaced by copies before translation: " + i);
+    }
+
+    /**
+     * @return The machine register holding the specified register, or <code>null</code> if it
+     *         is not in one.
+     */
+    private Register register(VirtualRegister r) {
+        return allocator != null ? allocator.getRegister(r) : null;
+    }
+
+    /**
+     * @return The location that the specified register is written to, or <code>null</code>
+     *         if its value is never read from one, because it is never live or rematerialized.
+     */
+    private IDestination destination(VirtualRegister r) {
+        var register = register(r);
+        if (register != null) {
+            return register;
+        }
+        int slot = allocator != null ? allocator.getSlot(r) : r.getNumber();
+        return slot >= 0 ? Memory.of(RBP, -Generator.WORD_SIZE * (saved.size() + slot + 1)) : null;
+    }
+
+    /**
+     * @return The specified value as a source operand: an immediate, a register or a stack slot.
+     */
+    private ISource operand(Value v) {
+        if (v instanceof Constant c) {
+            return Immediate.of(c.value());
+        }
+        var r = (VirtualRegister) v;
+        var constant = allocator != null ? allocator.getConstant(r) : null;
+        if (constant != null) {
+            return Immediate.of(constant.value());
+        }
+        var destination = destination(r);
+        if (destination == null) {
+            throw new IllegalStateException(r + " is read but has no location");
+        }
+        return (ISource) destination;
+    }
+
+    /**
+     * @return The register holding the specified value, after loading it into the specified
+     *         scratch register unless it is already in a register.
+     */
+    private Register inRegister(Value v, Register scratch) {
+        var source = operand(v);
+        if (source instanceof Register r) {
+            return r;
+        }
+        generator.genBinary(MOV, source, scratch);
+        return scratch;
+    }
+
+    private void load(Value v, Register r) {
+        var source = operand(v);
+        if (source != r) {
+            generator.genBinary(MOV, source, r);
+        }
+    }
+
+    private void store(Register r, VirtualRegister v) {
+        var destination = destination(v);
+        if (destination != null && destination != r) {
+            generator.genBinary(MOV, r, destination);
+        }
+    }
+
+    /**
+     * Compares the specified values, as <code>cmp right, left</code>, loading the left one
+     * into <code>rax</code> unless it is already in a register.
+     */
+    private void compare(Value left, Value right) {
+        generator.genBinary(CMP, operand(right), inRegister(left, RAX));
+    }
+
+    private Label exception(String handler) {
+        return exceptions.computeIfAbsent(handler, k -> generator.nextLabel("throw"));
+    }
+
+    private Label label(BasicBlock b) {
+        return labels.computeIfAbsent(b, k -> generator.nextLabel("block"));
+    }
+
+    /**
+     * @return The two-operand instruction computing the specified operator in place.
+     */
+    private static Operation arithmetic(Binary.Operator operator) {
+        return switch (operator) {
+            case ADD -> ADD;
+            case SUB -> SUB;
+            case MUL -> IMUL;
+            case AND -> AND;
+            case OR -> OR;
+            case XOR -> XOR;
+            default -> throw new IllegalArgumentException("not computed in place: " + operator);
+        };
+    }
+
+    /**
+     * @return The conditional jump taken if the specified condition holds after
+     *         <code>cmp right, left</code>.
+     */
+    private static Operation jump(Condition condition) {
+        return switch (condition) {
+            case EQ -> JE;
+            case NE -> JNE;
+            case LT -> JL;
+            case LE -> JLE;
+            case GT -> JG;
+            case GE -> JGE;
+        };
+    }
+}
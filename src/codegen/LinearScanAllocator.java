@@ -0,0 +1,306 @@
+package codegen;
+
+import codegen.platform.Register;
+import ir.BasicBlock;
+import ir.Constant;
+import ir.Copy;
+import ir.Function;
+import ir.Instruction;
+import ir.LoopNestForest;
+import ir.VirtualRegister;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static codegen.platform.Register.*;
+
+/**
+ * Allocates the virtual registers of a {@link Function} to machine registers by linear scan
+ * over their live intervals. The instructions are numbered in layout order, each with one
+ * position where it reads its operands and a later one where it writes its result, and the
+ * parameters are defined before the first instruction. The live interval of a register runs
+ * from the first to the last position where it is live, so it may cover holes where it is
+ * not, and an interval ending with the last use of a register may share its register with
+ * the interval starting with the result of the same instruction.
+ * <p>
+ * Intervals are visited by increasing start. When no register is free, the interval with
+ * the lowest spill weight among the current one and those holding a register is spilled for
+ * its whole lifetime. The weight is the number of definitions and uses, each counting
+ * {@value #LOOP_WEIGHT} times as much per loop containing it, over the length of the
+ * interval. A register whose every definition
+ * copies the same constant is rematerialized instead: it weighs nothing, and once spilled
+ * its uses read the constant, so it needs no stack slot and its definitions are dropped.
+ * Other spilled registers get a stack slot of their own.
+ * </p>
+ * <p>
+ * Only callee-saved registers are allocated, so that values survive calls without being
+ * saved around them, and the translation of every instruction remains free to use the
+ * caller-saved registers as scratch registers. The function must save the registers it
+ * uses, see {@link #getUsedRegisters()}.
+ * </p>
+ */
+public final class LinearScanAllocator {
+    public static final List<Register> REGISTERS = List.of(RBX, R12, R13, R14, R15);
+    private static final int LOOP_WEIGHT = 10;  // iterations assumed per loop
+    private static final int MAX_LOOP_DEPTH = 6;  // deeper loops weigh as much
+
+    private static final class Interval {
+        private final int number;  // of the virtual register
+        private int start = Integer.MAX_VALUE;
+        private int end = -1;
+        private double cost;  // weighted number of definitions and uses
+        private Constant constant;  // the constant copied by every definition, if any
+        private boolean rematerializable = true;
+        private Register assigned;
+
+        private Interval(int number) {
+            this.number = number;
+        }
+
+        private void cover(int position) {
+            start = Math.min(start, position);
+            end = Math.max(end, position);
+        }
+
+        private void define(Instruction i) {
+            if (i instanceof Copy copy && copy.getValue() instanceof Constant c
+                    && (constant == null || constant.equals(c))) {
+                constant = c;
+            } else {
+                rematerializable = false;
+            }
+        }
+
+        private double weight() {
+            return rematerializable ? 0 : cost / (end - start + 1);
+        }
+    }
+
+    private final Function function;
+    private final LoopNestForest loops;
+    private final Register[] registers;  // by register number, null if not in a register
+    private final Constant[] constants;  // by register number, null if not rematerialized
+    private final int[] slots;  // by register number, -1 if not in a stack slot
+    @Getter
+    private int slotCount;
+
+    /**
+     * Allocates the registers of the specified function, whose blocks must already be laid
+     * out for code generation.
+     * @param loops The loops of the function.
+     */
+    public LinearScanAllocator(Function function, LoopNestForest loops) {
+        this.function = function;
+        this.loops = loops;
+        this.registers = new Register[function.getRegisterCount()];
+        this.constants = new Constant[function.getRegisterCount()];
+        this.slots = new int[function.getRegisterCount()];
+        Arrays.fill(slots, -1);
+        allocate(buildIntervals());
+    }
+
+    /**
+     * @return The machine register holding the specified register, or <code>null</code> if it
+     *         is spilled or never live.
+     */
+    public Register getRegister(VirtualRegister r) {
+        return registers[r.getNumber()];
+    }
+
+    /**
+     * @return The constant that the uses of the specified register read instead, or
+     *         <code>null</code> if it is not rematerialized.
+     */
+    public Constant getConstant(VirtualRegister r) {
+        return constants[r.getNumber()];
+    }
+
+    /**
+     * @return The index of the stack slot holding the specified register, from 0 to
+     *         {@link #getSlotCount()} - 1, or -1 if it is in no stack slot.
+     */
+    public int getSlot(VirtualRegister r) {
+        return slots[r.getNumber()];
+    }
+
+    /**
+     * @return The callee-saved registers that were allocated, which the function must save.
+     */
+    public List<Register> getUsedRegisters() {
+        List<Register> used = new ArrayList<>();
+        for (var r : registers) {
+            if (r != null && !used.contains(r)) {
+                used.add(r);
+            }
+        }
+        used.sort(Comparator.comparingInt(REGISTERS::indexOf));
+        return used;
+    }
+
+    private List<Interval> buildIntervals() {
+        var blocks = function.getBlocks();
+        var liveOut = new BitSet[blocks.size()];
+        var liveIn = new BitSet[blocks.size()];
+        solveLiveness(blocks, liveIn, liveOut);
+        var intervals = new Interval[function.getRegisterCount()];
+        for (int n = 0; n < intervals.length; n++) {
+            intervals[n] = new Interval(n);
+        }
+
+        int position = 2;  // operands are read at even positions, the parameters are defined at 0
+        for (int k = 0; k < blocks.size(); k++) {
+            var b = blocks.get(k);
+            double weight = Math.pow(LOOP_WEIGHT, Math.min(loops.getDepth(b), MAX_LOOP_DEPTH));
+            int first = position;
+            for (var i : b.getInstructions()) {
+                for (int n = 0; n < i.operandCount(); n++) {
+                    if (i.getOperand(n) instanceof VirtualRegister r) {
+                        var interval = intervals[r.getNumber()];
+                        interval.cover(position);
+                        interval.cost += weight;
+                    }
+                }
+                var result = i.getResult();
+                if (result != null) {
+                    var interval = intervals[result.getNumber()];
+                    interval.cover(position + 1);
+                    interval.cost += weight;
+                    interval.define(i);
+                }
+                position += 2;
+            }
+            int last = position - 1;
+            liveIn[k].stream().forEach(n -> intervals[n].cover(first));
+            liveOut[k].stream().forEach(n -> intervals[n].cover(last));
+        }
+
+        // parameters that are read are defined on entry, unused ones need no location
+        for (var p : function.getParameters()) {
+            var interval = intervals[p.getNumber()];
+            if (interval.end >= 0) {
+                interval.cover(0);
+                interval.cost += 1;
+                interval.rematerializable = false;
+            }
+        }
+
+        // registers that are never live need no location
+        List<Interval> sorted = new ArrayList<>();
+        for (var interval : intervals) {
+            if (interval.end >= 0) {
+                interval.rematerializable &= interval.constant != null;
+                sorted.add(interval);
+            }
+        }
+        sorted.sort(Comparator.<Interval>comparingInt(i -> i.start).thenComparingInt(i -> i.number));
+        return sorted;
+    }
+
+    private void allocate(List<Interval> intervals) {
+        var free = new ArrayDeque<Register>();
+        for (int k = REGISTERS.size() - 1; k >= 0; k--) {
+            free.push(REGISTERS.get(k));
+        }
+
+        List<Interval> active = new ArrayList<>();  // holding a register, by increasing end
+        for (var current : intervals) {
+            while (!active.isEmpty() && active.get(0).end < current.start) {
+                free.push(active.remove(0).assigned);  // reuse the same registers first
+            }
+
+            if (!free.isEmpty()) {
+                current.assigned = free.pop();
+            } else {
+                var victim = current;
+                for (var a : active) {
+                    if (a.weight() < victim.weight()) {
+                        victim = a;
+                    }
+                }
+                if (victim == current) {
+                    spill(current);
+                    continue;
+                }
+                active.remove(victim);
+                current.assigned = victim.assigned;
+                victim.assigned = null;
+                spill(victim);
+            }
+
+            int k = 0;
+            while (k < active.size() && active.get(k).end <= current.end) {
+                k++;
+            }
+            active.add(k, current);
+        }
+
+        for (var i : intervals) {
+            if (i.assigned != null) {
+                registers[i.number] = i.assigned;
+            }
+        }
+    }
+
+    private void spill(Interval interval) {
+        if (interval.rematerializable) {
+            constants[interval.number] = interval.constant;
+        } else {
+            slots[interval.number] = slotCount++;
+        }
+    }
+
+    /**
+     * Computes the registers live at the start and at the end of every block, by layout
+     * index, iterating backwards over the blocks until nothing changes.
+     */
+    private static void solveLiveness(List<BasicBlock> blocks, BitSet[] liveIn, BitSet[] liveOut) {
+        Map<BasicBlock, Integer> indices = new HashMap<>();
+        for (int k = 0; k < blocks.size(); k++) {
+            indices.put(blocks.get(k), k);
+        }
+
+        // registers read before being written in the block, and registers written in it
+        var used = new BitSet[blocks.size()];
+        var defined = new BitSet[blocks.size()];
+        for (int k = 0; k < blocks.size(); k++) {
+            used[k] = new BitSet();
+            defined[k] = new BitSet();
+            for (var i : blocks.get(k).getInstructions()) {
+                for (int n = 0; n < i.operandCount(); n++) {
+                    if (i.getOperand(n) instanceof VirtualRegister r && !defined[k].get(r.getNumber())) {
+                        used[k].set(r.getNumber());
+                    }
+                }
+                if (i.getResult() != null) {
+                    defined[k].set(i.getResult().getNumber());
+                }
+            }
+            liveIn[k] = (BitSet) used[k].clone();
+            liveOut[k] = new BitSet();
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int k = blocks.size() - 1; k >= 0; k--) {
+                for (var s : blocks.get(k).getSuccessors()) {
+                    liveOut[k].or(liveIn[indices.get(s)]);
+                }
+                var in = (BitSet) liveOut[k].clone();
+                in.andNot(defined[k]);
+                in.or(used[k]);
+                if (!in.equals(liveIn[k])) {
+                    liveIn[k] = in;
+                    changed = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package codegen;
+
+import codegen.platform.Register;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static codegen.platform.Operation.MOV;
+
+/**
+ * A set of moves between registers that happen as if all at once, so that a register may be
+ * both the source of one move and the destination of another. A move is emitted once no pending
+ * move reads its destination any more, and a cycle of moves is broken by moving one of them
+ * through a temporary register.
+ */
+public final class ParallelMove {
+    private final Map<Register, Register> moves = new LinkedHashMap<>();  // destination to source
+
+    /**
+     * Adds a move, unless the source is the destination.
+     * @throws IllegalArgumentException if the destination already has a source.
+     */
+    public void add(Register source, Register destination) {
+        if (moves.containsKey(destination)) {
+            throw new IllegalArgumentException("Two moves into " + destination);
+        }
+        if (source != destination) {
+            moves.put(destination, source);
+        }
+    }
+
+    /**
+     * Emits the moves.
+     * @param temporary A register that is neither a destination nor the source of a move in a
+     *                  cycle, to break cycles through.
+     */
+    public void emit(Generator generator, Register temporary) {
+        while (!moves.isEmpty()) {
+            Register ready = null;
+            for (var destination : moves.keySet()) {
+                if (!moves.containsValue(destination)) {
+                    ready = destination;
+                    break;
+                }
+            }
+
+            if (ready != null) {
+                generator.genBinary(MOV, moves.remove(ready), ready);
+                continue;
+            }
+
+            // every remaining destination is read by another move, so they form cycles
+            var destination = moves.keySet().iterator().next();
+            var source = moves.get(destination);
+            if (moves.containsKey(temporary) || moves.containsValue(temporary)) {
+                throw new IllegalStateException("Temporary " + temporary + " is in use");
+            }
+            generator.genBinary(MOV, source, temporary);
+            moves.replaceAll((d, s) -> s == source ? temporary : s);
+        }
+    }
+}
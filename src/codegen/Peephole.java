@@ -0,0 +1,477 @@
+package codegen;
+
+import codegen.AsmLine.*;
+import codegen.platform.*;
+import commons.Counts;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static codegen.Rewrite.*;
+import static codegen.platform.Operation.*;
+import static codegen.platform.Register.*;
+
+/**
+ * <p>
+ *     Rewrites locally redundant sequences of the instructions of a function before they are
+ *     printed. Each {@link Rewrite rewrite} is a pattern over a window of a few lines, which
+ *     slides over the function. After a rewrite, the window slides back far enough to match
+ *     the replacement together with the lines before it; passes repeat until no pattern
+ *     matches anywhere.
+ * </p>
+ *
+ * <p>
+ *     Some patterns only apply if a register is not read again. A register is dead if a
+ *     later instruction of the same basic block writes it before any reads it, or if a
+ *     standard call clobbers it; it is assumed live at labels, jumps and returns. The flags
+ *     are dead at labels, jumps, calls and returns, since the code generator always compares
+ *     right before it branches.
+ * </p>
+ */
+public final class Peephole {
+    private static final int MAX_WIDTH = 3;
+    private static final Register[] CALLER_SAVED = new Register[] { RAX, RCX, RDX, RSI, RDI, R8, R9, R10, R11 };
+
+    /**
+     * Matches a window of lines starting at an index of a function.
+     */
+    @FunctionalInterface
+    private interface Rule {
+        /**
+         * @return The lines to replace the window with, no more than it holds, or
+         *         <code>null</code> if it does not match.
+         */
+        List<AsmLine> apply(Lines code, int i);
+    }
+
+    /**
+     * A rule which only matches windows starting with one of the specified operations.
+     */
+    private record Pattern(Rewrite rewrite, int width, Set<Operation> first, Rule rule) {}
+
+    private static final List<Pattern> PATTERNS = List.of(
+            new Pattern(PUSH_POP, 2, EnumSet.of(PUSH), Peephole::pushPop),
+            new Pattern(SELF_MOVE, 1, EnumSet.of(MOV), Peephole::selfMove),
+            new Pattern(STORE_RELOAD, 2, EnumSet.of(MOV), Peephole::storeReload),
+            new Pattern(MOVE_CHAIN, 2, EnumSet.of(MOV, LEA), Peephole::moveChain),
+            new Pattern(DEAD_MOVE, 1, EnumSet.of(MOV, LEA), Peephole::deadMove),
+            new Pattern(CONSTANT_BRANCH, 3, EnumSet.of(MOV), Peephole::constantBranch),
+            new Pattern(BRANCH_OVER_JUMP, 3, EnumSet.range(JE, JAE), Peephole::branchOverJump),
+            new Pattern(JUMP_TO_NEXT, 1, EnumSet.range(JMP, JAE), Peephole::jumpToNext),
+            new Pattern(UNREACHABLE, 2, EnumSet.of(JMP, RET), Peephole::unreachable));
+
+    /**
+     * The patterns to try on a window, by the operation of its first line, in table order.
+     */
+    private static final Map<Operation, List<Pattern>> INDEX = new EnumMap<>(Operation.class);
+
+    static {
+        for (var op : Operation.values()) {
+            INDEX.put(op, PATTERNS.stream().filter(p -> p.first.contains(op)).toList());
+        }
+    }
+
+    private final Counts<Rewrite> counts;
+
+    /**
+     * @param counts The counts to add each applied rewrite to.
+     */
+    public Peephole(Counts<Rewrite> counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Rewrites the specified lines of a function in place, until no pattern matches.
+     */
+    public void optimize(List<AsmLine> code) {
+        var lines = new Lines(code);
+        boolean changed;
+        do {
+            changed = false;
+            lines.retreat(lines.position());
+            while (!lines.atEnd()) {
+                if (rewrite(lines)) {
+                    lines.retreat(MAX_WIDTH - 1);
+                    changed = true;
+                } else {
+                    lines.advance();
+                }
+            }
+        } while (changed);
+        lines.copyTo(code);
+    }
+
+    /**
+     * Applies the first pattern which matches the window at the current position, if any.
+     * @return Whether a pattern matched.
+     */
+    private boolean rewrite(Lines lines) {
+        int i = lines.position();
+        Operation op;
+        if (lines.get(i) instanceof Op line) {
+            op = line.op();
+        } else if (lines.get(i) instanceof Jump line) {
+            op = line.op();
+        } else {
+            return false;
+        }
+        for (var pattern : INDEX.get(op)) {
+            if (i + pattern.width > lines.size()) {
+                continue;
+            }
+            var replacement = pattern.rule.apply(lines, i);
+            if (replacement != null) {
+                lines.replace(pattern.width, replacement);
+                counts.count(pattern.rewrite);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The lines of a function in a gap buffer: the lines before the current position are at
+     * the front of the array and the rest at its back, so that replacing the window at the
+     * current position, or sliding it, only moves the lines involved.
+     */
+    private static final class Lines {
+        private final AsmLine[] lines;
+        private int front;  // the number of lines before the current position
+        private int back;   // the index of the line at the current position
+
+        Lines(List<AsmLine> code) {
+            this.lines = code.toArray(new AsmLine[0]);
+        }
+
+        AsmLine get(int i) {
+            return i < front ? lines[i] : lines[back + i - front];
+        }
+
+        int size() {
+            return front + lines.length - back;
+        }
+
+        int position() {
+            return front;
+        }
+
+        boolean atEnd() {
+            return back == lines.length;
+        }
+
+        void advance() {
+            lines[front++] = lines[back++];
+        }
+
+        /**
+         * Moves the current position back by up to the specified number of lines.
+         */
+        void retreat(int count) {
+            for (int i = 0; i < count && front > 0; i++) {
+                lines[--back] = lines[--front];
+            }
+        }
+
+        /**
+         * Replaces the specified number of lines at the current position.
+         */
+        void replace(int width, List<AsmLine> replacement) {
+            back += width - replacement.size();
+            for (int i = 0; i < replacement.size(); i++) {
+                lines[back + i] = replacement.get(i);
+            }
+        }
+
+        void copyTo(List<AsmLine> code) {
+            code.clear();
+            for (int i = 0; i < size(); i++) {
+                code.add(get(i));
+            }
+        }
+    }
+
+    private static List<AsmLine> pushPop(Lines code, int i) {
+        if (code.get(i) instanceof Op push && push.op() == PUSH
+                && code.get(i + 1) instanceof Op pop && pop.op() == POP) {
+            if (mentions(push.src(), RSP) || mentions(pop.dst(), RSP)) {
+                return null;
+            } else if (push.src().equals(pop.dst())) {
+                return List.of();
+            } else if (push.src() instanceof IMemory && pop.dst() instanceof IMemory) {
+                return null;
+            }
+            return List.of(new Op(MOV, push.src(), pop.dst(), comment(push, pop)));
+        }
+        return null;
+    }
+
+    private static List<AsmLine> selfMove(Lines code, int i) {
+        if (code.get(i) instanceof Op mov && mov.op() == MOV
+                && mov.src() instanceof Register && mov.src().equals(mov.dst())) {
+            return List.of();
+        }
+        return null;
+    }
+
+    private static List<AsmLine> storeReload(Lines code, int i) {
+        if (code.get(i) instanceof Op store && store.op() == MOV && store.dst() instanceof IMemory
+                && (store.src() instanceof Register || store.src() instanceof Immediate)
+                && code.get(i + 1) instanceof Op load && load.op() == MOV && store.dst().equals(load.src())) {
+            if (store.src().equals(load.dst())) {
+                return List.of(store);
+            }
+            return List.of(store, new Op(MOV, store.src(), load.dst(), load.comment()));
+        }
+        return null;
+    }
+
+    private static List<AsmLine> moveChain(Lines code, int i) {
+        if (code.get(i) instanceof Op first && (first.op() == MOV || first.op() == LEA)
+                && first.dst() instanceof Register r
+                && code.get(i + 1) instanceof Op second && second.op() == MOV && r.equals(second.src())
+                && !mentions(second.dst(), r)) {
+            if (first.op() == LEA && !(second.dst() instanceof Register)) {
+                return null;  // lea only computes into registers
+            } else if (first.src() instanceof IMemory && second.dst() instanceof IMemory) {
+                return null;  // no move from memory to memory
+            } else if (!isDead(code, i + 2, r)) {
+                return null;
+            }
+            return List.of(new Op(first.op(), first.src(), second.dst(), comment(first, second)));
+        }
+        return null;
+    }
+
+    private static List<AsmLine> deadMove(Lines code, int i) {
+        if (code.get(i) instanceof Op mov && (mov.op() == MOV || mov.op() == LEA)
+                && mov.dst() instanceof Register r && isDead(code, i + 1, r)) {
+            return List.of();
+        }
+        return null;
+    }
+
+    private static List<AsmLine> constantBranch(Lines code, int i) {
+        if (code.get(i) instanceof Op mov && mov.op() == MOV
+                && mov.src() instanceof Immediate value && mov.dst() instanceof Register r
+                && code.get(i + 1) instanceof Op compare
+                && code.get(i + 2) instanceof Jump jump && jump.op() != JMP) {
+            Boolean taken;
+            if (compare.op() == TEST && r.equals(compare.src()) && r.equals(compare.dst())) {
+                taken = taken(jump.op(), value.n(), 0);
+            } else if (compare.op() == CMP && compare.src() instanceof Immediate k && r.equals(compare.dst())) {
+                taken = taken(jump.op(), value.n(), k.n());
+            } else {
+                return null;
+            }
+            if (taken == null) {
+                return null;
+            } else if (taken) {
+                return List.of(mov, new Jump(JMP, jump.target(), jump.comment()));
+            } else if (isFlagsDead(code, i + 3)) {
+                return List.of(mov);
+            }
+        }
+        return null;
+    }
+
+    private static List<AsmLine> branchOverJump(Lines code, int i) {
+        if (code.get(i) instanceof Jump branch && inverse(branch.op()) != null
+                && code.get(i + 1) instanceof Jump jump && jump.op() == JMP
+                && code.get(i + 2) instanceof Define next && next.label().equals(branch.target())) {
+            return List.of(new Jump(inverse(branch.op()), jump.target(), branch.comment()), next);
+        }
+        return null;
+    }
+
+    private static List<AsmLine> jumpToNext(Lines code, int i) {
+        if (code.get(i) instanceof Jump jump) {
+            for (int j = i + 1; j < code.size(); j++) {
+                var line = code.get(j);
+                if (line instanceof Define next && next.label().equals(jump.target())) {
+                    return List.of();
+                } else if (!(line instanceof Define || line instanceof Align)) {
+                    break;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<AsmLine> unreachable(Lines code, int i) {
+        var line = code.get(i);
+        boolean ends = line instanceof Jump jump && jump.op() == JMP || line instanceof Op ret && ret.op() == RET;
+        var next = code.get(i + 1);
+        if (ends && !(next instanceof Define || next instanceof Align)) {
+            return List.of(line);
+        }
+        return null;
+    }
+
+    /**
+     * @return Whether the specified register is written before it is read, from the line at
+     *         the specified index on.
+     */
+    private static boolean isDead(Lines code, int from, Register r) {
+        if (r == RSP || r == RBP || r == RIP) {
+            return false;
+        }
+        for (int j = from; j < code.size(); j++) {
+            var line = code.get(j);
+            if (line instanceof Op op) {
+                if (!isKnown(op.op()) || reads(op, r)) {
+                    return false;
+                } else if (writes(op, r)) {
+                    return true;
+                }
+            } else if (line instanceof Call call && call.standard()) {
+                return isCallerSaved(r) && !isArgument(r);
+            } else if (line instanceof IndirectCall call) {
+                return isCallerSaved(r) && !isArgument(r) && !mentions(call.target(), r);
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the flags are set again before they are read, from the line at the
+     *         specified index on.
+     */
+    private static boolean isFlagsDead(Lines code, int from) {
+        for (int j = from; j < code.size(); j++) {
+            var line = code.get(j);
+            if (line instanceof Op op) {
+                if (op.op() == RET || writesFlags(op)) {
+                    return true;
+                } else if (!isKnown(op.op())) {
+                    return false;
+                }
+            } else if (line instanceof Jump jump) {
+                return jump.op() == JMP;
+            } else if (!(line instanceof Align)) {
+                return true;  // a call or a label
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the effects of the specified operation on registers are known.
+     */
+    private static boolean isKnown(Operation op) {
+        return switch (op) {
+            case MOV, LEA, PUSH, POP, ADD, SUB, IMUL, AND, OR, XOR, SHL, SHR, SAR, NEG, NOT,
+                 CMP, TEST, IDIV, CQTO -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean reads(Op op, Register r) {
+        return switch (op.op()) {
+            case MOV, LEA, POP -> mentions(op.src(), r) || op.dst() instanceof IMemory && mentions(op.dst(), r);
+            case IDIV -> mentions(operand(op), r) || r == RAX || r == RDX;
+            case CQTO -> r == RAX;
+            default -> mentions(op.src(), r) || mentions(op.dst(), r);
+        };
+    }
+
+    private static boolean writes(Op op, Register r) {
+        return switch (op.op()) {
+            case CMP, TEST, PUSH -> false;
+            case IDIV -> r == RAX || r == RDX;
+            case CQTO -> r == RDX;
+            default -> operand(op) instanceof Register d && normalize(d) == r;
+        };
+    }
+
+    private static boolean writesFlags(Op op) {
+        return switch (op.op()) {
+            case ADD, SUB, IMUL, IDIV, AND, OR, XOR, NEG, CMP, TEST -> true;
+            case SHL, SHR, SAR -> op.src() instanceof Immediate count && (count.n() & 63) != 0;
+            default -> false;
+        };
+    }
+
+    /**
+     * @return The destination of the specified instruction, or its only operand.
+     */
+    private static Object operand(Op op) {
+        return op.dst() != null ? op.dst() : op.src();
+    }
+
+    /**
+     * @return Whether the specified operand is, or addresses memory through, the specified register.
+     */
+    private static boolean mentions(Object operand, Register r) {
+        if (operand instanceof Register register) {
+            return normalize(register) == r;
+        } else if (operand instanceof Memory memory) {
+            return normalize(memory.register()) == r;
+        } else if (operand instanceof MemoryScaledIndex memory) {
+            return normalize(memory.base()) == r || normalize(memory.index()) == r;
+        }
+        return false;
+    }
+
+    private static Register normalize(Register r) {
+        return r == CL ? RCX : r;
+    }
+
+    private static boolean isCallerSaved(Register r) {
+        for (var saved : CALLER_SAVED) {
+            if (saved == r) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isArgument(Register r) {
+        for (var argument : Generator.ARGUMENT_REGISTERS) {
+            if (argument == r) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the specified conditional jump is taken after comparing the specified
+     *         values, or <code>null</code> if that is not known.
+     */
+    private static Boolean taken(Operation jump, long a, long b) {
+        return switch (jump) {
+            case JE -> a == b;
+            case JNE -> a != b;
+            case JL -> a < b;
+            case JLE -> a <= b;
+            case JG -> a > b;
+            case JGE -> a >= b;
+            case JAE -> Long.compareUnsigned(a, b) >= 0;
+            default -> null;
+        };
+    }
+
+    /**
+     * @return The conditional jump taken exactly when the specified one is not, or <code>null</code>.
+     */
+    private static Operation inverse(Operation jump) {
+        return switch (jump) {
+            case JE -> JNE;
+            case JNE -> JE;
+            case JL -> JGE;
+            case JGE -> JL;
+            case JLE -> JG;
+            case JG -> JLE;
+            default -> null;
+        };
+    }
+
+    private static String comment(Op first, Op second) {
+        return first.comment().isBlank() ? second.comment() : first.comment();
+    }
+}
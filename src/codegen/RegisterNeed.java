@@ -0,0 +1,127 @@
+package codegen;
+
+import ast.*;
+import semantics.type.TypeInt;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Labels expressions with the number of scratch registers needed to evaluate them without
+ * spilling, in the manner of Sethi and Ullman. The operands of a binary expression are always
+ * evaluated from left to right, as Java requires, and the value of the left one is held in a
+ * scratch register while the right one is evaluated, unless the right one is
+ * {@link #isSimple(Expression) simple}. So a binary expression needs as many registers as its
+ * left operand, or one more than its right operand if that is more.
+ * <p>
+ * The scratch registers are caller-saved, so an expression that calls a function, including
+ * those of the runtime (e.g. to allocate a string or concatenate strings), needs
+ * {@link #UNBOUNDED} registers: no value may be held in a scratch register across it.
+ * </p>
+ */
+public final class RegisterNeed {
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final Map<Expression, Integer> needs = new IdentityHashMap<>();
+
+    /**
+     * @return Whether the specified expression is a literal, <code>this</code> or a variable,
+     *         whose value can be loaded into any register without touching another one.
+     */
+    public static boolean isSimple(Expression e) {
+        return e instanceof IntegerLiteral || e instanceof True || e instanceof False
+                || e instanceof NullLiteral || e instanceof This || e instanceof IdentifierExp;
+    }
+
+    /**
+     * @return Whether the value of the left operand of the specified expression is held while
+     *         the right one is evaluated, or <code>false</code> if it is not a binary expression.
+     */
+    public static boolean holdsLeftOperand(Expression e) {
+        if (e instanceof Plus p) {
+            return p.e1.eval().type.equals(TypeInt.getInstance()) && p.e2.eval().type.equals(TypeInt.getInstance());
+        }
+        return e instanceof BinaryExp && !(e instanceof And || e instanceof Or);
+    }
+
+    /**
+     * @return The number of scratch registers needed to evaluate the specified expression, or
+     *         {@link #UNBOUNDED} if it calls a function.
+     */
+    public int of(Expression e) {
+        if (isSimple(e)) {
+            return 0;
+        }
+        var need = needs.get(e);
+        if (need == null) {
+            need = label(e);
+            needs.put(e, need);
+        }
+        return need;
+    }
+
+    private int label(Expression e) {
+        if (holdsLeftOperand(e)) {
+            var b = (BinaryExp) e;
+            int left = of(b.e1);
+            if (isSimple(b.e2)) {
+                return left;
+            }
+            int right = of(b.e2);
+            return Math.max(left, right == UNBOUNDED ? UNBOUNDED : right + 1);
+        }
+
+        if (e instanceof ArrayLookup a) {
+            // the array is held while each index is evaluated
+            int need = of(a.e1);
+            for (var index : a.el) {
+                if (!isSimple(index)) {
+                    int indexNeed = of(index);
+                    need = Math.max(need, indexNeed == UNBOUNDED ? UNBOUNDED : indexNeed + 1);
+                }
+            }
+            return need;
+        }
+
+        var children = children(e);
+        if (children == null) {
+            return UNBOUNDED;
+        }
+        int need = 0;
+        for (var child : children) {
+            need = Math.max(need, of(child));
+        }
+        return need;
+    }
+
+    /**
+     * @return The operands of the specified expression, evaluated without holding any of them
+     *         in a scratch register, or <code>null</code> if it calls a function, or is not
+     *         known to call none.
+     */
+    private static List<Expression> children(Expression e) {
+        if (e instanceof BinaryExp b && !(e instanceof Plus)) {
+            return List.of(b.e1, b.e2);
+        } else if (e instanceof UnaryMinus u) {
+            return List.of(u.e);
+        } else if (e instanceof UnaryPlus u) {
+            return List.of(u.e);
+        } else if (e instanceof Not u) {
+            return List.of(u.e);
+        } else if (e instanceof BitwiseNot u) {
+            return List.of(u.e);
+        } else if (e instanceof ArrayLength u) {
+            return List.of(u.e);
+        } else if (e instanceof Field u) {
+            return List.of(u.e);
+        } else if (e instanceof InstanceOf u) {
+            return List.of(u.e);
+        } else if (e instanceof Ternary t) {
+            return List.of(t.c, t.e1, t.e2);
+        } else if (e instanceof NoOpExp) {
+            return List.of();
+        }
+        return null;
+    }
+}
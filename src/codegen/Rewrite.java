@@ -0,0 +1,53 @@
+package codegen;
+
+/**
+ * The rewrites that the {@link Peephole peephole optimizer} applies to locally redundant
+ * sequences of generated instructions.
+ */
+public enum Rewrite {
+    /**
+     * A push immediately popped, as a move, e.g. <code>pushq %rax; popq %rdi</code> into
+     * <code>movq %rax,%rdi</code>, or nothing if both are the same register.
+     */
+    PUSH_POP,
+    /**
+     * A move of a register to itself, removed.
+     */
+    SELF_MOVE,
+    /**
+     * A load of a value just stored, from the register stored instead, e.g.
+     * <code>movq %rdi,-8(%rbp); movq -8(%rbp),%rax</code> into
+     * <code>movq %rdi,-8(%rbp); movq %rdi,%rax</code>.
+     */
+    STORE_RELOAD,
+    /**
+     * A move through a register that is not read again, as a single move, e.g.
+     * <code>movq $1,%rax; movq %rax,%rdi</code> into <code>movq $1,%rdi</code>.
+     */
+    MOVE_CHAIN,
+    /**
+     * A move or address computation into a register that is overwritten before it is read,
+     * removed.
+     */
+    DEAD_MOVE,
+    /**
+     * A comparison of a constant just moved into a register, followed by a conditional jump,
+     * as an unconditional jump or nothing, e.g. <code>movq $0,%rax; testq %rax,%rax; je L</code>
+     * into <code>movq $0,%rax; jmp L</code>.
+     */
+    CONSTANT_BRANCH,
+    /**
+     * A conditional jump over an unconditional one, as the inverse conditional jump, e.g.
+     * <code>jl L; jmp M; L:</code> into <code>jge M; L:</code>.
+     */
+    BRANCH_OVER_JUMP,
+    /**
+     * A jump to the label that immediately follows it, removed.
+     */
+    JUMP_TO_NEXT,
+    /**
+     * An instruction after an unconditional jump or return, which no label makes reachable,
+     * removed.
+     */
+    UNREACHABLE
+}
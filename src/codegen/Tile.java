@@ -0,0 +1,60 @@
+package codegen;
+
+/**
+ * The patterns that the instruction selector of the code generator covers expression trees
+ * with, wherever one fits, instead of generating the code of each node on its own. The
+ * selector munches maximally: at each node it takes the largest pattern that matches.
+ */
+public enum Tile {
+    /**
+     * A constant operand, e.g. <code>addq $1,%rax</code> for <code>e + 1</code>.
+     */
+    IMMEDIATE_OPERAND,
+    /**
+     * A local variable operand, read straight from the frame, e.g.
+     * <code>cmpq -16(%rbp),%rax</code> for <code>e &lt; x</code>.
+     */
+    MEMORY_OPERAND,
+    /**
+     * <code>testq %rax,%rax</code> for a comparison of a value against zero.
+     */
+    COMPARE_ZERO,
+    /**
+     * A shift by a constant, e.g. <code>sarq $2,%rax</code> for <code>e &gt;&gt; 2</code>.
+     */
+    SHIFT_IMMEDIATE,
+    /**
+     * A multiplication by a power of two as a shift, e.g. <code>shlq $3,%rax</code> for
+     * <code>e * 8</code>.
+     */
+    MULTIPLY_SHIFT,
+    /**
+     * A multiplication by 3, 5 or 9 as an address computation, e.g.
+     * <code>leaq (%rax,%rax,4),%rax</code> for <code>e * 5</code>.
+     */
+    LEA_MULTIPLY,
+    /**
+     * An addition of a scaled operand and an optional constant as an address computation,
+     * e.g. <code>leaq 3(%rdx,%rax,4),%rax</code> for <code>a + b * 4 + 3</code> or
+     * <code>a + (b &lt;&lt; 2) + 3</code>.
+     */
+    LEA_ADD,
+    /**
+     * An array element addressed by <code>base+index*8+8</code>, skipping the length.
+     */
+    SCALED_INDEX,
+    /**
+     * An array element at a constant index, addressed by a displacement alone.
+     */
+    CONSTANT_INDEX,
+    /**
+     * A constant stored straight into a variable, field or array element, e.g.
+     * <code>movq $0,-16(%rbp)</code> for <code>x = 0</code>.
+     */
+    STORE_IMMEDIATE,
+    /**
+     * An update of a variable in place, e.g. <code>addq $1,-16(%rbp)</code> for
+     * <code>x++</code>, <code>x += 1</code> or <code>x = x + 1</code>.
+     */
+    READ_MODIFY_WRITE
+}
@@ -0,0 +1,115 @@
+package codegen;
+
+import ast.*;
+
+/**
+ * Matches the leaves and subtrees of expressions that the {@link Tile tiles} of the
+ * instruction selector are made of. Matching only inspects the tree, so a failed match costs
+ * nothing but the test.
+ */
+public final class TileMatcher {
+    /**
+     * An operand multiplied by a scale that an address computation can apply for free.
+     */
+    public record Scaled(Expression index, int scale) {}
+
+    private TileMatcher() {}
+
+    /**
+     * @return The value of the specified expression if it is a literal that fits an
+     *         immediate operand, or <code>null</code>.
+     */
+    public static Integer constant(Expression e) {
+        if (e instanceof IntegerLiteral i) {
+            return i.i;
+        } else if (e instanceof True) {
+            return 1;
+        } else if (e instanceof False || e instanceof NullLiteral) {
+            return 0;
+        }
+        return null;
+    }
+
+    /**
+     * @return The operand and scale of the specified expression if it multiplies by 2, 4 or 8,
+     *         or shifts left by 1, 2 or 3, or <code>null</code>.
+     */
+    public static Scaled scaled(Expression e) {
+        if (e instanceof Times t) {
+            var c = constant(t.e2);
+            if (c != null && isScale(c)) {
+                return new Scaled(t.e1, c);
+            }
+            c = constant(t.e1);
+            if (c != null && isScale(c)) {
+                return new Scaled(t.e2, c);
+            }
+        } else if (e instanceof LeftShift s) {
+            var c = constant(s.e2);
+            if (c != null && c >= 1 && c <= 3) {
+                return new Scaled(s.e1, 1 << c);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The base 2 logarithm of the specified value if it is a power of two greater
+     *         than 1, or -1.
+     */
+    public static int log2(int c) {
+        return c > 1 && Integer.bitCount(c) == 1 ? Integer.numberOfTrailingZeros(c) : -1;
+    }
+
+    /**
+     * @return Whether evaluating the specified expression is known to assign to no variable,
+     *         so that a variable read before it still holds the same value after it. Calls
+     *         cannot assign to the local variables of their caller.
+     */
+    public static boolean assignsNothing(Expression e) {
+        if (e instanceof Assign || e instanceof Increment) {
+            return false;
+        } else if (e instanceof BinaryExp b) {
+            return assignsNothing(b.e1) && assignsNothing(b.e2);
+        } else if (e instanceof UnaryMinus u) {
+            return assignsNothing(u.e);
+        } else if (e instanceof UnaryPlus u) {
+            return assignsNothing(u.e);
+        } else if (e instanceof Not u) {
+            return assignsNothing(u.e);
+        } else if (e instanceof BitwiseNot u) {
+            return assignsNothing(u.e);
+        } else if (e instanceof ArrayLength u) {
+            return assignsNothing(u.e);
+        } else if (e instanceof Field u) {
+            return assignsNothing(u.e);
+        } else if (e instanceof InstanceOf u) {
+            return assignsNothing(u.e);
+        } else if (e instanceof Ternary t) {
+            return assignsNothing(t.c) && assignsNothing(t.e1) && assignsNothing(t.e2);
+        } else if (e instanceof ArrayLookup a) {
+            return assignsNothing(a.e1) && assignsNothing(a.el);
+        } else if (e instanceof Call c) {
+            return assignsNothing(c.e) && assignsNothing(c.el);
+        } else if (e instanceof NewObject n) {
+            return assignsNothing(n.el);
+        } else if (e instanceof NewArray n) {
+            return assignsNothing(n.el);
+        }
+        return constant(e) != null || e instanceof StringLiteral || e instanceof This
+                || e instanceof IdentifierExp || e instanceof NoOpExp;
+    }
+
+    private static boolean assignsNothing(ExpressionList el) {
+        for (var e : el) {
+            if (!assignsNothing(e)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isScale(int c) {
+        return c == 2 || c == 4 || c == 8;
+    }
+}
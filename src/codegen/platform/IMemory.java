@@ -0,0 +1,5 @@
+package codegen.platform;
+
+public interface IMemory extends ISource, IDestination {
+    String toString();
+}
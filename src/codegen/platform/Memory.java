@@ -2,7 +2,7 @@ package codegen.platform;
 
 import codegen.platform.isa.ISA;
 
-public record Memory(Register register, String offset) implements ISource, IDestination {
+public record Memory(Register register, String offset) implements IMemory {
     private static ISA isa;
 
     public static void setISA(ISA isa) {
@@ -3,7 +3,7 @@ package codegen.platform;
 import codegen.platform.isa.ISA;
 
 public record MemoryScaledIndex(Register base, Register index, int scale, int offset)
-        implements ISource, IDestination {
+        implements IMemory {
     private static ISA isa;
 
     public static void setISA(ISA isa) {
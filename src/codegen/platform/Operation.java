@@ -19,6 +19,7 @@ public enum Operation {
     JLE,
     JG,
     JGE,
+    JAE,
     SHL,
     SHR,
     SAR,
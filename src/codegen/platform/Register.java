@@ -4,6 +4,7 @@ import codegen.platform.isa.ISA;
 
 public enum Register implements ISource, IDestination {
     RAX,
+    RBX,
     RSP,
     RBP,
     RDI,
@@ -14,6 +15,10 @@ public enum Register implements ISource, IDestination {
     R9,
     R10,
     R11,
+    R12,
+    R13,
+    R14,
+    R15,
     RIP,
     CL;
 
@@ -10,9 +10,13 @@ import static codegen.platform.Operation.*;
 import static codegen.platform.Register.*;
 
 public abstract class ISA {
-    private static final Map<Operation, String> operations = new HashMap<>();
-    private static final Map<Directive, String> directives = new HashMap<>();
-    private static final Map<Register, String> registers = new HashMap<>();
+    private static final Object selection = new Object();
+    private static ISA selected;
+    private static int users;
+
+    private final Map<Operation, String> operations = new HashMap<>();
+    private final Map<Directive, String> directives = new HashMap<>();
+    private final Map<Register, String> registers = new HashMap<>();
 
     public ISA() {
         // operations
@@ -32,6 +36,7 @@ public abstract class ISA {
         operations.put(JLE, jle());
         operations.put(JG, jg());
         operations.put(JGE, jge());
+        operations.put(JAE, jae());
         operations.put(SHL, shl());
         operations.put(SHR, shr());
         operations.put(SAR, sar());
@@ -50,6 +55,7 @@ public abstract class ISA {
 
         // registers
         registers.put(RAX, rax());
+        registers.put(RBX, rbx());
         registers.put(RSP, rsp());
         registers.put(RBP, rbp());
         registers.put(RDI, rdi());
@@ -60,10 +66,50 @@ public abstract class ISA {
         registers.put(R9, r9());
         registers.put(R10, r10());
         registers.put(R11, r11());
+        registers.put(R12, r12());
+        registers.put(R13, r13());
+        registers.put(R14, r14());
+        registers.put(R15, r15());
         registers.put(RIP, rip());
         registers.put(CL, cl());
+    }
+
+    /**
+     * Selects this ISA for the calling compilation, waiting until all compilations
+     * using a different ISA have {@link ISA#release() released} theirs. Compilations
+     * targeting the same ISA may run concurrently.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public void acquire() throws InterruptedException {
+        synchronized (selection) {
+            while (users > 0 && selected != this) {
+                selection.wait();
+            }
+            if (selected != this) {
+                select();
+            }
+            users++;
+        }
+    }
 
-        // reflect ISA changes
+    /**
+     * Releases an ISA previously {@link ISA#acquire() acquired} by the calling compilation.
+     */
+    public void release() {
+        synchronized (selection) {
+            if (--users == 0) {
+                selection.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Selects this ISA as the one that all platform types (operations, registers,
+     * operands, ...) are rendered with. The selection is process-wide, so
+     * concurrent compilations should go through {@link ISA#acquire()} instead.
+     */
+    public void select() {
+        selected = this;
         Operation.setISA(this);
         Directive.setISA(this);
         Register.setISA(this);
@@ -139,6 +185,7 @@ public abstract class ISA {
     abstract String jle();
     abstract String jg();
     abstract String jge();
+    abstract String jae();
     abstract String shl();
     abstract String shr();
     abstract String sar();
@@ -157,6 +204,7 @@ public abstract class ISA {
 
     // registers
     abstract String rax();
+    abstract String rbx();
     abstract String rsp();
     abstract String rbp();
     abstract String rdi();
@@ -167,6 +215,10 @@ public abstract class ISA {
     abstract String r9();
     abstract String r10();
     abstract String r11();
+    abstract String r12();
+    abstract String r13();
+    abstract String r14();
+    abstract String r15();
     abstract String rip();
     abstract String cl();
 }
@@ -1,11 +1,20 @@
 package codegen.platform.isa;
 
 public final class ISAProvider {
-    public static ISA getISA_x86_64() {
-        return new ISA_x86_64();
+    private static ISA x86_64;
+    private static ISA arm64;
+
+    public static synchronized ISA getISA_x86_64() {
+        if (x86_64 == null) {
+            x86_64 = new ISA_x86_64();
+        }
+        return x86_64;
     }
 
-    public static ISA getISA_arm64() {
-        return new ISA_arm64();
+    public static synchronized ISA getISA_arm64() {
+        if (arm64 == null) {
+            arm64 = new ISA_arm64();
+        }
+        return arm64;
     }
 }
@@ -107,6 +107,11 @@ public final class ISA_arm64 extends ISA {
         return "jge";
     }
 
+    @Override
+    String jae() {
+        return "jae";
+    }
+
     @Override
     String shl() {
         return "shlq";
@@ -177,6 +182,11 @@ public final class ISA_arm64 extends ISA {
         return "%rax";
     }
 
+    @Override
+    String rbx() {
+        return "%rbx";
+    }
+
     @Override
     String rsp() {
         return "%rsp";
@@ -227,6 +237,26 @@ public final class ISA_arm64 extends ISA {
         return "%r11";
     }
 
+    @Override
+    String r12() {
+        return "%r12";
+    }
+
+    @Override
+    String r13() {
+        return "%r13";
+    }
+
+    @Override
+    String r14() {
+        return "%r14";
+    }
+
+    @Override
+    String r15() {
+        return "%r15";
+    }
+
     @Override
     String rip() {
         return "%rip";
@@ -1,47 +1,42 @@
 package codegen.synth;
 
+import codegen.Generator;
 import codegen.platform.*;
-import codegen.platform.isa.ISA;
 import codegen.synth.def.*;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 public final class SyntheticFunctionRegistry {
-    private static SyntheticFunctionRegistry instance;
-
     private final Map<SyntheticFunction, SyntheticFunctionDefinition> registry;
-    private final ISA isa;
+    private final Generator generator;
 
-    public static SyntheticFunctionRegistry getInstance(final ISA isa) {
-        if (instance == null) {
-            instance = new SyntheticFunctionRegistry(isa);
-        }
-        return instance;
+    public static SyntheticFunctionRegistry create(final Generator generator) {
+        return new SyntheticFunctionRegistry(generator);
     }
 
-    private SyntheticFunctionRegistry(final ISA isa) {
-        this.registry = new HashMap<>();
-        this.isa = isa;
+    private SyntheticFunctionRegistry(final Generator generator) {
+        this.registry = new EnumMap<>(SyntheticFunction.class);
+        this.generator = generator;
         registerAll();
     }
 
     private void registerAll() {
-        register(new AllocateArray(isa));
-        register(new AllocateNestedArray(isa));
-        register(new ConcatStrings(isa));
-        register(new ConcatStringBool(isa));
-        register(new ConcatBoolString(isa));
-        register(new ConcatStringInt(isa));
-        register(new ConcatIntString(isa));
-        register(new ConcatNullString(isa));
-        register(new ConcatStringNull(isa));
-        register(new LoadStringTrue(isa));
-        register(new LoadStringFalse(isa));
-        register(new LoadStringInt(isa));
-        register(new LoadStringNull(isa));
+        register(new AllocateArray(generator));
+        register(new AllocateNestedArray(generator));
+        register(new ConcatStrings(generator));
+        register(new ConcatStringBool(generator));
+        register(new ConcatBoolString(generator));
+        register(new ConcatStringInt(generator));
+        register(new ConcatIntString(generator));
+        register(new ConcatNullString(generator));
+        register(new ConcatStringNull(generator));
+        register(new LoadStringTrue(generator));
+        register(new LoadStringFalse(generator));
+        register(new LoadStringInt(generator));
+        register(new LoadStringNull(generator));
     }
 
     private void register(final SyntheticFunctionDefinition definition) {
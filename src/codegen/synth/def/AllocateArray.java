@@ -2,7 +2,7 @@ package codegen.synth.def;
 
 import codegen.platform.Immediate;
 import codegen.platform.Memory;
-import codegen.platform.isa.ISA;
+import codegen.Generator;
 import codegen.synth.SyntheticFunction;
 
 import static codegen.platform.CFunction.MALLOC;
@@ -11,8 +11,8 @@ import static codegen.platform.Register.RAX;
 import static codegen.platform.Register.RDI;
 
 public class AllocateArray extends SyntheticFunctionDefinition {
-    public AllocateArray(final ISA isa) {
-        super(isa);
+    public AllocateArray(final Generator generator) {
+        super(generator);
     }
 
     @Override
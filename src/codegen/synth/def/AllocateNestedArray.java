@@ -3,7 +3,6 @@ package codegen.synth.def;
 import codegen.Generator;
 import codegen.platform.Immediate;
 import codegen.platform.MemoryScaledIndex;
-import codegen.platform.isa.ISA;
 import codegen.synth.SyntheticFunction;
 
 import static codegen.platform.Operation.*;
@@ -12,8 +11,8 @@ import static codegen.platform.Register.*;
 import static codegen.platform.Register.R10;
 
 public class AllocateNestedArray extends SyntheticFunctionDefinition {
-    public AllocateNestedArray(final ISA isa) {
-        super(isa);
+    public AllocateNestedArray(final Generator generator) {
+        super(generator);
     }
 
     @Override
@@ -1,14 +1,14 @@
 package codegen.synth.def;
 
-import codegen.platform.isa.ISA;
+import codegen.Generator;
 import codegen.synth.SyntheticFunction;
 
 import static codegen.platform.Register.RDI;
 import static codegen.platform.Register.RSI;
 
 public class ConcatNullString extends ConcatStrings {
-    public ConcatNullString(final ISA isa) {
-        super(isa);
+    public ConcatNullString(final Generator generator) {
+        super(generator);
     }
 
     @Override
@@ -1,14 +1,14 @@
 package codegen.synth.def;
 
-import codegen.platform.isa.ISA;
+import codegen.Generator;
 import codegen.synth.SyntheticFunction;
 
 import static codegen.platform.Register.RDI;
 import static codegen.platform.Register.RSI;
 
 public class ConcatStringBool extends ConcatStrings {
-    public ConcatStringBool(final ISA isa) {
-        super(isa);
+    public ConcatStringBool(final Generator generator) {
+        super(generator);
     }
 
     @Override
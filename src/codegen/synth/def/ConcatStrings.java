@@ -2,7 +2,6 @@ package codegen.synth.def;
 
 import codegen.Generator;
 import codegen.platform.*;
-import codegen.platform.isa.ISA;
 import codegen.synth.SyntheticFunction;
 
 import static codegen.platform.Operation.*;
@@ -10,8 +9,8 @@ import static codegen.platform.Register.*;
 import static codegen.platform.Register.RAX;
 
 public class ConcatStrings extends SyntheticFunctionDefinition {
-    public ConcatStrings(final ISA isa) {
-        super(isa);
+    public ConcatStrings(final Generator generator) {
+        super(generator);
     }
 
     @Override
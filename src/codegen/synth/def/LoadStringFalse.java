@@ -3,7 +3,6 @@ package codegen.synth.def;
 import codegen.Generator;
 import codegen.platform.Immediate;
 import codegen.platform.Memory;
-import codegen.platform.isa.ISA;
 import codegen.synth.SyntheticFunction;
 
 import static codegen.platform.CFunction.MALLOC;
@@ -12,8 +11,8 @@ import static codegen.platform.Register.RAX;
 import static codegen.platform.Register.RDI;
 
 public class LoadStringFalse extends SyntheticFunctionDefinition {
-    public LoadStringFalse(final ISA isa) {
-        super(isa);
+    public LoadStringFalse(final Generator generator) {
+        super(generator);
     }
 
     @Override
@@ -4,7 +4,6 @@ import codegen.Generator;
 import codegen.platform.Immediate;
 import codegen.platform.Memory;
 import codegen.platform.MemoryScaledIndex;
-import codegen.platform.isa.ISA;
 import codegen.synth.SyntheticFunction;
 
 import static codegen.platform.CFunction.MALLOC;
@@ -12,8 +11,8 @@ import static codegen.platform.Operation.*;
 import static codegen.platform.Register.*;
 
 public class LoadStringInt extends SyntheticFunctionDefinition {
-    public LoadStringInt(final ISA isa) {
-        super(isa);
+    public LoadStringInt(final Generator generator) {
+        super(generator);
     }
 
     @Override
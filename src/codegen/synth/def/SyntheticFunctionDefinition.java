@@ -2,7 +2,6 @@ package codegen.synth.def;
 
 import codegen.Generator;
 import codegen.platform.Label;
-import codegen.platform.isa.ISA;
 import codegen.synth.SyntheticFunction;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,8 +14,8 @@ public abstract class SyntheticFunctionDefinition {
     @Setter
     private boolean referenced;
 
-    public SyntheticFunctionDefinition(final ISA isa) {
-        this.generator = Generator.getInstance(isa);
+    public SyntheticFunctionDefinition(final Generator generator) {
+        this.generator = generator;
     }
 
     public final void generateFunction() {
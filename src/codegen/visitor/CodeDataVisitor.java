@@ -4,7 +4,6 @@ import ast.*;
 import commons.LazyVisitor;
 import codegen.Generator;
 import codegen.platform.Label;
-import codegen.platform.isa.ISA;
 import semantics.table.SymbolContext;
 
 import static codegen.platform.Directive.QUAD;
@@ -13,8 +12,8 @@ public final class CodeDataVisitor extends LazyVisitor {
     private final Generator generator;
     private final SymbolContext symbolContext;
 
-    public CodeDataVisitor(SymbolContext symbolContext, ISA isa) {
-        this.generator = Generator.getInstance(isa);
+    public CodeDataVisitor(SymbolContext symbolContext, Generator generator) {
+        this.generator = generator;
         this.symbolContext = symbolContext;
     }
 
@@ -35,8 +34,8 @@ public final class CodeDataVisitor extends LazyVisitor {
 
     @Override
     public void visit(MainClass n) {
-        symbolContext.enterClass(n.i1.s);
-        symbolContext.enterMethod("main");
+        symbolContext.enterClass(n.i1.id);
+        symbolContext.enterMethod(SymbolContext.MAIN);
 
         var main = symbolContext.getCurrentMethod();
         if (main == null) {
@@ -61,7 +60,7 @@ public final class CodeDataVisitor extends LazyVisitor {
 
     @Override
     public void visit(ClassDeclSimple n) {
-        var class_ = symbolContext.lookupClass(n.i.s);
+        var class_ = symbolContext.lookupClass(n.i.id);
         if (class_ == null) {
             throw new IllegalStateException();
         }
@@ -71,14 +70,14 @@ public final class CodeDataVisitor extends LazyVisitor {
         class_.methodEntries().forEachRemaining(m ->
                 generator.genUnary(QUAD, Label.of(m.getQualifiedName())));
 
-        symbolContext.enterClass(n.i.s);
+        symbolContext.enterClass(n.i.id);
         n.ml.forEach(m -> m.accept(this));
         symbolContext.exit();
     }
 
     @Override
     public void visit(ClassDeclExtends n) {
-        var class_ = symbolContext.lookupClass(n.i.s);
+        var class_ = symbolContext.lookupClass(n.i.id);
         if (class_ == null) {
             throw new IllegalStateException();
         }
@@ -88,14 +87,14 @@ public final class CodeDataVisitor extends LazyVisitor {
         class_.methodEntries().forEachRemaining(m ->
                 generator.genUnary(QUAD, Label.of(m.getQualifiedName())));
 
-        symbolContext.enterClass(n.i.s);
+        symbolContext.enterClass(n.i.id);
         n.ml.forEach(m -> m.accept(this));
         symbolContext.exit();
     }
 
     @Override
     public void visit(MethodDecl n) {
-        var method = symbolContext.lookupMethod(n.i.s);
+        var method = symbolContext.lookupMethod(n.i.id);
         if (method == null) {
             throw new IllegalStateException();
         }
@@ -108,10 +107,10 @@ public final class CodeDataVisitor extends LazyVisitor {
 
         int offset = 2;  // start offset at 2 to leave space for obj ptr
 
-        symbolContext.enterMethod(n.i.s);
+        symbolContext.enterMethod(n.i.id);
         // assign offsets to parameters
         for (int i = 0; i < n.fl.size(); i++) {
-            var p = symbolContext.lookupVariable(n.fl.get(i).i.s);
+            var p = symbolContext.lookupVariable(n.fl.get(i).i.id);
             if (p == null) {
                 throw new IllegalStateException();
             }
@@ -143,7 +142,7 @@ public final class CodeDataVisitor extends LazyVisitor {
         symbolContext.enterConstructor(n.constructorInfo.getSignature());
         // assign offsets to parameters
         for (int i = 0; i < n.fl.size(); i++) {
-            var p = symbolContext.lookupVariable(n.fl.get(i).i.s);
+            var p = symbolContext.lookupVariable(n.fl.get(i).i.id);
             if (p == null) {
                 throw new IllegalStateException();
             }
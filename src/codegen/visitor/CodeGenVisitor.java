@@ -1,35 +1,82 @@
 package codegen.visitor;
 
 import ast.*;
+import commons.Counts;
 import commons.LazyVisitor;
 import codegen.FlowContext;
 import codegen.Generator;
+import codegen.ParallelMove;
+import codegen.RegisterNeed;
+import codegen.Tile;
+import codegen.TileMatcher;
 import codegen.synth.SyntheticFunction;
 import codegen.synth.SyntheticFunctionRegistry;
 import codegen.platform.*;
-import codegen.platform.isa.ISA;
 import java_cup.runtime.ComplexSymbolFactory.Location;
 import semantics.info.Signature;
+import semantics.info.VariableInfo;
 import semantics.table.SymbolContext;
 import semantics.type.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
+import static codegen.Tile.*;
 import static codegen.platform.Operation.*;
 import static codegen.platform.Register.*;
 
+/**
+ * Generates the code of a program from its AST. Every expression leaves its value in
+ * <code>%rax</code>. The value of the left operand of a binary expression is held in one of the
+ * {@link #SCRATCH_REGISTERS scratch registers} while the right one is evaluated, or pushed
+ * when the {@link RegisterNeed need} of the right one exceeds the free scratch registers, and
+ * a {@link RegisterNeed#isSimple(Expression) simple} right operand is loaded straight into a
+ * register of its own. The arguments of a call are held likewise, and moved into the argument
+ * registers all at once.
+ * <p>
+ * Instructions are selected by maximal munch: wherever a {@link codegen.Tile tile} matches the
+ * expression tree, e.g. a constant or local variable operand, a scaled array index or an
+ * update of a variable in place, its single instruction replaces the code of the nodes it
+ * covers. The checks that may throw jump out of line, to stubs that load the arguments of the
+ * exception handler.
+ * </p>
+ */
 public final class CodeGenVisitor extends LazyVisitor {
+    /**
+     * The registers that the code of an expression may hold values in. None of them is touched
+     * by the code of any node, except by calls, which are never made while one of them holds a
+     * value, and by the moves into the argument registers that lead up to them.
+     */
+    private static final Register[] SCRATCH_REGISTERS = { R10, R11, R8, R9 };
+
+    private record Operands(Register left, ISource right) {
+        /**
+         * @return The operand that is not in <code>%rax</code>.
+         */
+        ISource other() {
+            return left == RAX ? right : left;
+        }
+    }
+
     private final Generator generator;
     private final SyntheticFunctionRegistry syntheticFunctionRegistry;
     private final SymbolContext symbolContext;
+    private final RegisterNeed need = new RegisterNeed();
+    private final Counts<Tile> tiles;
+    private final Set<String> exceptions = new LinkedHashSet<>();  // handlers jumped to, in order of first use
+    private final List<Runnable> throwStubs = new ArrayList<>();
+    private Statement statement;  // the statement being generated, whose value is unused
+    private int scratchCount;  // scratch registers holding values, from the first one
     private int constructorCount;
 
-    public CodeGenVisitor(SymbolContext symbolContext, ISA isa) {
-        this.generator = Generator.getInstance(isa);
-        this.syntheticFunctionRegistry = SyntheticFunctionRegistry.getInstance(isa);
+    public CodeGenVisitor(SymbolContext symbolContext, Generator generator) {
+        this.generator = generator;
+        this.syntheticFunctionRegistry = generator.getSyntheticFunctionRegistry();
         this.symbolContext = symbolContext;
+        this.tiles = generator.getTileCounts();
     }
 
     @Override
@@ -38,6 +85,16 @@ public final class CodeGenVisitor extends LazyVisitor {
         n.m.accept(this);
         n.cl.forEach(c -> c.accept(this));
         syntheticFunctionRegistry.generateAll();
+        throwStubs.forEach(Runnable::run);
+
+        // values may be pushed when an exception is detected, so the stack is aligned again
+        // before jumping to the handler, which calls into the C library
+        exceptions.forEach(handler -> {
+            generator.genLabel(Label.of("throw$" + handler));
+            generator.genBinary(AND, Immediate.of(-16), RSP);
+            generator.genBinary(SUB, Immediate.of(Generator.WORD_SIZE), RSP);  // as if just called
+            generator.genUnary(JMP, Label.of(handler));
+        });
     }
 
     @Override
@@ -45,8 +102,8 @@ public final class CodeGenVisitor extends LazyVisitor {
         generator.genLabel(Label.of("asm_main"));
         generator.genPrologue();
 
-        symbolContext.enterClass(n.i1.s);
-        symbolContext.enterMethod("main");
+        symbolContext.enterClass(n.i1.id);
+        symbolContext.enterMethod(SymbolContext.MAIN);
 
         var main = symbolContext.getCurrentMethod();
 
@@ -55,7 +112,7 @@ public final class CodeGenVisitor extends LazyVisitor {
             generator.genBinary(SUB, Immediate.of(main.frameSize), RSP);
         }
 
-        n.sl.forEach(s -> s.accept(this));
+        n.sl.forEach(this::genStatement);
 
         symbolContext.exit();
         symbolContext.exit();
@@ -66,7 +123,7 @@ public final class CodeGenVisitor extends LazyVisitor {
 
     @Override
     public void visit(ClassDeclSimple n) {
-        symbolContext.enterClass(n.i.s);
+        symbolContext.enterClass(n.i.id);
         constructorCount = 0;
         n.ml.forEach(m -> m.accept(this));
         if (constructorCount == 0) {
@@ -92,7 +149,7 @@ public final class CodeGenVisitor extends LazyVisitor {
 
     @Override
     public void visit(ClassDeclExtends n) {
-        symbolContext.enterClass(n.i.s);
+        symbolContext.enterClass(n.i.id);
         constructorCount = 0;
         n.ml.forEach(m -> m.accept(this));
         if (constructorCount == 0) {
@@ -124,21 +181,25 @@ public final class CodeGenVisitor extends LazyVisitor {
     @Override
     public void visit(VarInit n) {
         // variable declared in stack frame, but we need to assign to it
-        var v = symbolContext.lookupVariable(n.i.s);
+        var v = symbolContext.lookupVariable(n.i.id);
         if (v == null || v.isInstanceVariable()) {
             throw new IllegalStateException();
         }
 
-        generator.genBinary(LEA, Memory.of(RBP, v.getOffset()), RAX);  // load var from frame
-        generator.genPush(RAX);  // push lvalue onto stack
+        var c = TileMatcher.constant(n.e);
+        if (c != null) {
+            generator.genBinary(MOV, Immediate.of(c), Memory.of(RBP, v.getOffset()));  // store constant into var
+            tiles.count(STORE_IMMEDIATE);
+            return;
+        }
+
         n.e.accept(this);
-        generator.genPop(RDX);  // pop lvalue into rdx
-        generator.genBinary(MOV, RAX, Memory.of(RDX, 0));  // move result into lvalue
+        generator.genBinary(MOV, RAX, Memory.of(RBP, v.getOffset()));  // move result into var
     }
 
     @Override
     public void visit(MethodDecl n) {
-        var method = symbolContext.lookupMethod(n.i.s);
+        var method = symbolContext.lookupMethod(n.i.id);
         if (method == null) {
             throw new IllegalStateException();
         }
@@ -152,10 +213,10 @@ public final class CodeGenVisitor extends LazyVisitor {
         // obj ptr is always first
         generator.genBinary(MOV, RDI, Memory.of(RBP, -Generator.WORD_SIZE));
 
-        symbolContext.enterMethod(n.i.s);
+        symbolContext.enterMethod(n.i.id);
         // save parameters on the stack
         for (int i = 0; i < n.fl.size(); i++) {
-            var p = symbolContext.lookupVariable(n.fl.get(i).i.s);
+            var p = symbolContext.lookupVariable(n.fl.get(i).i.id);
             if (p == null) {
                 throw new IllegalStateException();
             }
@@ -164,7 +225,7 @@ public final class CodeGenVisitor extends LazyVisitor {
                     Memory.of(RBP, p.getOffset()));
         }
 
-        n.sl.forEach(s -> s.accept(this));
+        n.sl.forEach(this::genStatement);
         symbolContext.exit();
 
         generator.genLabel(Label.of("ret$" + method.getQualifiedName()));
@@ -211,7 +272,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         symbolContext.enterConstructor(signature);
         // save parameters on the stack
         for (int i = 0; i < parameters.size(); i++) {
-            var p = symbolContext.lookupVariable(parameters.get(i).i.s);
+            var p = symbolContext.lookupVariable(parameters.get(i).i.id);
             if (p == null) {
                 throw new IllegalStateException();
             }
@@ -219,7 +280,7 @@ public final class CodeGenVisitor extends LazyVisitor {
                     Memory.of(RBP, p.getOffset()));
         }
 
-        var class_ = symbolContext.lookupClass(signature.getName());
+        var class_ = symbolContext.lookupClass(signature.getNameId());
         if (class_ == null) {
             throw new IllegalStateException();
         }
@@ -239,7 +300,7 @@ public final class CodeGenVisitor extends LazyVisitor {
 
         // then, we apply variable initializers for *only* this class's instance variables
         if (!invokesThisCtor) {
-            symbolContext.swap(signature.getName());
+            symbolContext.swap(signature.getNameId());
             class_.getInstanceVariables().forEach(v -> {
                 if (v.getParent().getName().equals(class_.name) && v.hasInitializer()) {
                     v.initializer.accept(this);
@@ -255,7 +316,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         generator.genBinary(MOV, Memory.of(RBP, -Generator.WORD_SIZE), RDI); // load obj ptr in 1st arg
         // restore parameters into argument registers
         for (int i = 0; i < parameters.size(); i++) {
-            var p = symbolContext.lookupVariable(parameters.get(i).i.s);
+            var p = symbolContext.lookupVariable(parameters.get(i).i.id);
             if (p == null) {
                 throw new IllegalStateException();
             }
@@ -283,7 +344,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         symbolContext.enterConstructor(signature);
         // save parameters on the stack
         for (int i = 0; i < parameters.size(); i++) {
-            var p = symbolContext.lookupVariable(parameters.get(i).i.s);
+            var p = symbolContext.lookupVariable(parameters.get(i).i.id);
             if (p == null) {
                 throw new IllegalStateException();
             }
@@ -293,7 +354,7 @@ public final class CodeGenVisitor extends LazyVisitor {
 
         // visit constructor body, excluding super call if it existed
         body.forEach(s -> {
-            if (!(s instanceof SuperCtorInvocation)) s.accept(this);
+            if (!(s instanceof SuperCtorInvocation)) genStatement(s);
         });
         symbolContext.exit();
 
@@ -305,7 +366,7 @@ public final class CodeGenVisitor extends LazyVisitor {
     @Override
     public void visit(Block n) {
         symbolContext.enterBlock(n.blockInfo);
-        n.sl.forEach(s -> s.accept(this));
+        n.sl.forEach(this::genStatement);
         symbolContext.exit();
     }
 
@@ -316,15 +377,7 @@ public final class CodeGenVisitor extends LazyVisitor {
             throw new IllegalStateException();
         }
 
-        // push args onto stack
-        for (int i = 0; i < n.el.size(); i++) {
-            n.el.get(i).accept(this);
-            generator.genPush(RAX);
-        }
-        // pop args off stack
-        for (int i = n.el.size(); i > 0; i--) {
-            generator.genPop(generator.getArgumentRegister(i));
-        }
+        genArguments(n.el, false);
         generator.genBinary(MOV, Memory.of(RBP, -Generator.WORD_SIZE), RDI); // load obj ptr
         generator.genCall(superCtor.getSignature());
     }
@@ -336,15 +389,7 @@ public final class CodeGenVisitor extends LazyVisitor {
             throw new IllegalStateException();
         }
 
-        // push args onto stack
-        for (int i = 0; i < n.el.size(); i++) {
-            n.el.get(i).accept(this);
-            generator.genPush(RAX);
-        }
-        // pop args off stack
-        for (int i = n.el.size(); i > 0; i--) {
-            generator.genPop(generator.getArgumentRegister(i));
-        }
+        genArguments(n.el, false);
         generator.genBinary(MOV, Memory.of(RBP, -Generator.WORD_SIZE), RDI); // load obj ptr
         generator.genCall(thisCtor.getSignature(), thisCtor.invokesThisCtor);
     }
@@ -367,7 +412,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         generator.push(new FlowContext(endifLabel, false));
         n.e.accept(this);  // bool expression
 
-        n.s.accept(this);
+        genStatement(n.s);
         generator.genLabel(endifLabel);
     }
 
@@ -379,10 +424,10 @@ public final class CodeGenVisitor extends LazyVisitor {
         generator.push(new FlowContext(elseLabel, false));
         n.e.accept(this);  // bool expression
 
-        n.s1.accept(this);
+        genStatement(n.s1);
         generator.genUnary(JMP, endifLabel);
         generator.genLabel(elseLabel);
-        n.s2.accept(this);
+        genStatement(n.s2);
         generator.genLabel(endifLabel);
     }
 
@@ -443,12 +488,12 @@ public final class CodeGenVisitor extends LazyVisitor {
 
     @Override
     public void visit(CaseSimple n) {
-        n.sl.forEach(s -> s.accept(this));
+        n.sl.forEach(this::genStatement);
     }
 
     @Override
     public void visit(CaseDefault n) {
-        n.sl.forEach(s -> s.accept(this));
+        n.sl.forEach(this::genStatement);
     }
 
     @Override
@@ -457,8 +502,9 @@ public final class CodeGenVisitor extends LazyVisitor {
         var bodyLabel = generator.nextLabel("while");
 
         generator.genUnary(JMP, testLabel);
+        generator.genAlign(Generator.LOOP_ALIGNMENT);  // the target of the jump back from the test
         generator.genLabel(bodyLabel);
-        n.s.accept(this);
+        genStatement(n.s);
         generator.genLabel(testLabel);
         generator.push(new FlowContext(bodyLabel, true));
         n.e.accept(this);  // bool expression
@@ -470,11 +516,12 @@ public final class CodeGenVisitor extends LazyVisitor {
         var bodyLabel = generator.nextLabel("for");
 
         symbolContext.enterBlock(n.blockInfo);
-        n.s0.accept(this);  // initializer instructions
+        genStatement(n.s0);  // initializer instructions
         generator.genUnary(JMP, testLabel);
+        generator.genAlign(Generator.LOOP_ALIGNMENT);  // the target of the jump back from the test
         generator.genLabel(bodyLabel);
-        n.s2.accept(this);  // body instructions
-        n.s1.accept(this);  // incrementer instructions
+        genStatement(n.s2);  // body instructions
+        genStatement(n.s1);  // incrementer instructions
         generator.genLabel(testLabel);
         generator.push(new FlowContext(bodyLabel, true));
         n.e.accept(this);  // condition expression
@@ -495,7 +542,7 @@ public final class CodeGenVisitor extends LazyVisitor {
             // (mem addr obviously will be different from java, but okay)
             var printNullLabel = generator.nextLabel("print_null");
             var printDone = generator.nextLabel("print_done");
-            generator.genBinary(CMP, Immediate.of(0), RAX);
+            genTestZero(RAX);
             generator.genUnary(JE, printNullLabel);
             if (n.e.eval().type.equals(TypeString.getInstance())) { // print as string
                 var printLabel = generator.nextLabel("print");
@@ -565,7 +612,8 @@ public final class CodeGenVisitor extends LazyVisitor {
     @Override
     public void visit(AssignMinus n) {
         visitAssign(n, g -> {
-            g.genBinary(SUB, Memory.of(RDX, 0), RAX);  // subtract rcx from rax
+            g.genUnary(NEG, RAX);  // negate rax
+            g.genBinary(ADD, Memory.of(RDX, 0), RAX);  // add value to -rax
         });
     }
 
@@ -579,9 +627,7 @@ public final class CodeGenVisitor extends LazyVisitor {
     @Override
     public void visit(AssignDivide n) {
         visitAssign(n, g -> {
-            g.genBinary(MOV, Immediate.of(n.lineNumber), RDI);  // load line number in first arg
-            g.genBinary(CMP, Immediate.of(0), RAX);  // check if divisor is 0
-            g.genUnary(JE, Label.of("exception_division"));  // division by 0 error
+            genDivisorCheck(n.e2, RAX, n.lineNumber);
             g.genPush(RDX);  // push lvalue onto stack
             g.genPush(RAX);  // push expr (divisor) onto stack
             g.genBinary(MOV, Memory.of(RDX, 0), RAX);  // dereference rdx into rax
@@ -595,9 +641,7 @@ public final class CodeGenVisitor extends LazyVisitor {
     @Override
     public void visit(AssignMod n) {
         visitAssign(n, g -> {
-            g.genBinary(MOV, Immediate.of(n.lineNumber), RDI);  // load line number in first arg
-            g.genBinary(CMP, Immediate.of(0), RAX);  // check if divisor is 0
-            g.genUnary(JE, Label.of("exception_division"));  // division by 0 error
+            genDivisorCheck(n.e2, RAX, n.lineNumber);
             g.genPush(RDX);  // push lvalue onto stack
             g.genPush(RAX);  // push expr (divisor) onto stack
             g.genBinary(MOV, Memory.of(RDX, 0), RAX);  // dereference rdx into rax
@@ -659,36 +703,22 @@ public final class CodeGenVisitor extends LazyVisitor {
 
     @Override
     public void visit(PostIncrement n) {
-        generator.signalAssignable();
-        n.e.accept(this);
-        generator.genBinary(MOV, Memory.of(RAX, 0), RDX);  // load value into rdx
-        generator.genBinary(ADD, Immediate.of(1), Memory.of(RAX, 0));  // increment value by 1
-        generator.genBinary(MOV, RDX, RAX);  // move initial value into rax
+        visitIncrement(n, ADD, true);
     }
 
     @Override
     public void visit(PreIncrement n) {
-        generator.signalAssignable();
-        n.e.accept(this);
-        generator.genBinary(ADD, Immediate.of(1), Memory.of(RAX, 0));  // increment value by 1
-        generator.genBinary(MOV, Memory.of(RAX, 0), RAX);  // load value into rax
+        visitIncrement(n, ADD, false);
     }
 
     @Override
     public void visit(PostDecrement n) {
-        generator.signalAssignable();
-        n.e.accept(this);
-        generator.genBinary(MOV, Memory.of(RAX, 0), RDX);  // load value into rdx
-        generator.genBinary(SUB, Immediate.of(1), Memory.of(RAX, 0));  // decrement value by 1
-        generator.genBinary(MOV, RDX, RAX);  // move initial value into rax
+        visitIncrement(n, SUB, true);
     }
 
     @Override
     public void visit(PreDecrement n) {
-        generator.signalAssignable();
-        n.e.accept(this);
-        generator.genBinary(SUB, Immediate.of(1), Memory.of(RAX, 0));  // decrement value by 1
-        generator.genBinary(MOV, Memory.of(RAX, 0), RAX);  // load value into rax
+        visitIncrement(n, SUB, false);
     }
 
     @Override
@@ -697,14 +727,14 @@ public final class CodeGenVisitor extends LazyVisitor {
         var joinLabel = generator.nextLabel("join");
 
         n.e1.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
+        genTestZero(RAX);
         if (context != null && !context.jumpIf()) {
             generator.genUnary(JE, context.targetLabel());
         } else {
             generator.genUnary(JE, joinLabel);
         }
         n.e2.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
+        genTestZero(RAX);
         if (context != null) {
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
@@ -721,14 +751,14 @@ public final class CodeGenVisitor extends LazyVisitor {
         var joinLabel = generator.nextLabel("join");
 
         n.e1.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
+        genTestZero(RAX);
         if (context != null && context.jumpIf()) {
             generator.genUnary(JNE, context.targetLabel());
         } else {
             generator.genUnary(JNE, joinLabel);
         }
         n.e2.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
+        genTestZero(RAX);
         if (context != null) {
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
@@ -800,41 +830,39 @@ public final class CodeGenVisitor extends LazyVisitor {
         var lhs = n.e1.eval().type;
         var rhs = n.e2.eval().type;
 
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genPop(RDI);
-
         if (lhs.equals(TypeInt.getInstance()) && rhs.equals(TypeInt.getInstance())) {
             // int + int
-            generator.genBinary(ADD, RDI, RAX);
-        } else if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeString.getInstance())) {
+            if (!genAddress(n)) {
+                genCommutative(n, ADD);
+            }
+            return;
+        }
+
+        // strings are concatenated by a synthetic function, taking the left operand in rdi
+        // and the right one in rsi
+        var operands = genOperands(n.e1, n.e2, RDI, RSI);
+        genMove(operands.right(), RSI);
+        genMove(operands.left(), RDI);
+        if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeString.getInstance())) {
             // string + string
-            generator.genBinary(MOV, RAX, RSI);
             generator.genCall(SyntheticFunction.CONCAT_STRING_STRING);
         } else if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeBoolean.getInstance())) {
             // string + bool
-            generator.genBinary(MOV, RAX, RSI);
             generator.genCall(SyntheticFunction.CONCAT_STRING_BOOL);
         } else if (lhs.equals(TypeBoolean.getInstance()) && rhs.equals(TypeString.getInstance())) {
             // bool + string
-            generator.genBinary(MOV, RAX, RSI);
             generator.genCall(SyntheticFunction.CONCAT_BOOL_STRING);
         } else if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeInt.getInstance())) {
             // string + int
-            generator.genBinary(MOV, RAX, RSI);
             generator.genCall(SyntheticFunction.CONCAT_STRING_INT);
         } else if (lhs.equals(TypeInt.getInstance()) && rhs.equals(TypeString.getInstance())) {
             // int + string
-            generator.genBinary(MOV, RAX, RSI);
             generator.genCall(SyntheticFunction.CONCAT_INT_STRING);
         } else if (lhs.equals(TypeNull.getInstance()) && rhs.equals(TypeString.getInstance())) {
             // null + string
-            generator.genBinary(MOV, RAX, RSI);
             generator.genCall(SyntheticFunction.CONCAT_NULL_STRING);
         } else if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeNull.getInstance())) {
             // string + null
-            generator.genBinary(MOV, RAX, RSI);
             generator.genCall(SyntheticFunction.CONCAT_STRING_NULL);
         } else {
             // no other type combinations should have gotten through at this point
@@ -844,50 +872,48 @@ public final class CodeGenVisitor extends LazyVisitor {
 
     @Override
     public void visit(Minus n) {
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genPop(RDX);
-        generator.genBinary(MOV, RAX, RCX);
-        generator.genBinary(SUB, RCX, RDX);
-        generator.genBinary(MOV, RDX, RAX);
+        var operands = genOperands(n.e1, n.e2, RDX, RDX);
+        generator.genBinary(SUB, operands.right(), operands.left());
+        genMove(operands.left(), RAX);
     }
 
     @Override
     public void visit(Times n) {
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genPop(RDX);
-        generator.genBinary(IMUL, RDX, RAX);
+        var factor = n.e1;
+        var c = TileMatcher.constant(n.e2);
+        if (c == null) {
+            factor = n.e2;
+            c = TileMatcher.constant(n.e1);
+        }
+        if (c != null && TileMatcher.log2(c) > 0) {
+            factor.accept(this);
+            generator.genBinary(SHL, Immediate.of(TileMatcher.log2(c)), RAX);  // multiply by 2^k
+            tiles.count(MULTIPLY_SHIFT);
+        } else if (c != null && (c == 3 || c == 5 || c == 9)) {
+            factor.accept(this);
+            generator.genBinary(LEA, MemoryScaledIndex.of(RAX, RAX, c - 1, 0), RAX);  // rax + rax * (c - 1)
+            tiles.count(LEA_MULTIPLY);
+        } else {
+            genCommutative(n, IMUL);
+        }
     }
 
     @Override
     public void visit(Divide n) {
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genPop(RDX);
-        generator.genBinary(MOV, RAX, RCX);  // load divisor in rcx
-        generator.genBinary(MOV, RDX, RAX);  // load dividend in rax
-        generator.genBinary(MOV, Immediate.of(n.lineNumber), RDI);  // load line number in first arg
-        generator.genBinary(CMP, Immediate.of(0), RCX);  // check if divisor is 0
-        generator.genUnary(JE, Label.of("exception_division"));  // division by 0 error
+        var operands = genOperands(n.e1, n.e2, RDX, RCX);
+        genMove(operands.right(), RCX);  // load divisor in rcx
+        genMove(operands.left(), RAX);  // load dividend in rax
+        genDivisorCheck(n.e2, RCX, n.lineNumber);
         generator.gen(CQTO);  // sign extend rax to rdx:rax
         generator.genUnary(IDIV, RCX);  // divide rdx:rax by rcx, result in rax
     }
 
     @Override
     public void visit(Mod n) {
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genPop(RDX);
-        generator.genBinary(MOV, RAX, RCX);  // load divisor in rcx
-        generator.genBinary(MOV, RDX, RAX);  // load dividend in rax
-        generator.genBinary(MOV, Immediate.of(n.lineNumber), RDI);  // load line number in first arg
-        generator.genBinary(CMP, Immediate.of(0), RCX);  // check if divisor is 0
-        generator.genUnary(JE, Label.of("exception_division"));  // division by 0 error
+        var operands = genOperands(n.e1, n.e2, RDX, RCX);
+        genMove(operands.right(), RCX);  // load divisor in rcx
+        genMove(operands.left(), RAX);  // load dividend in rax
+        genDivisorCheck(n.e2, RCX, n.lineNumber);
         generator.gen(CQTO);  // sign extend rax to rdx:rax
         generator.genUnary(IDIV, RCX);  // divide rdx:rax by rcx, result in rax
         generator.genBinary(MOV, RDX, RAX);  // move remainder into rax
@@ -895,67 +921,30 @@ public final class CodeGenVisitor extends LazyVisitor {
 
     @Override
     public void visit(LeftShift n) {
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genBinary(MOV, RAX, RCX);  // move lshift amount into rcx
-        generator.genPop(RAX);  // pop value into rax
-        generator.genBinary(SHL, CL, RAX);  // lshift rax by lshift amount
+        visitShift(n, SHL);
     }
 
     @Override
     public void visit(RightShift n) {
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genBinary(MOV, RAX, RCX);  // move rshift amount into rcx
-        generator.genPop(RAX);  // pop value into rax
-        generator.genBinary(SAR, CL, RAX);   // rshift rax by rshift amount
+        visitShift(n, SAR);
     }
 
     @Override
     public void visit(UnsignedRightShift n) {
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genBinary(MOV, RAX, RCX);  // move urshift amount into rcx
-        generator.genPop(RAX);  // pop value into rax
-        generator.genBinary(SHR, CL, RAX);   // urshift rax by urshift amount
+        visitShift(n, SHR);
     }
 
     @Override
     public void visit(ArrayLookup n) {
         boolean assignable = generator.isAssignable();
-
-        n.e1.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
-        generator.genBinary(MOV, Immediate.of(n.lineNumber), RDI);
-        generator.genUnary(JE, Label.of("exception_null_pointer"));
-        generator.genPush(RAX);  // push arr ptr
-        for (int i = 0; i < n.getDimensionCount(); i++) {
-            n.el.get(i).accept(this);
-            generator.genBinary(MOV, RAX, RDI);  // move i to rdi
-            generator.genPop(RCX);  // pop arr ptr into rcx
-            generator.genBinary(MOV, Memory.of(RCX, 0), RSI);  // load sizeof(arr) into rsi
-            generator.genBinary(MOV, Immediate.of(n.el.lineNumber), RDX);  // load line number into rdx
-            generator.genBinary(CMP, Immediate.of(0), RDI);
-            generator.genUnary(JL, Label.of("exception_array"));
-            generator.genBinary(CMP, RSI, RDI);
-            generator.genUnary(JGE, Label.of("exception_array"));
-            generator.genBinary(ADD, Immediate.of(1), RDI);  // i++ due to size
-            Operation op = (assignable && i == n.getDimensionCount() - 1) ? LEA : MOV;
-            generator.genBinary(op, MemoryScaledIndex.of(RCX, RDI, Generator.WORD_SIZE, 0), RCX);  // load arr[i] or &arr[i] into rcx
-            generator.genPush(RCX);  // push arr[i]/&arr[i] onto stack
-        }
-        generator.genPop(RAX);  // pop arr ptr
+        var element = genElement(n);
+        generator.genBinary(assignable ? LEA : MOV, element, RAX);  // load arr[i] or &arr[i] into rax
     }
 
     @Override
     public void visit(ArrayLength n) {
         n.e.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
-        generator.genBinary(MOV, Immediate.of(n.lineNumber), RDI);
-        generator.genUnary(JE, Label.of("exception_null_pointer"));
+        genNullCheck(n.lineNumber);
         generator.genBinary(MOV, Memory.of(RAX, 0), RAX);
     }
 
@@ -968,29 +957,14 @@ public final class CodeGenVisitor extends LazyVisitor {
     public void visit(Call n) {
         var context = generator.pop();
         n.e.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
-        generator.genBinary(MOV, Immediate.of(n.lineNumber), RDI);
-        generator.genUnary(JE, Label.of("exception_null_pointer"));
-        generator.genPush(RAX);  // push obj ptr onto stack
+        genNullCheck(n.lineNumber);
 
-        var class_ = ((TypeObject) n.e.eval().type).base;
-        var method = symbolContext.lookupMethod(n.i.s, class_);
+        var method = n.resolvedMethod;
         if (method == null) {
             throw new IllegalStateException();
         }
 
-        // push args onto stack
-        for (int i = 0; i < n.el.size(); i++) {
-            n.el.get(i).accept(this);
-            generator.genPush(RAX);
-        }
-
-        // pop args off stack
-        for (int i = n.el.size(); i > 0; i--) {
-            generator.genPop(generator.getArgumentRegister(i));
-        }
-
-        generator.genPop(RDI);  // pop obj ptr off stack
+        genArguments(n.el, true);
         generator.genBinary(MOV, Memory.of(RDI, 0), RAX);  // load vtable addr
         generator.genCall(Memory.of(RAX, method.getOffset()));  // call method from vtable
 
@@ -1001,7 +975,7 @@ public final class CodeGenVisitor extends LazyVisitor {
                 throw new IllegalStateException();
             }
 
-            generator.genBinary(CMP, Immediate.of(0), RAX);
+            genTestZero(RAX);
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
             } else {
@@ -1015,12 +989,10 @@ public final class CodeGenVisitor extends LazyVisitor {
         var context = generator.pop();
         boolean assignable = generator.isAssignable();
         n.e.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
-        generator.genBinary(MOV, Immediate.of(n.lineNumber), RDI);
-        generator.genUnary(JE, Label.of("exception_null_pointer"));
+        genNullCheck(n.lineNumber);
 
         var class_ = ((TypeObject) n.e.eval().type).base;
-        var v = symbolContext.lookupInstanceVariable(n.i.s, class_);
+        var v = symbolContext.lookupInstanceVariable(n.i.id, class_);
         if (v == null || !v.isInstanceVariable()) {
             throw new IllegalStateException();
         }
@@ -1041,7 +1013,7 @@ public final class CodeGenVisitor extends LazyVisitor {
                 throw new IllegalStateException();
             }
 
-            generator.genBinary(CMP, Immediate.of(0), RAX);
+            genTestZero(RAX);
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
             } else {
@@ -1058,7 +1030,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         var endTernaryLabel = generator.nextLabel("end_ternary");
 
         n.c.accept(this);
-        generator.genBinary(CMP, Immediate.of(0), RAX);
+        genTestZero(RAX);
         generator.genUnary(JE, ternaryElseLabel);
         n.e1.accept(this);
         generator.genUnary(JMP, endTernaryLabel);
@@ -1073,7 +1045,7 @@ public final class CodeGenVisitor extends LazyVisitor {
                 throw new IllegalStateException();
             }
 
-            generator.genBinary(CMP, Immediate.of(0), RAX);
+            genTestZero(RAX);
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
             } else {
@@ -1089,7 +1061,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         var instanceOfLabel = generator.nextLabel("top");
         var endInstanceOfLabel = generator.nextLabel("end_instance_of");
 
-        var class_ = symbolContext.lookupClass(n.i.s);
+        var class_ = symbolContext.lookupClass(n.i.id);
         if (class_ == null) {
             throw new IllegalStateException();
         }
@@ -1098,11 +1070,11 @@ public final class CodeGenVisitor extends LazyVisitor {
         generator.genPush(RAX);  // push vtable ptr on stack
         n.e.accept(this);
         generator.genPop(RDX);  // pop vtable ptr into rdx
-        generator.genBinary(CMP, Immediate.of(0), RAX); // initial null ptr check
+        genTestZero(RAX); // initial null ptr check
         generator.genUnary(JE, endInstanceOfLabel);  // if null, jump to end (rax = 0)
         generator.genLabel(instanceOfLabel);
         generator.genBinary(MOV, Memory.of(RAX, 0), RAX);  // load vtable ptr of obj
-        generator.genBinary(CMP, Immediate.of(0), RAX);  // check if vtable ptr is null
+        genTestZero(RAX);  // check if vtable ptr is null
         generator.genUnary(JE, endInstanceOfLabel);  // if null, jump to end (rax = 0)
         generator.genBinary(CMP, RAX, RDX);  // compare vtable ptrs
         generator.genUnary(JNE, instanceOfLabel);  // if not equal, loop
@@ -1110,7 +1082,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         generator.genLabel(endInstanceOfLabel);
 
         if (context != null) {
-            generator.genBinary(CMP, Immediate.of(0), RAX);
+            genTestZero(RAX);
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
             } else {
@@ -1168,18 +1140,8 @@ public final class CodeGenVisitor extends LazyVisitor {
     public void visit(IdentifierExp n) {
         var context = generator.pop();
         boolean assignable = generator.isAssignable();
-        var v = symbolContext.lookupVariable(n.s);
-        if (v == null) {
-            throw new IllegalStateException();
-        }
-
-        Operation op = assignable ? LEA : MOV;
-        if (v.isInstanceVariable()) {
-            generator.genBinary(MOV, Memory.of(RBP, -Generator.WORD_SIZE), RDX);
-            generator.genBinary(op, Memory.of(RDX, v.getInstanceVariableOffset()), RAX);
-        } else {
-            generator.genBinary(op, Memory.of(RBP, v.getOffset()), RAX);
-        }
+        var v = lookupVariable(n);
+        genVariable(v, assignable ? LEA : MOV, RAX);
 
         if (context != null) {
             if (v.type != TypeBoolean.getInstance()) {
@@ -1194,7 +1156,7 @@ public final class CodeGenVisitor extends LazyVisitor {
                 throw new IllegalStateException();
             }
 
-            generator.genBinary(CMP, Immediate.of(0), RAX);
+            genTestZero(RAX);
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
             } else {
@@ -1212,9 +1174,8 @@ public final class CodeGenVisitor extends LazyVisitor {
     public void visit(NewArray n) {
         n.el.get(0).accept(this);
         generator.genBinary(MOV, RAX, RDI);
-        generator.genBinary(MOV, Immediate.of(n.el.lineNumber), RSI);
-        generator.genBinary(CMP, Immediate.of(0), RDI);
-        generator.genUnary(JL, Label.of("exception_array_size"));
+        genTestZero(RDI);
+        genThrow(JL, "exception_array_size", g -> g.genBinary(MOV, Immediate.of(n.el.lineNumber), RSI));
 
         if (n.getDimensionCount() == 1) {
             generator.genCall(SyntheticFunction.ALLOCATE_ARRAY);
@@ -1225,9 +1186,8 @@ public final class CodeGenVisitor extends LazyVisitor {
             for (int i = 1; i < n.getDimensionCount(); i++) {
                 n.el.get(i).accept(this);
                 generator.genBinary(MOV, RAX, RDI);
-                generator.genBinary(MOV, Immediate.of(n.el.lineNumber), RSI);
-                generator.genBinary(CMP, Immediate.of(0), RDI);
-                generator.genUnary(JL, Label.of("exception_array_size"));
+                genTestZero(RDI);
+                genThrow(JL, "exception_array_size", g -> g.genBinary(MOV, Immediate.of(n.el.lineNumber), RSI));
                 generator.genPush(RDI);
             }
 
@@ -1244,7 +1204,7 @@ public final class CodeGenVisitor extends LazyVisitor {
 
     @Override
     public void visit(NewObject n) {
-        var class_ = symbolContext.lookupClass(n.i.s);
+        var class_ = symbolContext.lookupClass(n.i.id);
         if (class_ == null) {
             throw new IllegalStateException();
         }
@@ -1254,18 +1214,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         generator.genBinary(LEA, Memory.of(RIP, "_" + class_.name + "$$"), RDX);  // lea of vtable
         generator.genBinary(MOV, RDX, Memory.of(RAX, 0));  // store vtable at start of obj
 
-        // prepare argument registers for ctor invocation
-        generator.genPush(RAX); // push obj ptr onto stack
-        // push args onto stack
-        for (int i = 0; i < n.el.size(); i++) {
-            n.el.get(i).accept(this);
-            generator.genPush(RAX);
-        }
-        // pop args off stack
-        for (int i = n.el.size(); i > 0; i--) {
-            generator.genPop(generator.getArgumentRegister(i));
-        }
-        generator.genPop(RDI); // pop obj ptr off stack
+        genArguments(n.el, true);
         generator.genCall(n.resolvedConstructor.getSignature());
     }
 
@@ -1277,7 +1226,7 @@ public final class CodeGenVisitor extends LazyVisitor {
         generator.genBinary(XOR, Immediate.of(1), RAX);
 
         if (context != null) {
-            generator.genBinary(CMP, Immediate.of(0), RAX);
+            genTestZero(RAX);
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
             } else {
@@ -1294,7 +1243,7 @@ public final class CodeGenVisitor extends LazyVisitor {
 
     @Override
     public void visit(Identifier n) {
-        var v = symbolContext.lookupVariable(n.s);
+        var v = symbolContext.lookupVariable(n.id);
         if (v == null) {
             throw new IllegalStateException();
         }
@@ -1313,11 +1262,460 @@ public final class CodeGenVisitor extends LazyVisitor {
     @Override
     public void visit(NoOpExp n) {}
 
+    /**
+     * Evaluates the specified operands from left to right. The value of the left one is held in
+     * the next scratch register while the right one is evaluated if enough of them are free,
+     * and pushed otherwise. A right operand that is a constant or a local variable is not
+     * evaluated at all, but becomes an immediate or memory operand.
+     *
+     * @param left        The left operand.
+     * @param right       The right operand.
+     * @param leftScratch The register to pop the left operand into if it was pushed.
+     * @param rightScratch The register to load the right operand into if it is simple.
+     * @return The operands, one of which is in <code>%rax</code>.
+     */
+    private Operands genOperands(Expression left, Expression right, Register leftScratch, Register rightScratch) {
+        left.accept(this);
+        return genRightOperand(right, leftScratch, rightScratch, true);
+    }
+
+    /**
+     * Evaluates the specified right operand of a binary expression, whose left operand is in
+     * <code>%rax</code>, as {@link #genOperands} does.
+     *
+     * @param leftScratch  The register to pop the left operand into if it was pushed, or to
+     *                     move it into if the right one is simple and goes in <code>%rax</code>.
+     * @param rightScratch The register to load the right operand into if it is simple.
+     * @param fold         Whether a constant or local variable becomes an operand of its own,
+     *                     rather than being loaded into <code>rightScratch</code>.
+     * @return The operands, one of which is in <code>%rax</code>.
+     */
+    private Operands genRightOperand(Expression right, Register leftScratch, Register rightScratch, boolean fold) {
+        var operand = fold ? operand(right) : null;
+        if (operand != null) {
+            return new Operands(RAX, operand);
+        }
+
+        if (RegisterNeed.isSimple(right)) {
+            if (rightScratch != RAX) {
+                genLoad(right, rightScratch);
+                return new Operands(RAX, rightScratch);
+            }
+            generator.genBinary(MOV, RAX, leftScratch);
+            genLoad(right, RAX);
+            return new Operands(leftScratch, RAX);
+        }
+
+        if (need.of(right) < SCRATCH_REGISTERS.length - scratchCount) {
+            var held = SCRATCH_REGISTERS[scratchCount++];
+            generator.genBinary(MOV, RAX, held);
+            right.accept(this);
+            scratchCount--;
+            return new Operands(held, RAX);
+        }
+
+        generator.genPush(RAX);
+        right.accept(this);
+        generator.genPop(leftScratch);
+        return new Operands(leftScratch, RAX);
+    }
+
+    /**
+     * @return The specified expression as an immediate operand if it is a constant, or as a
+     *         memory operand if it is a local variable, or <code>null</code>.
+     */
+    private ISource operand(Expression e) {
+        var c = TileMatcher.constant(e);
+        if (c != null) {
+            tiles.count(IMMEDIATE_OPERAND);
+            return Immediate.of(c);
+        }
+        if (e instanceof IdentifierExp id) {
+            var v = lookupVariable(id);
+            if (!v.isInstanceVariable()) {
+                tiles.count(MEMORY_OPERAND);
+                return Memory.of(RBP, v.getOffset());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generates the specified commutative binary expression with the specified operation.
+     * A constant left operand is used as an immediate, after evaluating the right one.
+     */
+    private void genCommutative(BinaryExp n, Operation op) {
+        var c = TileMatcher.constant(n.e1);
+        if (c != null && TileMatcher.constant(n.e2) == null) {
+            n.e2.accept(this);
+            generator.genBinary(op, Immediate.of(c), RAX);
+            tiles.count(IMMEDIATE_OPERAND);
+            return;
+        }
+
+        var operands = genOperands(n.e1, n.e2, RDX, RDX);
+        generator.genBinary(op, operands.other(), RAX);
+    }
+
+    /**
+     * Generates the specified integer addition as a single address computation, if it adds a
+     * scaled operand to another one and possibly a constant: <code>a + b * s</code>,
+     * <code>b * s + a</code>, or either of them <code>+ c</code>.
+     * @return Whether the addition matched.
+     */
+    private boolean genAddress(Plus n) {
+        var sum = n;
+        int displacement = 0;
+        var c = TileMatcher.constant(n.e2);
+        if (c != null && n.e1 instanceof Plus inner && inner.e1.eval().type.equals(TypeInt.getInstance())
+                && inner.e2.eval().type.equals(TypeInt.getInstance())) {
+            sum = inner;
+            displacement = c;
+        }
+
+        boolean scaledRight = true;
+        var scaled = TileMatcher.scaled(sum.e2);
+        if (scaled == null) {
+            scaledRight = false;
+            scaled = TileMatcher.scaled(sum.e1);
+        }
+        if (scaled == null) {
+            return false;
+        }
+
+        var operands = scaledRight
+                ? genOperands(sum.e1, scaled.index(), RDX, RDX)
+                : genOperands(scaled.index(), sum.e2, RDX, RDX);
+        var left = operands.left();
+        var right = RAX;
+        if (left == RAX) {
+            right = RDX;
+            genMove(operands.right(), RDX);
+        }
+        var base = scaledRight ? left : right;
+        var index = scaledRight ? right : left;
+        generator.genBinary(LEA, MemoryScaledIndex.of(base, index, scaled.scale(), displacement), RAX);
+        tiles.count(LEA_ADD);
+        return true;
+    }
+
+    /**
+     * Generates the specified shift with the specified operation, by an immediate amount if
+     * it is constant, and by <code>%cl</code> otherwise.
+     */
+    private void visitShift(BinaryExp n, Operation op) {
+        var c = TileMatcher.constant(n.e2);
+        if (c != null) {
+            n.e1.accept(this);
+            generator.genBinary(op, Immediate.of(c & 63), RAX);  // shift rax by the amount, mod 64
+            tiles.count(SHIFT_IMMEDIATE);
+            return;
+        }
+
+        var operands = genOperands(n.e1, n.e2, RDX, RCX);
+        genMove(operands.right(), RCX);  // move shift amount into rcx
+        genMove(operands.left(), RAX);  // move value into rax
+        generator.genBinary(op, CL, RAX);  // shift rax by shift amount
+    }
+
+    /**
+     * Evaluates the array and indices of the specified lookup, checks each index against the
+     * length of its array, and loads the arrays of all dimensions but the last one.
+     * @return The element, as a memory operand over <code>%rcx</code> and, unless its index is
+     *         constant, <code>%rdi</code>.
+     */
+    private IMemory genElement(ArrayLookup n) {
+        n.e1.accept(this);
+        genNullCheck(n.lineNumber);
+        IMemory element = null;
+        for (int i = 0; i < n.getDimensionCount(); i++) {
+            if (element != null) {
+                generator.genBinary(MOV, element, RAX);  // load arr[i] of the previous dimension
+            }
+
+            var index = n.el.get(i);
+            var c = TileMatcher.constant(index);
+            if (c != null && c >= 0 && c < Integer.MAX_VALUE / Generator.WORD_SIZE) {
+                generator.genBinary(MOV, RAX, RCX);  // move arr ptr into rcx
+                generator.genBinary(CMP, Immediate.of(c), Memory.of(RCX, 0));  // compare sizeof(arr) to i
+                genThrow(JLE, "exception_array", g -> {
+                    g.genBinary(MOV, Immediate.of(c), RDI);
+                    g.genBinary(MOV, Memory.of(RCX, 0), RSI);
+                    g.genBinary(MOV, Immediate.of(n.el.lineNumber), RDX);
+                });
+                element = Memory.of(RCX, (c + 1) * Generator.WORD_SIZE);  // skip the size
+                tiles.count(CONSTANT_INDEX);
+                continue;
+            }
+
+            var operands = genRightOperand(index, RCX, RDI, false);
+            genMove(operands.left(), RCX);  // move arr ptr into rcx
+            genMove(operands.right(), RDI);  // move i into rdi
+            // compared unsigned, a negative index is above every size
+            generator.genBinary(CMP, Memory.of(RCX, 0), RDI);
+            genThrow(JAE, "exception_array", g -> {
+                g.genBinary(MOV, Memory.of(RCX, 0), RSI);
+                g.genBinary(MOV, Immediate.of(n.el.lineNumber), RDX);
+            });
+            element = MemoryScaledIndex.of(RCX, RDI, Generator.WORD_SIZE, Generator.WORD_SIZE);  // skip the size
+            tiles.count(SCALED_INDEX);
+        }
+        return element;
+    }
+
+    /**
+     * Evaluates the specified arguments from left to right into the argument registers, from
+     * the second one on. The values are held in scratch registers if they all fit, and pushed
+     * otherwise, and moved into the argument registers at the end. A simple argument is only
+     * loaded then, straight into its register, if no later argument makes a call, which could
+     * change its value.
+     *
+     * @param el       The arguments.
+     * @param receiver Whether the object pointer is in <code>%rax</code>, and goes in the
+     *                 first argument register.
+     */
+    private void genArguments(ExpressionList el, boolean receiver) {
+        if (scratchCount != 0) {
+            // the scratch registers do not survive the call
+            throw new IllegalStateException();
+        }
+
+        var deferred = new boolean[el.size()];
+        boolean calls = false;
+        for (int i = el.size() - 1; i >= 0; i--) {
+            deferred[i] = !calls && RegisterNeed.isSimple(el.get(i));
+            calls |= need.of(el.get(i)) == RegisterNeed.UNBOUNDED;
+        }
+
+        // the values are held in scratch registers if every argument can be evaluated with
+        // those that are left
+        boolean fits = true;
+        int held = receiver ? 1 : 0;
+        for (int i = 0; i < el.size(); i++) {
+            if (!deferred[i]) {
+                fits &= need.of(el.get(i)) <= SCRATCH_REGISTERS.length - held;
+                held++;
+            }
+        }
+
+        var sources = new Register[el.size() + 1];  // by argument register
+        List<Integer> pushed = new ArrayList<>();
+        int last = receiver ? 0 : -1;  // the argument register of the value in rax
+        for (int i = 0; i < el.size(); i++) {
+            if (deferred[i]) {
+                continue;
+            }
+            if (last >= 0) {
+                if (fits) {
+                    sources[last] = SCRATCH_REGISTERS[scratchCount++];
+                    generator.genBinary(MOV, RAX, sources[last]);
+                } else {
+                    generator.genPush(RAX);
+                    pushed.add(last);
+                }
+            }
+            el.get(i).accept(this);
+            last = i + 1;
+        }
+
+        for (int k = pushed.size() - 1; k >= 0; k--) {
+            generator.genPop(generator.getArgumentRegister(pushed.get(k)));
+        }
+        var moves = new ParallelMove();
+        for (int k = 0; k < sources.length; k++) {
+            if (sources[k] != null) {
+                moves.add(sources[k], generator.getArgumentRegister(k));
+            }
+        }
+        if (last >= 0) {
+            moves.add(RAX, generator.getArgumentRegister(last));
+        }
+        moves.emit(generator, RAX);
+        scratchCount = 0;
+
+        for (int i = 0; i < el.size(); i++) {
+            if (deferred[i]) {
+                genLoad(el.get(i), generator.getArgumentRegister(i + 1));
+            }
+        }
+    }
+
+    /**
+     * Loads the value of the specified simple expression into the specified register, without
+     * touching any other register.
+     */
+    private void genLoad(Expression e, Register destination) {
+        if (e instanceof IntegerLiteral i) {
+            generator.genBinary(MOV, Immediate.of(i.i), destination);
+        } else if (e instanceof True) {
+            generator.genBinary(MOV, Immediate.of(1), destination);
+        } else if (e instanceof False || e instanceof NullLiteral) {
+            generator.genBinary(MOV, Immediate.of(0), destination);
+        } else if (e instanceof This) {
+            generator.genBinary(MOV, Memory.of(RBP, -Generator.WORD_SIZE), destination);  // load obj ptr
+        } else if (e instanceof IdentifierExp id) {
+            genVariable(lookupVariable(id), MOV, destination);
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Loads the value or, with <code>LEA</code>, the address of the specified variable into
+     * the specified register, without touching any other register.
+     */
+    private void genVariable(VariableInfo v, Operation op, Register destination) {
+        if (v.isInstanceVariable()) {
+            generator.genBinary(MOV, Memory.of(RBP, -Generator.WORD_SIZE), destination);  // load obj ptr
+            generator.genBinary(op, Memory.of(destination, v.getInstanceVariableOffset()), destination);
+        } else {
+            generator.genBinary(op, Memory.of(RBP, v.getOffset()), destination);
+        }
+    }
+
+    private VariableInfo lookupVariable(IdentifierExp n) {
+        var v = symbolContext.lookupVariable(n.id);
+        if (v == null) {
+            throw new IllegalStateException();
+        }
+        return v;
+    }
+
+    /**
+     * Throws if the divisor in the specified register is 0, unless it is known not to be.
+     */
+    private void genDivisorCheck(Expression divisor, Register register, int lineNumber) {
+        var c = TileMatcher.constant(divisor);
+        if (c != null && c != 0) {
+            return;  // literal divisor, e.g. folded by the constant folder
+        }
+        genTestZero(register);  // check if divisor is 0
+        genThrow(JE, "exception_division", lineNumber);  // division by 0 error
+    }
+
+    /**
+     * @return The label of the stub that aligns the stack and jumps to the specified exception
+     *         handler of the runtime.
+     */
+    private Label exception(String handler) {
+        exceptions.add(handler);
+        return Label.of("throw$" + handler);
+    }
+
+    /**
+     * Jumps with the specified operation to a stub, generated out of line, that loads the
+     * arguments of the specified exception handler of the runtime and jumps to it.
+     *
+     * @param jump      The conditional jump taken when the exception is detected.
+     * @param handler   The exception handler.
+     * @param arguments Loads the arguments of the handler, from registers that still hold the
+     *                  values they held at the jump.
+     */
+    private void genThrow(Operation jump, String handler, Consumer<Generator> arguments) {
+        var label = generator.nextLabel("throw");
+        var target = exception(handler);
+        generator.genUnary(jump, label);
+        throwStubs.add(() -> {
+            generator.genLabel(label);
+            arguments.accept(generator);
+            generator.genUnary(JMP, target);
+        });
+    }
+
+    /**
+     * Jumps with the specified operation to a stub that throws with the specified exception
+     * handler, whose only argument is the specified line number.
+     */
+    private void genThrow(Operation jump, String handler, int line) {
+        genThrow(jump, handler, g -> g.genBinary(MOV, Immediate.of(line), RDI));
+    }
+
+    /**
+     * Throws a null pointer exception on the specified line if <code>%rax</code> is null.
+     */
+    private void genNullCheck(int line) {
+        genTestZero(RAX);
+        genThrow(JE, "exception_null_pointer", line);
+    }
+
+    /**
+     * Compares the specified register against zero.
+     */
+    private void genTestZero(Register r) {
+        generator.genBinary(TEST, r, r);
+        tiles.count(COMPARE_ZERO);
+    }
+
+    /**
+     * Moves the specified operand into the register, unless it is that register.
+     */
+    private void genMove(ISource source, Register destination) {
+        if (source != destination) {
+            generator.genBinary(MOV, source, destination);
+        }
+    }
+
+    /**
+     * Generates the specified statement. An assignment or increment generated as a statement
+     * leaves no value in <code>%rax</code>.
+     */
+    private void genStatement(Statement s) {
+        statement = s;
+        s.accept(this);
+    }
+
+    /**
+     * @return The specified variable as a memory operand, loading the object pointer into the
+     *         specified register first if it is an instance variable.
+     */
+    private Memory genVariableOperand(VariableInfo v, Register objectScratch) {
+        if (v.isInstanceVariable()) {
+            generator.genBinary(MOV, Memory.of(RBP, -Generator.WORD_SIZE), objectScratch);  // load obj ptr
+            return Memory.of(objectScratch, v.getInstanceVariableOffset());
+        }
+        return Memory.of(RBP, v.getOffset());
+    }
+
+    /**
+     * Visits the specified increment or decrement, which applies the specified operation with
+     * 1 to its operand, leaving the value before it in <code>%rax</code> if <code>post</code>,
+     * and the value after it otherwise. A variable is updated in place.
+     */
+    private void visitIncrement(Increment n, Operation op, boolean post) {
+        boolean used = n != statement;
+        if (n.e instanceof IdentifierExp id) {
+            var target = genVariableOperand(lookupVariable(id), RDX);
+            if (used && post) {
+                generator.genBinary(MOV, target, RAX);  // load initial value into rax
+            }
+            generator.genBinary(op, Immediate.of(1), target);  // update value by 1
+            if (used && !post) {
+                generator.genBinary(MOV, target, RAX);  // load value into rax
+            }
+            tiles.count(READ_MODIFY_WRITE);
+            return;
+        }
+
+        generator.signalAssignable();
+        n.e.accept(this);
+        if (used && post) {
+            generator.genBinary(MOV, Memory.of(RAX, 0), RDX);  // load initial value into rdx
+        }
+        generator.genBinary(op, Immediate.of(1), Memory.of(RAX, 0));  // update value by 1
+        if (used) {
+            // move initial value or load value into rax
+            generator.genBinary(MOV, post ? RDX : Memory.of(RAX, 0), RAX);
+        }
+    }
+
     /**
      * Visits the specified assignment statement. Leaves the assignable address
      * (lvalue) in <code>%rdx</code> and the expression in <code>%rax</code>,
      * and then accepts the specified pre-assignment operations. Then, assigns
-     * to the lvalue.
+     * to the lvalue. The address of a variable does not depend on the
+     * expression, so it is only computed after it. Assignments of constants,
+     * of simple expressions to array elements, and updates of variables in
+     * place are matched first.
      *
      * @param n   The assignment statement.
      * @param ops The pre-assignment operations. These operations must leave
@@ -1325,16 +1723,124 @@ public final class CodeGenVisitor extends LazyVisitor {
      *            <code>%rax</code>.
      */
     private void visitAssign(Assign n, Consumer<Generator> ops) {
-        generator.signalAssignable();
-        n.e1.accept(this);
-
-        generator.genPush(RAX);  // push addr of var onto stack
-        n.e2.accept(this);
-        generator.genPop(RDX);  // pop lvalue off stack
+        boolean used = n != statement;
+        var c = n instanceof AssignSimple ? TileMatcher.constant(n.e2) : null;
+        if (n.e1 instanceof IdentifierExp id) {
+            var v = lookupVariable(id);
+            if (genAssignInPlace(n, v, used)) {
+                return;
+            }
+            n.e2.accept(this);
+            genVariable(v, LEA, RDX);
+        } else if (n.e1 instanceof ArrayLookup a && n instanceof AssignSimple && RegisterNeed.isSimple(n.e2)) {
+            var element = genElement(a);
+            if (c != null) {
+                generator.genBinary(MOV, Immediate.of(c), element);  // store constant into arr[i]
+                tiles.count(STORE_IMMEDIATE);
+                if (used) {
+                    generator.genBinary(MOV, Immediate.of(c), RAX);
+                }
+            } else {
+                genLoad(n.e2, RAX);
+                generator.genBinary(MOV, RAX, element);  // move rax to arr[i]
+            }
+            return;
+        } else if (c != null && !used) {
+            generator.signalAssignable();
+            n.e1.accept(this);
+            generator.genBinary(MOV, Immediate.of(c), Memory.of(RAX, 0));  // store constant into lvalue
+            tiles.count(STORE_IMMEDIATE);
+            return;
+        } else {
+            generator.signalAssignable();
+            n.e1.accept(this);
+            var operands = genRightOperand(n.e2, RDX, RAX, false);
+            genMove(operands.left(), RDX);
+        }
         ops.accept(generator);  // apply assignment ops to rax
         generator.genBinary(MOV, RAX, Memory.of(RDX, 0));  // move rax to lvalue
     }
 
+    /**
+     * Generates the specified assignment to a variable as one instruction on the variable in
+     * place, if it stores a constant, e.g. <code>x = 0</code>, or updates the variable with an
+     * operand that assigns to no variable, e.g. <code>x += e</code> or <code>x = x - 1</code>.
+     * An instance variable is only updated in place by a constant, since a call may assign to
+     * it. Leaves the new value in <code>%rax</code> if it is used.
+     * @return Whether the assignment matched.
+     */
+    private boolean genAssignInPlace(Assign n, VariableInfo v, boolean used) {
+        Operation op;
+        Expression operand;
+        if (n instanceof AssignSimple) {
+            var c = TileMatcher.constant(n.e2);
+            if (c != null) {
+                generator.genBinary(MOV, Immediate.of(c), genVariableOperand(v, RDX));  // store constant into var
+                tiles.count(STORE_IMMEDIATE);
+                if (used) {
+                    generator.genBinary(MOV, Immediate.of(c), RAX);
+                }
+                return true;
+            }
+            if (!(n.e2 instanceof BinaryExp b && b.e1 instanceof IdentifierExp id && lookupVariable(id) == v)) {
+                return false;
+            }
+            op = inPlaceOperation(b);
+            operand = b.e2;
+        } else {
+            op = inPlaceOperation(n);
+            operand = n.e2;
+        }
+
+        var c = TileMatcher.constant(operand);
+        boolean shift = op == SHL || op == SAR || op == SHR;
+        if (op == null || (c == null && (shift || v.isInstanceVariable() || !TileMatcher.assignsNothing(operand)))) {
+            return false;
+        }
+
+        ISource source = RAX;
+        if (c != null) {
+            source = Immediate.of(shift ? c & 63 : c);
+        } else {
+            operand.accept(this);
+        }
+        var target = genVariableOperand(v, RDX);
+        generator.genBinary(op, source, target);  // update var in place
+        tiles.count(READ_MODIFY_WRITE);
+        if (used) {
+            generator.genBinary(MOV, target, RAX);  // load value into rax
+        }
+        return true;
+    }
+
+    /**
+     * @return The operation that applies the specified binary expression or compound
+     *         assignment to a variable in place, or <code>null</code> if there is none.
+     */
+    private static Operation inPlaceOperation(Expression e) {
+        if (e instanceof Plus p) {
+            return p.e1.eval().type.equals(TypeInt.getInstance()) && p.e2.eval().type.equals(TypeInt.getInstance())
+                    ? ADD : null;
+        } else if (e instanceof AssignPlus a) {
+            return a.e1.eval().type.equals(TypeInt.getInstance()) ? ADD : null;
+        } else if (e instanceof Minus || e instanceof AssignMinus) {
+            return SUB;
+        } else if (e instanceof BitwiseAnd || e instanceof AssignAnd) {
+            return AND;
+        } else if (e instanceof BitwiseOr || e instanceof AssignOr) {
+            return OR;
+        } else if (e instanceof BitwiseXor || e instanceof AssignXor) {
+            return XOR;
+        } else if (e instanceof LeftShift || e instanceof AssignLeftShift) {
+            return SHL;
+        } else if (e instanceof RightShift || e instanceof AssignRightShift) {
+            return SAR;
+        } else if (e instanceof UnsignedRightShift || e instanceof AssignUnsignedRightShift) {
+            return SHR;
+        }
+        return null;
+    }
+
     /**
      * Visits the specified boolean-returning binary expression. Pops the flow
      * context, if any.
@@ -1345,11 +1851,13 @@ public final class CodeGenVisitor extends LazyVisitor {
         var trueLabel = generator.nextLabel("true");
         var joinLabel = generator.nextLabel("join");
 
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genPop(RDX);
-        generator.genBinary(CMP, RAX, RDX);
+        if (Integer.valueOf(0).equals(TileMatcher.constant(n.e2))) {
+            n.e1.accept(this);
+            genTestZero(RAX);
+        } else {
+            var operands = genOperands(n.e1, n.e2, RDX, RDX);
+            generator.genBinary(CMP, operands.right(), operands.left());
+        }
 
         if (n instanceof LessThan) {
             generator.genUnary(JL, trueLabel);
@@ -1389,17 +1897,12 @@ public final class CodeGenVisitor extends LazyVisitor {
     private void visitBinaryBitwiseExp(BinaryExp n) {
         var context = generator.pop();
 
-        n.e1.accept(this);
-        generator.genPush(RAX);
-        n.e2.accept(this);
-        generator.genPop(RDX);
-
         if (n instanceof BitwiseAnd) {
-            generator.genBinary(AND, RDX, RAX);
+            genCommutative(n, AND);
         } else if (n instanceof BitwiseOr) {
-            generator.genBinary(OR, RDX, RAX);
+            genCommutative(n, OR);
         } else if (n instanceof BitwiseXor) {
-            generator.genBinary(XOR, RDX, RAX);
+            genCommutative(n, XOR);
         } else {
             throw new IllegalStateException();
         }
@@ -1411,7 +1914,7 @@ public final class CodeGenVisitor extends LazyVisitor {
                 throw new IllegalStateException();
             }
 
-            generator.genBinary(CMP, Immediate.of(0), RAX);
+            genTestZero(RAX);
             if (!context.jumpIf()) {
                 generator.genUnary(JE, context.targetLabel());
             } else {
@@ -0,0 +1,49 @@
+package commons;
+
+/**
+ * How many times the compiler applied each of a set of transformations, such as the folds
+ * of the constant folder, the tiles of the instruction selector or the rewrites of the
+ * peephole optimizer, for tuning them against real programs.
+ * @param <E> The enumeration of the counted transformations.
+ */
+public final class Counts<E extends Enum<E>> {
+    private final Class<E> type;
+    private final long[] counts;
+
+    public Counts(Class<E> type) {
+        this.type = type;
+        this.counts = new long[type.getEnumConstants().length];
+    }
+
+    public void count(E e) {
+        counts[e.ordinal()]++;
+    }
+
+    public long get(E e) {
+        return counts[e.ordinal()];
+    }
+
+    public long total() {
+        long total = 0;
+        for (var count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * @return Every counted transformation, in declaration order.
+     */
+    public E[] keys() {
+        return type.getEnumConstants();
+    }
+
+    /**
+     * Adds the specified counts to these ones.
+     */
+    public void add(Counts<E> other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+}
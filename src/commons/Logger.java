@@ -5,17 +5,83 @@ public final class Logger {
     private int lineNumber;
     private int errorCount;
     private int warningCount;
+    private final StringBuilder buffer;  // held messages, or null if messages go straight to stderr
 
-    private static Logger instance;
+    private static final Logger global = new Logger();
+    private static final ThreadLocal<Logger> bound = new ThreadLocal<>();
 
+    /**
+     * @return The logger bound to the calling thread, or the process-wide
+     *         logger if no logger has been bound.
+     */
     public static Logger getInstance() {
-        if (instance == null) {
-            instance = new Logger();
-        }
-        return instance;
+        var logger = bound.get();
+        return logger != null ? logger : global;
+    }
+
+    /**
+     * @return The logger bound to the calling thread, or null if no logger has been bound.
+     */
+    public static Logger getBound() {
+        return bound.get();
+    }
+
+    /**
+     * @return A new logger, independent of all other loggers.
+     */
+    public static Logger create() {
+        return new Logger();
     }
 
-    private Logger() {}
+    /**
+     * Binds the specified logger to the calling thread, such that
+     * {@link Logger#getInstance()} returns it until {@link Logger#unbind()} is called.
+     * @param logger The logger to bind.
+     */
+    public static void bind(Logger logger) {
+        bound.set(logger);
+    }
+
+    /**
+     * Unbinds the logger bound to the calling thread, if any.
+     */
+    public static void unbind() {
+        bound.remove();
+    }
+
+    private Logger() {
+        this.buffer = null;
+    }
+
+    private Logger(String sourceFile) {
+        this.sourceFile = sourceFile;
+        this.buffer = new StringBuilder();
+    }
+
+    /**
+     * @return A new logger on the same source file as this one, which holds its messages
+     *         until they are {@linkplain #flushTo(Logger) flushed} to another logger.
+     */
+    public Logger buffered() {
+        return new Logger(sourceFile);
+    }
+
+    /**
+     * Moves the messages held by this logger, along with their error and warning
+     * counts, to the specified logger.
+     * @param logger The logger to flush to.
+     */
+    public void flushTo(Logger logger) {
+        if (buffer == null) {
+            throw new IllegalStateException();
+        }
+        logger.print(buffer.toString());
+        logger.errorCount += errorCount;
+        logger.warningCount += warningCount;
+        buffer.setLength(0);
+        errorCount = 0;
+        warningCount = 0;
+    }
 
     /**
      * Initializes the logger.
@@ -72,22 +138,30 @@ public final class Logger {
     }
 
     /**
-     * Logs an error to stderr.
+     * Logs an error to stderr, or holds it if this logger is buffered.
      * @param message The message to log.
      * @param args Format args.
      */
     public void logError(String message, Object... args) {
-        System.err.printf("ERROR @ " + sourceFile + ":" + lineNumber + ": " + message, args);
+        print(String.format("ERROR @ " + sourceFile + ":" + lineNumber + ": " + message, args));
         errorCount++;
     }
 
     /**
-     * Logs a warning to stderr.
+     * Logs a warning to stderr, or holds it if this logger is buffered.
      * @param message The message to log.
      * @param args Format args.
      */
     public void logWarning(String message, Object... args) {
-        System.err.printf("WARNING @ " + sourceFile + ":" + lineNumber + ": " + message, args);
+        print(String.format("WARNING @ " + sourceFile + ":" + lineNumber + ": " + message, args));
         warningCount++;
     }
+
+    private void print(String message) {
+        if (buffer != null) {
+            buffer.append(message);
+        } else {
+            System.err.print(message);
+        }
+    }
 }
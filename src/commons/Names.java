@@ -0,0 +1,109 @@
+package commons;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide intern table mapping identifiers to dense integer ids, so that
+ * symbol tables can be keyed by ints rather than by strings. Ids are shared by every
+ * compilation running at the same time, between {@link Names#acquire()} and
+ * {@link Names#release()}.
+ * <p>
+ * A long-running process, such as the compile server, keeps seeing new names, so once
+ * the last compilation releases the table while it holds more than {@link Names#MAX_NAMES}
+ * names, the table forgets all but the {@link Names#reserve(String) reserved} ones. An id
+ * is therefore only valid during the compilation which interned it, unless it is reserved.
+ */
+public final class Names {
+    public static final int MAX_NAMES = 1 << 20;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private static final BitSet reserved = new BitSet();
+    private static volatile String[] names = new String[INITIAL_CAPACITY];
+    private static int count;
+    private static int users;
+
+    private Names() {}
+
+    /**
+     * @return The id of the specified name, assigning the next free id if the name
+     *         has not been seen before.
+     */
+    public static int intern(String name) {
+        var id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (Names.class) {
+            id = ids.get(name);
+            if (id != null) {
+                return id;
+            }
+            if (count == names.length) {
+                names = Arrays.copyOf(names, count * 2);
+            }
+            names[count] = name;  // published before the id, which readers go through
+            ids.put(name, count);
+            return count++;
+        }
+    }
+
+    /**
+     * Interns the specified name for the life of the process, for ids held in static fields.
+     * @return The id of the specified name.
+     */
+    public static int reserve(String name) {
+        int id = intern(name);
+        synchronized (Names.class) {
+            reserved.set(id);
+        }
+        return id;
+    }
+
+    /**
+     * @return The name with the specified id.
+     * @throws IndexOutOfBoundsException If no name has the specified id.
+     */
+    public static String name(int id) {
+        var result = names[id];
+        if (result == null) {
+            throw new IndexOutOfBoundsException(id);
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the ids interned from now on valid until the calling compilation
+     * {@link Names#release() releases} the table.
+     */
+    public static synchronized void acquire() {
+        users++;
+    }
+
+    /**
+     * Releases the table previously {@link Names#acquire() acquired} by the calling
+     * compilation, clearing it if it is the last one and the table is too large.
+     */
+    public static synchronized void release() {
+        if (--users == 0 && count > MAX_NAMES) {
+            clear();
+        }
+    }
+
+    /**
+     * Forgets every name but the reserved ones, which keep their ids.
+     */
+    private static void clear() {
+        count = reserved.length();
+        var kept = new String[Math.max(INITIAL_CAPACITY, count)];
+        ids.clear();
+        for (int id = reserved.nextSetBit(0); id >= 0; id = reserved.nextSetBit(id + 1)) {
+            kept[id] = names[id];
+            ids.put(kept[id], id);
+        }
+        names = kept;
+    }
+}
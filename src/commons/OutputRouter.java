@@ -0,0 +1,104 @@
+package commons;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.function.IntSupplier;
+
+/**
+ * An output stream that forwards all writes to the target routed for the
+ * calling thread, or to a fallback stream if the calling thread has no target.
+ * Installed behind {@link System#out} and {@link System#err}, this lets several
+ * compilations share a JVM while each one's output is captured separately.
+ */
+public final class OutputRouter extends OutputStream {
+    private static OutputRouter stdout;
+    private static OutputRouter stderr;
+
+    private final OutputStream fallback;
+    private final ThreadLocal<OutputStream> target;
+
+    /**
+     * Installs routers behind {@link System#out} and {@link System#err}, unless already installed.
+     * Threads which have not routed their output keep writing to the original streams.
+     */
+    public static synchronized void installStandardStreams() {
+        if (stdout != null) {
+            return;
+        }
+        stdout = new OutputRouter(System.out);
+        stderr = new OutputRouter(System.err);
+        System.setOut(new PrintStream(stdout, true));
+        System.setErr(new PrintStream(stderr, true));
+    }
+
+    /**
+     * Runs the specified action, capturing everything the calling thread writes to
+     * {@link System#out} and {@link System#err} while it runs.
+     * @param action The action to run, returning an exit status.
+     * @return The exit status of the action, along with its captured output.
+     */
+    public static Captured capture(IntSupplier action) {
+        installStandardStreams();
+        var out = new ByteArrayOutputStream();
+        var err = new ByteArrayOutputStream();
+        var previousOut = stdout.target.get();
+        var previousErr = stderr.target.get();
+        stdout.route(out);
+        stderr.route(err);
+        try {
+            return new Captured(action.getAsInt(), out, err);
+        } finally {
+            System.out.flush();
+            System.err.flush();
+            stdout.target.set(previousOut);
+            stderr.target.set(previousErr);
+        }
+    }
+
+    /**
+     * The exit status and output of an action run by {@link OutputRouter#capture(IntSupplier)}.
+     */
+    public record Captured(int status, ByteArrayOutputStream out, ByteArrayOutputStream err) {}
+
+    public OutputRouter(OutputStream fallback) {
+        this.fallback = fallback;
+        this.target = new ThreadLocal<>();
+    }
+
+    /**
+     * Routes all writes made by the calling thread to the specified stream.
+     * @param out The stream to route to.
+     */
+    public void route(OutputStream out) {
+        target.set(out);
+    }
+
+    /**
+     * Routes all writes made by the calling thread back to the fallback stream.
+     */
+    public void unroute() {
+        target.remove();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        current().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        current().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        current().flush();
+    }
+
+    private OutputStream current() {
+        var out = target.get();
+        return out != null ? out : fallback;
+    }
+}
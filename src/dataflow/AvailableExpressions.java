@@ -0,0 +1,249 @@
+package dataflow;
+
+import ast.*;
+import semantics.info.ClassInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Available expressions over the block graph of a single member: a forward problem over
+ * {@link BitVector bit vectors} of {@link Computation computations}, met by intersection,
+ * where out[b] = gen[b] union (in[b] - kill[b]). A computation is available at a point if it
+ * is evaluated on every path to it, and none of its operands is assigned since. A call may
+ * assign any instance variable, so it kills the computations reading one.
+ */
+public final class AvailableExpressions {
+    /**
+     * A binary expression over variables and constants, identified by its text.
+     */
+    public record Computation(String text, Set<String> operands) {
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    private static final Map<Class<? extends BinaryExp>, String> operators = Map.ofEntries(
+            Map.entry(Plus.class, "+"),
+            Map.entry(Minus.class, "-"),
+            Map.entry(Times.class, "*"),
+            Map.entry(Divide.class, "/"),
+            Map.entry(Mod.class, "%"),
+            Map.entry(And.class, "&&"),
+            Map.entry(Or.class, "||"),
+            Map.entry(Equal.class, "=="),
+            Map.entry(NotEqual.class, "!="),
+            Map.entry(LessThan.class, "<"),
+            Map.entry(LessThanOrEqual.class, "<="),
+            Map.entry(GreaterThan.class, ">"),
+            Map.entry(GreaterThanOrEqual.class, ">="),
+            Map.entry(BitwiseAnd.class, "&"),
+            Map.entry(BitwiseOr.class, "|"),
+            Map.entry(BitwiseXor.class, "^"),
+            Map.entry(LeftShift.class, "<<"),
+            Map.entry(RightShift.class, ">>"),
+            Map.entry(UnsignedRightShift.class, ">>>"));
+
+    private final Block[] blocks;  // reachable blocks in reverse postorder, start first
+    private final Map<Computation, Integer> numbers;
+    private final List<Computation> computations;
+    private BitVector[] gen;  // by block number
+    private BitVector[] kill;
+    private DataflowSolution<BitVector> solution;
+
+    /**
+     * @param blocks The reachable blocks of the member, in reverse postorder, starting
+     *               with the start block. They must be numbered from 0 to
+     *               <code>blocks.length - 1</code>.
+     */
+    public AvailableExpressions(Block[] blocks) {
+        this.blocks = blocks;
+        this.numbers = new HashMap<>();
+        this.computations = new ArrayList<>();
+    }
+
+    /**
+     * Computes the available computations on entry to and exit from every block.
+     * @param class_ The class of the member, whose instance variables calls may assign.
+     * @return This {@link AvailableExpressions}.
+     */
+    public AvailableExpressions analyze(ClassInfo class_) {
+        Set<String> instanceVariables = new HashSet<>();
+        class_.getInstanceVariables().forEach(v -> instanceVariables.add(v.name));
+
+        // number the computations of every statement first, so that vectors have a fixed size
+        Map<Instruction, List<Integer>> evaluated = new HashMap<>();
+        for (var b : blocks) {
+            for (var i : b) {
+                if (i.getStatement() != null) {
+                    List<Integer> list = new ArrayList<>();
+                    StatementEffects.evaluated(i.getStatement()).forEach(e -> collect(e, list));
+                    evaluated.put(i, list);
+                }
+            }
+        }
+
+        // the computations reading each variable
+        int size = computations.size();
+        Map<String, BitVector> readers = new HashMap<>();
+        for (int n = 0; n < size; n++) {
+            for (var v : computations.get(n).operands()) {
+                readers.computeIfAbsent(v, k -> new BitVector(size)).set(n);
+            }
+        }
+
+        gen = new BitVector[blocks.length];
+        kill = new BitVector[blocks.length];
+        for (var b : blocks) {
+            var g = new BitVector(size);
+            var k = new BitVector(size);
+            for (var i : b) {
+                var s = i.getStatement();
+                if (s == null) {
+                    continue;
+                }
+                evaluated.get(i).forEach(g::set);
+                Set<String> assigned = new HashSet<>(StatementEffects.assigned(s));
+                if (StatementEffects.calls(s)) {
+                    assigned.addAll(instanceVariables);
+                }
+                var killed = new BitVector(size);
+                for (var v : assigned) {
+                    var r = readers.get(v);
+                    if (r != null) {
+                        killed.or(r);
+                    }
+                }
+                g.andNot(killed);
+                k.or(killed);
+            }
+            gen[b.getNumber()] = g;
+            kill[b.getNumber()] = k;
+        }
+
+        solution = WorklistSolver.solve(new DataflowProblem<>() {
+            private final BitVectorLattice lattice = BitVectorLattice.intersection(size);
+
+            @Override
+            public Direction getDirection() {
+                return Direction.FORWARD;
+            }
+
+            @Override
+            public Lattice<BitVector> getLattice() {
+                return lattice;
+            }
+
+            @Override
+            public BitVector getBoundary() {
+                return new BitVector(size);
+            }
+
+            @Override
+            public BitVector transfer(Block block, BitVector in) {
+                var out = in.copy();
+                out.andNot(kill[block.getNumber()]);
+                out.or(gen[block.getNumber()]);
+                return out;
+            }
+        }, blocks);
+        return this;
+    }
+
+    /**
+     * @return The computations available on entry to the specified block, in order of
+     *         first appearance.
+     */
+    public List<Computation> availableIn(Block b) {
+        List<Computation> result = new ArrayList<>();
+        solution.getIn(b).forEach(n -> result.add(computations.get(n)));
+        return result;
+    }
+
+    /**
+     * @return Every computation of the member, in order of first appearance.
+     */
+    public List<Computation> getComputations() {
+        return computations;
+    }
+
+    /**
+     * @return The solution, including the work it took to compute it.
+     */
+    public DataflowSolution<BitVector> getSolution() {
+        return solution;
+    }
+
+    /**
+     * Adds the number of every computation that the specified expression always evaluates
+     * to the specified list. The right operand of a conditional operator and the branches
+     * of a ternary may not be evaluated, so their computations are left out.
+     */
+    private void collect(Expression e, List<Integer> evaluated) {
+        var pending = new ArrayList<Expression>();
+        pending.add(e);
+        while (!pending.isEmpty()) {
+            var x = pending.remove(pending.size() - 1);
+            if (x instanceof BinaryExp b) {
+                var c = computationOf(b);
+                if (c != null) {
+                    evaluated.add(numbers.computeIfAbsent(c, k -> {
+                        computations.add(k);
+                        return computations.size() - 1;
+                    }));
+                }
+            }
+            if (x instanceof And a) {
+                pending.add(a.e1);
+            } else if (x instanceof Or o) {
+                pending.add(o.e1);
+            } else if (x instanceof Ternary t) {
+                pending.add(t.c);
+            } else {
+                pending.addAll(StatementEffects.children(x));
+            }
+        }
+    }
+
+    /**
+     * @return The computation of the specified expression, or <code>null</code> if it
+     *         reads anything other than variables and constants.
+     */
+    private static Computation computationOf(BinaryExp b) {
+        Set<String> operands = new HashSet<>();
+        var text = textOf(b, operands);
+        return text == null ? null : new Computation(text, Set.copyOf(operands));
+    }
+
+    private static String textOf(Expression e, Set<String> operands) {
+        if (e instanceof IdentifierExp id) {
+            operands.add(id.s);
+            return id.s;
+        } else if (e instanceof IntegerLiteral i) {
+            return Integer.toString(i.i);
+        } else if (e instanceof True) {
+            return "true";
+        } else if (e instanceof False) {
+            return "false";
+        } else if (e instanceof BinaryExp b) {
+            var left = textOf(b.e1, operands);
+            var right = left == null ? null : textOf(b.e2, operands);
+            if (right == null) {
+                return null;
+            }
+            if (b.e1 instanceof BinaryExp) {
+                left = "(" + left + ")";
+            }
+            if (b.e2 instanceof BinaryExp) {
+                right = "(" + right + ")";
+            }
+            return left + " " + operators.get(b.getClass()) + " " + right;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package dataflow;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A fixed-size set of small integers, packed into <code>long</code> words, for dense
+ * dataflow facts. Bulk operations update this vector in place and report whether it changed.
+ */
+public final class BitVector {
+    private final int size;
+    private final long[] words;
+
+    public BitVector(int size) {
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * @return A vector of the specified size with every bit set.
+     */
+    public static BitVector full(int size) {
+        var v = new BitVector(size);
+        Arrays.fill(v.words, -1L);
+        if ((size & 63) != 0) {
+            v.words[v.words.length - 1] = (1L << size) - 1;
+        }
+        return v;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean get(int i) {
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    public void set(int i) {
+        words[i >>> 6] |= 1L << i;
+    }
+
+    public void clear(int i) {
+        words[i >>> 6] &= ~(1L << i);
+    }
+
+    /**
+     * Adds the bits of the specified vector to this one.
+     * @return Whether this vector changed.
+     */
+    public boolean or(BitVector other) {
+        boolean changed = false;
+        for (int w = 0; w < words.length; w++) {
+            long bits = words[w] | other.words[w];
+            changed |= bits != words[w];
+            words[w] = bits;
+        }
+        return changed;
+    }
+
+    /**
+     * Keeps only the bits of this vector that are also set in the specified vector.
+     * @return Whether this vector changed.
+     */
+    public boolean and(BitVector other) {
+        boolean changed = false;
+        for (int w = 0; w < words.length; w++) {
+            long bits = words[w] & other.words[w];
+            changed |= bits != words[w];
+            words[w] = bits;
+        }
+        return changed;
+    }
+
+    /**
+     * Removes the bits of the specified vector from this one.
+     * @return Whether this vector changed.
+     */
+    public boolean andNot(BitVector other) {
+        boolean changed = false;
+        for (int w = 0; w < words.length; w++) {
+            long bits = words[w] & ~other.words[w];
+            changed |= bits != words[w];
+            words[w] = bits;
+        }
+        return changed;
+    }
+
+    public BitVector copy() {
+        var v = new BitVector(size);
+        System.arraycopy(words, 0, v.words, 0, words.length);
+        return v;
+    }
+
+    public int cardinality() {
+        int n = 0;
+        for (long w : words) {
+            n += Long.bitCount(w);
+        }
+        return n;
+    }
+
+    /**
+     * Performs the specified action for every set bit, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int w = 0; w < words.length; w++) {
+            for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+                action.accept((w << 6) + Long.numberOfTrailingZeros(bits));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BitVector v && size == v.size && Arrays.equals(words, v.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("{");
+        forEach(i -> sb.append(sb.length() > 1 ? ", " : "").append(i));
+        return sb.append('}').toString();
+    }
+}
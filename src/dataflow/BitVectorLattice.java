@@ -0,0 +1,55 @@
+package dataflow;
+
+/**
+ * The lattice of {@link BitVector bit vectors} of a fixed size, met by union for problems
+ * that ask whether a fact holds on some path (e.g. live variables), or by intersection for
+ * problems that ask whether it holds on every path (e.g. available expressions).
+ */
+public final class BitVectorLattice implements Lattice<BitVector> {
+    private final int size;
+    private final boolean intersection;
+
+    private BitVectorLattice(int size, boolean intersection) {
+        this.size = size;
+        this.intersection = intersection;
+    }
+
+    /**
+     * @return The lattice of vectors of the specified size, with the empty vector on top.
+     */
+    public static BitVectorLattice union(int size) {
+        return new BitVectorLattice(size, false);
+    }
+
+    /**
+     * @return The lattice of vectors of the specified size, with the full vector on top.
+     */
+    public static BitVectorLattice intersection(int size) {
+        return new BitVectorLattice(size, true);
+    }
+
+    @Override
+    public BitVector top() {
+        return intersection ? BitVector.full(size) : new BitVector(size);
+    }
+
+    @Override
+    public BitVector meet(BitVector a, BitVector b) {
+        if (intersection) {
+            a.and(b);
+        } else {
+            a.or(b);
+        }
+        return a;
+    }
+
+    @Override
+    public BitVector copy(BitVector a) {
+        return a.copy();
+    }
+
+    @Override
+    public boolean equal(BitVector a, BitVector b) {
+        return a.equals(b);
+    }
+}
@@ -18,7 +18,6 @@ public final class Block implements Iterable<Instruction> {
     private int number;
 
     private final List<Instruction> instructions;
-    private final LiveVariableAnalyzer liveVariableAnalyzer;
 
     public static Block createStart(Instruction start) {
         var block = new Block(start, BlockType.START);
@@ -36,9 +35,8 @@ public final class Block implements Iterable<Instruction> {
 
     private Block(BlockType type) {
         this.instructions = new ArrayList<>();
-        this.next = new HashSet<>();
+        this.next = new LinkedHashSet<>();  // deterministic successor order
         this.type = type;
-        this.liveVariableAnalyzer = new LiveVariableAnalyzer();
     }
 
     private Block(Instruction leader, BlockType type) {
@@ -89,8 +87,4 @@ public final class Block implements Iterable<Instruction> {
     public Instruction getInstruction(int i) {
         return instructions.get(i);
     }
-
-    public LiveVariableAnalyzer variables() {
-        return liveVariableAnalyzer;
-    }
 }
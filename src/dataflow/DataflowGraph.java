@@ -2,7 +2,6 @@ package dataflow;
 
 import ast.*;
 import dataflow.visitor.DataflowVisitor;
-import dataflow.visitor.LiveVariableVisitor;
 import java_cup.runtime.ComplexSymbolFactory.Location;
 import commons.Logger;
 import semantics.info.ClassInfo;
@@ -12,8 +11,6 @@ import semantics.table.SymbolContext;
 import semantics.type.TypeVoid;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Consumer;
 
 public final class DataflowGraph {
     private final DataflowVisitor dataflowVisitor;
@@ -21,8 +18,9 @@ public final class DataflowGraph {
     private final MemberInfo member;
     private final ClassInfo class_;
     private final StatementList statements;
-    private Deque<Instruction> instructionGraph;
-    private Deque<Block> blockGraph;
+    private List<Instruction> instructionGraph;
+    private Block[] blockGraph;  // in order of construction, starting with the start block
+    private Block[] reversePostorder;
 
     /**
      * Initializes a new {@link DataflowGraph}.
@@ -34,14 +32,30 @@ public final class DataflowGraph {
     public static DataflowGraph create(SymbolContext symbolContext,
                                        MemberInfo member,
                                        StatementList statements) {
-        return new DataflowGraph(symbolContext, member, statements);
+        return create(symbolContext, member, statements, Logger.getInstance());
+    }
+
+    /**
+     * Initializes a new {@link DataflowGraph}, which reports to the specified logger.
+     * @param symbolContext The current symbol context.
+     * @param member The member containing the statements.
+     * @param statements The statements to track.
+     * @param logger The logger to report errors to.
+     * @return A new {@link DataflowGraph}.
+     */
+    public static DataflowGraph create(SymbolContext symbolContext,
+                                       MemberInfo member,
+                                       StatementList statements,
+                                       Logger logger) {
+        return new DataflowGraph(symbolContext, member, statements, logger);
     }
 
     private DataflowGraph(SymbolContext symbolContext,
                           MemberInfo member,
-                          StatementList statements) {
+                          StatementList statements,
+                          Logger logger) {
         this.dataflowVisitor = new DataflowVisitor(symbolContext);
-        this.logger = Logger.getInstance();
+        this.logger = logger;
         this.member = member;
         this.class_ = symbolContext.getCurrentClass();
         this.statements = statements;
@@ -88,6 +102,28 @@ public final class DataflowGraph {
         return this;
     }
 
+    /**
+     * @return The blocks of this dataflow graph, starting with the start block.
+     *         Excludes the end block.
+     */
+    public List<Block> getBlocks() {
+        if (blockGraph == null) {
+            throw new IllegalStateException();
+        }
+        return List.of(blockGraph);
+    }
+
+    /**
+     * @return The blocks reachable from the start block, in reverse postorder, as the
+     *         analyses in this package expect them.
+     */
+    public Block[] getReversePostorder() {
+        if (reversePostorder == null) {
+            throw new IllegalStateException();
+        }
+        return reversePostorder.clone();
+    }
+
     /**
      * Prints the instructions in this dataflow graph.
      */
@@ -108,26 +144,58 @@ public final class DataflowGraph {
         printBlockGraph();
     }
 
+    /**
+     * Partitions the instruction graph into blocks. Blocks are discovered depth-first from
+     * the start block, with an explicit stack rather than recursion so that long or deeply
+     * nested members cannot overflow the thread stack. Successors are visited in the order
+     * they appear in the instructions, which fixes the block numbering.
+     */
     private void constructBlockGraph() {
-        var istart = instructionGraph.peekFirst();
-        assert(istart != null);
+        var istart = instructionGraph.get(0);
+        List<Block> preorder = new ArrayList<>();
+        List<Block> postorder = new ArrayList<>();
 
-        blockGraph = new LinkedList<>();
         var start = Block.createStart(istart);
-        blockGraph.offerLast(start);
+        preorder.add(start);
 
         var ifirst = istart.getNext();
         if (ifirst.getType() != InstructionType.END) {
             var first = Block.fromLeader(ifirst);
             start.addNext(first);
-            constructBlockGraphRec(first);
+
+            Deque<BlockFrame> stack = new ArrayDeque<>();
+            stack.push(enterBlock(first, preorder));
+            while (!stack.isEmpty()) {
+                var frame = stack.peek();
+                if (frame.next < frame.successors.size()) {
+                    var block = buildBlock(frame.block, frame.successors.get(frame.next++));
+                    if (block != null) {
+                        stack.push(enterBlock(block, preorder));
+                    }
+                } else {
+                    postorder.add(stack.pop().block);
+                }
+            }
         } else {
             start.addNext(Block.END);
         }
+        postorder.add(start);
+
+        blockGraph = preorder.toArray(new Block[0]);
+        reversePostorder = new Block[postorder.size()];
+        for (int k = 0; k < reversePostorder.length; k++) {
+            reversePostorder[k] = postorder.get(postorder.size() - 1 - k);
+        }
     }
 
-    private void constructBlockGraphRec(Block block) {
-        blockGraph.offerLast(block);
+    /**
+     * Collects the instructions of the specified new block, up to the next leader.
+     * @return The frame of the block, holding the leaders of its successors in order.
+     *         Some may be null.
+     */
+    private BlockFrame enterBlock(Block block, List<Block> preorder) {
+        preorder.add(block);
+        var frame = new BlockFrame(block);
 
         var i = block.getLeader();
         if (i.hasNext()) {
@@ -135,40 +203,42 @@ public final class DataflowGraph {
             while (n != null && !n.isLeader()) {
                 block.addInstruction(n);
                 if (n.hasTarget()) {
-                    buildBlock(block, n.getTarget());
+                    frame.successors.add(n.getTarget());
                 }
                 n = n.getNext();
             }
-            buildBlock(block, n);
+            frame.successors.add(n);
         }
 
         if (i.hasTarget()) {
-            buildBlock(block, i.getTarget());
+            frame.successors.add(i.getTarget());
         }
+        return frame;
     }
 
-    private void buildBlock(Block prev, Instruction i) {
+    /**
+     * Links the specified block to the block led by the specified instruction.
+     * @return The block led by the instruction, if it was created by this call.
+     */
+    private Block buildBlock(Block prev, Instruction i) {
         if (i == null) {
-            return;
+            return null;
         }
 
         if (i.getType() == InstructionType.END) {
             prev.addNext(Block.END);
-            return;
+            return null;
         }
 
         // invariant - i is a leader at this point
         boolean remaining = !i.hasBlock();
         var block = remaining ? Block.fromLeader(i) : i.getBlock();
         prev.addNext(block);
-
-        if (remaining) {
-            constructBlockGraphRec(block);
-        }
+        return remaining ? block : null;
     }
 
     private void printBlockGraph() {
-        blockGraph.forEach(b -> {
+        Arrays.stream(blockGraph).forEach(b -> {
             System.out.print(b.getType() == BlockType.START ? "<start>" :
                     ("Block " + b.getNumber()));
             if (b.hasNext()) {
@@ -189,108 +259,21 @@ public final class DataflowGraph {
     }
 
     private void validateDeclarations() {
-        var liveVariableVisitor = new LiveVariableVisitor();
-
-        // compute use and def sets for each block
-        visitBlocks(b -> {
-            // Def set of first block should include method parameters and instance variables
-            if (b.isFirst()) {
-                member.getArgumentNames().forEach(arg -> {
-                    b.variables().getDefSet().add(new Symbol(arg, member.lineNumber));
-                });
-                class_.getInstanceVariables().forEach(v -> {
-                    b.variables().getDefSet().add(new Symbol(v.name, v.lineNumber));
-                });
-            }
-            b.forEach(i -> {
-                var s = i.getStatement();
-                if (s != null) {
-                    s.accept(liveVariableVisitor);
-                    b.variables().getDefSet().addAll(s.defined);
-
-                    s.used.forEach(v -> {
-                        if (!b.variables().getDefSet().contains(v)) {
-                            b.variables().getUseSet().add(v);
-                        }
-                    });
-                }
-            });
-        });
-
-        // compute in and out sets for each block
-        int previousSize = 0;
-        while (true) {
-            var size = new AtomicInteger();
-            visitBlocks(b -> {
-                // in[b] = use[b] union (out[b] - def[b])
-                var diff = new HashSet<>(b.variables().getOutSet());
-                diff.removeAll(b.variables().getDefSet());
-                b.variables().getInSet().addAll(b.variables().getUseSet());
-                b.variables().getInSet().addAll(diff);
-
-                // out[b] = union of in[s] for all s in succ[b]
-                b.getNext().forEach(s -> b.variables().getOutSet().addAll(s.variables().getInSet()));
-
-                // update with sizes of in & out sets
-                size.getAndAdd(b.variables().getInSet().size());
-                size.getAndAdd(b.variables().getOutSet().size());
-            });
-
-            // if size is unchanged, we're done updating in & out sets
-            if (previousSize == size.get()) {
-                break;
-            }
-
-            // update previous size
-            previousSize = size.get();
-        }
-
-        var start = blockGraph.pollFirst();
-        var first = blockGraph.peekFirst();
-        blockGraph.offerFirst(start);
-
-        if (first == null) {  // if we don't have a first block, we're done with validation
+        var blocks = reversePostorder;
+        if (blocks.length < 2) {  // if we don't have a first block, we're done with validation
             return;
         }
 
-        // all live variable validation sets have been constructed.
-        // any variables belonging to in[first block] that are not method parameters
-        // or instance variables at this point must be uninitialized
-        first.variables().getInSet().forEach(v -> {
+        // any variable used where it is not definitely assigned is uninitialized on some path
+        // from the start of the member. report them in source order
+        var uninitialized = new DefiniteAssignment(blocks).analyze(member, class_).uninitializedVariables();
+        uninitialized.sort(Comparator.comparingInt(Symbol::lineNumber).thenComparing(Symbol::name));
+        uninitialized.forEach(v -> {
             logger.setLineNumber(v.lineNumber());
             logger.logError("Uninitialized variable \"%s\"%n", v.name());
         });
     }
 
-    /**
-     * Visits this dataflow graph's blocks in topological order.
-     * @param action The action to apply to each block.
-     */
-    private void visitBlocks(Consumer<Block> action) {
-        if (blockGraph.isEmpty()) {
-            throw new IllegalStateException();
-        }
-        var b = blockGraph.peekFirst();
-        Set<Block> visited = new HashSet<>();
-        visited.add(b);
-        visitBlocksRec(b, action, visited);
-    }
-
-    private void visitBlocksRec(Block b, Consumer<Block> action, Set<Block> visited) {
-        b.getNext().forEach(s -> {
-            if (!visited.contains(s) && s.getType() != BlockType.END) {
-                action.accept(s);
-            }
-        });
-
-        b.getNext().forEach(s -> {
-            if (!visited.contains(s)) {
-                visited.add(s);
-                visitBlocksRec(s, action, visited);
-            }
-        });
-    }
-
     private void validateReturn() {
         if (!(member instanceof MethodInfo method)) {
             return;
@@ -341,47 +324,61 @@ public final class DataflowGraph {
     }
 
     private void reduceInstructionGraph() {
-        var itr = instructionGraph.iterator();
-        while (itr.hasNext()) {
-            var i = itr.next();
+        List<Instruction> reduced = new ArrayList<>(instructionGraph.size());
+        for (var i : instructionGraph) {
             if (i.getType() != InstructionType.BLOCK &&
                     i.getType() != InstructionType.ELSE) {
+                reduced.add(i);
                 continue;
             }
 
             i.propagateReferences();
-            itr.remove();
         }
+        instructionGraph = reduced;
     }
 
     private void constructInstructionGraph(StatementList statements) {
         var end = Instruction.createEnd(member.endLineNumber);
-        var instructions = constructInstructionGraphRec(statements, end);
+        List<Instruction> instructions = new ArrayList<>();
+        instructions.add(null);  // start instruction
+        constructInstructionList(statements, end, instructions);
 
-        var first = instructions.peekFirst();
-        if (first != null) {  // start instruction
-            instructions.offerFirst(Instruction.createStart(member.lineNumber, first));
-        } else {
-            instructions.offerFirst(Instruction.createStart(member.lineNumber, end));
-        }
+        var first = instructions.size() > 1 ? instructions.get(1) : end;
+        instructions.set(0, Instruction.createStart(member.lineNumber, first));
 
         instructionGraph = instructions;
     }
 
-    private Deque<Instruction> constructInstructionGraphRec(StatementList statements,
-                                                            Instruction end) {
-        Deque<Instruction> remaining = new LinkedList<>();
-        Deque<Instruction> done = new LinkedList<>();
-
-        for (var statement : statements) {
-            remaining.offerLast(Instruction.fromStatement(statement));
-        }
+    /**
+     * Appends the instructions of the specified statements to the specified list. Nested
+     * blocks are expanded with an explicit stack of statement lists rather than recursion.
+     * Instructions that fall off the end of the statements are left pointing to the
+     * specified end instruction.
+     */
+    private void constructInstructionList(StatementList statements, Instruction end,
+                                          List<Instruction> instructions) {
+        Deque<InstructionFrame> stack = new ArrayDeque<>();
+        stack.push(new InstructionFrame(statements, null, null));
+
+        while (!stack.isEmpty()) {
+            var frame = stack.peek();
+            if (frame.remaining.isEmpty()) {
+                stack.pop();
+                var parent = stack.peek();
+                if (parent != null) {
+                    closeBlock(frame, parent.done);
+                } else {
+                    instructions.addAll(frame.done);
+                }
+                continue;
+            }
 
-        while (!remaining.isEmpty()) {
+            var remaining = frame.remaining;
+            var done = frame.done;
             var i = remaining.pollFirst();
             var nexti = remaining.isEmpty() ? end : remaining.peekFirst();
 
-            done.offerLast(i);
+            done.add(i);
 
             if (i.isJump()) {
                 continue;
@@ -389,41 +386,12 @@ public final class DataflowGraph {
 
             var s = i.getStatement();
             if (s instanceof ast.Block b) {
-                var block = constructInstructionGraphRec(b.sl, end);
-                if (!block.isEmpty()) {
-                    i.setNext(block.peekFirst());
-                    block.forEach(blocki -> {
-                        if (blocki.getNext() != null &&
-                                blocki.getNext().getType() == InstructionType.END &&
-                                !blocki.isJump()) {
-                            if (nexti.getType() == InstructionType.ELSE) {
-                                assert(nexti.getNext() != null);
-                                blocki.setNext(nexti.getNext().getNext());
-                            } else {
-                                blocki.setNext(nexti);
-                            }
-                        }
-                        if (blocki.getTarget() != null &&
-                                blocki.getTarget().getType() == InstructionType.END) {
-                            if (nexti.getType() == InstructionType.ELSE) {
-                                assert(nexti.getNext() != null);
-                                blocki.setTarget(nexti.getNext().getNext());
-                            } else {
-                                blocki.setTarget(nexti);
-                            }
-                        }
-                        done.offerLast(blocki);
-                    });
-                } else {
-                    i.setNext(nexti);
-                }
+                stack.push(new InstructionFrame(b.sl, i, nexti));
             } else if (s instanceof If if_) {
                 var ifBranch = Instruction.fromStatement(if_.s, nexti);
                 remaining.offerFirst(ifBranch);
                 i.setNext(ifBranch);
-                var temp = done.pollLast();
-                var prev = done.peekLast();
-                done.offerLast(temp);
+                var prev = done.size() > 1 ? done.get(done.size() - 2) : null;
                 if (prev != null && prev.getType() == InstructionType.FOR) {
                     assert(nexti != null);
                 } else {
@@ -489,8 +457,44 @@ public final class DataflowGraph {
                 i.setNext(nexti);
             }
         }
+    }
 
-        return done;
+    /**
+     * Links the block instruction of the specified finished frame to the instructions of
+     * the block, and redirects those falling off the end of the block to the instruction
+     * following it.
+     */
+    private void closeBlock(InstructionFrame frame, List<Instruction> done) {
+        var i = frame.block;
+        var nexti = frame.blockNext;
+        if (frame.done.isEmpty()) {
+            i.setNext(nexti);
+            return;
+        }
+
+        i.setNext(frame.done.get(0));
+        frame.done.forEach(blocki -> {
+            if (blocki.getNext() != null &&
+                    blocki.getNext().getType() == InstructionType.END &&
+                    !blocki.isJump()) {
+                if (nexti.getType() == InstructionType.ELSE) {
+                    assert(nexti.getNext() != null);
+                    blocki.setNext(nexti.getNext().getNext());
+                } else {
+                    blocki.setNext(nexti);
+                }
+            }
+            if (blocki.getTarget() != null &&
+                    blocki.getTarget().getType() == InstructionType.END) {
+                if (nexti.getType() == InstructionType.ELSE) {
+                    assert(nexti.getNext() != null);
+                    blocki.setTarget(nexti.getNext().getNext());
+                } else {
+                    blocki.setTarget(nexti);
+                }
+            }
+            done.add(blocki);
+        });
     }
 
     private void printInstructionGraph() {
@@ -528,4 +532,38 @@ public final class DataflowGraph {
             b.setNumber(n++);
         }
     }
+
+    /**
+     * A statement list whose instructions are being constructed.
+     */
+    private static final class InstructionFrame {
+        final Deque<Instruction> remaining;
+        final List<Instruction> done;
+        final Instruction block;  // the block instruction the statements belong to, if any
+        final Instruction blockNext;  // the instruction following the block
+
+        InstructionFrame(StatementList statements, Instruction block, Instruction blockNext) {
+            this.remaining = new ArrayDeque<>(statements.size());
+            this.done = new ArrayList<>();
+            this.block = block;
+            this.blockNext = blockNext;
+            for (var statement : statements) {
+                remaining.offerLast(Instruction.fromStatement(statement));
+            }
+        }
+    }
+
+    /**
+     * A block whose successors are being constructed.
+     */
+    private static final class BlockFrame {
+        final Block block;
+        final List<Instruction> successors;
+        int next;
+
+        BlockFrame(Block block) {
+            this.block = block;
+            this.successors = new ArrayList<>(2);
+        }
+    }
 }
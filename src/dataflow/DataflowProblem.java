@@ -0,0 +1,24 @@
+package dataflow;
+
+/**
+ * A dataflow problem over the block graph of a member, to be solved by {@link WorklistSolver}.
+ * The input of a block is the meet of the outputs of its predecessors (forward) or successors
+ * (backward), and its output is the transfer function of the block applied to its input.
+ */
+public interface DataflowProblem<F> {
+    Direction getDirection();
+
+    Lattice<F> getLattice();
+
+    /**
+     * @return The fact on entry to the start block of a forward problem, or on exit from the
+     *         blocks leaving the member for a backward problem.
+     */
+    F getBoundary();
+
+    /**
+     * @return The output of the specified block for the specified input, which must be left
+     *         unchanged.
+     */
+    F transfer(Block block, F input);
+}
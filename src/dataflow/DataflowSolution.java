@@ -0,0 +1,49 @@
+package dataflow;
+
+import lombok.Getter;
+
+/**
+ * The facts on entry to and exit from every block of a member, as computed by
+ * {@link WorklistSolver}, along with the work it took to compute them.
+ */
+public final class DataflowSolution<F> {
+    private final Object[] in;  // by block number
+    private final Object[] out;
+    @Getter
+    private final int blockCount;
+    @Getter
+    private final int visits;  // transfer function applications
+    @Getter
+    private final int changes;  // visits that changed the output of a block
+
+    DataflowSolution(Object[] in, Object[] out, int visits, int changes) {
+        this.in = in;
+        this.out = out;
+        this.blockCount = in.length;
+        this.visits = visits;
+        this.changes = changes;
+    }
+
+    /**
+     * @return The fact on entry to the specified block.
+     */
+    @SuppressWarnings("unchecked")
+    public F getIn(Block b) {
+        return (F) in[b.getNumber()];
+    }
+
+    /**
+     * @return The fact on exit from the specified block.
+     */
+    @SuppressWarnings("unchecked")
+    public F getOut(Block b) {
+        return (F) out[b.getNumber()];
+    }
+
+    /**
+     * @return The average number of times the transfer function of a block was applied.
+     */
+    public double getVisitsPerBlock() {
+        return blockCount == 0 ? 0 : (double) visits / blockCount;
+    }
+}
@@ -0,0 +1,86 @@
+package dataflow;
+
+import semantics.info.ClassInfo;
+import semantics.info.MemberInfo;
+
+import java.util.List;
+
+/**
+ * Definite assignment analysis over the block graph of a single member: a forward problem
+ * over {@link BitVector bit vectors} of variables, met by intersection, where
+ * out[b] = in[b] union def[b]. A variable is definitely assigned on entry to a block if it
+ * is declared on every path from the start of the member; the parameters of the member and
+ * the instance variables of its class are assigned on entry.
+ */
+public final class DefiniteAssignment {
+    private final Block[] blocks;  // reachable blocks in reverse postorder, start first
+    private UseDefSets sets;
+    private DataflowSolution<BitVector> solution;
+
+    /**
+     * @param blocks The reachable blocks of the member, in reverse postorder, starting
+     *               with the start block. They must be numbered from 0 to
+     *               <code>blocks.length - 1</code>.
+     */
+    public DefiniteAssignment(Block[] blocks) {
+        this.blocks = blocks;
+    }
+
+    /**
+     * Computes the definitely assigned variables on entry to and exit from every block.
+     * @param member The member, whose parameters are assigned on entry.
+     * @param class_ The class of the member, whose instance variables are assigned on entry.
+     * @return This {@link DefiniteAssignment}.
+     */
+    public DefiniteAssignment analyze(MemberInfo member, ClassInfo class_) {
+        sets = new UseDefSets(blocks, member, class_);
+        solution = WorklistSolver.solve(new DataflowProblem<>() {
+            private final BitVectorLattice lattice = BitVectorLattice.intersection(sets.size());
+
+            @Override
+            public Direction getDirection() {
+                return Direction.FORWARD;
+            }
+
+            @Override
+            public Lattice<BitVector> getLattice() {
+                return lattice;
+            }
+
+            @Override
+            public BitVector getBoundary() {
+                return sets.getEntry();
+            }
+
+            @Override
+            public BitVector transfer(Block block, BitVector in) {
+                var out = in.copy();
+                out.or(sets.getDef(block));
+                return out;
+            }
+        }, blocks);
+        return this;
+    }
+
+    /**
+     * @return The variables that are used somewhere without being definitely assigned, each
+     *         as its first use that is not preceded by a definition in the same block.
+     */
+    public List<Symbol> uninitializedVariables() {
+        var uninitialized = new BitVector(sets.size());
+        for (var b : blocks) {
+            // a use preceded by a definition in the same block is assigned
+            var unassigned = sets.getUse(b).copy();
+            unassigned.andNot(solution.getIn(b));
+            uninitialized.or(unassigned);
+        }
+        return sets.toSymbols(uninitialized);
+    }
+
+    /**
+     * @return The solution, including the work it took to compute it.
+     */
+    public DataflowSolution<BitVector> getSolution() {
+        return solution;
+    }
+}
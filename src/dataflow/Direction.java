@@ -0,0 +1,10 @@
+package dataflow;
+
+/**
+ * The direction in which facts flow through a {@link DataflowProblem}: forward problems
+ * compute the facts on exit from a block from those on entry, backward problems the reverse.
+ */
+public enum Direction {
+    FORWARD,
+    BACKWARD
+}
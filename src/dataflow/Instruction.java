@@ -4,8 +4,8 @@ import ast.*;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class Instruction {
     @Getter
@@ -14,10 +14,10 @@ public final class Instruction {
     private final InstructionType type;
     @Getter
     private Instruction next;
-    private final Set<Instruction> prev;
+    private List<Instruction> prev;  // null while empty, as are the instructions targeting this one
     @Getter
     private Instruction target;
-    private final Set<Instruction> targeting;
+    private List<Instruction> targeting;
     @Setter
     @Getter
     private int number;
@@ -37,7 +37,7 @@ public final class Instruction {
         var start = new Instruction(InstructionType.START, 0);
         start.lineNumber = lineNumber;
         start.next = to;
-        to.prev.add(start);
+        to.prev = link(to.prev, start);
         return start;
     }
 
@@ -87,12 +87,10 @@ public final class Instruction {
         this.type = type;
         this.next = next;
         this.target = target;
-        this.prev = new HashSet<>();
-        this.targeting = new HashSet<>();
         this.lineNumber = statement != null ? statement.lineNumber : -1;
 
-        if (next != null) next.prev.add(this);
-        if (target != null) target.targeting.add(this);
+        if (next != null) next.prev = link(next.prev, this);
+        if (target != null) target.targeting = link(target.targeting, this);
     }
 
     public Instruction(Statement statement, InstructionType type,
@@ -106,37 +104,55 @@ public final class Instruction {
     }
 
     public void setNext(Instruction next) {
-        if (this.next != null) this.next.prev.remove(this);
+        if (this.next != null) unlink(this.next.prev, this);
         this.next = next;
-        next.prev.add(this);
+        next.prev = link(next.prev, this);
     }
 
     public void setTarget(Instruction target) {
-        if (this.target != null) this.target.targeting.remove(this);
+        if (this.target != null) unlink(this.target.targeting, this);
         this.target = target;
-        target.targeting.add(this);
+        target.targeting = link(target.targeting, this);
     }
 
     public void propagateReferences() {
-        var itr = prev.iterator();
-        while (itr.hasNext()) {
-            var p = itr.next();
-            p.next = next;
-            next.prev.add(p);
-            itr.remove();
+        if (prev != null) {
+            for (var p : prev) {
+                p.next = next;
+                next.prev = link(next.prev, p);
+            }
+            prev = null;
+        }
+
+        if (targeting != null) {
+            for (var t : targeting) {
+                t.target = next;
+                next.targeting = link(next.targeting, t);
+            }
+            targeting = null;
         }
+    }
 
-        itr = targeting.iterator();
-        while (itr.hasNext()) {
-            var t = itr.next();
-            t.target = next;
-            next.targeting.add(t);
-            itr.remove();
+    /**
+     * Adds an instruction to a list of those pointing to another, which is allocated on the
+     * first addition. The lists hold an instruction at most once, and are rarely longer than
+     * a few instructions, so they are searched linearly.
+     * @return The list.
+     */
+    private static List<Instruction> link(List<Instruction> instructions, Instruction i) {
+        if (instructions == null) {
+            instructions = new ArrayList<>(1);
+        }
+        if (!instructions.contains(i)) {
+            instructions.add(i);
         }
+        return instructions;
+    }
 
-        // assert there are no instructions left pointing to this one
-        assert(prev.isEmpty());
-        assert(targeting.isEmpty());
+    private static void unlink(List<Instruction> instructions, Instruction i) {
+        if (instructions != null) {
+            instructions.remove(i);
+        }
     }
 
     public boolean isJump() {
@@ -163,17 +179,19 @@ public final class Instruction {
 
         // are there any instructions directly before this instruction
         // that are branches, jumps, or gotos? if so, this is a leader
-        for (var p : prev) {
-            switch (p.getType()) {
-                case IF, WHILE, JUMP -> {
-                    // for loops are turned into "if's"
-                    return true;
+        if (prev != null) {
+            for (var p : prev) {
+                switch (p.getType()) {
+                    case IF, WHILE, JUMP -> {
+                        // for loops are turned into "if's"
+                        return true;
+                    }
                 }
             }
         }
 
         // if this instruction is targeted by anything, it is a leader
-        return !targeting.isEmpty();
+        return targeting != null && !targeting.isEmpty();
     }
 
     public boolean reachesEnd() {
@@ -0,0 +1,26 @@
+package dataflow;
+
+/**
+ * A meet semilattice of dataflow facts of type <code>F</code>. Facts start out at the top
+ * element, which is the identity of {@link #meet}, and only ever move down while a problem
+ * is solved, so a lattice of finite height guarantees termination.
+ */
+public interface Lattice<F> {
+    /**
+     * @return A new top element.
+     */
+    F top();
+
+    /**
+     * @return The greatest lower bound of the specified facts. The first fact may be
+     *         updated and returned; the second must be left unchanged.
+     */
+    F meet(F a, F b);
+
+    /**
+     * @return A copy of the specified fact, which can be updated independently of it.
+     */
+    F copy(F a);
+
+    boolean equal(F a, F b);
+}
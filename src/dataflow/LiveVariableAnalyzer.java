@@ -1,21 +1,78 @@
 package dataflow;
 
-import lombok.Getter;
+import semantics.info.ClassInfo;
+import semantics.info.MemberInfo;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 
-@Getter
+/**
+ * Live variable analysis over the block graph of a single member: a backward problem over
+ * {@link BitVector bit vectors} of variables, met by union, where
+ * in[b] = use[b] union (out[b] - def[b]).
+ */
 public final class LiveVariableAnalyzer {
-    private final Set<Symbol> useSet;
-    private final Set<Symbol> defSet;
-    private final Set<Symbol> inSet;
-    private final Set<Symbol> outSet;
-
-    public LiveVariableAnalyzer() {
-        this.useSet = new HashSet<>();
-        this.defSet = new HashSet<>();
-        this.inSet = new HashSet<>();
-        this.outSet = new HashSet<>();
+    private final Block[] blocks;  // reachable blocks in reverse postorder, start first
+    private UseDefSets sets;
+    private DataflowSolution<BitVector> solution;
+
+    /**
+     * @param blocks The reachable blocks of the member, in reverse postorder, starting
+     *               with the start block. They must be numbered from 0 to
+     *               <code>blocks.length - 1</code>.
+     */
+    public LiveVariableAnalyzer(Block[] blocks) {
+        this.blocks = blocks;
+    }
+
+    /**
+     * Computes the live variables on entry to and exit from every block.
+     * @param member The member, whose parameters are defined on entry.
+     * @param class_ The class of the member, whose instance variables are defined on entry.
+     * @return This {@link LiveVariableAnalyzer}.
+     */
+    public LiveVariableAnalyzer analyze(MemberInfo member, ClassInfo class_) {
+        sets = new UseDefSets(blocks, member, class_);
+        solution = WorklistSolver.solve(new DataflowProblem<>() {
+            private final BitVectorLattice lattice = BitVectorLattice.union(sets.size());
+
+            @Override
+            public Direction getDirection() {
+                return Direction.BACKWARD;
+            }
+
+            @Override
+            public Lattice<BitVector> getLattice() {
+                return lattice;
+            }
+
+            @Override
+            public BitVector getBoundary() {
+                return lattice.top();
+            }
+
+            @Override
+            public BitVector transfer(Block block, BitVector out) {
+                var in = out.copy();
+                in.andNot(sets.getDef(block));
+                in.or(sets.getUse(block));
+                return in;
+            }
+        }, blocks);
+        return this;
+    }
+
+    /**
+     * @return The variables live on entry to the specified block, each as its first use
+     *         that is not preceded by a definition in the same block.
+     */
+    public List<Symbol> liveIn(Block b) {
+        return sets.toSymbols(solution.getIn(b));
+    }
+
+    /**
+     * @return The solution, including the work it took to compute it.
+     */
+    public DataflowSolution<BitVector> getSolution() {
+        return solution;
     }
 }
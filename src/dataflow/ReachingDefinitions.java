@@ -0,0 +1,120 @@
+package dataflow;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reaching definitions over the block graph of a single member: a forward problem over
+ * sparse sets of {@link Definition definitions}, met by union, where
+ * out[b] = gen[b] union (in[b] - kill[b]). A block generates the last definition of every
+ * variable that it assigns, and kills all other definitions of those variables.
+ */
+public final class ReachingDefinitions {
+    /**
+     * An assignment or declaration of a variable by an instruction.
+     */
+    public record Definition(Instruction instruction, String variable) {
+        @Override
+        public String toString() {
+            return variable + "@" + instruction.getNumber();
+        }
+    }
+
+    private final Block[] blocks;  // reachable blocks in reverse postorder, start first
+    private final Map<Block, Map<String, Definition>> generated;  // last definition by variable
+    private DataflowSolution<Set<Definition>> solution;
+
+    /**
+     * @param blocks The reachable blocks of the member, in reverse postorder, starting
+     *               with the start block. They must be numbered from 0 to
+     *               <code>blocks.length - 1</code>.
+     */
+    public ReachingDefinitions(Block[] blocks) {
+        this.blocks = blocks;
+        this.generated = new HashMap<>();
+    }
+
+    /**
+     * Computes the definitions reaching the entry to and exit from every block.
+     * @return This {@link ReachingDefinitions}.
+     */
+    public ReachingDefinitions analyze() {
+        for (var b : blocks) {
+            Map<String, Definition> last = new LinkedHashMap<>();
+            b.forEach(i -> {
+                if (i.getStatement() != null) {
+                    StatementEffects.assigned(i.getStatement())
+                            .forEach(v -> last.put(v, new Definition(i, v)));
+                }
+            });
+            generated.put(b, last);
+        }
+
+        solution = WorklistSolver.solve(new DataflowProblem<>() {
+            private final SparseSetLattice<Definition> lattice = SparseSetLattice.union();
+
+            @Override
+            public Direction getDirection() {
+                return Direction.FORWARD;
+            }
+
+            @Override
+            public Lattice<Set<Definition>> getLattice() {
+                return lattice;
+            }
+
+            @Override
+            public Set<Definition> getBoundary() {
+                return Set.of();
+            }
+
+            @Override
+            public Set<Definition> transfer(Block block, Set<Definition> in) {
+                var gen = generated.get(block);
+                var out = new HashSet<Definition>(in);
+                if (!gen.isEmpty()) {
+                    out.removeIf(d -> gen.containsKey(d.variable()));
+                    out.addAll(gen.values());
+                }
+                return out;
+            }
+        }, blocks);
+        return this;
+    }
+
+    /**
+     * @return The definitions reaching the entry to the specified block.
+     */
+    public Set<Definition> reachingIn(Block b) {
+        return solution.getIn(b);
+    }
+
+    /**
+     * @return The definitions reaching the specified instruction, before it is executed.
+     */
+    public Set<Definition> reaching(Instruction instruction) {
+        var reaching = new HashSet<>(reachingIn(instruction.getBlock()));
+        for (var i : instruction.getBlock()) {
+            if (i == instruction) {
+                break;
+            }
+            if (i.getStatement() != null) {
+                for (var v : StatementEffects.assigned(i.getStatement())) {
+                    reaching.removeIf(d -> d.variable().equals(v));
+                    reaching.add(new Definition(i, v));
+                }
+            }
+        }
+        return reaching;
+    }
+
+    /**
+     * @return The solution, including the work it took to compute it.
+     */
+    public DataflowSolution<Set<Definition>> getSolution() {
+        return solution;
+    }
+}
@@ -0,0 +1,51 @@
+package dataflow;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The lattice of hash sets of facts, for problems whose facts are too many to number
+ * densely, but of which few hold at any point (e.g. reaching definitions). Sets are met by
+ * union, with the empty set on top, or by intersection, with a copy of the set of all facts
+ * on top.
+ */
+public final class SparseSetLattice<T> implements Lattice<Set<T>> {
+    private final Set<T> universe;  // null when met by union
+
+    private SparseSetLattice(Set<T> universe) {
+        this.universe = universe;
+    }
+
+    public static <T> SparseSetLattice<T> union() {
+        return new SparseSetLattice<>(null);
+    }
+
+    public static <T> SparseSetLattice<T> intersection(Set<T> universe) {
+        return new SparseSetLattice<>(Set.copyOf(universe));
+    }
+
+    @Override
+    public Set<T> top() {
+        return universe == null ? new HashSet<>() : new HashSet<>(universe);
+    }
+
+    @Override
+    public Set<T> meet(Set<T> a, Set<T> b) {
+        if (universe == null) {
+            a.addAll(b);
+        } else {
+            a.retainAll(b);
+        }
+        return a;
+    }
+
+    @Override
+    public Set<T> copy(Set<T> a) {
+        return new HashSet<>(a);
+    }
+
+    @Override
+    public boolean equal(Set<T> a, Set<T> b) {
+        return a.equals(b);
+    }
+}
@@ -0,0 +1,185 @@
+package dataflow;
+
+import ast.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The expressions that the statement of an {@link Instruction} evaluates, and the variables
+ * that it assigns. Variables are identified by name, so an assignment to a field through
+ * <code>this</code> assigns the variable of the same name.
+ */
+final class StatementEffects {
+    private StatementEffects() {}
+
+    /**
+     * @return The expressions evaluated by the specified statement itself, not including
+     *         those of nested statements (e.g. the body of a loop). An assignment or increment
+     *         statement is an expression in its own right.
+     */
+    static List<Expression> evaluated(Statement s) {
+        if (s instanceof Assign a) {
+            return List.of(a);
+        } else if (s instanceof Increment i) {
+            return List.of(i);
+        } else if (s instanceof VarInit v) {
+            return List.of(v.e);
+        } else if (s instanceof If i) {
+            return List.of(i.e);
+        } else if (s instanceof IfElse i) {
+            return List.of(i.e);
+        } else if (s instanceof While w) {
+            return List.of(w.e);
+        } else if (s instanceof Switch sw) {
+            return List.of(sw.e);
+        } else if (s instanceof Return r) {
+            return List.of(r.e);
+        } else if (s instanceof Print p) {
+            return List.of(p.e);
+        } else if (s instanceof Action a) {
+            return List.of(a.c);
+        } else if (s instanceof For f) {
+            return evaluated(f.s0);
+        } else if (s instanceof SuperCtorInvocation c) {
+            return toList(c.el);
+        } else if (s instanceof ThisCtorInvocation c) {
+            return toList(c.el);
+        }
+        return List.of();
+    }
+
+    /**
+     * @return The variables assigned or declared by the specified statement, in order of
+     *         evaluation.
+     */
+    static List<String> assigned(Statement s) {
+        List<String> names = new ArrayList<>();
+        if (s instanceof VarDeclaration v) {
+            names.add(v.i.s);
+        } else if (s instanceof For f) {
+            return assigned(f.s0);
+        }
+        for (var e : evaluated(s)) {
+            // a value is stored after its subexpressions are evaluated
+            walkPostorder(e, x -> {
+                var target = x instanceof Assign a ? a.e1 : x instanceof Increment i ? i.e : null;
+                if (target instanceof IdentifierExp id) {
+                    names.add(id.s);
+                } else if (target instanceof Field f) {
+                    names.add(f.i.s);
+                }
+            });
+        }
+        return names;
+    }
+
+    /**
+     * @return Whether the specified statement calls a method or constructor, which may
+     *         assign any instance variable.
+     */
+    static boolean calls(Statement s) {
+        if (s instanceof SuperCtorInvocation || s instanceof ThisCtorInvocation) {
+            return true;
+        }
+        boolean[] calls = {false};
+        for (var e : evaluated(s)) {
+            walk(e, x -> calls[0] |= x instanceof Call || x instanceof NewObject);
+        }
+        return calls[0];
+    }
+
+    /**
+     * Performs the specified action for the specified expression and all of its
+     * subexpressions, in preorder.
+     */
+    static void walk(Expression e, Consumer<Expression> action) {
+        var pending = new ArrayDeque<Expression>();
+        pending.push(e);
+        while (!pending.isEmpty()) {
+            var x = pending.pop();
+            action.accept(x);
+            var children = children(x);
+            for (int k = children.size() - 1; k >= 0; k--) {
+                pending.push(children.get(k));
+            }
+        }
+    }
+
+    /**
+     * Performs the specified action for the specified expression and all of its
+     * subexpressions, in postorder.
+     */
+    static void walkPostorder(Expression e, Consumer<Expression> action) {
+        var pending = new ArrayDeque<Expression>();
+        var expanded = new ArrayDeque<Boolean>();
+        pending.push(e);
+        expanded.push(false);
+        while (!pending.isEmpty()) {
+            var x = pending.pop();
+            if (expanded.pop()) {
+                action.accept(x);
+                continue;
+            }
+            pending.push(x);
+            expanded.push(true);
+            var children = children(x);
+            for (int k = children.size() - 1; k >= 0; k--) {
+                pending.push(children.get(k));
+                expanded.push(false);
+            }
+        }
+    }
+
+    /**
+     * @return The direct subexpressions of the specified expression, in order of evaluation.
+     */
+    static List<Expression> children(Expression e) {
+        if (e instanceof BinaryExp b) {
+            return List.of(b.e1, b.e2);
+        } else if (e instanceof Assign a) {
+            return List.of(a.e1, a.e2);
+        } else if (e instanceof Increment i) {
+            return List.of(i.e);
+        } else if (e instanceof Not n) {
+            return List.of(n.e);
+        } else if (e instanceof BitwiseNot n) {
+            return List.of(n.e);
+        } else if (e instanceof UnaryMinus u) {
+            return List.of(u.e);
+        } else if (e instanceof UnaryPlus u) {
+            return List.of(u.e);
+        } else if (e instanceof ArrayLength a) {
+            return List.of(a.e);
+        } else if (e instanceof InstanceOf i) {
+            return List.of(i.e);
+        } else if (e instanceof Field f) {
+            return List.of(f.e);
+        } else if (e instanceof Ternary t) {
+            return List.of(t.c, t.e1, t.e2);
+        } else if (e instanceof ArrayLookup a) {
+            var children = new ArrayList<Expression>();
+            children.add(a.e1);
+            a.el.forEach(children::add);
+            return children;
+        } else if (e instanceof Call c) {
+            var children = new ArrayList<Expression>();
+            children.add(c.e);
+            c.el.forEach(children::add);
+            return children;
+        } else if (e instanceof NewArray n) {
+            return toList(n.el);
+        } else if (e instanceof NewObject n) {
+            return toList(n.el);
+        }
+        return List.of();
+    }
+
+    private static List<Expression> toList(ExpressionList el) {
+        var list = new ArrayList<Expression>(el.size());
+        el.forEach(list::add);
+        return list;
+    }
+}
@@ -1,18 +1,47 @@
 package dataflow;
 
-public record Symbol(String name, int lineNumber) {
+import commons.Names;
+
+/**
+ * A variable, by its {@link Names interned} name, along with the line of one of its
+ * occurrences. Symbols are equal if their names are.
+ */
+public record Symbol(int id, int lineNumber) {
+    public Symbol(String name, int lineNumber) {
+        this(Names.intern(name), lineNumber);
+    }
+
+    public String name() {
+        return Names.name(id);
+    }
+
+    /**
+     * @return This symbol packed into a <code>long</code>, for compact storage.
+     */
+    public long pack() {
+        return (long) id << 32 | lineNumber & 0xffffffffL;
+    }
+
+    public static Symbol unpack(long packed) {
+        return new Symbol(unpackId(packed), (int) packed);
+    }
+
+    public static int unpackId(long packed) {
+        return (int) (packed >>> 32);
+    }
+
     @Override
     public boolean equals(Object obj) {
-        return obj instanceof Symbol s && name.equals(s.name);
+        return obj instanceof Symbol s && id == s.id;
     }
 
     @Override
     public int hashCode() {
-        return name.hashCode();
+        return id;
     }
 
     @Override
     public String toString() {
-        return name;
+        return name();
     }
 }
@@ -0,0 +1,110 @@
+package dataflow;
+
+import dataflow.visitor.LiveVariableVisitor;
+import semantics.info.ClassInfo;
+import semantics.info.MemberInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The variables of a member, numbered densely, along with the variables that every block
+ * uses before defining them and those that it defines, as bit vectors by block number. The
+ * parameters of the member and the instance variables of its class are defined by the first
+ * block.
+ */
+final class UseDefSets {
+    private final Map<Symbol, Integer> variables;
+    private final Symbol[] uses;  // first upward-exposed use of each variable, by number
+    private final BitVector[] use;
+    private final BitVector[] def;
+    private final BitVector entry;
+
+    UseDefSets(Block[] blocks, MemberInfo member, ClassInfo class_) {
+        this.variables = new HashMap<>();
+        var liveVariableVisitor = new LiveVariableVisitor();
+        for (var b : blocks) {
+            b.forEach(i -> {
+                var s = i.getStatement();
+                if (s != null) {
+                    s.accept(liveVariableVisitor);
+                    s.forEachDefined(this::number);
+                    s.forEachUsed(this::number);
+                }
+            });
+        }
+        member.getArgumentNames().forEach(arg -> number(new Symbol(arg, member.lineNumber)));
+        class_.getInstanceVariables().forEach(v -> number(new Symbol(v.name, v.lineNumber)));
+
+        int size = variables.size();
+        this.uses = new Symbol[size];
+        this.use = new BitVector[blocks.length];
+        this.def = new BitVector[blocks.length];
+        this.entry = new BitVector(size);
+        member.getArgumentNames().forEach(arg -> entry.set(variables.get(new Symbol(arg, 0))));
+        class_.getInstanceVariables().forEach(v -> entry.set(variables.get(new Symbol(v.name, 0))));
+
+        for (var b : blocks) {
+            var u = new BitVector(size);
+            var d = b.isFirst() ? entry.copy() : new BitVector(size);
+            b.forEach(i -> {
+                var s = i.getStatement();
+                if (s != null) {
+                    s.forEachDefined(v -> d.set(variables.get(v)));
+                    s.forEachUsed(v -> {
+                        int n = variables.get(v);
+                        if (!d.get(n)) {
+                            u.set(n);
+                            if (uses[n] == null) {
+                                uses[n] = v;
+                            }
+                        }
+                    });
+                }
+            });
+            use[b.getNumber()] = u;
+            def[b.getNumber()] = d;
+        }
+    }
+
+    int size() {
+        return variables.size();
+    }
+
+    /**
+     * @return The variables used by the specified block before it defines them.
+     */
+    BitVector getUse(Block b) {
+        return use[b.getNumber()];
+    }
+
+    /**
+     * @return The variables defined by the specified block.
+     */
+    BitVector getDef(Block b) {
+        return def[b.getNumber()];
+    }
+
+    /**
+     * @return The parameters of the member and the instance variables of its class.
+     */
+    BitVector getEntry() {
+        return entry;
+    }
+
+    /**
+     * @return The specified variables, each as its first use that is not preceded by a
+     *         definition in the same block, in order of number.
+     */
+    List<Symbol> toSymbols(BitVector vector) {
+        List<Symbol> result = new ArrayList<>(vector.cardinality());
+        vector.forEach(n -> result.add(uses[n]));
+        return result;
+    }
+
+    private void number(Symbol v) {
+        variables.putIfAbsent(v, variables.size());
+    }
+}
@@ -0,0 +1,128 @@
+package dataflow;
+
+/**
+ * Solves {@link DataflowProblem dataflow problems} over the reachable blocks of a member
+ * with a worklist. The worklist is a circular queue seeded in reverse postorder for forward
+ * problems, and in postorder for backward problems, so that most blocks see their final
+ * input the first time they are visited; a block is queued again only when the output of
+ * a block it reads from changes.
+ */
+public final class WorklistSolver {
+    private WorklistSolver() {}
+
+    /**
+     * @param blocks The reachable blocks of the member, in reverse postorder, starting
+     *               with the start block. They must be numbered from 0 to
+     *               <code>blocks.length - 1</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public static <F> DataflowSolution<F> solve(DataflowProblem<F> problem, Block[] blocks) {
+        int n = blocks.length;
+        var lattice = problem.getLattice();
+        boolean forward = problem.getDirection() == Direction.FORWARD;
+
+        var byNumber = new Block[n];
+        var exits = new boolean[n];  // whether a block may leave the member
+        for (var b : blocks) {
+            byNumber[b.getNumber()] = b;
+            exits[b.getNumber()] = b.getNext().isEmpty() || b.getNext().contains(Block.END);
+        }
+        int[][] successors = successors(blocks);
+        int[][] predecessors = predecessors(successors);
+        int[][] sources = forward ? predecessors : successors;
+        int[][] sinks = forward ? successors : predecessors;
+
+        var input = new Object[n];
+        var output = new Object[n];
+        int[] queue = new int[n];
+        boolean[] queued = new boolean[n];
+        for (int k = 0; k < n; k++) {
+            int b = blocks[forward ? k : n - 1 - k].getNumber();
+            output[b] = lattice.top();
+            queue[k] = b;
+            queued[b] = true;
+        }
+
+        int start = blocks[0].getNumber();
+        int head = 0;
+        int pending = n;
+        int visits = 0;
+        int changes = 0;
+        while (pending > 0) {
+            int b = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            pending--;
+            queued[b] = false;
+
+            F x;
+            if (forward && b == start) {
+                x = lattice.copy(problem.getBoundary());
+            } else {
+                x = lattice.top();
+                for (int p : sources[b]) {
+                    x = lattice.meet(x, (F) output[p]);
+                }
+                if (!forward && exits[b]) {
+                    x = lattice.meet(x, problem.getBoundary());
+                }
+            }
+            input[b] = x;
+
+            var y = problem.transfer(byNumber[b], x);
+            visits++;
+            if (!lattice.equal(y, (F) output[b])) {
+                output[b] = y;
+                changes++;
+                for (int s : sinks[b]) {
+                    if (!queued[s]) {
+                        queued[s] = true;
+                        queue[(head + pending) % n] = s;
+                        pending++;
+                    }
+                }
+            }
+        }
+
+        return forward ? new DataflowSolution<>(input, output, visits, changes)
+                : new DataflowSolution<>(output, input, visits, changes);
+    }
+
+    /**
+     * @return The successor numbers of each block other than the end block, by block number.
+     */
+    private static int[][] successors(Block[] blocks) {
+        int[][] successors = new int[blocks.length][];
+        for (var b : blocks) {
+            successors[b.getNumber()] = b.getNext().stream()
+                    .filter(s -> s.getType() != BlockType.END)
+                    .mapToInt(Block::getNumber)
+                    .toArray();
+        }
+        return successors;
+    }
+
+    /**
+     * @return The predecessor numbers of each block, by block number.
+     */
+    private static int[][] predecessors(int[][] successors) {
+        int n = successors.length;
+        int[] counts = new int[n];
+        for (int[] next : successors) {
+            for (int s : next) {
+                counts[s]++;
+            }
+        }
+
+        int[][] predecessors = new int[n][];
+        for (int b = 0; b < n; b++) {
+            predecessors[b] = new int[counts[b]];
+            counts[b] = 0;
+        }
+        for (int b = 0; b < n; b++) {
+            for (int s : successors[b]) {
+                predecessors[s][counts[s]++] = b;
+            }
+        }
+        return predecessors;
+    }
+}
@@ -2,19 +2,33 @@ package dataflow.visitor;
 
 import ast.*;
 import commons.LazyVisitor;
+import commons.Logger;
 import dataflow.DataflowGraph;
+import semantics.info.MemberInfo;
 import semantics.table.SymbolContext;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
-
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Builds and validates the dataflow graph of every method and constructor. The graphs are
+ * independent of each other, so each member is analyzed by its own {@link ForkJoinTask}
+ * once the whole program has been visited. Each task logs to a buffered logger, and the
+ * buffers are flushed in source order so that the output does not depend on scheduling.
+ */
 public final class DataflowVisitor extends LazyVisitor {
     private final SymbolContext symbolContext;
     private final Map<String, DataflowGraph> graphs;
+    private final List<MemberAnalysis> analyses;  // in source order
 
     public DataflowVisitor(SymbolContext symbolContext) {
         this.symbolContext = symbolContext;
         this.graphs = new TreeMap<>();
+        this.analyses = new ArrayList<>();
     }
 
     /**
@@ -43,19 +57,20 @@ public final class DataflowVisitor extends LazyVisitor {
     public void visit(Program n) {
         n.m.accept(this);
         n.cl.forEach(c -> c.accept(this));
+
+        ForkJoinTask.invokeAll(analyses);
+        var logger = Logger.getInstance();
+        analyses.forEach(a -> a.logger.flushTo(logger));
+        analyses.clear();
     }
 
     @Override
     public void visit(MainClass n) {
-        symbolContext.enterClass(n.i1.s);
-        symbolContext.enterMethod("main");
+        symbolContext.enterClass(n.i1.id);
+        symbolContext.enterMethod(SymbolContext.MAIN);
         var m = symbolContext.getCurrentMethod();
 
-        n.dataflow = DataflowGraph.create(symbolContext, m, n.sl)
-                .build()
-                .validateReturnStatements()
-                .validateVariableDeclarations();
-
+        n.dataflow = analyze(m, n.sl, true);
         graphs.put(m.getQualifiedName(), n.dataflow);
         symbolContext.exit();
         symbolContext.exit();
@@ -63,14 +78,14 @@ public final class DataflowVisitor extends LazyVisitor {
 
     @Override
     public void visit(ClassDeclSimple n) {
-        symbolContext.enterClass(n.i.s);
+        symbolContext.enterClass(n.i.id);
         n.ml.forEach(m -> m.accept(this));
         symbolContext.exit();
     }
 
     @Override
     public void visit(ClassDeclExtends n) {
-        symbolContext.enterClass(n.i.s);
+        symbolContext.enterClass(n.i.id);
         n.ml.forEach(m -> m.accept(this));
         symbolContext.exit();
     }
@@ -93,14 +108,10 @@ public final class DataflowVisitor extends LazyVisitor {
 
     @Override
     public void visit(MethodDecl n) {
-        symbolContext.enterMethod(n.i.s);
+        symbolContext.enterMethod(n.i.id);
         var m = symbolContext.getCurrentMethod();
 
-        n.dataflow = DataflowGraph.create(symbolContext, m, n.sl)
-                .build()
-                .validateReturnStatements()
-                .validateVariableDeclarations();
-
+        n.dataflow = analyze(m, n.sl, true);
         graphs.put(m.getQualifiedName(), n.dataflow);
         symbolContext.exit();
     }
@@ -109,9 +120,7 @@ public final class DataflowVisitor extends LazyVisitor {
         symbolContext.enterConstructor(n.constructorInfo.getSignature());
         var c = symbolContext.getCurrentConstructor();
 
-        n.dataflow = DataflowGraph.create(symbolContext, c, n.sl)
-                .build()
-                .validateVariableDeclarations();
+        n.dataflow = analyze(c, n.sl, false);
 
         graphs.put(c.getQualifiedName(), n.dataflow);
         symbolContext.exit();
@@ -610,4 +619,51 @@ public final class DataflowVisitor extends LazyVisitor {
     public void visit(NoOpExp n) {
         System.out.print("void");
     }
+
+    /**
+     * Creates the dataflow graph of the specified member, and schedules building and
+     * validating it.
+     * @param validateReturns Whether to validate the return statements of the member.
+     * @return The dataflow graph, which is built once the program has been visited.
+     */
+    private DataflowGraph analyze(MemberInfo member, StatementList statements, boolean validateReturns) {
+        var logger = Logger.getInstance().buffered();
+        var graph = DataflowGraph.create(symbolContext, member, statements, logger);
+        analyses.add(new MemberAnalysis(graph, logger, validateReturns));
+        return graph;
+    }
+
+    @SuppressWarnings("serial")  // tasks are never serialized, and neither are their graphs and loggers
+    private static final class MemberAnalysis extends RecursiveAction {
+        private final DataflowGraph graph;
+        private final Logger logger;
+        private final boolean validateReturns;
+
+        MemberAnalysis(DataflowGraph graph, Logger logger, boolean validateReturns) {
+            this.graph = graph;
+            this.logger = logger;
+            this.validateReturns = validateReturns;
+        }
+
+        @Override
+        protected void compute() {
+            // AST nodes report their line numbers to the logger of the visiting thread. a
+            // common pool worker has none bound, and must not keep this one once done
+            var previous = Logger.getBound();
+            Logger.bind(logger);
+            try {
+                graph.build();
+                if (validateReturns) {
+                    graph.validateReturnStatements();
+                }
+                graph.validateVariableDeclarations();
+            } finally {
+                if (previous != null) {
+                    Logger.bind(previous);
+                } else {
+                    Logger.unbind();
+                }
+            }
+        }
+    }
 }
@@ -4,188 +4,186 @@ import ast.*;
 import commons.LazyVisitor;
 import dataflow.Symbol;
 
-import java.util.Set;
-
 /**
  * Called when constructing the dataflow graph to populate def and use sets for all statements.
  * Some statements cannot exist as instructions, and thus will throw if this visitor attempts
  * to visit them.
  */
 public final class LiveVariableVisitor extends LazyVisitor {
-    private Set<Symbol> used;
+    private Statement statement;  // the statement whose uses are being collected
 
     @Override
     public void visit(VarDecl n) {
-        n.defined.add(new Symbol(n.i.s, n.i.lineNumber));
+        n.addDefined(new Symbol(n.i.id, n.i.lineNumber));
     }
 
     @Override
     public void visit(VarInit n) {
-        n.defined.add(new Symbol(n.i.s, n.i.lineNumber));
-        used = n.used;
+        n.addDefined(new Symbol(n.i.id, n.i.lineNumber));
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(Return n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(SuperCtorInvocation n) {
-        used = n.used;
+        statement = n;
         n.el.forEach(e -> e.accept(this));
     }
 
     @Override
     public void visit(ThisCtorInvocation n) {
-        used = n.used;
+        statement = n;
         n.el.forEach(e -> e.accept(this));
     }
 
     @Override
     public void visit(If n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(IfElse n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(Switch n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(While n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(For n) {
-        used = n.used;
+        statement = n;
         n.s0.accept(this);
-        n.defined.addAll(n.s0.defined);
+        n.s0.forEachDefined(n::addDefined);
     }
 
     @Override
     public void visit(Print n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(AssignSimple n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignPlus n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignMinus n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignTimes n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignDivide n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignMod n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignAnd n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignOr n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignXor n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignLeftShift n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignRightShift n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(AssignUnsignedRightShift n) {
-        used = n.used;
+        statement = n;
         n.e1.accept(this);
         n.e2.accept(this);
     }
 
     @Override
     public void visit(PostIncrement n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(PreIncrement n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(PostDecrement n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
     @Override
     public void visit(PreDecrement n) {
-        used = n.used;
+        statement = n;
         n.e.accept(this);
     }
 
@@ -326,7 +324,7 @@ public final class LiveVariableVisitor extends LazyVisitor {
 
     @Override
     public void visit(Action n) {
-        used = n.used;
+        statement = n;
         n.c.accept(this);
     }
 
@@ -370,11 +368,11 @@ public final class LiveVariableVisitor extends LazyVisitor {
 
     @Override
     public void visit(IdentifierExp n) {
-        if (used == null) {
+        if (statement == null) {
             throw new IllegalStateException();
         }
 
-        used.add(new Symbol(n.s, n.lineNumber));
+        statement.addUsed(new Symbol(n.id, n.lineNumber));
     }
 
     @Override
@@ -0,0 +1,19 @@
+package ir;
+
+/**
+ * <code>result = array.length</code>, where the array is not null.
+ */
+public final class ArrayLength extends Instruction {
+    public ArrayLength(VirtualRegister result, Value array) {
+        super(result, array);
+    }
+
+    public Value getArray() {
+        return getOperand(0);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
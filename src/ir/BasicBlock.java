@@ -0,0 +1,68 @@
+package ir;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A maximal sequence of instructions that is entered at its first instruction and left
+ * at its last, its terminator. Successors are those of the terminator; predecessors are
+ * recomputed by {@link Function#linkPredecessors()} whenever the control flow changes.
+ */
+public final class BasicBlock {
+    @Getter
+    private final int number;
+    @Getter
+    private final List<Instruction> instructions;
+    @Getter
+    private final List<BasicBlock> predecessors;
+    @Getter
+    @Setter
+    private boolean cold;  // expected to run rarely, so laid out after the other blocks
+
+    BasicBlock(int number) {
+        this.number = number;
+        this.instructions = new ArrayList<>();
+        this.predecessors = new ArrayList<>();
+    }
+
+    /**
+     * Appends the specified instruction to this block.
+     */
+    public void add(Instruction instruction) {
+        if (isTerminated()) {
+            throw new IllegalStateException("block " + getLabel() + " is already terminated");
+        }
+        instructions.add(instruction);
+    }
+
+    /**
+     * @return Whether this block ends with a terminator.
+     */
+    public boolean isTerminated() {
+        return !instructions.isEmpty() && instructions.get(instructions.size() - 1).isTerminator();
+    }
+
+    /**
+     * @return The terminator of this block, or <code>null</code> if it has none yet.
+     */
+    public Instruction getTerminator() {
+        return isTerminated() ? instructions.get(instructions.size() - 1) : null;
+    }
+
+    public List<BasicBlock> getSuccessors() {
+        var terminator = getTerminator();
+        return terminator != null ? terminator.getSuccessors() : List.of();
+    }
+
+    public String getLabel() {
+        return "L" + number;
+    }
+
+    @Override
+    public String toString() {
+        return getLabel();
+    }
+}
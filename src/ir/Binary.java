@@ -0,0 +1,56 @@
+package ir;
+
+import lombok.Getter;
+
+/**
+ * <code>result = left op right</code>, on words. Division and remainder require a
+ * non-zero divisor, see {@link Check.Kind#DIVISOR}; shifts use the low bits of the
+ * right operand only.
+ */
+public final class Binary extends Instruction {
+    public enum Operator {
+        ADD("add"),
+        SUB("sub"),
+        MUL("mul"),
+        DIV("div"),
+        MOD("mod"),
+        AND("and"),
+        OR("or"),
+        XOR("xor"),
+        SHL("shl"),
+        SHR("shr"),  // logical
+        SAR("sar");  // arithmetic
+
+        private final String name;
+
+        Operator(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @Getter
+    private final Operator operator;
+
+    public Binary(VirtualRegister result, Operator operator, Value left, Value right) {
+        super(result, left, right);
+        this.operator = operator;
+    }
+
+    public Value getLeft() {
+        return getOperand(0);
+    }
+
+    public Value getRight() {
+        return getOperand(1);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
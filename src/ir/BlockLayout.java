@@ -0,0 +1,94 @@
+package ir;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lays out the blocks of a {@link Function} for code generation, keeping the order in which
+ * they were lowered as far as possible. The blocks of every loop are made contiguous, so that
+ * a block leaving from the middle of a loop (e.g. to return) moves after it, and
+ * {@link BasicBlock#isCold() cold} and unreachable blocks are sunk after all other blocks.
+ * Loops are lowered with the test at the bottom, so the first block of a loop is the target
+ * of the jump back from the test, which is worth aligning.
+ */
+public final class BlockLayout {
+    private final Function function;
+    private final LoopNestForest loops;
+
+    public BlockLayout(Function function) {
+        this.function = function;
+        this.loops = new LoopNestForest(function);
+    }
+
+    /**
+     * @return The loop nest forest of the function, which layout does not change.
+     */
+    public LoopNestForest getLoops() {
+        return loops;
+    }
+
+    /**
+     * Reorders the blocks of the function.
+     * @return The first block of every loop that is not entered by falling through from
+     *         the block before it, so that padding before it is never executed.
+     */
+    public Set<BasicBlock> layOut() {
+        var blocks = function.getBlocks();
+        Map<BasicBlock, Integer> positions = new HashMap<>();
+        for (int k = 0; k < blocks.size(); k++) {
+            positions.put(blocks.get(k), k);
+        }
+
+        List<BasicBlock> hot = new ArrayList<>();
+        List<BasicBlock> cold = new ArrayList<>();
+        for (var b : blocks) {
+            boolean sunk = !loops.isReachable(b) || b.isCold() && b != function.getEntry();
+            (sunk ? cold : hot).add(b);
+        }
+
+        // every loop is anchored at the first of its hot blocks
+        Map<LoopNestForest.Loop, Integer> anchors = new HashMap<>();
+        for (var b : hot) {
+            for (var loop = loops.getLoop(b); loop != null; loop = loop.getParent()) {
+                anchors.merge(loop, positions.get(b), Math::min);
+            }
+        }
+
+        // a block sorts by the anchors of the loops containing it, outermost first, and then
+        // by its own position, which keeps the blocks of a loop together, and moves the
+        // blocks between them that are not in the loop after it
+        Map<BasicBlock, int[]> keys = new HashMap<>();
+        for (var b : hot) {
+            var key = new int[loops.getDepth(b) + 1];
+            int k = key.length - 1;
+            key[k] = positions.get(b);
+            for (var loop = loops.getLoop(b); loop != null; loop = loop.getParent()) {
+                key[--k] = anchors.get(loop);
+            }
+            keys.put(b, key);
+        }
+        hot.sort(Comparator.comparing(keys::get, Arrays::compare));
+
+        blocks.clear();
+        blocks.addAll(hot);
+        blocks.addAll(cold);
+
+        Set<BasicBlock> aligned = new HashSet<>();
+        Set<LoopNestForest.Loop> seen = new HashSet<>();
+        for (int k = 1; k < hot.size(); k++) {
+            var b = hot.get(k);
+            for (var loop = loops.getLoop(b); loop != null && seen.add(loop); loop = loop.getParent()) {
+                if (!hot.get(k - 1).getSuccessors().contains(b)) {
+                    aligned.add(b);
+                }
+            }
+        }
+        return aligned;
+    }
+}
@@ -0,0 +1,58 @@
+package ir;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Transfers control to one block if <code>left cond right</code> holds, and to another
+ * otherwise. A boolean value is tested as <code>value ne false</code>.
+ */
+public final class Branch extends Instruction {
+    @Getter
+    private final Condition condition;
+    @Getter
+    private BasicBlock ifTrue;
+    @Getter
+    private BasicBlock ifFalse;
+
+    public Branch(Condition condition, Value left, Value right, BasicBlock ifTrue, BasicBlock ifFalse) {
+        super(null, left, right);
+        this.condition = condition;
+        this.ifTrue = ifTrue;
+        this.ifFalse = ifFalse;
+    }
+
+    public Value getLeft() {
+        return getOperand(0);
+    }
+
+    public Value getRight() {
+        return getOperand(1);
+    }
+
+    @Override
+    public boolean isTerminator() {
+        return true;
+    }
+
+    @Override
+    public List<BasicBlock> getSuccessors() {
+        return List.of(ifTrue, ifFalse);
+    }
+
+    @Override
+    public void replaceSuccessor(BasicBlock successor, BasicBlock replacement) {
+        if (ifTrue == successor) {
+            ifTrue = replacement;
+        }
+        if (ifFalse == successor) {
+            ifFalse = replacement;
+        }
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,61 @@
+package ir;
+
+import codegen.synth.SyntheticFunction;
+import lombok.Getter;
+import semantics.info.MethodInfo;
+import semantics.info.Signature;
+
+/**
+ * <code>result = callee(arguments)</code>. The result is <code>null</code> if the
+ * callee does not return a value.
+ */
+public final class Call extends Instruction {
+    /**
+     * The function called by a {@link Call}.
+     */
+    public sealed interface Callee {}
+
+    /**
+     * A method, dispatched through the virtual table of its first argument, the receiver.
+     */
+    public record Method(MethodInfo method) implements Callee {
+        @Override
+        public String toString() {
+            return "virtual " + method.getQualifiedName();
+        }
+    }
+
+    /**
+     * A constructor of an allocated object, its first argument. Unless only the
+     * post-constructor is invoked, the pre-constructor runs first.
+     */
+    public record Constructor(Signature signature, boolean postOnly) implements Callee {
+        @Override
+        public String toString() {
+            return (postOnly ? "post " : "constructor ") + signature;
+        }
+    }
+
+    /**
+     * A runtime function, such as string concatenation.
+     */
+    public record Runtime(SyntheticFunction function) implements Callee {
+        @Override
+        public String toString() {
+            return "runtime " + function.getLabel();
+        }
+    }
+
+    @Getter
+    private final Callee callee;
+
+    public Call(VirtualRegister result, Callee callee, Value... arguments) {
+        super(result, arguments);
+        this.callee = callee;
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,43 @@
+package ir;
+
+import lombok.Getter;
+
+/**
+ * A runtime check which raises the corresponding exception, reporting its line number,
+ * if it fails.
+ */
+public final class Check extends Instruction {
+    public enum Kind {
+        NULL("null"),              // operands: reference
+        BOUNDS("bounds"),          // operands: array, index
+        DIVISOR("divisor"),        // operands: divisor
+        ARRAY_SIZE("array_size");  // operands: length
+
+        private final String name;
+
+        Kind(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @Getter
+    private final Kind kind;
+    @Getter
+    private final int lineNumber;
+
+    public Check(Kind kind, int lineNumber, Value... operands) {
+        super(null, operands);
+        this.kind = kind;
+        this.lineNumber = lineNumber;
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
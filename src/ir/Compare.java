@@ -0,0 +1,29 @@
+package ir;
+
+import lombok.Getter;
+
+/**
+ * <code>result = left cond right</code>, which is 1 if the condition holds and 0 otherwise.
+ */
+public final class Compare extends Instruction {
+    @Getter
+    private final Condition condition;
+
+    public Compare(VirtualRegister result, Condition condition, Value left, Value right) {
+        super(result, left, right);
+        this.condition = condition;
+    }
+
+    public Value getLeft() {
+        return getOperand(0);
+    }
+
+    public Value getRight() {
+        return getOperand(1);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,38 @@
+package ir;
+
+/**
+ * A signed comparison between two values.
+ */
+public enum Condition {
+    EQ("eq"),
+    NE("ne"),
+    LT("lt"),
+    LE("le"),
+    GT("gt"),
+    GE("ge");
+
+    private final String name;
+
+    Condition(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The condition which holds exactly when this condition does not.
+     */
+    public Condition negate() {
+        return switch (this) {
+            case EQ -> NE;
+            case NE -> EQ;
+            case LT -> GE;
+            case LE -> GT;
+            case GT -> LE;
+            case GE -> LT;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,29 @@
+package ir;
+
+/**
+ * An integer, boolean (0 or 1), or null (0) constant.
+ */
+public record Constant(int value, IrType type) implements Value {
+    public static final Constant TRUE = new Constant(1, IrType.BOOLEAN);
+    public static final Constant FALSE = new Constant(0, IrType.BOOLEAN);
+    public static final Constant NULL = new Constant(0, IrType.REFERENCE);
+
+    public static Constant of(int value) {
+        return new Constant(value, IrType.INT);
+    }
+
+    @Override
+    public IrType getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        if (type == IrType.BOOLEAN) {
+            return value != 0 ? "true" : "false";
+        } else if (type == IrType.REFERENCE) {
+            return "null";
+        }
+        return String.valueOf(value);
+    }
+}
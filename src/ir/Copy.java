@@ -0,0 +1,19 @@
+package ir;
+
+/**
+ * <code>result = value</code>
+ */
+public final class Copy extends Instruction {
+    public Copy(VirtualRegister result, Value value) {
+        super(result, value);
+    }
+
+    public Value getValue() {
+        return getOperand(0);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,203 @@
+package ir;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The dominator tree and dominance frontiers of the blocks of a {@link Function} that are
+ * reachable from its entry. Immediate dominators are computed with the iterative algorithm
+ * of Cooper, Harvey and Kennedy, which intersects the dominators of the predecessors of each
+ * block in reverse postorder until nothing changes; on reducible graphs this takes two passes.
+ * Blocks are identified by their index in reverse postorder, so that intersection is a walk
+ * up two chains of indices.
+ */
+public final class DominatorTree {
+    private final List<BasicBlock> order;  // reachable blocks in reverse postorder, entry first
+    private final int[] indexByNumber;  // reverse postorder index by block number, -1 if unreachable
+    private final int[] idom;  // immediate dominator by index, the entry is its own
+    private final List<List<BasicBlock>> children;
+    private final List<List<BasicBlock>> frontiers;
+
+    public DominatorTree(Function function) {
+        this.indexByNumber = new int[function.getBlockCount()];
+        Arrays.fill(indexByNumber, -1);
+        this.order = reversePostorder(function.getEntry());
+        for (int i = 0; i < order.size(); i++) {
+            indexByNumber[order.get(i).getNumber()] = i;
+        }
+
+        this.idom = computeImmediateDominators();
+        this.children = new ArrayList<>(order.size());
+        this.frontiers = new ArrayList<>(order.size());
+        for (int i = 0; i < order.size(); i++) {
+            children.add(new ArrayList<>());
+            frontiers.add(new ArrayList<>());
+        }
+        for (int i = 1; i < order.size(); i++) {
+            children.get(idom[i]).add(order.get(i));
+        }
+        computeFrontiers();
+    }
+
+    /**
+     * @return The reachable blocks in reverse postorder, starting with the entry block.
+     */
+    public List<BasicBlock> getReversePostorder() {
+        return order;
+    }
+
+    /**
+     * @return The index of the specified block in reverse postorder, or -1 if it is unreachable.
+     */
+    public int indexOf(BasicBlock b) {
+        return b.getNumber() < indexByNumber.length ? indexByNumber[b.getNumber()] : -1;
+    }
+
+    /**
+     * @return The immediate dominator of the specified block, or <code>null</code> for the entry block.
+     */
+    public BasicBlock getImmediateDominator(BasicBlock b) {
+        int i = index(b);
+        return i == 0 ? null : order.get(idom[i]);
+    }
+
+    /**
+     * @return The blocks immediately dominated by the specified block, in reverse postorder.
+     */
+    public List<BasicBlock> getChildren(BasicBlock b) {
+        return children.get(index(b));
+    }
+
+    /**
+     * @return The dominance frontier of the specified block: the blocks that it does not
+     *         strictly dominate, but which have a predecessor that it dominates.
+     */
+    public List<BasicBlock> getFrontier(BasicBlock b) {
+        return frontiers.get(index(b));
+    }
+
+    /**
+     * @return Whether every path from the entry to <code>b</code> passes through <code>a</code>.
+     */
+    public boolean dominates(BasicBlock a, BasicBlock b) {
+        int i = index(a);
+        int j = index(b);
+        while (j > i) {
+            j = idom[j];
+        }
+        return i == j;
+    }
+
+    private int index(BasicBlock b) {
+        int i = indexOf(b);
+        if (i < 0) {
+            throw new IllegalStateException(b + " is not reachable");
+        }
+        return i;
+    }
+
+    private List<BasicBlock> reversePostorder(BasicBlock entry) {
+        // iterative depth-first search, where each block is finished after its last successor
+        List<BasicBlock> postorder = new ArrayList<>();
+        boolean[] visited = new boolean[indexByNumber.length];
+        var blocks = new ArrayDeque<BasicBlock>();
+        var next = new ArrayDeque<Integer>();  // index of the next successor to visit
+        visited[entry.getNumber()] = true;
+        blocks.push(entry);
+        next.push(0);
+        while (!blocks.isEmpty()) {
+            var b = blocks.peek();
+            int k = next.pop();
+            var successors = b.getSuccessors();
+            if (k < successors.size()) {
+                next.push(k + 1);
+                var s = successors.get(k);
+                if (!visited[s.getNumber()]) {
+                    visited[s.getNumber()] = true;
+                    blocks.push(s);
+                    next.push(0);
+                }
+            } else {
+                postorder.add(blocks.pop());
+            }
+        }
+
+        var order = new ArrayList<BasicBlock>(postorder.size());
+        for (int i = postorder.size() - 1; i >= 0; i--) {
+            order.add(postorder.get(i));
+        }
+        return order;
+    }
+
+    private int[] computeImmediateDominators() {
+        int n = order.size();
+        int[][] predecessors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            predecessors[i] = order.get(i).getPredecessors().stream()
+                    .mapToInt(this::indexOf)
+                    .filter(p -> p >= 0)
+                    .toArray();
+        }
+
+        int[] idom = new int[n];
+        Arrays.fill(idom, -1);
+        idom[0] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int b = 1; b < n; b++) {
+                int newIdom = -1;
+                for (int p : predecessors[b]) {
+                    if (idom[p] >= 0) {
+                        newIdom = newIdom < 0 ? p : intersect(idom, p, newIdom);
+                    }
+                }
+                if (idom[b] != newIdom) {
+                    idom[b] = newIdom;
+                    changed = true;
+                }
+            }
+        }
+        return idom;
+    }
+
+    private static int intersect(int[] idom, int a, int b) {
+        while (a != b) {
+            while (a > b) {
+                a = idom[a];
+            }
+            while (b > a) {
+                b = idom[b];
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Walks up from every predecessor of each join block to the join block's immediate
+     * dominator, adding the join block to the frontier of every block on the way.
+     */
+    private void computeFrontiers() {
+        for (int b = 0; b < order.size(); b++) {
+            var block = order.get(b);
+            if (block.getPredecessors().size() < 2) {
+                continue;
+            }
+            for (var p : block.getPredecessors()) {
+                int runner = indexOf(p);
+                if (runner < 0) {
+                    continue;
+                }
+                while (runner != idom[b]) {
+                    var frontier = frontiers.get(runner);
+                    if (frontier.isEmpty() || frontier.get(frontier.size() - 1) != block) {
+                        frontier.add(block);
+                    }
+                    runner = idom[runner];
+                }
+            }
+        }
+    }
+}
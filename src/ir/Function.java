@@ -0,0 +1,132 @@
+package ir;
+
+import lombok.Getter;
+import semantics.info.MemberInfo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The IR of a single member: its parameters, which start with <code>this</code> for
+ * everything but the main method, and its basic blocks in layout order, starting with
+ * the entry block. Constructors are split into a pre-constructor, which runs the
+ * superclass constructor and the instance variable initializers, and a post-constructor,
+ * which runs the body.
+ */
+public final class Function {
+    public enum Kind {
+        MAIN,
+        METHOD,
+        PRE_CONSTRUCTOR,
+        POST_CONSTRUCTOR
+    }
+
+    @Getter
+    private final Kind kind;
+    @Getter
+    private final String name;  // assembly label
+    @Getter
+    private final MemberInfo member;  // null for a synthesized default constructor
+    @Getter
+    private final IrType returnType;  // null if no value is returned
+    @Getter
+    private final List<VirtualRegister> parameters;
+    @Getter
+    private final List<BasicBlock> blocks;
+    @Getter
+    private int registerCount;
+    @Getter
+    private int blockCount;  // blocks are numbered from 0 to blockCount - 1
+
+    public Function(Kind kind, String name, MemberInfo member, IrType returnType) {
+        this.kind = kind;
+        this.name = name;
+        this.member = member;
+        this.returnType = returnType;
+        this.parameters = new ArrayList<>();
+        this.blocks = new ArrayList<>();
+    }
+
+    /**
+     * @return A new temporary register of the specified type.
+     */
+    public VirtualRegister newRegister(IrType type) {
+        return new VirtualRegister(registerCount++, type, null);
+    }
+
+    /**
+     * @return A new register holding the source variable with the specified name.
+     */
+    public VirtualRegister newVariable(IrType type, String name) {
+        return new VirtualRegister(registerCount++, type, name);
+    }
+
+    /**
+     * @return A new register holding the parameter with the specified name, appended to the parameters.
+     */
+    public VirtualRegister newParameter(IrType type, String name) {
+        var p = newVariable(type, name);
+        parameters.add(p);
+        return p;
+    }
+
+    /**
+     * @return A new block, which is not yet part of the layout.
+     */
+    public BasicBlock newBlock() {
+        return new BasicBlock(blockCount++);
+    }
+
+    /**
+     * Appends the specified block to the layout.
+     */
+    public void addBlock(BasicBlock block) {
+        blocks.add(block);
+    }
+
+    public BasicBlock getEntry() {
+        return blocks.get(0);
+    }
+
+    /**
+     * Removes the blocks that cannot be reached from the entry block, keeping the
+     * layout order of the others, and relinks the predecessors.
+     */
+    public void removeUnreachableBlocks() {
+        Set<BasicBlock> reachable = new HashSet<>();
+        var pending = new ArrayDeque<BasicBlock>();
+        reachable.add(getEntry());
+        pending.push(getEntry());
+        while (!pending.isEmpty()) {
+            for (var s : pending.pop().getSuccessors()) {
+                if (reachable.add(s)) {
+                    pending.push(s);
+                }
+            }
+        }
+        blocks.removeIf(b -> !reachable.contains(b));
+        linkPredecessors();
+    }
+
+    /**
+     * Recomputes the predecessors of every block from the terminators, in layout order.
+     */
+    public void linkPredecessors() {
+        blocks.forEach(b -> b.getPredecessors().clear());
+        for (var b : blocks) {
+            for (var s : b.getSuccessors()) {
+                if (!s.getPredecessors().contains(b)) {
+                    s.getPredecessors().add(b);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return IrPrinter.print(this);
+    }
+}
@@ -0,0 +1,26 @@
+package ir;
+
+import lombok.Getter;
+import semantics.info.ClassInfo;
+
+/**
+ * <code>result = value instanceof class</code>, which is 0 if the value is null.
+ */
+public final class InstanceOf extends Instruction {
+    @Getter
+    private final ClassInfo class_;
+
+    public InstanceOf(VirtualRegister result, Value value, ClassInfo class_) {
+        super(result, value);
+        this.class_ = class_;
+    }
+
+    public Value getValue() {
+        return getOperand(0);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,63 @@
+package ir;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A three-address instruction. An instruction defines at most one {@link VirtualRegister
+ * register}, its result, and reads its operands, which are stored uniformly so that
+ * passes can rewrite them without knowing the kind of instruction.
+ */
+public abstract class Instruction {
+    @Getter
+    @Setter
+    private VirtualRegister result;
+    private final Value[] operands;
+
+    protected Instruction(VirtualRegister result, Value... operands) {
+        this.result = result;
+        this.operands = operands;
+    }
+
+    public int operandCount() {
+        return operands.length;
+    }
+
+    public Value getOperand(int i) {
+        return operands[i];
+    }
+
+    public void setOperand(int i, Value value) {
+        operands[i] = value;
+    }
+
+    /**
+     * @return Whether this instruction ends a {@link BasicBlock}.
+     */
+    public boolean isTerminator() {
+        return false;
+    }
+
+    /**
+     * @return The blocks that control may transfer to after this instruction, if it is a terminator.
+     */
+    public List<BasicBlock> getSuccessors() {
+        return List.of();
+    }
+
+    /**
+     * Redirects the transfers of control to the specified successor to its replacement.
+     */
+    public void replaceSuccessor(BasicBlock successor, BasicBlock replacement) {
+        throw new IllegalStateException(this + " has no successors");
+    }
+
+    public abstract void accept(InstructionVisitor v);
+
+    @Override
+    public String toString() {
+        return IrPrinter.print(this);
+    }
+}
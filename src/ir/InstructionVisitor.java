@@ -0,0 +1,43 @@
+package ir;
+
+public interface InstructionVisitor {
+    void visit(Copy i);
+
+    void visit(Binary i);
+
+    void visit(Unary i);
+
+    void visit(Compare i);
+
+    void visit(LoadField i);
+
+    void visit(StoreField i);
+
+    void visit(ArrayLength i);
+
+    void visit(LoadElement i);
+
+    void visit(StoreElement i);
+
+    void visit(Call i);
+
+    void visit(NewObject i);
+
+    void visit(NewArray i);
+
+    void visit(NewString i);
+
+    void visit(Check i);
+
+    void visit(InstanceOf i);
+
+    void visit(Print i);
+
+    void visit(Jump i);
+
+    void visit(Branch i);
+
+    void visit(Return i);
+
+    void visit(Phi i);
+}
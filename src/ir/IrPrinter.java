@@ -0,0 +1,206 @@
+package ir;
+
+import semantics.info.VariableInfo;
+
+import java.util.StringJoiner;
+
+/**
+ * Prints the IR in a line-oriented textual form, one instruction per line, so that the
+ * IR of two compilations can be diffed. Definitions are annotated with their type.
+ */
+public final class IrPrinter implements InstructionVisitor {
+    private static final String INDENT = "    ";
+    private final StringBuilder sb;
+
+    private IrPrinter() {
+        this.sb = new StringBuilder();
+    }
+
+    public static String print(IrProgram program) {
+        var printer = new IrPrinter();
+        for (var f : program.getFunctions()) {
+            printer.function(f);
+            printer.sb.append('\n');
+        }
+        return printer.sb.toString();
+    }
+
+    public static String print(Function function) {
+        var printer = new IrPrinter();
+        printer.function(function);
+        return printer.sb.toString();
+    }
+
+    public static String print(Instruction instruction) {
+        var printer = new IrPrinter();
+        instruction.accept(printer);
+        return printer.sb.toString();
+    }
+
+    private void function(Function f) {
+        var parameters = new StringJoiner(", ", "(", ")");
+        f.getParameters().forEach(p -> parameters.add(p + ": " + p.getType()));
+        sb.append("function ").append(f.getName()).append(parameters);
+        if (f.getReturnType() != null) {
+            sb.append(": ").append(f.getReturnType());
+        }
+        sb.append(" [").append(f.getKind().name().toLowerCase()).append("]\n");
+
+        for (var b : f.getBlocks()) {
+            sb.append(b.getLabel()).append(':');
+            if (!b.getPredecessors().isEmpty()) {
+                var predecessors = new StringJoiner(", ");
+                b.getPredecessors().forEach(p -> predecessors.add(p.getLabel()));
+                sb.append(" ".repeat(Math.max(1, 24 - b.getLabel().length() - 1)))
+                        .append("; preds ").append(predecessors);
+            }
+            sb.append('\n');
+            for (var i : b.getInstructions()) {
+                sb.append(INDENT);
+                i.accept(this);
+                sb.append('\n');
+            }
+        }
+    }
+
+    @Override
+    public void visit(Copy i) {
+        define(i, "copy").append(i.getValue());
+    }
+
+    @Override
+    public void visit(Binary i) {
+        define(i, i.getOperator().toString()).append(i.getLeft()).append(", ").append(i.getRight());
+    }
+
+    @Override
+    public void visit(Unary i) {
+        define(i, i.getOperator().toString()).append(i.getValue());
+    }
+
+    @Override
+    public void visit(Compare i) {
+        define(i, i.getCondition().toString()).append(i.getLeft()).append(", ").append(i.getRight());
+    }
+
+    @Override
+    public void visit(LoadField i) {
+        define(i, "getfield").append(i.getObject()).append(", ").append(field(i.getField()));
+    }
+
+    @Override
+    public void visit(StoreField i) {
+        sb.append("putfield ").append(i.getObject()).append(", ").append(field(i.getField()))
+                .append(", ").append(i.getValue());
+    }
+
+    @Override
+    public void visit(ArrayLength i) {
+        define(i, "length").append(i.getArray());
+    }
+
+    @Override
+    public void visit(LoadElement i) {
+        define(i, "getelem").append(i.getArray()).append(", ").append(i.getIndex());
+    }
+
+    @Override
+    public void visit(StoreElement i) {
+        sb.append("putelem ").append(i.getArray()).append(", ").append(i.getIndex())
+                .append(", ").append(i.getValue());
+    }
+
+    @Override
+    public void visit(Call i) {
+        define(i, "call").append(i.getCallee());
+        operands(i, "(", ")");
+    }
+
+    @Override
+    public void visit(NewObject i) {
+        define(i, "new").append(i.getClass_().name);
+    }
+
+    @Override
+    public void visit(NewArray i) {
+        define(i, "newarray");
+        operands(i, "[", "]");
+    }
+
+    @Override
+    public void visit(NewString i) {
+        define(i, "newstring").append('"').append(escape(i.getString())).append('"');
+    }
+
+    @Override
+    public void visit(Check i) {
+        sb.append("check ").append(i.getKind());
+        operands(i, " ", "");
+        sb.append(" @").append(i.getLineNumber());
+    }
+
+    @Override
+    public void visit(InstanceOf i) {
+        define(i, "instanceof").append(i.getValue()).append(", ").append(i.getClass_().name);
+    }
+
+    @Override
+    public void visit(Print i) {
+        sb.append("print ").append(i.getKind()).append(' ').append(i.getValue());
+    }
+
+    @Override
+    public void visit(Jump i) {
+        sb.append("jump ").append(i.getTarget());
+    }
+
+    @Override
+    public void visit(Branch i) {
+        sb.append("branch ").append(i.getCondition()).append(' ').append(i.getLeft()).append(", ")
+                .append(i.getRight()).append(", ").append(i.getIfTrue()).append(", ").append(i.getIfFalse());
+    }
+
+    @Override
+    public void visit(Return i) {
+        sb.append("return");
+        operands(i, " ", "");
+    }
+
+    @Override
+    public void visit(Phi i) {
+        define(i, "phi");
+        var incoming = new StringJoiner(", ");
+        for (int k = 0; k < i.operandCount(); k++) {
+            incoming.add("[" + i.getOperand(k) + ", " + i.getBlocks().get(k) + "]");
+        }
+        sb.append(incoming);
+    }
+
+    /**
+     * Appends the result of the specified instruction, if any, and its mnemonic.
+     */
+    private StringBuilder define(Instruction i, String mnemonic) {
+        var result = i.getResult();
+        if (result != null) {
+            sb.append(result).append(": ").append(result.getType()).append(" = ");
+        }
+        return sb.append(mnemonic).append(' ');
+    }
+
+    private void operands(Instruction i, String prefix, String suffix) {
+        var operands = new StringJoiner(", ", prefix, suffix);
+        operands.setEmptyValue(prefix.isBlank() ? "" : prefix + suffix);
+        for (int k = 0; k < i.operandCount(); k++) {
+            operands.add(String.valueOf(i.getOperand(k)));
+        }
+        sb.append(operands);
+    }
+
+    private static String field(VariableInfo field) {
+        return field.getParent().getName() + "." + field.name;
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\t", "\\t");
+    }
+}
@@ -0,0 +1,27 @@
+package ir;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The IR of a whole program: its functions, in the order in which they are emitted.
+ */
+public final class IrProgram {
+    @Getter
+    private final List<Function> functions;
+
+    public IrProgram() {
+        this.functions = new ArrayList<>();
+    }
+
+    public void add(Function function) {
+        functions.add(function);
+    }
+
+    @Override
+    public String toString() {
+        return IrPrinter.print(this);
+    }
+}
@@ -0,0 +1,38 @@
+package ir;
+
+import semantics.type.Type;
+import semantics.type.TypeBoolean;
+import semantics.type.TypeInt;
+
+/**
+ * The type of an IR value. Every value occupies one word; the type only records
+ * how the value is interpreted.
+ */
+public enum IrType {
+    INT("int"),
+    BOOLEAN("bool"),
+    REFERENCE("ref");
+
+    private final String name;
+
+    IrType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The IR type of values of the specified semantic type.
+     */
+    public static IrType of(Type type) {
+        if (type == TypeInt.getInstance()) {
+            return INT;
+        } else if (type == TypeBoolean.getInstance()) {
+            return BOOLEAN;
+        }
+        return REFERENCE;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
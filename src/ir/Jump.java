@@ -0,0 +1,40 @@
+package ir;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Transfers control to the target block.
+ */
+public final class Jump extends Instruction {
+    @Getter
+    private BasicBlock target;
+
+    public Jump(BasicBlock target) {
+        super(null);
+        this.target = target;
+    }
+
+    @Override
+    public boolean isTerminator() {
+        return true;
+    }
+
+    @Override
+    public List<BasicBlock> getSuccessors() {
+        return List.of(target);
+    }
+
+    @Override
+    public void replaceSuccessor(BasicBlock successor, BasicBlock replacement) {
+        if (target == successor) {
+            target = replacement;
+        }
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,23 @@
+package ir;
+
+/**
+ * <code>result = array[index]</code>, where the index is within bounds, see {@link Check.Kind#BOUNDS}.
+ */
+public final class LoadElement extends Instruction {
+    public LoadElement(VirtualRegister result, Value array, Value index) {
+        super(result, array, index);
+    }
+
+    public Value getArray() {
+        return getOperand(0);
+    }
+
+    public Value getIndex() {
+        return getOperand(1);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,26 @@
+package ir;
+
+import lombok.Getter;
+import semantics.info.VariableInfo;
+
+/**
+ * <code>result = object.field</code>, where the object is not null.
+ */
+public final class LoadField extends Instruction {
+    @Getter
+    private final VariableInfo field;
+
+    public LoadField(VirtualRegister result, Value object, VariableInfo field) {
+        super(result, object);
+        this.field = field;
+    }
+
+    public Value getObject() {
+        return getOperand(0);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,186 @@
+package ir;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The natural loops of a {@link Function}, nested into a forest. An edge from a block to
+ * one of its dominators is a back edge, whose target is the header of a loop; the loop is
+ * the header plus every block that reaches the source of a back edge without passing
+ * through the header. Loops sharing a header are merged, and a loop is nested in the
+ * smallest loop containing its header. Only blocks reachable from the entry are in loops.
+ */
+public final class LoopNestForest {
+    /**
+     * A natural loop, with the loops nested directly in it.
+     */
+    public static final class Loop {
+        @Getter
+        private final BasicBlock header;
+        @Getter
+        private final List<BasicBlock> blocks;  // in reverse postorder, header first
+        @Getter
+        private final List<Loop> children;
+        private final Set<BasicBlock> members;
+        @Getter
+        private Loop parent;  // null for an outermost loop
+        @Getter
+        private int depth;  // 1 for an outermost loop
+
+        private Loop(BasicBlock header, List<BasicBlock> blocks) {
+            this.header = header;
+            this.blocks = blocks;
+            this.children = new ArrayList<>();
+            this.members = new HashSet<>(blocks);
+        }
+
+        public boolean contains(BasicBlock b) {
+            return members.contains(b);
+        }
+
+        /**
+         * @return The blocks outside of this loop that are successors of a block inside it.
+         */
+        public List<BasicBlock> getExits() {
+            List<BasicBlock> exits = new ArrayList<>();
+            for (var b : blocks) {
+                for (var s : b.getSuccessors()) {
+                    if (!contains(s) && !exits.contains(s)) {
+                        exits.add(s);
+                    }
+                }
+            }
+            return exits;
+        }
+
+        @Override
+        public String toString() {
+            return "loop " + header + " " + blocks;
+        }
+    }
+
+    private final DominatorTree dominators;
+    @Getter
+    private final List<Loop> loops;  // outer loops before the loops nested in them
+    @Getter
+    private final List<Loop> roots;
+    private final Loop[] innermost;  // innermost loop by reverse postorder index
+
+    public LoopNestForest(Function function) {
+        this(dominatorsOf(function));
+    }
+
+    public LoopNestForest(DominatorTree dominators) {
+        this.dominators = dominators;
+        this.loops = new ArrayList<>();
+        this.roots = new ArrayList<>();
+        this.innermost = new Loop[dominators.getReversePostorder().size()];
+        findLoops();
+        nest();
+    }
+
+    private static DominatorTree dominatorsOf(Function function) {
+        function.linkPredecessors();
+        return new DominatorTree(function);
+    }
+
+    /**
+     * @return The innermost loop containing the specified block, or <code>null</code> if
+     *         it is not in a loop.
+     */
+    public Loop getLoop(BasicBlock b) {
+        int i = dominators.indexOf(b);
+        return i < 0 ? null : innermost[i];
+    }
+
+    /**
+     * @return The number of loops containing the specified block.
+     */
+    public int getDepth(BasicBlock b) {
+        var loop = getLoop(b);
+        return loop == null ? 0 : loop.depth;
+    }
+
+    /**
+     * @return Whether the specified block is reachable from the entry of the function.
+     */
+    public boolean isReachable(BasicBlock b) {
+        return dominators.indexOf(b) >= 0;
+    }
+
+    /**
+     * @return Whether the specified block is the header of a loop.
+     */
+    public boolean isHeader(BasicBlock b) {
+        var loop = getLoop(b);
+        return loop != null && loop.header == b;
+    }
+
+    private void findLoops() {
+        var order = dominators.getReversePostorder();
+        Map<BasicBlock, List<BasicBlock>> latches = new LinkedHashMap<>();  // by header
+        for (var b : order) {
+            for (var s : b.getSuccessors()) {
+                if (dominators.dominates(s, b)) {
+                    latches.computeIfAbsent(s, k -> new ArrayList<>()).add(b);
+                }
+            }
+        }
+
+        // walk backwards from the latches to the header
+        boolean[] inLoop = new boolean[order.size()];
+        latches.forEach((header, sources) -> {
+            List<BasicBlock> blocks = new ArrayList<>();
+            blocks.add(header);
+            inLoop[dominators.indexOf(header)] = true;
+            var pending = new ArrayDeque<BasicBlock>();
+            for (var latch : sources) {
+                if (!inLoop[dominators.indexOf(latch)]) {
+                    inLoop[dominators.indexOf(latch)] = true;
+                    blocks.add(latch);
+                    pending.push(latch);
+                }
+            }
+            while (!pending.isEmpty()) {
+                for (var p : pending.pop().getPredecessors()) {
+                    int i = dominators.indexOf(p);
+                    if (i >= 0 && !inLoop[i]) {
+                        inLoop[i] = true;
+                        blocks.add(p);
+                        pending.push(p);
+                    }
+                }
+            }
+
+            blocks.forEach(b -> inLoop[dominators.indexOf(b)] = false);
+            blocks.sort(Comparator.comparingInt(dominators::indexOf));
+            loops.add(new Loop(header, blocks));
+        });
+        loops.sort(Comparator.comparingInt(loop -> dominators.indexOf(loop.header)));
+    }
+
+    /**
+     * Nests every loop in the innermost loop containing its header. Headers are visited in
+     * reverse postorder, so every loop is visited after the loops containing it, and the
+     * innermost loop of a block is the last one visited that contains it.
+     */
+    private void nest() {
+        for (var loop : loops) {
+            var parent = innermost[dominators.indexOf(loop.header)];
+            loop.parent = parent;
+            loop.depth = parent == null ? 1 : parent.depth + 1;
+            (parent == null ? roots : parent.children).add(loop);
+            for (var b : loop.blocks) {
+                innermost[dominators.indexOf(b)] = loop;
+            }
+        }
+    }
+}
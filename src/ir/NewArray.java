@@ -0,0 +1,21 @@
+package ir;
+
+/**
+ * <code>result = new [dimensions...]</code>: allocates an array with the specified,
+ * non-negative dimension lengths (see {@link Check.Kind#ARRAY_SIZE}), with all nested
+ * arrays allocated as well.
+ */
+public final class NewArray extends Instruction {
+    public NewArray(VirtualRegister result, Value... dimensions) {
+        super(result, dimensions);
+    }
+
+    public int getDimensionCount() {
+        return operandCount();
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,23 @@
+package ir;
+
+import lombok.Getter;
+import semantics.info.ClassInfo;
+
+/**
+ * <code>result = new class</code>: allocates an object and installs its virtual table,
+ * without running a constructor.
+ */
+public final class NewObject extends Instruction {
+    @Getter
+    private final ClassInfo class_;
+
+    public NewObject(VirtualRegister result, ClassInfo class_) {
+        super(result);
+        this.class_ = class_;
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
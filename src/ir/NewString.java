@@ -0,0 +1,21 @@
+package ir;
+
+import lombok.Getter;
+
+/**
+ * <code>result = "string"</code>: allocates a new string with the specified contents.
+ */
+public final class NewString extends Instruction {
+    @Getter
+    private final String string;
+
+    public NewString(VirtualRegister result, String string) {
+        super(result);
+        this.string = string;
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
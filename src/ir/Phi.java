@@ -0,0 +1,55 @@
+package ir;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selects the value of one of its operands by the predecessor that control came from:
+ * operand <code>k</code> is the value on the edge from block <code>k</code> of
+ * {@link #getBlocks()}. Phis only appear in SSA form, at the start of a block.
+ */
+public final class Phi extends Instruction {
+    @Getter
+    private final List<BasicBlock> blocks;
+
+    public Phi(VirtualRegister result, List<BasicBlock> blocks) {
+        super(result, new Value[blocks.size()]);
+        this.blocks = new ArrayList<>(blocks);
+    }
+
+    /**
+     * @return The value on the edge from the specified predecessor.
+     */
+    public Value getValue(BasicBlock predecessor) {
+        int k = blocks.indexOf(predecessor);
+        if (k < 0) {
+            throw new IllegalStateException(predecessor + " is not an incoming block of " + this);
+        }
+        return getOperand(k);
+    }
+
+    /**
+     * Sets the value on the edge from the specified predecessor.
+     */
+    public void setValue(BasicBlock predecessor, Value value) {
+        int k = blocks.indexOf(predecessor);
+        if (k < 0) {
+            throw new IllegalStateException(predecessor + " is not an incoming block of " + this);
+        }
+        setOperand(k, value);
+    }
+
+    /**
+     * Replaces an incoming block, e.g. when the edge from it is split.
+     */
+    public void replaceBlock(BasicBlock block, BasicBlock replacement) {
+        blocks.replaceAll(b -> b == block ? replacement : b);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,43 @@
+package ir;
+
+import lombok.Getter;
+
+/**
+ * Prints a value on its own line.
+ */
+public final class Print extends Instruction {
+    public enum Kind {
+        INT("int"),
+        BOOLEAN("bool"),
+        STRING("string"),
+        REFERENCE("ref");  // printed as its address
+
+        private final String name;
+
+        Kind(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @Getter
+    private final Kind kind;
+
+    public Print(Kind kind, Value value) {
+        super(null, value);
+        this.kind = kind;
+    }
+
+    public Value getValue() {
+        return getOperand(0);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,22 @@
+package ir;
+
+/**
+ * Returns from the function. A method returns at most one value; a pre-constructor
+ * returns its object and arguments, which it leaves in the argument registers for
+ * the post-constructor.
+ */
+public final class Return extends Instruction {
+    public Return(Value... values) {
+        super(null, values);
+    }
+
+    @Override
+    public boolean isTerminator() {
+        return true;
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,27 @@
+package ir;
+
+/**
+ * <code>array[index] = value</code>, where the index is within bounds, see {@link Check.Kind#BOUNDS}.
+ */
+public final class StoreElement extends Instruction {
+    public StoreElement(Value array, Value index, Value value) {
+        super(null, array, index, value);
+    }
+
+    public Value getArray() {
+        return getOperand(0);
+    }
+
+    public Value getIndex() {
+        return getOperand(1);
+    }
+
+    public Value getValue() {
+        return getOperand(2);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
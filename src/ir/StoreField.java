@@ -0,0 +1,30 @@
+package ir;
+
+import lombok.Getter;
+import semantics.info.VariableInfo;
+
+/**
+ * <code>object.field = value</code>, where the object is not null.
+ */
+public final class StoreField extends Instruction {
+    @Getter
+    private final VariableInfo field;
+
+    public StoreField(Value object, VariableInfo field, Value value) {
+        super(null, object, value);
+        this.field = field;
+    }
+
+    public Value getObject() {
+        return getOperand(0);
+    }
+
+    public Value getValue() {
+        return getOperand(1);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,41 @@
+package ir;
+
+import lombok.Getter;
+
+/**
+ * <code>result = op value</code>
+ */
+public final class Unary extends Instruction {
+    public enum Operator {
+        NEG("neg"),
+        NOT("not");  // bitwise
+
+        private final String name;
+
+        Operator(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @Getter
+    private final Operator operator;
+
+    public Unary(VirtualRegister result, Operator operator, Value value) {
+        super(result, value);
+        this.operator = operator;
+    }
+
+    public Value getValue() {
+        return getOperand(0);
+    }
+
+    @Override
+    public void accept(InstructionVisitor v) {
+        v.visit(this);
+    }
+}
@@ -0,0 +1,8 @@
+package ir;
+
+/**
+ * An operand of an IR instruction: either a {@link VirtualRegister} or a {@link Constant}.
+ */
+public sealed interface Value permits VirtualRegister, Constant {
+    IrType getType();
+}
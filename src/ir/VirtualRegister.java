@@ -0,0 +1,33 @@
+package ir;
+
+import lombok.Getter;
+
+/**
+ * A typed virtual register of a single {@link Function}. Registers which hold a source
+ * variable (a parameter, a local variable, or <code>this</code>) are named after it and
+ * may be assigned any number of times; temporaries are unnamed.
+ */
+@Getter
+public final class VirtualRegister implements Value {
+    private final int number;
+    private final IrType type;
+    private final String name;
+
+    VirtualRegister(int number, IrType type, String name) {
+        this.number = number;
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * @return Whether this register holds a source variable.
+     */
+    public boolean isVariable() {
+        return name != null;
+    }
+
+    @Override
+    public String toString() {
+        return name != null ? "%" + name + "." + number : "%" + number;
+    }
+}
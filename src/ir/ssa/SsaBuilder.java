@@ -0,0 +1,346 @@
+package ir.ssa;
+
+import ir.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Puts a {@link Function} into pruned SSA form, in which every register is defined by
+ * exactly one instruction, and every use is dominated by its definition.
+ * <p>
+ * The registers to rename are the source variables other than unassigned parameters, and
+ * the temporaries that are assigned more than once (e.g. the result of a conditional
+ * expression). Phis are placed at the iterated dominance frontier of the blocks
+ * assigning each of them, but only where it is live on entry, which is solved with bit
+ * vectors over a worklist. Definitions are then renamed in a preorder walk of the
+ * {@link DominatorTree}. Parameters are defined on entry and keep their register; a variable
+ * read before any assignment reaches it reads the zero value of its type.
+ * </p>
+ */
+public final class SsaBuilder {
+    private final Function function;
+    private final DominatorTree dominators;
+    private final List<BasicBlock> blocks;  // reverse postorder
+    private final int[] variableByRegister;  // variable number by register number, -1 if not renamed
+    private final List<VirtualRegister> variables;
+    private final Map<Phi, Integer> phis;  // variable number of every placed phi
+    private int words;
+    private long[] def;
+    private long[] liveIn;
+
+    public SsaBuilder(Function function) {
+        this.function = function;
+        function.linkPredecessors();
+        this.dominators = new DominatorTree(function);
+        this.blocks = dominators.getReversePostorder();
+        this.variableByRegister = new int[function.getRegisterCount()];
+        this.variables = new ArrayList<>();
+        this.phis = new HashMap<>();
+    }
+
+    /**
+     * Puts every function of the specified program into SSA form.
+     */
+    public static void build(IrProgram program) {
+        program.getFunctions().forEach(f -> new SsaBuilder(f).build());
+    }
+
+    /**
+     * Places the phis and renames the definitions.
+     * @return The dominator tree of the function, which renaming does not change.
+     */
+    public DominatorTree build() {
+        numberVariables();
+        if (!variables.isEmpty()) {
+            computeLiveness();
+            placePhis();
+            rename();
+        }
+        return dominators;
+    }
+
+    private void numberVariables() {
+        int[] definitions = new int[variableByRegister.length];
+        for (var b : blocks) {
+            for (var i : b.getInstructions()) {
+                if (i.getResult() != null) {
+                    definitions[i.getResult().getNumber()]++;
+                }
+            }
+        }
+
+        // parameters are defined on entry, so they are only renamed if they are assigned
+        for (var p : function.getParameters()) {
+            definitions[p.getNumber()]++;
+        }
+
+        Arrays.fill(variableByRegister, -1);
+        for (var b : blocks) {
+            for (var i : b.getInstructions()) {
+                for (int k = 0; k < i.operandCount(); k++) {
+                    if (i.getOperand(k) instanceof VirtualRegister r && definitions[r.getNumber()] == 0) {
+                        number(r);  // never assigned, so it reads the zero value
+                    }
+                }
+                var r = i.getResult();
+                if (r != null && (r.isVariable() || definitions[r.getNumber()] > 1)) {
+                    number(r);
+                }
+            }
+        }
+        words = (variables.size() + 63) >>> 6;
+    }
+
+    private void number(VirtualRegister r) {
+        if (variableByRegister[r.getNumber()] < 0) {
+            variableByRegister[r.getNumber()] = variables.size();
+            variables.add(r);
+        }
+    }
+
+    /**
+     * Solves liveIn[b] = use[b] union (liveIn of the successors of b - def[b]) backwards.
+     */
+    private void computeLiveness() {
+        int n = blocks.size();
+        def = new long[n * words];
+        liveIn = new long[n * words];
+        long[] use = new long[n * words];
+        for (int b = 0; b < n; b++) {
+            int base = b * words;
+            for (var i : blocks.get(b).getInstructions()) {
+                for (int k = 0; k < i.operandCount(); k++) {
+                    int v = variableOf(i.getOperand(k));
+                    if (v >= 0 && !isSet(def, base, v)) {
+                        set(use, base, v);
+                    }
+                }
+                int v = variableOf(i.getResult());
+                if (v >= 0) {
+                    set(def, base, v);
+                }
+            }
+        }
+
+        // circular queue of pending block indices, seeded in postorder
+        int[] queue = new int[n];
+        boolean[] queued = new boolean[n];
+        for (int k = 0; k < n; k++) {
+            queue[k] = n - 1 - k;
+            queued[n - 1 - k] = true;
+        }
+        int head = 0;
+        int pending = n;
+        long[] out = new long[words];
+        while (pending > 0) {
+            int b = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            pending--;
+            queued[b] = false;
+
+            int base = b * words;
+            Arrays.fill(out, 0);
+            for (var s : blocks.get(b).getSuccessors()) {
+                int sbase = dominators.indexOf(s) * words;
+                for (int w = 0; w < words; w++) {
+                    out[w] |= liveIn[sbase + w];
+                }
+            }
+
+            boolean changed = false;
+            for (int w = 0; w < words; w++) {
+                long live = use[base + w] | (out[w] & ~def[base + w]);
+                if (live != liveIn[base + w]) {
+                    liveIn[base + w] = live;
+                    changed = true;
+                }
+            }
+
+            if (changed) {
+                for (var p : blocks.get(b).getPredecessors()) {
+                    int q = dominators.indexOf(p);
+                    if (q >= 0 && !queued[q]) {
+                        queued[q] = true;
+                        queue[(head + pending) % n] = q;
+                        pending++;
+                    }
+                }
+            }
+        }
+    }
+
+    private void placePhis() {
+        int n = blocks.size();
+        List<List<Phi>> placed = new ArrayList<>(n);
+        for (int b = 0; b < n; b++) {
+            placed.add(new ArrayList<>());
+        }
+
+        // the last variable that a block received a phi for, or was queued for
+        int[] hasPhi = new int[n];
+        int[] queued = new int[n];
+        Arrays.fill(hasPhi, -1);
+        Arrays.fill(queued, -1);
+        var worklist = new ArrayDeque<Integer>();
+        var sites = definitionSites();
+        for (int v = 0; v < variables.size(); v++) {
+            for (int b : sites[v]) {
+                queued[b] = v;
+                worklist.push(b);
+            }
+            while (!worklist.isEmpty()) {
+                for (var y : dominators.getFrontier(blocks.get(worklist.pop()))) {
+                    int f = dominators.indexOf(y);
+                    if (hasPhi[f] != v && isSet(liveIn, f * words, v)) {
+                        var phi = new Phi(null, y.getPredecessors());
+                        placed.get(f).add(phi);
+                        phis.put(phi, v);
+                        hasPhi[f] = v;
+                        if (queued[f] != v) {
+                            queued[f] = v;
+                            worklist.push(f);
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int b = 0; b < n; b++) {
+            blocks.get(b).getInstructions().addAll(0, placed.get(b));
+        }
+    }
+
+    /**
+     * @return The indices of the blocks assigning each variable, by variable number.
+     */
+    private int[][] definitionSites() {
+        int[] counts = new int[variables.size()];
+        for (int b = 0; b < blocks.size(); b++) {
+            for (int w = 0; w < words; w++) {
+                for (long bits = def[b * words + w]; bits != 0; bits &= bits - 1) {
+                    counts[(w << 6) + Long.numberOfTrailingZeros(bits)]++;
+                }
+            }
+        }
+
+        int[][] sites = new int[variables.size()][];
+        for (int v = 0; v < sites.length; v++) {
+            sites[v] = new int[counts[v]];
+            counts[v] = 0;
+        }
+        for (int b = 0; b < blocks.size(); b++) {
+            for (int w = 0; w < words; w++) {
+                for (long bits = def[b * words + w]; bits != 0; bits &= bits - 1) {
+                    int v = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    sites[v][counts[v]++] = b;
+                }
+            }
+        }
+        return sites;
+    }
+
+    /**
+     * Renames every definition to a new register in a preorder walk of the dominator tree,
+     * keeping the current register of every variable, and undoing the definitions of a
+     * block once its subtree is done.
+     */
+    private void rename() {
+        var current = new Value[variables.size()];
+        for (var p : function.getParameters()) {
+            int v = variableOf(p);
+            if (v >= 0) {
+                current[v] = p;
+            }
+        }
+
+        var undoVariables = new ArrayDeque<Integer>();
+        var undoValues = new ArrayList<Value>();
+        int[] marks = new int[blocks.size()];
+        var pending = new ArrayDeque<Integer>();
+        pending.push(0);
+        while (!pending.isEmpty()) {
+            int b = pending.pop();
+            if (b < 0) {  // subtree of ~b is done
+                while (undoVariables.size() > marks[~b]) {
+                    current[undoVariables.pop()] = undoValues.remove(undoValues.size() - 1);
+                }
+                continue;
+            }
+
+            marks[b] = undoVariables.size();
+            var block = blocks.get(b);
+            for (var i : block.getInstructions()) {
+                if (!(i instanceof Phi)) {
+                    for (int k = 0; k < i.operandCount(); k++) {
+                        int v = variableOf(i.getOperand(k));
+                        if (v >= 0) {
+                            i.setOperand(k, valueOf(current, v));
+                        }
+                    }
+                }
+
+                int v = i instanceof Phi phi ? phis.get(phi) : variableOf(i.getResult());
+                if (v >= 0) {
+                    var r = variables.get(v);
+                    var renamed = r.isVariable() ? function.newVariable(r.getType(), r.getName())
+                            : function.newRegister(r.getType());
+                    undoVariables.push(v);
+                    undoValues.add(current[v]);
+                    current[v] = renamed;
+                    i.setResult(renamed);
+                }
+            }
+
+            for (var s : block.getSuccessors()) {
+                for (var i : s.getInstructions()) {
+                    if (!(i instanceof Phi phi)) {
+                        break;
+                    }
+                    phi.setValue(block, valueOf(current, phis.get(phi)));
+                }
+            }
+
+            pending.push(~b);
+            var children = dominators.getChildren(block);
+            for (int k = children.size() - 1; k >= 0; k--) {
+                pending.push(dominators.indexOf(children.get(k)));
+            }
+        }
+    }
+
+    /**
+     * @return The variable number of the specified value, or -1 if it is not renamed.
+     */
+    private int variableOf(Value value) {
+        return value instanceof VirtualRegister r && r.getNumber() < variableByRegister.length
+                ? variableByRegister[r.getNumber()] : -1;
+    }
+
+    /**
+     * @return The current value of the specified variable, which is the zero value of
+     *         its type if no assignment reaches this point.
+     */
+    private Value valueOf(Value[] current, int v) {
+        if (current[v] != null) {
+            return current[v];
+        }
+        return switch (variables.get(v).getType()) {
+            case INT -> Constant.of(0);
+            case BOOLEAN -> Constant.FALSE;
+            case REFERENCE -> Constant.NULL;
+        };
+    }
+
+    private static void set(long[] vector, int base, int n) {
+        vector[base + (n >>> 6)] |= 1L << n;
+    }
+
+    private static boolean isSet(long[] vector, int base, int n) {
+        return (vector[base + (n >>> 6)] & (1L << n)) != 0;
+    }
+}
@@ -0,0 +1,105 @@
+package ir.ssa;
+
+import ir.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Takes a {@link Function} out of SSA form, replacing the phis of every block by copies at
+ * the end of its predecessors. An edge from a block with several successors into a block
+ * with phis is split first, so that the copies only run on that edge. The copies of one
+ * edge happen in parallel, so they are ordered such that no register is overwritten before
+ * it is read, and a cycle of copies is broken with a temporary.
+ */
+public final class SsaDestructor {
+    private final Function function;
+
+    public SsaDestructor(Function function) {
+        this.function = function;
+    }
+
+    /**
+     * Takes every function of the specified program out of SSA form.
+     */
+    public static void destruct(IrProgram program) {
+        program.getFunctions().forEach(f -> new SsaDestructor(f).destruct());
+    }
+
+    public void destruct() {
+        for (var b : List.copyOf(function.getBlocks())) {
+            var instructions = b.getInstructions();
+            int count = 0;
+            while (count < instructions.size() && instructions.get(count) instanceof Phi) {
+                count++;
+            }
+            if (count == 0) {
+                continue;
+            }
+
+            List<Phi> phis = new ArrayList<>(count);
+            for (int k = 0; k < count; k++) {
+                phis.add((Phi) instructions.get(k));
+            }
+            for (var p : List.copyOf(b.getPredecessors())) {
+                var source = p;
+                if (p.getSuccessors().stream().distinct().count() > 1) {
+                    source = splitEdge(p, b);
+                    for (var phi : phis) {
+                        phi.replaceBlock(p, source);
+                    }
+                }
+                insertCopies(source, phis);
+            }
+            instructions.subList(0, count).clear();
+        }
+        function.linkPredecessors();
+    }
+
+    /**
+     * @return A new block on the edge from <code>p</code> to <code>b</code>, laid out just before <code>b</code>.
+     */
+    private BasicBlock splitEdge(BasicBlock p, BasicBlock b) {
+        var m = function.newBlock();
+        m.add(new Jump(b));
+        p.getTerminator().replaceSuccessor(b, m);
+        var blocks = function.getBlocks();
+        blocks.add(blocks.indexOf(b), m);
+        return m;
+    }
+
+    /**
+     * Inserts the copies of the phis for the edge from the specified block before its terminator.
+     */
+    private void insertCopies(BasicBlock source, List<Phi> phis) {
+        List<VirtualRegister> destinations = new ArrayList<>(phis.size());
+        List<Value> sources = new ArrayList<>(phis.size());
+        for (var phi : phis) {
+            var value = phi.getValue(source);
+            if (value != phi.getResult()) {
+                destinations.add(phi.getResult());
+                sources.add(value);
+            }
+        }
+
+        var instructions = source.getInstructions();
+        int at = instructions.size() - 1;  // before the terminator
+        while (!destinations.isEmpty()) {
+            boolean progress = false;
+            for (int k = 0; k < destinations.size(); k++) {
+                if (!sources.contains(destinations.get(k))) {  // no pending copy reads it
+                    instructions.add(at++, new Copy(destinations.remove(k), sources.remove(k)));
+                    k--;
+                    progress = true;
+                }
+            }
+
+            if (!progress) {  // every destination is read by another copy, i.e. they form cycles
+                var d = destinations.get(0);
+                var t = function.newRegister(d.getType());
+                instructions.add(at++, new Copy(t, d));
+                sources.replaceAll(s -> s == d ? t : s);
+            }
+        }
+    }
+}
@@ -0,0 +1,1171 @@
+package ir.visitor;
+
+import ast.*;
+import codegen.synth.SyntheticFunction;
+import commons.LazyVisitor;
+import ir.BasicBlock;
+import ir.Binary;
+import ir.Branch;
+import ir.Check;
+import ir.Compare;
+import ir.Condition;
+import ir.Constant;
+import ir.Copy;
+import ir.Function;
+import ir.Instruction;
+import ir.IrProgram;
+import ir.IrType;
+import ir.Jump;
+import ir.LoadElement;
+import ir.LoadField;
+import ir.NewString;
+import ir.StoreElement;
+import ir.StoreField;
+import ir.Unary;
+import ir.Value;
+import ir.VirtualRegister;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+import semantics.info.Signature;
+import semantics.info.VariableInfo;
+import semantics.table.SymbolContext;
+import semantics.type.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lowers the AST into the IR, one {@link Function} per method and two per constructor.
+ * Parameters and local variables are held in named registers, which are read in place;
+ * every other intermediate value gets a fresh temporary. Operands are evaluated and
+ * checked in the same order as {@link codegen.visitor.CodeGenVisitor} does, so a variable
+ * that is read before a sibling expression assigns to it is first copied to a temporary.
+ * Boolean expressions in conditions are lowered to branches, short-circuiting
+ * <code>&amp;&amp;</code> and <code>||</code>.
+ */
+public final class LoweringVisitor extends LazyVisitor {
+    private final SymbolContext symbolContext;
+    private final IrProgram program;
+    private Function function;
+    private BasicBlock block;
+    private Map<VariableInfo, VirtualRegister> variables;
+    private VirtualRegister this_;
+    private Value result;
+    private int constructorCount;
+
+    public LoweringVisitor(SymbolContext symbolContext) {
+        this.symbolContext = symbolContext;
+        this.program = new IrProgram();
+    }
+
+    /**
+     * @return The IR of the visited program.
+     */
+    public IrProgram getProgram() {
+        return program;
+    }
+
+    @Override
+    public void visit(Program n) {
+        n.m.accept(this);
+        n.cl.forEach(c -> c.accept(this));
+    }
+
+    @Override
+    public void visit(MainClass n) {
+        symbolContext.enterClass(n.i1.id);
+        symbolContext.enterMethod(SymbolContext.MAIN);
+
+        begin(new Function(Function.Kind.MAIN, "asm_main", symbolContext.getCurrentMethod(), null));
+        n.sl.forEach(s -> s.accept(this));
+        finish(new ir.Return());
+
+        symbolContext.exit();
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(ClassDeclSimple n) {
+        symbolContext.enterClass(n.i.id);
+        constructorCount = 0;
+        n.ml.forEach(m -> m.accept(this));
+        if (constructorCount == 0) {
+            // no constructor provided => synthesize default ctor
+            final Location loc = new Location(0, 0);
+            lowerPreConstructor(Signature.of(n.i.s), false, false, false,
+                    new FormalList(loc), new StatementList(loc));
+            lowerPostConstructor(Signature.of(n.i.s), new FormalList(loc), new StatementList(loc));
+        }
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(ClassDeclExtends n) {
+        symbolContext.enterClass(n.i.id);
+        constructorCount = 0;
+        n.ml.forEach(m -> m.accept(this));
+        if (constructorCount == 0) {
+            // no constructor provided => synthesize default ctor
+            final Location loc = new Location(0, 0);
+            lowerPreConstructor(Signature.of(n.i.s), false, true, false,
+                    new FormalList(loc), new StatementList(loc));
+            lowerPostConstructor(Signature.of(n.i.s), new FormalList(loc), new StatementList(loc));
+        }
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(MethodDecl n) {
+        var method = symbolContext.lookupMethod(n.i.id);
+        if (method == null) {
+            throw new IllegalStateException();
+        }
+
+        var returnType = method.returnType == TypeVoid.getInstance() ? null : IrType.of(method.returnType);
+        begin(new Function(Function.Kind.METHOD, method.getQualifiedName(), method, returnType));
+        symbolContext.enterMethod(n.i.id);
+        declareParameters(n.fl);
+        n.sl.forEach(s -> s.accept(this));
+        symbolContext.exit();
+        finish(new ir.Return());
+    }
+
+    @Override
+    public void visit(ConstructorDecl n) {
+        constructorCount++;
+        var constructor = n.constructorInfo;
+        if (constructor == null) {
+            throw new IllegalStateException();
+        }
+        lowerPreConstructor(constructor.getSignature(),
+                constructor.invokesSuperCtor,
+                constructor.superCtor != null,
+                constructor.invokesThisCtor,
+                n.fl,
+                n.sl
+        );
+        lowerPostConstructor(constructor.getSignature(), n.fl, n.sl);
+    }
+
+    private void lowerPreConstructor(final Signature signature,
+                                     final boolean invokesSuperCtor,
+                                     final boolean hasZeroArgSuperCtor,
+                                     final boolean invokesThisCtor,
+                                     final FormalList parameters,
+                                     final StatementList body) {
+        symbolContext.enterConstructor(signature);
+        begin(new Function(Function.Kind.PRE_CONSTRUCTOR, signature.toString(),
+                symbolContext.getCurrentConstructor(), null));
+        declareParameters(parameters);
+
+        var class_ = symbolContext.lookupClass(signature.getNameId());
+        if (class_ == null) {
+            throw new IllegalStateException();
+        }
+
+        // first, if we have a super call, we need to invoke this immediately
+        if (invokesSuperCtor) {  // explicit super ctor invocation
+            var firstStmt = body.get(0);
+            if (!(firstStmt instanceof SuperCtorInvocation)) {
+                throw new IllegalStateException();
+            }
+            firstStmt.accept(this);
+        } else if (hasZeroArgSuperCtor && !invokesThisCtor) {
+            // implicit zero-arg super ctor invocation, AND no explicit this() invocation
+            emit(new ir.Call(null, new ir.Call.Constructor(Signature.of(class_.getParent().name), false), this_));
+        }
+
+        // then, we apply variable initializers for *only* this class's instance variables
+        if (!invokesThisCtor) {
+            symbolContext.swap(signature.getNameId());
+            class_.getInstanceVariables().forEach(v -> {
+                if (v.getParent().getName().equals(class_.name) && v.hasInitializer()) {
+                    emit(new StoreField(this_, v, lower(v.initializer)));
+                }
+            });
+            symbolContext.restore();
+        }
+        symbolContext.exit();
+
+        // the object and the original arguments are left for the post-constructor
+        finish(new ir.Return(function.getParameters().toArray(new Value[0])));
+    }
+
+    private void lowerPostConstructor(final Signature signature,
+                                      final FormalList parameters,
+                                      final StatementList body) {
+        symbolContext.enterConstructor(signature);
+        begin(new Function(Function.Kind.POST_CONSTRUCTOR, signature + "_post",
+                symbolContext.getCurrentConstructor(), IrType.REFERENCE));
+        declareParameters(parameters);
+
+        // lower constructor body, excluding super call if it existed
+        body.forEach(s -> {
+            if (!(s instanceof SuperCtorInvocation)) s.accept(this);
+        });
+        symbolContext.exit();
+        finish(new ir.Return(this_));
+    }
+
+    @Override
+    public void visit(VarDecl n) {
+        // variable is assigned a register when it is first referenced
+    }
+
+    @Override
+    public void visit(VarInit n) {
+        var v = symbolContext.lookupVariable(n.i.id);
+        if (v == null || v.isInstanceVariable()) {
+            throw new IllegalStateException();
+        }
+        assignVariable(variable(v), lower(n.e));
+    }
+
+    @Override
+    public void visit(Block n) {
+        symbolContext.enterBlock(n.blockInfo);
+        n.sl.forEach(s -> s.accept(this));
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(SuperCtorInvocation n) {
+        final var superCtor = symbolContext.getCurrentConstructor().superCtor;
+        if (superCtor == null) {
+            throw new IllegalStateException();
+        }
+        emit(new ir.Call(null, new ir.Call.Constructor(superCtor.getSignature(), false), lowerArguments(this_, n.el)));
+    }
+
+    @Override
+    public void visit(ThisCtorInvocation n) {
+        final var thisCtor = symbolContext.getCurrentConstructor().thisCtor;
+        if (thisCtor == null) {
+            throw new IllegalStateException();
+        }
+        emit(new ir.Call(null, new ir.Call.Constructor(thisCtor.getSignature(), thisCtor.invokesThisCtor),
+                lowerArguments(this_, n.el)));
+    }
+
+    @Override
+    public void visit(Return n) {
+        if (symbolContext.getCurrentMethod() == null) {
+            throw new IllegalStateException();
+        }
+
+        var value = lower(n.e);
+        emit(value != null ? new ir.Return(value) : new ir.Return());
+        start(function.newBlock());  // unreachable, removed once the function is complete
+    }
+
+    @Override
+    public void visit(If n) {
+        var then = function.newBlock();
+        var end = function.newBlock();
+
+        lowerCondition(n.e, then, end);
+        start(then);
+        n.s.accept(this);
+        emit(new Jump(end));
+        start(end);
+    }
+
+    @Override
+    public void visit(IfElse n) {
+        var then = function.newBlock();
+        var else_ = function.newBlock();
+        var end = function.newBlock();
+
+        lowerCondition(n.e, then, else_);
+        start(then);
+        n.s1.accept(this);
+        emit(new Jump(end));
+        start(else_);
+        n.s2.accept(this);
+        emit(new Jump(end));
+        start(end);
+    }
+
+    @Override
+    public void visit(Switch n) {
+        var value = lower(n.e);
+        var end = function.newBlock();
+
+        // cases fall through to the next case in source order, unless they break
+        List<BasicBlock> cases = new ArrayList<>();
+        int defaultIdx = -1;
+        for (int i = 0; i < n.cl.size(); i++) {
+            cases.add(function.newBlock());
+            if (n.cl.get(i) instanceof CaseDefault) {
+                defaultIdx = i;
+            }
+        }
+
+        for (int i = 0; i < n.cl.size(); i++) {
+            if (n.cl.get(i) instanceof CaseSimple case_) {
+                var next = function.newBlock();
+                emit(new Branch(Condition.EQ, value, Constant.of(case_.n), cases.get(i), next));
+                start(next);
+            }
+        }
+        emit(new Jump(defaultIdx >= 0 ? cases.get(defaultIdx) : end));
+
+        // bodies are laid out with the default case last. the default case is expected to
+        // be rare, so its blocks are cold, unless there is no other case
+        for (int i = 0; i < n.cl.size(); i++) {
+            if (i != defaultIdx) {
+                lowerCase(n.cl.get(i), cases, i, end);
+            }
+        }
+        if (defaultIdx >= 0) {
+            var blocks = function.getBlocks();
+            int first = blocks.size();
+            lowerCase(n.cl.get(defaultIdx), cases, defaultIdx, end);
+            if (n.cl.size() > 1) {
+                blocks.subList(first, blocks.size()).forEach(b -> b.setCold(true));
+            }
+        }
+        start(end);
+    }
+
+    private void lowerCase(Case c, List<BasicBlock> cases, int i, BasicBlock end) {
+        start(cases.get(i));
+        c.accept(this);
+        emit(new Jump(c.breaks || i + 1 == cases.size() ? end : cases.get(i + 1)));
+    }
+
+    @Override
+    public void visit(CaseSimple n) {
+        n.sl.forEach(s -> s.accept(this));
+    }
+
+    @Override
+    public void visit(CaseDefault n) {
+        n.sl.forEach(s -> s.accept(this));
+    }
+
+    @Override
+    public void visit(While n) {
+        var body = function.newBlock();
+        var test = function.newBlock();
+        var end = function.newBlock();
+
+        emit(new Jump(test));
+        start(body);
+        n.s.accept(this);
+        emit(new Jump(test));
+        start(test);
+        lowerCondition(n.e, body, end);
+        start(end);
+    }
+
+    @Override
+    public void visit(For n) {
+        var body = function.newBlock();
+        var test = function.newBlock();
+        var end = function.newBlock();
+
+        symbolContext.enterBlock(n.blockInfo);
+        n.s0.accept(this);  // initializer instructions
+        emit(new Jump(test));
+        start(body);
+        n.s2.accept(this);  // body instructions
+        n.s1.accept(this);  // incrementer instructions
+        emit(new Jump(test));
+        start(test);
+        lowerCondition(n.e, body, end);  // a missing condition always holds
+        start(end);
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(Print n) {
+        var value = lower(n.e);
+        var type = n.e.eval().type;
+        ir.Print.Kind kind;
+        if (type.equals(TypeInt.getInstance())) {
+            kind = ir.Print.Kind.INT;
+        } else if (type.equals(TypeBoolean.getInstance())) {
+            kind = ir.Print.Kind.BOOLEAN;
+        } else if (type.equals(TypeString.getInstance())) {
+            kind = ir.Print.Kind.STRING;
+        } else {
+            kind = ir.Print.Kind.REFERENCE;
+        }
+        emit(new ir.Print(kind, value));
+    }
+
+    @Override
+    public void visit(AssignSimple n) {
+        var target = lowerTarget(n.e1, n.e2);
+        var value = lower(n.e2);
+        result = store(target, value);
+    }
+
+    @Override
+    public void visit(AssignPlus n) {
+        if (n.e1.eval().type.equals(TypeString.getInstance())) {
+            var rhs = n.e2.eval().type;
+            SyntheticFunction concat;
+            if (rhs.equals(TypeString.getInstance())) {
+                concat = SyntheticFunction.CONCAT_STRING_STRING;
+            } else if (rhs.equals(TypeInt.getInstance())) {
+                concat = SyntheticFunction.CONCAT_STRING_INT;
+            } else if (rhs.equals(TypeBoolean.getInstance())) {
+                concat = SyntheticFunction.CONCAT_STRING_BOOL;
+            } else if (rhs.equals(TypeNull.getInstance())) {
+                concat = SyntheticFunction.CONCAT_STRING_NULL;
+            } else {
+                throw new IllegalStateException();
+            }
+
+            var target = lowerTarget(n.e1, n.e2);
+            var value = lower(n.e2);
+            var concatenated = function.newRegister(IrType.REFERENCE);
+            emit(new ir.Call(concatenated, new ir.Call.Runtime(concat), load(target), value));
+            result = store(target, concatenated);
+        } else {
+            lowerCompoundAssign(n, Binary.Operator.ADD);
+        }
+    }
+
+    @Override
+    public void visit(AssignMinus n) {
+        lowerCompoundAssign(n, Binary.Operator.SUB);
+    }
+
+    @Override
+    public void visit(AssignTimes n) {
+        lowerCompoundAssign(n, Binary.Operator.MUL);
+    }
+
+    @Override
+    public void visit(AssignDivide n) {
+        lowerCompoundAssign(n, Binary.Operator.DIV);
+    }
+
+    @Override
+    public void visit(AssignMod n) {
+        lowerCompoundAssign(n, Binary.Operator.MOD);
+    }
+
+    @Override
+    public void visit(AssignAnd n) {
+        lowerCompoundAssign(n, Binary.Operator.AND);
+    }
+
+    @Override
+    public void visit(AssignOr n) {
+        lowerCompoundAssign(n, Binary.Operator.OR);
+    }
+
+    @Override
+    public void visit(AssignXor n) {
+        lowerCompoundAssign(n, Binary.Operator.XOR);
+    }
+
+    @Override
+    public void visit(AssignLeftShift n) {
+        lowerCompoundAssign(n, Binary.Operator.SHL);
+    }
+
+    @Override
+    public void visit(AssignRightShift n) {
+        lowerCompoundAssign(n, Binary.Operator.SAR);
+    }
+
+    @Override
+    public void visit(AssignUnsignedRightShift n) {
+        lowerCompoundAssign(n, Binary.Operator.SHR);
+    }
+
+    @Override
+    public void visit(PostIncrement n) {
+        lowerIncrement(n, Binary.Operator.ADD, true);
+    }
+
+    @Override
+    public void visit(PreIncrement n) {
+        lowerIncrement(n, Binary.Operator.ADD, false);
+    }
+
+    @Override
+    public void visit(PostDecrement n) {
+        lowerIncrement(n, Binary.Operator.SUB, true);
+    }
+
+    @Override
+    public void visit(PreDecrement n) {
+        lowerIncrement(n, Binary.Operator.SUB, false);
+    }
+
+    @Override
+    public void visit(And n) {
+        var rhs = function.newBlock();
+        var join = function.newBlock();
+        var value = function.newRegister(IrType.BOOLEAN);
+
+        var lhs = lower(n.e1);
+        emit(new Copy(value, lhs));
+        emit(new Branch(Condition.NE, lhs, Constant.FALSE, rhs, join));
+        start(rhs);
+        emit(new Copy(value, lower(n.e2)));
+        emit(new Jump(join));
+        start(join);
+        result = value;
+    }
+
+    @Override
+    public void visit(Or n) {
+        var rhs = function.newBlock();
+        var join = function.newBlock();
+        var value = function.newRegister(IrType.BOOLEAN);
+
+        var lhs = lower(n.e1);
+        emit(new Copy(value, lhs));
+        emit(new Branch(Condition.NE, lhs, Constant.FALSE, join, rhs));
+        start(rhs);
+        emit(new Copy(value, lower(n.e2)));
+        emit(new Jump(join));
+        start(join);
+        result = value;
+    }
+
+    @Override
+    public void visit(Equal n) {
+        lowerCompare(n, Condition.EQ);
+    }
+
+    @Override
+    public void visit(NotEqual n) {
+        lowerCompare(n, Condition.NE);
+    }
+
+    @Override
+    public void visit(LessThan n) {
+        lowerCompare(n, Condition.LT);
+    }
+
+    @Override
+    public void visit(LessThanOrEqual n) {
+        lowerCompare(n, Condition.LE);
+    }
+
+    @Override
+    public void visit(GreaterThan n) {
+        lowerCompare(n, Condition.GT);
+    }
+
+    @Override
+    public void visit(GreaterThanOrEqual n) {
+        lowerCompare(n, Condition.GE);
+    }
+
+    @Override
+    public void visit(BitwiseAnd n) {
+        lowerBinary(n, Binary.Operator.AND);
+    }
+
+    @Override
+    public void visit(BitwiseOr n) {
+        lowerBinary(n, Binary.Operator.OR);
+    }
+
+    @Override
+    public void visit(BitwiseXor n) {
+        lowerBinary(n, Binary.Operator.XOR);
+    }
+
+    @Override
+    public void visit(UnaryMinus n) {
+        var value = function.newRegister(IrType.INT);
+        emit(new Unary(value, Unary.Operator.NEG, lower(n.e)));
+        result = value;
+    }
+
+    @Override
+    public void visit(UnaryPlus n) {
+        result = lower(n.e);
+    }
+
+    @Override
+    public void visit(Plus n) {
+        var lhs = n.e1.eval().type;
+        var rhs = n.e2.eval().type;
+        if (lhs.equals(TypeInt.getInstance()) && rhs.equals(TypeInt.getInstance())) {
+            lowerBinary(n, Binary.Operator.ADD);
+            return;
+        }
+
+        SyntheticFunction concat;
+        if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeString.getInstance())) {
+            concat = SyntheticFunction.CONCAT_STRING_STRING;
+        } else if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeBoolean.getInstance())) {
+            concat = SyntheticFunction.CONCAT_STRING_BOOL;
+        } else if (lhs.equals(TypeBoolean.getInstance()) && rhs.equals(TypeString.getInstance())) {
+            concat = SyntheticFunction.CONCAT_BOOL_STRING;
+        } else if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeInt.getInstance())) {
+            concat = SyntheticFunction.CONCAT_STRING_INT;
+        } else if (lhs.equals(TypeInt.getInstance()) && rhs.equals(TypeString.getInstance())) {
+            concat = SyntheticFunction.CONCAT_INT_STRING;
+        } else if (lhs.equals(TypeNull.getInstance()) && rhs.equals(TypeString.getInstance())) {
+            concat = SyntheticFunction.CONCAT_NULL_STRING;
+        } else if (lhs.equals(TypeString.getInstance()) && rhs.equals(TypeNull.getInstance())) {
+            concat = SyntheticFunction.CONCAT_STRING_NULL;
+        } else {
+            // no other type combinations should have gotten through at this point
+            throw new IllegalStateException();
+        }
+
+        var left = pin(lower(n.e1), n.e2);
+        var right = lower(n.e2);
+        var value = function.newRegister(IrType.REFERENCE);
+        emit(new ir.Call(value, new ir.Call.Runtime(concat), left, right));
+        result = value;
+    }
+
+    @Override
+    public void visit(Minus n) {
+        lowerBinary(n, Binary.Operator.SUB);
+    }
+
+    @Override
+    public void visit(Times n) {
+        lowerBinary(n, Binary.Operator.MUL);
+    }
+
+    @Override
+    public void visit(Divide n) {
+        lowerBinary(n, Binary.Operator.DIV);
+    }
+
+    @Override
+    public void visit(Mod n) {
+        lowerBinary(n, Binary.Operator.MOD);
+    }
+
+    @Override
+    public void visit(LeftShift n) {
+        lowerBinary(n, Binary.Operator.SHL);
+    }
+
+    @Override
+    public void visit(RightShift n) {
+        lowerBinary(n, Binary.Operator.SAR);
+    }
+
+    @Override
+    public void visit(UnsignedRightShift n) {
+        lowerBinary(n, Binary.Operator.SHR);
+    }
+
+    @Override
+    public void visit(ArrayLookup n) {
+        result = load(lowerElement(n, null));
+    }
+
+    @Override
+    public void visit(ArrayLength n) {
+        var array = lower(n.e);
+        emit(new Check(Check.Kind.NULL, n.lineNumber, array));
+        var length = function.newRegister(IrType.INT);
+        emit(new ir.ArrayLength(length, array));
+        result = length;
+    }
+
+    @Override
+    public void visit(Action n) {
+        lower(n.c);
+    }
+
+    @Override
+    public void visit(Call n) {
+        var receiver = lower(n.e);
+        emit(new Check(Check.Kind.NULL, n.lineNumber, receiver));
+
+        var method = n.resolvedMethod;
+        if (method == null) {
+            throw new IllegalStateException();
+        }
+
+        var arguments = lowerArguments(receiver, n.el);
+        var value = method.returnType == TypeVoid.getInstance() ? null : function.newRegister(IrType.of(method.returnType));
+        emit(new ir.Call(value, new ir.Call.Method(method), arguments));
+        result = value;
+    }
+
+    @Override
+    public void visit(Field n) {
+        result = load(lowerField(n, null));
+    }
+
+    @Override
+    public void visit(Ternary n) {
+        var then = function.newBlock();
+        var else_ = function.newBlock();
+        var join = function.newBlock();
+        var value = function.newRegister(IrType.of(n.type));
+
+        lowerCondition(n.c, then, else_);
+        start(then);
+        emit(new Copy(value, lower(n.e1)));
+        emit(new Jump(join));
+        start(else_);
+        emit(new Copy(value, lower(n.e2)));
+        emit(new Jump(join));
+        start(join);
+        result = value;
+    }
+
+    @Override
+    public void visit(InstanceOf n) {
+        var class_ = symbolContext.lookupClass(n.i.id);
+        if (class_ == null) {
+            throw new IllegalStateException();
+        }
+
+        var value = function.newRegister(IrType.BOOLEAN);
+        emit(new ir.InstanceOf(value, lower(n.e), class_));
+        result = value;
+    }
+
+    @Override
+    public void visit(IntegerLiteral n) {
+        result = Constant.of(n.i);
+    }
+
+    @Override
+    public void visit(NullLiteral n) {
+        result = Constant.NULL;
+    }
+
+    @Override
+    public void visit(StringLiteral n) {
+        var value = function.newRegister(IrType.REFERENCE);
+        emit(new NewString(value, n.s));
+        result = value;
+    }
+
+    @Override
+    public void visit(True n) {
+        result = Constant.TRUE;
+    }
+
+    @Override
+    public void visit(False n) {
+        result = Constant.FALSE;
+    }
+
+    @Override
+    public void visit(IdentifierExp n) {
+        var v = symbolContext.lookupVariable(n.id);
+        if (v == null) {
+            throw new IllegalStateException();
+        }
+
+        if (v.isInstanceVariable()) {
+            var value = function.newRegister(IrType.of(v.type));
+            emit(new LoadField(value, this_, v));
+            result = value;
+        } else {
+            result = variable(v);
+        }
+    }
+
+    @Override
+    public void visit(This n) {
+        result = this_;
+    }
+
+    @Override
+    public void visit(NewArray n) {
+        List<Value> dimensions = new ArrayList<>();
+        for (var e : n.el) {
+            if (assigns(e)) {
+                pinAll(dimensions);
+            }
+            var length = lower(e);
+            emit(new Check(Check.Kind.ARRAY_SIZE, n.el.lineNumber, length));
+            dimensions.add(length);
+        }
+
+        var value = function.newRegister(IrType.REFERENCE);
+        emit(new ir.NewArray(value, dimensions.toArray(new Value[0])));
+        result = value;
+    }
+
+    @Override
+    public void visit(NewObject n) {
+        var class_ = symbolContext.lookupClass(n.i.id);
+        if (class_ == null) {
+            throw new IllegalStateException();
+        }
+
+        var object = function.newRegister(IrType.REFERENCE);
+        emit(new ir.NewObject(object, class_));
+        emit(new ir.Call(null, new ir.Call.Constructor(n.resolvedConstructor.getSignature(), false),
+                lowerArguments(object, n.el)));
+        result = object;
+    }
+
+    @Override
+    public void visit(Not n) {
+        var value = function.newRegister(IrType.BOOLEAN);
+        emit(new Binary(value, Binary.Operator.XOR, lower(n.e), Constant.TRUE));
+        result = value;
+    }
+
+    @Override
+    public void visit(BitwiseNot n) {
+        var value = function.newRegister(IrType.INT);
+        emit(new Unary(value, Unary.Operator.NOT, lower(n.e)));
+        result = value;
+    }
+
+    @Override
+    public void visit(NoOp n) {}
+
+    @Override
+    public void visit(NoOpExp n) {
+        result = null;
+    }
+
+    /**
+     * An assignable location, whose object, array and index have been evaluated.
+     */
+    private sealed interface Target {}
+
+    private record VariableTarget(VirtualRegister variable) implements Target {}
+
+    private record FieldTarget(Value object, VariableInfo field) implements Target {}
+
+    private record ElementTarget(Value array, Value index, IrType type) implements Target {}
+
+    /**
+     * Evaluates the object, array or index of the specified assignable expression, copying
+     * variables that the specified expression, which is evaluated before the assignment, may
+     * assign to.
+     */
+    private Target lowerTarget(Expression e, Expression rhs) {
+        if (e instanceof IdentifierExp id) {
+            var v = symbolContext.lookupVariable(id.id);
+            if (v == null) {
+                throw new IllegalStateException();
+            }
+            return v.isInstanceVariable() ? new FieldTarget(this_, v) : new VariableTarget(variable(v));
+        } else if (e instanceof ast.Field f) {
+            return lowerField(f, rhs);
+        } else if (e instanceof ArrayLookup a) {
+            return lowerElement(a, rhs);
+        }
+        throw new IllegalStateException();
+    }
+
+    private FieldTarget lowerField(ast.Field n, Expression rhs) {
+        var object = lower(n.e);
+        emit(new Check(Check.Kind.NULL, n.lineNumber, object));
+
+        var class_ = ((TypeObject) n.e.eval().type).base;
+        var v = symbolContext.lookupInstanceVariable(n.i.id, class_);
+        if (v == null || !v.isInstanceVariable()) {
+            throw new IllegalStateException();
+        }
+        return new FieldTarget(pin(object, rhs), v);
+    }
+
+    /**
+     * Evaluates the array and the indices of the specified lookup. Only the outermost
+     * array is checked for null; every index is checked against the bounds of its array.
+     */
+    private ElementTarget lowerElement(ArrayLookup n, Expression rhs) {
+        var array = lower(n.e1);
+        emit(new Check(Check.Kind.NULL, n.lineNumber, array));
+        for (int i = 0; i < n.getDimensionCount(); i++) {
+            array = pin(array, n.el.get(i));
+            var index = lower(n.el.get(i));
+            emit(new Check(Check.Kind.BOUNDS, n.el.lineNumber, array, index));
+            if (i == n.getDimensionCount() - 1) {
+                return new ElementTarget(pin(array, rhs), pin(index, rhs), IrType.of(n.type));
+            }
+            var element = function.newRegister(IrType.REFERENCE);
+            emit(new LoadElement(element, array, index));
+            array = element;
+        }
+        throw new IllegalStateException();
+    }
+
+    private Value load(Target target) {
+        if (target instanceof VariableTarget t) {
+            return t.variable();
+        } else if (target instanceof FieldTarget t) {
+            var value = function.newRegister(IrType.of(t.field().type));
+            emit(new LoadField(value, t.object(), t.field()));
+            return value;
+        }
+        var t = (ElementTarget) target;
+        var value = function.newRegister(t.type());
+        emit(new LoadElement(value, t.array(), t.index()));
+        return value;
+    }
+
+    /**
+     * @return The value of the assignment, which is the assigned value.
+     */
+    private Value store(Target target, Value value) {
+        if (target instanceof VariableTarget t) {
+            return assignVariable(t.variable(), value);
+        } else if (target instanceof FieldTarget t) {
+            emit(new StoreField(t.object(), t.field(), value));
+        } else {
+            var t = (ElementTarget) target;
+            emit(new StoreElement(t.array(), t.index(), value));
+        }
+        return value;
+    }
+
+    /**
+     * Assigns the specified value to a variable. A temporary just defined by the
+     * previous instruction is renamed to the variable instead of being copied.
+     * @return The variable.
+     */
+    private Value assignVariable(VirtualRegister variable, Value value) {
+        var instructions = block.getInstructions();
+        var last = instructions.isEmpty() ? null : instructions.get(instructions.size() - 1);
+        if (value instanceof VirtualRegister r && !r.isVariable() && last != null && last.getResult() == r) {
+            last.setResult(variable);
+        } else {
+            emit(new Copy(variable, value));
+        }
+        return variable;
+    }
+
+    /**
+     * Lowers a compound assignment, which reads the target after evaluating the right-hand side.
+     */
+    private void lowerCompoundAssign(Assign n, Binary.Operator operator) {
+        var target = lowerTarget(n.e1, n.e2);
+        var rhs = lower(n.e2);
+        checkDivisor(operator, n.lineNumber, rhs);
+        var value = function.newRegister(IrType.of(n.e1.eval().type));
+        emit(new Binary(value, operator, load(target), rhs));
+        result = store(target, value);
+    }
+
+    /**
+     * Checks that the divisor of a division or remainder is not 0, unless it is a nonzero
+     * constant.
+     */
+    private void checkDivisor(Binary.Operator operator, int lineNumber, Value divisor) {
+        if (operator != Binary.Operator.DIV && operator != Binary.Operator.MOD) {
+            return;
+        }
+        if (!(divisor instanceof Constant c && c.value() != 0)) {
+            emit(new Check(Check.Kind.DIVISOR, lineNumber, divisor));
+        }
+    }
+
+    private void lowerIncrement(Increment n, Binary.Operator operator, boolean post) {
+        var target = lowerTarget(n.e, null);
+        var old = load(target);
+        if (post && target instanceof VariableTarget) {
+            old = copy(old);
+        }
+        var value = function.newRegister(IrType.INT);
+        emit(new Binary(value, operator, old, Constant.of(1)));
+        var updated = store(target, value);
+        result = post ? old : updated;
+    }
+
+    private void lowerCompare(BinaryExp n, Condition condition) {
+        var left = pin(lower(n.e1), n.e2);
+        var right = lower(n.e2);
+        var value = function.newRegister(IrType.BOOLEAN);
+        emit(new Compare(value, condition, left, right));
+        result = value;
+    }
+
+    private void lowerBinary(BinaryExp n, Binary.Operator operator) {
+        var left = pin(lower(n.e1), n.e2);
+        var right = lower(n.e2);
+        checkDivisor(operator, n.lineNumber, right);
+        var value = function.newRegister(IrType.of(n.type));
+        emit(new Binary(value, operator, left, right));
+        result = value;
+    }
+
+    /**
+     * Lowers the specified boolean expression as a branch to one of two blocks.
+     * The current block is terminated.
+     */
+    private void lowerCondition(Expression e, BasicBlock ifTrue, BasicBlock ifFalse) {
+        if (e instanceof And n) {
+            var rhs = function.newBlock();
+            lowerCondition(n.e1, rhs, ifFalse);
+            start(rhs);
+            lowerCondition(n.e2, ifTrue, ifFalse);
+        } else if (e instanceof Or n) {
+            var rhs = function.newBlock();
+            lowerCondition(n.e1, ifTrue, rhs);
+            start(rhs);
+            lowerCondition(n.e2, ifTrue, ifFalse);
+        } else if (e instanceof Not n) {
+            lowerCondition(n.e, ifFalse, ifTrue);
+        } else if (e instanceof True || e instanceof NoOpExp) {
+            emit(new Jump(ifTrue));
+        } else if (e instanceof False) {
+            emit(new Jump(ifFalse));
+        } else if (e instanceof BinaryExp n && comparison(n) != null) {
+            var left = pin(lower(n.e1), n.e2);
+            var right = lower(n.e2);
+            emit(new Branch(comparison(n), left, right, ifTrue, ifFalse));
+        } else {
+            emit(new Branch(Condition.NE, lower(e), Constant.FALSE, ifTrue, ifFalse));
+        }
+    }
+
+    private static Condition comparison(BinaryExp n) {
+        if (n instanceof Equal) {
+            return Condition.EQ;
+        } else if (n instanceof NotEqual) {
+            return Condition.NE;
+        } else if (n instanceof LessThan) {
+            return Condition.LT;
+        } else if (n instanceof LessThanOrEqual) {
+            return Condition.LE;
+        } else if (n instanceof GreaterThan) {
+            return Condition.GT;
+        } else if (n instanceof GreaterThanOrEqual) {
+            return Condition.GE;
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates the specified arguments from left to right, after the first argument.
+     */
+    private Value[] lowerArguments(Value first, ExpressionList el) {
+        List<Value> arguments = new ArrayList<>();
+        arguments.add(first);
+        for (var e : el) {
+            if (assigns(e)) {
+                pinAll(arguments);
+            }
+            arguments.add(lower(e));
+        }
+        return arguments.toArray(new Value[0]);
+    }
+
+    /**
+     * @return The specified value, or a copy of it if it is a variable that the specified
+     *         expression, which is evaluated before the value is used, may assign to.
+     */
+    private Value pin(Value value, Expression next) {
+        if (value instanceof VirtualRegister r && r.isVariable() && next != null && assigns(next)) {
+            return copy(value);
+        }
+        return value;
+    }
+
+    private void pinAll(List<Value> values) {
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) instanceof VirtualRegister r && r.isVariable()) {
+                values.set(i, copy(r));
+            }
+        }
+    }
+
+    /**
+     * @return Whether the specified expression contains an assignment or an increment.
+     */
+    private static boolean assigns(Expression e) {
+        if (e instanceof Assign || e instanceof Increment) {
+            return true;
+        } else if (e instanceof BinaryExp n) {
+            return assigns(n.e1) || assigns(n.e2);
+        } else if (e instanceof Not n) {
+            return assigns(n.e);
+        } else if (e instanceof UnaryMinus n) {
+            return assigns(n.e);
+        } else if (e instanceof UnaryPlus n) {
+            return assigns(n.e);
+        } else if (e instanceof BitwiseNot n) {
+            return assigns(n.e);
+        } else if (e instanceof ast.ArrayLength n) {
+            return assigns(n.e);
+        } else if (e instanceof ast.InstanceOf n) {
+            return assigns(n.e);
+        } else if (e instanceof ast.Field n) {
+            return assigns(n.e);
+        } else if (e instanceof Ternary n) {
+            return assigns(n.c) || assigns(n.e1) || assigns(n.e2);
+        } else if (e instanceof ast.Call n) {
+            return assigns(n.e) || assigns(n.el);
+        } else if (e instanceof ArrayLookup n) {
+            return assigns(n.e1) || assigns(n.el);
+        } else if (e instanceof ast.NewArray n) {
+            return assigns(n.el);
+        } else if (e instanceof ast.NewObject n) {
+            return assigns(n.el);
+        }
+        return false;
+    }
+
+    private static boolean assigns(ExpressionList el) {
+        for (var e : el) {
+            if (assigns(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Value lower(Expression e) {
+        result = null;
+        e.accept(this);
+        return result;
+    }
+
+    private VirtualRegister copy(Value value) {
+        var r = function.newRegister(value.getType());
+        emit(new Copy(r, value));
+        return r;
+    }
+
+    private VirtualRegister variable(VariableInfo v) {
+        return variables.computeIfAbsent(v, k -> function.newVariable(IrType.of(k.type), k.name));
+    }
+
+    private void declareParameters(FormalList parameters) {
+        this_ = function.newParameter(IrType.REFERENCE, "this");
+        for (int i = 0; i < parameters.size(); i++) {
+            var p = symbolContext.lookupVariable(parameters.get(i).i.id);
+            if (p == null) {
+                throw new IllegalStateException();
+            }
+            variables.put(p, function.newParameter(IrType.of(p.type), p.name));
+        }
+    }
+
+    private void begin(Function f) {
+        function = f;
+        variables = new HashMap<>();
+        this_ = null;
+        start(f.newBlock());
+    }
+
+    private void finish(ir.Return ret) {
+        emit(ret);
+        function.removeUnreachableBlocks();
+        program.add(function);
+    }
+
+    private void start(BasicBlock b) {
+        function.addBlock(b);
+        block = b;
+    }
+
+    private void emit(Instruction instruction) {
+        block.add(instruction);
+    }
+}
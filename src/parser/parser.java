@@ -0,0 +1,4238 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.11b 20160615 (GIT 4ac7450)
+//----------------------------------------------------
+
+package parser;
+
+import ast.*;
+import java.util.*;
+import java_cup.runtime.*;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+import java_cup.runtime.XMLElement;
+
+/** CUP v0.11b 20160615 (GIT 4ac7450) generated parser.
+  */
+@SuppressWarnings({"rawtypes"})
+public class parser extends java_cup.runtime.lr_parser {
+
+ public final Class getSymbolContainer() {
+    return sym.class;
+}
+
+  /** Default constructor. */
+  @Deprecated
+  public parser() {super();}
+
+  /** Constructor which sets the default scanner. */
+  @Deprecated
+  public parser(java_cup.runtime.Scanner s) {super(s);}
+
+  /** Constructor which sets the default scanner. */
+  public parser(java_cup.runtime.Scanner s, java_cup.runtime.SymbolFactory sf) {super(s,sf);}
+
+  /** Production table. */
+  protected static final short _production_table[][] = 
+    unpackFromStrings(new String[] {
+    "\000\252\000\002\002\004\000\002\002\004\000\002\002" +
+    "\003\000\002\003\022\000\002\003\021\000\002\004\003" +
+    "\000\002\004\004\000\002\005\010\000\002\005\007\000" +
+    "\002\005\007\000\002\005\006\000\002\005\012\000\002" +
+    "\005\011\000\002\005\011\000\002\005\010\000\002\006" +
+    "\004\000\002\006\005\000\002\007\004\000\002\007\006" +
+    "\000\002\011\003\000\002\011\004\000\002\012\003\000" +
+    "\002\012\003\000\002\013\013\000\002\013\012\000\002" +
+    "\013\012\000\002\013\011\000\002\010\012\000\002\010" +
+    "\011\000\002\010\011\000\002\010\010\000\002\014\003" +
+    "\000\002\014\005\000\002\015\004\000\002\016\003\000" +
+    "\002\016\003\000\002\017\003\000\002\017\003\000\002" +
+    "\021\004\000\002\021\004\000\002\020\003\000\002\020" +
+    "\003\000\002\020\003\000\002\020\003\000\002\025\003" +
+    "\000\002\025\004\000\002\026\003\000\002\026\004\000" +
+    "\002\026\003\000\002\026\005\000\002\026\004\000\002" +
+    "\026\005\000\002\026\007\000\002\026\003\000\002\026" +
+    "\005\000\002\026\003\000\002\026\003\000\002\026\003" +
+    "\000\002\027\013\000\002\027\012\000\002\027\012\000" +
+    "\002\027\012\000\002\027\011\000\002\027\011\000\002" +
+    "\027\011\000\002\027\010\000\002\030\005\000\002\031" +
+    "\005\000\002\024\005\000\002\024\004\000\002\060\007" +
+    "\000\002\060\006\000\002\061\003\000\002\061\004\000" +
+    "\002\062\010\000\002\062\006\000\002\062\007\000\002" +
+    "\062\005\000\002\062\007\000\002\062\005\000\002\062" +
+    "\006\000\002\062\004\000\002\032\003\000\002\032\003" +
+    "\000\002\032\006\000\002\032\003\000\002\032\003\000" +
+    "\002\053\003\000\002\053\003\000\002\055\004\000\002" +
+    "\055\004\000\002\054\004\000\002\054\004\000\002\052" +
+    "\005\000\002\052\005\000\002\052\005\000\002\052\005" +
+    "\000\002\052\005\000\002\052\005\000\002\052\005\000" +
+    "\002\052\005\000\002\052\005\000\002\052\005\000\002" +
+    "\052\005\000\002\052\005\000\002\037\003\000\002\037" +
+    "\003\000\002\037\003\000\002\037\003\000\002\037\005" +
+    "\000\002\037\003\000\002\040\003\000\002\040\003\000" +
+    "\002\040\003\000\002\040\003\000\002\041\003\000\002" +
+    "\042\003\000\002\043\003\000\002\043\003\000\002\044" +
+    "\003\000\002\045\005\000\002\033\003\000\002\034\003" +
+    "\000\002\034\007\000\002\034\003\000\002\035\003\000" +
+    "\002\035\005\000\002\036\004\000\002\036\004\000\002" +
+    "\036\004\000\002\036\004\000\002\036\003\000\002\036" +
+    "\003\000\002\036\003\000\002\036\005\000\002\036\003" +
+    "\000\002\036\003\000\002\036\003\000\002\036\003\000" +
+    "\002\046\005\000\002\046\005\000\002\046\005\000\002" +
+    "\046\005\000\002\046\005\000\002\046\005\000\002\046" +
+    "\005\000\002\046\005\000\002\046\005\000\002\046\005" +
+    "\000\002\046\005\000\002\046\005\000\002\046\005\000" +
+    "\002\046\005\000\002\046\005\000\002\046\005\000\002" +
+    "\046\005\000\002\046\005\000\002\046\005\000\002\050" +
+    "\003\000\002\050\005\000\002\022\006\000\002\022\006" +
+    "\000\002\023\006\000\002\023\007\000\002\047\005\000" +
+    "\002\057\006\000\002\057\004\000\002\051\004\000\002" +
+    "\051\005\000\002\056\003" });
+
+  /** Access to production table. */
+  public short[][] production_table() {return _production_table;}
+
+  /** Parse-action table. */
+  protected static final short[][] _action_table = 
+    unpackFromStrings(new String[] {
+    "\000\u0151\000\004\007\006\001\002\000\004\002\u0153\001" +
+    "\002\000\006\002\uffff\007\u0111\001\002\000\004\116\007" +
+    "\001\002\000\140\012\uff58\016\uff58\037\uff58\040\uff58\041" +
+    "\uff58\042\uff58\043\uff58\044\uff58\045\uff58\046\uff58\047\uff58" +
+    "\050\uff58\051\uff58\052\uff58\053\uff58\054\uff58\055\uff58\056" +
+    "\uff58\057\uff58\060\uff58\061\uff58\062\uff58\063\uff58\064\uff58" +
+    "\065\uff58\066\uff58\067\uff58\070\uff58\072\uff58\073\uff58\074" +
+    "\uff58\075\uff58\076\uff58\077\uff58\100\uff58\102\uff58\103\uff58" +
+    "\104\uff58\105\uff58\106\uff58\107\uff58\111\uff58\112\uff58\113" +
+    "\uff58\114\uff58\115\uff58\116\uff58\001\002\000\004\107\011" +
+    "\001\002\000\004\023\012\001\002\000\004\025\013\001" +
+    "\002\000\004\033\014\001\002\000\004\021\015\001\002" +
+    "\000\004\103\016\001\002\000\004\026\017\001\002\000" +
+    "\004\102\020\001\002\000\004\116\007\001\002\000\004" +
+    "\104\022\001\002\000\004\107\023\001\002\000\072\004" +
+    "\063\013\106\014\042\015\057\017\037\022\067\024\064" +
+    "\026\104\027\076\030\115\031\060\032\065\034\102\035" +
+    "\066\036\071\037\056\040\040\067\027\070\043\071\046" +
+    "\101\024\103\035\107\047\110\100\111\050\116\007\117" +
+    "\116\120\025\001\002\000\040\013\106\022\067\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\116\007\117\116\120\025\001\002" +
+    "\000\126\016\uff8d\037\uff8d\040\uff8d\041\uff8d\042\uff8d\043" +
+    "\uff8d\044\uff8d\045\uff8d\046\uff8d\047\uff8d\050\uff8d\051\uff8d" +
+    "\052\uff8d\053\uff8d\054\uff8d\055\uff8d\056\uff8d\057\uff8d\060" +
+    "\uff8d\061\uff8d\062\uff8d\063\uff8d\064\uff8d\065\uff8d\066\uff8d" +
+    "\067\uff8d\070\uff8d\072\uff8d\073\uff8d\074\uff8d\075\uff8d\076" +
+    "\uff8d\077\uff8d\100\uff8d\104\uff8d\105\uff8d\106\uff8d\111\uff8d" +
+    "\112\uff8d\113\uff8d\114\uff8d\115\uff8d\001\002\000\006\104" +
+    "\uffae\111\uffae\001\002\000\040\013\106\022\067\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\116\007\117\116\120\025\001\002" +
+    "\000\006\104\uffab\111\uffab\001\002\000\126\016\uff98\037" +
+    "\uff98\040\uff98\041\uff98\042\uff98\043\uff98\044\uff98\045\uff98" +
+    "\046\uff98\047\uff98\050\uff98\051\uff98\052\uff98\053\uff98\054" +
+    "\uff98\055\uff98\056\uff98\057\uff98\060\uff98\061\uff98\062\uff98" +
+    "\063\uff98\064\uff98\065\uff98\066\uff98\067\uff98\070\uff98\072" +
+    "\uff98\073\uff98\074\uff98\075\uff98\076\uff98\077\uff98\100\uff98" +
+    "\104\uff98\105\uff98\106\uff98\111\uff98\112\uff98\113\uff98\114" +
+    "\uff98\115\uff98\001\002\000\126\016\uff97\037\uff97\040\uff97" +
+    "\041\uff97\042\uff97\043\uff97\044\uff97\045\uff97\046\uff97\047" +
+    "\uff97\050\uff97\051\uff97\052\uff97\053\uff97\054\uff97\055\uff97" +
+    "\056\uff97\057\uff97\060\uff97\061\uff97\062\uff97\063\uff97\064" +
+    "\uff97\065\uff97\066\uff97\067\uff97\070\uff97\072\uff97\073\uff97" +
+    "\074\uff97\075\uff97\076\uff97\077\uff97\100\uff97\104\uff97\105" +
+    "\uff97\106\uff97\111\uff97\112\uff97\113\uff97\114\uff97\115\uff97" +
+    "\001\002\000\004\111\u010d\001\002\000\102\004\uffc9\005" +
+    "\uffc9\006\uffc9\010\uffc9\011\uffc9\013\uffc9\014\uffc9\015\uffc9" +
+    "\017\uffc9\022\uffc9\024\uffc9\026\uffc9\027\uffc9\030\uffc9\031" +
+    "\uffc9\032\uffc9\034\uffc9\035\uffc9\036\uffc9\037\uffc9\040\uffc9" +
+    "\067\uffc9\070\uffc9\071\uffc9\101\uffc9\103\uffc9\107\uffc9\110" +
+    "\uffc9\111\uffc9\116\uffc9\117\uffc9\120\uffc9\001\002\000\040" +
+    "\013\106\022\067\031\123\032\065\036\071\037\056\040" +
+    "\040\067\027\070\043\071\046\101\024\103\035\116\007" +
+    "\117\116\120\025\001\002\000\122\016\uff7c\037\uff7c\040" +
+    "\uff7c\041\uff7c\042\uff7c\043\uff7c\044\uff7c\045\uff7c\046\uff7c" +
+    "\047\uff7c\050\uff7c\051\uff7c\052\uff7c\053\uff7c\054\uff7c\055" +
+    "\uff7c\056\uff7c\057\uff7c\060\uff7c\061\uff7c\062\uff7c\063\uff7c" +
+    "\064\uff7c\065\uff7c\066\uff7c\072\uff7c\073\uff7c\074\uff7c\075" +
+    "\uff7c\076\uff7c\077\uff7c\100\uff7c\104\uff7c\105\u0108\106\uff7c" +
+    "\111\uff7c\112\uff7c\113\uff7c\114\uff7c\115\uff7c\001\002\000" +
+    "\010\102\uffd8\105\uffd8\116\uffd8\001\002\000\040\013\106" +
+    "\022\067\031\123\032\065\036\071\037\056\040\040\067" +
+    "\027\070\043\071\046\101\024\103\035\116\007\117\116" +
+    "\120\025\001\002\000\072\004\063\013\106\014\042\015" +
+    "\057\017\037\022\067\024\064\026\104\027\076\030\115" +
+    "\031\060\032\065\034\102\035\066\036\071\037\056\040" +
+    "\040\067\027\070\043\071\046\101\024\103\035\107\047" +
+    "\110\u0105\111\050\116\007\117\116\120\025\001\002\000" +
+    "\004\103\347\001\002\000\040\013\106\022\067\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\116\007\117\116\120\025\001\002" +
+    "\000\114\016\uff7d\037\uff7d\040\uff7d\041\uff7d\042\uff7d\043" +
+    "\uff7d\044\uff7d\045\uff7d\046\uff7d\047\uff7d\050\uff7d\051\uff7d" +
+    "\052\uff7d\053\uff7d\054\uff7d\055\uff7d\056\uff7d\057\uff7d\060" +
+    "\uff7d\061\uff7d\062\uff7d\063\uff7d\064\uff7d\065\uff7d\066\uff7d" +
+    "\072\uff7d\073\uff7d\074\uff7d\075\uff7d\076\uff7d\077\uff7d\100" +
+    "\uff7d\104\uffa9\105\uff7d\111\uffa9\113\uff7d\114\uff7d\001\002" +
+    "\000\126\016\uff91\037\uff91\040\uff91\041\uff91\042\uff91\043" +
+    "\uff91\044\uff91\045\uff91\046\uff91\047\uff91\050\uff91\051\uff91" +
+    "\052\uff91\053\uff91\054\uff91\055\uff91\056\uff91\057\uff91\060" +
+    "\uff91\061\uff91\062\uff91\063\uff91\064\uff91\065\uff91\066\uff91" +
+    "\067\uff91\070\uff91\072\uff91\073\uff91\074\uff91\075\uff91\076" +
+    "\uff91\077\uff91\100\uff91\104\uff91\105\uff91\106\uff91\111\uff91" +
+    "\112\uff91\113\uff91\114\uff91\115\uff91\001\002\000\040\013" +
+    "\106\022\067\031\123\032\065\036\071\037\056\040\040" +
+    "\067\027\070\043\071\046\101\024\103\035\116\007\117" +
+    "\116\120\025\001\002\000\072\004\063\013\106\014\042" +
+    "\015\057\017\037\022\067\024\064\026\104\027\076\030" +
+    "\115\031\060\032\065\034\102\035\066\036\071\037\056" +
+    "\040\040\067\027\070\043\071\046\101\024\103\035\107" +
+    "\047\110\343\111\050\116\007\117\116\120\025\001\002" +
+    "\000\102\004\uffd3\005\uffd3\006\uffd3\010\uffd3\011\uffd3\013" +
+    "\uffd3\014\uffd3\015\uffd3\017\uffd3\022\uffd3\024\uffd3\026\uffd3" +
+    "\027\uffd3\030\uffd3\031\uffd3\032\uffd3\034\uffd3\035\uffd3\036" +
+    "\uffd3\037\uffd3\040\uffd3\067\uffd3\070\uffd3\071\uffd3\101\uffd3" +
+    "\103\uffd3\107\uffd3\110\uffd3\111\uffd3\116\uffd3\117\uffd3\120" +
+    "\uffd3\001\002\000\036\053\uff85\054\uff85\055\uff85\056\uff85" +
+    "\057\uff85\060\uff85\061\uff85\062\uff85\063\uff85\064\uff85\065" +
+    "\uff85\066\uff85\104\uffac\111\uffac\001\002\000\102\004\uffd1" +
+    "\005\uffd1\006\uffd1\010\uffd1\011\uffd1\013\uffd1\014\uffd1\015" +
+    "\uffd1\017\uffd1\022\uffd1\024\uffd1\026\uffd1\027\uffd1\030\uffd1" +
+    "\031\uffd1\032\uffd1\034\uffd1\035\uffd1\036\uffd1\037\uffd1\040" +
+    "\uffd1\067\uffd1\070\uffd1\071\uffd1\101\uffd1\103\uffd1\107\uffd1" +
+    "\110\uffd1\111\uffd1\116\uffd1\117\uffd1\120\uffd1\001\002\000" +
+    "\004\116\007\001\002\000\126\016\uff92\037\uff92\040\uff92" +
+    "\041\uff92\042\uff92\043\uff92\044\uff92\045\uff92\046\uff92\047" +
+    "\uff92\050\uff92\051\uff92\052\uff92\053\uff92\054\uff92\055\uff92" +
+    "\056\uff92\057\uff92\060\uff92\061\uff92\062\uff92\063\uff92\064" +
+    "\uff92\065\uff92\066\uff92\067\uff92\070\uff92\072\uff92\073\uff92" +
+    "\074\uff92\075\uff92\076\uff92\077\uff92\100\uff92\104\uff92\105" +
+    "\uff92\106\uff92\111\uff92\112\uff92\113\uff92\114\uff92\115\uff92" +
+    "\001\002\000\126\016\uff78\037\uff78\040\uff78\041\uff78\042" +
+    "\uff78\043\uff78\044\uff78\045\uff78\046\uff78\047\uff78\050\uff78" +
+    "\051\uff78\052\uff78\053\uff78\054\uff78\055\uff78\056\uff78\057" +
+    "\uff78\060\uff78\061\uff78\062\uff78\063\uff78\064\uff78\065\uff78" +
+    "\066\uff78\067\336\070\335\072\uff78\073\uff78\074\uff78\075" +
+    "\uff78\076\uff78\077\uff78\100\uff78\104\uff78\105\uff78\106\uff78" +
+    "\111\uff78\112\uff78\113\uff78\114\uff78\115\uff78\001\002\000" +
+    "\040\013\106\022\067\031\123\032\065\036\071\037\056" +
+    "\040\040\067\027\070\043\071\046\101\024\103\035\116" +
+    "\007\117\116\120\025\001\002\000\004\103\035\001\002" +
+    "\000\116\016\uff96\037\uff96\040\uff96\041\uff96\042\uff96\043" +
+    "\uff96\044\uff96\045\uff96\046\uff96\047\uff96\050\uff96\051\uff96" +
+    "\052\uff96\053\uff96\054\uff96\055\uff96\056\uff96\057\uff96\060" +
+    "\uff96\061\uff96\062\uff96\063\uff96\064\uff96\065\uff96\066\uff96" +
+    "\067\uff96\070\uff96\072\uff96\073\uff96\074\uff96\075\uff96\076" +
+    "\uff96\077\uff96\100\uff96\103\132\105\uff96\113\uff96\114\uff96" +
+    "\001\002\000\006\102\325\116\uffdc\001\002\000\102\004" +
+    "\uffca\005\uffca\006\uffca\010\uffca\011\uffca\013\uffca\014\uffca" +
+    "\015\uffca\017\uffca\022\uffca\024\uffca\026\uffca\027\uffca\030" +
+    "\uffca\031\uffca\032\uffca\034\uffca\035\uffca\036\uffca\037\uffca" +
+    "\040\uffca\067\uffca\070\uffca\071\uffca\101\uffca\103\uffca\107" +
+    "\uffca\110\uffca\111\uffca\116\uffca\117\uffca\120\uffca\001\002" +
+    "\000\010\102\uffd9\105\uffd9\116\uffd9\001\002\000\042\013" +
+    "\106\022\067\031\123\032\065\036\071\037\056\040\040" +
+    "\067\027\070\043\071\046\101\024\103\035\111\322\116" +
+    "\007\117\116\120\025\001\002\000\126\016\uff8c\037\uff8c" +
+    "\040\uff8c\041\uff8c\042\uff8c\043\uff8c\044\uff8c\045\uff8c\046" +
+    "\uff8c\047\uff8c\050\uff8c\051\uff8c\052\uff8c\053\uff8c\054\uff8c" +
+    "\055\uff8c\056\uff8c\057\uff8c\060\uff8c\061\uff8c\062\uff8c\063" +
+    "\uff8c\064\uff8c\065\uff8c\066\uff8c\067\uff8c\070\uff8c\072\uff8c" +
+    "\073\uff8c\074\uff8c\075\uff8c\076\uff8c\077\uff8c\100\uff8c\104" +
+    "\uff8c\105\uff8c\106\uff8c\111\uff8c\112\uff8c\113\uff8c\114\uff8c" +
+    "\115\uff8c\001\002\000\004\103\132\001\002\000\012\004" +
+    "\063\017\037\026\104\116\007\001\002\000\102\004\uffcc" +
+    "\005\uffcc\006\uffcc\010\uffcc\011\uffcc\013\uffcc\014\uffcc\015" +
+    "\uffcc\017\uffcc\022\uffcc\024\uffcc\026\uffcc\027\uffcc\030\uffcc" +
+    "\031\uffcc\032\uffcc\034\uffcc\035\uffcc\036\uffcc\037\uffcc\040" +
+    "\uffcc\067\uffcc\070\uffcc\071\uffcc\101\uffcc\103\uffcc\107\uffcc" +
+    "\110\uffcc\111\uffcc\116\uffcc\117\uffcc\120\uffcc\001\002\000" +
+    "\126\016\uff8a\037\uff8a\040\uff8a\041\uff8a\042\uff8a\043\uff8a" +
+    "\044\uff8a\045\uff8a\046\uff8a\047\uff8a\050\uff8a\051\uff8a\052" +
+    "\uff8a\053\uff8a\054\uff8a\055\uff8a\056\uff8a\057\uff8a\060\uff8a" +
+    "\061\uff8a\062\uff8a\063\uff8a\064\uff8a\065\uff8a\066\uff8a\067" +
+    "\uff8a\070\uff8a\072\uff8a\073\uff8a\074\uff8a\075\uff8a\076\uff8a" +
+    "\077\uff8a\100\uff8a\104\uff8a\105\uff8a\106\uff8a\111\uff8a\112" +
+    "\uff8a\113\uff8a\114\uff8a\115\uff8a\001\002\000\122\016\257" +
+    "\037\240\040\252\041\233\042\250\043\235\044\247\045" +
+    "\244\046\245\047\251\050\255\051\243\052\237\053\uff84" +
+    "\054\uff84\055\uff84\056\uff84\057\uff84\060\uff84\061\uff84\062" +
+    "\uff84\063\uff84\064\uff84\065\uff84\066\uff84\072\236\073\241" +
+    "\074\256\075\234\076\246\077\260\100\242\104\uff84\105" +
+    "\253\106\uff84\111\uff84\112\uff84\113\254\114\uff84\115\uff84" +
+    "\001\002\000\122\016\uff93\037\uff93\040\uff93\041\uff93\042" +
+    "\uff93\043\uff93\044\uff93\045\uff93\046\uff93\047\uff93\050\uff93" +
+    "\051\uff93\052\uff93\053\uff93\054\uff93\055\uff93\056\uff93\057" +
+    "\uff93\060\uff93\061\uff93\062\uff93\063\uff93\064\uff93\065\uff93" +
+    "\066\uff93\067\uff93\070\uff93\072\uff93\073\uff93\074\uff93\075" +
+    "\uff93\076\uff93\077\uff93\100\uff93\102\uffd6\103\132\105\uff93" +
+    "\113\uff93\114\uff93\116\uffd6\001\002\000\046\053\uff87\054" +
+    "\uff87\055\uff87\056\uff87\057\uff87\060\uff87\061\uff87\062\uff87" +
+    "\063\uff87\064\uff87\065\uff87\066\uff87\104\uff87\106\uff87\111" +
+    "\uff87\112\uff87\114\227\115\uff87\001\002\000\032\053\150" +
+    "\054\143\055\142\056\154\057\141\060\151\061\144\062" +
+    "\146\063\145\064\152\065\147\066\153\001\002\000\004" +
+    "\103\035\001\002\000\126\016\uff95\037\uff95\040\uff95\041" +
+    "\uff95\042\uff95\043\uff95\044\uff95\045\uff95\046\uff95\047\uff95" +
+    "\050\uff95\051\uff95\052\uff95\053\uff95\054\uff95\055\uff95\056" +
+    "\uff95\057\uff95\060\uff95\061\uff95\062\uff95\063\uff95\064\uff95" +
+    "\065\uff95\066\uff95\067\uff95\070\uff95\072\uff95\073\uff95\074" +
+    "\uff95\075\uff95\076\uff95\077\uff95\100\uff95\104\uff95\105\175" +
+    "\106\uff95\111\uff95\112\uff95\113\uff95\114\uff95\115\uff95\001" +
+    "\002\000\004\110\174\001\002\000\006\102\173\116\uffdd" +
+    "\001\002\000\004\103\035\001\002\000\100\004\uffd5\005" +
+    "\uffd5\006\uffd5\010\uffd5\013\uffd5\014\uffd5\015\uffd5\017\uffd5" +
+    "\022\uffd5\024\uffd5\026\uffd5\027\uffd5\030\uffd5\031\uffd5\032" +
+    "\uffd5\034\uffd5\035\uffd5\036\uffd5\037\uffd5\040\uffd5\067\uffd5" +
+    "\070\uffd5\071\uffd5\101\uffd5\103\uffd5\107\uffd5\110\uffd5\111" +
+    "\uffd5\116\uffd5\117\uffd5\120\uffd5\001\002\000\010\102\uffd7" +
+    "\105\uffd7\116\uffd7\001\002\000\114\016\uff7a\037\uff7a\040" +
+    "\uff7a\041\uff7a\042\uff7a\043\uff7a\044\uff7a\045\uff7a\046\uff7a" +
+    "\047\uff7a\050\uff7a\051\uff7a\052\uff7a\053\uff7a\054\uff7a\055" +
+    "\uff7a\056\uff7a\057\uff7a\060\uff7a\061\uff7a\062\uff7a\063\uff7a" +
+    "\064\uff7a\065\uff7a\066\uff7a\072\uff7a\073\uff7a\074\uff7a\075" +
+    "\uff7a\076\uff7a\077\uff7a\100\uff7a\104\uffaf\105\uff7a\111\uffaf" +
+    "\113\uff7a\114\uff7a\001\002\000\126\016\uff8b\037\uff8b\040" +
+    "\uff8b\041\uff8b\042\uff8b\043\uff8b\044\uff8b\045\uff8b\046\uff8b" +
+    "\047\uff8b\050\uff8b\051\uff8b\052\uff8b\053\uff8b\054\uff8b\055" +
+    "\uff8b\056\uff8b\057\uff8b\060\uff8b\061\uff8b\062\uff8b\063\uff8b" +
+    "\064\uff8b\065\uff8b\066\uff8b\067\uff8b\070\uff8b\072\uff8b\073" +
+    "\uff8b\074\uff8b\075\uff8b\076\uff8b\077\uff8b\100\uff8b\104\uff8b" +
+    "\105\uff8b\106\uff8b\111\uff8b\112\uff8b\113\uff8b\114\uff8b\115" +
+    "\uff8b\001\002\000\126\016\uff90\037\uff90\040\uff90\041\uff90" +
+    "\042\uff90\043\uff90\044\uff90\045\uff90\046\uff90\047\uff90\050" +
+    "\uff90\051\uff90\052\uff90\053\uff90\054\uff90\055\uff90\056\uff90" +
+    "\057\uff90\060\uff90\061\uff90\062\uff90\063\uff90\064\uff90\065" +
+    "\uff90\066\uff90\067\uff90\070\uff90\072\uff90\073\uff90\074\uff90" +
+    "\075\uff90\076\uff90\077\uff90\100\uff90\104\uff90\105\uff90\106" +
+    "\uff90\111\uff90\112\uff90\113\uff90\114\uff90\115\uff90\001\002" +
+    "\000\126\016\uff8f\037\uff8f\040\uff8f\041\uff8f\042\uff8f\043" +
+    "\uff8f\044\uff8f\045\uff8f\046\uff8f\047\uff8f\050\uff8f\051\uff8f" +
+    "\052\uff8f\053\uff8f\054\uff8f\055\uff8f\056\uff8f\057\uff8f\060" +
+    "\uff8f\061\uff8f\062\uff8f\063\uff8f\064\uff8f\065\uff8f\066\uff8f" +
+    "\067\uff8f\070\uff8f\072\uff8f\073\uff8f\074\uff8f\075\uff8f\076" +
+    "\uff8f\077\uff8f\100\uff8f\104\uff8f\105\uff8f\106\uff8f\111\uff8f" +
+    "\112\uff8f\113\uff8f\114\uff8f\115\uff8f\001\002\000\102\004" +
+    "\uffc8\005\uffc8\006\uffc8\010\uffc8\011\uffc8\013\uffc8\014\uffc8" +
+    "\015\uffc8\017\uffc8\022\uffc8\024\uffc8\026\uffc8\027\uffc8\030" +
+    "\uffc8\031\uffc8\032\uffc8\034\uffc8\035\uffc8\036\uffc8\037\uffc8" +
+    "\040\uffc8\067\uffc8\070\uffc8\071\uffc8\101\uffc8\103\uffc8\107" +
+    "\uffc8\110\uffc8\111\uffc8\116\uffc8\117\uffc8\120\uffc8\001\002" +
+    "\000\114\016\uff7e\037\uff7e\040\uff7e\041\uff7e\042\uff7e\043" +
+    "\uff7e\044\uff7e\045\uff7e\046\uff7e\047\uff7e\050\uff7e\051\uff7e" +
+    "\052\uff7e\053\uff7e\054\uff7e\055\uff7e\056\uff7e\057\uff7e\060" +
+    "\uff7e\061\uff7e\062\uff7e\063\uff7e\064\uff7e\065\uff7e\066\uff7e" +
+    "\072\uff7e\073\uff7e\074\uff7e\075\uff7e\076\uff7e\077\uff7e\100" +
+    "\uff7e\104\uffaa\105\uff7e\111\uffaa\113\uff7e\114\uff7e\001\002" +
+    "\000\122\016\uff77\037\uff77\040\uff77\041\uff77\042\uff77\043" +
+    "\uff77\044\uff77\045\uff77\046\uff77\047\uff77\050\uff77\051\uff77" +
+    "\052\uff77\053\uff77\054\uff77\055\uff77\056\uff77\057\uff77\060" +
+    "\uff77\061\uff77\062\uff77\063\uff77\064\uff77\065\uff77\066\uff77" +
+    "\072\uff77\073\uff77\074\uff77\075\uff77\076\uff77\077\uff77\100" +
+    "\uff77\104\uff77\105\uff77\106\uff77\111\uff77\112\uff77\113\uff77" +
+    "\114\uff77\115\uff77\001\002\000\122\016\uff79\037\uff79\040" +
+    "\uff79\041\uff79\042\uff79\043\uff79\044\uff79\045\uff79\046\uff79" +
+    "\047\uff79\050\uff79\051\uff79\052\uff79\053\uff79\054\uff79\055" +
+    "\uff79\056\uff79\057\uff79\060\uff79\061\uff79\062\uff79\063\uff79" +
+    "\064\uff79\065\uff79\066\uff79\072\uff79\073\uff79\074\uff79\075" +
+    "\uff79\076\uff79\077\uff79\100\uff79\104\uff79\105\uff79\106\uff79" +
+    "\111\uff79\112\uff79\113\uff79\114\uff79\115\uff79\001\002\000" +
+    "\004\103\117\001\002\000\126\016\uff8e\037\uff8e\040\uff8e" +
+    "\041\uff8e\042\uff8e\043\uff8e\044\uff8e\045\uff8e\046\uff8e\047" +
+    "\uff8e\050\uff8e\051\uff8e\052\uff8e\053\uff8e\054\uff8e\055\uff8e" +
+    "\056\uff8e\057\uff8e\060\uff8e\061\uff8e\062\uff8e\063\uff8e\064" +
+    "\uff8e\065\uff8e\066\uff8e\067\uff8e\070\uff8e\072\uff8e\073\uff8e" +
+    "\074\uff8e\075\uff8e\076\uff8e\077\uff8e\100\uff8e\104\uff8e\105" +
+    "\uff8e\106\uff8e\111\uff8e\112\uff8e\113\uff8e\114\uff8e\115\uff8e" +
+    "\001\002\000\040\013\106\022\067\031\123\032\065\036" +
+    "\071\037\056\040\040\067\027\070\043\071\046\101\024" +
+    "\103\035\116\007\117\116\120\025\001\002\000\122\016" +
+    "\uff7a\037\uff7a\040\uff7a\041\uff7a\042\uff7a\043\uff7a\044\uff7a" +
+    "\045\uff7a\046\uff7a\047\uff7a\050\uff7a\051\uff7a\052\uff7a\053" +
+    "\uff7a\054\uff7a\055\uff7a\056\uff7a\057\uff7a\060\uff7a\061\uff7a" +
+    "\062\uff7a\063\uff7a\064\uff7a\065\uff7a\066\uff7a\072\uff7a\073" +
+    "\uff7a\074\uff7a\075\uff7a\076\uff7a\077\uff7a\100\uff7a\104\uff7a" +
+    "\105\uff7a\106\uff7a\111\uff7a\112\uff7a\113\uff7a\114\uff7a\115" +
+    "\uff7a\001\002\000\044\053\uff85\054\uff85\055\uff85\056\uff85" +
+    "\057\uff85\060\uff85\061\uff85\062\uff85\063\uff85\064\uff85\065" +
+    "\uff85\066\uff85\104\uff85\106\uff85\111\uff85\112\uff85\115\uff85" +
+    "\001\002\000\122\016\uff7d\037\uff7d\040\uff7d\041\uff7d\042" +
+    "\uff7d\043\uff7d\044\uff7d\045\uff7d\046\uff7d\047\uff7d\050\uff7d" +
+    "\051\uff7d\052\uff7d\053\uff7d\054\uff7d\055\uff7d\056\uff7d\057" +
+    "\uff7d\060\uff7d\061\uff7d\062\uff7d\063\uff7d\064\uff7d\065\uff7d" +
+    "\066\uff7d\072\uff7d\073\uff7d\074\uff7d\075\uff7d\076\uff7d\077" +
+    "\uff7d\100\uff7d\104\uff7d\105\uff7d\106\uff7d\111\uff7d\112\uff7d" +
+    "\113\uff7d\114\uff7d\115\uff7d\001\002\000\126\016\uff96\037" +
+    "\uff96\040\uff96\041\uff96\042\uff96\043\uff96\044\uff96\045\uff96" +
+    "\046\uff96\047\uff96\050\uff96\051\uff96\052\uff96\053\uff96\054" +
+    "\uff96\055\uff96\056\uff96\057\uff96\060\uff96\061\uff96\062\uff96" +
+    "\063\uff96\064\uff96\065\uff96\066\uff96\067\uff96\070\uff96\072" +
+    "\uff96\073\uff96\074\uff96\075\uff96\076\uff96\077\uff96\100\uff96" +
+    "\104\uff96\105\uff96\106\uff96\111\uff96\112\uff96\113\uff96\114" +
+    "\uff96\115\uff96\001\002\000\044\053\150\054\143\055\142" +
+    "\056\154\057\141\060\151\061\144\062\146\063\145\064" +
+    "\152\065\147\066\153\104\uff88\106\uff88\111\uff88\112\uff88" +
+    "\115\uff88\001\002\000\130\016\uff93\037\uff93\040\uff93\041" +
+    "\uff93\042\uff93\043\uff93\044\uff93\045\uff93\046\uff93\047\uff93" +
+    "\050\uff93\051\uff93\052\uff93\053\uff93\054\uff93\055\uff93\056" +
+    "\uff93\057\uff93\060\uff93\061\uff93\062\uff93\063\uff93\064\uff93" +
+    "\065\uff93\066\uff93\067\uff93\070\uff93\072\uff93\073\uff93\074" +
+    "\uff93\075\uff93\076\uff93\077\uff93\100\uff93\103\132\104\uff93" +
+    "\105\uff93\106\uff93\111\uff93\112\uff93\113\uff93\114\uff93\115" +
+    "\uff93\001\002\000\122\016\uff7e\037\uff7e\040\uff7e\041\uff7e" +
+    "\042\uff7e\043\uff7e\044\uff7e\045\uff7e\046\uff7e\047\uff7e\050" +
+    "\uff7e\051\uff7e\052\uff7e\053\uff7e\054\uff7e\055\uff7e\056\uff7e" +
+    "\057\uff7e\060\uff7e\061\uff7e\062\uff7e\063\uff7e\064\uff7e\065" +
+    "\uff7e\066\uff7e\072\uff7e\073\uff7e\074\uff7e\075\uff7e\076\uff7e" +
+    "\077\uff7e\100\uff7e\104\uff7e\105\uff7e\106\uff7e\111\uff7e\112" +
+    "\uff7e\113\uff7e\114\uff7e\115\uff7e\001\002\000\004\104\130" +
+    "\001\002\000\006\104\uffad\111\uffad\001\002\000\122\016" +
+    "\uff5b\037\uff5b\040\uff5b\041\uff5b\042\uff5b\043\uff5b\044\uff5b" +
+    "\045\uff5b\046\uff5b\047\uff5b\050\uff5b\051\uff5b\052\uff5b\053" +
+    "\uff5b\054\uff5b\055\uff5b\056\uff5b\057\uff5b\060\uff5b\061\uff5b" +
+    "\062\uff5b\063\uff5b\064\uff5b\065\uff5b\066\uff5b\072\uff5b\073" +
+    "\uff5b\074\uff5b\075\uff5b\076\uff5b\077\uff5b\100\uff5b\104\uff5b" +
+    "\105\uff5b\106\uff5b\111\uff5b\112\uff5b\113\uff5b\114\uff5b\115" +
+    "\uff5b\001\002\000\042\013\106\022\067\031\123\032\065" +
+    "\036\071\037\056\040\040\067\027\070\043\071\046\101" +
+    "\024\103\035\104\134\116\007\117\116\120\025\001\002" +
+    "\000\006\104\137\112\136\001\002\000\126\016\uff5a\037" +
+    "\uff5a\040\uff5a\041\uff5a\042\uff5a\043\uff5a\044\uff5a\045\uff5a" +
+    "\046\uff5a\047\uff5a\050\uff5a\051\uff5a\052\uff5a\053\uff5a\054" +
+    "\uff5a\055\uff5a\056\uff5a\057\uff5a\060\uff5a\061\uff5a\062\uff5a" +
+    "\063\uff5a\064\uff5a\065\uff5a\066\uff5a\067\uff5a\070\uff5a\072" +
+    "\uff5a\073\uff5a\074\uff5a\075\uff5a\076\uff5a\077\uff5a\100\uff5a" +
+    "\104\uff5a\105\uff5a\106\uff5a\111\uff5a\112\uff5a\113\uff5a\114" +
+    "\uff5a\115\uff5a\001\002\000\006\104\uff63\112\uff63\001\002" +
+    "\000\040\013\106\022\067\031\123\032\065\036\071\037" +
+    "\056\040\040\067\027\070\043\071\046\101\024\103\035" +
+    "\116\007\117\116\120\025\001\002\000\126\016\uff59\037" +
+    "\uff59\040\uff59\041\uff59\042\uff59\043\uff59\044\uff59\045\uff59" +
+    "\046\uff59\047\uff59\050\uff59\051\uff59\052\uff59\053\uff59\054" +
+    "\uff59\055\uff59\056\uff59\057\uff59\060\uff59\061\uff59\062\uff59" +
+    "\063\uff59\064\uff59\065\uff59\066\uff59\067\uff59\070\uff59\072" +
+    "\uff59\073\uff59\074\uff59\075\uff59\076\uff59\077\uff59\100\uff59" +
+    "\104\uff59\105\uff59\106\uff59\111\uff59\112\uff59\113\uff59\114" +
+    "\uff59\115\uff59\001\002\000\006\104\uff62\112\uff62\001\002" +
+    "\000\040\013\106\022\067\031\123\032\065\036\071\037" +
+    "\056\040\040\067\027\070\043\071\046\101\024\103\035" +
+    "\116\007\117\116\120\025\001\002\000\040\013\106\022" +
+    "\067\031\123\032\065\036\071\037\056\040\040\067\027" +
+    "\070\043\071\046\101\024\103\035\116\007\117\116\120" +
+    "\025\001\002\000\040\013\106\022\067\031\123\032\065" +
+    "\036\071\037\056\040\040\067\027\070\043\071\046\101" +
+    "\024\103\035\116\007\117\116\120\025\001\002\000\040" +
+    "\013\106\022\067\031\123\032\065\036\071\037\056\040" +
+    "\040\067\027\070\043\071\046\101\024\103\035\116\007" +
+    "\117\116\120\025\001\002\000\040\013\106\022\067\031" +
+    "\123\032\065\036\071\037\056\040\040\067\027\070\043" +
+    "\071\046\101\024\103\035\116\007\117\116\120\025\001" +
+    "\002\000\040\013\106\022\067\031\123\032\065\036\071" +
+    "\037\056\040\040\067\027\070\043\071\046\101\024\103" +
+    "\035\116\007\117\116\120\025\001\002\000\040\013\106" +
+    "\022\067\031\123\032\065\036\071\037\056\040\040\067" +
+    "\027\070\043\071\046\101\024\103\035\116\007\117\116" +
+    "\120\025\001\002\000\040\013\106\022\067\031\123\032" +
+    "\065\036\071\037\056\040\040\067\027\070\043\071\046" +
+    "\101\024\103\035\116\007\117\116\120\025\001\002\000" +
+    "\040\013\106\022\067\031\123\032\065\036\071\037\056" +
+    "\040\040\067\027\070\043\071\046\101\024\103\035\116" +
+    "\007\117\116\120\025\001\002\000\040\013\106\022\067" +
+    "\031\123\032\065\036\071\037\056\040\040\067\027\070" +
+    "\043\071\046\101\024\103\035\116\007\117\116\120\025" +
+    "\001\002\000\040\013\106\022\067\031\123\032\065\036" +
+    "\071\037\056\040\040\067\027\070\043\071\046\101\024" +
+    "\103\035\116\007\117\116\120\025\001\002\000\040\013" +
+    "\106\022\067\031\123\032\065\036\071\037\056\040\040" +
+    "\067\027\070\043\071\046\101\024\103\035\116\007\117" +
+    "\116\120\025\001\002\000\044\053\150\054\143\055\142" +
+    "\056\154\057\141\060\151\061\144\062\146\063\145\064" +
+    "\152\065\147\066\153\104\uffa1\106\uffa1\111\uffa1\112\uffa1" +
+    "\115\uffa1\001\002\000\044\053\150\054\143\055\142\056" +
+    "\154\057\141\060\151\061\144\062\146\063\145\064\152" +
+    "\065\147\066\153\104\uff99\106\uff99\111\uff99\112\uff99\115" +
+    "\uff99\001\002\000\044\053\150\054\143\055\142\056\154" +
+    "\057\141\060\151\061\144\062\146\063\145\064\152\065" +
+    "\147\066\153\104\uff9b\106\uff9b\111\uff9b\112\uff9b\115\uff9b" +
+    "\001\002\000\044\053\150\054\143\055\142\056\154\057" +
+    "\141\060\151\061\144\062\146\063\145\064\152\065\147" +
+    "\066\153\104\uff9f\106\uff9f\111\uff9f\112\uff9f\115\uff9f\001" +
+    "\002\000\044\053\150\054\143\055\142\056\154\057\141" +
+    "\060\151\061\144\062\146\063\145\064\152\065\147\066" +
+    "\153\104\uffa4\106\uffa4\111\uffa4\112\uffa4\115\uffa4\001\002" +
+    "\000\044\053\150\054\143\055\142\056\154\057\141\060" +
+    "\151\061\144\062\146\063\145\064\152\065\147\066\153" +
+    "\104\uff9a\106\uff9a\111\uff9a\112\uff9a\115\uff9a\001\002\000" +
+    "\044\053\150\054\143\055\142\056\154\057\141\060\151" +
+    "\061\144\062\146\063\145\064\152\065\147\066\153\104" +
+    "\uff9d\106\uff9d\111\uff9d\112\uff9d\115\uff9d\001\002\000\044" +
+    "\053\150\054\143\055\142\056\154\057\141\060\151\061" +
+    "\144\062\146\063\145\064\152\065\147\066\153\104\uff9c" +
+    "\106\uff9c\111\uff9c\112\uff9c\115\uff9c\001\002\000\044\053" +
+    "\150\054\143\055\142\056\154\057\141\060\151\061\144" +
+    "\062\146\063\145\064\152\065\147\066\153\104\uff9e\106" +
+    "\uff9e\111\uff9e\112\uff9e\115\uff9e\001\002\000\044\053\150" +
+    "\054\143\055\142\056\154\057\141\060\151\061\144\062" +
+    "\146\063\145\064\152\065\147\066\153\104\uffa3\106\uffa3" +
+    "\111\uffa3\112\uffa3\115\uffa3\001\002\000\044\053\150\054" +
+    "\143\055\142\056\154\057\141\060\151\061\144\062\146" +
+    "\063\145\064\152\065\147\066\153\104\uffa2\106\uffa2\111" +
+    "\uffa2\112\uffa2\115\uffa2\001\002\000\044\053\150\054\143" +
+    "\055\142\056\154\057\141\060\151\061\144\062\146\063" +
+    "\145\064\152\065\147\066\153\104\uffa0\106\uffa0\111\uffa0" +
+    "\112\uffa0\115\uffa0\001\002\000\070\004\063\013\106\014" +
+    "\042\015\057\017\037\022\067\024\064\026\104\027\076" +
+    "\030\115\031\060\032\065\034\102\035\066\036\071\037" +
+    "\056\040\040\067\027\070\043\071\046\101\024\103\035" +
+    "\107\047\111\050\116\007\117\116\120\025\001\002\000" +
+    "\102\004\uffcb\005\uffcb\006\uffcb\010\uffcb\011\uffcb\013\uffcb" +
+    "\014\uffcb\015\uffcb\017\uffcb\022\uffcb\024\uffcb\026\uffcb\027" +
+    "\uffcb\030\uffcb\031\uffcb\032\uffcb\034\uffcb\035\uffcb\036\uffcb" +
+    "\037\uffcb\040\uffcb\067\uffcb\070\uffcb\071\uffcb\101\uffcb\103" +
+    "\uffcb\107\uffcb\110\uffcb\111\uffcb\116\uffcb\117\uffcb\120\uffcb" +
+    "\001\002\000\006\102\uffdb\116\uffdb\001\002\000\006\002" +
+    "\ufffd\007\ufffd\001\002\000\040\013\106\022\067\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\116\007\117\116\120\025\001\002" +
+    "\000\004\106\177\001\002\000\126\016\uff5f\037\uff5f\040" +
+    "\uff5f\041\uff5f\042\uff5f\043\uff5f\044\uff5f\045\uff5f\046\uff5f" +
+    "\047\uff5f\050\uff5f\051\uff5f\052\uff5f\053\uff5f\054\uff5f\055" +
+    "\uff5f\056\uff5f\057\uff5f\060\uff5f\061\uff5f\062\uff5f\063\uff5f" +
+    "\064\uff5f\065\uff5f\066\uff5f\067\uff5f\070\uff5f\072\uff5f\073" +
+    "\uff5f\074\uff5f\075\uff5f\076\uff5f\077\uff5f\100\uff5f\104\uff5f" +
+    "\105\uff5f\106\uff5f\111\uff5f\112\uff5f\113\uff5f\114\uff5f\115" +
+    "\uff5f\001\002\000\004\107\201\001\002\000\010\006\205" +
+    "\010\202\110\204\001\002\000\004\115\221\001\002\000" +
+    "\010\006\uffb9\010\uffb9\110\uffb9\001\002\000\102\004\uffba" +
+    "\005\uffba\006\uffba\010\uffba\011\uffba\013\uffba\014\uffba\015" +
+    "\uffba\017\uffba\022\uffba\024\uffba\026\uffba\027\uffba\030\uffba" +
+    "\031\uffba\032\uffba\034\uffba\035\uffba\036\uffba\037\uffba\040" +
+    "\uffba\067\uffba\070\uffba\071\uffba\101\uffba\103\uffba\107\uffba" +
+    "\110\uffba\111\uffba\116\uffba\117\uffba\120\uffba\001\002\000" +
+    "\004\117\211\001\002\000\010\006\205\010\202\110\210" +
+    "\001\002\000\010\006\uffb8\010\uffb8\110\uffb8\001\002\000" +
+    "\102\004\uffbb\005\uffbb\006\uffbb\010\uffbb\011\uffbb\013\uffbb" +
+    "\014\uffbb\015\uffbb\017\uffbb\022\uffbb\024\uffbb\026\uffbb\027" +
+    "\uffbb\030\uffbb\031\uffbb\032\uffbb\034\uffbb\035\uffbb\036\uffbb" +
+    "\037\uffbb\040\uffbb\067\uffbb\070\uffbb\071\uffbb\101\uffbb\103" +
+    "\uffbb\107\uffbb\110\uffbb\111\uffbb\116\uffbb\117\uffbb\120\uffbb" +
+    "\001\002\000\004\115\212\001\002\000\100\004\063\005" +
+    "\214\006\uffb4\010\uffb4\013\106\014\042\015\057\017\037" +
+    "\022\067\024\064\026\104\027\076\030\115\031\060\032" +
+    "\065\034\102\035\066\036\071\037\056\040\040\067\027" +
+    "\070\043\071\046\101\024\103\035\107\047\110\uffb4\111" +
+    "\050\116\007\117\116\120\025\001\002\000\100\004\063" +
+    "\005\216\006\uffb6\010\uffb6\013\106\014\042\015\057\017" +
+    "\037\022\067\024\064\026\104\027\076\030\115\031\060" +
+    "\032\065\034\102\035\066\036\071\037\056\040\040\067" +
+    "\027\070\043\071\046\101\024\103\035\107\047\110\uffb6" +
+    "\111\050\116\007\117\116\120\025\001\002\000\004\111" +
+    "\215\001\002\000\010\006\uffb5\010\uffb5\110\uffb5\001\002" +
+    "\000\004\111\220\001\002\000\100\004\uffd4\005\uffd4\006" +
+    "\uffd4\010\uffd4\013\uffd4\014\uffd4\015\uffd4\017\uffd4\022\uffd4" +
+    "\024\uffd4\026\uffd4\027\uffd4\030\uffd4\031\uffd4\032\uffd4\034" +
+    "\uffd4\035\uffd4\036\uffd4\037\uffd4\040\uffd4\067\uffd4\070\uffd4" +
+    "\071\uffd4\101\uffd4\103\uffd4\107\uffd4\110\uffd4\111\uffd4\116" +
+    "\uffd4\117\uffd4\120\uffd4\001\002\000\010\006\uffb7\010\uffb7" +
+    "\110\uffb7\001\002\000\100\004\063\005\223\006\uffb0\010" +
+    "\uffb0\013\106\014\042\015\057\017\037\022\067\024\064" +
+    "\026\104\027\076\030\115\031\060\032\065\034\102\035" +
+    "\066\036\071\037\056\040\040\067\027\070\043\071\046" +
+    "\101\024\103\035\107\047\110\uffb0\111\050\116\007\117" +
+    "\116\120\025\001\002\000\100\004\063\005\225\006\uffb2" +
+    "\010\uffb2\013\106\014\042\015\057\017\037\022\067\024" +
+    "\064\026\104\027\076\030\115\031\060\032\065\034\102" +
+    "\035\066\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\107\047\110\uffb2\111\050\116\007" +
+    "\117\116\120\025\001\002\000\004\111\224\001\002\000" +
+    "\010\006\uffb1\010\uffb1\110\uffb1\001\002\000\004\111\226" +
+    "\001\002\000\010\006\uffb3\010\uffb3\110\uffb3\001\002\000" +
+    "\040\013\106\022\067\031\123\032\065\036\071\037\056" +
+    "\040\040\067\027\070\043\071\046\101\024\103\035\116" +
+    "\007\117\116\120\025\001\002\000\004\115\231\001\002" +
+    "\000\040\013\106\022\067\031\123\032\065\036\071\037" +
+    "\056\040\040\067\027\070\043\071\046\101\024\103\035" +
+    "\116\007\117\116\120\025\001\002\000\044\053\150\054" +
+    "\143\055\142\056\154\057\141\060\151\061\144\062\146" +
+    "\063\145\064\152\065\147\066\153\104\uff86\106\uff86\111" +
+    "\uff86\112\uff86\115\uff86\001\002\000\040\013\106\022\067" +
+    "\031\123\032\065\036\071\037\056\040\040\067\027\070" +
+    "\043\071\046\101\024\103\035\116\007\117\116\120\025" +
+    "\001\002\000\040\013\106\022\067\031\123\032\065\036" +
+    "\071\037\056\040\040\067\027\070\043\071\046\101\024" +
+    "\103\035\116\007\117\116\120\025\001\002\000\040\013" +
+    "\106\022\067\031\123\032\065\036\071\037\056\040\040" +
+    "\067\027\070\043\071\046\101\024\103\035\116\007\117" +
+    "\116\120\025\001\002\000\040\013\106\022\067\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\116\007\117\116\120\025\001\002" +
+    "\000\040\013\106\022\067\031\123\032\065\036\071\037" +
+    "\056\040\040\067\027\070\043\071\046\101\024\103\035" +
+    "\116\007\117\116\120\025\001\002\000\040\013\106\022" +
+    "\067\031\123\032\065\036\071\037\056\040\040\067\027" +
+    "\070\043\071\046\101\024\103\035\116\007\117\116\120" +
+    "\025\001\002\000\040\013\106\022\067\031\123\032\065" +
+    "\036\071\037\056\040\040\067\027\070\043\071\046\101" +
+    "\024\103\035\116\007\117\116\120\025\001\002\000\040" +
+    "\013\106\022\067\031\123\032\065\036\071\037\056\040" +
+    "\040\067\027\070\043\071\046\101\024\103\035\116\007" +
+    "\117\116\120\025\001\002\000\040\013\106\022\067\031" +
+    "\123\032\065\036\071\037\056\040\040\067\027\070\043" +
+    "\071\046\101\024\103\035\116\007\117\116\120\025\001" +
+    "\002\000\040\013\106\022\067\031\123\032\065\036\071" +
+    "\037\056\040\040\067\027\070\043\071\046\101\024\103" +
+    "\035\116\007\117\116\120\025\001\002\000\040\013\106" +
+    "\022\067\031\123\032\065\036\071\037\056\040\040\067" +
+    "\027\070\043\071\046\101\024\103\035\116\007\117\116" +
+    "\120\025\001\002\000\040\013\106\022\067\031\123\032" +
+    "\065\036\071\037\056\040\040\067\027\070\043\071\046" +
+    "\101\024\103\035\116\007\117\116\120\025\001\002\000" +
+    "\040\013\106\022\067\031\123\032\065\036\071\037\056" +
+    "\040\040\067\027\070\043\071\046\101\024\103\035\116" +
+    "\007\117\116\120\025\001\002\000\040\013\106\022\067" +
+    "\031\123\032\065\036\071\037\056\040\040\067\027\070" +
+    "\043\071\046\101\024\103\035\116\007\117\116\120\025" +
+    "\001\002\000\040\013\106\022\067\031\123\032\065\036" +
+    "\071\037\056\040\040\067\027\070\043\071\046\101\024" +
+    "\103\035\116\007\117\116\120\025\001\002\000\040\013" +
+    "\106\022\067\031\123\032\065\036\071\037\056\040\040" +
+    "\067\027\070\043\071\046\101\024\103\035\116\007\117" +
+    "\116\120\025\001\002\000\040\013\106\022\067\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\116\007\117\116\120\025\001\002" +
+    "\000\006\020\265\116\007\001\002\000\040\013\106\022" +
+    "\067\031\123\032\065\036\071\037\056\040\040\067\027" +
+    "\070\043\071\046\101\024\103\035\116\007\117\116\120" +
+    "\025\001\002\000\040\013\106\022\067\031\123\032\065" +
+    "\036\071\037\056\040\040\067\027\070\043\071\046\101" +
+    "\024\103\035\116\007\117\116\120\025\001\002\000\004" +
+    "\116\007\001\002\000\040\013\106\022\067\031\123\032" +
+    "\065\036\071\037\056\040\040\067\027\070\043\071\046" +
+    "\101\024\103\035\116\007\117\116\120\025\001\002\000" +
+    "\122\016\uff6d\037\240\040\252\041\233\042\250\043\235" +
+    "\044\247\045\244\046\245\047\251\050\255\051\243\052" +
+    "\237\053\uff6d\054\uff6d\055\uff6d\056\uff6d\057\uff6d\060\uff6d" +
+    "\061\uff6d\062\uff6d\063\uff6d\064\uff6d\065\uff6d\066\uff6d\072" +
+    "\uff6d\073\uff6d\074\256\075\234\076\246\077\uff6d\100\242" +
+    "\104\uff6d\105\253\106\uff6d\111\uff6d\112\uff6d\113\254\114" +
+    "\uff6d\115\uff6d\001\002\000\046\053\uff83\054\uff83\055\uff83" +
+    "\056\uff83\057\uff83\060\uff83\061\uff83\062\uff83\063\uff83\064" +
+    "\uff83\065\uff83\066\uff83\104\uff83\106\uff83\111\uff83\112\uff83" +
+    "\114\uff83\115\uff83\001\002\000\122\016\uff74\037\240\040" +
+    "\252\041\233\042\250\043\235\044\247\045\244\046\245" +
+    "\047\251\050\255\051\243\052\237\053\uff74\054\uff74\055" +
+    "\uff74\056\uff74\057\uff74\060\uff74\061\uff74\062\uff74\063\uff74" +
+    "\064\uff74\065\uff74\066\uff74\072\uff74\073\uff74\074\uff74\075" +
+    "\uff74\076\uff74\077\uff74\100\uff74\104\uff74\105\253\106\uff74" +
+    "\111\uff74\112\uff74\113\254\114\uff74\115\uff74\001\002\000" +
+    "\122\016\uff71\037\240\040\252\041\233\042\250\043\235" +
+    "\044\247\045\244\046\245\047\uff71\050\uff71\051\uff71\052" +
+    "\uff71\053\uff71\054\uff71\055\uff71\056\uff71\057\uff71\060\uff71" +
+    "\061\uff71\062\uff71\063\uff71\064\uff71\065\uff71\066\uff71\072" +
+    "\uff71\073\uff71\074\uff71\075\uff71\076\uff71\077\uff71\100\uff71" +
+    "\104\uff71\105\253\106\uff71\111\uff71\112\uff71\113\254\114" +
+    "\uff71\115\uff71\001\002\000\122\016\uff7b\037\uff7b\040\uff7b" +
+    "\041\uff7b\042\uff7b\043\uff7b\044\uff7b\045\uff7b\046\uff7b\047" +
+    "\uff7b\050\uff7b\051\uff7b\052\uff7b\053\uff7b\054\uff7b\055\uff7b" +
+    "\056\uff7b\057\uff7b\060\uff7b\061\uff7b\062\uff7b\063\uff7b\064" +
+    "\uff7b\065\uff7b\066\uff7b\072\uff7b\073\uff7b\074\uff7b\075\uff7b" +
+    "\076\uff7b\077\uff7b\100\uff7b\104\uff7b\105\uff7b\106\uff7b\111" +
+    "\uff7b\112\uff7b\113\uff7b\114\uff7b\115\uff7b\001\002\000\124" +
+    "\016\uff5d\037\uff5d\040\uff5d\041\uff5d\042\uff5d\043\uff5d\044" +
+    "\uff5d\045\uff5d\046\uff5d\047\uff5d\050\uff5d\051\uff5d\052\uff5d" +
+    "\053\uff5d\054\uff5d\055\uff5d\056\uff5d\057\uff5d\060\uff5d\061" +
+    "\uff5d\062\uff5d\063\uff5d\064\uff5d\065\uff5d\066\uff5d\072\uff5d" +
+    "\073\uff5d\074\uff5d\075\uff5d\076\uff5d\077\uff5d\100\uff5d\103" +
+    "\132\104\uff5d\105\uff5d\106\uff5d\111\uff5d\112\uff5d\113\uff5d" +
+    "\114\uff5d\115\uff5d\001\002\000\122\016\uff5c\037\uff5c\040" +
+    "\uff5c\041\uff5c\042\uff5c\043\uff5c\044\uff5c\045\uff5c\046\uff5c" +
+    "\047\uff5c\050\uff5c\051\uff5c\052\uff5c\053\uff5c\054\uff5c\055" +
+    "\uff5c\056\uff5c\057\uff5c\060\uff5c\061\uff5c\062\uff5c\063\uff5c" +
+    "\064\uff5c\065\uff5c\066\uff5c\072\uff5c\073\uff5c\074\uff5c\075" +
+    "\uff5c\076\uff5c\077\uff5c\100\uff5c\104\uff5c\105\uff5c\106\uff5c" +
+    "\111\uff5c\112\uff5c\113\uff5c\114\uff5c\115\uff5c\001\002\000" +
+    "\004\106\271\001\002\000\122\016\uff61\037\uff61\040\uff61" +
+    "\041\uff61\042\uff61\043\uff61\044\uff61\045\uff61\046\uff61\047" +
+    "\uff61\050\uff61\051\uff61\052\uff61\053\uff61\054\uff61\055\uff61" +
+    "\056\uff61\057\uff61\060\uff61\061\uff61\062\uff61\063\uff61\064" +
+    "\uff61\065\uff61\066\uff61\072\uff61\073\uff61\074\uff61\075\uff61" +
+    "\076\uff61\077\uff61\100\uff61\104\uff61\105\uff61\106\uff61\111" +
+    "\uff61\112\uff61\113\uff61\114\uff61\115\uff61\001\002\000\122" +
+    "\016\uff6a\037\uff6a\040\uff6a\041\233\042\250\043\235\044" +
+    "\uff6a\045\uff6a\046\uff6a\047\uff6a\050\uff6a\051\uff6a\052\uff6a" +
+    "\053\uff6a\054\uff6a\055\uff6a\056\uff6a\057\uff6a\060\uff6a\061" +
+    "\uff6a\062\uff6a\063\uff6a\064\uff6a\065\uff6a\066\uff6a\072\uff6a" +
+    "\073\uff6a\074\uff6a\075\uff6a\076\uff6a\077\uff6a\100\uff6a\104" +
+    "\uff6a\105\253\106\uff6a\111\uff6a\112\uff6a\113\254\114\uff6a" +
+    "\115\uff6a\001\002\000\122\016\uff72\037\240\040\252\041" +
+    "\233\042\250\043\235\044\247\045\244\046\245\047\uff72" +
+    "\050\uff72\051\uff72\052\uff72\053\uff72\054\uff72\055\uff72\056" +
+    "\uff72\057\uff72\060\uff72\061\uff72\062\uff72\063\uff72\064\uff72" +
+    "\065\uff72\066\uff72\072\uff72\073\uff72\074\uff72\075\uff72\076" +
+    "\uff72\077\uff72\100\uff72\104\uff72\105\253\106\uff72\111\uff72" +
+    "\112\uff72\113\254\114\uff72\115\uff72\001\002\000\122\016" +
+    "\uff68\037\uff68\040\uff68\041\uff68\042\uff68\043\uff68\044\uff68" +
+    "\045\uff68\046\uff68\047\uff68\050\uff68\051\uff68\052\uff68\053" +
+    "\uff68\054\uff68\055\uff68\056\uff68\057\uff68\060\uff68\061\uff68" +
+    "\062\uff68\063\uff68\064\uff68\065\uff68\066\uff68\072\uff68\073" +
+    "\uff68\074\uff68\075\uff68\076\uff68\077\uff68\100\uff68\104\uff68" +
+    "\105\253\106\uff68\111\uff68\112\uff68\113\254\114\uff68\115" +
+    "\uff68\001\002\000\122\016\uff66\037\240\040\252\041\233" +
+    "\042\250\043\235\044\uff66\045\uff66\046\uff66\047\uff66\050" +
+    "\uff66\051\uff66\052\uff66\053\uff66\054\uff66\055\uff66\056\uff66" +
+    "\057\uff66\060\uff66\061\uff66\062\uff66\063\uff66\064\uff66\065" +
+    "\uff66\066\uff66\072\uff66\073\uff66\074\uff66\075\uff66\076\uff66" +
+    "\077\uff66\100\uff66\104\uff66\105\253\106\uff66\111\uff66\112" +
+    "\uff66\113\254\114\uff66\115\uff66\001\002\000\122\016\uff6e" +
+    "\037\240\040\252\041\233\042\250\043\235\044\247\045" +
+    "\244\046\245\047\251\050\255\051\243\052\237\053\uff6e" +
+    "\054\uff6e\055\uff6e\056\uff6e\057\uff6e\060\uff6e\061\uff6e\062" +
+    "\uff6e\063\uff6e\064\uff6e\065\uff6e\066\uff6e\072\uff6e\073\uff6e" +
+    "\074\256\075\234\076\uff6e\077\uff6e\100\uff6e\104\uff6e\105" +
+    "\253\106\uff6e\111\uff6e\112\uff6e\113\254\114\uff6e\115\uff6e" +
+    "\001\002\000\122\016\uff64\037\240\040\252\041\233\042" +
+    "\250\043\235\044\uff64\045\uff64\046\uff64\047\uff64\050\uff64" +
+    "\051\uff64\052\uff64\053\uff64\054\uff64\055\uff64\056\uff64\057" +
+    "\uff64\060\uff64\061\uff64\062\uff64\063\uff64\064\uff64\065\uff64" +
+    "\066\uff64\072\uff64\073\uff64\074\uff64\075\uff64\076\uff64\077" +
+    "\uff64\100\uff64\104\uff64\105\253\106\uff64\111\uff64\112\uff64" +
+    "\113\254\114\uff64\115\uff64\001\002\000\122\016\uff65\037" +
+    "\240\040\252\041\233\042\250\043\235\044\uff65\045\uff65" +
+    "\046\uff65\047\uff65\050\uff65\051\uff65\052\uff65\053\uff65\054" +
+    "\uff65\055\uff65\056\uff65\057\uff65\060\uff65\061\uff65\062\uff65" +
+    "\063\uff65\064\uff65\065\uff65\066\uff65\072\uff65\073\uff65\074" +
+    "\uff65\075\uff65\076\uff65\077\uff65\100\uff65\104\uff65\105\253" +
+    "\106\uff65\111\uff65\112\uff65\113\254\114\uff65\115\uff65\001" +
+    "\002\000\122\016\uff70\037\240\040\252\041\233\042\250" +
+    "\043\235\044\247\045\244\046\245\047\uff70\050\uff70\051" +
+    "\uff70\052\uff70\053\uff70\054\uff70\055\uff70\056\uff70\057\uff70" +
+    "\060\uff70\061\uff70\062\uff70\063\uff70\064\uff70\065\uff70\066" +
+    "\uff70\072\uff70\073\uff70\074\uff70\075\uff70\076\uff70\077\uff70" +
+    "\100\uff70\104\uff70\105\253\106\uff70\111\uff70\112\uff70\113" +
+    "\254\114\uff70\115\uff70\001\002\000\122\016\uff6c\037\240" +
+    "\040\252\041\233\042\250\043\235\044\247\045\244\046" +
+    "\245\047\251\050\255\051\243\052\237\053\uff6c\054\uff6c" +
+    "\055\uff6c\056\uff6c\057\uff6c\060\uff6c\061\uff6c\062\uff6c\063" +
+    "\uff6c\064\uff6c\065\uff6c\066\uff6c\072\uff6c\073\uff6c\074\256" +
+    "\075\234\076\246\077\uff6c\100\uff6c\104\uff6c\105\253\106" +
+    "\uff6c\111\uff6c\112\uff6c\113\254\114\uff6c\115\uff6c\001\002" +
+    "\000\122\016\uff75\037\240\040\252\041\233\042\250\043" +
+    "\235\044\247\045\244\046\245\047\251\050\255\051\243" +
+    "\052\237\053\uff75\054\uff75\055\uff75\056\uff75\057\uff75\060" +
+    "\uff75\061\uff75\062\uff75\063\uff75\064\uff75\065\uff75\066\uff75" +
+    "\072\236\073\uff75\074\256\075\234\076\246\077\260\100" +
+    "\242\104\uff75\105\253\106\uff75\111\uff75\112\uff75\113\254" +
+    "\114\uff75\115\uff75\001\002\000\122\016\uff6b\037\uff6b\040" +
+    "\uff6b\041\233\042\250\043\235\044\uff6b\045\uff6b\046\uff6b" +
+    "\047\uff6b\050\uff6b\051\uff6b\052\uff6b\053\uff6b\054\uff6b\055" +
+    "\uff6b\056\uff6b\057\uff6b\060\uff6b\061\uff6b\062\uff6b\063\uff6b" +
+    "\064\uff6b\065\uff6b\066\uff6b\072\uff6b\073\uff6b\074\uff6b\075" +
+    "\uff6b\076\uff6b\077\uff6b\100\uff6b\104\uff6b\105\253\106\uff6b" +
+    "\111\uff6b\112\uff6b\113\254\114\uff6b\115\uff6b\001\002\000" +
+    "\122\016\uff6f\037\240\040\252\041\233\042\250\043\235" +
+    "\044\247\045\244\046\245\047\uff6f\050\uff6f\051\uff6f\052" +
+    "\uff6f\053\uff6f\054\uff6f\055\uff6f\056\uff6f\057\uff6f\060\uff6f" +
+    "\061\uff6f\062\uff6f\063\uff6f\064\uff6f\065\uff6f\066\uff6f\072" +
+    "\uff6f\073\uff6f\074\uff6f\075\uff6f\076\uff6f\077\uff6f\100\uff6f" +
+    "\104\uff6f\105\253\106\uff6f\111\uff6f\112\uff6f\113\254\114" +
+    "\uff6f\115\uff6f\001\002\000\122\016\uff76\037\240\040\252" +
+    "\041\233\042\250\043\235\044\247\045\244\046\245\047" +
+    "\251\050\255\051\243\052\237\053\uff76\054\uff76\055\uff76" +
+    "\056\uff76\057\uff76\060\uff76\061\uff76\062\uff76\063\uff76\064" +
+    "\uff76\065\uff76\066\uff76\072\uff76\073\uff76\074\256\075\234" +
+    "\076\246\077\260\100\242\104\uff76\105\253\106\uff76\111" +
+    "\uff76\112\uff76\113\254\114\uff76\115\uff76\001\002\000\122" +
+    "\016\uff67\037\uff67\040\uff67\041\uff67\042\uff67\043\uff67\044" +
+    "\uff67\045\uff67\046\uff67\047\uff67\050\uff67\051\uff67\052\uff67" +
+    "\053\uff67\054\uff67\055\uff67\056\uff67\057\uff67\060\uff67\061" +
+    "\uff67\062\uff67\063\uff67\064\uff67\065\uff67\066\uff67\072\uff67" +
+    "\073\uff67\074\uff67\075\uff67\076\uff67\077\uff67\100\uff67\104" +
+    "\uff67\105\253\106\uff67\111\uff67\112\uff67\113\254\114\uff67" +
+    "\115\uff67\001\002\000\122\016\uff73\037\240\040\252\041" +
+    "\233\042\250\043\235\044\247\045\244\046\245\047\251" +
+    "\050\255\051\243\052\237\053\uff73\054\uff73\055\uff73\056" +
+    "\uff73\057\uff73\060\uff73\061\uff73\062\uff73\063\uff73\064\uff73" +
+    "\065\uff73\066\uff73\072\uff73\073\uff73\074\uff73\075\uff73\076" +
+    "\uff73\077\uff73\100\uff73\104\uff73\105\253\106\uff73\111\uff73" +
+    "\112\uff73\113\254\114\uff73\115\uff73\001\002\000\122\016" +
+    "\uff69\037\uff69\040\uff69\041\uff69\042\uff69\043\uff69\044\uff69" +
+    "\045\uff69\046\uff69\047\uff69\050\uff69\051\uff69\052\uff69\053" +
+    "\uff69\054\uff69\055\uff69\056\uff69\057\uff69\060\uff69\061\uff69" +
+    "\062\uff69\063\uff69\064\uff69\065\uff69\066\uff69\072\uff69\073" +
+    "\uff69\074\uff69\075\uff69\076\uff69\077\uff69\100\uff69\104\uff69" +
+    "\105\253\106\uff69\111\uff69\112\uff69\113\254\114\uff69\115" +
+    "\uff69\001\002\000\004\105\315\001\002\000\006\103\132" +
+    "\105\uffd6\001\002\000\126\016\uff94\037\uff94\040\uff94\041" +
+    "\uff94\042\uff94\043\uff94\044\uff94\045\uff94\046\uff94\047\uff94" +
+    "\050\uff94\051\uff94\052\uff94\053\uff94\054\uff94\055\uff94\056" +
+    "\uff94\057\uff94\060\uff94\061\uff94\062\uff94\063\uff94\064\uff94" +
+    "\065\uff94\066\uff94\067\uff94\070\uff94\072\uff94\073\uff94\074" +
+    "\uff94\075\uff94\076\uff94\077\uff94\100\uff94\104\uff94\105\uff94" +
+    "\106\uff94\111\uff94\112\uff94\113\uff94\114\uff94\115\uff94\001" +
+    "\002\000\040\013\106\022\067\031\123\032\065\036\071" +
+    "\037\056\040\040\067\027\070\043\071\046\101\024\103" +
+    "\035\116\007\117\116\120\025\001\002\000\004\106\317" +
+    "\001\002\000\126\016\uff5e\037\uff5e\040\uff5e\041\uff5e\042" +
+    "\uff5e\043\uff5e\044\uff5e\045\uff5e\046\uff5e\047\uff5e\050\uff5e" +
+    "\051\uff5e\052\uff5e\053\uff5e\054\uff5e\055\uff5e\056\uff5e\057" +
+    "\uff5e\060\uff5e\061\uff5e\062\uff5e\063\uff5e\064\uff5e\065\uff5e" +
+    "\066\uff5e\067\uff5e\070\uff5e\072\uff5e\073\uff5e\074\uff5e\075" +
+    "\uff5e\076\uff5e\077\uff5e\100\uff5e\104\uff5e\105\uff5e\106\uff5e" +
+    "\111\uff5e\112\uff5e\113\uff5e\114\uff5e\115\uff5e\001\002\000" +
+    "\004\111\321\001\002\000\102\004\uffbf\005\uffbf\006\uffbf" +
+    "\010\uffbf\011\uffbf\013\uffbf\014\uffbf\015\uffbf\017\uffbf\022" +
+    "\uffbf\024\uffbf\026\uffbf\027\uffbf\030\uffbf\031\uffbf\032\uffbf" +
+    "\034\uffbf\035\uffbf\036\uffbf\037\uffbf\040\uffbf\067\uffbf\070" +
+    "\uffbf\071\uffbf\101\uffbf\103\uffbf\107\uffbf\110\uffbf\111\uffbf" +
+    "\116\uffbf\117\uffbf\120\uffbf\001\002\000\102\004\uffbc\005" +
+    "\uffbc\006\uffbc\010\uffbc\011\uffbc\013\uffbc\014\uffbc\015\uffbc" +
+    "\017\uffbc\022\uffbc\024\uffbc\026\uffbc\027\uffbc\030\uffbc\031" +
+    "\uffbc\032\uffbc\034\uffbc\035\uffbc\036\uffbc\037\uffbc\040\uffbc" +
+    "\067\uffbc\070\uffbc\071\uffbc\101\uffbc\103\uffbc\107\uffbc\110" +
+    "\uffbc\111\uffbc\116\uffbc\117\uffbc\120\uffbc\001\002\000\004" +
+    "\111\324\001\002\000\102\004\uffbd\005\uffbd\006\uffbd\010" +
+    "\uffbd\011\uffbd\013\uffbd\014\uffbd\015\uffbd\017\uffbd\022\uffbd" +
+    "\024\uffbd\026\uffbd\027\uffbd\030\uffbd\031\uffbd\032\uffbd\034" +
+    "\uffbd\035\uffbd\036\uffbd\037\uffbd\040\uffbd\067\uffbd\070\uffbd" +
+    "\071\uffbd\101\uffbd\103\uffbd\107\uffbd\110\uffbd\111\uffbd\116" +
+    "\uffbd\117\uffbd\120\uffbd\001\002\000\006\102\uffda\116\uffda" +
+    "\001\002\000\004\111\327\001\002\000\102\004\uffbe\005" +
+    "\uffbe\006\uffbe\010\uffbe\011\uffbe\013\uffbe\014\uffbe\015\uffbe" +
+    "\017\uffbe\022\uffbe\024\uffbe\026\uffbe\027\uffbe\030\uffbe\031" +
+    "\uffbe\032\uffbe\034\uffbe\035\uffbe\036\uffbe\037\uffbe\040\uffbe" +
+    "\067\uffbe\070\uffbe\071\uffbe\101\uffbe\103\uffbe\107\uffbe\110" +
+    "\uffbe\111\uffbe\116\uffbe\117\uffbe\120\uffbe\001\002\000\070" +
+    "\004\063\013\106\014\042\015\057\017\037\022\067\024" +
+    "\064\026\104\027\076\030\115\031\060\032\065\034\102" +
+    "\035\066\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\107\047\111\050\116\007\117\116" +
+    "\120\025\001\002\000\102\004\uffce\005\uffce\006\uffce\010" +
+    "\uffce\011\332\013\uffce\014\uffce\015\uffce\017\uffce\022\uffce" +
+    "\024\uffce\026\uffce\027\uffce\030\uffce\031\uffce\032\uffce\034" +
+    "\uffce\035\uffce\036\uffce\037\uffce\040\uffce\067\uffce\070\uffce" +
+    "\071\uffce\101\uffce\103\uffce\107\uffce\110\uffce\111\uffce\116" +
+    "\uffce\117\uffce\120\uffce\001\002\000\070\004\063\013\106" +
+    "\014\042\015\057\017\037\022\067\024\064\026\104\027" +
+    "\076\030\115\031\060\032\065\034\102\035\066\036\071" +
+    "\037\056\040\040\067\027\070\043\071\046\101\024\103" +
+    "\035\107\047\111\050\116\007\117\116\120\025\001\002" +
+    "\000\102\004\uffcd\005\uffcd\006\uffcd\010\uffcd\011\uffcd\013" +
+    "\uffcd\014\uffcd\015\uffcd\017\uffcd\022\uffcd\024\uffcd\026\uffcd" +
+    "\027\uffcd\030\uffcd\031\uffcd\032\uffcd\034\uffcd\035\uffcd\036" +
+    "\uffcd\037\uffcd\040\uffcd\067\uffcd\070\uffcd\071\uffcd\101\uffcd" +
+    "\103\uffcd\107\uffcd\110\uffcd\111\uffcd\116\uffcd\117\uffcd\120" +
+    "\uffcd\001\002\000\122\016\uff82\037\uff82\040\uff82\041\233" +
+    "\042\250\043\235\044\uff82\045\uff82\046\uff82\047\uff82\050" +
+    "\uff82\051\uff82\052\uff82\053\uff82\054\uff82\055\uff82\056\uff82" +
+    "\057\uff82\060\uff82\061\uff82\062\uff82\063\uff82\064\uff82\065" +
+    "\uff82\066\uff82\072\uff82\073\uff82\074\uff82\075\uff82\076\uff82" +
+    "\077\uff82\100\uff82\104\uff82\105\253\106\uff82\111\uff82\112" +
+    "\uff82\113\254\114\uff82\115\uff82\001\002\000\122\016\uffa5" +
+    "\037\uffa5\040\uffa5\041\uffa5\042\uffa5\043\uffa5\044\uffa5\045" +
+    "\uffa5\046\uffa5\047\uffa5\050\uffa5\051\uffa5\052\uffa5\053\uffa5" +
+    "\054\uffa5\055\uffa5\056\uffa5\057\uffa5\060\uffa5\061\uffa5\062" +
+    "\uffa5\063\uffa5\064\uffa5\065\uffa5\066\uffa5\072\uffa5\073\uffa5" +
+    "\074\uffa5\075\uffa5\076\uffa5\077\uffa5\100\uffa5\104\uffa5\105" +
+    "\uffa5\106\uffa5\111\uffa5\112\uffa5\113\uffa5\114\uffa5\115\uffa5" +
+    "\001\002\000\122\016\uffa6\037\uffa6\040\uffa6\041\uffa6\042" +
+    "\uffa6\043\uffa6\044\uffa6\045\uffa6\046\uffa6\047\uffa6\050\uffa6" +
+    "\051\uffa6\052\uffa6\053\uffa6\054\uffa6\055\uffa6\056\uffa6\057" +
+    "\uffa6\060\uffa6\061\uffa6\062\uffa6\063\uffa6\064\uffa6\065\uffa6" +
+    "\066\uffa6\072\uffa6\073\uffa6\074\uffa6\075\uffa6\076\uffa6\077" +
+    "\uffa6\100\uffa6\104\uffa6\105\uffa6\106\uffa6\111\uffa6\112\uffa6" +
+    "\113\uffa6\114\uffa6\115\uffa6\001\002\000\010\053\340\104" +
+    "\ufff0\111\ufff0\001\002\000\040\013\106\022\067\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\116\007\117\116\120\025\001\002" +
+    "\000\006\104\uffef\111\uffef\001\002\000\072\004\063\013" +
+    "\106\014\042\015\057\017\037\022\067\024\064\026\104" +
+    "\027\076\030\115\031\060\032\065\034\102\035\066\036" +
+    "\071\037\056\040\040\067\027\070\043\071\046\101\024" +
+    "\103\035\107\047\110\344\111\050\116\007\117\116\120" +
+    "\025\001\002\000\102\004\uffcf\005\uffcf\006\uffcf\010\uffcf" +
+    "\011\uffcf\013\uffcf\014\uffcf\015\uffcf\017\uffcf\022\uffcf\024" +
+    "\uffcf\026\uffcf\027\uffcf\030\uffcf\031\uffcf\032\uffcf\034\uffcf" +
+    "\035\uffcf\036\uffcf\037\uffcf\040\uffcf\067\uffcf\070\uffcf\071" +
+    "\uffcf\101\uffcf\103\uffcf\107\uffcf\110\uffcf\111\uffcf\116\uffcf" +
+    "\117\uffcf\120\uffcf\001\002\000\102\004\uffd0\005\uffd0\006" +
+    "\uffd0\010\uffd0\011\uffd0\013\uffd0\014\uffd0\015\uffd0\017\uffd0" +
+    "\022\uffd0\024\uffd0\026\uffd0\027\uffd0\030\uffd0\031\uffd0\032" +
+    "\uffd0\034\uffd0\035\uffd0\036\uffd0\037\uffd0\040\uffd0\067\uffd0" +
+    "\070\uffd0\071\uffd0\101\uffd0\103\uffd0\107\uffd0\110\uffd0\111" +
+    "\uffd0\116\uffd0\117\uffd0\120\uffd0\001\002\000\122\016\uff80" +
+    "\037\uff80\040\uff80\041\uff80\042\uff80\043\uff80\044\uff80\045" +
+    "\uff80\046\uff80\047\uff80\050\uff80\051\uff80\052\uff80\053\uff80" +
+    "\054\uff80\055\uff80\056\uff80\057\uff80\060\uff80\061\uff80\062" +
+    "\uff80\063\uff80\064\uff80\065\uff80\066\uff80\072\uff80\073\uff80" +
+    "\074\uff80\075\uff80\076\uff80\077\uff80\100\uff80\104\uff80\105" +
+    "\253\106\uff80\111\uff80\112\uff80\113\254\114\uff80\115\uff80" +
+    "\001\002\000\122\016\uffa7\037\uffa7\040\uffa7\041\uffa7\042" +
+    "\uffa7\043\uffa7\044\uffa7\045\uffa7\046\uffa7\047\uffa7\050\uffa7" +
+    "\051\uffa7\052\uffa7\053\uffa7\054\uffa7\055\uffa7\056\uffa7\057" +
+    "\uffa7\060\uffa7\061\uffa7\062\uffa7\063\uffa7\064\uffa7\065\uffa7" +
+    "\066\uffa7\072\uffa7\073\uffa7\074\uffa7\075\uffa7\076\uffa7\077" +
+    "\uffa7\100\uffa7\104\uffa7\105\253\106\uffa7\111\uffa7\112\uffa7" +
+    "\113\254\114\uffa7\115\uffa7\001\002\000\052\004\063\013" +
+    "\106\017\037\022\067\026\104\030\115\031\123\032\065" +
+    "\036\071\037\056\040\040\067\027\070\043\071\046\101" +
+    "\024\103\035\111\351\116\007\117\116\120\025\001\002" +
+    "\000\004\111\367\001\002\000\042\013\106\022\067\031" +
+    "\123\032\065\036\071\037\056\040\040\067\027\070\043" +
+    "\071\046\101\024\103\035\111\352\116\007\117\116\120" +
+    "\025\001\002\000\052\004\063\013\106\017\037\022\067" +
+    "\026\104\030\115\031\123\032\065\036\071\037\056\040" +
+    "\040\067\027\070\043\071\046\101\024\103\035\104\363" +
+    "\116\007\117\116\120\025\001\002\000\004\111\354\001" +
+    "\002\000\052\004\063\013\106\017\037\022\067\026\104" +
+    "\030\115\031\123\032\065\036\071\037\056\040\040\067" +
+    "\027\070\043\071\046\101\024\103\035\104\356\116\007" +
+    "\117\116\120\025\001\002\000\004\104\360\001\002\000" +
+    "\070\004\063\013\106\014\042\015\057\017\037\022\067" +
+    "\024\064\026\104\027\076\030\115\031\060\032\065\034" +
+    "\102\035\066\036\071\037\056\040\040\067\027\070\043" +
+    "\071\046\101\024\103\035\107\047\111\050\116\007\117" +
+    "\116\120\025\001\002\000\102\004\uffc2\005\uffc2\006\uffc2" +
+    "\010\uffc2\011\uffc2\013\uffc2\014\uffc2\015\uffc2\017\uffc2\022" +
+    "\uffc2\024\uffc2\026\uffc2\027\uffc2\030\uffc2\031\uffc2\032\uffc2" +
+    "\034\uffc2\035\uffc2\036\uffc2\037\uffc2\040\uffc2\067\uffc2\070" +
+    "\uffc2\071\uffc2\101\uffc2\103\uffc2\107\uffc2\110\uffc2\111\uffc2" +
+    "\116\uffc2\117\uffc2\120\uffc2\001\002\000\070\004\063\013" +
+    "\106\014\042\015\057\017\037\022\067\024\064\026\104" +
+    "\027\076\030\115\031\060\032\065\034\102\035\066\036" +
+    "\071\037\056\040\040\067\027\070\043\071\046\101\024" +
+    "\103\035\107\047\111\050\116\007\117\116\120\025\001" +
+    "\002\000\102\004\uffc6\005\uffc6\006\uffc6\010\uffc6\011\uffc6" +
+    "\013\uffc6\014\uffc6\015\uffc6\017\uffc6\022\uffc6\024\uffc6\026" +
+    "\uffc6\027\uffc6\030\uffc6\031\uffc6\032\uffc6\034\uffc6\035\uffc6" +
+    "\036\uffc6\037\uffc6\040\uffc6\067\uffc6\070\uffc6\071\uffc6\101" +
+    "\uffc6\103\uffc6\107\uffc6\110\uffc6\111\uffc6\116\uffc6\117\uffc6" +
+    "\120\uffc6\001\002\000\004\104\365\001\002\000\070\004" +
+    "\063\013\106\014\042\015\057\017\037\022\067\024\064" +
+    "\026\104\027\076\030\115\031\060\032\065\034\102\035" +
+    "\066\036\071\037\056\040\040\067\027\070\043\071\046" +
+    "\101\024\103\035\107\047\111\050\116\007\117\116\120" +
+    "\025\001\002\000\102\004\uffc0\005\uffc0\006\uffc0\010\uffc0" +
+    "\011\uffc0\013\uffc0\014\uffc0\015\uffc0\017\uffc0\022\uffc0\024" +
+    "\uffc0\026\uffc0\027\uffc0\030\uffc0\031\uffc0\032\uffc0\034\uffc0" +
+    "\035\uffc0\036\uffc0\037\uffc0\040\uffc0\067\uffc0\070\uffc0\071" +
+    "\uffc0\101\uffc0\103\uffc0\107\uffc0\110\uffc0\111\uffc0\116\uffc0" +
+    "\117\uffc0\120\uffc0\001\002\000\070\004\063\013\106\014" +
+    "\042\015\057\017\037\022\067\024\064\026\104\027\076" +
+    "\030\115\031\060\032\065\034\102\035\066\036\071\037" +
+    "\056\040\040\067\027\070\043\071\046\101\024\103\035" +
+    "\107\047\111\050\116\007\117\116\120\025\001\002\000" +
+    "\102\004\uffc3\005\uffc3\006\uffc3\010\uffc3\011\uffc3\013\uffc3" +
+    "\014\uffc3\015\uffc3\017\uffc3\022\uffc3\024\uffc3\026\uffc3\027" +
+    "\uffc3\030\uffc3\031\uffc3\032\uffc3\034\uffc3\035\uffc3\036\uffc3" +
+    "\037\uffc3\040\uffc3\067\uffc3\070\uffc3\071\uffc3\101\uffc3\103" +
+    "\uffc3\107\uffc3\110\uffc3\111\uffc3\116\uffc3\117\uffc3\120\uffc3" +
+    "\001\002\000\042\013\106\022\067\031\123\032\065\036" +
+    "\071\037\056\040\040\067\027\070\043\071\046\101\024" +
+    "\103\035\111\370\116\007\117\116\120\025\001\002\000" +
+    "\052\004\063\013\106\017\037\022\067\026\104\030\115" +
+    "\031\123\032\065\036\071\037\056\040\040\067\027\070" +
+    "\043\071\046\101\024\103\035\104\u0101\116\007\117\116" +
+    "\120\025\001\002\000\004\111\372\001\002\000\052\004" +
+    "\063\013\106\017\037\022\067\026\104\030\115\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\104\374\116\007\117\116\120\025" +
+    "\001\002\000\004\104\376\001\002\000\070\004\063\013" +
+    "\106\014\042\015\057\017\037\022\067\024\064\026\104" +
+    "\027\076\030\115\031\060\032\065\034\102\035\066\036" +
+    "\071\037\056\040\040\067\027\070\043\071\046\101\024" +
+    "\103\035\107\047\111\050\116\007\117\116\120\025\001" +
+    "\002\000\102\004\uffc4\005\uffc4\006\uffc4\010\uffc4\011\uffc4" +
+    "\013\uffc4\014\uffc4\015\uffc4\017\uffc4\022\uffc4\024\uffc4\026" +
+    "\uffc4\027\uffc4\030\uffc4\031\uffc4\032\uffc4\034\uffc4\035\uffc4" +
+    "\036\uffc4\037\uffc4\040\uffc4\067\uffc4\070\uffc4\071\uffc4\101" +
+    "\uffc4\103\uffc4\107\uffc4\110\uffc4\111\uffc4\116\uffc4\117\uffc4" +
+    "\120\uffc4\001\002\000\070\004\063\013\106\014\042\015" +
+    "\057\017\037\022\067\024\064\026\104\027\076\030\115" +
+    "\031\060\032\065\034\102\035\066\036\071\037\056\040" +
+    "\040\067\027\070\043\071\046\101\024\103\035\107\047" +
+    "\111\050\116\007\117\116\120\025\001\002\000\102\004" +
+    "\uffc7\005\uffc7\006\uffc7\010\uffc7\011\uffc7\013\uffc7\014\uffc7" +
+    "\015\uffc7\017\uffc7\022\uffc7\024\uffc7\026\uffc7\027\uffc7\030" +
+    "\uffc7\031\uffc7\032\uffc7\034\uffc7\035\uffc7\036\uffc7\037\uffc7" +
+    "\040\uffc7\067\uffc7\070\uffc7\071\uffc7\101\uffc7\103\uffc7\107" +
+    "\uffc7\110\uffc7\111\uffc7\116\uffc7\117\uffc7\120\uffc7\001\002" +
+    "\000\004\104\u0103\001\002\000\070\004\063\013\106\014" +
+    "\042\015\057\017\037\022\067\024\064\026\104\027\076" +
+    "\030\115\031\060\032\065\034\102\035\066\036\071\037" +
+    "\056\040\040\067\027\070\043\071\046\101\024\103\035" +
+    "\107\047\111\050\116\007\117\116\120\025\001\002\000" +
+    "\102\004\uffc1\005\uffc1\006\uffc1\010\uffc1\011\uffc1\013\uffc1" +
+    "\014\uffc1\015\uffc1\017\uffc1\022\uffc1\024\uffc1\026\uffc1\027" +
+    "\uffc1\030\uffc1\031\uffc1\032\uffc1\034\uffc1\035\uffc1\036\uffc1" +
+    "\037\uffc1\040\uffc1\067\uffc1\070\uffc1\071\uffc1\101\uffc1\103" +
+    "\uffc1\107\uffc1\110\uffc1\111\uffc1\116\uffc1\117\uffc1\120\uffc1" +
+    "\001\002\000\070\004\063\013\106\014\042\015\057\017" +
+    "\037\022\067\024\064\026\104\027\076\030\115\031\060" +
+    "\032\065\034\102\035\066\036\071\037\056\040\040\067" +
+    "\027\070\043\071\046\101\024\103\035\107\047\111\050" +
+    "\116\007\117\116\120\025\001\002\000\102\004\uffc5\005" +
+    "\uffc5\006\uffc5\010\uffc5\011\uffc5\013\uffc5\014\uffc5\015\uffc5" +
+    "\017\uffc5\022\uffc5\024\uffc5\026\uffc5\027\uffc5\030\uffc5\031" +
+    "\uffc5\032\uffc5\034\uffc5\035\uffc5\036\uffc5\037\uffc5\040\uffc5" +
+    "\067\uffc5\070\uffc5\071\uffc5\101\uffc5\103\uffc5\107\uffc5\110" +
+    "\uffc5\111\uffc5\116\uffc5\117\uffc5\120\uffc5\001\002\000\004" +
+    "\110\u0106\001\002\000\006\002\ufffe\007\ufffe\001\002\000" +
+    "\122\016\uff81\037\uff81\040\uff81\041\233\042\250\043\235" +
+    "\044\uff81\045\uff81\046\uff81\047\uff81\050\uff81\051\uff81\052" +
+    "\uff81\053\uff81\054\uff81\055\uff81\056\uff81\057\uff81\060\uff81" +
+    "\061\uff81\062\uff81\063\uff81\064\uff81\065\uff81\066\uff81\072" +
+    "\uff81\073\uff81\074\uff81\075\uff81\076\uff81\077\uff81\100\uff81" +
+    "\104\uff81\105\253\106\uff81\111\uff81\112\uff81\113\254\114" +
+    "\uff81\115\uff81\001\002\000\040\013\106\022\067\031\123" +
+    "\032\065\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\116\007\117\116\120\025\001\002" +
+    "\000\004\106\u010a\001\002\000\122\016\uff60\037\uff60\040" +
+    "\uff60\041\uff60\042\uff60\043\uff60\044\uff60\045\uff60\046\uff60" +
+    "\047\uff60\050\uff60\051\uff60\052\uff60\053\uff60\054\uff60\055" +
+    "\uff60\056\uff60\057\uff60\060\uff60\061\uff60\062\uff60\063\uff60" +
+    "\064\uff60\065\uff60\066\uff60\072\uff60\073\uff60\074\uff60\075" +
+    "\uff60\076\uff60\077\uff60\100\uff60\104\uff60\105\uff60\106\uff60" +
+    "\111\uff60\112\uff60\113\uff60\114\uff60\115\uff60\001\002\000" +
+    "\004\104\u010c\001\002\000\202\004\uff89\013\uff89\014\uff89" +
+    "\015\uff89\016\uff89\017\uff89\022\uff89\024\uff89\026\uff89\027" +
+    "\uff89\030\uff89\031\uff89\032\uff89\034\uff89\035\uff89\036\uff89" +
+    "\037\uff89\040\uff89\041\uff89\042\uff89\043\uff89\044\uff89\045" +
+    "\uff89\046\uff89\047\uff89\050\uff89\051\uff89\052\uff89\053\uff89" +
+    "\054\uff89\055\uff89\056\uff89\057\uff89\060\uff89\061\uff89\062" +
+    "\uff89\063\uff89\064\uff89\065\uff89\066\uff89\067\uff89\070\uff89" +
+    "\071\uff89\072\uff89\073\uff89\074\uff89\075\uff89\076\uff89\077" +
+    "\uff89\100\uff89\101\uff89\103\uff89\104\uff89\105\uff89\106\uff89" +
+    "\107\uff89\111\uff89\112\uff89\113\uff89\114\uff89\115\uff89\116" +
+    "\uff89\117\uff89\120\uff89\001\002\000\102\004\uffd2\005\uffd2" +
+    "\006\uffd2\010\uffd2\011\uffd2\013\uffd2\014\uffd2\015\uffd2\017" +
+    "\uffd2\022\uffd2\024\uffd2\026\uffd2\027\uffd2\030\uffd2\031\uffd2" +
+    "\032\uffd2\034\uffd2\035\uffd2\036\uffd2\037\uffd2\040\uffd2\067" +
+    "\uffd2\070\uffd2\071\uffd2\101\uffd2\103\uffd2\107\uffd2\110\uffd2" +
+    "\111\uffd2\116\uffd2\117\uffd2\120\uffd2\001\002\000\122\016" +
+    "\uffa8\037\uffa8\040\uffa8\041\uffa8\042\uffa8\043\uffa8\044\uffa8" +
+    "\045\uffa8\046\uffa8\047\uffa8\050\uffa8\051\uffa8\052\uffa8\053" +
+    "\uffa8\054\uffa8\055\uffa8\056\uffa8\057\uffa8\060\uffa8\061\uffa8" +
+    "\062\uffa8\063\uffa8\064\uffa8\065\uffa8\066\uffa8\072\uffa8\073" +
+    "\uffa8\074\uffa8\075\uffa8\076\uffa8\077\uffa8\100\uffa8\104\uffa8" +
+    "\105\253\106\uffa8\111\uffa8\112\uffa8\113\254\114\uffa8\115" +
+    "\uffa8\001\002\000\122\016\uff7f\037\uff7f\040\uff7f\041\uff7f" +
+    "\042\uff7f\043\uff7f\044\uff7f\045\uff7f\046\uff7f\047\uff7f\050" +
+    "\uff7f\051\uff7f\052\uff7f\053\uff7f\054\uff7f\055\uff7f\056\uff7f" +
+    "\057\uff7f\060\uff7f\061\uff7f\062\uff7f\063\uff7f\064\uff7f\065" +
+    "\uff7f\066\uff7f\072\uff7f\073\uff7f\074\uff7f\075\uff7f\076\uff7f" +
+    "\077\uff7f\100\uff7f\104\uff7f\105\253\106\uff7f\111\uff7f\112" +
+    "\uff7f\113\254\114\uff7f\115\uff7f\001\002\000\006\002\ufffc" +
+    "\007\ufffc\001\002\000\004\116\007\001\002\000\006\002" +
+    "\001\007\u0111\001\002\000\006\002\ufffb\007\ufffb\001\002" +
+    "\000\006\012\u0116\107\u0115\001\002\000\016\004\063\017" +
+    "\037\023\u011a\026\104\110\u014c\116\007\001\002\000\004" +
+    "\116\007\001\002\000\004\107\u0118\001\002\000\016\004" +
+    "\063\017\037\023\u011a\026\104\110\u0119\116\007\001\002" +
+    "\000\006\002\ufff3\007\ufff3\001\002\000\014\004\063\017" +
+    "\037\026\104\033\u012b\116\007\001\002\000\006\023\uffeb" +
+    "\110\uffeb\001\002\000\016\004\063\017\037\023\u011a\026" +
+    "\104\110\u0125\116\007\001\002\000\004\111\u0124\001\002" +
+    "\000\006\102\uffd6\116\uffd6\001\002\000\006\023\u011a\110" +
+    "\u0123\001\002\000\006\023\uffee\110\uffee\001\002\000\006" +
+    "\023\uffec\110\uffec\001\002\000\006\023\uffed\110\uffed\001" +
+    "\002\000\006\002\ufff5\007\ufff5\001\002\000\016\004\ufff2" +
+    "\017\ufff2\023\ufff2\026\ufff2\110\ufff2\116\ufff2\001\002\000" +
+    "\006\002\ufff4\007\ufff4\001\002\000\004\111\u0129\001\002" +
+    "\000\006\023\u011a\110\u0128\001\002\000\006\002\ufff6\007" +
+    "\ufff6\001\002\000\016\004\ufff1\017\ufff1\023\ufff1\026\ufff1" +
+    "\110\ufff1\116\ufff1\001\002\000\004\116\007\001\002\000" +
+    "\004\116\uffdf\001\002\000\004\116\uffde\001\002\000\010" +
+    "\102\uffd6\103\u012e\116\uffd6\001\002\000\014\004\063\017" +
+    "\037\026\104\104\u0131\116\007\001\002\000\006\104\uffe2" +
+    "\112\uffe2\001\002\000\004\116\007\001\002\000\004\107" +
+    "\u013a\001\002\000\006\104\u0134\112\u0133\001\002\000\012" +
+    "\004\063\017\037\026\104\116\007\001\002\000\004\107" +
+    "\u0135\001\002\000\072\004\063\013\106\014\042\015\057" +
+    "\017\037\022\067\024\064\026\104\027\076\030\115\031" +
+    "\060\032\065\034\102\035\066\036\071\037\056\040\040" +
+    "\067\027\070\043\071\046\101\024\103\035\107\047\110" +
+    "\u0137\111\050\116\007\117\116\120\025\001\002\000\072" +
+    "\004\063\013\106\014\042\015\057\017\037\022\067\024" +
+    "\064\026\104\027\076\030\115\031\060\032\065\034\102" +
+    "\035\066\036\071\037\056\040\040\067\027\070\043\071" +
+    "\046\101\024\103\035\107\047\110\u0138\111\050\116\007" +
+    "\117\116\120\025\001\002\000\006\023\uffe4\110\uffe4\001" +
+    "\002\000\006\023\uffe6\110\uffe6\001\002\000\006\104\uffe1" +
+    "\112\uffe1\001\002\000\072\004\063\013\106\014\042\015" +
+    "\057\017\037\022\067\024\064\026\104\027\076\030\115" +
+    "\031\060\032\065\034\102\035\066\036\071\037\056\040" +
+    "\040\067\027\070\043\071\046\101\024\103\035\107\047" +
+    "\110\u013c\111\050\116\007\117\116\120\025\001\002\000" +
+    "\072\004\063\013\106\014\042\015\057\017\037\022\067" +
+    "\024\064\026\104\027\076\030\115\031\060\032\065\034" +
+    "\102\035\066\036\071\037\056\040\040\067\027\070\043" +
+    "\071\046\101\024\103\035\107\047\110\u013d\111\050\116" +
+    "\007\117\116\120\025\001\002\000\006\023\uffe3\110\uffe3" +
+    "\001\002\000\006\023\uffe5\110\uffe5\001\002\000\006\104" +
+    "\uffe0\112\uffe0\001\002\000\004\103\u0140\001\002\000\014" +
+    "\004\063\017\037\026\104\104\u0141\116\007\001\002\000" +
+    "\004\107\u0148\001\002\000\006\104\u0143\112\u0133\001\002" +
+    "\000\004\107\u0144\001\002\000\072\004\063\013\106\014" +
+    "\042\015\057\017\037\022\067\024\064\026\104\027\076" +
+    "\030\115\031\060\032\065\034\102\035\066\036\071\037" +
+    "\056\040\040\067\027\070\043\071\046\101\024\103\035" +
+    "\107\047\110\u0146\111\050\116\007\117\116\120\025\001" +
+    "\002\000\072\004\063\013\106\014\042\015\057\017\037" +
+    "\022\067\024\064\026\104\027\076\030\115\031\060\032" +
+    "\065\034\102\035\066\036\071\037\056\040\040\067\027" +
+    "\070\043\071\046\101\024\103\035\107\047\110\u0147\111" +
+    "\050\116\007\117\116\120\025\001\002\000\006\023\uffe8" +
+    "\110\uffe8\001\002\000\006\023\uffea\110\uffea\001\002\000" +
+    "\072\004\063\013\106\014\042\015\057\017\037\022\067" +
+    "\024\064\026\104\027\076\030\115\031\060\032\065\034" +
+    "\102\035\066\036\071\037\056\040\040\067\027\070\043" +
+    "\071\046\101\024\103\035\107\047\110\u014a\111\050\116" +
+    "\007\117\116\120\025\001\002\000\072\004\063\013\106" +
+    "\014\042\015\057\017\037\022\067\024\064\026\104\027" +
+    "\076\030\115\031\060\032\065\034\102\035\066\036\071" +
+    "\037\056\040\040\067\027\070\043\071\046\101\024\103" +
+    "\035\107\047\110\u014b\111\050\116\007\117\116\120\025" +
+    "\001\002\000\006\023\uffe7\110\uffe7\001\002\000\006\023" +
+    "\uffe9\110\uffe9\001\002\000\006\002\ufff7\007\ufff7\001\002" +
+    "\000\016\004\063\017\037\023\u011a\026\104\110\u0150\116" +
+    "\007\001\002\000\006\023\u011a\110\u014f\001\002\000\006" +
+    "\002\ufff9\007\ufff9\001\002\000\006\002\ufff8\007\ufff8\001" +
+    "\002\000\006\023\u011a\110\u0152\001\002\000\006\002\ufffa" +
+    "\007\ufffa\001\002\000\004\002\000\001\002" });
+
+  /** Access to parse-action table. */
+  public short[][] action_table() {return _action_table;}
+
+  /** <code>reduce_goto</code> table. */
+  protected static final short[][] _reduce_table = 
+    unpackFromStrings(new String[] {
+    "\000\u0151\000\006\002\003\003\004\001\001\000\002\001" +
+    "\001\000\006\004\u0111\005\u010f\001\001\000\004\056\007" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\056\020\001\001\000\002\001\001\000\002\001\001" +
+    "\000\102\007\025\017\052\020\060\021\100\022\035\023" +
+    "\076\024\051\025\040\026\102\027\061\030\033\031\110" +
+    "\032\032\034\074\035\073\036\071\037\054\040\030\041" +
+    "\053\042\044\043\106\044\107\045\031\046\112\047\113" +
+    "\052\050\053\027\054\043\055\111\056\072\057\104\060" +
+    "\067\001\001\000\042\022\035\023\076\036\u010e\037\054" +
+    "\040\030\041\053\042\044\043\106\044\107\045\031\046" +
+    "\112\047\113\054\121\055\125\056\124\057\117\001\001" +
+    "\000\002\001\001\000\002\001\001\000\042\022\035\023" +
+    "\076\036\u010d\037\054\040\030\041\053\042\044\043\106" +
+    "\044\107\045\031\046\112\047\113\054\121\055\125\056" +
+    "\124\057\117\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\052\022\035\023\076\033\u010a\034\123\035\073\036\071" +
+    "\037\054\040\030\041\053\042\044\043\106\044\107\045" +
+    "\031\046\112\047\113\052\120\054\121\055\125\056\124" +
+    "\057\117\001\001\000\002\001\001\000\002\001\001\000" +
+    "\042\022\035\023\076\036\u0106\037\054\040\030\041\053" +
+    "\042\044\043\106\044\107\045\031\046\112\047\113\054" +
+    "\121\055\125\056\124\057\117\001\001\000\100\007\025" +
+    "\017\052\020\060\021\100\022\035\023\076\024\051\026" +
+    "\216\027\061\030\033\031\110\032\032\034\074\035\073" +
+    "\036\071\037\054\040\030\041\053\042\044\043\106\044" +
+    "\107\045\031\046\112\047\113\052\050\053\027\054\043" +
+    "\055\111\056\072\057\104\060\067\001\001\000\002\001" +
+    "\001\000\042\022\035\023\076\036\345\037\054\040\030" +
+    "\041\053\042\044\043\106\044\107\045\031\046\112\047" +
+    "\113\054\121\055\125\056\124\057\117\001\001\000\002" +
+    "\001\001\000\002\001\001\000\042\022\035\023\076\036" +
+    "\344\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\054\121\055\125\056\124\057" +
+    "\117\001\001\000\102\007\025\017\052\020\060\021\100" +
+    "\022\035\023\076\024\051\025\341\026\102\027\061\030" +
+    "\033\031\110\032\032\034\074\035\073\036\071\037\054" +
+    "\040\030\041\053\042\044\043\106\044\107\045\031\046" +
+    "\112\047\113\052\050\053\027\054\043\055\111\056\072" +
+    "\057\104\060\067\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\056\336\001\001\000\002" +
+    "\001\001\000\002\001\001\000\042\022\035\023\076\036" +
+    "\333\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\054\121\055\125\056\124\057" +
+    "\117\001\001\000\004\045\327\001\001\000\004\051\325" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\052\022\035\023\076\033\322\034\123\035\073" +
+    "\036\071\037\054\040\030\041\053\042\044\043\106\044" +
+    "\107\045\031\046\112\047\113\052\120\054\121\055\125" +
+    "\056\124\057\117\001\001\000\002\001\001\000\004\051" +
+    "\317\001\001\000\006\020\311\056\312\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\004\051" +
+    "\130\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\045\177\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\045\170\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\052\022\035\023\076\033\126" +
+    "\034\123\035\073\036\071\037\054\040\030\041\053\042" +
+    "\044\043\106\044\107\045\031\046\112\047\113\052\120" +
+    "\054\121\055\125\056\124\057\117\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\051\130\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\054\022\035\023\076\033\134\034\123\035\073\036" +
+    "\071\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\050\132\052\120\054\121\055" +
+    "\125\056\124\057\117\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\052\022\035\023\076\033" +
+    "\137\034\123\035\073\036\071\037\054\040\030\041\053" +
+    "\042\044\043\106\044\107\045\031\046\112\047\113\052" +
+    "\120\054\121\055\125\056\124\057\117\001\001\000\002" +
+    "\001\001\000\002\001\001\000\050\022\035\023\076\034" +
+    "\167\035\073\036\071\037\054\040\030\041\053\042\044" +
+    "\043\106\044\107\045\031\046\112\047\113\052\120\054" +
+    "\121\055\125\056\124\057\117\001\001\000\050\022\035" +
+    "\023\076\034\166\035\073\036\071\037\054\040\030\041" +
+    "\053\042\044\043\106\044\107\045\031\046\112\047\113" +
+    "\052\120\054\121\055\125\056\124\057\117\001\001\000" +
+    "\050\022\035\023\076\034\165\035\073\036\071\037\054" +
+    "\040\030\041\053\042\044\043\106\044\107\045\031\046" +
+    "\112\047\113\052\120\054\121\055\125\056\124\057\117" +
+    "\001\001\000\050\022\035\023\076\034\164\035\073\036" +
+    "\071\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\052\120\054\121\055\125\056" +
+    "\124\057\117\001\001\000\050\022\035\023\076\034\163" +
+    "\035\073\036\071\037\054\040\030\041\053\042\044\043" +
+    "\106\044\107\045\031\046\112\047\113\052\120\054\121" +
+    "\055\125\056\124\057\117\001\001\000\050\022\035\023" +
+    "\076\034\162\035\073\036\071\037\054\040\030\041\053" +
+    "\042\044\043\106\044\107\045\031\046\112\047\113\052" +
+    "\120\054\121\055\125\056\124\057\117\001\001\000\050" +
+    "\022\035\023\076\034\161\035\073\036\071\037\054\040" +
+    "\030\041\053\042\044\043\106\044\107\045\031\046\112" +
+    "\047\113\052\120\054\121\055\125\056\124\057\117\001" +
+    "\001\000\050\022\035\023\076\034\160\035\073\036\071" +
+    "\037\054\040\030\041\053\042\044\043\106\044\107\045" +
+    "\031\046\112\047\113\052\120\054\121\055\125\056\124" +
+    "\057\117\001\001\000\050\022\035\023\076\034\157\035" +
+    "\073\036\071\037\054\040\030\041\053\042\044\043\106" +
+    "\044\107\045\031\046\112\047\113\052\120\054\121\055" +
+    "\125\056\124\057\117\001\001\000\050\022\035\023\076" +
+    "\034\156\035\073\036\071\037\054\040\030\041\053\042" +
+    "\044\043\106\044\107\045\031\046\112\047\113\052\120" +
+    "\054\121\055\125\056\124\057\117\001\001\000\050\022" +
+    "\035\023\076\034\155\035\073\036\071\037\054\040\030" +
+    "\041\053\042\044\043\106\044\107\045\031\046\112\047" +
+    "\113\052\120\054\121\055\125\056\124\057\117\001\001" +
+    "\000\050\022\035\023\076\034\154\035\073\036\071\037" +
+    "\054\040\030\041\053\042\044\043\106\044\107\045\031" +
+    "\046\112\047\113\052\120\054\121\055\125\056\124\057" +
+    "\117\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\100\007\025\017\052\020\060\021\100\022\035\023\076" +
+    "\024\051\026\171\027\061\030\033\031\110\032\032\034" +
+    "\074\035\073\036\071\037\054\040\030\041\053\042\044" +
+    "\043\106\044\107\045\031\046\112\047\113\052\050\053" +
+    "\027\054\043\055\111\056\072\057\104\060\067\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\052\022\035\023\076\033\175\034\123\035\073\036\071" +
+    "\037\054\040\030\041\053\042\044\043\106\044\107\045" +
+    "\031\046\112\047\113\052\120\054\121\055\125\056\124" +
+    "\057\117\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\061\205\062\202\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\062\206\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\102\007\025\017\052\020" +
+    "\060\021\100\022\035\023\076\024\051\025\212\026\102" +
+    "\027\061\030\033\031\110\032\032\034\074\035\073\036" +
+    "\071\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\052\050\053\027\054\043\055" +
+    "\111\056\072\057\104\060\067\001\001\000\100\007\025" +
+    "\017\052\020\060\021\100\022\035\023\076\024\051\026" +
+    "\216\027\061\030\033\031\110\032\032\034\074\035\073" +
+    "\036\071\037\054\040\030\041\053\042\044\043\106\044" +
+    "\107\045\031\046\112\047\113\052\050\053\027\054\043" +
+    "\055\111\056\072\057\104\060\067\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\102\007\025\017\052\020\060\021" +
+    "\100\022\035\023\076\024\051\025\221\026\102\027\061" +
+    "\030\033\031\110\032\032\034\074\035\073\036\071\037" +
+    "\054\040\030\041\053\042\044\043\106\044\107\045\031" +
+    "\046\112\047\113\052\050\053\027\054\043\055\111\056" +
+    "\072\057\104\060\067\001\001\000\100\007\025\017\052" +
+    "\020\060\021\100\022\035\023\076\024\051\026\216\027" +
+    "\061\030\033\031\110\032\032\034\074\035\073\036\071" +
+    "\037\054\040\030\041\053\042\044\043\106\044\107\045" +
+    "\031\046\112\047\113\052\050\053\027\054\043\055\111" +
+    "\056\072\057\104\060\067\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\052" +
+    "\022\035\023\076\033\227\034\123\035\073\036\071\037" +
+    "\054\040\030\041\053\042\044\043\106\044\107\045\031" +
+    "\046\112\047\113\052\120\054\121\055\125\056\124\057" +
+    "\117\001\001\000\002\001\001\000\050\022\035\023\076" +
+    "\034\231\035\073\036\071\037\054\040\030\041\053\042" +
+    "\044\043\106\044\107\045\031\046\112\047\113\052\120" +
+    "\054\121\055\125\056\124\057\117\001\001\000\002\001" +
+    "\001\000\042\022\035\023\076\036\310\037\054\040\030" +
+    "\041\053\042\044\043\106\044\107\045\031\046\112\047" +
+    "\113\054\121\055\125\056\124\057\117\001\001\000\042" +
+    "\022\035\023\076\036\307\037\054\040\030\041\053\042" +
+    "\044\043\106\044\107\045\031\046\112\047\113\054\121" +
+    "\055\125\056\124\057\117\001\001\000\042\022\035\023" +
+    "\076\036\306\037\054\040\030\041\053\042\044\043\106" +
+    "\044\107\045\031\046\112\047\113\054\121\055\125\056" +
+    "\124\057\117\001\001\000\042\022\035\023\076\036\305" +
+    "\037\054\040\030\041\053\042\044\043\106\044\107\045" +
+    "\031\046\112\047\113\054\121\055\125\056\124\057\117" +
+    "\001\001\000\042\022\035\023\076\036\304\037\054\040" +
+    "\030\041\053\042\044\043\106\044\107\045\031\046\112" +
+    "\047\113\054\121\055\125\056\124\057\117\001\001\000" +
+    "\042\022\035\023\076\036\303\037\054\040\030\041\053" +
+    "\042\044\043\106\044\107\045\031\046\112\047\113\054" +
+    "\121\055\125\056\124\057\117\001\001\000\042\022\035" +
+    "\023\076\036\302\037\054\040\030\041\053\042\044\043" +
+    "\106\044\107\045\031\046\112\047\113\054\121\055\125" +
+    "\056\124\057\117\001\001\000\042\022\035\023\076\036" +
+    "\301\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\054\121\055\125\056\124\057" +
+    "\117\001\001\000\042\022\035\023\076\036\300\037\054" +
+    "\040\030\041\053\042\044\043\106\044\107\045\031\046" +
+    "\112\047\113\054\121\055\125\056\124\057\117\001\001" +
+    "\000\042\022\035\023\076\036\277\037\054\040\030\041" +
+    "\053\042\044\043\106\044\107\045\031\046\112\047\113" +
+    "\054\121\055\125\056\124\057\117\001\001\000\042\022" +
+    "\035\023\076\036\276\037\054\040\030\041\053\042\044" +
+    "\043\106\044\107\045\031\046\112\047\113\054\121\055" +
+    "\125\056\124\057\117\001\001\000\042\022\035\023\076" +
+    "\036\275\037\054\040\030\041\053\042\044\043\106\044" +
+    "\107\045\031\046\112\047\113\054\121\055\125\056\124" +
+    "\057\117\001\001\000\042\022\035\023\076\036\274\037" +
+    "\054\040\030\041\053\042\044\043\106\044\107\045\031" +
+    "\046\112\047\113\054\121\055\125\056\124\057\117\001" +
+    "\001\000\042\022\035\023\076\036\273\037\054\040\030" +
+    "\041\053\042\044\043\106\044\107\045\031\046\112\047" +
+    "\113\054\121\055\125\056\124\057\117\001\001\000\042" +
+    "\022\035\023\076\036\272\037\054\040\030\041\053\042" +
+    "\044\043\106\044\107\045\031\046\112\047\113\054\121" +
+    "\055\125\056\124\057\117\001\001\000\042\022\035\023" +
+    "\076\036\271\037\054\040\030\041\053\042\044\043\106" +
+    "\044\107\045\031\046\112\047\113\054\121\055\125\056" +
+    "\124\057\117\001\001\000\052\022\035\023\076\033\267" +
+    "\034\123\035\073\036\071\037\054\040\030\041\053\042" +
+    "\044\043\106\044\107\045\031\046\112\047\113\052\120" +
+    "\054\121\055\125\056\124\057\117\001\001\000\004\056" +
+    "\265\001\001\000\042\022\035\023\076\036\263\037\054" +
+    "\040\030\041\053\042\044\043\106\044\107\045\031\046" +
+    "\112\047\113\054\121\055\125\056\124\057\117\001\001" +
+    "\000\042\022\035\023\076\036\262\037\054\040\030\041" +
+    "\053\042\044\043\106\044\107\045\031\046\112\047\113" +
+    "\054\121\055\125\056\124\057\117\001\001\000\004\056" +
+    "\261\001\001\000\042\022\035\023\076\036\260\037\054" +
+    "\040\030\041\053\042\044\043\106\044\107\045\031\046" +
+    "\112\047\113\054\121\055\125\056\124\057\117\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\051\266\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\051\313\001\001\000\002\001\001\000" +
+    "\052\022\035\023\076\033\315\034\123\035\073\036\071" +
+    "\037\054\040\030\041\053\042\044\043\106\044\107\045" +
+    "\031\046\112\047\113\052\120\054\121\055\125\056\124" +
+    "\057\117\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\100\007\025\017\052\020\060" +
+    "\021\100\022\035\023\076\024\051\026\330\027\061\030" +
+    "\033\031\110\032\032\034\074\035\073\036\071\037\054" +
+    "\040\030\041\053\042\044\043\106\044\107\045\031\046" +
+    "\112\047\113\052\050\053\027\054\043\055\111\056\072" +
+    "\057\104\060\067\001\001\000\002\001\001\000\100\007" +
+    "\025\017\052\020\060\021\100\022\035\023\076\024\051" +
+    "\026\332\027\061\030\033\031\110\032\032\034\074\035" +
+    "\073\036\071\037\054\040\030\041\053\042\044\043\106" +
+    "\044\107\045\031\046\112\047\113\052\050\053\027\054" +
+    "\043\055\111\056\072\057\104\060\067\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\052\022\035\023\076\033\340" +
+    "\034\123\035\073\036\071\037\054\040\030\041\053\042" +
+    "\044\043\106\044\107\045\031\046\112\047\113\052\120" +
+    "\054\121\055\125\056\124\057\117\001\001\000\002\001" +
+    "\001\000\100\007\025\017\052\020\060\021\100\022\035" +
+    "\023\076\024\051\026\216\027\061\030\033\031\110\032" +
+    "\032\034\074\035\073\036\071\037\054\040\030\041\053" +
+    "\042\044\043\106\044\107\045\031\046\112\047\113\052" +
+    "\050\053\027\054\043\055\111\056\072\057\104\060\067" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\064\007\025\017\052\020\060" +
+    "\021\100\022\035\023\076\032\347\034\074\035\073\036" +
+    "\071\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\052\050\053\027\054\043\055" +
+    "\111\056\072\057\104\001\001\000\002\001\001\000\052" +
+    "\022\035\023\076\033\352\034\123\035\073\036\071\037" +
+    "\054\040\030\041\053\042\044\043\106\044\107\045\031" +
+    "\046\112\047\113\052\120\054\121\055\125\056\124\057" +
+    "\117\001\001\000\064\007\025\017\052\020\060\021\100" +
+    "\022\035\023\076\032\361\034\074\035\073\036\071\037" +
+    "\054\040\030\041\053\042\044\043\106\044\107\045\031" +
+    "\046\112\047\113\052\050\053\027\054\043\055\111\056" +
+    "\072\057\104\001\001\000\002\001\001\000\064\007\025" +
+    "\017\052\020\060\021\100\022\035\023\076\032\354\034" +
+    "\074\035\073\036\071\037\054\040\030\041\053\042\044" +
+    "\043\106\044\107\045\031\046\112\047\113\052\050\053" +
+    "\027\054\043\055\111\056\072\057\104\001\001\000\002" +
+    "\001\001\000\100\007\025\017\052\020\060\021\100\022" +
+    "\035\023\076\024\051\026\356\027\061\030\033\031\110" +
+    "\032\032\034\074\035\073\036\071\037\054\040\030\041" +
+    "\053\042\044\043\106\044\107\045\031\046\112\047\113" +
+    "\052\050\053\027\054\043\055\111\056\072\057\104\060" +
+    "\067\001\001\000\002\001\001\000\100\007\025\017\052" +
+    "\020\060\021\100\022\035\023\076\024\051\026\360\027" +
+    "\061\030\033\031\110\032\032\034\074\035\073\036\071" +
+    "\037\054\040\030\041\053\042\044\043\106\044\107\045" +
+    "\031\046\112\047\113\052\050\053\027\054\043\055\111" +
+    "\056\072\057\104\060\067\001\001\000\002\001\001\000" +
+    "\002\001\001\000\100\007\025\017\052\020\060\021\100" +
+    "\022\035\023\076\024\051\026\363\027\061\030\033\031" +
+    "\110\032\032\034\074\035\073\036\071\037\054\040\030" +
+    "\041\053\042\044\043\106\044\107\045\031\046\112\047" +
+    "\113\052\050\053\027\054\043\055\111\056\072\057\104" +
+    "\060\067\001\001\000\002\001\001\000\100\007\025\017" +
+    "\052\020\060\021\100\022\035\023\076\024\051\026\365" +
+    "\027\061\030\033\031\110\032\032\034\074\035\073\036" +
+    "\071\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\052\050\053\027\054\043\055" +
+    "\111\056\072\057\104\060\067\001\001\000\002\001\001" +
+    "\000\052\022\035\023\076\033\370\034\123\035\073\036" +
+    "\071\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\052\120\054\121\055\125\056" +
+    "\124\057\117\001\001\000\064\007\025\017\052\020\060" +
+    "\021\100\022\035\023\076\032\377\034\074\035\073\036" +
+    "\071\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\052\050\053\027\054\043\055" +
+    "\111\056\072\057\104\001\001\000\002\001\001\000\064" +
+    "\007\025\017\052\020\060\021\100\022\035\023\076\032" +
+    "\372\034\074\035\073\036\071\037\054\040\030\041\053" +
+    "\042\044\043\106\044\107\045\031\046\112\047\113\052" +
+    "\050\053\027\054\043\055\111\056\072\057\104\001\001" +
+    "\000\002\001\001\000\100\007\025\017\052\020\060\021" +
+    "\100\022\035\023\076\024\051\026\374\027\061\030\033" +
+    "\031\110\032\032\034\074\035\073\036\071\037\054\040" +
+    "\030\041\053\042\044\043\106\044\107\045\031\046\112" +
+    "\047\113\052\050\053\027\054\043\055\111\056\072\057" +
+    "\104\060\067\001\001\000\002\001\001\000\100\007\025" +
+    "\017\052\020\060\021\100\022\035\023\076\024\051\026" +
+    "\376\027\061\030\033\031\110\032\032\034\074\035\073" +
+    "\036\071\037\054\040\030\041\053\042\044\043\106\044" +
+    "\107\045\031\046\112\047\113\052\050\053\027\054\043" +
+    "\055\111\056\072\057\104\060\067\001\001\000\002\001" +
+    "\001\000\002\001\001\000\100\007\025\017\052\020\060" +
+    "\021\100\022\035\023\076\024\051\026\u0101\027\061\030" +
+    "\033\031\110\032\032\034\074\035\073\036\071\037\054" +
+    "\040\030\041\053\042\044\043\106\044\107\045\031\046" +
+    "\112\047\113\052\050\053\027\054\043\055\111\056\072" +
+    "\057\104\060\067\001\001\000\002\001\001\000\100\007" +
+    "\025\017\052\020\060\021\100\022\035\023\076\024\051" +
+    "\026\u0103\027\061\030\033\031\110\032\032\034\074\035" +
+    "\073\036\071\037\054\040\030\041\053\042\044\043\106" +
+    "\044\107\045\031\046\112\047\113\052\050\053\027\054" +
+    "\043\055\111\056\072\057\104\060\067\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\052\022\035\023\076\033\u0108\034\123\035\073" +
+    "\036\071\037\054\040\030\041\053\042\044\043\106\044" +
+    "\107\045\031\046\112\047\113\052\120\054\121\055\125" +
+    "\056\124\057\117\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\056\u0113\001\001\000\004\005\u0112\001\001\000\002" +
+    "\001\001\000\002\001\001\000\026\006\u014c\007\u011c\010" +
+    "\u011a\011\u014d\012\u011f\013\u0120\017\052\020\060\021\100" +
+    "\056\u011d\001\001\000\004\056\u0116\001\001\000\002\001" +
+    "\001\000\026\006\u011b\007\u011c\010\u011a\011\u011e\012\u011f" +
+    "\013\u0120\017\052\020\060\021\100\056\u011d\001\001\000" +
+    "\002\001\001\000\014\016\u0129\017\u012b\020\060\021\100" +
+    "\056\u012c\001\001\000\002\001\001\000\024\007\u0125\010" +
+    "\u011a\011\u0126\012\u011f\013\u0120\017\052\020\060\021\100" +
+    "\056\u011d\001\001\000\002\001\001\000\002\001\001\000" +
+    "\010\010\u011a\012\u0121\013\u0120\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\010" +
+    "\010\u011a\012\u0121\013\u0120\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\056\u013e\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\016\014\u0131\015" +
+    "\u012e\017\u012f\020\060\021\100\056\u011d\001\001\000\002" +
+    "\001\001\000\004\056\u013d\001\001\000\002\001\001\000" +
+    "\002\001\001\000\014\015\u0138\017\u012f\020\060\021\100" +
+    "\056\u011d\001\001\000\002\001\001\000\102\007\025\017" +
+    "\052\020\060\021\100\022\035\023\076\024\051\025\u0135" +
+    "\026\102\027\061\030\033\031\110\032\032\034\074\035" +
+    "\073\036\071\037\054\040\030\041\053\042\044\043\106" +
+    "\044\107\045\031\046\112\047\113\052\050\053\027\054" +
+    "\043\055\111\056\072\057\104\060\067\001\001\000\100" +
+    "\007\025\017\052\020\060\021\100\022\035\023\076\024" +
+    "\051\026\216\027\061\030\033\031\110\032\032\034\074" +
+    "\035\073\036\071\037\054\040\030\041\053\042\044\043" +
+    "\106\044\107\045\031\046\112\047\113\052\050\053\027" +
+    "\054\043\055\111\056\072\057\104\060\067\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\102" +
+    "\007\025\017\052\020\060\021\100\022\035\023\076\024" +
+    "\051\025\u013a\026\102\027\061\030\033\031\110\032\032" +
+    "\034\074\035\073\036\071\037\054\040\030\041\053\042" +
+    "\044\043\106\044\107\045\031\046\112\047\113\052\050" +
+    "\053\027\054\043\055\111\056\072\057\104\060\067\001" +
+    "\001\000\100\007\025\017\052\020\060\021\100\022\035" +
+    "\023\076\024\051\026\216\027\061\030\033\031\110\032" +
+    "\032\034\074\035\073\036\071\037\054\040\030\041\053" +
+    "\042\044\043\106\044\107\045\031\046\112\047\113\052" +
+    "\050\053\027\054\043\055\111\056\072\057\104\060\067" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\016\014\u0141\015\u012e\017\u012f" +
+    "\020\060\021\100\056\u011d\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\102\007\025\017\052" +
+    "\020\060\021\100\022\035\023\076\024\051\025\u0144\026" +
+    "\102\027\061\030\033\031\110\032\032\034\074\035\073" +
+    "\036\071\037\054\040\030\041\053\042\044\043\106\044" +
+    "\107\045\031\046\112\047\113\052\050\053\027\054\043" +
+    "\055\111\056\072\057\104\060\067\001\001\000\100\007" +
+    "\025\017\052\020\060\021\100\022\035\023\076\024\051" +
+    "\026\216\027\061\030\033\031\110\032\032\034\074\035" +
+    "\073\036\071\037\054\040\030\041\053\042\044\043\106" +
+    "\044\107\045\031\046\112\047\113\052\050\053\027\054" +
+    "\043\055\111\056\072\057\104\060\067\001\001\000\002" +
+    "\001\001\000\002\001\001\000\102\007\025\017\052\020" +
+    "\060\021\100\022\035\023\076\024\051\025\u0148\026\102" +
+    "\027\061\030\033\031\110\032\032\034\074\035\073\036" +
+    "\071\037\054\040\030\041\053\042\044\043\106\044\107" +
+    "\045\031\046\112\047\113\052\050\053\027\054\043\055" +
+    "\111\056\072\057\104\060\067\001\001\000\100\007\025" +
+    "\017\052\020\060\021\100\022\035\023\076\024\051\026" +
+    "\216\027\061\030\033\031\110\032\032\034\074\035\073" +
+    "\036\071\037\054\040\030\041\053\042\044\043\106\044" +
+    "\107\045\031\046\112\047\113\052\050\053\027\054\043" +
+    "\055\111\056\072\057\104\060\067\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\024\007\u0125" +
+    "\010\u011a\011\u0150\012\u011f\013\u0120\017\052\020\060\021" +
+    "\100\056\u011d\001\001\000\010\010\u011a\012\u0121\013\u0120" +
+    "\001\001\000\002\001\001\000\002\001\001\000\010\010" +
+    "\u011a\012\u0121\013\u0120\001\001\000\002\001\001\000\002" +
+    "\001\001" });
+
+  /** Access to <code>reduce_goto</code> table. */
+  public short[][] reduce_table() {return _reduce_table;}
+
+  /** Instance of action encapsulation class. */
+  protected CUP$parser$actions action_obj;
+
+  /** Action encapsulation object initializer. */
+  protected void init_actions()
+    {
+      action_obj = new CUP$parser$actions(this);
+    }
+
+  /** Invoke a user supplied parse action. */
+  public java_cup.runtime.Symbol do_action(
+    int                        act_num,
+    java_cup.runtime.lr_parser parser,
+    java.util.Stack            stack,
+    int                        top)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$parser$do_action(act_num, parser, stack, top);
+  }
+
+  /** Indicates start state. */
+  public int start_state() {return 0;}
+  /** Indicates start production. */
+  public int start_production() {return 1;}
+
+  /** <code>EOF</code> Symbol index. */
+  public int EOF_sym() {return 0;}
+
+  /** <code>error</code> Symbol index. */
+  public int error_sym() {return 1;}
+
+
+/** Cup generated class to encapsulate user supplied action code.*/
+@SuppressWarnings({"rawtypes", "unchecked", "unused"})
+class CUP$parser$actions {
+  private final parser parser;
+
+  /** Constructor */
+  CUP$parser$actions(parser parser) {
+    this.parser = parser;
+  }
+
+  /** Method 0 with the actual generated action code for actions 0 to 300. */
+  public final java_cup.runtime.Symbol CUP$parser$do_action_part00000000(
+    int                        CUP$parser$act_num,
+    java_cup.runtime.lr_parser CUP$parser$parser,
+    java.util.Stack            CUP$parser$stack,
+    int                        CUP$parser$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$parser$result;
+
+      /* select the action based on the action number */
+      switch (CUP$parser$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 0: // Program ::= MainClass ClassDeclarationList 
+            {
+              Program RESULT =null;
+		Location mxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location mxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MainClass m = (MainClass)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location clxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location clxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ClassDeclList cl = (ClassDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Program(m, cl, mxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Program",0, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // $START ::= Program EOF 
+            {
+              Object RESULT =null;
+		Location start_valxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location start_valxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Program start_val = (Program)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		RESULT = start_val;
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("$START",0, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          /* ACCEPT */
+          CUP$parser$parser.done_parsing();
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // Program ::= MainClass 
+            {
+              Program RESULT =null;
+		Location mxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location mxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		MainClass m = (MainClass)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Program(m, new ClassDeclList(mxright), mxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Program",0, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 3: // MainClass ::= CLASS Identifier LCURL PUBLIC STATIC VOID MAIN LPAREN STRING ARRAY Identifier RPAREN LCURL StatementList RCURL RCURL 
+            {
+              MainClass RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-15)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-15)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-15)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-14)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-14)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-14)).value;
+		Location aidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location aidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Identifier aid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new MainClass(cid, aid, sl, cxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MainClass",1, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-15)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // MainClass ::= CLASS Identifier LCURL PUBLIC STATIC VOID MAIN LPAREN STRING ARRAY Identifier RPAREN LCURL RCURL RCURL 
+            {
+              MainClass RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-14)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-14)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-14)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-13)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-13)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-13)).value;
+		Location aidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location aidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Identifier aid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new MainClass(cid, aid, new StatementList(lcxright), cxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MainClass",1, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-14)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // ClassDeclarationList ::= ClassDeclaration 
+            {
+              ClassDeclList RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ClassDecl c = (ClassDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 ClassDeclList cl = new ClassDeclList(cxleft);
+                                 cl.add(c);
+                                 RESULT = cl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclarationList",2, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // ClassDeclarationList ::= ClassDeclarationList ClassDeclaration 
+            {
+              ClassDeclList RESULT =null;
+		Location clxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location clxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		ClassDeclList cl = (ClassDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ClassDecl c = (ClassDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 cl.add(c);
+                                 RESULT = cl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclarationList",2, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // ClassDeclaration ::= CLASS Identifier LCURL VarDeclarationList MemberDeclarationList RCURL 
+            {
+              ClassDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location dlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location dlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		VarDeclarationList dl = (VarDeclarationList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location mlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location mlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MemberDeclList ml = (MemberDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclSimple(cid, dl, ml, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclaration",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // ClassDeclaration ::= CLASS Identifier LCURL MemberDeclarationList RCURL 
+            {
+              ClassDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location mlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location mlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MemberDeclList ml = (MemberDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclSimple(cid, new VarDeclarationList(lcxright), ml, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclaration",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // ClassDeclaration ::= CLASS Identifier LCURL VarDeclarationList RCURL 
+            {
+              ClassDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location dlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location dlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		VarDeclarationList dl = (VarDeclarationList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclSimple(cid, dl, new MemberDeclList(lcxright), cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclaration",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // ClassDeclaration ::= CLASS Identifier LCURL RCURL 
+            {
+              ClassDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclSimple(cid, new VarDeclarationList(lcxright), new MemberDeclList(lcxright), cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclaration",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 11: // ClassDeclaration ::= CLASS Identifier EXTENDS Identifier LCURL VarDeclarationList MemberDeclarationList RCURL 
+            {
+              ClassDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-7)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location eidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location eidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Identifier eid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location dlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location dlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		VarDeclarationList dl = (VarDeclarationList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location mlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location mlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MemberDeclList ml = (MemberDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclExtends(cid, eid, dl, ml, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclaration",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 12: // ClassDeclaration ::= CLASS Identifier EXTENDS Identifier LCURL MemberDeclarationList RCURL 
+            {
+              ClassDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location eidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location eidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Identifier eid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location mlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location mlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MemberDeclList ml = (MemberDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclExtends(cid, eid, new VarDeclarationList(lcxright), ml, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclaration",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // ClassDeclaration ::= CLASS Identifier EXTENDS Identifier LCURL VarDeclarationList RCURL 
+            {
+              ClassDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location eidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location eidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Identifier eid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location dlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location dlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		VarDeclarationList dl = (VarDeclarationList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclExtends(cid, eid, dl, new MemberDeclList(lcxright), cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclaration",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 14: // ClassDeclaration ::= CLASS Identifier EXTENDS Identifier LCURL RCURL 
+            {
+              ClassDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location eidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location eidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Identifier eid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ClassDeclExtends(cid, eid, new VarDeclarationList(lcxright), new MemberDeclList(lcxright), cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ClassDeclaration",3, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // VarDeclarationList ::= VarDeclaration SEMICOLON 
+            {
+              VarDeclarationList RESULT =null;
+		Location dxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location dxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		VarDeclaration d = (VarDeclaration)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 VarDeclarationList dl = new VarDeclarationList(dxleft);
+                                 dl.add(d);
+                                 RESULT = dl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("VarDeclarationList",4, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 16: // VarDeclarationList ::= VarDeclarationList VarDeclaration SEMICOLON 
+            {
+              VarDeclarationList RESULT =null;
+		Location dlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location dlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		VarDeclarationList dl = (VarDeclarationList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location dxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location dxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		VarDeclaration d = (VarDeclaration)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 dl.add(d);
+                                 RESULT = dl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("VarDeclarationList",4, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // VarDeclaration ::= DeclarableType Identifier 
+            {
+              VarDeclaration RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		DeclarableType t = (DeclarableType)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new VarDecl(t, id, txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("VarDeclaration",5, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // VarDeclaration ::= DeclarableType Identifier ASSIGN Expression 
+            {
+              VarDeclaration RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		DeclarableType t = (DeclarableType)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new VarInit(t, id, e, txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("VarDeclaration",5, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // MemberDeclarationList ::= MemberDeclaration 
+            {
+              MemberDeclList RESULT =null;
+		Location mxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location mxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		MemberDecl m = (MemberDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 MemberDeclList ml = new MemberDeclList(mxleft);
+                                 ml.add(m);
+                                 RESULT = ml; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MemberDeclarationList",7, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // MemberDeclarationList ::= MemberDeclarationList MemberDeclaration 
+            {
+              MemberDeclList RESULT =null;
+		Location mlxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location mlxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		MemberDeclList ml = (MemberDeclList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location mxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location mxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		MemberDecl m = (MemberDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 ml.add(m);
+                                 RESULT = ml; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MemberDeclarationList",7, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 21: // MemberDeclaration ::= MethodDeclaration 
+            {
+              MemberDecl RESULT =null;
+		Location mxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location mxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		MethodDecl m = (MethodDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = m; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MemberDeclaration",8, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 22: // MemberDeclaration ::= ConstructorDeclaration 
+            {
+              MemberDecl RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ConstructorDecl c = (ConstructorDecl)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = c; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MemberDeclaration",8, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 23: // MethodDeclaration ::= PUBLIC Type Identifier LPAREN FormalList RPAREN LCURL StatementList RCURL 
+            {
+              MethodDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-8)).value;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xright;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-7)).value;
+		Location midxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location midxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Identifier mid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location flxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location flxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		FormalList fl = (FormalList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new MethodDecl(t, mid, fl, sl, pxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MethodDeclaration",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 24: // MethodDeclaration ::= PUBLIC Type Identifier LPAREN RPAREN LCURL StatementList RCURL 
+            {
+              MethodDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-7)).value;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location midxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location midxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Identifier mid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location lpxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location lpxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object lp = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new MethodDecl(t, mid, new FormalList(lpxright), sl, pxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MethodDeclaration",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 25: // MethodDeclaration ::= PUBLIC Type Identifier LPAREN FormalList RPAREN LCURL RCURL 
+            {
+              MethodDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-7)).value;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location midxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location midxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Identifier mid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location flxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location flxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		FormalList fl = (FormalList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new MethodDecl(t, mid, fl, new StatementList(lcxright), pxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MethodDeclaration",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 26: // MethodDeclaration ::= PUBLIC Type Identifier LPAREN RPAREN LCURL RCURL 
+            {
+              MethodDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Type t = (Type)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location midxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location midxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Identifier mid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location lpxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location lpxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object lp = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new MethodDecl(t, mid, new FormalList(lpxright), new StatementList(lpxright), pxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("MethodDeclaration",9, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 27: // ConstructorDeclaration ::= PUBLIC Identifier LPAREN FormalList RPAREN LCURL StatementList RCURL 
+            {
+              ConstructorDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-7)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location flxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location flxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		FormalList fl = (FormalList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new ConstructorDecl(cid, fl, sl, pxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ConstructorDeclaration",6, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 28: // ConstructorDeclaration ::= PUBLIC Identifier LPAREN RPAREN LCURL StatementList RCURL 
+            {
+              ConstructorDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location lpxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location lpxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object lp = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new ConstructorDecl(cid, new FormalList(lpxright), sl, pxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ConstructorDeclaration",6, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // ConstructorDeclaration ::= PUBLIC Identifier LPAREN FormalList RPAREN LCURL RCURL 
+            {
+              ConstructorDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location flxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location flxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		FormalList fl = (FormalList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new ConstructorDecl(cid, fl, new StatementList(lcxright), pxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ConstructorDeclaration",6, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 30: // ConstructorDeclaration ::= PUBLIC Identifier LPAREN RPAREN LCURL RCURL 
+            {
+              ConstructorDecl RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location cidxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location cidxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Identifier cid = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location lpxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location lpxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object lp = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object e = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new ConstructorDecl(cid, new FormalList(lpxright), new StatementList(lpxright), pxleft, exright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ConstructorDeclaration",6, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 31: // FormalList ::= Formal 
+            {
+              FormalList RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Formal f = (Formal)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 FormalList fl = new FormalList(fxleft);
+                                 fl.add(f);
+                                 RESULT = fl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("FormalList",10, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 32: // FormalList ::= FormalList COMMA Formal 
+            {
+              FormalList RESULT =null;
+		Location flxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location flxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		FormalList fl = (FormalList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Formal f = (Formal)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 fl.add(f);
+                                 RESULT = fl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("FormalList",10, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 33: // Formal ::= DeclarableType Identifier 
+            {
+              Formal RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		DeclarableType t = (DeclarableType)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Formal(t, id, txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Formal",11, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 34: // Type ::= VOID 
+            {
+              Type RESULT =null;
+		Location vxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location vxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object v = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new VoidType(vxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Type",12, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 35: // Type ::= DeclarableType 
+            {
+              Type RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		DeclarableType t = (DeclarableType)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = t; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Type",12, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 36: // DeclarableType ::= ArrayType 
+            {
+              DeclarableType RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ArrayType t = (ArrayType)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = t; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("DeclarableType",13, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 37: // DeclarableType ::= SingularType 
+            {
+              DeclarableType RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		SingularType t = (SingularType)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = t; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("DeclarableType",13, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 38: // ArrayType ::= ArrayType ARRAY 
+            {
+              ArrayType RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		ArrayType t = (ArrayType)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 t.dimension++;
+                                 RESULT = t; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ArrayType",15, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 39: // ArrayType ::= SingularType ARRAY 
+            {
+              ArrayType RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		SingularType t = (SingularType)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ArrayType(t, txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ArrayType",15, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 40: // SingularType ::= BOOLEAN 
+            {
+              SingularType RESULT =null;
+		Location bxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location bxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object b = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new BooleanType(bxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("SingularType",14, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 41: // SingularType ::= INT 
+            {
+              SingularType RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object i = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IntegerType(ixleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("SingularType",14, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 42: // SingularType ::= STRING 
+            {
+              SingularType RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object s = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new StringType(sxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("SingularType",14, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 43: // SingularType ::= Identifier 
+            {
+              SingularType RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IdentifierType(id.toString(), idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("SingularType",14, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 44: // StatementList ::= Statement 
+            {
+              StatementList RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 StatementList sl = new StatementList(sxleft);
+                                 sl.add(s);
+                                 RESULT = sl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementList",19, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 45: // StatementList ::= StatementList Statement 
+            {
+              StatementList RESULT =null;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 sl.add(s);
+                                 RESULT = sl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementList",19, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 46: // Statement ::= SEMICOLON 
+            {
+              Statement RESULT =null;
+		Location xxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location xxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object x = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new NoOp(xxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 47: // Statement ::= StatementSimple SEMICOLON 
+            {
+              Statement RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementSimple s = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = s; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // Statement ::= Return 
+            {
+              Statement RESULT =null;
+		Location rxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location rxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Return r = (Return)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = r; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 49: // Statement ::= LCURL StatementList RCURL 
+            {
+              Statement RESULT =null;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Block(sl, lcxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 50: // Statement ::= LCURL RCURL 
+            {
+              Statement RESULT =null;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Block(new StatementList(lcxright), lcxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 51: // Statement ::= IF ParenthesizedExpression Statement 
+            {
+              Statement RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object i = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new If(e, s, ixleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 52: // Statement ::= IF ParenthesizedExpression Statement ELSE Statement 
+            {
+              Statement RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object i = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location s1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location s1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Statement s1 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IfElse(e, s1, s2, ixleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 53: // Statement ::= Switch 
+            {
+              Statement RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Switch s = (Switch)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = s; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 54: // Statement ::= WHILE ParenthesizedExpression Statement 
+            {
+              Statement RESULT =null;
+		Location wxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location wxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object w = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new While(e, s, wxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 55: // Statement ::= For 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement f = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = f; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 56: // Statement ::= SuperCtorInvocation 
+            {
+              Statement RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		SuperCtorInvocation s = (SuperCtorInvocation)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = s; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 57: // Statement ::= ThisCtorInvocation 
+            {
+              Statement RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ThisCtorInvocation t = (ThisCtorInvocation)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = t; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Statement",20, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 58: // For ::= FOR LPAREN StatementSimple SEMICOLON Expression SEMICOLON StatementSimple RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-8)).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-8)).value;
+		Location s0xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location s0xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		StatementSimple s0 = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location s1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location s1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		StatementSimple s1 = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new For(s0, e, s1, s2, fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("For",21, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-8)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 59: // For ::= FOR LPAREN SEMICOLON Expression SEMICOLON StatementSimple RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-7)).value;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object l = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location s1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location s1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		StatementSimple s1 = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new For(new NoOp(lxright), e, s1, s2, fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("For",21, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 60: // For ::= FOR LPAREN StatementSimple SEMICOLON SEMICOLON StatementSimple RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-7)).value;
+		Location s0xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location s0xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		StatementSimple s0 = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location xxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location xxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object x = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location s1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location s1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		StatementSimple s1 = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new For(s0, new NoOpExp(xxright), s1, s2, fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("For",21, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 61: // For ::= FOR LPAREN StatementSimple SEMICOLON Expression SEMICOLON RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-7)).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-7)).value;
+		Location s0xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location s0xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		StatementSimple s0 = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location xxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location xxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object x = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new For(s0, e, new NoOp(xxright), s2, fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("For",21, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-7)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 62: // For ::= FOR LPAREN SEMICOLON SEMICOLON StatementSimple RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Object l = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location xxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location xxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object x = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location s1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location s1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		StatementSimple s1 = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new For(new NoOp(lxright), new NoOpExp(xxright), s1, s2, fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("For",21, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 63: // For ::= FOR LPAREN SEMICOLON Expression SEMICOLON RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Object l = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location xxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location xxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object x = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new For(new NoOp(lxright), e, new NoOp(xxright), s2, fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("For",21, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 64: // For ::= FOR LPAREN StatementSimple SEMICOLON SEMICOLON RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-6)).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-6)).value;
+		Location s0xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location s0xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		StatementSimple s0 = (StatementSimple)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location xxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location xxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object x = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location yxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location yxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object y = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new For(s0, new NoOpExp(xxright), new NoOp(yxright), s2, fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("For",21, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-6)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 65: // For ::= FOR LPAREN SEMICOLON SEMICOLON RPAREN Statement 
+            {
+              Statement RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object l = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location xxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location xxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object x = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location yxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location yxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object y = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location s2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location s2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Statement s2 = (Statement)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new For(new NoOp(lxright), new NoOpExp(xxright), new NoOp(yxright), s2, fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("For",21, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 66: // SuperCtorInvocation ::= SUPER Arguments SEMICOLON 
+            {
+              SuperCtorInvocation RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object s = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		ExpressionList a = (ExpressionList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new SuperCtorInvocation(a, sxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("SuperCtorInvocation",22, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 67: // ThisCtorInvocation ::= THIS Arguments SEMICOLON 
+            {
+              ThisCtorInvocation RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		ExpressionList a = (ExpressionList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ThisCtorInvocation(a, txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ThisCtorInvocation",23, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 68: // Return ::= RETURN Expression SEMICOLON 
+            {
+              Return RESULT =null;
+		Location rxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location rxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object r = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Return(e, rxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Return",18, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 69: // Return ::= RETURN SEMICOLON 
+            {
+              Return RESULT =null;
+		Location rxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location rxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object r = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Return(new NoOpExp(rxright), rxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Return",18, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 70: // Switch ::= SWITCH ParenthesizedExpression LCURL CaseList RCURL 
+            {
+              Switch RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object s = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location clxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location clxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		CaseList cl = (CaseList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Switch(e, cl, sxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Switch",46, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 71: // Switch ::= SWITCH ParenthesizedExpression LCURL RCURL 
+            {
+              Switch RESULT =null;
+		Location sxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location sxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object s = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location lcxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location lcxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object lc = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Switch(e, new CaseList(lcxright), sxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Switch",46, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 72: // CaseList ::= Case 
+            {
+              CaseList RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Case c = (Case)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 CaseList cl = new CaseList(cxleft);
+                                 cl.add(c);
+                                 RESULT = cl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("CaseList",47, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 73: // CaseList ::= CaseList Case 
+            {
+              CaseList RESULT =null;
+		Location clxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location clxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		CaseList cl = (CaseList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Case c = (Case)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 cl.add(c);
+                                 RESULT = cl; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("CaseList",47, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 74: // Case ::= CASE INT_LITERAL COLON StatementList BREAK SEMICOLON 
+            {
+              Case RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-5)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-5)).value;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		String n = (String)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new CaseSimple(Integer.parseInt(n), sl, true, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Case",48, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-5)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 75: // Case ::= CASE INT_LITERAL COLON StatementList 
+            {
+              Case RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		String n = (String)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new CaseSimple(Integer.parseInt(n), sl, false, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Case",48, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 76: // Case ::= CASE INT_LITERAL COLON BREAK SEMICOLON 
+            {
+              Case RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		String n = (String)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location coxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location coxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object co = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new CaseSimple(Integer.parseInt(n), new StatementList(coxright), true, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Case",48, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 77: // Case ::= CASE INT_LITERAL COLON 
+            {
+              Case RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object c = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		String n = (String)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location coxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location coxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object co = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new CaseSimple(Integer.parseInt(n), new StatementList(coxright), false, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Case",48, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 78: // Case ::= DEFAULT COLON StatementList BREAK SEMICOLON 
+            {
+              Case RESULT =null;
+		Location dxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location dxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object d = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new CaseDefault(sl, true, dxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Case",48, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 79: // Case ::= DEFAULT COLON StatementList 
+            {
+              Case RESULT =null;
+		Location dxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location dxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object d = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location slxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location slxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		StatementList sl = (StatementList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new CaseDefault(sl, false, dxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Case",48, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 80: // Case ::= DEFAULT COLON BREAK SEMICOLON 
+            {
+              Case RESULT =null;
+		Location dxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location dxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object d = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location coxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location coxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object co = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new CaseDefault(new StatementList(coxright), true, dxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Case",48, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 81: // Case ::= DEFAULT COLON 
+            {
+              Case RESULT =null;
+		Location dxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location dxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object d = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location coxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location coxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object co = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new CaseDefault(new StatementList(coxright), false, dxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Case",48, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 82: // StatementSimple ::= Call 
+            {
+              StatementSimple RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Call c = (Call)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Action(c, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementSimple",24, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 83: // StatementSimple ::= VarDeclaration 
+            {
+              StatementSimple RESULT =null;
+		Location dxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location dxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		VarDeclaration d = (VarDeclaration)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = d; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementSimple",24, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 84: // StatementSimple ::= PRINT LPAREN Expression RPAREN 
+            {
+              StatementSimple RESULT =null;
+		Location pxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location pxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Object p = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new Print(e, pxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementSimple",24, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 85: // StatementSimple ::= Assign 
+            {
+              StatementSimple RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Assign a = (Assign)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = a; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementSimple",24, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 86: // StatementSimple ::= Increment 
+            {
+              StatementSimple RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Increment i = (Increment)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = i; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StatementSimple",24, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 87: // Increment ::= PreIncrement 
+            {
+              Increment RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Increment i = (Increment)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = i; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Increment",41, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 88: // Increment ::= PostIncrement 
+            {
+              Increment RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Increment i = (Increment)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = i; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Increment",41, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 89: // PreIncrement ::= INCREMENT Expression3 
+            {
+              Increment RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object i = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new PreIncrement(a, ixleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PreIncrement",43, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 90: // PreIncrement ::= DECREMENT Expression3 
+            {
+              Increment RESULT =null;
+		Location dxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location dxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object d = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new PreDecrement(a, dxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PreIncrement",43, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 91: // PostIncrement ::= PrimaryExpression INCREMENT 
+            {
+              Increment RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new PostIncrement(a, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PostIncrement",42, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 92: // PostIncrement ::= PrimaryExpression DECREMENT 
+            {
+              Increment RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new PostDecrement(a, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PostIncrement",42, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 93: // Assign ::= Expression1 ASSIGN Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignSimple(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 94: // Assign ::= Expression1 ASSIGN_PLUS Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignPlus(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 95: // Assign ::= Expression1 ASSIGN_MINUS Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignMinus(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 96: // Assign ::= Expression1 ASSIGN_TIMES Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignTimes(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 97: // Assign ::= Expression1 ASSIGN_DIV Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignDivide(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 98: // Assign ::= Expression1 ASSIGN_MOD Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignMod(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 99: // Assign ::= Expression1 ASSIGN_AND Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignAnd(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 100: // Assign ::= Expression1 ASSIGN_OR Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignOr(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 101: // Assign ::= Expression1 ASSIGN_XOR Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignXor(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 102: // Assign ::= Expression1 ASSIGN_LSHIFT Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignLeftShift(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 103: // Assign ::= Expression1 ASSIGN_RSHIFT Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignRightShift(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 104: // Assign ::= Expression1 ASSIGN_URSHIFT Expression1 
+            {
+              Assign RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression a = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new AssignUnsignedRightShift(a, e, axleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Assign",40, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 105: // PrimaryExpression ::= Literal 
+            {
+              Expression RESULT =null;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression l = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = l; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PrimaryExpression",29, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 106: // PrimaryExpression ::= ParenthesizedExpression 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = e; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PrimaryExpression",29, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 107: // PrimaryExpression ::= THIS 
+            {
+              Expression RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new This(txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PrimaryExpression",29, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 108: // PrimaryExpression ::= NewArray 
+            {
+              Expression RESULT =null;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		NewArray n = (NewArray)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = n; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PrimaryExpression",29, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 109: // PrimaryExpression ::= NEW Identifier Arguments 
+            {
+              Expression RESULT =null;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Object n = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ExpressionList a = (ExpressionList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new NewObject(id, a, nxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PrimaryExpression",29, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 110: // PrimaryExpression ::= Identifier 
+            {
+              Expression RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IdentifierExp(id.toString(), idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("PrimaryExpression",29, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 111: // Literal ::= IntegerLiteral 
+            {
+              Expression RESULT =null;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression l = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = l; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Literal",30, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 112: // Literal ::= StringLiteral 
+            {
+              Expression RESULT =null;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression l = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = l; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Literal",30, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 113: // Literal ::= BooleanLiteral 
+            {
+              Expression RESULT =null;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression l = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = l; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Literal",30, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 114: // Literal ::= NullLiteral 
+            {
+              Expression RESULT =null;
+		Location lxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location lxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression l = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = l; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Literal",30, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 115: // IntegerLiteral ::= INT_LITERAL 
+            {
+              Expression RESULT =null;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		String n = (String)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new IntegerLiteral(Integer.parseInt(n), nxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("IntegerLiteral",31, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 116: // StringLiteral ::= STRING_LITERAL 
+            {
+              Expression RESULT =null;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		String n = (String)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new StringLiteral(n, nxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("StringLiteral",32, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 117: // BooleanLiteral ::= TRUE 
+            {
+              Expression RESULT =null;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object t = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new True(txleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BooleanLiteral",33, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 118: // BooleanLiteral ::= FALSE 
+            {
+              Expression RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object f = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new False(fxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BooleanLiteral",33, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 119: // NullLiteral ::= NULL 
+            {
+              Expression RESULT =null;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Object n = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new NullLiteral(nxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NullLiteral",34, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 120: // ParenthesizedExpression ::= LPAREN Expression RPAREN 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = e; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ParenthesizedExpression",35, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 121: // Expression ::= Expression1 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = e; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression",25, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 122: // Expression1 ::= Expression2 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = e; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression1",26, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 123: // Expression1 ::= Expression2 QUESTION Expression COLON Expression1 
+            {
+              Expression RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Expression c = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Ternary(c, e1, e2, cxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression1",26, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 124: // Expression1 ::= Assign 
+            {
+              Expression RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Assign a = (Assign)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = a; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression1",26, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 125: // Expression2 ::= Expression3 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = e; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression2",27, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 126: // Expression2 ::= Expression3 INSTANCEOF Identifier 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new InstanceOf(e, id, exleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression2",27, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 127: // Expression3 ::= PLUS Expression3 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new UnaryPlus(e, exleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 128: // Expression3 ::= MINUS Expression3 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new UnaryMinus(e, exleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 129: // Expression3 ::= NOT Expression3 
+            {
+              Expression RESULT =null;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object n = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Not(e, nxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 130: // Expression3 ::= BITWISE_NOT Expression3 
+            {
+              Expression RESULT =null;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object n = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new BitwiseNot(e, nxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 131: // Expression3 ::= PreIncrement 
+            {
+              Expression RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Increment i = (Increment)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = i; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 132: // Expression3 ::= PostIncrement 
+            {
+              Expression RESULT =null;
+		Location ixleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location ixright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Increment i = (Increment)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = i; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 133: // Expression3 ::= ArrayLookup 
+            {
+              Expression RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ArrayLookup a = (ArrayLookup)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = a; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 134: // Expression3 ::= Expression3 DOT LENGTH 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		 RESULT = new ArrayLength(e, exleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 135: // Expression3 ::= Call 
+            {
+              Expression RESULT =null;
+		Location cxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location cxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Call c = (Call)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = c; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 136: // Expression3 ::= Field 
+            {
+              Expression RESULT =null;
+		Location fxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location fxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression f = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = f; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 137: // Expression3 ::= PrimaryExpression 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = e; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 138: // Expression3 ::= BinaryExpression 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = e; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Expression3",28, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 139: // BinaryExpression ::= Expression3 AND Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new And(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 140: // BinaryExpression ::= Expression3 OR Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Or(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 141: // BinaryExpression ::= Expression3 IS_EQUAL Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Equal(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 142: // BinaryExpression ::= Expression3 IS_NOT_EQUAL Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new NotEqual(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 143: // BinaryExpression ::= Expression3 LESS_THAN Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new LessThan(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 144: // BinaryExpression ::= Expression3 LESS_THAN_OR_EQUAL Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new LessThanOrEqual(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 145: // BinaryExpression ::= Expression3 GREATER_THAN Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new GreaterThan(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 146: // BinaryExpression ::= Expression3 GREATER_THAN_OR_EQUAL Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new GreaterThanOrEqual(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 147: // BinaryExpression ::= Expression3 BITWISE_AND Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new BitwiseAnd(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 148: // BinaryExpression ::= Expression3 BITWISE_OR Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new BitwiseOr(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 149: // BinaryExpression ::= Expression3 BITWISE_XOR Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new BitwiseXor(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 150: // BinaryExpression ::= Expression3 PLUS Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Plus(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 151: // BinaryExpression ::= Expression3 MINUS Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Minus(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 152: // BinaryExpression ::= Expression3 TIMES Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Times(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 153: // BinaryExpression ::= Expression3 DIV Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Divide(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 154: // BinaryExpression ::= Expression3 MOD Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Mod(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 155: // BinaryExpression ::= Expression3 LSHIFT Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new LeftShift(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 156: // BinaryExpression ::= Expression3 RSHIFT Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new RightShift(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 157: // BinaryExpression ::= Expression3 URSHIFT Expression3 
+            {
+              Expression RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new UnsignedRightShift(e1, e2, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("BinaryExpression",36, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 158: // ExpressionList ::= Expression 
+            {
+              ExpressionList RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 ExpressionList el = new ExpressionList(exleft);
+                                 el.add(e);
+                                 RESULT = el; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ExpressionList",38, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 159: // ExpressionList ::= ExpressionList COMMA Expression 
+            {
+              ExpressionList RESULT =null;
+		Location elxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location elxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		ExpressionList el = (ExpressionList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 el.add(e);
+                                 RESULT = el; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ExpressionList",38, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 160: // ArrayLookup ::= Expression3 LSQUARE Expression RSQUARE 
+            {
+              ArrayLookup RESULT =null;
+		Location e1xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location e1xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Expression e1 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location e2xleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location e2xright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e2 = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 ExpressionList el = new ExpressionList(e2xleft);
+                                 el.add(e2);
+                                 RESULT = new ArrayLookup(e1, el, e1xleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ArrayLookup",16, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 161: // ArrayLookup ::= ArrayLookup LSQUARE Expression RSQUARE 
+            {
+              ArrayLookup RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		ArrayLookup a = (ArrayLookup)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 a.addDimension(e);
+                                 RESULT = a; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("ArrayLookup",16, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 162: // NewArray ::= NewArray LSQUARE Expression RSQUARE 
+            {
+              NewArray RESULT =null;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		NewArray a = (NewArray)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 a.addDimension(e);
+                                 RESULT = a; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NewArray",17, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 163: // NewArray ::= NEW SingularType LSQUARE Expression RSQUARE 
+            {
+              NewArray RESULT =null;
+		Location nxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xleft;
+		Location nxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-4)).xright;
+		Object n = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-4)).value;
+		Location txleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location txright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		SingularType t = (SingularType)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 ExpressionList el = new ExpressionList(exleft);
+                                 el.add(e);
+                                 RESULT = new NewArray(t, el, nxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("NewArray",17, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-4)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 164: // Field ::= Expression3 DOT Identifier 
+            {
+              Expression RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-2)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-2)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Field(e, id, exleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Field",37, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 165: // Call ::= Expression3 DOT Identifier Arguments 
+            {
+              Call RESULT =null;
+		Location exleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xleft;
+		Location exright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-3)).xright;
+		Expression e = (Expression)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-3)).value;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ExpressionList a = (ExpressionList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Call(e, id, a, exleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Call",45, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-3)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 166: // Call ::= Identifier Arguments 
+            {
+              Call RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Identifier id = (Identifier)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		Location axleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location axright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		ExpressionList a = (ExpressionList)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Call(new This(idxleft), id, a, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Call",45, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 167: // Arguments ::= LPAREN RPAREN 
+            {
+              ExpressionList RESULT =null;
+		Location lpxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location lpxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		Object lp = (Object)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = new ExpressionList(lpxright); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Arguments",39, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-1)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 168: // Arguments ::= LPAREN ExpressionList RPAREN 
+            {
+              ExpressionList RESULT =null;
+		Location elxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xleft;
+		Location elxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.elementAt(CUP$parser$top-1)).xright;
+		ExpressionList el = (ExpressionList)((java_cup.runtime.Symbol) CUP$parser$stack.elementAt(CUP$parser$top-1)).value;
+		 RESULT = el; 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Arguments",39, ((java_cup.runtime.Symbol)CUP$parser$stack.elementAt(CUP$parser$top-2)), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 169: // Identifier ::= IDENTIFIER 
+            {
+              Identifier RESULT =null;
+		Location idxleft = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xleft;
+		Location idxright = ((java_cup.runtime.ComplexSymbolFactory.ComplexSymbol)CUP$parser$stack.peek()).xright;
+		String id = (String)((java_cup.runtime.Symbol) CUP$parser$stack.peek()).value;
+		 RESULT = new Identifier(id, idxleft); 
+              CUP$parser$result = parser.getSymbolFactory().newSymbol("Identifier",44, ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), ((java_cup.runtime.Symbol)CUP$parser$stack.peek()), RESULT);
+            }
+          return CUP$parser$result;
+
+          /* . . . . . .*/
+          default:
+            throw new Exception(
+               "Invalid action number "+CUP$parser$act_num+"found in internal parse table");
+
+        }
+    } /* end of method */
+
+  /** Method splitting the generated action code into several parts. */
+  public final java_cup.runtime.Symbol CUP$parser$do_action(
+    int                        CUP$parser$act_num,
+    java_cup.runtime.lr_parser CUP$parser$parser,
+    java.util.Stack            CUP$parser$stack,
+    int                        CUP$parser$top)
+    throws java.lang.Exception
+    {
+              return CUP$parser$do_action_part00000000(
+                               CUP$parser$act_num,
+                               CUP$parser$parser,
+                               CUP$parser$stack,
+                               CUP$parser$top);
+    }
+}
+
+}
@@ -0,0 +1,172 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.11b 20160615 (GIT 4ac7450)
+//----------------------------------------------------
+
+package parser;
+
+/** CUP generated class containing symbol constants. */
+public class sym {
+  /* terminals */
+  public static final int BITWISE_XOR = 62;
+  public static final int IDENTIFIER = 76;
+  public static final int TIMES = 31;
+  public static final int LESS_THAN = 37;
+  public static final int LCURL = 69;
+  public static final int GREATER_THAN = 39;
+  public static final int INT_LITERAL = 77;
+  public static final int BITWISE_OR = 61;
+  public static final int COMMA = 72;
+  public static final int ASSIGN_MINUS = 43;
+  public static final int RPAREN = 66;
+  public static final int INCREMENT = 53;
+  public static final int IS_NOT_EQUAL = 59;
+  public static final int LPAREN = 65;
+  public static final int ASSIGN_OR = 48;
+  public static final int FALSE = 9;
+  public static final int NOT = 55;
+  public static final int ASSIGN_MOD = 46;
+  public static final int ARRAY = 64;
+  public static final int BITWISE_NOT = 63;
+  public static final int MOD = 33;
+  public static final int CLASS = 5;
+  public static final int SUPER = 27;
+  public static final int ASSIGN_DIV = 45;
+  public static final int TRUE = 24;
+  public static final int PLUS = 29;
+  public static final int QUESTION = 74;
+  public static final int WHILE = 26;
+  public static final int EXTENDS = 8;
+  public static final int ASSIGN_TIMES = 44;
+  public static final int ASSIGN = 41;
+  public static final int LESS_THAN_OR_EQUAL = 38;
+  public static final int RSQUARE = 68;
+  public static final int BOOLEAN = 2;
+  public static final int SWITCH = 21;
+  public static final int FOR = 10;
+  public static final int VOID = 25;
+  public static final int DIV = 32;
+  public static final int PUBLIC = 17;
+  public static final int RETURN = 18;
+  public static final int ELSE = 7;
+  public static final int BREAK = 3;
+  public static final int DOT = 73;
+  public static final int INT = 13;
+  public static final int LENGTH = 14;
+  public static final int IS_EQUAL = 58;
+  public static final int STRING_LITERAL = 78;
+  public static final int NULL = 28;
+  public static final int SEMICOLON = 71;
+  public static final int EOF = 0;
+  public static final int LSQUARE = 67;
+  public static final int ASSIGN_PLUS = 42;
+  public static final int THIS = 23;
+  public static final int DEFAULT = 6;
+  public static final int PRINT = 22;
+  public static final int DECREMENT = 54;
+  public static final int ASSIGN_URSHIFT = 52;
+  public static final int MAIN = 15;
+  public static final int MINUS = 30;
+  public static final int OR = 57;
+  public static final int error = 1;
+  public static final int URSHIFT = 36;
+  public static final int IF = 11;
+  public static final int INSTANCEOF = 12;
+  public static final int COLON = 75;
+  public static final int ASSIGN_AND = 47;
+  public static final int ASSIGN_RSHIFT = 51;
+  public static final int GREATER_THAN_OR_EQUAL = 40;
+  public static final int ASSIGN_XOR = 49;
+  public static final int CASE = 4;
+  public static final int NEW = 16;
+  public static final int ASSIGN_LSHIFT = 50;
+  public static final int RSHIFT = 35;
+  public static final int STRING = 20;
+  public static final int RCURL = 70;
+  public static final int AND = 56;
+  public static final int STATIC = 19;
+  public static final int LSHIFT = 34;
+  public static final int BITWISE_AND = 60;
+  public static final String[] terminalNames = new String[] {
+  "EOF",
+  "error",
+  "BOOLEAN",
+  "BREAK",
+  "CASE",
+  "CLASS",
+  "DEFAULT",
+  "ELSE",
+  "EXTENDS",
+  "FALSE",
+  "FOR",
+  "IF",
+  "INSTANCEOF",
+  "INT",
+  "LENGTH",
+  "MAIN",
+  "NEW",
+  "PUBLIC",
+  "RETURN",
+  "STATIC",
+  "STRING",
+  "SWITCH",
+  "PRINT",
+  "THIS",
+  "TRUE",
+  "VOID",
+  "WHILE",
+  "SUPER",
+  "NULL",
+  "PLUS",
+  "MINUS",
+  "TIMES",
+  "DIV",
+  "MOD",
+  "LSHIFT",
+  "RSHIFT",
+  "URSHIFT",
+  "LESS_THAN",
+  "LESS_THAN_OR_EQUAL",
+  "GREATER_THAN",
+  "GREATER_THAN_OR_EQUAL",
+  "ASSIGN",
+  "ASSIGN_PLUS",
+  "ASSIGN_MINUS",
+  "ASSIGN_TIMES",
+  "ASSIGN_DIV",
+  "ASSIGN_MOD",
+  "ASSIGN_AND",
+  "ASSIGN_OR",
+  "ASSIGN_XOR",
+  "ASSIGN_LSHIFT",
+  "ASSIGN_RSHIFT",
+  "ASSIGN_URSHIFT",
+  "INCREMENT",
+  "DECREMENT",
+  "NOT",
+  "AND",
+  "OR",
+  "IS_EQUAL",
+  "IS_NOT_EQUAL",
+  "BITWISE_AND",
+  "BITWISE_OR",
+  "BITWISE_XOR",
+  "BITWISE_NOT",
+  "ARRAY",
+  "LPAREN",
+  "RPAREN",
+  "LSQUARE",
+  "RSQUARE",
+  "LCURL",
+  "RCURL",
+  "SEMICOLON",
+  "COMMA",
+  "DOT",
+  "QUESTION",
+  "COLON",
+  "IDENTIFIER",
+  "INT_LITERAL",
+  "STRING_LITERAL"
+  };
+}
+
@@ -1,38 +1,60 @@
 package phase;
 
+import codegen.IrTranslator;
 import codegen.visitor.CodeDataVisitor;
 import codegen.visitor.CodeGenVisitor;
+import ir.ssa.SsaDestructor;
 
 import static phase.CompilerState.EXIT_FAILURE;
 import static phase.CompilerState.EXIT_SUCCESS;
 
 public final class CodeGenerationPhase implements CompilerPhase {
+    private final boolean allocateRegisters;
+
+    public CodeGenerationPhase() {
+        this(false);
+    }
+
+    /**
+     * @param allocateRegisters Whether to allocate machine registers when generating code
+     *                          from the IR, rather than keeping every value in a stack slot.
+     */
+    public CodeGenerationPhase(final boolean allocateRegisters) {
+        this.allocateRegisters = allocateRegisters;
+    }
+
     @Override
     public CompilerState run(final CompilerState inputState) {
         assert inputState.getStatus() != EXIT_FAILURE;
         assert inputState.getAst() != null;
         assert inputState.getSymbolContext() != null;
-        assert inputState.getIsa() != null;
+        assert inputState.getGenerator() != null;
 
         int status = EXIT_SUCCESS;
+        var generator = inputState.getGenerator();
         try {
             var ast = inputState.getAst();
-            ast.accept(new CodeDataVisitor(inputState.getSymbolContext(), inputState.getIsa()));
-            ast.accept(new CodeGenVisitor(inputState.getSymbolContext(), inputState.getIsa()));
+            ast.accept(new CodeDataVisitor(inputState.getSymbolContext(), generator));
+            if (inputState.getIr() != null) {
+                SsaDestructor.destruct(inputState.getIr());
+                new IrTranslator(generator, allocateRegisters).translate(inputState.getIr());
+            } else {
+                ast.accept(new CodeGenVisitor(inputState.getSymbolContext(), generator));
+            }
         } catch (final Exception e) {
             status = EXIT_FAILURE;
             e.printStackTrace();
+        } finally {
+            try {
+                generator.close();
+            } catch (final Exception e) {
+                status = EXIT_FAILURE;
+                e.printStackTrace();
+            }
         }
 
-        return CompilerState.builder()
+        return inputState.toBuilder()
                 .status(status)
-                .sourceFile(inputState.getSourceFile())
-                .scanner(inputState.getScanner())
-                .ast(inputState.getAst())
-                .logger(inputState.getLogger())
-                .symbolContext(inputState.getSymbolContext())
-                .dataflowVisitor(inputState.getDataflowVisitor())
-                .isa(inputState.getIsa())
                 .build();
     }
 }
@@ -7,4 +7,20 @@ public interface CompilerPhase {
      * @return
      */
     CompilerState run(CompilerState inputState);
+
+    /**
+     * @return The name of this phase, as shown in phase statistics.
+     */
+    default String getName() {
+        var name = getClass().getSimpleName();
+        return name.endsWith("Phase") ? name.substring(0, name.length() - "Phase".length()) : name;
+    }
+
+    /**
+     * @return Whether this phase only serves to build the AST, and can be skipped
+     *         when a compilation starts from an existing AST.
+     */
+    default boolean buildsAst() {
+        return false;
+    }
 }
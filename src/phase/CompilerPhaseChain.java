@@ -1,15 +1,40 @@
 package phase;
 
+import commons.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
 import static phase.CompilerState.EXIT_FAILURE;
 
 public final class CompilerPhaseChain {
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
     private final List<CompilerPhase> phases;
+    private final List<PhaseTiming> timings;
+    private boolean timed;
 
     public CompilerPhaseChain() {
         this.phases = new LinkedList<>();
+        this.timings = new ArrayList<>();
+    }
+
+    /**
+     * Measures the wall time, CPU time and heap allocation of every phase run by this chain.
+     */
+    public CompilerPhaseChain timed() {
+        timed = true;
+        return this;
+    }
+
+    /**
+     * @return The measurements of each phase run so far, in order, if this chain is {@link #timed()}.
+     */
+    public List<PhaseTiming> getTimings() {
+        return timings;
     }
 
     public CompilerPhaseChain add(final CompilerPhase phase) {
@@ -18,7 +43,8 @@ public final class CompilerPhaseChain {
     }
 
     /**
-     * Runs all the compiler phases, returning the final compiler state.
+     * Runs all the compiler phases, returning the final compiler state. If the initial state
+     * already holds an AST, the phases which only serve to build it are skipped.
      * @param initialState Initial compiler state.
      */
     public CompilerState run(final CompilerState initialState) {
@@ -26,14 +52,70 @@ public final class CompilerPhaseChain {
             return initialState;
         }
 
-        var currentState = initialState;
-        for (final var phase : phases) {
-            var nextState = phase.run(currentState);
-            if (nextState.getStatus() == EXIT_FAILURE) {
-                return nextState;
+        // diagnostics raised while this chain runs go to the compilation's own logger
+        if (initialState.getLogger() != null) {
+            Logger.bind(initialState.getLogger());
+        }
+
+        try {
+            var currentState = initialState;
+            boolean hasAst = initialState.getAst() != null;
+            for (final var phase : phases) {
+                if (hasAst && phase.buildsAst()) {
+                    continue;
+                }
+                var nextState = timed ? runTimed(phase, currentState) : runTraced(phase, currentState);
+                if (nextState.getStatus() == EXIT_FAILURE) {
+                    return nextState;
+                }
+                currentState = nextState;
             }
-            currentState = nextState;
+            return currentState;
+        } finally {
+            Logger.unbind();
+        }
+    }
+
+    private CompilerState runTraced(final CompilerPhase phase, final CompilerState inputState) {
+        var event = new PhaseEvent();
+        event.begin();
+        var outputState = phase.run(inputState);
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = phase.getName();
+            event.sourceFile = String.valueOf(inputState.getSourceFile());
+            event.status = outputState.getStatus();
+            event.allocatedBytes = -1;
+            event.commit();
+        }
+        return outputState;
+    }
+
+    private CompilerState runTimed(final CompilerPhase phase, final CompilerState inputState) {
+        boolean cpuSupported = threads.isCurrentThreadCpuTimeSupported();
+        boolean allocationSupported = threads.isThreadAllocatedMemorySupported();
+
+        var event = new PhaseEvent();
+        long cpu = cpuSupported ? threads.getCurrentThreadCpuTime() : 0;
+        long allocated = allocationSupported ? threads.getCurrentThreadAllocatedBytes() : 0;
+        long wall = System.nanoTime();
+        event.begin();
+
+        var outputState = phase.run(inputState);
+
+        event.end();
+        wall = System.nanoTime() - wall;
+        allocated = allocationSupported ? threads.getCurrentThreadAllocatedBytes() - allocated : -1;
+        cpu = cpuSupported ? threads.getCurrentThreadCpuTime() - cpu : -1;
+
+        timings.add(new PhaseTiming(phase.getName(), wall, cpu, allocated));
+        if (event.shouldCommit()) {
+            event.phase = phase.getName();
+            event.sourceFile = String.valueOf(inputState.getSourceFile());
+            event.status = outputState.getStatus();
+            event.allocatedBytes = allocated;
+            event.commit();
         }
-        return currentState;
+        return outputState;
     }
 }
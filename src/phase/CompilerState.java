@@ -1,18 +1,22 @@
 package phase;
 
 import ast.Program;
+import codegen.Generator;
 import dataflow.visitor.DataflowVisitor;
+import ir.IrProgram;
 import codegen.platform.isa.ISA;
 import java_cup.runtime.ComplexSymbolFactory;
 import lombok.Builder;
 import lombok.Data;
 import scanner.*;
+import commons.Counts;
 import commons.Logger;
 import semantics.table.SymbolContext;
+import semantics.visitor.Fold;
 
 import java.io.File;
 
-@Builder
+@Builder(toBuilder = true)
 @Data
 public final class CompilerState {
     public static final int EXIT_SUCCESS = 0;
@@ -27,4 +31,7 @@ public final class CompilerState {
     private final SymbolContext symbolContext;
     private final ISA isa;
     private final DataflowVisitor dataflowVisitor;
+    private final Counts<Fold> folds;
+    private final IrProgram ir;
+    private final Generator generator;
 }
@@ -0,0 +1,34 @@
+package phase;
+
+import semantics.visitor.FoldingVisitor;
+
+import static phase.CompilerState.EXIT_FAILURE;
+import static phase.CompilerState.EXIT_SUCCESS;
+
+/**
+ * Folds the constant expressions and branches of the AST. Runs after the analyses, so that
+ * their diagnostics are reported against the program as written.
+ */
+public final class ConstantFoldingPhase implements CompilerPhase {
+    @Override
+    public CompilerState run(final CompilerState inputState) {
+        assert inputState.getStatus() != EXIT_FAILURE;
+        assert inputState.getAst() != null;
+        assert inputState.getSymbolContext() != null;
+
+        int status = EXIT_SUCCESS;
+        FoldingVisitor foldingVisitor = null;
+        try {
+            foldingVisitor = new FoldingVisitor(inputState.getSymbolContext());
+            inputState.getAst().accept(foldingVisitor);
+        } catch (final Exception e) {
+            status = EXIT_FAILURE;
+            e.printStackTrace();
+        }
+
+        return inputState.toBuilder()
+                .status(status)
+                .folds(foldingVisitor != null ? foldingVisitor.getFolds() : null)
+                .build();
+    }
+}
@@ -51,13 +51,8 @@ public final class DataflowAnalysisPhase implements CompilerPhase {
             e.printStackTrace();
         }
 
-        return CompilerState.builder()
+        return inputState.toBuilder()
                 .status(status)
-                .sourceFile(inputState.getSourceFile())
-                .scanner(inputState.getScanner())
-                .ast(inputState.getAst())
-                .logger(inputState.getLogger())
-                .symbolContext(inputState.getSymbolContext())
                 .dataflowVisitor(dataflowVisitor)
                 .build();
     }
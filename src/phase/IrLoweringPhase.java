@@ -0,0 +1,51 @@
+package phase;
+
+import ir.IrPrinter;
+import ir.ssa.SsaBuilder;
+import ir.visitor.LoweringVisitor;
+
+import static phase.CompilerState.EXIT_FAILURE;
+import static phase.CompilerState.EXIT_SUCCESS;
+
+public final class IrLoweringPhase implements CompilerPhase {
+    private final boolean printIr;
+    private final boolean ssa;
+
+    public IrLoweringPhase() {
+        this(false, false);
+    }
+
+    public IrLoweringPhase(final boolean printIr, final boolean ssa) {
+        this.printIr = printIr;
+        this.ssa = ssa;
+    }
+
+    @Override
+    public CompilerState run(final CompilerState inputState) {
+        assert inputState.getStatus() != EXIT_FAILURE;
+        assert inputState.getAst() != null;
+        assert inputState.getSymbolContext() != null;
+
+        int status = EXIT_SUCCESS;
+        LoweringVisitor loweringVisitor = null;
+        try {
+            loweringVisitor = new LoweringVisitor(inputState.getSymbolContext());
+            inputState.getAst().accept(loweringVisitor);
+            if (ssa) {
+                SsaBuilder.build(loweringVisitor.getProgram());
+            }
+
+            if (printIr) {
+                System.out.print(IrPrinter.print(loweringVisitor.getProgram()));
+            }
+        } catch (final Exception e) {
+            status = EXIT_FAILURE;
+            e.printStackTrace();
+        }
+
+        return inputState.toBuilder()
+                .status(status)
+                .ir(loweringVisitor != null ? loweringVisitor.getProgram() : null)
+                .build();
+    }
+}
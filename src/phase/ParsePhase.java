@@ -2,11 +2,17 @@ package phase;
 
 import ast.Program;
 import parser.parser;
+import scanner.ScannerPool;
 
 import static phase.CompilerState.EXIT_FAILURE;
 import static phase.CompilerState.EXIT_SUCCESS;
 
 public final class ParsePhase implements CompilerPhase {
+    @Override
+    public boolean buildsAst() {
+        return true;
+    }
+
     @Override
     public CompilerState run(CompilerState inputState) {
         assert inputState.getStatus() != EXIT_FAILURE;
@@ -21,13 +27,13 @@ public final class ParsePhase implements CompilerPhase {
         } catch (final Exception e) {
             status = EXIT_FAILURE;
             e.printStackTrace();
+        } finally {
+            ScannerPool.release(inputState.getScanner());
         }
 
-        return CompilerState.builder()
+        return inputState.toBuilder()
                 .status(status)
-                .sourceFile(inputState.getSourceFile())
-                .scanner(inputState.getScanner())
-                .symbolFactory(inputState.getSymbolFactory())
+                .scanner(null)
                 .ast(ast)
                 .build();
     }
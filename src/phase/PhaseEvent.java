@@ -0,0 +1,32 @@
+package phase;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event spanning a single {@link CompilerPhase} of a single compilation.
+ * Recorded whenever a flight recording with the event enabled is running, e.g.
+ * <code>java -XX:StartFlightRecording:filename=compile.jfr ... Java ...</code>
+ */
+@Name("compiler.Phase")
+@Label("Compiler Phase")
+@Category("Compiler")
+@Description("A single phase of compiling a source file")
+final class PhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Source File")
+    String sourceFile;
+
+    @Label("Status")
+    int status;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
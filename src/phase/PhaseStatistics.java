@@ -0,0 +1,295 @@
+package phase;
+
+import codegen.Rewrite;
+import codegen.Tile;
+import commons.Counts;
+import semantics.table.ResolutionCounts;
+import semantics.visitor.Fold;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Collects the {@link PhaseTiming phase timings} of every compilation in a single
+ * invocation, and reports them per input file and aggregated per phase, along with
+ * the hits and misses of the compilation cache, if one is used, and of the memoized
+ * constructor and method resolution, the folds applied by the constant folder, the tiles
+ * chosen by the instruction selector, and the rewrites applied by the peephole optimizer.
+ */
+public final class PhaseStatistics {
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+    private static final String PARALLEL_PHASE = "DataflowAnalysis";  // runs on ForkJoin workers too
+
+    private final SortedMap<Integer, Compilation> compilations = new TreeMap<>();
+    private int cacheHits;
+    private int cacheMisses;
+    private ResolutionCounts resolutions = ResolutionCounts.NONE;
+    private final Counts<Fold> folds = new Counts<>(Fold.class);
+    private final Counts<Tile> tiles = new Counts<>(Tile.class);
+    private final Counts<Rewrite> rewrites = new Counts<>(Rewrite.class);
+
+    private record Compilation(File source, int status, List<PhaseTiming> timings, boolean cached) {}
+
+    /**
+     * Records the timings of a single compilation. Safe to call concurrently.
+     * @param index The position of the compilation in the invocation, which determines report order.
+     * @param source The compiled source file.
+     * @param status The exit status of the compilation.
+     * @param timings The timings of each phase that ran.
+     */
+    public synchronized void record(int index, File source, int status, List<PhaseTiming> timings) {
+        compilations.put(index, new Compilation(source, status, List.copyOf(timings), false));
+    }
+
+    /**
+     * Records a compilation whose result was replayed from the compilation cache. Safe to call concurrently.
+     * @param index The position of the compilation in the invocation, which determines report order.
+     * @param source The compiled source file.
+     * @param status The exit status of the compilation.
+     */
+    public synchronized void recordCacheHit(int index, File source, int status) {
+        compilations.put(index, new Compilation(source, status, List.of(), true));
+        cacheHits++;
+    }
+
+    /**
+     * Counts a compilation which was not found in the compilation cache. Its timings are
+     * recorded separately through {@link PhaseStatistics#record}. Safe to call concurrently.
+     */
+    public synchronized void recordCacheMiss() {
+        cacheMisses++;
+    }
+
+    /**
+     * Adds the resolution counts of a single compilation to the totals. Safe to call concurrently.
+     */
+    public synchronized void recordResolutions(ResolutionCounts counts) {
+        resolutions = resolutions.plus(counts);
+    }
+
+    /**
+     * Adds the constant fold counts of a single compilation to the totals. Safe to call concurrently.
+     */
+    public synchronized void recordFolds(Counts<Fold> counts) {
+        folds.add(counts);
+    }
+
+    /**
+     * Adds the tile counts of a single compilation to the totals. Safe to call concurrently.
+     */
+    public synchronized void recordTiles(Counts<Tile> counts) {
+        tiles.add(counts);
+    }
+
+    /**
+     * Adds the peephole rewrite counts of a single compilation to the totals. Safe to call concurrently.
+     */
+    public synchronized void recordRewrites(Counts<Rewrite> counts) {
+        rewrites.add(counts);
+    }
+
+    /**
+     * Prints the wall time of each phase per input file, followed by the wall time, CPU time
+     * and allocation of each phase summed over all input files. The CPU time and allocation
+     * are those of the compiling thread, see {@link PhaseTiming}.
+     */
+    public synchronized void printTable(PrintStream out) {
+        var totals = totals();
+        var phases = new ArrayList<>(totals.keySet());
+        int fileWidth = Math.max("file".length(), compilations.values().stream()
+                .mapToInt(c -> c.source.getName().length())
+                .max()
+                .orElse(0));
+        int phaseWidth = Math.max(12, phases.stream().mapToInt(String::length).max().orElse(0) + 2);
+
+        out.printf("%-" + fileWidth + "s", "file");
+        phases.forEach(p -> out.printf("%" + phaseWidth + "s", p));
+        out.printf("%" + phaseWidth + "s%n", "Total (ms)");
+        for (var compilation : compilations.values()) {
+            out.printf("%-" + fileWidth + "s", compilation.source.getName());
+            if (compilation.cached) {
+                phases.forEach(p -> out.printf("%" + phaseWidth + "s", "-"));
+                out.printf("%" + phaseWidth + "s%n", "cached");
+                continue;
+            }
+            long total = 0;
+            for (var phase : phases) {
+                var timing = find(compilation, phase);
+                if (timing == null) {
+                    out.printf("%" + phaseWidth + "s", "-");
+                } else {
+                    out.printf("%" + phaseWidth + ".2f", timing.wallNanos() / NANOS_PER_MILLI);
+                    total += timing.wallNanos();
+                }
+            }
+            out.printf("%" + phaseWidth + ".2f%n", total / NANOS_PER_MILLI);
+        }
+
+        long wall = totals.values().stream().mapToLong(PhaseTiming::wallNanos).sum();
+        out.println();
+        out.printf("%-" + phaseWidth + "s%12s%12s%14s%9s%n", "phase", "wall (ms)", "cpu (ms)", "alloc (MB)", "wall %");
+        for (var timing : totals.values()) {
+            out.printf("%-" + phaseWidth + "s%12.2f%12s%14s%8.1f%%%n",
+                    timing.phase(),
+                    timing.wallNanos() / NANOS_PER_MILLI,
+                    timing.cpuNanos() < 0 ? "n/a" : String.format("%.2f", timing.cpuNanos() / NANOS_PER_MILLI),
+                    timing.allocatedBytes() < 0 ? "n/a" : String.format("%.2f", timing.allocatedBytes() / BYTES_PER_MEGABYTE),
+                    wall == 0 ? 0.0 : 100.0 * timing.wallNanos() / wall);
+        }
+        out.printf("%-" + phaseWidth + "s%12.2f%n", "Total", wall / NANOS_PER_MILLI);
+        if (totals.containsKey(PARALLEL_PHASE)) {
+            out.printf("(cpu and alloc of %s exclude the worker threads it analyzes members on)%n", PARALLEL_PHASE);
+        }
+        if (cacheHits + cacheMisses > 0) {
+            out.println();
+            out.printf("cache: %d hits, %d misses%n", cacheHits, cacheMisses);
+        }
+        if (resolutions.lookups() > 0) {
+            out.println();
+            out.printf("constructor resolution: %d hits, %d misses (%.1f%% hits)%n",
+                    resolutions.constructorHits(), resolutions.constructorMisses(),
+                    ResolutionCounts.hitRate(resolutions.constructorHits(), resolutions.constructorMisses()));
+            out.printf("method resolution: %d hits, %d misses (%.1f%% hits)%n",
+                    resolutions.methodHits(), resolutions.methodMisses(),
+                    ResolutionCounts.hitRate(resolutions.methodHits(), resolutions.methodMisses()));
+        }
+        printCounts(out, "fold", "applied", folds);
+        printCounts(out, "tile", "uses", tiles);
+        printCounts(out, "rewrite", "applied", rewrites);
+    }
+
+    /**
+     * Prints all timings, cache, resolution, fold, tile and rewrite counters as a single JSON document, with raw nanosecond and byte counts.
+     */
+    public synchronized void printJson(PrintStream out) {
+        var sb = new StringBuilder();
+        sb.append("{\"files\":[");
+        boolean first = true;
+        for (var compilation : compilations.values()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append("{\"file\":");
+            appendString(sb, compilation.source.getPath());
+            sb.append(",\"status\":").append(compilation.status);
+            sb.append(",\"cached\":").append(compilation.cached);
+            sb.append(",\"phases\":");
+            appendTimings(sb, compilation.timings);
+            sb.append('}');
+        }
+        sb.append("],\"totals\":");
+        appendTimings(sb, totals().values());
+        sb.append(",\"cache\":{\"hits\":").append(cacheHits)
+                .append(",\"misses\":").append(cacheMisses)
+                .append("},\"resolution\":{\"constructorHits\":").append(resolutions.constructorHits())
+                .append(",\"constructorMisses\":").append(resolutions.constructorMisses())
+                .append(",\"methodHits\":").append(resolutions.methodHits())
+                .append(",\"methodMisses\":").append(resolutions.methodMisses())
+                .append("},\"folds\":");
+        appendCounts(sb, folds);
+        sb.append(",\"tiles\":");
+        appendCounts(sb, tiles);
+        sb.append(",\"rewrites\":");
+        appendCounts(sb, rewrites);
+        sb.append('}');
+        out.println(sb);
+    }
+
+    /**
+     * Prints how many times each transformation was applied, unless none ever was.
+     */
+    private static <E extends Enum<E>> void printCounts(PrintStream out, String name, String unit, Counts<E> counts) {
+        if (counts.total() > 0) {
+            out.println();
+            out.printf("%-20s%12s%n", name, unit);
+            for (var key : counts.keys()) {
+                out.printf("%-20s%12d%n", key, counts.get(key));
+            }
+        }
+    }
+
+    /**
+     * @return The timings of each phase, summed over all compilations, in the order the phases first ran.
+     */
+    private Map<String, PhaseTiming> totals() {
+        Map<String, PhaseTiming> totals = new LinkedHashMap<>();
+        for (var compilation : compilations.values()) {
+            for (var timing : compilation.timings) {
+                totals.merge(timing.phase(), timing, (a, b) -> new PhaseTiming(a.phase(),
+                        a.wallNanos() + b.wallNanos(),
+                        sum(a.cpuNanos(), b.cpuNanos()),
+                        sum(a.allocatedBytes(), b.allocatedBytes())));
+            }
+        }
+        return totals;
+    }
+
+    private static PhaseTiming find(Compilation compilation, String phase) {
+        for (var timing : compilation.timings) {
+            if (timing.phase().equals(phase)) {
+                return timing;
+            }
+        }
+        return null;
+    }
+
+    private static long sum(long a, long b) {
+        return a < 0 || b < 0 ? -1 : a + b;
+    }
+
+    private static void appendTimings(StringBuilder sb, Iterable<PhaseTiming> timings) {
+        sb.append('[');
+        boolean first = true;
+        for (var timing : timings) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append("{\"phase\":");
+            appendString(sb, timing.phase());
+            sb.append(",\"wallNanos\":").append(timing.wallNanos())
+                    .append(",\"cpuNanos\":").append(timing.cpuNanos())
+                    .append(",\"allocatedBytes\":").append(timing.allocatedBytes())
+                    .append('}');
+        }
+        sb.append(']');
+    }
+
+    private static <E extends Enum<E>> void appendCounts(StringBuilder sb, Counts<E> counts) {
+        sb.append('{');
+        boolean first = true;
+        for (var key : counts.keys()) {
+            if (!first) sb.append(',');
+            first = false;
+            appendString(sb, key.name());
+            sb.append(':').append(counts.get(key));
+        }
+        sb.append('}');
+    }
+
+    private static void appendString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,13 @@
+package phase;
+
+/**
+ * The cost of running a single {@link CompilerPhase}, measured on the thread that ran it.
+ * The CPU time and allocation of work that a phase hands to other threads, such as the
+ * ForkJoin workers that analyze members in parallel during dataflow analysis, are not
+ * included, so they understate the cost of such a phase while its wall time does not.
+ * @param phase The name of the phase.
+ * @param wallNanos Elapsed wall-clock time, in nanoseconds.
+ * @param cpuNanos CPU time consumed, in nanoseconds, or -1 if unsupported by the JVM.
+ * @param allocatedBytes Bytes allocated on the heap, or -1 if unsupported by the JVM.
+ */
+public record PhaseTiming(String phase, long wallNanos, long cpuNanos, long allocatedBytes) {}
@@ -2,12 +2,10 @@ package phase;
 
 import java_cup.runtime.ComplexSymbolFactory;
 import parser.sym;
+import scanner.MappedSourceReader;
+import scanner.ScannerPool;
 import scanner.scanner;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.InputStreamReader;
-
 import static phase.CompilerState.EXIT_FAILURE;
 import static phase.CompilerState.EXIT_SUCCESS;
 
@@ -22,6 +20,11 @@ public final class ScanPhase implements CompilerPhase {
         this.printTokens = printTokens;
     }
 
+    @Override
+    public boolean buildsAst() {
+        return !printTokens;
+    }
+
     @Override
     public CompilerState run(final CompilerState inputState) {
         assert inputState.getStatus() != EXIT_FAILURE;
@@ -33,8 +36,8 @@ public final class ScanPhase implements CompilerPhase {
 
         try {
             symbolFactory = new ComplexSymbolFactory();
-            var in = new BufferedReader(new InputStreamReader(new FileInputStream(inputState.getSourceFile())));
-            scanner = new scanner(in, symbolFactory);
+            var in = MappedSourceReader.open(inputState.getSourceFile().toPath());
+            scanner = ScannerPool.acquire(in, symbolFactory);
 
             if (printTokens) {
                 var t = scanner.next_token();
@@ -45,15 +48,16 @@ public final class ScanPhase implements CompilerPhase {
                     }
                     t = scanner.next_token();
                 }
+                ScannerPool.release(scanner);  // no parse follows
+                scanner = null;
             }
         } catch (final Exception e) {
             status = EXIT_FAILURE;
             e.printStackTrace();
         }
 
-        return CompilerState.builder()
+        return inputState.toBuilder()
                 .status(status)
-                .sourceFile(inputState.getSourceFile())
                 .symbolFactory(symbolFactory)
                 .scanner(scanner)
                 .build();
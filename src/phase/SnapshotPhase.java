@@ -0,0 +1,34 @@
+package phase;
+
+import ast.Program;
+
+import java.util.function.Consumer;
+
+import static phase.CompilerState.EXIT_FAILURE;
+
+/**
+ * Hands the freshly parsed AST to a consumer, e.g. to store a snapshot of it, before
+ * any later phase annotates it. Skipped along with scanning and parsing when the
+ * compilation starts from an existing AST.
+ */
+public final class SnapshotPhase implements CompilerPhase {
+    private final Consumer<Program> consumer;
+
+    public SnapshotPhase(final Consumer<Program> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public boolean buildsAst() {
+        return true;
+    }
+
+    @Override
+    public CompilerState run(final CompilerState inputState) {
+        assert inputState.getStatus() != EXIT_FAILURE;
+        assert inputState.getAst() != null;
+
+        consumer.accept(inputState.getAst());
+        return inputState;
+    }
+}
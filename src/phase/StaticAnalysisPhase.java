@@ -29,7 +29,7 @@ public final class StaticAnalysisPhase implements CompilerPhase {
         Logger logger = null;
         SymbolContext symbolContext = null;
         try {
-            logger = Logger.getInstance();
+            logger = inputState.getLogger() != null ? inputState.getLogger() : Logger.getInstance();
             logger.start(inputState.getSourceFile().getName());
             symbolContext = SymbolContext.create();
 
@@ -52,12 +52,8 @@ public final class StaticAnalysisPhase implements CompilerPhase {
             e.printStackTrace();
         }
 
-        return CompilerState.builder()
+        return inputState.toBuilder()
                 .status(status)
-                .sourceFile(inputState.getSourceFile())
-                .scanner(inputState.getScanner())
-                .symbolFactory(inputState.getSymbolFactory())
-                .ast(inputState.getAst())
                 .logger(logger)
                 .symbolContext(symbolContext)
                 .build();
@@ -0,0 +1,99 @@
+package scanner;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A reader over a source file which decodes straight into the caller's buffer,
+ * i.e. the scanner's, without the intermediate byte and char buffers of a
+ * <code>BufferedReader(InputStreamReader(FileInputStream))</code> chain. Large files
+ * are memory-mapped; small files, for which mapping costs more than it saves, are
+ * read in a single call. Like {@link java.io.InputStreamReader}, the file is decoded
+ * with the platform charset, replacing malformed input.
+ */
+public final class MappedSourceReader extends Reader {
+    /** Files of at least this size are memory-mapped. */
+    private static final long MAP_THRESHOLD = 256 * 1024;
+
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decoder;
+    private final CharBuffer spill = CharBuffer.allocate(2);
+    private boolean flushed;
+
+    /**
+     * Opens the specified source file. The file is not held open: a mapping stays
+     * valid after its channel is closed.
+     * @throws IOException If the file cannot be read.
+     */
+    public static MappedSourceReader open(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Source file too large: " + path);
+            }
+            if (size >= MAP_THRESHOLD) {
+                return new MappedSourceReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+            var buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until full, or until the file turns out shorter than reported
+            }
+            return new MappedSourceReader(buffer.flip());
+        }
+    }
+
+    private MappedSourceReader(ByteBuffer bytes) {
+        this.bytes = bytes;
+        this.decoder = Charset.defaultCharset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.spill.limit(0);
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        var out = CharBuffer.wrap(buffer, offset, length);
+        if (spill.hasRemaining()) {  // the low surrogate of a pair that did not fit last time
+            out.put(spill.get());
+        }
+        if (!flushed) {
+            decode(out);
+        }
+        if (out.position() == offset && !flushed) {
+            // no room for a surrogate pair: decode it aside and hand out its first half
+            spill.clear();
+            decode(spill);
+            spill.flip();
+            if (spill.hasRemaining()) {
+                out.put(spill.get());
+            }
+        }
+
+        int count = out.position() - offset;
+        return count == 0 ? -1 : count;
+    }
+
+    private void decode(CharBuffer out) {
+        var result = decoder.decode(bytes, out, true);
+        if (result.isUnderflow() && decoder.flush(out).isUnderflow()) {
+            flushed = true;
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to release: the mapping is unmapped once this reader is unreachable
+    }
+}
@@ -0,0 +1,39 @@
+package scanner;
+
+import java_cup.runtime.ComplexSymbolFactory;
+
+import java.io.Reader;
+
+/**
+ * Keeps one idle {@link scanner} per thread, so that a thread compiling many files
+ * resets a single scanner instead of allocating a new one, with a new buffer, per file.
+ */
+public final class ScannerPool {
+    private static final ThreadLocal<scanner> idle = new ThreadLocal<>();
+
+    private ScannerPool() {}
+
+    /**
+     * @return A scanner reading from the specified input, creating symbols through the
+     *         specified factory. It must not be used after it is {@link #release released}.
+     */
+    public static scanner acquire(Reader in, ComplexSymbolFactory symbolFactory) {
+        var s = idle.get();
+        if (s == null) {
+            return new scanner(in, symbolFactory);
+        }
+        idle.remove();
+        s.reset(in, symbolFactory);
+        return s;
+    }
+
+    /**
+     * Returns the specified scanner to the calling thread's pool, once it is no longer used.
+     */
+    public static void release(scanner s) {
+        if (s != null) {
+            s.reset(Reader.nullReader(), null);  // drop the input, which may hold a mapped file
+            idle.set(s);
+        }
+    }
+}
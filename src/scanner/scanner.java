@@ -0,0 +1,1368 @@
+// DO NOT EDIT
+// Generated by JFlex 1.8.2 http://jflex.de/
+// source: src/scanner/java.jflex
+
+package scanner;
+
+import java_cup.runtime.Symbol;
+import java_cup.runtime.ComplexSymbolFactory;
+import java_cup.runtime.ComplexSymbolFactory.ComplexSymbol;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+import parser.sym;
+
+
+// See https://github.com/jflex-de/jflex/issues/222
+@SuppressWarnings("FallThrough")
+public final class scanner implements java_cup.runtime.Scanner {
+
+  /** This character denotes the end of file. */
+  public static final int YYEOF = -1;
+
+  /** Initial size of the lookahead buffer. */
+  private static final int ZZ_BUFFERSIZE = 16384;
+
+  // Lexical states.
+  public static final int YYINITIAL = 0;
+
+  /**
+   * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
+   * ZZ_LEXSTATE[l+1] is the state in the DFA for the lexical state l
+   *                  at the beginning of a line
+   * l is of the form l = 2*k, k a non negative integer
+   */
+  private static final int ZZ_LEXSTATE[] = {
+     0, 0
+  };
+
+  /**
+   * Top-level table for translating characters to character classes
+   */
+  private static final int [] ZZ_CMAP_TOP = zzUnpackcmap_top();
+
+  private static final String ZZ_CMAP_TOP_PACKED_0 =
+    "\1\0\37\u0100\1\u0200\267\u0100\10\u0300\u1020\u0100";
+
+  private static int [] zzUnpackcmap_top() {
+    int [] result = new int[4352];
+    int offset = 0;
+    offset = zzUnpackcmap_top(ZZ_CMAP_TOP_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackcmap_top(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+
+  /**
+   * Second-level tables for translating characters to character classes
+   */
+  private static final int [] ZZ_CMAP_BLOCKS = zzUnpackcmap_blocks();
+
+  private static final String ZZ_CMAP_BLOCKS_PACKED_0 =
+    "\11\0\1\1\1\2\2\3\1\2\22\0\1\1\1\4"+
+    "\1\5\2\0\1\6\1\7\1\0\1\10\1\11\1\12"+
+    "\1\13\1\14\1\15\1\16\1\17\1\20\11\21\1\22"+
+    "\1\23\1\24\1\25\1\26\1\27\1\0\22\30\1\31"+
+    "\7\30\1\32\1\33\1\34\1\35\1\36\1\0\1\37"+
+    "\1\40\1\41\1\42\1\43\1\44\1\45\1\46\1\47"+
+    "\1\30\1\50\1\51\1\52\1\53\1\54\1\55\1\30"+
+    "\1\56\1\57\1\60\1\61\1\62\1\63\1\64\1\65"+
+    "\1\30\1\66\1\67\1\70\1\71\6\0\1\3\u01a2\0"+
+    "\2\3\326\0\u0100\3";
+
+  private static int [] zzUnpackcmap_blocks() {
+    int [] result = new int[1024];
+    int offset = 0;
+    offset = zzUnpackcmap_blocks(ZZ_CMAP_BLOCKS_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackcmap_blocks(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+  /**
+   * Translates DFA states to action switch labels.
+   */
+  private static final int [] ZZ_ACTION = zzUnpackAction();
+
+  private static final String ZZ_ACTION_PACKED_0 =
+    "\1\0\1\1\1\2\1\3\1\1\1\4\1\5\1\6"+
+    "\1\7\1\10\1\11\1\12\1\13\1\14\1\15\2\16"+
+    "\1\17\1\20\1\21\1\22\1\23\1\24\2\25\1\26"+
+    "\1\27\1\30\17\25\1\31\1\32\1\33\1\34\1\35"+
+    "\1\0\1\36\1\0\1\37\1\40\1\41\1\42\1\43"+
+    "\1\44\1\45\1\46\1\0\1\47\1\50\1\51\1\52"+
+    "\1\53\1\54\1\55\2\25\2\0\1\56\1\57\11\25"+
+    "\1\60\16\25\1\61\1\62\1\36\1\0\1\63\1\64"+
+    "\1\65\2\25\2\0\10\25\1\66\1\25\1\67\2\25"+
+    "\1\70\12\25\1\47\1\71\2\25\2\0\1\56\2\25"+
+    "\1\72\2\25\1\73\4\25\1\74\1\75\5\25\1\76"+
+    "\1\77\1\100\3\25\1\0\1\25\1\101\1\102\2\25"+
+    "\1\103\5\25\1\104\1\25\1\105\1\106\1\25\3\0"+
+    "\1\56\4\25\1\107\1\110\1\111\1\112\1\113\2\0"+
+    "\1\56\1\114\1\115\1\116\1\25\2\0\1\25\1\0"+
+    "\1\25\1\0\1\117\7\0\1\120";
+
+  private static int [] zzUnpackAction() {
+    int [] result = new int[214];
+    int offset = 0;
+    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackAction(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+
+  /**
+   * Translates a state to a row index in the transition table
+   */
+  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
+
+  private static final String ZZ_ROWMAP_PACKED_0 =
+    "\0\0\0\72\0\164\0\256\0\350\0\u0122\0\u015c\0\72"+
+    "\0\72\0\u0196\0\u01d0\0\72\0\u020a\0\72\0\u0244\0\72"+
+    "\0\u027e\0\72\0\72\0\u02b8\0\u02f2\0\u032c\0\72\0\u0366"+
+    "\0\u03a0\0\u03da\0\72\0\u0414\0\u044e\0\u0488\0\u04c2\0\u04fc"+
+    "\0\u0536\0\u0570\0\u05aa\0\u05e4\0\u061e\0\u0658\0\u0692\0\u06cc"+
+    "\0\u0706\0\u0740\0\u077a\0\72\0\u07b4\0\72\0\72\0\72"+
+    "\0\350\0\72\0\u07ee\0\72\0\72\0\72\0\72\0\72"+
+    "\0\72\0\72\0\72\0\u0828\0\u0862\0\72\0\u089c\0\72"+
+    "\0\72\0\72\0\u08d6\0\u0910\0\u094a\0\u03da\0\u0984\0\72"+
+    "\0\72\0\u09be\0\u09f8\0\u0a32\0\u0a6c\0\u0aa6\0\u0ae0\0\u0b1a"+
+    "\0\u0b54\0\u0b8e\0\u0366\0\u0bc8\0\u0c02\0\u0c3c\0\u0c76\0\u0cb0"+
+    "\0\u0cea\0\u0d24\0\u0d5e\0\u0d98\0\u0dd2\0\u0e0c\0\u0e46\0\u0e80"+
+    "\0\u0eba\0\72\0\72\0\350\0\u0ef4\0\72\0\72\0\u0f2e"+
+    "\0\u0f68\0\u0fa2\0\u0fdc\0\u1016\0\u1050\0\u108a\0\u10c4\0\u10fe"+
+    "\0\u1138\0\u1172\0\u11ac\0\u11e6\0\u0366\0\u1220\0\u0366\0\u125a"+
+    "\0\u1294\0\u0366\0\u12ce\0\u1308\0\u1342\0\u137c\0\u13b6\0\u13f0"+
+    "\0\u142a\0\u1464\0\u149e\0\u14d8\0\72\0\72\0\u1512\0\u154c"+
+    "\0\u1586\0\u15c0\0\u1016\0\u15fa\0\u1634\0\u0366\0\u166e\0\u16a8"+
+    "\0\u0366\0\u16e2\0\u171c\0\u1756\0\u1790\0\u0366\0\u0366\0\u17ca"+
+    "\0\u1804\0\u183e\0\u1878\0\u18b2\0\u0366\0\u0366\0\u0366\0\u18ec"+
+    "\0\u1926\0\u1960\0\u199a\0\u19d4\0\u0366\0\u0366\0\u1a0e\0\u1a48"+
+    "\0\u0366\0\u1a82\0\u1abc\0\u1af6\0\u1b30\0\u1b6a\0\u0366\0\u1ba4"+
+    "\0\u0366\0\u0366\0\u1bde\0\u1c18\0\u1c52\0\u1c8c\0\u199a\0\u1cc6"+
+    "\0\u1d00\0\u1d3a\0\u1d74\0\u0366\0\u0366\0\u0366\0\u0366\0\u0366"+
+    "\0\u1dae\0\u1de8\0\u0fdc\0\u0366\0\u0366\0\u0366\0\u1e22\0\u1e5c"+
+    "\0\u1e96\0\u1ed0\0\u1f0a\0\u1f44\0\u1f7e\0\u0366\0\u1fb8\0\u1ff2"+
+    "\0\u202c\0\u2066\0\u20a0\0\u20da\0\u2114\0\72";
+
+  private static int [] zzUnpackRowMap() {
+    int [] result = new int[214];
+    int offset = 0;
+    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
+    int i = 0;  /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int high = packed.charAt(i++) << 16;
+      result[j++] = high | packed.charAt(i++);
+    }
+    return j;
+  }
+
+  /**
+   * The transition table of the DFA
+   */
+  private static final int [] ZZ_TRANS = zzUnpackTrans();
+
+  private static final String ZZ_TRANS_PACKED_0 =
+    "\1\2\2\3\1\0\1\4\1\5\1\6\1\7\1\10"+
+    "\1\11\1\12\1\13\1\14\1\15\1\16\1\17\1\20"+
+    "\1\21\1\22\1\23\1\24\1\25\1\26\1\27\1\30"+
+    "\1\31\1\32\1\2\1\33\1\34\1\2\1\30\1\35"+
+    "\1\36\1\37\1\40\1\41\2\30\1\42\1\30\1\43"+
+    "\1\44\1\45\1\30\1\46\1\47\1\50\1\51\1\30"+
+    "\1\52\1\53\2\30\1\54\1\55\1\56\1\57\73\0"+
+    "\2\3\114\0\1\60\44\0\5\61\1\62\25\61\1\63"+
+    "\36\61\25\0\1\64\53\0\1\65\15\0\1\66\71\0"+
+    "\1\67\57\0\1\70\11\0\1\71\61\0\1\72\7\0"+
+    "\1\73\56\0\1\74\4\0\1\75\5\0\1\76\64\0"+
+    "\2\21\74\0\1\77\1\100\71\0\1\101\71\0\1\102"+
+    "\1\103\63\0\2\30\6\0\2\30\4\0\30\30\24\0"+
+    "\2\30\6\0\2\30\4\0\22\30\1\104\4\30\1\105"+
+    "\5\0\2\106\14\0\1\107\14\0\1\110\62\0\1\111"+
+    "\64\0\2\30\6\0\2\30\4\0\16\30\1\112\1\30"+
+    "\1\113\7\30\24\0\2\30\6\0\2\30\4\0\1\30"+
+    "\1\114\11\30\1\115\14\30\24\0\2\30\6\0\2\30"+
+    "\4\0\5\30\1\116\22\30\24\0\2\30\6\0\2\30"+
+    "\4\0\13\30\1\117\12\30\1\120\1\30\24\0\2\30"+
+    "\6\0\2\30\4\0\1\30\1\121\14\30\1\122\11\30"+
+    "\24\0\2\30\6\0\2\30\4\0\6\30\1\123\6\30"+
+    "\1\124\12\30\24\0\2\30\6\0\2\30\4\0\5\30"+
+    "\1\125\22\30\24\0\2\30\6\0\2\30\4\0\1\30"+
+    "\1\126\26\30\24\0\2\30\6\0\2\30\4\0\5\30"+
+    "\1\127\15\30\1\130\4\30\24\0\2\30\6\0\2\30"+
+    "\4\0\23\30\1\131\4\30\24\0\2\30\6\0\2\30"+
+    "\4\0\5\30\1\132\22\30\24\0\2\30\6\0\2\30"+
+    "\4\0\22\30\1\133\1\134\1\30\1\135\2\30\24\0"+
+    "\2\30\6\0\2\30\4\0\10\30\1\136\7\30\1\137"+
+    "\7\30\24\0\2\30\6\0\2\30\4\0\16\30\1\140"+
+    "\11\30\24\0\2\30\6\0\2\30\4\0\10\30\1\141"+
+    "\17\30\31\0\1\142\41\0\1\143\2\0\5\61\1\144"+
+    "\25\61\1\63\36\61\12\74\1\145\57\74\2\75\1\0"+
+    "\67\75\25\0\1\146\71\0\1\147\1\150\63\0\2\30"+
+    "\6\0\2\30\4\0\20\30\1\151\7\30\24\0\2\30"+
+    "\6\0\2\30\4\0\21\30\1\152\6\30\16\0\1\153"+
+    "\4\0\1\154\72\0\2\30\6\0\2\30\4\0\16\30"+
+    "\1\155\11\30\24\0\2\30\6\0\2\30\4\0\5\30"+
+    "\1\156\22\30\24\0\2\30\6\0\2\30\4\0\21\30"+
+    "\1\157\6\30\24\0\2\30\6\0\2\30\4\0\1\30"+
+    "\1\160\26\30\24\0\2\30\6\0\2\30\4\0\6\30"+
+    "\1\161\21\30\24\0\2\30\6\0\2\30\4\0\21\30"+
+    "\1\162\6\30\24\0\2\30\6\0\2\30\4\0\22\30"+
+    "\1\163\5\30\24\0\2\30\6\0\2\30\4\0\13\30"+
+    "\1\164\14\30\24\0\2\30\6\0\2\30\4\0\20\30"+
+    "\1\165\7\30\24\0\2\30\6\0\2\30\4\0\21\30"+
+    "\1\166\1\167\5\30\24\0\2\30\6\0\2\30\4\0"+
+    "\15\30\1\170\12\30\24\0\2\30\6\0\2\30\4\0"+
+    "\11\30\1\171\16\30\24\0\2\30\6\0\2\30\4\0"+
+    "\25\30\1\172\2\30\24\0\2\30\6\0\2\30\4\0"+
+    "\13\30\1\173\14\30\24\0\2\30\6\0\2\30\4\0"+
+    "\2\30\1\174\25\30\24\0\2\30\6\0\2\30\4\0"+
+    "\22\30\1\175\5\30\24\0\2\30\6\0\2\30\4\0"+
+    "\1\30\1\176\26\30\24\0\2\30\6\0\2\30\4\0"+
+    "\17\30\1\177\10\30\24\0\2\30\6\0\2\30\4\0"+
+    "\11\30\1\200\16\30\24\0\2\30\6\0\2\30\4\0"+
+    "\11\30\1\201\16\30\24\0\2\30\6\0\2\30\4\0"+
+    "\23\30\1\202\4\30\24\0\2\30\6\0\2\30\4\0"+
+    "\11\30\1\203\16\30\24\0\2\30\6\0\2\30\4\0"+
+    "\11\30\1\204\16\30\4\0\12\74\1\145\4\74\1\205"+
+    "\52\74\25\0\1\206\64\0\2\30\6\0\2\30\4\0"+
+    "\11\30\1\207\16\30\24\0\2\30\6\0\2\30\4\0"+
+    "\22\30\1\210\5\30\4\0\12\153\1\211\57\153\2\154"+
+    "\1\106\14\154\1\212\14\154\1\213\35\154\20\0\2\30"+
+    "\6\0\2\30\4\0\13\30\1\214\14\30\24\0\2\30"+
+    "\6\0\2\30\4\0\1\30\1\215\26\30\24\0\2\30"+
+    "\6\0\2\30\4\0\5\30\1\216\22\30\24\0\2\30"+
+    "\6\0\2\30\4\0\21\30\1\217\6\30\24\0\2\30"+
+    "\6\0\2\30\4\0\1\30\1\220\26\30\24\0\2\30"+
+    "\6\0\2\30\4\0\5\30\1\221\22\30\24\0\2\30"+
+    "\6\0\2\30\4\0\5\30\1\222\22\30\24\0\2\30"+
+    "\6\0\2\30\4\0\21\30\1\223\6\30\24\0\2\30"+
+    "\6\0\2\30\4\0\22\30\1\224\5\30\24\0\2\30"+
+    "\6\0\2\30\4\0\7\30\1\225\20\30\24\0\2\30"+
+    "\6\0\2\30\4\0\15\30\1\226\12\30\24\0\2\30"+
+    "\6\0\2\30\4\0\13\30\1\227\14\30\24\0\2\30"+
+    "\6\0\2\30\4\0\13\30\1\230\14\30\24\0\2\30"+
+    "\6\0\2\30\4\0\23\30\1\231\4\30\24\0\2\30"+
+    "\6\0\2\30\4\0\22\30\1\232\5\30\24\0\2\30"+
+    "\6\0\2\30\4\0\5\30\1\233\22\30\24\0\2\30"+
+    "\6\0\2\30\4\0\22\30\1\234\5\30\24\0\2\30"+
+    "\6\0\2\30\4\0\21\30\1\235\6\30\24\0\2\30"+
+    "\6\0\2\30\4\0\5\30\1\236\22\30\24\0\2\30"+
+    "\6\0\2\30\4\0\4\30\1\237\23\30\24\0\2\30"+
+    "\6\0\2\30\4\0\13\30\1\240\14\30\24\0\2\30"+
+    "\6\0\2\30\4\0\15\30\1\241\12\30\24\0\2\30"+
+    "\6\0\2\30\4\0\5\30\1\242\22\30\4\0\12\153"+
+    "\1\211\4\153\1\106\52\153\2\154\1\106\7\154\1\243"+
+    "\4\154\1\212\14\154\1\213\35\154\20\0\2\30\6\0"+
+    "\2\30\4\0\5\30\1\244\22\30\24\0\2\30\6\0"+
+    "\2\30\4\0\12\30\1\245\15\30\24\0\2\30\6\0"+
+    "\2\30\4\0\21\30\1\246\6\30\24\0\2\30\6\0"+
+    "\2\30\4\0\23\30\1\247\4\30\24\0\2\30\6\0"+
+    "\2\30\4\0\15\30\1\250\12\30\24\0\2\30\6\0"+
+    "\2\30\4\0\5\30\1\251\22\30\24\0\2\30\6\0"+
+    "\2\30\4\0\1\30\1\252\26\30\24\0\2\30\6\0"+
+    "\2\30\4\0\22\30\1\253\5\30\24\0\2\30\6\0"+
+    "\2\30\4\0\11\30\1\254\16\30\24\0\2\30\6\0"+
+    "\2\30\4\0\20\30\1\255\7\30\24\0\2\30\6\0"+
+    "\2\30\4\0\11\30\1\256\16\30\24\0\2\30\6\0"+
+    "\2\30\4\0\20\30\1\257\7\30\24\0\2\30\6\0"+
+    "\2\30\4\0\3\30\1\260\24\30\24\0\2\30\6\0"+
+    "\2\30\4\0\5\30\1\261\22\30\24\0\2\30\6\0"+
+    "\2\30\4\0\7\30\1\262\20\30\24\0\2\30\6\0"+
+    "\2\30\4\0\14\30\1\263\13\30\4\0\2\243\1\264"+
+    "\7\243\1\265\4\243\1\266\14\243\1\267\35\243\20\0"+
+    "\2\30\6\0\2\30\4\0\1\30\1\270\26\30\24\0"+
+    "\2\30\6\0\2\30\4\0\13\30\1\271\14\30\24\0"+
+    "\2\30\6\0\2\30\4\0\4\30\1\272\23\30\24\0"+
+    "\2\30\6\0\2\30\4\0\15\30\1\273\12\30\24\0"+
+    "\2\30\6\0\2\30\4\0\10\30\1\274\17\30\24\0"+
+    "\2\30\6\0\2\30\4\0\3\30\1\275\24\30\24\0"+
+    "\2\30\6\0\2\30\4\0\15\30\1\276\12\30\24\0"+
+    "\2\30\6\0\2\30\4\0\3\30\1\277\24\30\24\0"+
+    "\2\30\6\0\2\30\4\0\10\30\1\300\17\30\22\0"+
+    "\1\301\1\0\2\30\6\0\2\30\4\0\30\30\4\0"+
+    "\1\153\2\264\7\153\1\211\4\153\1\302\14\153\1\303"+
+    "\35\153\2\243\1\264\7\243\1\265\4\243\1\212\14\243"+
+    "\1\267\37\243\1\264\14\243\1\266\14\243\1\267\35\243"+
+    "\20\0\2\30\6\0\2\30\4\0\15\30\1\304\12\30"+
+    "\24\0\2\30\6\0\2\30\4\0\22\30\1\305\5\30"+
+    "\24\0\2\30\6\0\2\30\4\0\21\30\1\306\6\30"+
+    "\24\0\2\30\6\0\2\30\4\0\3\30\1\307\24\30"+
+    "\60\0\1\310\15\0\12\153\1\311\4\153\1\243\52\153"+
+    "\20\0\2\30\6\0\2\30\4\0\5\30\1\312\22\30"+
+    "\65\0\1\313\10\0\12\153\1\211\4\153\1\264\52\153"+
+    "\20\0\2\30\6\0\2\30\4\0\16\30\1\314\11\30"+
+    "\64\0\1\315\31\0\2\30\6\0\2\30\4\0\6\30"+
+    "\1\316\21\30\22\0\1\317\130\0\1\320\72\0\1\321"+
+    "\62\0\1\322\75\0\1\323\76\0\1\324\62\0\1\325"+
+    "\73\0\1\326\16\0";
+
+  private static int [] zzUnpackTrans() {
+    int [] result = new int[8526];
+    int offset = 0;
+    offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackTrans(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      value--;
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+
+  /** Error code for "Unknown internal scanner error". */
+  private static final int ZZ_UNKNOWN_ERROR = 0;
+  /** Error code for "could not match input". */
+  private static final int ZZ_NO_MATCH = 1;
+  /** Error code for "pushback value was too large". */
+  private static final int ZZ_PUSHBACK_2BIG = 2;
+
+  /**
+   * Error messages for {@link #ZZ_UNKNOWN_ERROR}, {@link #ZZ_NO_MATCH}, and
+   * {@link #ZZ_PUSHBACK_2BIG} respectively.
+   */
+  private static final String ZZ_ERROR_MSG[] = {
+    "Unknown internal scanner error",
+    "Error: could not match input",
+    "Error: pushback value was too large"
+  };
+
+  /**
+   * ZZ_ATTRIBUTE[aState] contains the attributes of state {@code aState}
+   */
+  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
+
+  private static final String ZZ_ATTRIBUTE_PACKED_0 =
+    "\1\0\1\11\5\1\2\11\2\1\1\11\1\1\1\11"+
+    "\1\1\1\11\1\1\2\11\3\1\1\11\3\1\1\11"+
+    "\20\1\1\11\1\1\3\11\1\0\1\11\1\0\10\11"+
+    "\1\0\1\1\1\11\1\1\3\11\3\1\2\0\2\11"+
+    "\30\1\2\11\1\1\1\0\2\11\3\1\2\0\30\1"+
+    "\2\11\2\1\2\0\30\1\1\0\20\1\3\0\12\1"+
+    "\2\0\5\1\2\0\1\1\1\0\1\1\1\0\1\1"+
+    "\7\0\1\11";
+
+  private static int [] zzUnpackAttribute() {
+    int [] result = new int[214];
+    int offset = 0;
+    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
+    return result;
+  }
+
+  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      do result[j++] = value; while (--count > 0);
+    }
+    return j;
+  }
+
+  /** Input device. */
+  private java.io.Reader zzReader;
+
+  /** Current state of the DFA. */
+  private int zzState;
+
+  /** Current lexical state. */
+  private int zzLexicalState = YYINITIAL;
+
+  /**
+   * This buffer contains the current text to be matched and is the source of the {@link #yytext()}
+   * string.
+   */
+  private char zzBuffer[] = new char[ZZ_BUFFERSIZE];
+
+  /** Text position at the last accepting state. */
+  private int zzMarkedPos;
+
+  /** Current text position in the buffer. */
+  private int zzCurrentPos;
+
+  /** Marks the beginning of the {@link #yytext()} string in the buffer. */
+  private int zzStartRead;
+
+  /** Marks the last character in the buffer, that has been read from input. */
+  private int zzEndRead;
+
+  /**
+   * Whether the scanner is at the end of file.
+   * @see #yyatEOF
+   */
+  private boolean zzAtEOF;
+
+  /**
+   * The number of occupied positions in {@link #zzBuffer} beyond {@link #zzEndRead}.
+   *
+   * <p>When a lead/high surrogate has been read from the input stream into the final
+   * {@link #zzBuffer} position, this will have a value of 1; otherwise, it will have a value of 0.
+   */
+  private int zzFinalHighSurrogate = 0;
+
+  /** Number of newlines encountered up to the start of the matched text. */
+  private int yyline;
+
+  /** Number of characters from the last newline up to the start of the matched text. */
+  private int yycolumn;
+
+  /** Number of characters up to the start of the matched text. */
+  @SuppressWarnings("unused")
+  private long yychar;
+
+  /** Whether the scanner is currently at the beginning of a line. */
+  @SuppressWarnings("unused")
+  private boolean zzAtBOL = true;
+
+  /** Whether the user-EOF-code has already been executed. */
+  private boolean zzEOFDone;
+
+  /* user code: */
+  /** The CUP symbol factory, typically shared with parser. */
+  private ComplexSymbolFactory symbolFactory = new ComplexSymbolFactory();
+
+  /** Initialize scanner with input stream and a shared symbol factory. */
+  public scanner(java.io.Reader in, ComplexSymbolFactory sf) {
+    this(in);
+    this.symbolFactory = sf;
+  }
+
+  /**
+   * Reset the scanner to the start of a new input stream with a new symbol
+   * factory, so that one instance (and its buffer) can scan many files.
+   */
+  public void reset(java.io.Reader in, ComplexSymbolFactory sf) {
+    yyreset(in);
+    this.symbolFactory = sf;
+  }
+
+  /**
+   * Construct a symbol with a given lexical token, a given
+   * user-controlled datum, and the matched source location.
+   *
+   * @param code     identifier of the lexical token (i.e., sym.<TOKEN>)
+   * @param value    user-controlled datum to associate with this symbol
+   * @effects        constructs new ComplexSymbol via this.symbolFactory
+   * @return         a fresh symbol storing the above-described information
+   */
+  private Symbol symbol(int code, Object value) {
+    // Calculate symbol location
+    int yylen = yylength();
+    Location left = new Location(yyline + 1, yycolumn + 1);
+    Location right = new Location(yyline + 1, yycolumn + yylen);
+    // Calculate symbol name
+    int max_code = sym.terminalNames.length;
+    String name = code < max_code ? sym.terminalNames[code] : "<UNKNOWN(" + yytext() + ")>";
+    return this.symbolFactory.newSymbol(name, code, left, right, value);
+  }
+
+  /**
+   * Construct a symbol with a given lexical token and matched source
+   * location, leaving the user-controlled value field uninitialized.
+   *
+   * @param code     identifier of the lexical token (i.e., sym.<TOKEN>)
+   * @effects        constructs new ComplexSymbol via this.symbolFactory
+   * @return         a fresh symbol storing the above-described information
+   */
+  private Symbol symbol(int code) {
+    // Calculate symbol location
+    int yylen = yylength();
+    Location left = new Location(yyline + 1, yycolumn + 1);
+    Location right = new Location(yyline + 1, yycolumn + yylen);
+    // Calculate symbol name
+    int max_code = sym.terminalNames.length;
+    String name = code < max_code ? sym.terminalNames[code] : "<UNKNOWN(" + yytext() + ")>";
+    return this.symbolFactory.newSymbol(name, code, left, right);
+  }
+
+  /**
+   * Convert the symbol generated by this scanner into a string.
+   *
+   * This method is useful to include information in the string representation
+   * in addition to the plain CUP name for a lexical token.
+   *
+   * @param symbol   symbol instance generated by this scanner
+   * @return         string representation of the symbol
+   */
+   public String symbolToString(Symbol s) {
+     // All symbols generated by this class are ComplexSymbol instances
+     ComplexSymbol cs = (ComplexSymbol)s; 
+     if (cs.sym == sym.IDENTIFIER) {
+       return "ID(" + (String)cs.value + ")";
+     } else if (cs.sym == sym.INT_LITERAL) {
+       return "INT(" + (String)cs.value + ")";
+     } else if (cs.sym == sym.error) {
+       return "<UNEXPECTED(" + (String)cs.value + ")>";
+     } else {
+       return cs.getName();
+     }
+   }
+
+
+  /**
+   * Creates a new scanner
+   *
+   * @param   in  the java.io.Reader to read input from.
+   */
+  public scanner(java.io.Reader in) {
+    this.zzReader = in;
+  }
+
+  /**
+   * Translates raw input code points to DFA table row
+   */
+  private static int zzCMap(int input) {
+    int offset = input & 255;
+    return offset == input ? ZZ_CMAP_BLOCKS[offset] : ZZ_CMAP_BLOCKS[ZZ_CMAP_TOP[input >> 8] | offset];
+  }
+
+  /**
+   * Refills the input buffer.
+   *
+   * @return {@code false} iff there was new input.
+   * @exception java.io.IOException  if any I/O-Error occurs
+   */
+  private boolean zzRefill() throws java.io.IOException {
+
+    /* first: make room (if you can) */
+    if (zzStartRead > 0) {
+      zzEndRead += zzFinalHighSurrogate;
+      zzFinalHighSurrogate = 0;
+      System.arraycopy(zzBuffer, zzStartRead,
+                       zzBuffer, 0,
+                       zzEndRead - zzStartRead);
+
+      /* translate stored positions */
+      zzEndRead -= zzStartRead;
+      zzCurrentPos -= zzStartRead;
+      zzMarkedPos -= zzStartRead;
+      zzStartRead = 0;
+    }
+
+    /* is the buffer big enough? */
+    if (zzCurrentPos >= zzBuffer.length - zzFinalHighSurrogate) {
+      /* if not: blow it up */
+      char newBuffer[] = new char[zzBuffer.length * 2];
+      System.arraycopy(zzBuffer, 0, newBuffer, 0, zzBuffer.length);
+      zzBuffer = newBuffer;
+      zzEndRead += zzFinalHighSurrogate;
+      zzFinalHighSurrogate = 0;
+    }
+
+    /* fill the buffer with new input */
+    int requested = zzBuffer.length - zzEndRead;
+    int numRead = zzReader.read(zzBuffer, zzEndRead, requested);
+
+    /* not supposed to occur according to specification of java.io.Reader */
+    if (numRead == 0) {
+      throw new java.io.IOException(
+          "Reader returned 0 characters. See JFlex examples/zero-reader for a workaround.");
+    }
+    if (numRead > 0) {
+      zzEndRead += numRead;
+      if (Character.isHighSurrogate(zzBuffer[zzEndRead - 1])) {
+        if (numRead == requested) { // We requested too few chars to encode a full Unicode character
+          --zzEndRead;
+          zzFinalHighSurrogate = 1;
+        } else {                    // There is room in the buffer for at least one more char
+          int c = zzReader.read();  // Expecting to read a paired low surrogate char
+          if (c == -1) {
+            return true;
+          } else {
+            zzBuffer[zzEndRead++] = (char)c;
+          }
+        }
+      }
+      /* potentially more input available */
+      return false;
+    }
+
+    /* numRead < 0 ==> end of stream */
+    return true;
+  }
+
+
+  /**
+   * Closes the input reader.
+   *
+   * @throws java.io.IOException if the reader could not be closed.
+   */
+  public final void yyclose() throws java.io.IOException {
+    zzAtEOF = true; // indicate end of file
+    zzEndRead = zzStartRead; // invalidate buffer
+
+    if (zzReader != null) {
+      zzReader.close();
+    }
+  }
+
+
+  /**
+   * Resets the scanner to read from a new input stream.
+   *
+   * <p>Does not close the old reader.
+   *
+   * <p>All internal variables are reset, the old input stream <b>cannot</b> be reused (internal
+   * buffer is discarded and lost). Lexical state is set to {@code ZZ_INITIAL}.
+   *
+   * <p>Internal scan buffer is resized down to its initial length, if it has grown.
+   *
+   * @param reader The new input stream.
+   */
+  public final void yyreset(java.io.Reader reader) {
+    zzReader = reader;
+    zzEOFDone = false;
+    yyResetPosition();
+    zzLexicalState = YYINITIAL;
+    if (zzBuffer.length > ZZ_BUFFERSIZE) {
+      zzBuffer = new char[ZZ_BUFFERSIZE];
+    }
+  }
+
+  /**
+   * Resets the input position.
+   */
+  private final void yyResetPosition() {
+      zzAtBOL  = true;
+      zzAtEOF  = false;
+      zzCurrentPos = 0;
+      zzMarkedPos = 0;
+      zzStartRead = 0;
+      zzEndRead = 0;
+      zzFinalHighSurrogate = 0;
+      yyline = 0;
+      yycolumn = 0;
+      yychar = 0L;
+  }
+
+
+  /**
+   * Returns whether the scanner has reached the end of the reader it reads from.
+   *
+   * @return whether the scanner has reached EOF.
+   */
+  public final boolean yyatEOF() {
+    return zzAtEOF;
+  }
+
+
+  /**
+   * Returns the current lexical state.
+   *
+   * @return the current lexical state.
+   */
+  public final int yystate() {
+    return zzLexicalState;
+  }
+
+
+  /**
+   * Enters a new lexical state.
+   *
+   * @param newState the new lexical state
+   */
+  public final void yybegin(int newState) {
+    zzLexicalState = newState;
+  }
+
+
+  /**
+   * Returns the text matched by the current regular expression.
+   *
+   * @return the matched text.
+   */
+  public final String yytext() {
+    return new String(zzBuffer, zzStartRead, zzMarkedPos-zzStartRead);
+  }
+
+
+  /**
+   * Returns the character at the given position from the matched text.
+   *
+   * <p>It is equivalent to {@code yytext().charAt(pos)}, but faster.
+   *
+   * @param position the position of the character to fetch. A value from 0 to {@code yylength()-1}.
+   *
+   * @return the character at {@code position}.
+   */
+  public final char yycharat(int position) {
+    return zzBuffer[zzStartRead + position];
+  }
+
+
+  /**
+   * How many characters were matched.
+   *
+   * @return the length of the matched text region.
+   */
+  public final int yylength() {
+    return zzMarkedPos-zzStartRead;
+  }
+
+
+  /**
+   * Reports an error that occurred while scanning.
+   *
+   * <p>In a well-formed scanner (no or only correct usage of {@code yypushback(int)} and a
+   * match-all fallback rule) this method will only be called with things that
+   * "Can't Possibly Happen".
+   *
+   * <p>If this method is called, something is seriously wrong (e.g. a JFlex bug producing a faulty
+   * scanner etc.).
+   *
+   * <p>Usual syntax/scanner level error handling should be done in error fallback rules.
+   *
+   * @param errorCode the code of the error message to display.
+   */
+  private static void zzScanError(int errorCode) {
+    String message;
+    try {
+      message = ZZ_ERROR_MSG[errorCode];
+    } catch (ArrayIndexOutOfBoundsException e) {
+      message = ZZ_ERROR_MSG[ZZ_UNKNOWN_ERROR];
+    }
+
+    throw new Error(message);
+  }
+
+
+  /**
+   * Pushes the specified amount of characters back into the input stream.
+   *
+   * <p>They will be read again by then next call of the scanning method.
+   *
+   * @param number the number of characters to be read again. This number must not be greater than
+   *     {@link #yylength()}.
+   */
+  public void yypushback(int number)  {
+    if ( number > yylength() )
+      zzScanError(ZZ_PUSHBACK_2BIG);
+
+    zzMarkedPos -= number;
+  }
+
+
+  /**
+   * Contains user EOF-code, which will be executed exactly once,
+   * when the end of file is reached
+   */
+  private void zzDoEOF() throws java.io.IOException {
+    if (!zzEOFDone) {
+      zzEOFDone = true;
+    
+  yyclose();    }
+  }
+
+
+
+
+  /**
+   * Resumes scanning until the next regular expression is matched, the end of input is encountered
+   * or an I/O-Error occurs.
+   *
+   * @return the next token.
+   * @exception java.io.IOException if any I/O-Error occurs.
+   */
+  @Override  public java_cup.runtime.Symbol next_token() throws java.io.IOException {
+    int zzInput;
+    int zzAction;
+
+    // cached fields:
+    int zzCurrentPosL;
+    int zzMarkedPosL;
+    int zzEndReadL = zzEndRead;
+    char[] zzBufferL = zzBuffer;
+
+    int [] zzTransL = ZZ_TRANS;
+    int [] zzRowMapL = ZZ_ROWMAP;
+    int [] zzAttrL = ZZ_ATTRIBUTE;
+
+    while (true) {
+      zzMarkedPosL = zzMarkedPos;
+
+      boolean zzR = false;
+      int zzCh;
+      int zzCharCount;
+      for (zzCurrentPosL = zzStartRead  ;
+           zzCurrentPosL < zzMarkedPosL ;
+           zzCurrentPosL += zzCharCount ) {
+        zzCh = Character.codePointAt(zzBufferL, zzCurrentPosL, zzMarkedPosL);
+        zzCharCount = Character.charCount(zzCh);
+        switch (zzCh) {
+        case '\u000B':  // fall through
+        case '\u000C':  // fall through
+        case '\u0085':  // fall through
+        case '\u2028':  // fall through
+        case '\u2029':
+          yyline++;
+          yycolumn = 0;
+          zzR = false;
+          break;
+        case '\r':
+          yyline++;
+          yycolumn = 0;
+          zzR = true;
+          break;
+        case '\n':
+          if (zzR)
+            zzR = false;
+          else {
+            yyline++;
+            yycolumn = 0;
+          }
+          break;
+        default:
+          zzR = false;
+          yycolumn += zzCharCount;
+        }
+      }
+
+      if (zzR) {
+        // peek one character ahead if it is
+        // (if we have counted one line too much)
+        boolean zzPeek;
+        if (zzMarkedPosL < zzEndReadL)
+          zzPeek = zzBufferL[zzMarkedPosL] == '\n';
+        else if (zzAtEOF)
+          zzPeek = false;
+        else {
+          boolean eof = zzRefill();
+          zzEndReadL = zzEndRead;
+          zzMarkedPosL = zzMarkedPos;
+          zzBufferL = zzBuffer;
+          if (eof)
+            zzPeek = false;
+          else
+            zzPeek = zzBufferL[zzMarkedPosL] == '\n';
+        }
+        if (zzPeek) yyline--;
+      }
+      zzAction = -1;
+
+      zzCurrentPosL = zzCurrentPos = zzStartRead = zzMarkedPosL;
+
+      zzState = ZZ_LEXSTATE[zzLexicalState];
+
+      // set up zzAction for empty match case:
+      int zzAttributes = zzAttrL[zzState];
+      if ( (zzAttributes & 1) == 1 ) {
+        zzAction = zzState;
+      }
+
+
+      zzForAction: {
+        while (true) {
+
+          if (zzCurrentPosL < zzEndReadL) {
+            zzInput = Character.codePointAt(zzBufferL, zzCurrentPosL, zzEndReadL);
+            zzCurrentPosL += Character.charCount(zzInput);
+          }
+          else if (zzAtEOF) {
+            zzInput = YYEOF;
+            break zzForAction;
+          }
+          else {
+            // store back cached positions
+            zzCurrentPos  = zzCurrentPosL;
+            zzMarkedPos   = zzMarkedPosL;
+            boolean eof = zzRefill();
+            // get translated positions and possibly new buffer
+            zzCurrentPosL  = zzCurrentPos;
+            zzMarkedPosL   = zzMarkedPos;
+            zzBufferL      = zzBuffer;
+            zzEndReadL     = zzEndRead;
+            if (eof) {
+              zzInput = YYEOF;
+              break zzForAction;
+            }
+            else {
+              zzInput = Character.codePointAt(zzBufferL, zzCurrentPosL, zzEndReadL);
+              zzCurrentPosL += Character.charCount(zzInput);
+            }
+          }
+          int zzNext = zzTransL[ zzRowMapL[zzState] + zzCMap(zzInput) ];
+          if (zzNext == -1) break zzForAction;
+          zzState = zzNext;
+
+          zzAttributes = zzAttrL[zzState];
+          if ( (zzAttributes & 1) == 1 ) {
+            zzAction = zzState;
+            zzMarkedPosL = zzCurrentPosL;
+            if ( (zzAttributes & 8) == 8 ) break zzForAction;
+          }
+
+        }
+      }
+
+      // store back cached position
+      zzMarkedPos = zzMarkedPosL;
+
+      if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
+        zzAtEOF = true;
+            zzDoEOF();
+              {
+                return symbol(sym.EOF);
+              }
+      }
+      else {
+        switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
+          case 1:
+            { System.err.printf(
+      "Unexpected character '%s' on line %d at column %d of input.%n",
+      yytext(), yyline + 1, yycolumn + 1
+    );
+    return symbol(sym.error, yytext());
+            }
+            // fall through
+          case 81: break;
+          case 2:
+            { /* ignore whitespace */
+            }
+            // fall through
+          case 82: break;
+          case 3:
+            { return symbol(sym.NOT);
+            }
+            // fall through
+          case 83: break;
+          case 4:
+            { return symbol(sym.MOD);
+            }
+            // fall through
+          case 84: break;
+          case 5:
+            { return symbol(sym.BITWISE_AND);
+            }
+            // fall through
+          case 85: break;
+          case 6:
+            { return symbol(sym.LPAREN);
+            }
+            // fall through
+          case 86: break;
+          case 7:
+            { return symbol(sym.RPAREN);
+            }
+            // fall through
+          case 87: break;
+          case 8:
+            { return symbol(sym.TIMES);
+            }
+            // fall through
+          case 88: break;
+          case 9:
+            { return symbol(sym.PLUS);
+            }
+            // fall through
+          case 89: break;
+          case 10:
+            { return symbol(sym.COMMA);
+            }
+            // fall through
+          case 90: break;
+          case 11:
+            { return symbol(sym.MINUS);
+            }
+            // fall through
+          case 91: break;
+          case 12:
+            { return symbol(sym.DOT);
+            }
+            // fall through
+          case 92: break;
+          case 13:
+            { return symbol(sym.DIV);
+            }
+            // fall through
+          case 93: break;
+          case 14:
+            { return symbol(sym.INT_LITERAL, yytext());
+            }
+            // fall through
+          case 94: break;
+          case 15:
+            { return symbol(sym.COLON);
+            }
+            // fall through
+          case 95: break;
+          case 16:
+            { return symbol(sym.SEMICOLON);
+            }
+            // fall through
+          case 96: break;
+          case 17:
+            { return symbol(sym.LESS_THAN);
+            }
+            // fall through
+          case 97: break;
+          case 18:
+            { return symbol(sym.ASSIGN);
+            }
+            // fall through
+          case 98: break;
+          case 19:
+            { return symbol(sym.GREATER_THAN);
+            }
+            // fall through
+          case 99: break;
+          case 20:
+            { return symbol(sym.QUESTION);
+            }
+            // fall through
+          case 100: break;
+          case 21:
+            { return symbol(sym.IDENTIFIER, yytext());
+            }
+            // fall through
+          case 101: break;
+          case 22:
+            { return symbol(sym.LSQUARE);
+            }
+            // fall through
+          case 102: break;
+          case 23:
+            { return symbol(sym.RSQUARE);
+            }
+            // fall through
+          case 103: break;
+          case 24:
+            { return symbol(sym.BITWISE_XOR);
+            }
+            // fall through
+          case 104: break;
+          case 25:
+            { return symbol(sym.LCURL);
+            }
+            // fall through
+          case 105: break;
+          case 26:
+            { return symbol(sym.BITWISE_OR);
+            }
+            // fall through
+          case 106: break;
+          case 27:
+            { return symbol(sym.RCURL);
+            }
+            // fall through
+          case 107: break;
+          case 28:
+            { return symbol(sym.BITWISE_NOT);
+            }
+            // fall through
+          case 108: break;
+          case 29:
+            { return symbol(sym.IS_NOT_EQUAL);
+            }
+            // fall through
+          case 109: break;
+          case 30:
+            { String s = yytext();
+  // remove quotes
+  return symbol(sym.STRING_LITERAL, s.substring(1, s.length() - 1));
+            }
+            // fall through
+          case 110: break;
+          case 31:
+            { return symbol(sym.ASSIGN_MOD);
+            }
+            // fall through
+          case 111: break;
+          case 32:
+            { return symbol(sym.AND);
+            }
+            // fall through
+          case 112: break;
+          case 33:
+            { return symbol(sym.ASSIGN_AND);
+            }
+            // fall through
+          case 113: break;
+          case 34:
+            { return symbol(sym.ASSIGN_TIMES);
+            }
+            // fall through
+          case 114: break;
+          case 35:
+            { return symbol(sym.INCREMENT);
+            }
+            // fall through
+          case 115: break;
+          case 36:
+            { return symbol(sym.ASSIGN_PLUS);
+            }
+            // fall through
+          case 116: break;
+          case 37:
+            { return symbol(sym.DECREMENT);
+            }
+            // fall through
+          case 117: break;
+          case 38:
+            { return symbol(sym.ASSIGN_MINUS);
+            }
+            // fall through
+          case 118: break;
+          case 39:
+            { /* ignore comments */
+            }
+            // fall through
+          case 119: break;
+          case 40:
+            { return symbol(sym.ASSIGN_DIV);
+            }
+            // fall through
+          case 120: break;
+          case 41:
+            { return symbol(sym.LSHIFT);
+            }
+            // fall through
+          case 121: break;
+          case 42:
+            { return symbol(sym.LESS_THAN_OR_EQUAL);
+            }
+            // fall through
+          case 122: break;
+          case 43:
+            { return symbol(sym.IS_EQUAL);
+            }
+            // fall through
+          case 123: break;
+          case 44:
+            { return symbol(sym.GREATER_THAN_OR_EQUAL);
+            }
+            // fall through
+          case 124: break;
+          case 45:
+            { return symbol(sym.RSHIFT);
+            }
+            // fall through
+          case 125: break;
+          case 46:
+            { return symbol(sym.ARRAY);
+            }
+            // fall through
+          case 126: break;
+          case 47:
+            { return symbol(sym.ASSIGN_XOR);
+            }
+            // fall through
+          case 127: break;
+          case 48:
+            { return symbol(sym.IF);
+            }
+            // fall through
+          case 128: break;
+          case 49:
+            { return symbol(sym.ASSIGN_OR);
+            }
+            // fall through
+          case 129: break;
+          case 50:
+            { return symbol(sym.OR);
+            }
+            // fall through
+          case 130: break;
+          case 51:
+            { return symbol(sym.ASSIGN_LSHIFT);
+            }
+            // fall through
+          case 131: break;
+          case 52:
+            { return symbol(sym.ASSIGN_RSHIFT);
+            }
+            // fall through
+          case 132: break;
+          case 53:
+            { return symbol(sym.URSHIFT);
+            }
+            // fall through
+          case 133: break;
+          case 54:
+            { return symbol(sym.FOR);
+            }
+            // fall through
+          case 134: break;
+          case 55:
+            { return symbol(sym.INT);
+            }
+            // fall through
+          case 135: break;
+          case 56:
+            { return symbol(sym.NEW);
+            }
+            // fall through
+          case 136: break;
+          case 57:
+            { return symbol(sym.ASSIGN_URSHIFT);
+            }
+            // fall through
+          case 137: break;
+          case 58:
+            { return symbol(sym.CASE);
+            }
+            // fall through
+          case 138: break;
+          case 59:
+            { return symbol(sym.ELSE);
+            }
+            // fall through
+          case 139: break;
+          case 60:
+            { return symbol(sym.MAIN);
+            }
+            // fall through
+          case 140: break;
+          case 61:
+            { return symbol(sym.NULL);
+            }
+            // fall through
+          case 141: break;
+          case 62:
+            { return symbol(sym.THIS);
+            }
+            // fall through
+          case 142: break;
+          case 63:
+            { return symbol(sym.TRUE);
+            }
+            // fall through
+          case 143: break;
+          case 64:
+            { return symbol(sym.VOID);
+            }
+            // fall through
+          case 144: break;
+          case 65:
+            { return symbol(sym.BREAK);
+            }
+            // fall through
+          case 145: break;
+          case 66:
+            { return symbol(sym.CLASS);
+            }
+            // fall through
+          case 146: break;
+          case 67:
+            { return symbol(sym.FALSE);
+            }
+            // fall through
+          case 147: break;
+          case 68:
+            { return symbol(sym.SUPER);
+            }
+            // fall through
+          case 148: break;
+          case 69:
+            { return symbol(sym.WHILE);
+            }
+            // fall through
+          case 149: break;
+          case 70:
+            { return symbol(sym.STRING);
+            }
+            // fall through
+          case 150: break;
+          case 71:
+            { return symbol(sym.LENGTH);
+            }
+            // fall through
+          case 151: break;
+          case 72:
+            { return symbol(sym.PUBLIC);
+            }
+            // fall through
+          case 152: break;
+          case 73:
+            { return symbol(sym.RETURN);
+            }
+            // fall through
+          case 153: break;
+          case 74:
+            { return symbol(sym.STATIC);
+            }
+            // fall through
+          case 154: break;
+          case 75:
+            { return symbol(sym.SWITCH);
+            }
+            // fall through
+          case 155: break;
+          case 76:
+            { return symbol(sym.BOOLEAN);
+            }
+            // fall through
+          case 156: break;
+          case 77:
+            { return symbol(sym.DEFAULT);
+            }
+            // fall through
+          case 157: break;
+          case 78:
+            { return symbol(sym.EXTENDS);
+            }
+            // fall through
+          case 158: break;
+          case 79:
+            { return symbol(sym.INSTANCEOF);
+            }
+            // fall through
+          case 159: break;
+          case 80:
+            { return symbol(sym.PRINT);
+            }
+            // fall through
+          case 160: break;
+          default:
+            zzScanError(ZZ_NO_MATCH);
+        }
+      }
+    }
+  }
+
+
+}
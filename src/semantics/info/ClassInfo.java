@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 import semantics.table.SymbolTable;
 import semantics.table.TableType;
+import semantics.type.TypeObject;
 
 import java.util.*;
 
@@ -22,6 +23,13 @@ public final class ClassInfo extends Info {
     @Getter
     private final Set<ClassInfo> children;
 
+    @Getter
+    private final TypeObject type;  // the type of the instances of this class
+
+    // the superclasses of this class, from the root of its hierarchy down to this class itself,
+    // once the hierarchy is complete
+    private ClassInfo[] superclasses;
+
     private MethodInfo[] vtable;
     private int variableCount;
     private final List<VariableInfo> instanceVariables;
@@ -32,6 +40,7 @@ public final class ClassInfo extends Info {
         this.children = new HashSet<>();
         this.main = main;
         this.instanceVariables = new ArrayList<>();
+        this.type = new TypeObject(this);
     }
 
     /**
@@ -90,6 +99,42 @@ public final class ClassInfo extends Info {
         }
     }
 
+    /**
+     * Records the superclasses of this class, so that {@link #distanceTo} takes constant time.
+     * Those of the superclass of this class must have been recorded already.
+     */
+    public void recordSuperclasses() {
+        if (isDerived() && parent.superclasses == null) {
+            throw new IllegalStateException("cannot record superclasses before parent");
+        }
+
+        int depth = isDerived() ? parent.superclasses.length : 0;
+        superclasses = isDerived() ? Arrays.copyOf(parent.superclasses, depth + 1) : new ClassInfo[1];
+        superclasses[depth] = this;
+    }
+
+    /**
+     * @return The number of steps up the class hierarchy from this class to the specified
+     *         class, which is 0 if it is this class, or -1 if it is not a superclass of this class.
+     */
+    public int distanceTo(ClassInfo superclass) {
+        if (superclasses != null && superclass.superclasses != null) {
+            int depth = superclass.superclasses.length - 1;
+            return depth < superclasses.length && superclasses[depth] == superclass
+                    ? superclasses.length - 1 - depth : -1;
+        }
+
+        // the hierarchy is still being built
+        int distance = 0;
+        for (var c = this; c != null; c = c.isDerived() ? c.parent : null) {
+            if (c == superclass) {
+                return distance;
+            }
+            distance++;
+        }
+        return -1;
+    }
+
     /**
      * Constructs the virtual table for this class.
      */
@@ -1,16 +1,20 @@
 package semantics.info;
 
+import commons.Names;
 import semantics.table.SymbolContext;
 
 public abstract class Info implements Comparable<Info> {
     public final String name;
+    public final int id;  // interned symbol under which this entry is declared
 
     public Info(String name) {
         this.name = name;
+        this.id = Names.intern(name);
     }
 
     public Info(Signature signature) {
         this.name = SymbolContext.SIGNATURE_PREFIX + signature.toString();
+        this.id = signature.getId();
     }
 
     @Override
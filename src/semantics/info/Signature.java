@@ -1,5 +1,6 @@
 package semantics.info;
 
+import commons.Names;
 import lombok.Getter;
 import semantics.table.SymbolContext;
 import semantics.type.Type;
@@ -11,6 +12,10 @@ public final class Signature {
     @Getter
     private final String name;
     @Getter
+    private final int nameId;  // interned name of the class
+    @Getter
+    private final int id;  // interned string form, the key of the constructor
+    @Getter
     private final List<Type> parameters;
 
     public static Signature of(final String name) {
@@ -32,6 +37,8 @@ public final class Signature {
         this.str = sb.toString();
         this.str = this.str.replace("[]", "_$_");
         this.name = name;
+        this.nameId = Names.intern(name);
+        this.id = Names.intern(this.str);
         this.parameters = parameters;
     }
 
@@ -0,0 +1,120 @@
+package semantics.table;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An open-addressing hash map from non-negative int keys to values, iterating in
+ * insertion order. Entries are never removed.
+ * @param <V> Type of the values.
+ */
+final class IntMap<V> implements Iterable<V> {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] slots;  // 1 + index into keys/values, or 0 if empty
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    IntMap() {
+        this.slots = new int[INITIAL_CAPACITY * 2];
+        this.keys = new int[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return The value associated with the specified key, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int mask = slots.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == 0) {
+                return null;
+            }
+            if (keys[slot - 1] == key) {
+                return (V) values[slot - 1];
+            }
+        }
+    }
+
+    boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Associates the specified value with the specified key, unless the key is already present.
+     * @param value The value, which must not be null.
+     * @return Whether the entry was added.
+     */
+    boolean putIfAbsent(int key, V value) {
+        int mask = slots.length - 1;
+        int i = hash(key) & mask;
+        for (int slot = slots[i]; slot != 0; slot = slots[i]) {
+            if (keys[slot - 1] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        if (size == keys.length) {
+            grow();
+            return putIfAbsent(key, value);
+        }
+
+        keys[size] = key;
+        values[size] = value;
+        slots[i] = ++size;
+        return true;
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (V) values[next++];
+            }
+        };
+    }
+
+    /**
+     * Doubles the capacity, keeping the load factor of the slot array at most 1/2.
+     */
+    private void grow() {
+        keys = Arrays.copyOf(keys, keys.length * 2);
+        values = Arrays.copyOf(values, values.length * 2);
+        slots = new int[keys.length * 2];
+
+        int mask = slots.length - 1;
+        for (int e = 0; e < size; e++) {
+            int i = hash(keys[e]) & mask;
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            slots[i] = e + 1;
+        }
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;  // Fibonacci hashing: spreads dense ids over the table
+        return h ^ (h >>> 16);
+    }
+}
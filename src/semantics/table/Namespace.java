@@ -0,0 +1,21 @@
+package semantics.table;
+
+/**
+ * The kinds of symbol table entries, each keyed separately. Classes and variables
+ * share a namespace, since both are referred to by plain identifiers. Tables list
+ * their entries in the order of these constants, so that members come before
+ * variables of the same name.
+ */
+public enum Namespace {
+    METHOD(SymbolContext.METHOD_PREFIX),
+    CONSTRUCTOR(SymbolContext.SIGNATURE_PREFIX),
+    NAME(""),
+    BLOCK(SymbolContext.BLOCK_PREFIX);
+
+    /** Prefix of the namespace's symbols when they are displayed. */
+    final String prefix;
+
+    Namespace(String prefix) {
+        this.prefix = prefix;
+    }
+}
@@ -0,0 +1,28 @@
+package semantics.table;
+
+/**
+ * How many constructor and method resolutions of a {@link SymbolContext} were answered from
+ * its memo of earlier resolutions, and how many had to search the symbol tables.
+ */
+public record ResolutionCounts(long constructorHits, long constructorMisses,
+                               long methodHits, long methodMisses) {
+    public static final ResolutionCounts NONE = new ResolutionCounts(0, 0, 0, 0);
+
+    public ResolutionCounts plus(ResolutionCounts other) {
+        return new ResolutionCounts(constructorHits + other.constructorHits,
+                constructorMisses + other.constructorMisses,
+                methodHits + other.methodHits,
+                methodMisses + other.methodMisses);
+    }
+
+    public long lookups() {
+        return constructorHits + constructorMisses + methodHits + methodMisses;
+    }
+
+    /**
+     * @return The percentage of the specified lookups that were hits, or 0 if there were none.
+     */
+    public static double hitRate(long hits, long misses) {
+        return hits + misses == 0 ? 0.0 : 100.0 * hits / (hits + misses);
+    }
+}
@@ -1,6 +1,7 @@
 package semantics.table;
 
 import commons.Logger;
+import commons.Names;
 import semantics.info.*;
 import semantics.type.TypeVoid;
 
@@ -13,6 +14,8 @@ public final class SymbolContext {
     public static final String SIGNATURE_PREFIX = "@";
     public static final String CONSTRUCTOR_POSTFIX = "$$";
     public static final String PARAM_SEPARATOR = "$";
+    public static final int MAIN = Names.reserve("main");
+    public static final int THIS = Names.reserve("this");
 
     public static SymbolContext create() {
         return new SymbolContext();
@@ -27,21 +30,33 @@ public final class SymbolContext {
     private ConstructorInfo currentConstructor;
     private Stack<BlockInfo> currentBlocks;
 
+    // resolutions memoized by class, then by the interned signature of the argument types
+    // of a constructor invocation, or by the interned name of a method, including those
+    // which failed to resolve
+    private final Map<ClassInfo, IntMap<Optional<ConstructorInfo>>> constructorResolutions;
+    private final Map<ClassInfo, IntMap<Optional<MethodInfo>>> methodResolutions;
+    private long constructorHits;
+    private long constructorMisses;
+    private long methodHits;
+    private long methodMisses;
+
     private SymbolContext() {
         this.logger = Logger.getInstance();
         this.table = new SymbolTable();
         this.global = this.table;
         this.contexts = new Stack<>();
         this.currentBlocks = new Stack<>();
+        this.constructorResolutions = new HashMap<>();
+        this.methodResolutions = new HashMap<>();
     }
 
     /**
      * Swap the current symbol context with the specified class.
      * The current symbol context is saved, and can later be restored using
      * {@link SymbolContext#restore()}.
-     * @param name The name of the class to swap with.
+     * @param name The interned name of the class to swap with.
      */
-    public void swap(String name) {
+    public void swap(int name) {
         contexts.push(new TableContext(table, currentClass, currentMethod,
                 currentConstructor, currentBlocks));
         table = global;
@@ -79,11 +94,11 @@ public final class SymbolContext {
 
     /**
      * Enters a class with the specified name.
-     * @param name The name of the class to enter.
+     * @param name The interned name of the class to enter.
      * @throws IllegalArgumentException If the class does not exist.
      */
-    public void enterClass(String name) {
-        var info = lookup(name);
+    public void enterClass(int name) {
+        var info = lookup(Namespace.NAME, name);
 
         if (info instanceof ClassInfo classInfo) {
             table = classInfo.getTable();
@@ -95,11 +110,11 @@ public final class SymbolContext {
 
     /**
      * Enters a method with the specified name.
-     * @param name The name of the method to enter.
+     * @param name The interned name of the method to enter.
      * @throws IllegalArgumentException If the method does not exist.
      */
-    public void enterMethod(String name) {
-        var info = lookup(METHOD_PREFIX + name);
+    public void enterMethod(int name) {
+        var info = lookup(Namespace.METHOD, name);
 
         if (info instanceof MethodInfo methodInfo) {
             table = methodInfo.getTable();
@@ -115,7 +130,7 @@ public final class SymbolContext {
      * @throws IllegalArgumentException If the ctor does not exist.
      */
     public void enterConstructor(Signature signature) {
-        var info = lookup(SIGNATURE_PREFIX + signature.toString());
+        var info = lookup(Namespace.CONSTRUCTOR, signature.getId());
         if (info instanceof ConstructorInfo constructorInfo) {
             table = constructorInfo.getTable();
             currentConstructor = constructorInfo;
@@ -274,10 +289,10 @@ public final class SymbolContext {
             // define main method, special case
             var mainMethod = new MethodInfo(class_.getTable(), "main");
             mainMethod.returnType = TypeVoid.getInstance();
-            class_.getTable().addEntry(METHOD_PREFIX + "main", mainMethod);
+            class_.getTable().addEntry(Namespace.METHOD, MAIN, mainMethod);
         }
 
-        return addEntry(name, class_) ? class_ : null;
+        return addEntry(Namespace.NAME, class_.id, class_) ? class_ : null;
     }
 
     /**
@@ -292,7 +307,7 @@ public final class SymbolContext {
         }
 
         var methodInfo = new MethodInfo(table, name);
-        return addEntry(METHOD_PREFIX + name, methodInfo) ? methodInfo : null;
+        return addEntry(Namespace.METHOD, methodInfo.id, methodInfo) ? methodInfo : null;
     }
 
     /**
@@ -322,7 +337,7 @@ public final class SymbolContext {
 
         String name = String.valueOf(table.getBlockCount());
         var blockInfo = new BlockInfo(table, name);
-        return addEntry(BLOCK_PREFIX + name, blockInfo) ? blockInfo : null;
+        return addEntry(Namespace.BLOCK, blockInfo.id, blockInfo) ? blockInfo : null;
     }
 
     /**
@@ -337,29 +352,31 @@ public final class SymbolContext {
         }
 
         var variableInfo = new VariableInfo(table, name, table.isClass());
-        return addEntry(name, variableInfo) ? variableInfo : null;
+        return addEntry(Namespace.NAME, variableInfo.id, variableInfo) ? variableInfo : null;
     }
 
     /**
      * Looks up the specified class within the global symbol table.
-     * @param name The name of the class.
+     * @param name The interned name of the class.
      * @return Information associated with the class, or null if the class
      *         is undefined or the main class.
      */
-    public ClassInfo lookupClass(String name) {
-        var result = global.lookup(name, true);
+    public ClassInfo lookupClass(int name) {
+        var result = global.lookup(Namespace.NAME, name, true);
         if (result == null) return null;
 
         if (result instanceof ClassInfo classInfo && !classInfo.isMain()) {
             return classInfo;
         }
 
-        logger.logError("Unexpected reference to main class \"%s\"%n", name);
+        logger.logError("Unexpected reference to main class \"%s\"%n", result.name);
         return null;
     }
 
     /**
      * Looks up a constructor within the specified class with the specified signature.
+     * Resolutions are memoized, as every invocation of a constructor with arguments of the
+     * same types resolves to the same overload.
      * @param signature The signature of the constructor. Only needs to be assignable to the signature to lookup
      * @param classInfo The class to perform the lookup within.
      * @return Information associated with the constructor, or null if
@@ -368,7 +385,21 @@ public final class SymbolContext {
     public ConstructorInfo lookupConstructor(Signature signature, ClassInfo classInfo) {
         if (signature == null) return null;
 
-        var signatures = classInfo.getTable().lookupSignature(SIGNATURE_PREFIX + signature.getName());
+        var resolutions = constructorResolutions.computeIfAbsent(classInfo, k -> new IntMap<>());
+        var result = resolutions.get(signature.getId());
+        if (result != null) {
+            constructorHits++;
+            return result.orElse(null);
+        }
+
+        constructorMisses++;
+        result = Optional.ofNullable(resolveConstructor(signature, classInfo));
+        resolutions.putIfAbsent(signature.getId(), result);
+        return result.orElse(null);
+    }
+
+    private ConstructorInfo resolveConstructor(Signature signature, ClassInfo classInfo) {
+        var signatures = classInfo.getTable().lookupSignature(signature.getNameId());
         final var matches = signatures.stream()
                 .filter(signature::isAssignableTo)
                 .sorted(Comparator.comparingInt(signature::getSimilarityScore))
@@ -386,7 +417,7 @@ public final class SymbolContext {
             }
         }
 
-        var result = classInfo.getTable().lookup(SIGNATURE_PREFIX + matches.get(0).toString(), false);
+        var result = classInfo.getTable().lookup(Namespace.CONSTRUCTOR, matches.get(0).getId(), false);
         if (!(result instanceof ConstructorInfo constructorInfo)) {
             throw new IllegalStateException();
         }
@@ -394,44 +425,53 @@ public final class SymbolContext {
     }
 
     /**
-     * Looks up a method within the specified class.
-     * @param name The name of the method.
+     * Looks up a method within the specified class. Resolutions are memoized.
+     * @param name The interned name of the method.
      * @param classInfo The class to perform the lookup within.
      * @return Information associated with the method, or null if
      *         the class does not define the method.
      */
-    public MethodInfo lookupMethod(String name, ClassInfo classInfo) {
-        if (name == null) return null;
-
-        var result = classInfo.getTable().lookup(METHOD_PREFIX + name, false);
-        if (result instanceof MethodInfo methodInfo) {
-            return methodInfo;
+    public MethodInfo lookupMethod(int name, ClassInfo classInfo) {
+        var resolutions = methodResolutions.computeIfAbsent(classInfo, k -> new IntMap<>());
+        var result = resolutions.get(name);
+        if (result != null) {
+            methodHits++;
+            return result.orElse(null);
         }
 
-        return null;
+        methodMisses++;
+        result = Optional.ofNullable(classInfo.getTable().lookup(Namespace.METHOD, name, false) instanceof MethodInfo m
+                ? m : null);
+        resolutions.putIfAbsent(name, result);
+        return result.orElse(null);
+    }
+
+    /**
+     * @return How many constructor and method lookups were answered by earlier resolutions.
+     */
+    public ResolutionCounts getResolutionCounts() {
+        return new ResolutionCounts(constructorHits, constructorMisses, methodHits, methodMisses);
     }
 
     /**
      * Looks up a method within the current scope.
-     * @param name The name of the method.
+     * @param name The interned name of the method.
      * @return Information associated with the method, or null if
      *         the method is undefined.
      */
-    public MethodInfo lookupMethod(String name) {
+    public MethodInfo lookupMethod(int name) {
         return lookupMethod(name, getCurrentClass());
     }
 
     /**
      * Looks up an instance variable within the specified class.
-     * @param name The name of the instance variable.
+     * @param name The interned name of the instance variable.
      * @param classInfo The class to perform the lookup within.
      * @return Information associated with the instance variable, or null if
      *         the class does not define the instance variable.
      */
-    public VariableInfo lookupInstanceVariable(String name, ClassInfo classInfo) {
-        if (name == null) return null;
-
-        var result = classInfo.getTable().lookup(name, false);
+    public VariableInfo lookupInstanceVariable(int name, ClassInfo classInfo) {
+        var result = classInfo.getTable().lookup(Namespace.NAME, name, false);
         if (result instanceof VariableInfo variableInfo) {
             return variableInfo;
         }
@@ -443,14 +483,12 @@ public final class SymbolContext {
      * Looks up a variable within the current scope. If not found,
      * recursively searches the parent scopes until it is found or
      * the global scope is reached.
-     * @param name The name of the variable.
+     * @param name The interned name of the variable.
      * @return Information associated with the variable, or null if
      *         the variable is not defined.
      */
-    public VariableInfo lookupVariable(String name) {
-        if (name == null) return null;
-
-        var result = lookup(name, true);
+    public VariableInfo lookupVariable(int name) {
+        var result = lookup(Namespace.NAME, name, true);
         if (result instanceof VariableInfo variableInfo) {
             return variableInfo;
         }
@@ -461,29 +499,41 @@ public final class SymbolContext {
     /**
      * Attempts to add an entry to the symbol table in the current scope.
      * If it is already defined, reports an error.
-     * @param symbol The symbol to add.
+     * @param symbol The interned name of the symbol to add.
      * @param info Information associated with the symbol.
      * @return Whether the entry was added.
      */
-    public boolean addEntry(String symbol, Info info) {
-        if (!table.addEntry(symbol, info)) {
-            if (symbol.startsWith(METHOD_PREFIX)) {
-                symbol = symbol.substring(1);
-            }
+    public boolean addEntry(int symbol, Info info) {
+        return addEntry(Namespace.NAME, symbol, info);
+    }
+
+    /**
+     * Attempts to add an entry to the symbol table in the current scope.
+     * If it is already defined, reports an error.
+     * @param namespace The namespace of the symbol.
+     * @param symbol The interned symbol to add.
+     * @param info Information associated with the symbol.
+     * @return Whether the entry was added.
+     */
+    private boolean addEntry(Namespace namespace, int symbol, Info info) {
+        if (!table.addEntry(namespace, symbol, info)) {
+            var name = Names.name(symbol);
             // constructor formatting, kind of a hack but works
-            if (symbol.startsWith(SIGNATURE_PREFIX)) {
-                symbol = symbol.substring(1);
-                symbol = symbol.replace("_$_", "[]");
-                if (symbol.contains("$$")) {
-                    symbol = symbol.replace("$$", "(") + ")";
+            if (namespace == Namespace.CONSTRUCTOR) {
+                name = name.replace("_$_", "[]");
+                if (name.contains("$$")) {
+                    name = name.replace("$$", "(") + ")";
                 } else {
-                    symbol += "()";
+                    name += "()";
                 }
-                symbol = symbol.replace("$", ",");
+                name = name.replace("$", ",");
             }
-            logger.logError("Symbol \"%s\" is already defined%n", symbol);
+            logger.logError("Symbol \"%s\" is already defined%n", name);
             return false;
         }
+        if (namespace == Namespace.METHOD) {
+            methodResolutions.clear();  // the method may have been looked up before
+        }
         return true;
     }
 
@@ -495,24 +545,25 @@ public final class SymbolContext {
      * @return Whether the entry was added.
      */
     public boolean addEntry(Signature signature, Info info) {
-        boolean success = addEntry(SIGNATURE_PREFIX + signature.toString(), info);
+        boolean success = addEntry(Namespace.CONSTRUCTOR, signature.getId(), info);
         if (success) {
-            table.addSignature(SIGNATURE_PREFIX + signature.getName(), signature);
+            table.addSignature(signature.getNameId(), signature);
+            constructorResolutions.clear();  // a new overload may be a better match
         }
         return success;
     }
 
     /**
      * Checks whether the specified symbol is marked as unknown.
-     * @param symbol The symbol to check.
+     * @param symbol The interned name of the symbol to check.
      * @return Whether the symbol is unknown.
      */
-    public boolean isUnknown(String symbol) {
+    public boolean isUnknown(int symbol) {
         var curr = table;
-        var result = curr.isUndefined(symbol);
+        var result = curr.isUndefined(Namespace.NAME, symbol);
         while (!result && curr.hasParent()) {
             curr = curr.getParent();
-            result = curr.isUndefined(symbol);
+            result = curr.isUndefined(Namespace.NAME, symbol);
         }
 
         return result;
@@ -535,11 +586,14 @@ public final class SymbolContext {
     }
 
     /**
-     * Propagates inherited members of all base classes to their derived classes.
+     * Propagates inherited members of all base classes to their derived classes, after
+     * recording the superclasses of every class for subclass tests.
      * Assumes the inheritance graph is acyclic.
      */
     public void propagateInheritedMembers() {
+        visitClasses(ClassInfo::recordSuperclasses);
         visitClasses(this::inheritMembers);
+        methodResolutions.clear();
     }
 
     /**
@@ -602,10 +656,10 @@ public final class SymbolContext {
         for (var entry : base.getTable().getEntries()) {
             if (entry instanceof MethodInfo method) {
                 var overridingMethod = (MethodInfo)derived.getTable().lookup(
-                        METHOD_PREFIX + method.name, false);
+                        Namespace.METHOD, method.id, false);
                 if (overridingMethod == null) {
                     // Add base method to derived class
-                    derived.getTable().addEntry(METHOD_PREFIX + method.name, method);
+                    derived.getTable().addEntry(Namespace.METHOD, method.id, method);
                 } else {
                     overridingMethod.overridden = method;
                     // Verify overriding method signature assignable to base method signature
@@ -640,28 +694,29 @@ public final class SymbolContext {
                 // Inherit the instance variable. If it is already defined, will not overwrite
                 // We inherit it as a "transient", i.e. we don't increment the # of instance
                 // variables declared by the derived class.
-                derived.getTable().addEntry(variable.name, variable, true);
+                derived.getTable().addEntry(Namespace.NAME, variable.id, variable, true);
             }
         }
     }
 
     /**
      * Looks up the specified symbol.
-     * @param symbol The symbol to lookup.
+     * @param namespace The namespace of the symbol.
+     * @param symbol The interned symbol to lookup.
      * @param searchParent If true, recursively searches the parent scopes until
      *                     the symbol is found or the global scope is reached.
      * @return Information associated with the symbol, or null if the symbol is undefined.
      */
-    private Info lookup(String symbol, boolean searchParent) {
+    private Info lookup(Namespace namespace, int symbol, boolean searchParent) {
         if (!searchParent) {
-            return table.lookup(symbol, true);
+            return table.lookup(namespace, symbol, true);
         }
 
         var curr = table;
-        var result = curr.lookup(symbol, !curr.hasParent());
+        var result = curr.lookup(namespace, symbol, !curr.hasParent());
         while (result == null && curr.hasParent()) {
             curr = curr.getParent();
-            result = curr.lookup(symbol, !curr.hasParent());
+            result = curr.lookup(namespace, symbol, !curr.hasParent());
         }
 
         return result;
@@ -669,11 +724,12 @@ public final class SymbolContext {
 
     /**
      * Looks up the specified symbol within the current scope.
-     * @param symbol The symbol to lookup.
+     * @param namespace The namespace of the symbol.
+     * @param symbol The interned symbol to lookup.
      * @return Information associated with the symbol, or null if the symbol is undefined.
      */
-    private Info lookup(String symbol) {
-        return lookup(symbol, false);
+    private Info lookup(Namespace namespace, int symbol) {
+        return lookup(namespace, symbol, false);
     }
 
     /**
@@ -1,17 +1,21 @@
 package semantics.table;
 
 import commons.Logger;
+import commons.Names;
 import lombok.Getter;
 import semantics.info.*;
 
 import java.util.*;
 
 public final class SymbolTable {
+    private static final Namespace[] NAMESPACES = Namespace.values();
+
     private final SymbolTable parent;
     private final Logger logger;
-    private final Map<String, Info> symbols;
-    private final Map<String, List<Signature>> signatures;
-    private final Set<String> undefined;
+    private final IntMap<Info>[] symbols;  // indexed by namespace
+    private IntMap<List<Signature>> signatures;
+    private Set<Long> undefined;  // namespace and id of each symbol reported undefined
+    private int size;
     private final TableType type;
 
     @Getter
@@ -41,20 +45,26 @@ public final class SymbolTable {
      * @param type   Type of symbol table to create.
      */
     public SymbolTable(SymbolTable parent, TableType type, String name) {
-        this.symbols = new HashMap<>();
-        this.signatures = new HashMap<>();
-        this.undefined = new HashSet<>();
+        this.symbols = newSymbols();
         this.logger = Logger.getInstance();
         this.parent = parent;
         this.type = type;
         this.name = name;
     }
 
+    /**
+     * @return The array of the symbol maps of each namespace, which are created on first use.
+     */
+    @SuppressWarnings("unchecked")  // no generic arrays; every element is an IntMap<Info>
+    private static IntMap<Info>[] newSymbols() {
+        return (IntMap<Info>[]) new IntMap<?>[NAMESPACES.length];
+    }
+
     /**
      * @return The size (number of entries) in this symbol table.
      */
     public int size() {
-        return symbols.size();
+        return size;
     }
 
     /**
@@ -93,8 +103,8 @@ public final class SymbolTable {
     /**
      * @return Whether the specified symbol is marked as undefined in this symbol table.
      */
-    public boolean isUndefined(String symbol) {
-        return undefined.contains(symbol);
+    public boolean isUndefined(Namespace namespace, int symbol) {
+        return undefined != null && undefined.contains(undefinedKey(namespace, symbol));
     }
 
     /**
@@ -107,32 +117,39 @@ public final class SymbolTable {
     /**
      * Adds the specified entry to this symbol table.
      *
-     * @param symbol Symbol associated with the entry.
-     * @param info   Information associated with the symbol.
+     * @param namespace Namespace of the symbol.
+     * @param symbol    Symbol associated with the entry.
+     * @param info      Information associated with the symbol.
      * @return Whether the entry was successfully added.
      */
-    public boolean addEntry(String symbol, Info info) {
-        return addEntry(symbol, info, false);
+    public boolean addEntry(Namespace namespace, int symbol, Info info) {
+        return addEntry(namespace, symbol, info, false);
     }
 
     /**
      * Adds the specified entry to this symbol table.
      *
+     * @param namespace   Namespace of the symbol.
      * @param symbol      Symbol associated with the entry.
      * @param info        Information associated with the symbol.
      * @param isTransient Whether the entry is transient. A transient entry does not
      *                    contribute to its reference count.
      * @return Whether the entry was successfully added.
      */
-    public boolean addEntry(String symbol, Info info, boolean isTransient) {
-        if (symbol == null) return false;
+    public boolean addEntry(Namespace namespace, int symbol, Info info, boolean isTransient) {
+        var entries = symbols[namespace.ordinal()];
+        if (entries == null) {
+            entries = symbols[namespace.ordinal()] = new IntMap<>();
+        }
 
-        if (symbols.containsKey(symbol)) {
+        if (!entries.putIfAbsent(symbol, info)) {
             return false;
         }
 
-        undefined.remove(symbol);  // remove from undefined set
-        symbols.put(symbol, info);
+        size++;
+        if (undefined != null) {
+            undefined.remove(undefinedKey(namespace, symbol));  // remove from undefined set
+        }
 
         if (!isTransient) {
             if (info instanceof ClassInfo) {
@@ -151,45 +168,72 @@ public final class SymbolTable {
         return true;
     }
 
-    public void addSignature(String symbol, Signature signature) {
+    /**
+     * Adds the specified constructor signature to the overloads of the class with the specified name.
+     */
+    public void addSignature(int className, Signature signature) {
         if (signature == null) return;
-        var sigs = signatures.getOrDefault(symbol, new ArrayList<>());
+        if (signatures == null) {
+            signatures = new IntMap<>();
+        }
+        var sigs = signatures.get(className);
+        if (sigs == null) {
+            sigs = new ArrayList<>();
+            signatures.putIfAbsent(className, sigs);
+        }
         sigs.add(signature);
-        signatures.put(symbol, sigs);
     }
 
     /**
      * Looks up the specified symbol within this table.
      *
-     * @param symbol The symbol to lookup.
-     * @param report Whether the symbol should be reported and marked as undefined.
+     * @param namespace Namespace of the symbol.
+     * @param symbol    The symbol to lookup.
+     * @param report    Whether the symbol should be reported and marked as undefined.
      * @return Information associated with the symbol, or null if the symbol is undefined.
      */
-    public Info lookup(String symbol, boolean report) {
-        if (report && !symbols.containsKey(symbol) && !undefined.contains(symbol)) {
-            logger.logError("Undefined symbol \"%s\"%n", symbol);
-            undefined.add(symbol); // mark as undefined
+    public Info lookup(Namespace namespace, int symbol, boolean report) {
+        var entries = symbols[namespace.ordinal()];
+        var result = entries != null ? entries.get(symbol) : null;
+
+        if (report && result == null && !isUndefined(namespace, symbol)) {
+            logger.logError("Undefined symbol \"%s\"%n", namespace.prefix + Names.name(symbol));
+            if (undefined == null) {
+                undefined = new HashSet<>();
+            }
+            undefined.add(undefinedKey(namespace, symbol)); // mark as undefined
         }
 
-        return symbols.get(symbol);
+        return result;
     }
 
-    public List<Signature> lookupSignature(String symbol) {
-        return signatures.get(symbol);
+    /**
+     * @return The constructor signatures of the class with the specified name, or null if there are none.
+     */
+    public List<Signature> lookupSignature(int className) {
+        return signatures != null ? signatures.get(className) : null;
     }
 
     /**
-     * @return The entries in this symbol table.
+     * @return The entries in this symbol table, by {@link Namespace}, then in order of insertion.
      */
     public Iterable<Info> getEntries() {
-        return symbols.values();
+        List<Info> entries = new ArrayList<>(size);
+        for (var namespace : symbols) {
+            if (namespace != null) {
+                namespace.forEach(entries::add);
+            }
+        }
+        return entries;
     }
 
     /**
      * @return An alphabetically sorted copy of the entries in this symbol table.
      */
     public Collection<Info> getEntriesSorted() {
-        return new TreeSet<>(symbols.values());
+        var entries = new TreeSet<Info>();
+        getEntries().forEach(entries::add);
+        return entries;
     }
 
     @Override
@@ -197,7 +241,7 @@ public final class SymbolTable {
         String header;
         if (isClass()) {
             header = "Class: " + getName();
-            var this_ = (ClassInfo) lookup("this", false);
+            var this_ = (ClassInfo) lookup(Namespace.NAME, SymbolContext.THIS, false);
             if (this_ != null && this_.getParent() != null) {
                 header += " extends " + this_.getParent().name;
             }
@@ -222,21 +266,20 @@ public final class SymbolTable {
         signatures.add("Signature");
         inherited.add("Inherited");
 
-        var entries = new TreeMap<>(symbols);
-        entries.forEach((s, i) -> {
+        var entries = new TreeMap<String, Info>();
+        for (var namespace : NAMESPACES) {
             // ignore blocks
-            if (s.startsWith(SymbolContext.BLOCK_PREFIX)) {
-                return;
-            }
-            // strip method prefix
-            if (s.startsWith(SymbolContext.METHOD_PREFIX)) {
-                s = s.substring(1);
+            var symbols = this.symbols[namespace.ordinal()];
+            if (namespace == Namespace.BLOCK || symbols == null) {
+                continue;
             }
+            // sort by prefixed symbol: methods, then constructors, then classes and variables
+            symbols.forEach(i -> entries.put(namespace.prefix + symbolName(namespace, i), i));
+        }
+        entries.forEach((s, i) -> {
             // constructor special handling
             if (!s.startsWith(SymbolContext.SIGNATURE_PREFIX)) {
-                symbolNames.add(s);
-            } else {
-                s = s.substring(1);
+                symbolNames.add(s.substring(s.startsWith(SymbolContext.METHOD_PREFIX) ? 1 : 0));
             }
 
 
@@ -359,6 +402,20 @@ public final class SymbolTable {
         return sb.toString();
     }
 
+    /**
+     * @return The name under which the specified entry of the specified namespace was added.
+     */
+    private String symbolName(Namespace namespace, Info info) {
+        if (namespace == Namespace.NAME && info instanceof ClassInfo && isClass()) {
+            return "this";  // the only class entry of a class table
+        }
+        return Names.name(info.id);
+    }
+
+    private static long undefinedKey(Namespace namespace, int symbol) {
+        return (long) namespace.ordinal() << 32 | symbol;
+    }
+
     private int getMaxLength(Iterable<String> strings) {
         int length = 0;
         for (var str : strings) {
@@ -1,8 +1,21 @@
 package semantics.type;
 
+/**
+ * A type. Every distinct type exists once: the primitive types and the other types without
+ * structure are singletons, there is one {@link TypeObject} per class, and one
+ * {@link TypeArray} per element type and dimension, so types are compared by reference.
+ */
 public abstract class Type {
     public abstract boolean isAssignableTo(Type other);
-    public abstract boolean equals(Type other);
+
+    /**
+     * @return Whether this type is the specified type, where the unknown type, which
+     *         stands in for a type that failed to resolve, equals every type.
+     */
+    public boolean equals(Type other) {
+        return this == other || isUnknown() || other.isUnknown();
+    }
+
     public abstract boolean comparableTo(Type other);
     public abstract int getSimilarity(Type other);
     public abstract String toString();
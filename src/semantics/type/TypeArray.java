@@ -4,7 +4,14 @@ public class TypeArray extends Type {
     public final TypeSingular type;
     public final int dimension;
 
-    public TypeArray(TypeSingular type, int dimension) {
+    /**
+     * @return The array type with the specified element type and dimension.
+     */
+    public static TypeArray of(TypeSingular type, int dimension) {
+        return type.arrayOf(dimension);
+    }
+
+    TypeArray(TypeSingular type, int dimension) {
         this.type = type;
         this.dimension = dimension;
     }
@@ -20,11 +27,9 @@ public class TypeArray extends Type {
 
     @Override
     public boolean equals(Type other) {
-        if (other instanceof TypeArray otherArray) {
-            return dimension == otherArray.dimension &&
-                    type.equals(otherArray.type);
-        }
-        return other == TypeUnknown.getInstance();
+        // an array of elements of unknown type equals every array of its dimension
+        return super.equals(other) || other instanceof TypeArray otherArray &&
+                dimension == otherArray.dimension && (type.isUnknown() || otherArray.type.isUnknown());
     }
 
     @Override
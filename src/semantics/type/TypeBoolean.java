@@ -13,11 +13,6 @@ public class TypeBoolean extends TypePrimitive {
         return equals(other);
     }
 
-    @Override
-    public boolean equals(Type other) {
-        return this == other || other == TypeUnknown.getInstance();
-    }
-
     @Override
     public boolean comparableTo(Type other) {
         return equals(other);
@@ -13,11 +13,6 @@ public class TypeInt extends TypePrimitive {
         return equals(other);
     }
 
-    @Override
-    public boolean equals(Type other) {
-        return this == other || other == TypeUnknown.getInstance();
-    }
-
     @Override
     public boolean comparableTo(Type other) {
         return equals(other);
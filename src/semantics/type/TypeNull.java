@@ -13,11 +13,6 @@ public class TypeNull extends Type {
         return !(other instanceof TypePrimitive);
     }
 
-    @Override
-    public boolean equals(Type other) {
-        return this == other || other == TypeUnknown.getInstance();
-    }
-
     @Override
     public boolean comparableTo(Type other) {
         return isAssignableTo(other);
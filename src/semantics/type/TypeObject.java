@@ -5,7 +5,23 @@ import semantics.info.ClassInfo;
 public class TypeObject extends TypeSingular {
     public final ClassInfo base;  // base class (declared type)
 
+    /**
+     * @return The type of the instances of the specified class.
+     */
+    public static TypeObject of(ClassInfo base) {
+        return base.getType();
+    }
+
+    /**
+     * Creates the type of the instances of the specified class. Only the constructor of
+     * {@link ClassInfo} may call this, so that every class has exactly one type and types
+     * can be compared by identity. Use {@link #of(ClassInfo)} to get it.
+     * @throws IllegalStateException If the class already has its type.
+     */
     public TypeObject(ClassInfo base) {
+        if (base.getType() != null) {  // only null while the class itself is constructed
+            throw new IllegalStateException("second type of class " + base.name);
+        }
         this.base = base;
     }
 
@@ -16,24 +32,7 @@ public class TypeObject extends TypeSingular {
                 return false;
             }
 
-            var parent = base;
-            while (parent.isDerived()) {
-                if (parent == obj.base) {
-                    return true;
-                }
-                parent = parent.getParent();
-            }
-
-            return parent == obj.base;
-        }
-
-        return other == TypeUnknown.getInstance();
-    }
-
-    @Override
-    public boolean equals(Type other) {
-        if (other instanceof TypeObject obj) {
-            return base == obj.base;
+            return base.distanceTo(obj.base) >= 0;
         }
 
         return other == TypeUnknown.getInstance();
@@ -51,17 +50,8 @@ public class TypeObject extends TypeSingular {
                 return Integer.MAX_VALUE;
             }
 
-            var parent = base;
-            int similarity = 0;
-            while (parent.isDerived()) {
-                if (parent == obj.base) {
-                    return similarity;
-                }
-                similarity++;
-                parent = parent.getParent();
-            }
-
-            return parent == obj.base ? similarity : Integer.MAX_VALUE;
+            int distance = base.distanceTo(obj.base);
+            return distance >= 0 ? distance : Integer.MAX_VALUE;
         }
 
         return other == TypeUnknown.getInstance() ? 0 : Integer.MAX_VALUE;
@@ -1,4 +1,30 @@
 package semantics.type;
 
+import java.util.Arrays;
+
 public abstract class TypeSingular extends Type {
+    // the arrays of this type, by dimension, created on demand and replaced rather than
+    // modified, as the singleton types are shared by compilations running concurrently
+    private volatile TypeArray[] arrays = new TypeArray[0];
+
+    TypeArray arrayOf(int dimension) {
+        if (dimension < 1) {
+            throw new IllegalArgumentException("array dimension " + dimension);
+        }
+
+        var current = arrays;
+        if (dimension < current.length && current[dimension] != null) {
+            return current[dimension];
+        }
+        synchronized (this) {
+            current = arrays;
+            if (dimension < current.length && current[dimension] != null) {
+                return current[dimension];
+            }
+            var grown = Arrays.copyOf(current, Math.max(current.length, dimension + 1));
+            grown[dimension] = new TypeArray(this, dimension);
+            arrays = grown;
+            return grown[dimension];
+        }
+    }
 }
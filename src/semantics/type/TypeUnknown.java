@@ -13,11 +13,6 @@ public class TypeUnknown extends TypeSingular {
         return true;
     }
 
-    @Override
-    public boolean equals(Type other) {
-        return true;
-    }
-
     @Override
     public boolean comparableTo(Type other) {
         return true;
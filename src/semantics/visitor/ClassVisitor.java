@@ -43,8 +43,8 @@ public final class ClassVisitor extends LazyVisitor {
 
     @Override
     public void visit(MainClass n) {
-        symbolContext.enterClass(n.i1.s);
-        symbolContext.enterMethod("main");
+        symbolContext.enterClass(n.i1.id);
+        symbolContext.enterMethod(SymbolContext.MAIN);
 
         var m = symbolContext.getCurrentMethod();
         m.lineNumber = n.lineNumber;
@@ -60,13 +60,13 @@ public final class ClassVisitor extends LazyVisitor {
     public void visit(ClassDeclSimple n) {
         if (n.conflict) return;
 
-        var this_ = symbolContext.lookupClass(n.i.s);  // this class
+        var this_ = symbolContext.lookupClass(n.i.id);  // this class
         if (this_ == null) {
             throw new IllegalStateException("unreachable");
         }
 
-        symbolContext.enterClass(n.i.s);
-        symbolContext.addEntry("this", this_);  // point to this class
+        symbolContext.enterClass(n.i.id);
+        symbolContext.addEntry(SymbolContext.THIS, this_);  // point to this class
         n.dl.forEach(v -> v.accept(this));  // instance variables
 
         constructorCount = 0;
@@ -84,8 +84,8 @@ public final class ClassVisitor extends LazyVisitor {
     public void visit(ClassDeclExtends n) {
         if (n.conflict) return;
 
-        var base = symbolContext.lookupClass(n.j.s);     // base class
-        var derived = symbolContext.lookupClass(n.i.s);  // derived class
+        var base = symbolContext.lookupClass(n.j.id);     // base class
+        var derived = symbolContext.lookupClass(n.i.id);  // derived class
         if (derived == null) {
             throw new IllegalStateException("unreachable");
         }
@@ -100,8 +100,8 @@ public final class ClassVisitor extends LazyVisitor {
             logger.logError("Cannot resolve class \"%s\"%n", n.j.s);
         }
 
-        symbolContext.enterClass(n.i.s);
-        symbolContext.addEntry("this", derived);  // point to derived class
+        symbolContext.enterClass(n.i.id);
+        symbolContext.addEntry(SymbolContext.THIS, derived);  // point to derived class
         n.dl.forEach(v -> v.accept(this));  // instance variables
 
         constructorCount = 0;
@@ -192,7 +192,7 @@ public final class ClassVisitor extends LazyVisitor {
         methodInfo.lineNumber = n.lineNumber;
         methodInfo.endLineNumber = n.endPos.getLine();
 
-        symbolContext.enterMethod(n.i.s);
+        symbolContext.enterMethod(n.i.id);
 
         // validate parameters first
         n.fl.forEach(f -> {
@@ -281,7 +281,7 @@ public final class ClassVisitor extends LazyVisitor {
     @Override
     public void visit(ArrayType n) {
         n.t.accept(this);
-        n.type = new TypeArray((TypeSingular) n.t.type, n.dimension);
+        n.type = TypeArray.of((TypeSingular) n.t.type, n.dimension);
     }
 
     @Override
@@ -301,9 +301,9 @@ public final class ClassVisitor extends LazyVisitor {
 
     @Override
     public void visit(IdentifierType n) {
-        var class_ = symbolContext.lookupClass(n.s);
+        var class_ = symbolContext.lookupClass(n.id);
         if (class_ != null) {
-            n.type = new TypeObject(class_);
+            n.type = TypeObject.of(class_);
         } else {
             n.type = TypeUnknown.getInstance();
         }
@@ -0,0 +1,41 @@
+package semantics.visitor;
+
+/**
+ * The rewrites that the {@link FoldingVisitor constant folder} applies to expressions and
+ * statements whose value or outcome is known at compile time.
+ */
+public enum Fold {
+    /**
+     * An arithmetic, bitwise or shift operation on integer literals, as its result, e.g.
+     * <code>3 * 4</code> into <code>12</code>.
+     */
+    ARITHMETIC,
+    /**
+     * A comparison of integer or boolean literals, as its outcome, e.g. <code>1 &lt; 2</code>
+     * into <code>true</code>.
+     */
+    COMPARISON,
+    /**
+     * A boolean operation with a literal operand, as its outcome or the other operand, e.g.
+     * <code>true &amp;&amp; x</code> into <code>x</code>.
+     */
+    LOGIC,
+    /**
+     * A concatenation of a string literal with another literal, as a single string literal.
+     */
+    CONCATENATION,
+    /**
+     * A conditional expression with a literal condition, as the operand it chooses.
+     */
+    CONDITIONAL,
+    /**
+     * An <code>if</code> or <code>while</code> statement with a literal condition, as the
+     * branch it takes, or nothing.
+     */
+    BRANCH,
+    /**
+     * A read of a local variable which is initialized with a literal and never assigned
+     * again, as that literal.
+     */
+    PROPAGATION
+}
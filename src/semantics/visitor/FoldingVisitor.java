@@ -0,0 +1,482 @@
+package semantics.visitor;
+
+import ast.*;
+import commons.Counts;
+import commons.LazyVisitor;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+import semantics.info.VariableInfo;
+import semantics.table.SymbolContext;
+import semantics.type.TypeBoolean;
+import semantics.type.TypeInt;
+import semantics.type.TypeString;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Optional pass after semantic analysis. Replaces the expressions whose value is known at
+ * compile time by literals, and the <code>if</code> and <code>while</code> statements whose
+ * condition is known by the branch they take.
+ * <p>
+ * Integers are folded as the generated code computes them, in 64-bit registers, so an
+ * operation is only folded if its result fits an integer literal. Reads of local variables
+ * which are initialized with an integer or boolean literal and never assigned again are
+ * replaced by that literal, so that the expressions they take part in fold in turn.
+ */
+public final class FoldingVisitor extends LazyVisitor {
+    private final SymbolContext symbolContext;
+    private final Counts<Fold> folds = new Counts<>(Fold.class);
+
+    // locals of the current body which are assigned other than by their initializer
+    private final Set<VariableInfo> assigned = new HashSet<>();
+    // literal values of the locals of the current body which are only initialized
+    private final Map<VariableInfo, Exp> constants = new HashMap<>();
+    private boolean propagating;
+
+    public FoldingVisitor(SymbolContext symbolContext) {
+        this.symbolContext = symbolContext;
+    }
+
+    /**
+     * @return How many times each fold was applied.
+     */
+    public Counts<Fold> getFolds() {
+        return folds;
+    }
+
+    @Override
+    public void visit(Program n) {
+        n.m.accept(this);
+        n.cl.forEach(c -> c.accept(this));
+    }
+
+    @Override
+    public void visit(MainClass n) {
+        symbolContext.enterClass(n.i1.id);
+        symbolContext.enterMethod(SymbolContext.MAIN);
+        foldBody(n.sl);
+        symbolContext.exit();
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(ClassDeclSimple n) {
+        if (n.conflict) return;
+
+        symbolContext.enterClass(n.i.id);
+        foldInitializers(n.dl);
+        n.ml.forEach(m -> m.accept(this));
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(ClassDeclExtends n) {
+        if (n.conflict) return;
+
+        symbolContext.enterClass(n.i.id);
+        foldInitializers(n.dl);
+        n.ml.forEach(m -> m.accept(this));
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(MethodDecl n) {
+        if (n.conflict) return;
+
+        symbolContext.enterMethod(n.i.id);
+        foldBody(n.sl);
+        symbolContext.exit();
+    }
+
+    @Override
+    public void visit(ConstructorDecl n) {
+        if (n.conflict) return;
+
+        symbolContext.enterConstructor(n.constructorInfo.getSignature());
+        foldBody(n.sl);
+        symbolContext.exit();
+    }
+
+    /**
+     * Folds the initializers of instance variables, which the constructors evaluate.
+     */
+    private void foldInitializers(VarDeclarationList dl) {
+        dl.forEach(d -> {
+            if (d instanceof VarInit init) {
+                init.e = fold(init.e);
+                var v = symbolContext.lookupVariable(init.i.id);
+                if (v != null) {
+                    v.initializer = init.e;
+                }
+            }
+        });
+    }
+
+    /**
+     * Folds the body of a method or constructor twice: first to find the locals which are
+     * assigned, then to propagate the literal values of the others.
+     */
+    private void foldBody(StatementList sl) {
+        assigned.clear();
+        constants.clear();
+        propagating = false;
+        foldAll(sl);
+        propagating = true;
+        foldAll(sl);
+        constants.clear();
+    }
+
+    private void foldAll(StatementList sl) {
+        for (int i = 0; i < sl.size(); i++) {
+            sl.set(i, fold(sl.get(i)));
+        }
+    }
+
+    private void foldAll(ExpressionList el) {
+        for (int i = 0; i < el.size(); i++) {
+            el.set(i, fold(el.get(i)));
+        }
+    }
+
+    /**
+     * @return The specified statement, with its expressions folded, or the statement it
+     *         reduces to if its condition is known. Simple statements are folded in place.
+     */
+    private Statement fold(Statement s) {
+        if (s instanceof Block b) {
+            symbolContext.enterBlock(b.blockInfo);
+            foldAll(b.sl);
+            symbolContext.exit();
+        } else if (s instanceof If i) {
+            i.e = fold(i.e);
+            var c = bool(i.e);
+            if (c != null) {
+                folds.count(Fold.BRANCH);
+                return c ? fold(i.s) : new NoOp(location(i));
+            }
+            i.s = fold(i.s);
+        } else if (s instanceof IfElse i) {
+            i.e = fold(i.e);
+            var c = bool(i.e);
+            if (c != null) {
+                folds.count(Fold.BRANCH);
+                return fold(c ? i.s1 : i.s2);
+            }
+            i.s1 = fold(i.s1);
+            i.s2 = fold(i.s2);
+        } else if (s instanceof While w) {
+            w.e = fold(w.e);
+            if (Boolean.FALSE.equals(bool(w.e))) {
+                folds.count(Fold.BRANCH);
+                return new NoOp(location(w));
+            }
+            w.s = fold(w.s);
+        } else if (s instanceof For f) {
+            symbolContext.enterBlock(f.blockInfo);
+            fold(f.s0);
+            f.e = fold(f.e);
+            fold(f.s1);
+            f.s2 = fold(f.s2);
+            symbolContext.exit();
+        } else if (s instanceof Switch w) {
+            w.e = fold(w.e);
+            w.cl.forEach(c -> foldAll(c.sl));
+        } else if (s instanceof VarInit init) {
+            init.e = fold(init.e);
+            var v = symbolContext.lookupVariable(init.i.id);
+            if (propagating && v != null && !v.isInstanceVariable()) {
+                if (!assigned.contains(v) && (init.e instanceof IntegerLiteral
+                        || init.e instanceof True || init.e instanceof False)) {
+                    constants.put(v, (Exp) init.e);
+                } else {
+                    constants.remove(v);
+                }
+            }
+        } else if (s instanceof Assign || s instanceof Increment) {
+            fold((Expression) s);
+        } else if (s instanceof Action a) {
+            fold(a.c);
+        } else if (s instanceof Print p) {
+            p.e = fold(p.e);
+        } else if (s instanceof Return r) {
+            r.e = fold(r.e);
+        } else if (s instanceof SuperCtorInvocation c) {
+            foldAll(c.el);
+        } else if (s instanceof ThisCtorInvocation c) {
+            foldAll(c.el);
+        }
+        return s;
+    }
+
+    /**
+     * @return The specified expression, with its operands folded, or the literal or operand
+     *         it reduces to if its value is known.
+     */
+    private Expression fold(Expression e) {
+        if (e instanceof BinaryExp b) {
+            b.e1 = fold(b.e1);
+            b.e2 = fold(b.e2);
+            return foldBinary(b);
+        } else if (e instanceof Assign a) {
+            a.e1 = foldTarget(a.e1);
+            a.e2 = fold(a.e2);
+        } else if (e instanceof Increment i) {
+            i.e = foldTarget(i.e);
+        } else if (e instanceof UnaryMinus u) {
+            u.e = fold(u.e);
+            var x = integer(u.e);
+            if (x != null) {
+                return integer(u, -(long) x);
+            }
+        } else if (e instanceof UnaryPlus u) {
+            u.e = fold(u.e);
+            if (integer(u.e) != null) {
+                folds.count(Fold.ARITHMETIC);
+                return u.e;
+            }
+        } else if (e instanceof BitwiseNot u) {
+            u.e = fold(u.e);
+            var x = integer(u.e);
+            if (x != null) {
+                return integer(u, ~(long) x);
+            }
+        } else if (e instanceof Not u) {
+            u.e = fold(u.e);
+            var x = bool(u.e);
+            if (x != null) {
+                folds.count(Fold.LOGIC);
+                return bool(u, !x);
+            }
+        } else if (e instanceof Ternary t) {
+            t.c = fold(t.c);
+            t.e1 = fold(t.e1);
+            t.e2 = fold(t.e2);
+            var c = bool(t.c);
+            var chosen = c == null ? null : c ? t.e1 : t.e2;
+            // keep the type the code generator sees, e.g. when choosing null over a string
+            if (chosen != null && chosen.eval().type.equals(t.type)) {
+                folds.count(Fold.CONDITIONAL);
+                return chosen;
+            }
+        } else if (e instanceof Call c) {
+            c.e = fold(c.e);
+            foldAll(c.el);
+        } else if (e instanceof NewObject o) {
+            foldAll(o.el);
+        } else if (e instanceof NewArray a) {
+            foldAll(a.el);
+        } else if (e instanceof ArrayLookup a) {
+            a.e1 = fold(a.e1);
+            foldAll(a.el);
+        } else if (e instanceof ArrayLength a) {
+            a.e = fold(a.e);
+        } else if (e instanceof Field f) {
+            f.e = fold(f.e);
+        } else if (e instanceof InstanceOf i) {
+            i.e = fold(i.e);
+        } else if (e instanceof IdentifierExp i && propagating) {
+            var value = constants.get(symbolContext.lookupVariable(i.id));
+            if (value != null) {
+                folds.count(Fold.PROPAGATION);
+                return copy(value, i);
+            }
+        }
+        return e;
+    }
+
+    /**
+     * @return The specified assignment target, with the expressions it is computed from
+     *         folded. A local variable target is recorded as assigned.
+     */
+    private Expression foldTarget(Expression e) {
+        if (e instanceof IdentifierExp i) {
+            var v = symbolContext.lookupVariable(i.id);
+            if (v != null) {
+                assigned.add(v);
+            }
+        } else if (e instanceof ArrayLookup a) {
+            a.e1 = fold(a.e1);
+            foldAll(a.el);
+        } else if (e instanceof Field f) {
+            f.e = fold(f.e);
+        }
+        return e;
+    }
+
+    private Expression foldBinary(BinaryExp b) {
+        var x = integer(b.e1);
+        var y = integer(b.e2);
+        if (x != null && y != null) {
+            var value = arithmetic(b, x, y);
+            if (value != null) {
+                return integer(b, value);
+            }
+            var outcome = comparison(b, x, y);
+            if (outcome != null) {
+                folds.count(Fold.COMPARISON);
+                return bool(b, outcome);
+            }
+        }
+
+        var p = bool(b.e1);
+        var q = bool(b.e2);
+        if (p != null && q != null) {
+            if (b instanceof Equal || b instanceof NotEqual) {
+                folds.count(Fold.COMPARISON);
+                return bool(b, (p == q) == b instanceof Equal);
+            }
+            var outcome = logic(b, p, q);
+            if (outcome != null) {
+                folds.count(Fold.LOGIC);
+                return bool(b, outcome);
+            }
+        } else if (b instanceof And && (p != null || Boolean.TRUE.equals(q))) {
+            // true && x is x, false && x is false, x && true is x
+            folds.count(Fold.LOGIC);
+            return p == null ? b.e1 : p ? b.e2 : b.e1;
+        } else if (b instanceof Or && (p != null || Boolean.FALSE.equals(q))) {
+            // false || x is x, true || x is true, x || false is x
+            folds.count(Fold.LOGIC);
+            return p == null ? b.e1 : p ? b.e1 : b.e2;
+        }
+
+        if (b instanceof Plus && TypeString.getInstance().equals(b.type)) {
+            var s = text(b.e1);
+            var t = text(b.e2);
+            if (s != null && t != null) {
+                folds.count(Fold.CONCATENATION);
+                var literal = new StringLiteral(s + t, location(b));
+                literal.type = TypeString.getInstance();
+                return literal;
+            }
+        }
+        return b;
+    }
+
+    /**
+     * @return The 64-bit result of the specified integer operation, or <code>null</code> if
+     *         it is not one or divides by zero, which must throw at run time.
+     */
+    private static Long arithmetic(BinaryExp b, long x, long y) {
+        if (b instanceof Plus) {
+            return x + y;
+        } else if (b instanceof Minus) {
+            return x - y;
+        } else if (b instanceof Times) {
+            return x * y;
+        } else if (b instanceof Divide) {
+            return y == 0 ? null : x / y;
+        } else if (b instanceof Mod) {
+            return y == 0 ? null : x % y;
+        } else if (b instanceof BitwiseAnd) {
+            return x & y;
+        } else if (b instanceof BitwiseOr) {
+            return x | y;
+        } else if (b instanceof BitwiseXor) {
+            return x ^ y;
+        } else if (b instanceof LeftShift) {
+            return x << y;  // like shl, shifts by the low 6 bits of y
+        } else if (b instanceof RightShift) {
+            return x >> y;
+        } else if (b instanceof UnsignedRightShift) {
+            return x >>> y;
+        }
+        return null;
+    }
+
+    private static Boolean comparison(BinaryExp b, long x, long y) {
+        if (b instanceof LessThan) {
+            return x < y;
+        } else if (b instanceof LessThanOrEqual) {
+            return x <= y;
+        } else if (b instanceof GreaterThan) {
+            return x > y;
+        } else if (b instanceof GreaterThanOrEqual) {
+            return x >= y;
+        } else if (b instanceof Equal) {
+            return x == y;
+        } else if (b instanceof NotEqual) {
+            return x != y;
+        }
+        return null;
+    }
+
+    private static Boolean logic(BinaryExp b, boolean p, boolean q) {
+        if (b instanceof And) {
+            return p && q;
+        } else if (b instanceof Or) {
+            return p || q;
+        } else if (b instanceof BitwiseAnd) {
+            return p & q;
+        } else if (b instanceof BitwiseOr) {
+            return p | q;
+        } else if (b instanceof BitwiseXor) {
+            return p ^ q;
+        }
+        return null;
+    }
+
+    private static Integer integer(Expression e) {
+        return e instanceof IntegerLiteral i ? i.i : null;
+    }
+
+    private static Boolean bool(Expression e) {
+        if (e instanceof True) {
+            return true;
+        } else if (e instanceof False) {
+            return false;
+        }
+        return null;
+    }
+
+    /**
+     * @return The text the specified literal is concatenated as, or <code>null</code>.
+     */
+    private static String text(Expression e) {
+        if (e instanceof StringLiteral s) {
+            return s.s;
+        } else if (e instanceof IntegerLiteral i) {
+            return String.valueOf(i.i);
+        } else if (e instanceof True) {
+            return "true";
+        } else if (e instanceof False) {
+            return "false";
+        }
+        return null;
+    }
+
+    /**
+     * @return An integer literal replacing the specified expression, or the expression itself
+     *         if the value does not fit one.
+     */
+    private Expression integer(Exp e, long value) {
+        if (value != (int) value) {
+            return e;
+        }
+        folds.count(Fold.ARITHMETIC);
+        var literal = new IntegerLiteral((int) value, location(e));
+        literal.type = TypeInt.getInstance();
+        return literal;
+    }
+
+    private static Exp bool(ASTNode node, boolean value) {
+        var literal = value ? new True(location(node)) : new False(location(node));
+        literal.type = TypeBoolean.getInstance();
+        return literal;
+    }
+
+    private static Exp copy(Exp literal, ASTNode node) {
+        if (literal instanceof IntegerLiteral i) {
+            var copy = new IntegerLiteral(i.i, location(node));
+            copy.type = TypeInt.getInstance();
+            return copy;
+        }
+        return bool(node, literal instanceof True);
+    }
+
+    private static Location location(ASTNode node) {
+        return new Location(node.lineNumber, 0);
+    }
+}
@@ -41,8 +41,8 @@ public final class LocalVisitor extends LazyVisitor {
 
     @Override
     public void visit(MainClass n) {
-        symbolContext.enterClass(n.i1.s);
-        symbolContext.enterMethod("main");
+        symbolContext.enterClass(n.i1.id);
+        symbolContext.enterMethod(SymbolContext.MAIN);
         n.sl.forEach(s -> s.accept(this));  // main method statement(s)
         symbolContext.exit();
         symbolContext.exit();
@@ -52,7 +52,7 @@ public final class LocalVisitor extends LazyVisitor {
     public void visit(ClassDeclSimple n) {
         if (n.conflict) return;
 
-        symbolContext.enterClass(n.i.s);
+        symbolContext.enterClass(n.i.id);
         n.dl.forEach(d -> d.accept(this));
         n.ml.forEach(m -> m.accept(this));
         symbolContext.exit();
@@ -62,7 +62,7 @@ public final class LocalVisitor extends LazyVisitor {
     public void visit(ClassDeclExtends n) {
         if (n.conflict) return;
 
-        symbolContext.enterClass(n.i.s);
+        symbolContext.enterClass(n.i.id);
         n.dl.forEach(d -> d.accept(this));
         n.ml.forEach(m -> m.accept(this));
         symbolContext.exit();
@@ -84,7 +84,7 @@ public final class LocalVisitor extends LazyVisitor {
     public void visit(MethodDecl n) {
         if (n.conflict) return;
 
-        symbolContext.enterMethod(n.i.s);
+        symbolContext.enterMethod(n.i.id);
         n.sl.forEach(s -> s.accept(this));  // method statements
 
         symbolContext.exit();
@@ -135,9 +135,9 @@ public final class LocalVisitor extends LazyVisitor {
 
     @Override
     public void visit(IdentifierType n) {
-        var class_ = symbolContext.lookupClass(n.s);
+        var class_ = symbolContext.lookupClass(n.id);
         if (class_ != null) {
-            n.type = new TypeObject(class_);
+            n.type = TypeObject.of(class_);
         } else {
             n.type = TypeUnknown.getInstance();
         }
@@ -200,7 +200,7 @@ public final class LocalVisitor extends LazyVisitor {
         if (parent == null) {
             return null;
         }
-        final var classInfo = symbolContext.lookupClass(parent.name);
+        final var classInfo = symbolContext.lookupClass(parent.id);
         if (classInfo == null) {
             return null;
         }
@@ -666,7 +666,7 @@ public final class LocalVisitor extends LazyVisitor {
             if (n.el.size() == arr.dimension) {
                 n.type = arr.type;
             } else {
-                n.type = new TypeArray(arr.type, arr.dimension - n.el.size());
+                n.type = TypeArray.of(arr.type, arr.dimension - n.el.size());
             }
         } else {
             logger.logError("Cannot index on non-array type %s%n", n.e1.eval().type);
@@ -706,15 +706,16 @@ public final class LocalVisitor extends LazyVisitor {
         }
 
         if (n.e.eval().type instanceof TypeObject obj) {
-            var m = symbolContext.lookupMethod(n.i.s, obj.base);
+            var m = symbolContext.lookupMethod(n.i.id, obj.base);
             if (m == null) {
-                if (!symbolContext.isUnknown(n.i.s)) {
+                if (!symbolContext.isUnknown(n.i.id)) {
                     logger.logError("Cannot resolve method \"%s\" in \"%s\"%n",
                             n.i, obj.base.name);
                 }
                 return;
             }
 
+            n.resolvedMethod = m;
             n.type = m.returnType;  // call node type = method return type
 
             if (m.argumentCount() != n.el.size()) {
@@ -748,9 +749,9 @@ public final class LocalVisitor extends LazyVisitor {
         }
 
         if (n.e.eval().type instanceof TypeObject obj) {
-            var v = symbolContext.lookupInstanceVariable(n.i.s, obj.base);
+            var v = symbolContext.lookupInstanceVariable(n.i.id, obj.base);
             if (v == null) {
-                if (!symbolContext.isUnknown(n.i.s)) {
+                if (!symbolContext.isUnknown(n.i.id)) {
                     logger.logError("Cannot resolve field \"%s\" in \"%s\"%n",
                             n.i.s, obj.base.name);
                 }
@@ -789,16 +790,16 @@ public final class LocalVisitor extends LazyVisitor {
         n.e.accept(this); // identifier expression
 
         // Lookup identifier in LHS, check that it's a class
-        var c = symbolContext.lookupClass(n.i.s);
+        var c = symbolContext.lookupClass(n.i.id);
 
         if (c != null) {
-            var obj = new TypeObject(c);
+            var obj = TypeObject.of(c);
             if (!n.e.eval().type.isAssignableTo(obj) && !obj.isAssignableTo(n.e.eval().type)) {
                 logger.logError("Inconvertible types %s, %s for instanceof%n",
                         n.e.eval().type, n.i.s);
             }
         } else {
-            if (!symbolContext.isUnknown(n.i.s)) {
+            if (!symbolContext.isUnknown(n.i.id)) {
                 logger.logError("Cannot apply instanceof to \"%s\". Is it a class?%n",
                         n.i.s);
             }
@@ -834,9 +835,9 @@ public final class LocalVisitor extends LazyVisitor {
 
     @Override
     public void visit(IdentifierExp n) {
-        var v = symbolContext.lookupVariable(n.s);
+        var v = symbolContext.lookupVariable(n.id);
         if (v == null) {
-            if (!symbolContext.isUnknown(n.s)) {
+            if (!symbolContext.isUnknown(n.id)) {
                 logger.logError("Cannot interpret \"%s\" as an expression. Is it a variable?%n",
                         n.s);
             }
@@ -853,7 +854,7 @@ public final class LocalVisitor extends LazyVisitor {
     @Override
     public void visit(This n) {
         usingInstanceMember = true;
-        n.type = new TypeObject(symbolContext.getCurrentClass());
+        n.type = TypeObject.of(symbolContext.getCurrentClass());
     }
 
     @Override
@@ -872,16 +873,16 @@ public final class LocalVisitor extends LazyVisitor {
                     n.el.size(), n.t);
         }
 
-        n.type = new TypeArray((TypeSingular) n.t.type, n.el.size());
+        n.type = TypeArray.of((TypeSingular) n.t.type, n.el.size());
     }
 
     @Override
     public void visit(NewObject n) {
         n.el.forEach(e -> e.accept(this));  // parameters
 
-        var classInfo = symbolContext.lookupClass(n.i.s);
+        var classInfo = symbolContext.lookupClass(n.i.id);
         if (classInfo == null) {
-            if (!symbolContext.isUnknown(n.i.s)) {
+            if (!symbolContext.isUnknown(n.i.id)) {
                 logger.logError("Cannot resolve class \"%s\"%n", n.i.s);
             }
             n.type = TypeUnknown.getInstance();
@@ -901,7 +902,7 @@ public final class LocalVisitor extends LazyVisitor {
         }
 
         n.resolvedConstructor = constructorInfo;
-        n.type = new TypeObject(classInfo);
+        n.type = TypeObject.of(classInfo);
     }
 
     @Override
@@ -0,0 +1,73 @@
+package server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thin client for {@link CompileServer}. It takes the same arguments as a regular
+ * invocation, forwards them to the server and reproduces the server's output and
+ * exit status locally.
+ */
+public final class CompileClient {
+    private CompileClient() {}
+
+    /**
+     * Sends a compile request to the server listening on the specified address.
+     * Relative paths are resolved against the working directory of the client.
+     * @param address A TCP port on the loopback interface, or the path of a unix domain socket.
+     * @param args The command-line arguments to compile with.
+     * @param inline Whether to send the contents of source files rather than their paths.
+     * @return The exit status of the compilation.
+     * @throws IOException If no server can be reached at the specified address.
+     */
+    public static int compile(String address, String[] args, boolean inline) throws IOException {
+        var resolved = args.clone();
+        Map<String, byte[]> sources = new LinkedHashMap<>();
+        for (int i = 0; i < resolved.length; i++) {
+            var arg = resolved[i];
+            if ((arg.equals("-o") || arg.equals("-d")) && i + 1 < resolved.length) {
+                resolved[i + 1] = new File(resolved[i + 1]).getAbsolutePath();
+                i++;
+                continue;
+            }
+
+            var f = new File(arg);
+            if (arg.startsWith("-") || !f.exists()) {
+                continue;
+            }
+            if (inline && f.isFile()) {
+                sources.put(arg, Files.readAllBytes(f.toPath()));
+            } else {
+                resolved[i] = f.getAbsolutePath();
+            }
+        }
+
+        var socketAddress = Protocol.parseAddress(address);
+        var family = socketAddress instanceof UnixDomainSocketAddress
+                ? StandardProtocolFamily.UNIX
+                : StandardProtocolFamily.INET;
+        Protocol.Response response;
+        try (var channel = SocketChannel.open(family)) {
+            channel.connect(socketAddress);
+            var out = new DataOutputStream(Channels.newOutputStream(channel));
+            var in = new DataInputStream(Channels.newInputStream(channel));
+            Protocol.writeRequest(out, new Protocol.Request(resolved, sources));
+            response = Protocol.readResponse(in);
+        }
+
+        System.out.write(response.out());
+        System.err.write(response.err());
+        System.out.flush();
+        System.err.flush();
+        return response.status();
+    }
+}
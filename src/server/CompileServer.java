@@ -0,0 +1,172 @@
+package server;
+
+import commons.OutputRouter;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static phase.CompilerState.EXIT_FAILURE;
+
+/**
+ * A long-lived compile daemon. Requests are served concurrently from a single JVM,
+ * so the compiler classes, parser tables and JIT-compiled code stay warm between
+ * compilations. Each request's standard output and error are captured and sent back
+ * along with its exit status; see {@link Protocol} for the wire format.
+ * <p>
+ * The server runs each request's arguments as given, with its own permissions: the
+ * output paths of <code>-o</code>, <code>-d</code> and <code>--cache</code> are written
+ * by the server, on behalf of any client that can connect. Serve on a unix domain socket
+ * whose directory only trusted users can access, or on a port of a single-user machine.
+ */
+public final class CompileServer implements Closeable {
+    /**
+     * Compiles as specified by command-line arguments, returning the exit status.
+     */
+    @FunctionalInterface
+    public interface Compiler {
+        int compile(String[] args);
+    }
+
+    private final ServerSocketChannel channel;
+    private final Compiler compiler;
+    private final ExecutorService workers;
+
+    /**
+     * Serves compile requests on the specified address until the process is terminated.
+     * @param address A TCP port on the loopback interface, or the path of a unix domain socket.
+     * @param compiler The compiler to run each request's arguments through.
+     * @throws IOException If the address cannot be bound.
+     */
+    public static void serve(String address, Compiler compiler) throws IOException {
+        var server = bind(address, compiler);
+        System.err.printf("Serving compile requests on %s%n", address);
+        server.run();
+    }
+
+    /**
+     * Binds a server to the specified address, which serves requests once {@link #run() run}.
+     * @param address A TCP port on the loopback interface, or the path of a unix domain socket.
+     * @param compiler The compiler to run each request's arguments through.
+     * @throws IOException If the address cannot be bound.
+     */
+    public static CompileServer bind(String address, Compiler compiler) throws IOException {
+        var socketAddress = Protocol.parseAddress(address);
+        ServerSocketChannel channel;
+        if (socketAddress instanceof UnixDomainSocketAddress unix) {
+            var path = unix.getPath();
+            Files.deleteIfExists(path);  // stale socket of a previous server
+            channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException ignored) {}
+            }));
+        } else {
+            channel = ServerSocketChannel.open(StandardProtocolFamily.INET);
+        }
+        channel.bind(socketAddress);
+
+        OutputRouter.installStandardStreams();
+        return new CompileServer(channel, compiler);
+    }
+
+    private CompileServer(ServerSocketChannel channel, Compiler compiler) {
+        this.channel = channel;
+        this.compiler = compiler;
+        this.workers = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Serves compile requests until this server is {@link #close() closed}.
+     */
+    public void run() throws IOException {
+        try (channel) {
+            while (channel.isOpen()) {
+                SocketChannel client;
+                try {
+                    client = channel.accept();
+                } catch (ClosedChannelException e) {
+                    break;  // closed while waiting
+                }
+                workers.execute(() -> handle(client));
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Stops accepting compile requests. Requests already accepted are abandoned.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void handle(SocketChannel client) {
+        try (client) {
+            var in = new DataInputStream(Channels.newInputStream(client));
+            var out = new DataOutputStream(Channels.newOutputStream(client));
+            var request = Protocol.readRequest(in);
+            Protocol.writeResponse(out, compile(request));
+        } catch (IOException | RuntimeException e) {
+            // a malformed request must not take down the worker
+            System.err.printf("Dropped compile request: %s%n", e);
+        }
+    }
+
+    private Protocol.Response compile(Protocol.Request request) throws IOException {
+        var args = request.args().clone();
+        Path sources = null;
+        try {
+            if (!request.sources().isEmpty()) {
+                sources = Files.createTempDirectory("compile");
+                int index = 0;
+                for (var source : request.sources().entrySet()) {
+                    // keep the file name, it shows up in diagnostics, in a directory of its own
+                    // so that sources of the same name in different client directories don't collide
+                    var directory = Files.createDirectory(sources.resolve(String.valueOf(index++)));
+                    var file = directory.resolve(Path.of(source.getKey()).getFileName());
+                    Files.write(file, source.getValue());
+                    for (int i = 0; i < args.length; i++) {
+                        if (args[i].equals(source.getKey())) {
+                            args[i] = file.toString();
+                        }
+                    }
+                }
+            }
+
+            var captured = OutputRouter.capture(() -> {
+                try {
+                    return compiler.compile(args);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    System.err.printf("Unexpected internal compiler error: %s%n", e);
+                    return EXIT_FAILURE;
+                }
+            });
+            return new Protocol.Response(captured.status(),
+                    captured.out().toByteArray(), captured.err().toByteArray());
+        } finally {
+            if (sources != null) {
+                try (Stream<Path> files = Files.walk(sources)) {
+                    files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Wire format shared by {@link CompileServer} and {@link CompileClient}. Every
+ * connection carries exactly one request followed by one response.
+ *
+ * <pre>
+ * request:  int MAGIC, int argc, argc x UTF arg,
+ *           int sourceCount, sourceCount x (UTF name, int length, length x byte)
+ * response: int status, int length, length x byte stdout, int length, length x byte stderr
+ * </pre>
+ *
+ * Inline sources replace each argument equal to their name with a server-side copy
+ * of the source, so clients need not share a file system with the server.
+ */
+final class Protocol {
+    static final int MAGIC = 0x4A434D31;  // "JCM1"
+    static final int MAX_ARGS = 1 << 16;
+    static final int MAX_SOURCES = 1 << 16;
+
+    private Protocol() {}
+
+    /**
+     * @param address A TCP port on the loopback interface, or the path of a unix domain socket.
+     * @return The socket address described by <code>address</code>.
+     */
+    static SocketAddress parseAddress(String address) {
+        if (!address.isEmpty() && address.chars().allMatch(Character::isDigit)) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+        }
+        return UnixDomainSocketAddress.of(address);
+    }
+
+    record Request(String[] args, Map<String, byte[]> sources) {}
+
+    record Response(int status, byte[] out, byte[] err) {}
+
+    static void writeRequest(DataOutputStream out, Request request) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(request.args().length);
+        for (var arg : request.args()) {
+            out.writeUTF(arg);
+        }
+        out.writeInt(request.sources().size());
+        for (var source : request.sources().entrySet()) {
+            out.writeUTF(source.getKey());
+            writeBytes(out, source.getValue());
+        }
+        out.flush();
+    }
+
+    static Request readRequest(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a compile request");
+        }
+        var args = new String[readCount(in, MAX_ARGS)];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = in.readUTF();
+        }
+        int count = readCount(in, MAX_SOURCES);
+        Map<String, byte[]> sources = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            sources.put(in.readUTF(), readBytes(in));
+        }
+        return new Request(args, sources);
+    }
+
+    static void writeResponse(DataOutputStream out, Response response) throws IOException {
+        out.writeInt(response.status());
+        writeBytes(out, response.out());
+        writeBytes(out, response.err());
+        out.flush();
+    }
+
+    static Response readResponse(DataInputStream in) throws IOException {
+        int status = in.readInt();
+        return new Response(status, readBytes(in), readBytes(in));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * @return A count of elements that follow, checked before anything is allocated for them.
+     */
+    private static int readCount(DataInputStream in, int max) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > max) {
+            throw new IOException("Malformed message");
+        }
+        return count;
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Malformed message");
+        }
+        var bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("Truncated message");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,66 @@
+package snapshot;
+
+import ast.Program;
+
+import java.io.IOException;
+
+/**
+ * A compact binary serialization of a parsed {@link Program}, which lets a compilation
+ * of an unchanged source skip the scan and parse phases.
+ *
+ * <pre>
+ * snapshot: int MAGIC, int VERSION, node
+ * node:     byte tag, varint lineNumber, children..., [symbols used, symbols defined]
+ * list:     varint lineNumber, varint size, size x node
+ * string:   varint index, [varint length, length x byte UTF-8]   (bytes on first occurrence only)
+ * symbols:  varint count, count x (string name, varint lineNumber)
+ * </pre>
+ *
+ * The used and defined sets follow the children of every statement. Identifiers and
+ * symbol names are interned through the string table, so each name is stored once.
+ * A snapshot says nothing about which source it was taken from; callers are expected
+ * to key it by the source content, as the compilation cache does.
+ */
+public final class AstSnapshot {
+    static final int MAGIC = 0x4A415354;  // "JAST"
+    static final int VERSION = 1;
+
+    private AstSnapshot() {}
+
+    /**
+     * @return The snapshot of the specified program.
+     */
+    public static byte[] write(Program program) {
+        var writer = new SnapshotWriter();
+        writer.writeInt(MAGIC);
+        writer.writeInt(VERSION);
+        program.accept(writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * @return The program stored in the specified snapshot.
+     * @throws IOException If the snapshot is truncated, corrupt or of another version.
+     */
+    public static Program read(byte[] snapshot) throws IOException {
+        if (snapshot.length < 8 || readInt(snapshot, 0) != MAGIC) {
+            throw new IOException("Not an AST snapshot");
+        }
+        if (readInt(snapshot, 4) != VERSION) {
+            throw new IOException("Unsupported AST snapshot version: " + readInt(snapshot, 4));
+        }
+        var reader = new SnapshotReader(snapshot, 8);
+        var program = reader.program();
+        if (program == null || !reader.atEnd()) {
+            throw new IOException("Corrupt AST snapshot");
+        }
+        return program;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24
+                | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8
+                | (bytes[offset + 3] & 0xFF);
+    }
+}
@@ -0,0 +1,288 @@
+package snapshot;
+
+import ast.*;
+import dataflow.Symbol;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads an AST written by {@link SnapshotWriter}.
+ */
+final class SnapshotReader {
+    private final byte[] buffer;
+    private final List<String> strings = new ArrayList<>();
+    private int position;
+
+    SnapshotReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    boolean atEnd() {
+        return position == buffer.length;
+    }
+
+    int readByte() throws IOException {
+        if (position >= buffer.length) {
+            throw new IOException("Truncated snapshot");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    int readInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed integer in snapshot");
+    }
+
+    private boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    private String string() throws IOException {
+        int index = readInt();
+        if (index < strings.size()) {
+            return strings.get(index);
+        }
+        if (index != strings.size()) {
+            throw new IOException("Malformed string table in snapshot");
+        }
+        int length = readInt();
+        if (length < 0 || length > buffer.length - position) {
+            throw new IOException("Truncated snapshot");
+        }
+        var s = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        strings.add(s);
+        return s;
+    }
+
+    private Location location() throws IOException {
+        int line = readInt();
+        return new Location(line, readInt());
+    }
+
+    private Location line() throws IOException {
+        return new Location(readInt(), 0);
+    }
+
+    /**
+     * Reads the <code>used</code> and <code>defined</code> sets which follow every statement.
+     */
+    private Statement statement(Statement n) throws IOException {
+        int count = readInt();
+        for (int i = 0; i < count; i++) {
+            n.addUsed(symbol());
+        }
+        count = readInt();
+        for (int i = 0; i < count; i++) {
+            n.addDefined(symbol());
+        }
+        return n;
+    }
+
+    private Symbol symbol() throws IOException {
+        var name = string();
+        return new Symbol(name, readInt());
+    }
+
+    Program program() throws IOException {
+        return cast(node(), Program.class);
+    }
+
+    private MainClass mainClass() throws IOException {
+        return cast(node(), MainClass.class);
+    }
+
+    private Identifier identifier() throws IOException {
+        return cast(node(), Identifier.class);
+    }
+
+    private ast.Type type() throws IOException {
+        return cast(node(), ast.Type.class);
+    }
+
+    private Statement statement() throws IOException {
+        return cast(node(), Statement.class);
+    }
+
+    private Expression expression() throws IOException {
+        return cast(node(), Expression.class);
+    }
+
+    private static <T> T cast(Object node, Class<T> type) throws IOException {
+        if (node != null && !type.isInstance(node)) {
+            throw new IOException("Expected " + type.getSimpleName() + " in snapshot, found " + node.getClass().getSimpleName());
+        }
+        return type.cast(node);
+    }
+
+    private ClassDeclList classDeclList() throws IOException {
+        var list = new ClassDeclList(line());
+        for (int i = readInt(); i > 0; i--) {
+            list.add(cast(node(), ClassDecl.class));
+        }
+        return list;
+    }
+
+    private VarDeclarationList varDeclarationList() throws IOException {
+        var list = new VarDeclarationList(line());
+        for (int i = readInt(); i > 0; i--) {
+            list.add(cast(node(), VarDeclaration.class));
+        }
+        return list;
+    }
+
+    private MemberDeclList memberDeclList() throws IOException {
+        var list = new MemberDeclList(line());
+        for (int i = readInt(); i > 0; i--) {
+            list.add(cast(node(), MemberDecl.class));
+        }
+        return list;
+    }
+
+    private FormalList formalList() throws IOException {
+        var list = new FormalList(line());
+        for (int i = readInt(); i > 0; i--) {
+            list.add(cast(node(), Formal.class));
+        }
+        return list;
+    }
+
+    private StatementList statementList() throws IOException {
+        var list = new StatementList(line());
+        for (int i = readInt(); i > 0; i--) {
+            list.add(statement());
+        }
+        return list;
+    }
+
+    private ExpressionList expressionList() throws IOException {
+        var list = new ExpressionList(line());
+        for (int i = readInt(); i > 0; i--) {
+            list.add(expression());
+        }
+        return list;
+    }
+
+    private CaseList caseList() throws IOException {
+        var list = new CaseList(line());
+        for (int i = readInt(); i > 0; i--) {
+            list.add(cast(node(), Case.class));
+        }
+        return list;
+    }
+
+    /**
+     * @return The next node, or <code>null</code> for {@link Tag#NULL}.
+     */
+    private Object node() throws IOException {
+        var tag = Tag.of(readByte());
+        if (tag == Tag.NULL) {
+            return null;
+        }
+        var pos = line();
+        return switch (tag) {
+            case NULL -> throw new AssertionError();
+            case PROGRAM -> new Program(mainClass(), classDeclList(), pos);
+            case MAIN_CLASS -> new MainClass(identifier(), identifier(), statementList(), pos, location());
+            case CLASS_DECL_SIMPLE -> new ClassDeclSimple(identifier(), varDeclarationList(), memberDeclList(), pos);
+            case CLASS_DECL_EXTENDS -> new ClassDeclExtends(identifier(), identifier(), varDeclarationList(), memberDeclList(), pos);
+            case CONSTRUCTOR_DECL -> new ConstructorDecl(identifier(), formalList(), statementList(), pos, location());
+            case VAR_DECL -> statement(new VarDecl(type(), identifier(), pos));
+            case VAR_INIT -> statement(new VarInit(type(), identifier(), expression(), pos));
+            case METHOD_DECL -> new MethodDecl(type(), identifier(), formalList(), statementList(), pos, location());
+            case FORMAL -> new Formal(type(), identifier(), pos);
+            case VOID_TYPE -> new VoidType(pos);
+            case ARRAY_TYPE -> {
+                var arrayType = new ArrayType(cast(node(), SingularType.class), pos);
+                arrayType.dimension = readInt();
+                yield arrayType;
+            }
+            case BOOLEAN_TYPE -> new BooleanType(pos);
+            case INTEGER_TYPE -> new IntegerType(pos);
+            case STRING_TYPE -> new StringType(pos);
+            case IDENTIFIER_TYPE -> new IdentifierType(string(), pos);
+            case BLOCK -> statement(new Block(statementList(), pos));
+            case RETURN -> statement(new Return(expression(), pos));
+            case IF -> statement(new If(expression(), statement(), pos));
+            case IF_ELSE -> statement(new IfElse(expression(), statement(), statement(), pos));
+            case SWITCH -> statement(new Switch(expression(), caseList(), pos));
+            case CASE_SIMPLE -> new CaseSimple(readInt(), statementList(), readBoolean(), pos);
+            case CASE_DEFAULT -> new CaseDefault(statementList(), readBoolean(), pos);
+            case WHILE -> statement(new While(expression(), statement(), pos));
+            case FOR -> statement(new For(cast(node(), StatementSimple.class), expression(), cast(node(), StatementSimple.class), statement(), pos));
+            case PRINT -> statement(new Print(expression(), pos));
+            case ASSIGN_SIMPLE -> statement(new AssignSimple(expression(), expression(), pos));
+            case ASSIGN_PLUS -> statement(new AssignPlus(expression(), expression(), pos));
+            case ASSIGN_MINUS -> statement(new AssignMinus(expression(), expression(), pos));
+            case ASSIGN_TIMES -> statement(new AssignTimes(expression(), expression(), pos));
+            case ASSIGN_DIVIDE -> statement(new AssignDivide(expression(), expression(), pos));
+            case ASSIGN_MOD -> statement(new AssignMod(expression(), expression(), pos));
+            case ASSIGN_AND -> statement(new AssignAnd(expression(), expression(), pos));
+            case ASSIGN_OR -> statement(new AssignOr(expression(), expression(), pos));
+            case ASSIGN_XOR -> statement(new AssignXor(expression(), expression(), pos));
+            case ASSIGN_LEFT_SHIFT -> statement(new AssignLeftShift(expression(), expression(), pos));
+            case ASSIGN_RIGHT_SHIFT -> statement(new AssignRightShift(expression(), expression(), pos));
+            case ASSIGN_UNSIGNED_RIGHT_SHIFT -> statement(new AssignUnsignedRightShift(expression(), expression(), pos));
+            case POST_INCREMENT -> statement(new PostIncrement(expression(), pos));
+            case PRE_INCREMENT -> statement(new PreIncrement(expression(), pos));
+            case POST_DECREMENT -> statement(new PostDecrement(expression(), pos));
+            case PRE_DECREMENT -> statement(new PreDecrement(expression(), pos));
+            case AND -> new And(expression(), expression(), pos);
+            case OR -> new Or(expression(), expression(), pos);
+            case EQUAL -> new Equal(expression(), expression(), pos);
+            case NOT_EQUAL -> new NotEqual(expression(), expression(), pos);
+            case LESS_THAN -> new LessThan(expression(), expression(), pos);
+            case LESS_THAN_OR_EQUAL -> new LessThanOrEqual(expression(), expression(), pos);
+            case GREATER_THAN -> new GreaterThan(expression(), expression(), pos);
+            case GREATER_THAN_OR_EQUAL -> new GreaterThanOrEqual(expression(), expression(), pos);
+            case BITWISE_AND -> new BitwiseAnd(expression(), expression(), pos);
+            case BITWISE_OR -> new BitwiseOr(expression(), expression(), pos);
+            case BITWISE_XOR -> new BitwiseXor(expression(), expression(), pos);
+            case UNARY_MINUS -> new UnaryMinus(expression(), pos);
+            case UNARY_PLUS -> new UnaryPlus(expression(), pos);
+            case PLUS -> new Plus(expression(), expression(), pos);
+            case MINUS -> new Minus(expression(), expression(), pos);
+            case TIMES -> new Times(expression(), expression(), pos);
+            case DIVIDE -> new Divide(expression(), expression(), pos);
+            case MOD -> new Mod(expression(), expression(), pos);
+            case LEFT_SHIFT -> new LeftShift(expression(), expression(), pos);
+            case RIGHT_SHIFT -> new RightShift(expression(), expression(), pos);
+            case UNSIGNED_RIGHT_SHIFT -> new UnsignedRightShift(expression(), expression(), pos);
+            case ARRAY_LOOKUP -> new ArrayLookup(expression(), expressionList(), pos);
+            case ARRAY_LENGTH -> new ArrayLength(expression(), pos);
+            case ACTION -> statement(new Action(cast(node(), Call.class), pos));
+            case CALL -> new Call(expression(), identifier(), expressionList(), pos);
+            case SUPER_CTOR_INVOCATION -> statement(new SuperCtorInvocation(expressionList(), pos));
+            case THIS_CTOR_INVOCATION -> statement(new ThisCtorInvocation(expressionList(), pos));
+            case FIELD -> new Field(expression(), identifier(), pos);
+            case TERNARY -> new Ternary(expression(), expression(), expression(), pos);
+            case INSTANCE_OF -> new InstanceOf(expression(), identifier(), pos);
+            case INTEGER_LITERAL -> new IntegerLiteral(readInt(), pos);
+            case STRING_LITERAL -> new StringLiteral(string(), pos);
+            case NULL_LITERAL -> new NullLiteral(pos);
+            case TRUE -> new True(pos);
+            case FALSE -> new False(pos);
+            case IDENTIFIER_EXP -> new IdentifierExp(string(), pos);
+            case THIS -> new This(pos);
+            case NEW_ARRAY -> new NewArray(cast(node(), SingularType.class), expressionList(), pos);
+            case NEW_OBJECT -> new NewObject(identifier(), expressionList(), pos);
+            case NOT -> new Not(expression(), pos);
+            case BITWISE_NOT -> new BitwiseNot(expression(), pos);
+            case IDENTIFIER -> new Identifier(string(), pos);
+            case NO_OP -> statement(new NoOp(pos));
+            case NO_OP_EXP -> new NoOpExp(pos);
+        };
+    }
+}
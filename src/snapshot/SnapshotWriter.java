@@ -0,0 +1,717 @@
+package snapshot;
+
+import ast.*;
+import commons.Visitor;
+import dataflow.Symbol;
+import java_cup.runtime.ComplexSymbolFactory.Location;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes an AST in the snapshot format described by {@link AstSnapshot}. Every node
+ * is written as its {@link Tag}, its line number and its children in constructor order;
+ * statements are followed by their <code>used</code> and <code>defined</code> sets.
+ */
+final class SnapshotWriter implements Visitor {
+    private final Map<String, Integer> strings = new HashMap<>();
+    private byte[] buffer = new byte[4096];
+    private int size;
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    void writeByte(int b) {
+        if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[size++] = (byte) b;
+    }
+
+    void writeInt(int value) {
+        writeByte(value >>> 24);
+        writeByte(value >>> 16);
+        writeByte(value >>> 8);
+        writeByte(value);
+    }
+
+    /**
+     * Writes the specified value in 7-bit groups, least significant first, so that
+     * small values such as line numbers and list sizes take a single byte.
+     */
+    void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    private void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes the index of the specified string in the string table, followed by
+     * the string itself on its first occurrence.
+     */
+    private void string(String s) {
+        var index = strings.get(s);
+        if (index != null) {
+            writeVarInt(index);
+            return;
+        }
+        writeVarInt(strings.size());
+        strings.put(s, strings.size());
+        var bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        for (var b : bytes) {
+            writeByte(b);
+        }
+    }
+
+    private void location(Location location) {
+        writeVarInt(location.getLine());
+        writeVarInt(location.getColumn());
+    }
+
+    private void begin(Tag tag, ASTNode n) {
+        writeByte(tag.ordinal());
+        writeVarInt(n.lineNumber);
+    }
+
+    private void end(Statement n) {
+        symbols(n.getUsed());
+        symbols(n.getDefined());
+    }
+
+    private void symbols(List<Symbol> symbols) {
+        writeVarInt(symbols.size());
+        for (var symbol : symbols) {
+            string(symbol.name());
+            writeVarInt(symbol.lineNumber());
+        }
+    }
+
+    /**
+     * Writes the specified node, or {@link Tag#NULL} if it is absent.
+     */
+    private void node(Object n) {
+        if (n == null) {
+            writeByte(Tag.NULL.ordinal());
+        } else if (n instanceof Expression e) {
+            e.accept(this);
+        } else if (n instanceof Statement s) {
+            s.accept(this);
+        } else if (n instanceof ast.Type t) {
+            t.accept(this);
+        } else if (n instanceof Identifier i) {
+            i.accept(this);
+        } else if (n instanceof MainClass m) {
+            m.accept(this);
+        } else if (n instanceof Formal f) {
+            f.accept(this);
+        } else {
+            throw new IllegalArgumentException("Not a snapshot node: " + n.getClass().getName());
+        }
+    }
+
+    private void binary(Tag tag, BinaryExp n) {
+        begin(tag, n);
+        node(n.e1);
+        node(n.e2);
+    }
+
+    private void assign(Tag tag, Assign n) {
+        begin(tag, n);
+        node(n.e1);
+        node(n.e2);
+        end(n);
+    }
+
+    private void increment(Tag tag, Increment n) {
+        begin(tag, n);
+        node(n.e);
+        end(n);
+    }
+
+    private void classes(ClassDeclList list) {
+        writeVarInt(list.lineNumber);
+        writeVarInt(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).accept(this);
+        }
+    }
+
+    private void variables(VarDeclarationList list) {
+        writeVarInt(list.lineNumber);
+        writeVarInt(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).accept(this);
+        }
+    }
+
+    private void members(MemberDeclList list) {
+        writeVarInt(list.lineNumber);
+        writeVarInt(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).accept(this);
+        }
+    }
+
+    private void formals(FormalList list) {
+        writeVarInt(list.lineNumber);
+        writeVarInt(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).accept(this);
+        }
+    }
+
+    private void statements(StatementList list) {
+        writeVarInt(list.lineNumber);
+        writeVarInt(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            node(list.get(i));
+        }
+    }
+
+    private void expressions(ExpressionList list) {
+        writeVarInt(list.lineNumber);
+        writeVarInt(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            node(list.get(i));
+        }
+    }
+
+    private void cases(CaseList list) {
+        writeVarInt(list.lineNumber);
+        writeVarInt(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).accept(this);
+        }
+    }
+
+    @Override
+    public void visit(Program n) {
+        begin(Tag.PROGRAM, n);
+        node(n.m);
+        classes(n.cl);
+    }
+
+    @Override
+    public void visit(MainClass n) {
+        begin(Tag.MAIN_CLASS, n);
+        node(n.i1);
+        node(n.i2);
+        statements(n.sl);
+        location(n.endPos);
+    }
+
+    @Override
+    public void visit(ClassDeclSimple n) {
+        begin(Tag.CLASS_DECL_SIMPLE, n);
+        node(n.i);
+        variables(n.dl);
+        members(n.ml);
+    }
+
+    @Override
+    public void visit(ClassDeclExtends n) {
+        begin(Tag.CLASS_DECL_EXTENDS, n);
+        node(n.i);
+        node(n.j);
+        variables(n.dl);
+        members(n.ml);
+    }
+
+    @Override
+    public void visit(ConstructorDecl n) {
+        begin(Tag.CONSTRUCTOR_DECL, n);
+        node(n.i);
+        formals(n.fl);
+        statements(n.sl);
+        location(n.endPos);
+    }
+
+    @Override
+    public void visit(VarDecl n) {
+        begin(Tag.VAR_DECL, n);
+        node(n.t);
+        node(n.i);
+        end(n);
+    }
+
+    @Override
+    public void visit(VarInit n) {
+        begin(Tag.VAR_INIT, n);
+        node(n.t);
+        node(n.i);
+        node(n.e);
+        end(n);
+    }
+
+    @Override
+    public void visit(MethodDecl n) {
+        begin(Tag.METHOD_DECL, n);
+        node(n.t);
+        node(n.i);
+        formals(n.fl);
+        statements(n.sl);
+        location(n.endPos);
+    }
+
+    @Override
+    public void visit(Formal n) {
+        begin(Tag.FORMAL, n);
+        node(n.t);
+        node(n.i);
+    }
+
+    @Override
+    public void visit(VoidType n) {
+        begin(Tag.VOID_TYPE, n);
+    }
+
+    @Override
+    public void visit(ArrayType n) {
+        begin(Tag.ARRAY_TYPE, n);
+        node(n.t);
+        writeVarInt(n.dimension);
+    }
+
+    @Override
+    public void visit(BooleanType n) {
+        begin(Tag.BOOLEAN_TYPE, n);
+    }
+
+    @Override
+    public void visit(IntegerType n) {
+        begin(Tag.INTEGER_TYPE, n);
+    }
+
+    @Override
+    public void visit(StringType n) {
+        begin(Tag.STRING_TYPE, n);
+    }
+
+    @Override
+    public void visit(IdentifierType n) {
+        begin(Tag.IDENTIFIER_TYPE, n);
+        string(n.s);
+    }
+
+    @Override
+    public void visit(Block n) {
+        begin(Tag.BLOCK, n);
+        statements(n.sl);
+        end(n);
+    }
+
+    @Override
+    public void visit(Return n) {
+        begin(Tag.RETURN, n);
+        node(n.e);
+        end(n);
+    }
+
+    @Override
+    public void visit(If n) {
+        begin(Tag.IF, n);
+        node(n.e);
+        node(n.s);
+        end(n);
+    }
+
+    @Override
+    public void visit(IfElse n) {
+        begin(Tag.IF_ELSE, n);
+        node(n.e);
+        node(n.s1);
+        node(n.s2);
+        end(n);
+    }
+
+    @Override
+    public void visit(Switch n) {
+        begin(Tag.SWITCH, n);
+        node(n.e);
+        cases(n.cl);
+        end(n);
+    }
+
+    @Override
+    public void visit(CaseSimple n) {
+        begin(Tag.CASE_SIMPLE, n);
+        writeVarInt(n.n);
+        statements(n.sl);
+        writeBoolean(n.breaks);
+    }
+
+    @Override
+    public void visit(CaseDefault n) {
+        begin(Tag.CASE_DEFAULT, n);
+        statements(n.sl);
+        writeBoolean(n.breaks);
+    }
+
+    @Override
+    public void visit(While n) {
+        begin(Tag.WHILE, n);
+        node(n.e);
+        node(n.s);
+        end(n);
+    }
+
+    @Override
+    public void visit(For n) {
+        begin(Tag.FOR, n);
+        node(n.s0);
+        node(n.e);
+        node(n.s1);
+        node(n.s2);
+        end(n);
+    }
+
+    @Override
+    public void visit(Print n) {
+        begin(Tag.PRINT, n);
+        node(n.e);
+        end(n);
+    }
+
+    @Override
+    public void visit(AssignSimple n) {
+        assign(Tag.ASSIGN_SIMPLE, n);
+    }
+
+    @Override
+    public void visit(AssignPlus n) {
+        assign(Tag.ASSIGN_PLUS, n);
+    }
+
+    @Override
+    public void visit(AssignMinus n) {
+        assign(Tag.ASSIGN_MINUS, n);
+    }
+
+    @Override
+    public void visit(AssignTimes n) {
+        assign(Tag.ASSIGN_TIMES, n);
+    }
+
+    @Override
+    public void visit(AssignDivide n) {
+        assign(Tag.ASSIGN_DIVIDE, n);
+    }
+
+    @Override
+    public void visit(AssignMod n) {
+        assign(Tag.ASSIGN_MOD, n);
+    }
+
+    @Override
+    public void visit(AssignAnd n) {
+        assign(Tag.ASSIGN_AND, n);
+    }
+
+    @Override
+    public void visit(AssignOr n) {
+        assign(Tag.ASSIGN_OR, n);
+    }
+
+    @Override
+    public void visit(AssignXor n) {
+        assign(Tag.ASSIGN_XOR, n);
+    }
+
+    @Override
+    public void visit(AssignLeftShift n) {
+        assign(Tag.ASSIGN_LEFT_SHIFT, n);
+    }
+
+    @Override
+    public void visit(AssignRightShift n) {
+        assign(Tag.ASSIGN_RIGHT_SHIFT, n);
+    }
+
+    @Override
+    public void visit(AssignUnsignedRightShift n) {
+        assign(Tag.ASSIGN_UNSIGNED_RIGHT_SHIFT, n);
+    }
+
+    @Override
+    public void visit(PostIncrement n) {
+        increment(Tag.POST_INCREMENT, n);
+    }
+
+    @Override
+    public void visit(PreIncrement n) {
+        increment(Tag.PRE_INCREMENT, n);
+    }
+
+    @Override
+    public void visit(PostDecrement n) {
+        increment(Tag.POST_DECREMENT, n);
+    }
+
+    @Override
+    public void visit(PreDecrement n) {
+        increment(Tag.PRE_DECREMENT, n);
+    }
+
+    @Override
+    public void visit(And n) {
+        binary(Tag.AND, n);
+    }
+
+    @Override
+    public void visit(Or n) {
+        binary(Tag.OR, n);
+    }
+
+    @Override
+    public void visit(Equal n) {
+        binary(Tag.EQUAL, n);
+    }
+
+    @Override
+    public void visit(NotEqual n) {
+        binary(Tag.NOT_EQUAL, n);
+    }
+
+    @Override
+    public void visit(LessThan n) {
+        binary(Tag.LESS_THAN, n);
+    }
+
+    @Override
+    public void visit(LessThanOrEqual n) {
+        binary(Tag.LESS_THAN_OR_EQUAL, n);
+    }
+
+    @Override
+    public void visit(GreaterThan n) {
+        binary(Tag.GREATER_THAN, n);
+    }
+
+    @Override
+    public void visit(GreaterThanOrEqual n) {
+        binary(Tag.GREATER_THAN_OR_EQUAL, n);
+    }
+
+    @Override
+    public void visit(BitwiseAnd n) {
+        binary(Tag.BITWISE_AND, n);
+    }
+
+    @Override
+    public void visit(BitwiseOr n) {
+        binary(Tag.BITWISE_OR, n);
+    }
+
+    @Override
+    public void visit(BitwiseXor n) {
+        binary(Tag.BITWISE_XOR, n);
+    }
+
+    @Override
+    public void visit(UnaryMinus n) {
+        begin(Tag.UNARY_MINUS, n);
+        node(n.e);
+    }
+
+    @Override
+    public void visit(UnaryPlus n) {
+        begin(Tag.UNARY_PLUS, n);
+        node(n.e);
+    }
+
+    @Override
+    public void visit(Plus n) {
+        binary(Tag.PLUS, n);
+    }
+
+    @Override
+    public void visit(Minus n) {
+        binary(Tag.MINUS, n);
+    }
+
+    @Override
+    public void visit(Times n) {
+        binary(Tag.TIMES, n);
+    }
+
+    @Override
+    public void visit(Divide n) {
+        binary(Tag.DIVIDE, n);
+    }
+
+    @Override
+    public void visit(Mod n) {
+        binary(Tag.MOD, n);
+    }
+
+    @Override
+    public void visit(LeftShift n) {
+        binary(Tag.LEFT_SHIFT, n);
+    }
+
+    @Override
+    public void visit(RightShift n) {
+        binary(Tag.RIGHT_SHIFT, n);
+    }
+
+    @Override
+    public void visit(UnsignedRightShift n) {
+        binary(Tag.UNSIGNED_RIGHT_SHIFT, n);
+    }
+
+    @Override
+    public void visit(ArrayLookup n) {
+        begin(Tag.ARRAY_LOOKUP, n);
+        node(n.e1);
+        expressions(n.el);
+    }
+
+    @Override
+    public void visit(ArrayLength n) {
+        begin(Tag.ARRAY_LENGTH, n);
+        node(n.e);
+    }
+
+    @Override
+    public void visit(Action n) {
+        begin(Tag.ACTION, n);
+        node(n.c);
+        end(n);
+    }
+
+    @Override
+    public void visit(Call n) {
+        begin(Tag.CALL, n);
+        node(n.e);
+        node(n.i);
+        expressions(n.el);
+    }
+
+    @Override
+    public void visit(SuperCtorInvocation n) {
+        begin(Tag.SUPER_CTOR_INVOCATION, n);
+        expressions(n.el);
+        end(n);
+    }
+
+    @Override
+    public void visit(ThisCtorInvocation n) {
+        begin(Tag.THIS_CTOR_INVOCATION, n);
+        expressions(n.el);
+        end(n);
+    }
+
+    @Override
+    public void visit(Field n) {
+        begin(Tag.FIELD, n);
+        node(n.e);
+        node(n.i);
+    }
+
+    @Override
+    public void visit(Ternary n) {
+        begin(Tag.TERNARY, n);
+        node(n.c);
+        node(n.e1);
+        node(n.e2);
+    }
+
+    @Override
+    public void visit(InstanceOf n) {
+        begin(Tag.INSTANCE_OF, n);
+        node(n.e);
+        node(n.i);
+    }
+
+    @Override
+    public void visit(IntegerLiteral n) {
+        begin(Tag.INTEGER_LITERAL, n);
+        writeVarInt(n.i);
+    }
+
+    @Override
+    public void visit(StringLiteral n) {
+        begin(Tag.STRING_LITERAL, n);
+        string(n.s);
+    }
+
+    @Override
+    public void visit(NullLiteral n) {
+        begin(Tag.NULL_LITERAL, n);
+    }
+
+    @Override
+    public void visit(True n) {
+        begin(Tag.TRUE, n);
+    }
+
+    @Override
+    public void visit(False n) {
+        begin(Tag.FALSE, n);
+    }
+
+    @Override
+    public void visit(IdentifierExp n) {
+        begin(Tag.IDENTIFIER_EXP, n);
+        string(n.s);
+    }
+
+    @Override
+    public void visit(This n) {
+        begin(Tag.THIS, n);
+    }
+
+    @Override
+    public void visit(NewArray n) {
+        begin(Tag.NEW_ARRAY, n);
+        node(n.t);
+        expressions(n.el);
+    }
+
+    @Override
+    public void visit(NewObject n) {
+        begin(Tag.NEW_OBJECT, n);
+        node(n.i);
+        expressions(n.el);
+    }
+
+    @Override
+    public void visit(Not n) {
+        begin(Tag.NOT, n);
+        node(n.e);
+    }
+
+    @Override
+    public void visit(BitwiseNot n) {
+        begin(Tag.BITWISE_NOT, n);
+        node(n.e);
+    }
+
+    @Override
+    public void visit(Identifier n) {
+        begin(Tag.IDENTIFIER, n);
+        string(n.s);
+    }
+
+    @Override
+    public void visit(NoOp n) {
+        begin(Tag.NO_OP, n);
+        end(n);
+    }
+
+    @Override
+    public void visit(NoOpExp n) {
+        begin(Tag.NO_OP_EXP, n);
+    }
+}
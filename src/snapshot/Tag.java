@@ -0,0 +1,107 @@
+package snapshot;
+
+import java.io.IOException;
+
+/**
+ * The tag that precedes every node in a snapshot, identifying its concrete class.
+ * One tag per node visited by {@link commons.Visitor}, plus {@link Tag#NULL} for
+ * absent children. Tags are written as their ordinal, so new tags must be appended
+ * and {@link AstSnapshot#VERSION} bumped whenever existing tags change.
+ */
+enum Tag {
+    NULL,
+    PROGRAM,
+    MAIN_CLASS,
+    CLASS_DECL_SIMPLE,
+    CLASS_DECL_EXTENDS,
+    CONSTRUCTOR_DECL,
+    VAR_DECL,
+    VAR_INIT,
+    METHOD_DECL,
+    FORMAL,
+    VOID_TYPE,
+    ARRAY_TYPE,
+    BOOLEAN_TYPE,
+    INTEGER_TYPE,
+    STRING_TYPE,
+    IDENTIFIER_TYPE,
+    BLOCK,
+    RETURN,
+    IF,
+    IF_ELSE,
+    SWITCH,
+    CASE_SIMPLE,
+    CASE_DEFAULT,
+    WHILE,
+    FOR,
+    PRINT,
+    ASSIGN_SIMPLE,
+    ASSIGN_PLUS,
+    ASSIGN_MINUS,
+    ASSIGN_TIMES,
+    ASSIGN_DIVIDE,
+    ASSIGN_MOD,
+    ASSIGN_AND,
+    ASSIGN_OR,
+    ASSIGN_XOR,
+    ASSIGN_LEFT_SHIFT,
+    ASSIGN_RIGHT_SHIFT,
+    ASSIGN_UNSIGNED_RIGHT_SHIFT,
+    POST_INCREMENT,
+    PRE_INCREMENT,
+    POST_DECREMENT,
+    PRE_DECREMENT,
+    AND,
+    OR,
+    EQUAL,
+    NOT_EQUAL,
+    LESS_THAN,
+    LESS_THAN_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_THAN_OR_EQUAL,
+    BITWISE_AND,
+    BITWISE_OR,
+    BITWISE_XOR,
+    UNARY_MINUS,
+    UNARY_PLUS,
+    PLUS,
+    MINUS,
+    TIMES,
+    DIVIDE,
+    MOD,
+    LEFT_SHIFT,
+    RIGHT_SHIFT,
+    UNSIGNED_RIGHT_SHIFT,
+    ARRAY_LOOKUP,
+    ARRAY_LENGTH,
+    ACTION,
+    CALL,
+    SUPER_CTOR_INVOCATION,
+    THIS_CTOR_INVOCATION,
+    FIELD,
+    TERNARY,
+    INSTANCE_OF,
+    INTEGER_LITERAL,
+    STRING_LITERAL,
+    NULL_LITERAL,
+    TRUE,
+    FALSE,
+    IDENTIFIER_EXP,
+    THIS,
+    NEW_ARRAY,
+    NEW_OBJECT,
+    NOT,
+    BITWISE_NOT,
+    IDENTIFIER,
+    NO_OP,
+    NO_OP_EXP;
+
+    private static final Tag[] VALUES = values();
+
+    static Tag of(int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            throw new IOException("Unknown snapshot tag: " + ordinal);
+        }
+        return VALUES[ordinal];
+    }
+}
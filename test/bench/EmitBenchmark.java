@@ -0,0 +1,101 @@
+import codegen.Emitter;
+import codegen.Generator;
+import codegen.platform.isa.ISAProvider;
+import commons.Logger;
+import phase.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import static phase.CompilerState.EXIT_FAILURE;
+
+/**
+ * Measures the assembly emit throughput of the code generation phase on a large,
+ * generated program. Only the code generation phase is timed; the front end and
+ * dataflow analysis are re-run (untimed) before every iteration.
+ * <p>
+ * Usage: <code>ant bench</code>, or
+ * <code>java -cp build/classes:lib/* EmitBenchmark [classes] [methods] [iterations]</code>
+ */
+public class EmitBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+
+    public static void main(String[] args) throws IOException {
+        int classes = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int methods = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        Path source = Files.createTempFile("EmitBenchmark", ".java");
+        Path target = Files.createTempFile("EmitBenchmark", ".s");
+        try {
+            Files.writeString(source, new ProgramGenerator()
+                    .set("classes", classes)
+                    .set("methods", methods)
+                    .set("statements", 12)
+                    .set("expressionDepth", 3)
+                    .generate());
+            System.out.printf("program: %d classes x %d methods, %d bytes of source%n",
+                    classes, methods, Files.size(source));
+
+            var isa = ISAProvider.getISA_x86_64();
+            isa.select();
+            var discard = new PrintStream(OutputStream.nullOutputStream());
+            run("stream", source.toFile(), iterations, () -> Emitter.to(discard));
+            run("file", source.toFile(), iterations, () -> Emitter.to(target));
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(target);
+        }
+    }
+
+    private static void run(String name, File source, int iterations, Supplier<Emitter> emitters) {
+        long bytes = 0;
+        long nanos = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS + iterations; i++) {
+            var emitter = emitters.get();
+            var state = analyze(source, Generator.create(ISAProvider.getISA_x86_64(), emitter));
+
+            long start = System.nanoTime();
+            state = new CodeGenerationPhase().run(state);
+            long elapsed = System.nanoTime() - start;
+            if (state.getStatus() == EXIT_FAILURE) {
+                throw new IllegalStateException("code generation failed");
+            }
+
+            if (i >= WARMUP_ITERATIONS) {
+                bytes += emitter.position();
+                nanos += elapsed;
+            }
+        }
+
+        double megabytes = bytes / (1024.0 * 1024.0);
+        double seconds = nanos / 1e9;
+        System.out.printf("%-8s %8.2f MB emitted in %7.3f s: %8.2f MB/s%n",
+                name, megabytes, seconds, megabytes / seconds);
+    }
+
+    private static CompilerState analyze(File source, Generator generator) {
+        var state = CompilerState.builder()
+                .sourceFile(source)
+                .isa(ISAProvider.getISA_x86_64())
+                .logger(Logger.create())
+                .generator(generator)
+                .build();
+        state = new CompilerPhaseChain()
+                .add(new ScanPhase())
+                .add(new ParsePhase())
+                .add(new StaticAnalysisPhase())
+                .add(new DataflowAnalysisPhase())
+                .add(new ConstantFoldingPhase())
+                .run(state);
+        if (state.getStatus() == EXIT_FAILURE) {
+            throw new IllegalStateException("generated program failed to compile");
+        }
+        return state;
+    }
+}
@@ -0,0 +1,137 @@
+import ast.Program;
+import codegen.platform.isa.ISAProvider;
+import commons.Logger;
+import phase.*;
+
+import javax.management.ObjectName;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.ref.Reference;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static phase.CompilerState.EXIT_FAILURE;
+
+/**
+ * Reports the heap retained by the AST of the scaling corpus: one program per
+ * {@link ProgramGenerator} knob, at the middle of the values that {@link ScalingReport}
+ * sweeps it through, with the other knobs at their defaults. Every program is analyzed up
+ * to and including dataflow analysis, whose results hang off the AST. The retained bytes are
+ * the difference between class histograms of the heap taken with and without the AST
+ * reachable, so they include everything that only the AST keeps alive, and the classes
+ * retaining the most are listed for the whole corpus.
+ * <p>
+ * Usage: <code>ant heap</code>, or
+ * <code>java -cp build/classes:lib/* HeapReport [knob ...]</code>
+ */
+public class HeapReport {
+    private static final int TOP_CLASSES = 15;
+
+    private record Entry(long instances, long bytes) {}
+
+    public static void main(String[] args) throws Exception {
+        var knobs = args.length > 0 ? List.of(args) : List.copyOf(ScalingReport.SWEEPS.keySet());
+        ISAProvider.getISA_x86_64().select();
+        var source = Files.createTempFile("Heap", ".java");
+        var stdout = System.out;
+        var stderr = System.err;
+        Map<String, Entry> total = new HashMap<>();
+        long totalBytes = 0;
+        try {
+            stdout.printf("%-16s %8s %12s %12s %12s%n", "knob", "value", "source (KB)", "AST (KB)", "bytes/line");
+            for (var knob : knobs) {
+                int[] values = ScalingReport.SWEEPS.get(knob);
+                if (values == null) {
+                    throw new IllegalArgumentException("Unknown knob: " + knob + ", expected one of "
+                            + ScalingReport.SWEEPS.keySet());
+                }
+                int value = values[values.length / 2];
+                var generator = new ProgramGenerator();
+                ScalingReport.DEFAULTS.forEach(generator::set);
+                generator.set(knob, value);
+                var program = generator.generate();
+                Files.writeString(source, program);
+
+                // diagnostics of the generated programs (e.g. unused variables) are not of interest
+                System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+                var ast = analyze(source);
+                System.setErr(stderr);
+
+                var with = histogram();
+                Reference.reachabilityFence(ast);
+                ast = null;
+                var without = histogram();
+
+                long bytes = 0;
+                for (var e : with.entrySet()) {
+                    var other = without.getOrDefault(e.getKey(), new Entry(0, 0));
+                    var retained = new Entry(e.getValue().instances() - other.instances(),
+                            e.getValue().bytes() - other.bytes());
+                    if (retained.bytes() > 0) {
+                        bytes += retained.bytes();
+                        total.merge(e.getKey(), retained, (a, b) ->
+                                new Entry(a.instances() + b.instances(), a.bytes() + b.bytes()));
+                    }
+                }
+                totalBytes += bytes;
+                long lines = program.lines().count();
+                stdout.printf("%-16s %8d %12.1f %12.1f %12.1f%n", knob, value, Files.size(source) / 1024.0,
+                        bytes / 1024.0, (double) bytes / lines);
+            }
+        } finally {
+            System.setErr(stderr);
+            Files.deleteIfExists(source);
+        }
+
+        stdout.printf("%-16s %8s %12s %12.1f%n%n", "total", "", "", totalBytes / 1024.0);
+        stdout.printf("%-48s %12s %14s %8s%n", "class", "instances", "retained (KB)", "share");
+        List<Map.Entry<String, Entry>> classes = new ArrayList<>(total.entrySet());
+        classes.sort((a, b) -> Long.compare(b.getValue().bytes(), a.getValue().bytes()));
+        for (var e : classes.subList(0, Math.min(TOP_CLASSES, classes.size()))) {
+            stdout.printf("%-48s %12d %14.1f %7.1f%%%n", e.getKey(), e.getValue().instances(),
+                    e.getValue().bytes() / 1024.0, 100.0 * e.getValue().bytes() / totalBytes);
+        }
+    }
+
+    private static Program analyze(Path source) {
+        var isa = ISAProvider.getISA_x86_64();
+        var state = CompilerState.builder()
+                .sourceFile(source.toFile())
+                .isa(isa)
+                .logger(Logger.create())
+                .build();
+        state = new CompilerPhaseChain()
+                .add(new ScanPhase())
+                .add(new ParsePhase())
+                .add(new StaticAnalysisPhase())
+                .add(new DataflowAnalysisPhase())
+                .run(state);
+        if (state.getStatus() == EXIT_FAILURE) {
+            throw new IllegalStateException("generated program failed to compile: " + source);
+        }
+        return state.getAst();
+    }
+
+    /**
+     * @return The live instances and bytes of every class, after a full collection.
+     */
+    private static Map<String, Entry> histogram() throws Exception {
+        var output = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "gcClassHistogram", new Object[] { null }, new String[] { String[].class.getName() });
+        Map<String, Entry> histogram = new HashMap<>();
+        for (var line : output.split("\n")) {
+            var fields = line.trim().split("\\s+");
+            // num: #instances #bytes class name (module)
+            if (fields.length >= 4 && fields[0].endsWith(":")) {
+                histogram.put(fields[3], new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+            }
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,179 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates large, valid programs for scaling tests. Every knob scales one dimension
+ * of the program independently of the others:
+ *
+ * <ul>
+ *     <li>{@code classes}: number of classes besides the main class,</li>
+ *     <li>{@code depth}: length of each inheritance chain (1 = no inheritance),</li>
+ *     <li>{@code methods}: methods per class,</li>
+ *     <li>{@code statements}: statements per method,</li>
+ *     <li>{@code expressionDepth}: depth of the binary expression tree in each assignment,</li>
+ *     <li>{@code stringSize}: length of the string literal in each method (0 = none), and</li>
+ *     <li>{@code switchCases}: cases of the switch statement in each method (0 = none).</li>
+ * </ul>
+ *
+ * Output is deterministic for a given set of knobs.
+ * <p>
+ * Usage: <code>java -cp build/classes ProgramGenerator [--knob value ...] [output.java]</code>
+ */
+public class ProgramGenerator {
+    private int classes = 10;
+    private int depth = 1;
+    private int methods = 5;
+    private int statements = 10;
+    private int expressionDepth = 2;
+    private int stringSize = 0;
+    private int switchCases = 0;
+    private long seed = 42;
+
+    public static void main(String[] args) throws IOException {
+        var generator = new ProgramGenerator();
+        Path output = null;
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                output = Path.of(args[i]);
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            generator.set(args[i].substring(2), Integer.parseInt(args[++i]));
+        }
+
+        var program = generator.generate();
+        if (output == null) {
+            System.out.print(program);
+        } else {
+            Files.writeString(output, program);
+        }
+    }
+
+    /**
+     * Sets the knob with the specified name, as listed in the class documentation.
+     */
+    public ProgramGenerator set(String knob, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(knob + " must not be negative");
+        }
+        switch (knob) {
+            case "classes" -> classes = value;
+            case "depth" -> depth = Math.max(1, value);
+            case "methods" -> methods = Math.max(1, value);
+            case "statements" -> statements = value;
+            case "expressionDepth" -> expressionDepth = value;
+            case "stringSize" -> stringSize = value;
+            case "switchCases" -> switchCases = value;
+            case "seed" -> seed = value;
+            default -> throw new IllegalArgumentException("Unknown knob: " + knob);
+        }
+        return this;
+    }
+
+    public String generate() {
+        var random = new Random(seed);
+        var sb = new StringBuilder();
+        sb.append("class Main {\n")
+                .append("    public static void main(String[] args) {\n");
+        if (classes > 0) {
+            sb.append("        System.out.println(new C0().m0_0(3, 4));\n");
+        }
+        sb.append("    }\n")
+                .append("}\n");
+
+        for (int c = 0; c < classes; c++) {
+            generateClass(sb, random, c);
+        }
+        return sb.toString();
+    }
+
+    private void generateClass(StringBuilder sb, Random random, int c) {
+        boolean extended = c % depth != 0;  // chains of `depth` classes, each extending the previous one
+        sb.append("\nclass C").append(c);
+        if (extended) {
+            sb.append(" extends C").append(c - 1);
+        }
+        sb.append(" {\n")
+                .append("    int f").append(c).append(";\n");
+
+        for (int m = 0; m < methods; m++) {
+            sb.append("\n    public int m").append(c).append('_').append(m).append("(int a, int b) {\n")
+                    .append("        int x = a;\n")
+                    .append("        int y = b;\n");
+            if (stringSize > 0) {
+                sb.append("        String s = \"");
+                for (int i = 0; i < stringSize; i++) {
+                    sb.append((char) ('a' + i % 26));
+                }
+                sb.append("\" + x;\n");
+            }
+            for (int i = 0; i < statements; i++) {
+                generateStatement(sb, random, c, m, i, extended);
+            }
+            if (switchCases > 0) {
+                sb.append("        switch (x % ").append(switchCases).append(") {\n");
+                for (int k = 0; k < switchCases; k++) {
+                    sb.append("            case ").append(k).append(":\n")
+                            .append("                y = y + ").append(k).append(";\n")
+                            .append("                break;\n");
+                }
+                sb.append("            default:\n")
+                        .append("                y = 0;\n")
+                        .append("        }\n");
+            }
+            sb.append("        return x + y;\n")
+                    .append("    }\n");
+        }
+        sb.append("}\n");
+    }
+
+    private void generateStatement(StringBuilder sb, Random random, int c, int m, int i, boolean extended) {
+        switch (i % 6) {
+            case 0, 3 -> sb.append("        x = ").append(expression(random, expressionDepth)).append(";\n");
+            case 1 -> sb.append("        if (x < y) {\n")
+                    .append("            y = ").append(expression(random, expressionDepth)).append(";\n")
+                    .append("        } else {\n")
+                    .append("            f").append(c).append(" = f").append(c).append(" + x;\n")
+                    .append("        }\n");
+            case 2 -> sb.append("        while (y > 100) {\n")
+                    .append("            y = y / 2;\n")
+                    .append("        }\n");
+            case 4 -> {
+                if (i != 4) {  // one call per method keeps the generated programs' run time linear
+                    sb.append("        y = y + 1;\n");
+                } else if (m > 0) {  // call a sibling method
+                    sb.append("        y = y + this.m").append(c).append('_').append(m - 1).append("(x, 1);\n");
+                } else if (extended) {  // call an inherited method
+                    sb.append("        y = y + this.m").append(c - 1).append("_0(x, 1);\n");
+                } else {
+                    sb.append("        y = y + 1;\n");
+                }
+            }
+            default -> sb.append("        for (int i").append(i).append(" = 0; i").append(i).append(" < 3; i")
+                    .append(i).append("++) {\n")
+                    .append("            x = x + i").append(i).append(";\n")
+                    .append("        }\n");
+        }
+    }
+
+    private String expression(Random random, int depth) {
+        if (depth == 0) {
+            return switch (random.nextInt(4)) {
+                case 0 -> "a";
+                case 1 -> "b";
+                case 2 -> "x";
+                default -> String.valueOf(random.nextInt(100));
+            };
+        }
+        var op = switch (random.nextInt(3)) {
+            case 0 -> " + ";
+            case 1 -> " - ";
+            default -> " * ";
+        };
+        return "(" + expression(random, depth - 1) + op + expression(random, depth - 1) + ")";
+    }
+}
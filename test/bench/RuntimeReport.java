@@ -0,0 +1,205 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles benchmark programs with several compiler configurations, links them against the
+ * runtime, and reports the median running time of each, along with its speedup over the
+ * first configuration. Where <code>perf</code> is installed, the cycles and instructions of
+ * one more run are counted with <code>perf stat</code> as well. The output of every program
+ * must be the same under all configurations.
+ * <p>
+ * A configuration is written <code>label=flags</code>, e.g. <code>ir=--via-ir</code>, or
+ * <code>label=flags@classpath</code> to run the compiler from another build, e.g. to compare
+ * against a checkout of an earlier commit. The default configurations are the default code
+ * generator, the one going through the IR, and the latter with register allocation.
+ * </p>
+ * <p>
+ * Usage: <code>ant runtime</code>, or
+ * <code>java -cp build/classes:lib/* RuntimeReport [-runs n] [-programs dir] [configuration ...]</code>
+ * </p>
+ */
+public class RuntimeReport {
+    private static final int RUNS = 5;
+    private static final String PROGRAMS = "test/resources/Bench";
+    private static final String RUNTIME = "src/runtime/boot.c";
+    private static final List<String> DEFAULT_CONFIGURATIONS = List.of("default=", "ir=--via-ir", "O1=-O1");
+
+    private record Configuration(String label, List<String> flags, String classpath) {
+        static Configuration parse(String s) {
+            int equals = s.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected label=flags[@classpath]: " + s);
+            }
+            var rest = s.substring(equals + 1);
+            int at = rest.indexOf('@');
+            var flags = (at < 0 ? rest : rest.substring(0, at)).trim();
+            var classpath = at < 0 ? "build/classes" : rest.substring(at + 1);
+            return new Configuration(s.substring(0, equals),
+                    flags.isEmpty() ? List.of() : List.of(flags.split("\\s+")), classpath);
+        }
+    }
+
+    private record Measurement(double millis, String output, String counters) {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = RUNS;
+        var programs = Path.of(PROGRAMS);
+        List<Configuration> configurations = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-runs" -> runs = Integer.parseInt(args[++i]);
+                case "-programs" -> programs = Path.of(args[++i]);
+                default -> configurations.add(Configuration.parse(args[i]));
+            }
+        }
+        if (configurations.isEmpty()) {
+            DEFAULT_CONFIGURATIONS.forEach(c -> configurations.add(Configuration.parse(c)));
+        }
+
+        List<Path> sources;
+        try (var files = Files.list(programs)) {
+            sources = files.filter(p -> p.toString().endsWith(".java")).sorted().toList();
+        }
+
+        var work = Files.createTempDirectory("runtime");
+        var runtime = buildRuntime(work);
+        boolean perf = onPath("perf");
+
+        System.out.printf("%-20s %-12s %12s %10s%s%n", "program", "config", "median (ms)", "speedup",
+                perf ? String.format(" %14s %14s", "cycles", "instructions") : "");
+        for (var source : sources) {
+            var name = source.getFileName().toString().replace(".java", "");
+            Measurement first = null;
+            for (var configuration : configurations) {
+                var executable = work.resolve(name + "-" + configuration.label());
+                if (!compile(source, configuration, executable, runtime)) {
+                    System.out.printf("%-20s %-12s %12s%n", name, configuration.label(), "does not compile");
+                    continue;
+                }
+
+                var measurement = measure(executable, runs, perf);
+                if (first == null) {
+                    first = measurement;
+                }
+                String note = measurement.output().equals(first.output()) ? "" : "  (output differs!)";
+                System.out.printf("%-20s %-12s %12.1f %9.2fx%s%s%n", name, configuration.label(),
+                        measurement.millis(), first.millis() / measurement.millis(),
+                        measurement.counters(), note);
+            }
+        }
+    }
+
+    /**
+     * Compiles the runtime, along with a shim mapping the names that compiled programs call,
+     * which start with an underscore as on macOS, to those of the runtime where C names have
+     * no underscore.
+     * @return The object files to link every program with.
+     */
+    private static List<String> buildRuntime(Path work) throws IOException, InterruptedException {
+        List<String> objects = new ArrayList<>();
+        var boot = work.resolve("boot.o");
+        run(List.of("cc", "-O2", "-c", RUNTIME, "-o", boot.toString()));
+        objects.add(boot.toString());
+
+        if (!System.getProperty("os.name").toLowerCase().contains("mac")) {
+            var shim = new StringBuilder(".text\n");
+            var definition = Pattern.compile("^\\w[\\w\\s*]*?\\b(\\w+)\\s*\\([^;]*$", Pattern.MULTILINE);
+            var matcher = definition.matcher(Files.readString(Path.of(RUNTIME)));
+            while (matcher.find()) {
+                var function = matcher.group(1);
+                if (!function.equals("main")) {
+                    shim.append(".globl _").append(function).append("\n_").append(function)
+                            .append(": jmp ").append(function).append('\n');
+                }
+            }
+            shim.append(".globl asm_main\nasm_main: jmp _asm_main\n");
+            shim.append(".section .note.GNU-stack,\"\",@progbits\n");
+            var path = work.resolve("shim.s");
+            Files.writeString(path, shim);
+            objects.add(path.toString());
+        }
+        return objects;
+    }
+
+    private static boolean compile(Path source, Configuration configuration, Path executable,
+                                   List<String> runtime) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("java", "-cp",
+                configuration.classpath() + File.pathSeparator + "lib/*", "Java"));
+        command.addAll(configuration.flags());
+        command.add(source.toString());
+        var assembly = Path.of(executable + ".s");
+        var process = new ProcessBuilder(command)
+                .redirectOutput(assembly.toFile())
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (process.waitFor() != 0) {
+            return false;
+        }
+
+        List<String> link = new ArrayList<>(List.of("cc", "-no-pie", assembly.toString()));
+        link.addAll(runtime);
+        link.addAll(List.of("-o", executable.toString()));
+        return new ProcessBuilder(link)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start()
+                .waitFor() == 0;
+    }
+
+    private static Measurement measure(Path executable, int runs, boolean perf)
+            throws IOException, InterruptedException {
+        String output = null;
+        double[] millis = new double[runs];
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            var process = new ProcessBuilder(executable.toString())
+                    .redirectErrorStream(true)
+                    .start();
+            var bytes = process.getInputStream().readAllBytes();
+            process.waitFor();
+            millis[run] = (System.nanoTime() - start) / 1e6;
+            output = new String(bytes);
+        }
+        Arrays.sort(millis);
+
+        String counters = "";
+        if (perf) {
+            var process = new ProcessBuilder("perf", "stat", "-x,", "-e", "cycles:u,instructions:u",
+                    executable.toString())
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            Map<String, String> counts = new HashMap<>();
+            for (var line : new String(process.getErrorStream().readAllBytes()).split("\n")) {
+                var fields = line.split(",");
+                if (fields.length > 2) {
+                    counts.put(fields[2].replace(":u", ""), fields[0]);
+                }
+            }
+            process.waitFor();
+            counters = String.format(" %14s %14s", counts.getOrDefault("cycles", "-"),
+                    counts.getOrDefault("instructions", "-"));
+        }
+        return new Measurement(millis[runs / 2], output, counters);
+    }
+
+    private static int run(List<String> command) throws IOException, InterruptedException {
+        return new ProcessBuilder(command).inheritIO().start().waitFor();
+    }
+
+    private static boolean onPath(String program) {
+        for (var dir : System.getenv("PATH").split(File.pathSeparator)) {
+            if (Files.isExecutable(Path.of(dir, program))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
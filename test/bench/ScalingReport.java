@@ -0,0 +1,164 @@
+import codegen.Emitter;
+import codegen.Generator;
+import codegen.platform.isa.ISAProvider;
+import commons.Logger;
+import phase.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static phase.CompilerState.EXIT_FAILURE;
+
+/**
+ * Sweeps each {@link ProgramGenerator} knob while holding the others at their defaults,
+ * and reports the compile time and peak heap of every generated program. For each step,
+ * the growth exponent <code>log(time ratio) / log(knob ratio)</code> is reported as well:
+ * about 1 means linear scaling, anything near 2 points at quadratic behaviour.
+ * <p>
+ * Usage: <code>ant scaling</code>, or
+ * <code>java -cp build/classes:lib/* ScalingReport [knob ...]</code>
+ */
+public class ScalingReport {
+    private static final int RUNS = 3;
+    private static final double SUPERLINEAR = 1.5;
+
+    static final Map<String, int[]> SWEEPS = new LinkedHashMap<>();
+    static {
+        SWEEPS.put("classes", new int[] { 100, 200, 400, 800, 1600 });
+        SWEEPS.put("depth", new int[] { 1, 4, 16, 64, 256 });
+        SWEEPS.put("methods", new int[] { 5, 10, 20, 40, 80 });
+        SWEEPS.put("statements", new int[] { 250, 500, 1000, 2000, 4000 });
+        SWEEPS.put("expressionDepth", new int[] { 2, 4, 6, 8, 10 });
+        SWEEPS.put("stringSize", new int[] { 1000, 4000, 16000, 64000 });
+        SWEEPS.put("switchCases", new int[] { 50, 100, 200, 400, 800 });
+    }
+
+    /** Knobs held fixed while another knob is swept. */
+    static final Map<String, Integer> DEFAULTS = Map.of(
+            "classes", 50,
+            "depth", 1,
+            "methods", 5,
+            "statements", 20,
+            "expressionDepth", 2,
+            "stringSize", 0,
+            "switchCases", 0);
+
+    public static void main(String[] args) throws IOException {
+        var knobs = args.length > 0 ? List.of(args) : List.copyOf(SWEEPS.keySet());
+        for (var knob : knobs) {
+            if (!SWEEPS.containsKey(knob)) {
+                throw new IllegalArgumentException("Unknown knob: " + knob + ", expected one of " + SWEEPS.keySet());
+            }
+        }
+
+        ISAProvider.getISA_x86_64().select();
+        var source = Files.createTempFile("Scaling", ".java");
+        var stdout = System.out;
+        var stderr = System.err;
+        try {
+            // warm up the compiler before the first measurement
+            Files.writeString(source, generator(null, 0).generate());
+            compile(source);
+
+            for (var knob : knobs) {
+                stdout.printf("%n%s%n", knob);
+                stdout.printf("%10s %12s %12s %12s %10s%n", "value", "source (KB)", "time (ms)", "heap (MB)", "exponent");
+                double previousValue = 0;
+                double previousTime = 0;
+                for (int value : SWEEPS.get(knob)) {
+                    Files.writeString(source, generator(knob, value).generate());
+
+                    // diagnostics of the generated programs (e.g. unused variables) are not of interest
+                    System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+                    long best = Long.MAX_VALUE;
+                    long peak = 0;
+                    try {
+                        for (int run = 0; run < RUNS; run++) {
+                            System.gc();
+                            resetPeakHeap();
+                            long start = System.nanoTime();
+                            compile(source);
+                            best = Math.min(best, System.nanoTime() - start);
+                            peak = Math.max(peak, peakHeap());
+                        }
+                    } catch (OutOfMemoryError e) {
+                        stdout.printf("%10d %12.1f %12s %12s%n", value, Files.size(source) / 1024.0, "-", "out of heap");
+                        break;
+                    } finally {
+                        System.setErr(stderr);
+                    }
+
+                    double time = best / 1e6;
+                    String exponent = "";
+                    if (previousValue > 0 && value != previousValue) {
+                        double e = Math.log(time / previousTime) / Math.log(value / previousValue);
+                        exponent = String.format("%.2f%s", e, e > SUPERLINEAR ? " !" : "");
+                    }
+                    stdout.printf("%10d %12.1f %12.1f %12.1f %10s%n", value, Files.size(source) / 1024.0,
+                            time, peak / (1024.0 * 1024.0), exponent);
+                    previousValue = value;
+                    previousTime = time;
+                }
+            }
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    private static ProgramGenerator generator(String knob, int value) {
+        var generator = new ProgramGenerator();
+        DEFAULTS.forEach(generator::set);
+        if (knob != null) {
+            generator.set(knob, value);
+        }
+        return generator;
+    }
+
+    private static void compile(Path source) {
+        var isa = ISAProvider.getISA_x86_64();
+        var state = CompilerState.builder()
+                .sourceFile(source.toFile())
+                .isa(isa)
+                .logger(Logger.create())
+                .generator(Generator.create(isa, Emitter.to(OutputStream.nullOutputStream())))
+                .build();
+        state = new CompilerPhaseChain()
+                .add(new ScanPhase())
+                .add(new ParsePhase())
+                .add(new StaticAnalysisPhase())
+                .add(new DataflowAnalysisPhase())
+                .add(new ConstantFoldingPhase())
+                .add(new CodeGenerationPhase())
+                .run(state);
+        if (state.getStatus() == EXIT_FAILURE) {
+            throw new IllegalStateException("generated program failed to compile: " + source);
+        }
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
@@ -0,0 +1,52 @@
+package bench;
+
+import ast.Program;
+import codegen.Generator;
+import codegen.platform.isa.ISAProvider;
+import codegen.visitor.CodeGenVisitor;
+import org.openjdk.jmh.annotations.*;
+import semantics.table.SymbolContext;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Code generation: {@link CodeGenVisitor} emitting the text section of a fully analyzed
+ * program into a sink that discards everything.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodeGenBenchmark {
+    @Param({"Factorial", "BinarySearch", "BubbleSort", "LinkedList", "TreeVisitor", "LinkedList*20", "TreeVisitor*20"})
+    public String program;
+
+    private String source;
+    private Program ast;
+    private SymbolContext symbolContext;
+    private Generator generator;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        source = Programs.load(program);
+        ISAProvider.getISA_x86_64().select();
+    }
+
+    @Setup(Level.Invocation)
+    public void analyze() throws Exception {
+        ast = Programs.parse(source);
+        symbolContext = Programs.analyze(ast);
+        Programs.dataflow(ast, symbolContext);
+        generator = Programs.prepareCodeGen(ast, symbolContext);
+    }
+
+    @Benchmark
+    public Generator codegen() {
+        ast.accept(new CodeGenVisitor(symbolContext, generator));
+        generator.flush();
+        return generator;
+    }
+}
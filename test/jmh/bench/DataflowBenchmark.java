@@ -0,0 +1,46 @@
+package bench;
+
+import ast.Program;
+import dataflow.visitor.DataflowVisitor;
+import org.openjdk.jmh.annotations.*;
+import semantics.table.SymbolContext;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dataflow analysis: building the dataflow graph of every method and constructor, then
+ * validating return statements and variable declarations, via {@link DataflowVisitor}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataflowBenchmark {
+    @Param({"Factorial", "BinarySearch", "BubbleSort", "LinkedList", "TreeVisitor", "LinkedList*20", "TreeVisitor*20"})
+    public String program;
+
+    private String source;
+    private Program ast;
+    private SymbolContext symbolContext;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        source = Programs.load(program);
+    }
+
+    @Setup(Level.Invocation)
+    public void analyze() throws Exception {
+        ast = Programs.parse(source);
+        symbolContext = Programs.analyze(ast);
+    }
+
+    @Benchmark
+    public DataflowVisitor dataflow() {
+        var visitor = new DataflowVisitor(symbolContext);
+        ast.accept(visitor);
+        return visitor;
+    }
+}
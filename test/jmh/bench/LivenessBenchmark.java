@@ -0,0 +1,184 @@
+package bench;
+
+import ast.ClassDeclSimple;
+import ast.MethodDecl;
+import ast.Program;
+import ast.Statement;
+import dataflow.Block;
+import dataflow.BlockType;
+import dataflow.DataflowGraph;
+import dataflow.LiveVariableAnalyzer;
+import dataflow.Symbol;
+import dataflow.visitor.LiveVariableVisitor;
+import org.openjdk.jmh.annotations.*;
+import semantics.info.ClassInfo;
+import semantics.info.MemberInfo;
+import semantics.table.SymbolContext;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Live variable analysis of one large method on {@link dataflow.WorklistSolver}
+ * ({@link #bitVectors()}), and the uninitialized variable check built on definite assignment,
+ * through {@link DataflowGraph#validateVariableDeclarations()} ({@link #validate()}), against the
+ * analysis they replaced ({@link #hashSets()}): a <code>HashSet</code> per block and set, copied on
+ * every step, and whole-graph passes in recursive depth-first order until the summed set sizes
+ * stop changing. The latter takes seconds per operation on these inputs, hence single shots.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class LivenessBenchmark {
+    @Param({"1000", "2000"})
+    public int statements;
+
+    @Param({"100", "200"})
+    public int locals;
+
+    private DataflowGraph graph;
+    private MemberInfo member;
+    private ClassInfo class_;
+    private List<String> instanceVariables;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Program ast = Programs.parse(generate(statements, locals));
+        SymbolContext symbolContext = Programs.analyze(ast);
+        Programs.dataflow(ast, symbolContext);
+
+        var classDecl = (ClassDeclSimple) ast.cl.get(0);
+        var method = (MethodDecl) classDecl.ml.get(0);
+        graph = method.dataflow;
+        class_ = symbolContext.lookupClass(classDecl.i.id);
+        member = symbolContext.lookupMethod(method.i.id, class_);
+        instanceVariables = class_.getInstanceVariables().stream().map(v -> v.name).toList();
+    }
+
+    @Benchmark
+    public LiveVariableAnalyzer bitVectors() {
+        return new LiveVariableAnalyzer(graph.getReversePostorder()).analyze(member, class_);
+    }
+
+    @Benchmark
+    public DataflowGraph validate() {
+        return graph.validateVariableDeclarations();
+    }
+
+    @Benchmark
+    public Set<Symbol> hashSets() {
+        var blocks = graph.getBlocks();
+        Map<Block, Sets> sets = new IdentityHashMap<>();
+        var liveVariableVisitor = new LiveVariableVisitor();
+
+        visitBlocks(blocks.get(0), b -> {
+            var v = sets.computeIfAbsent(b, k -> new Sets());
+            if (b.isFirst()) {
+                member.getArgumentNames().forEach(arg -> v.def.add(new Symbol(arg, member.lineNumber)));
+                instanceVariables.forEach(name -> v.def.add(new Symbol(name, 0)));
+            }
+            b.forEach(i -> {
+                Statement s = i.getStatement();
+                if (s != null) {
+                    s.accept(liveVariableVisitor);
+                    s.forEachDefined(v.def::add);
+                    s.forEachUsed(u -> {
+                        if (!v.def.contains(u)) {
+                            v.use.add(u);
+                        }
+                    });
+                }
+            });
+        });
+
+        int previousSize = 0;
+        while (true) {
+            int[] size = {0};
+            visitBlocks(blocks.get(0), b -> {
+                var v = sets.get(b);
+                var diff = new HashSet<>(v.out);
+                diff.removeAll(v.def);
+                v.in.addAll(v.use);
+                v.in.addAll(diff);
+                b.getNext().forEach(s -> {
+                    if (s.getType() != BlockType.END) {
+                        v.out.addAll(sets.get(s).in);
+                    }
+                });
+                size[0] += v.in.size() + v.out.size();
+            });
+            if (previousSize == size[0]) {
+                break;
+            }
+            previousSize = size[0];
+        }
+
+        return blocks.size() > 1 ? sets.get(blocks.get(1)).in : Set.of();
+    }
+
+    private static final class Sets {
+        final Set<Symbol> use = new HashSet<>();
+        final Set<Symbol> def = new HashSet<>();
+        final Set<Symbol> in = new HashSet<>();
+        final Set<Symbol> out = new HashSet<>();
+    }
+
+    private static void visitBlocks(Block start, Consumer<Block> action) {
+        Set<Block> visited = new HashSet<>();
+        visited.add(start);
+        visitBlocksRec(start, action, visited);
+    }
+
+    private static void visitBlocksRec(Block b, Consumer<Block> action, Set<Block> visited) {
+        b.getNext().forEach(s -> {
+            if (!visited.contains(s) && s.getType() != BlockType.END) {
+                action.accept(s);
+            }
+        });
+        b.getNext().forEach(s -> {
+            if (!visited.contains(s)) {
+                visited.add(s);
+                visitBlocksRec(s, action, visited);
+            }
+        });
+    }
+
+    /**
+     * @return A program with one method declaring the specified number of locals, followed by
+     *         the specified number of statements over them: assignments, with an if/else and a
+     *         while loop every few statements.
+     */
+    static String generate(int statements, int locals) {
+        var random = new Random(42);
+        var sb = new StringBuilder();
+        sb.append("class Main {\n    public static void main(String[] a) {\n")
+                .append("        System.out.println(new Big().run(1));\n    }\n}\n\nclass Big {\n")
+                .append("    int field;\n")
+                .append("    public int run(int p) {\n");
+        for (int i = 0; i < locals; i++) {
+            sb.append("        int v").append(i).append(" = ").append(i).append(";\n");
+        }
+        for (int i = 0; i < statements; i++) {
+            int a = random.nextInt(locals);
+            int b = random.nextInt(locals);
+            int c = random.nextInt(locals);
+            switch (i % 8) {
+                case 3 -> sb.append("        if (v").append(b).append(" < v").append(c).append(") {\n")
+                        .append("            v").append(a).append(" = v").append(b).append(" + p;\n")
+                        .append("        } else {\n")
+                        .append("            v").append(a).append(" = v").append(c).append(" - field;\n")
+                        .append("        }\n");
+                case 7 -> sb.append("        while (v").append(a).append(" < v").append(b).append(") {\n")
+                        .append("            v").append(a).append(" = v").append(a).append(" + v").append(c).append(" + 1;\n")
+                        .append("        }\n");
+                default -> sb.append("        v").append(a).append(" = v").append(b).append(" + v").append(c).append(";\n");
+            }
+        }
+        sb.append("        return v0;\n    }\n}\n");
+        return sb.toString();
+    }
+}
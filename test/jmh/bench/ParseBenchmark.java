@@ -0,0 +1,48 @@
+package bench;
+
+import java_cup.runtime.ComplexSymbolFactory;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+import org.openjdk.jmh.annotations.*;
+import parser.parser;
+import parser.sym;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing: {@link parser#parse()} over tokens that were scanned ahead of time, so that
+ * scanning is not part of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseBenchmark {
+    @Param({"Factorial", "BinarySearch", "BubbleSort", "LinkedList", "TreeVisitor", "LinkedList*20", "TreeVisitor*20"})
+    public String program;
+
+    private String source;
+    private Iterator<Symbol> tokens;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        source = Programs.load(program);
+    }
+
+    @Setup(Level.Invocation)
+    public void scan() throws IOException {
+        // CUP rejects recycled symbols, so every parse needs freshly scanned ones
+        tokens = Programs.scan(source).iterator();
+    }
+
+    @Benchmark
+    public Object parse() throws Exception {
+        var factory = new ComplexSymbolFactory();
+        Scanner replay = () -> tokens.hasNext() ? tokens.next() : factory.newSymbol("EOF", sym.EOF);
+        return new parser(replay, factory).parse().value;
+    }
+}
@@ -0,0 +1,177 @@
+package bench;
+
+import ast.Program;
+import codegen.Emitter;
+import codegen.Generator;
+import codegen.platform.isa.ISAProvider;
+import codegen.visitor.CodeDataVisitor;
+import ir.IrProgram;
+import ir.visitor.LoweringVisitor;
+import java_cup.runtime.ComplexSymbolFactory;
+import java_cup.runtime.Symbol;
+import parser.parser;
+import parser.sym;
+import scanner.scanner;
+import semantics.table.SymbolContext;
+import semantics.visitor.ClassVisitor;
+import semantics.visitor.GlobalVisitor;
+import semantics.visitor.LocalVisitor;
+import dataflow.visitor.DataflowVisitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark inputs, and helpers to bring an input up to the state a benchmarked phase expects.
+ * <p>
+ * An input is the name of a program in <code>test/resources/CodeGen/src</code>, optionally
+ * scaled up as <code>Name*copies</code>: every class but the main class is repeated
+ * <code>copies</code> times under fresh names.
+ */
+final class Programs {
+    static final String SOURCE_DIRECTORY = "test/resources/CodeGen/src";
+
+    private static final Pattern CLASS_NAME = Pattern.compile("\\bclass\\s+(\\w+)");
+
+    private Programs() {}
+
+    static String load(String input) throws IOException {
+        int star = input.indexOf('*');
+        var name = star < 0 ? input : input.substring(0, star);
+        var source = Files.readString(Path.of(SOURCE_DIRECTORY, name + ".java"));
+        return star < 0 ? source : scale(source, Integer.parseInt(input.substring(star + 1)));
+    }
+
+    static List<Symbol> scan(String source) throws IOException {
+        var s = new scanner(new StringReader(source), new ComplexSymbolFactory());
+        List<Symbol> tokens = new ArrayList<>();
+        Symbol t;
+        do {
+            t = s.next_token();
+            tokens.add(t);
+        } while (t.sym != sym.EOF);
+        return tokens;
+    }
+
+    static Program parse(String source) throws Exception {
+        var factory = new ComplexSymbolFactory();
+        var s = new scanner(new StringReader(source), factory);
+        return (Program) new parser(s, factory).parse().value;
+    }
+
+    static SymbolContext analyze(Program ast) {
+        var symbolContext = SymbolContext.create();
+        ast.accept(new GlobalVisitor(symbolContext));
+        ast.accept(new ClassVisitor(symbolContext));
+        ast.accept(new LocalVisitor(symbolContext));
+        return symbolContext;
+    }
+
+    static void dataflow(Program ast, SymbolContext symbolContext) {
+        ast.accept(new DataflowVisitor(symbolContext));
+    }
+
+    static IrProgram lower(Program ast, SymbolContext symbolContext) {
+        var visitor = new LoweringVisitor(symbolContext);
+        ast.accept(visitor);
+        return visitor.getProgram();
+    }
+
+    /**
+     * @return A generator which emits into a sink that discards everything, after the
+     *         data section of the specified program has been emitted through it.
+     */
+    static Generator prepareCodeGen(Program ast, SymbolContext symbolContext) {
+        var generator = Generator.create(ISAProvider.getISA_x86_64(), Emitter.to(OutputStream.nullOutputStream()));
+        ast.accept(new CodeDataVisitor(symbolContext, generator));
+        return generator;
+    }
+
+    private static String scale(String source, int copies) {
+        source = stripComments(source);
+        var classes = splitClasses(source);
+        var main = classes.stream().filter(c -> c.contains("static void main")).findFirst().orElseThrow();
+        var others = classes.stream().filter(c -> c != main).toList();
+        var names = others.stream()
+                .map(c -> {
+                    Matcher m = CLASS_NAME.matcher(c);
+                    if (!m.find()) throw new IllegalArgumentException();
+                    return m.group(1);
+                })
+                .collect(Collectors.joining("|"));
+        var rename = Pattern.compile("\\b(" + names + ")\\b");
+
+        var sb = new StringBuilder(source);
+        for (int k = 1; k < copies; k++) {
+            final var suffix = "_" + k;
+            for (var c : others) {
+                sb.append("\n\n").append(rename.matcher(c).replaceAll(r -> r.group(1) + suffix));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return Each top-level class declaration of the specified comment-free source.
+     */
+    private static List<String> splitClasses(String source) {
+        List<String> classes = new ArrayList<>();
+        var m = CLASS_NAME.matcher(source);
+        int from = 0;
+        while (m.find(from)) {
+            int depth = 0;
+            int i = source.indexOf('{', m.start());
+            boolean inString = false;
+            for (; i < source.length(); i++) {
+                char c = source.charAt(i);
+                if (inString) {
+                    if (c == '\\') i++;
+                    else if (c == '"') inString = false;
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{') {
+                    depth++;
+                } else if (c == '}' && --depth == 0) {
+                    break;
+                }
+            }
+            classes.add(source.substring(m.start(), i + 1));
+            from = i + 1;
+        }
+        return classes;
+    }
+
+    private static String stripComments(String source) {
+        var sb = new StringBuilder(source.length());
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '"') {
+                int end = i + 1;
+                while (end < source.length() && source.charAt(end) != '"') {
+                    if (source.charAt(end) == '\\') end++;
+                    end++;
+                }
+                sb.append(source, i, Math.min(end + 1, source.length()));
+                i = end;
+            } else if (source.startsWith("//", i)) {
+                while (i < source.length() && source.charAt(i) != '\n') i++;
+                sb.append('\n');
+            } else if (source.startsWith("/*", i)) {
+                int end = source.indexOf("*/", i + 2);
+                i = end < 0 ? source.length() : end + 1;
+                sb.append(' ');
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package bench;
+
+import java_cup.runtime.ComplexSymbolFactory;
+import org.openjdk.jmh.annotations.*;
+import parser.sym;
+import scanner.scanner;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scanning: the full {@link scanner#next_token()} loop over a source held in memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScanBenchmark {
+    @Param({"Factorial", "BinarySearch", "BubbleSort", "LinkedList", "TreeVisitor", "LinkedList*20", "TreeVisitor*20"})
+    public String program;
+
+    private String source;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        source = Programs.load(program);
+    }
+
+    @Benchmark
+    public int scan() throws IOException {
+        var s = new scanner(new StringReader(source), new ComplexSymbolFactory());
+        int tokens = 0;
+        while (s.next_token().sym != sym.EOF) {
+            tokens++;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,72 @@
+package bench;
+
+import java_cup.runtime.ComplexSymbolFactory;
+import org.openjdk.jmh.annotations.*;
+import parser.sym;
+import scanner.MappedSourceReader;
+import scanner.ScannerPool;
+import scanner.scanner;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scanning a source file from disk, through the reader chain {@link phase.ScanPhase} used
+ * to build per file ({@link #buffered()}), against a {@link MappedSourceReader} feeding a
+ * pooled scanner ({@link #mapped()}). Small inputs show the per-file cost of a batch run,
+ * the scaled ones the throughput on multi-megabyte files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScanInputBenchmark {
+    @Param({"Factorial", "LinkedList", "TreeVisitor*200", "TreeVisitor*800"})
+    public String program;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("ScanInputBenchmark", ".java");
+        Files.writeString(file, Programs.load(program));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int buffered() throws IOException {
+        var in = new BufferedReader(new InputStreamReader(new FileInputStream(file.toFile())));
+        try (in) {
+            return drain(new scanner(in, new ComplexSymbolFactory()));
+        }
+    }
+
+    @Benchmark
+    public int mapped() throws IOException {
+        var s = ScannerPool.acquire(MappedSourceReader.open(file), new ComplexSymbolFactory());
+        try {
+            return drain(s);
+        } finally {
+            ScannerPool.release(s);
+        }
+    }
+
+    private static int drain(scanner s) throws IOException {
+        int tokens = 0;
+        while (s.next_token().sym != sym.EOF) {
+            tokens++;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,91 @@
+package bench;
+
+import ast.Program;
+import org.openjdk.jmh.annotations.*;
+import semantics.table.SymbolContext;
+import semantics.visitor.ClassVisitor;
+import semantics.visitor.GlobalVisitor;
+import semantics.visitor.LocalVisitor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Static semantic analysis, one benchmark per visitor. Each visitor runs over a freshly
+ * parsed program on which the preceding visitors have already run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SemanticsBenchmark {
+    @State(Scope.Thread)
+    public static class Input {
+        @Param({"Factorial", "BinarySearch", "BubbleSort", "LinkedList", "TreeVisitor", "LinkedList*20", "TreeVisitor*20"})
+        public String program;
+
+        String source;
+
+        @Setup(Level.Trial)
+        public void load() throws Exception {
+            source = Programs.load(program);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Parsed {
+        Program ast;
+        SymbolContext symbolContext;
+
+        @Setup(Level.Invocation)
+        public void setup(Input input) throws Exception {
+            ast = Programs.parse(input.source);
+            symbolContext = SymbolContext.create();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Declared {
+        Program ast;
+        SymbolContext symbolContext;
+
+        @Setup(Level.Invocation)
+        public void setup(Input input) throws Exception {
+            ast = Programs.parse(input.source);
+            symbolContext = SymbolContext.create();
+            ast.accept(new GlobalVisitor(symbolContext));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Resolved {
+        Program ast;
+        SymbolContext symbolContext;
+
+        @Setup(Level.Invocation)
+        public void setup(Input input) throws Exception {
+            ast = Programs.parse(input.source);
+            symbolContext = SymbolContext.create();
+            ast.accept(new GlobalVisitor(symbolContext));
+            ast.accept(new ClassVisitor(symbolContext));
+        }
+    }
+
+    @Benchmark
+    public SymbolContext global(Parsed state) {
+        state.ast.accept(new GlobalVisitor(state.symbolContext));
+        return state.symbolContext;
+    }
+
+    @Benchmark
+    public SymbolContext classes(Declared state) {
+        state.ast.accept(new ClassVisitor(state.symbolContext));
+        return state.symbolContext;
+    }
+
+    @Benchmark
+    public SymbolContext locals(Resolved state) {
+        state.ast.accept(new LocalVisitor(state.symbolContext));
+        return state.symbolContext;
+    }
+}
@@ -0,0 +1,50 @@
+package bench;
+
+import ast.Program;
+import org.openjdk.jmh.annotations.*;
+import snapshot.AstSnapshot;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AST snapshots: loading a {@link Program} from its {@link AstSnapshot} against
+ * building it by scanning and parsing the source, along with the cost of taking
+ * the snapshot. The snapshot size is reported once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+    @Param({"LinkedList", "TreeVisitor", "LinkedList*20", "TreeVisitor*20", "TreeVisitor*100"})
+    public String program;
+
+    private String source;
+    private Program ast;
+    private byte[] snapshot;
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        source = Programs.load(program);
+        ast = Programs.parse(source);
+        snapshot = AstSnapshot.write(ast);
+        System.out.printf("%n%s: %d bytes of source, %d bytes of snapshot%n", program, source.length(), snapshot.length);
+    }
+
+    @Benchmark
+    public Program scanAndParse() throws Exception {
+        return Programs.parse(source);
+    }
+
+    @Benchmark
+    public Program load() throws Exception {
+        return AstSnapshot.read(snapshot);
+    }
+
+    @Benchmark
+    public byte[] write() {
+        return AstSnapshot.write(ast);
+    }
+}
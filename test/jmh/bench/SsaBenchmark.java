@@ -0,0 +1,67 @@
+package bench;
+
+import ast.Program;
+import ir.DominatorTree;
+import ir.Function;
+import ir.ssa.SsaBuilder;
+import ir.ssa.SsaDestructor;
+import org.openjdk.jmh.annotations.*;
+import semantics.table.SymbolContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSA construction on one large method, generated as in {@link LivenessBenchmark}: the
+ * dominator tree on its own ({@link #dominators()}), construction including the dominator
+ * tree, liveness, phi placement and renaming ({@link #build()}), and construction followed by
+ * destruction back to copies ({@link #roundTrip()}). Every statement count is twice the
+ * previous one, so time per operation should about double along with it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SsaBenchmark {
+    @Param({"1000", "2000", "4000", "8000", "16000"})
+    public int statements;
+
+    @Param({"100"})
+    public int locals;
+
+    private Program ast;
+    private SymbolContext symbolContext;
+    private Function function;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ast = Programs.parse(LivenessBenchmark.generate(statements, locals));
+        symbolContext = Programs.analyze(ast);
+    }
+
+    @Setup(Level.Invocation)
+    public void lower() {
+        function = Programs.lower(ast, symbolContext).getFunctions().stream()
+                .filter(f -> f.getName().equals("Big$run"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public DominatorTree dominators() {
+        return new DominatorTree(function);
+    }
+
+    @Benchmark
+    public DominatorTree build() {
+        return new SsaBuilder(function).build();
+    }
+
+    @Benchmark
+    public Function roundTrip() {
+        new SsaBuilder(function).build();
+        new SsaDestructor(function).destruct();
+        return function;
+    }
+}
@@ -0,0 +1,124 @@
+package bench;
+
+import ast.Program;
+import commons.Names;
+import org.openjdk.jmh.annotations.*;
+import semantics.info.ClassInfo;
+import semantics.info.Info;
+import semantics.table.SymbolContext;
+import semantics.visitor.ClassVisitor;
+import semantics.visitor.GlobalVisitor;
+import semantics.visitor.LocalVisitor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Symbol lookups on a class with thousands of fields and methods. {@link #stringKeyed()}
+ * resolves every member the way symbol tables used to, through a prefixed string key into a
+ * <code>HashMap</code>; {@link #intKeyed()} resolves them through {@link SymbolContext} by
+ * interned id. {@link #locals()} runs the whole {@link LocalVisitor} pass over the class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SymbolLookupBenchmark {
+    @Param({"1000", "4000"})
+    public int members;
+
+    private String source;
+    private SymbolContext symbolContext;
+    private ClassInfo class_;
+    private String[] fieldNames;
+    private String[] methodNames;
+    private int[] fieldIds;
+    private int[] methodIds;
+    private Map<String, Info> byString;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        source = generate(members);
+        symbolContext = Programs.analyze(Programs.parse(source));
+        class_ = symbolContext.lookupClass(Names.intern("Many"));
+
+        fieldNames = new String[members];
+        methodNames = new String[members];
+        fieldIds = new int[members];
+        methodIds = new int[members];
+        byString = new HashMap<>();
+        for (int i = 0; i < members; i++) {
+            fieldNames[i] = "f" + i;
+            methodNames[i] = "m" + i;
+            fieldIds[i] = Names.intern(fieldNames[i]);
+            methodIds[i] = Names.intern(methodNames[i]);
+            byString.put(fieldNames[i], symbolContext.lookupInstanceVariable(fieldIds[i], class_));
+            byString.put(SymbolContext.METHOD_PREFIX + methodNames[i], symbolContext.lookupMethod(methodIds[i], class_));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Resolved {
+        Program ast;
+        SymbolContext symbolContext;
+
+        @Setup(Level.Invocation)
+        public void setup(SymbolLookupBenchmark benchmark) throws Exception {
+            ast = Programs.parse(benchmark.source);
+            symbolContext = SymbolContext.create();
+            ast.accept(new GlobalVisitor(symbolContext));
+            ast.accept(new ClassVisitor(symbolContext));
+        }
+    }
+
+    @Benchmark
+    public int stringKeyed() {
+        int found = 0;
+        for (int i = 0; i < members; i++) {
+            if (byString.get(fieldNames[i]) != null) found++;
+            if (byString.get(SymbolContext.METHOD_PREFIX + methodNames[i]) != null) found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int intKeyed() {
+        int found = 0;
+        for (int i = 0; i < members; i++) {
+            if (symbolContext.lookupInstanceVariable(fieldIds[i], class_) != null) found++;
+            if (symbolContext.lookupMethod(methodIds[i], class_) != null) found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public SymbolContext locals(Resolved state) {
+        state.ast.accept(new LocalVisitor(state.symbolContext));
+        return state.symbolContext;
+    }
+
+    /**
+     * @return A program whose class <code>Many</code> declares the specified number of fields
+     *         <code>f0, f1, ...</code> and of methods <code>m0, m1, ...</code>, each reading a
+     *         field and calling the next method.
+     */
+    private static String generate(int members) {
+        var sb = new StringBuilder();
+        sb.append("class Main {\n    public static void main(String[] a) {\n")
+                .append("        System.out.println(new Many().m0());\n    }\n}\n\nclass Many {\n");
+        for (int i = 0; i < members; i++) {
+            sb.append("    int f").append(i).append(";\n");
+        }
+        for (int i = 0; i < members; i++) {
+            sb.append("    public int m").append(i).append("() { return f").append(i);
+            if (i + 1 < members) {
+                sb.append(" + this.m").append(i + 1).append("()");
+            }
+            sb.append("; }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+}
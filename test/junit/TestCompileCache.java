@@ -0,0 +1,156 @@
+import cache.CompileCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestCompileCache {
+    private static final int MAGIC = 0x4A434331;  // see cache.CompileCache
+    private static final long HOUR = 60 * 60 * 1000;
+
+    private Path directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("cache");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+        }
+    }
+
+    private static String key(CompileCache cache, String source) {
+        return cache.key("x86_64", "COMPILE", "Main.java", source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static CompileCache.Entry entry(String assembly) {
+        return new CompileCache.Entry(0, assembly.getBytes(StandardCharsets.UTF_8), new byte[0], new byte[0]);
+    }
+
+    private Path pathOf(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private void setLastUsed(String key, long millis) throws IOException {
+        Files.setLastModifiedTime(pathOf(key), FileTime.fromMillis(millis));
+    }
+
+    @Test
+    public void testStoreAndLookup() throws IOException {
+        var cache = CompileCache.open(directory, Long.MAX_VALUE);
+        var key = key(cache, "class Main {}");
+        assertNull(cache.lookup(key));
+
+        var stored = new CompileCache.Entry(1, "asm".getBytes(), "out".getBytes(), "err".getBytes());
+        cache.store(key, stored);
+        var found = cache.lookup(key);
+        assertEquals(1, found.status());
+        assertArrayEquals(stored.assembly(), found.assembly());
+        assertArrayEquals(stored.out(), found.out());
+        assertArrayEquals(stored.err(), found.err());
+
+        assertNotEquals(key, key(cache, "class Main { }"));
+        assertNotEquals(key, cache.key("arm64", "COMPILE", "Main.java", "class Main {}".getBytes()));
+    }
+
+    @Test
+    public void testLookupRefreshesLastUse() throws IOException {
+        var cache = CompileCache.open(directory, Long.MAX_VALUE);
+        var key = key(cache, "a");
+        cache.store(key, entry("a"));
+        long old = System.currentTimeMillis() - 2 * HOUR;
+        setLastUsed(key, old);
+
+        assertNotNull(cache.lookup(key));
+        assertTrue(Files.getLastModifiedTime(pathOf(key)).toMillis() > old + HOUR);
+    }
+
+    @Test
+    public void testEvictionRemovesLeastRecentlyUsed() throws IOException {
+        var keys = new String[3];
+        long size = 0;
+        var writer = CompileCache.open(directory, Long.MAX_VALUE);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key(writer, "source " + i);
+            writer.store(keys[i], entry("assembly"));
+            setLastUsed(keys[i], now - (keys.length - i) * HOUR);  // stored in order
+            size = Files.size(pathOf(keys[i]));
+        }
+
+        // room for two entries, after the oldest one is used again
+        var cache = CompileCache.open(directory, 2 * size);
+        assertNotNull(cache.lookup(keys[0]));
+        cache.evict();
+        assertTrue(Files.exists(pathOf(keys[0])));
+        assertFalse(Files.exists(pathOf(keys[1])));
+        assertTrue(Files.exists(pathOf(keys[2])));
+
+        // room for none
+        CompileCache.open(directory, 0).evict();
+        for (var key : keys) {
+            assertFalse(Files.exists(pathOf(key)));
+        }
+    }
+
+    @Test
+    public void testEvictionRemovesStaleTemporaryFiles() throws IOException {
+        var cache = CompileCache.open(directory, Long.MAX_VALUE);
+        var key = key(cache, "a");
+        cache.store(key, entry("a"));
+        var stale = Files.writeString(pathOf(key).resolveSibling(key + "1.tmp"), "partial");
+        var fresh = Files.writeString(pathOf(key).resolveSibling(key + "2.tmp"), "partial");
+        Files.setLastModifiedTime(stale, FileTime.fromMillis(System.currentTimeMillis() - 2 * HOUR));
+
+        cache.evict();
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(fresh));  // may belong to a build still writing it
+        assertTrue(Files.exists(pathOf(key)));
+    }
+
+    @Test
+    public void testCorruptEntriesAreAbsent() throws IOException {
+        var cache = CompileCache.open(directory, Long.MAX_VALUE);
+        var key = key(cache, "a");
+        cache.store(key, entry("assembly"));
+        var bytes = Files.readAllBytes(pathOf(key));
+
+        cache.save(key, Arrays.copyOf(bytes, bytes.length - 1));
+        assertNull("truncated", cache.lookup(key));
+
+        cache.save(key, Arrays.copyOf(bytes, bytes.length + 1));
+        assertNull("trailing bytes", cache.lookup(key));
+
+        var wrongMagic = bytes.clone();
+        wrongMagic[0] ^= 1;
+        cache.save(key, wrongMagic);
+        assertNull("wrong magic", cache.lookup(key));
+
+        var buffer = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(0);
+            out.writeInt(-1);  // length of the assembly
+        }
+        cache.save(key, buffer.toByteArray());
+        assertNull("negative length", cache.lookup(key));
+
+        cache.save(key, new byte[0]);
+        assertNull("empty", cache.lookup(key));
+    }
+}
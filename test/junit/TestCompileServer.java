@@ -0,0 +1,130 @@
+import commons.OutputRouter;
+import server.CompileClient;
+import server.CompileServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestCompileServer {
+    private static final int MAGIC = 0x4A434D31;  // see server.Protocol
+
+    private Path directory;
+    private String address;
+    private CompileServer server;
+    private Thread serving;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Serves requests with a compiler which echoes its arguments, and the contents of those
+     * that are files, to standard output, and exits with the number of arguments.
+     */
+    @Before
+    public void startServer() throws IOException {
+        directory = Files.createTempDirectory("server");
+        address = directory.resolve("compile.sock").toString();
+        server = CompileServer.bind(address, args -> {
+            for (var arg : args) {
+                var file = Path.of(arg);
+                try {
+                    System.out.println(Files.isRegularFile(file) ? Files.readString(file) : arg);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            System.err.println("done");
+            return args.length;
+        });
+        serving = new Thread(() -> {
+            try {
+                server.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        serving.start();
+    }
+
+    @After
+    public void stopServer() throws Exception {
+        server.close();
+        serving.join(10_000);
+        assertFalse("server did not stop when closed", serving.isAlive());
+        assertNull(failure.get());
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+        }
+    }
+
+    /**
+     * @return The exit status and output of a request sent through the client.
+     */
+    private OutputRouter.Captured compile(boolean inline, String... args) {
+        return OutputRouter.capture(() -> {
+            try {
+                return CompileClient.compile(address, args, inline);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static String text(ByteArrayOutputStream out) {
+        return out.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+
+    @Test
+    public void testRoundTrip() {
+        var captured = compile(false, "-S", "--unknown");
+        assertEquals(2, captured.status());
+        assertEquals("-S\n--unknown\n", text(captured.out()));
+        assertEquals("done\n", text(captured.err()));
+    }
+
+    @Test
+    public void testInlineSourcesOfTheSameName() throws IOException {
+        var a = Files.createDirectories(directory.resolve("a")).resolve("Main.java");
+        var b = Files.createDirectories(directory.resolve("b")).resolve("Main.java");
+        Files.writeString(a, "class A {}");
+        Files.writeString(b, "class B {}");
+
+        var captured = compile(true, a.toString(), b.toString());
+        assertEquals(2, captured.status());
+        assertEquals("class A {}\nclass B {}\n", text(captured.out()));
+    }
+
+    @Test
+    public void testMalformedRequestsAreDropped() throws IOException {
+        for (int count : new int[] {-1, Integer.MAX_VALUE}) {
+            try (var channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+                channel.connect(UnixDomainSocketAddress.of(address));
+                var out = new DataOutputStream(Channels.newOutputStream(channel));
+                out.writeInt(MAGIC);
+                out.writeInt(count);  // argument count
+                out.flush();
+                // the server closes the connection without a response
+                assertEquals(-1, Channels.newInputStream(channel).read());
+            }
+        }
+
+        // and keeps serving
+        var captured = compile(false, "-S");
+        assertEquals(1, captured.status());
+        assertEquals("-S\n", text(captured.out()));
+    }
+}
@@ -0,0 +1,241 @@
+import ast.ClassDeclSimple;
+import ast.MethodDecl;
+import ast.Program;
+import ast.Return;
+import commons.Logger;
+import commons.Names;
+import dataflow.AvailableExpressions;
+import dataflow.Block;
+import dataflow.DefiniteAssignment;
+import dataflow.ReachingDefinitions;
+import semantics.info.ClassInfo;
+import semantics.table.SymbolContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TestDataflow {
+    private static final int LARGE_METHOD_STATEMENTS = 100_000;
+    private static final int POOL_MEMBERS = 1000;
+    private static final int POOL_WORKERS = 4;
+
+    private static final String LOOP = """
+            class Main {
+                public static void main(String[] a) {
+                    System.out.println(new Loop().run(1));
+                }
+            }
+
+            class Loop {
+                public int run(int p) {
+                    int x = p + 1;
+                    int y = 0;
+                    while (y < x) {
+                        y = y + p;
+                    }
+                    return x + y;
+                }
+            }
+            """;
+
+    /**
+     * @return A program whose method <code>Big.run</code> has the specified number of
+     *         statements, alternating assignments, if-else statements, while loops and
+     *         nested blocks, so that most statements start a new block.
+     */
+    private static String generateLargeMethod(int statements) {
+        var sb = new StringBuilder();
+        sb.append("class Main {\n    public static void main(String[] a) {\n")
+                .append("        System.out.println(new Big().run(1));\n    }\n}\n\nclass Big {\n")
+                .append("    public int run(int p) {\n")
+                .append("        int x = 0;\n")
+                .append("        int y = 0;\n");
+        for (int i = 0; i < statements; i++) {
+            switch (i % 4) {
+                case 0 -> sb.append("        x = x + p;\n");
+                case 1 -> sb.append("        if (x < y) { y = y - x; } else { y = y + 1; }\n");
+                case 2 -> sb.append("        while (y < x) { y = y + p; }\n");
+                default -> sb.append("        { x = x - 1; }\n");
+            }
+        }
+        return sb.append("        return x + y;\n    }\n}\n").toString();
+    }
+
+    /**
+     * Runs the specified action on a new thread with the default stack size.
+     */
+    private static void runWithDefaultStack(Runnable action) throws InterruptedException {
+        var failure = new AtomicReference<Throwable>();
+        var thread = new Thread(() -> {
+            try {
+                action.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    @Test
+    public void testPoolWorkersAreLeftUnbound() throws Exception {
+        var sb = new StringBuilder("class Main {\n    public static void main(String[] a) {\n")
+                .append("        System.out.println(new Many().m0(1));\n    }\n}\n\nclass Many {\n");
+        for (int i = 0; i < POOL_MEMBERS; i++) {
+            sb.append("    public int m").append(i).append("(int p) {\n")
+                    .append("        return p + ").append(i).append(";\n    }\n");
+        }
+        var source = sb.append("}\n").toString();
+
+        // members are analyzed on the pool of the analyzing thread, whose workers outlive
+        // the compilation. the common pool may have no workers on a single processor
+        var pool = new ForkJoinPool(POOL_WORKERS);
+        try {
+            pool.submit(() -> TestUtils.analyze(source, SymbolContext.create())).get();
+
+            // holds every worker of the pool at once, so that each of them is probed
+            var barrier = new CyclicBarrier(POOL_WORKERS);
+            var probes = new ArrayList<ForkJoinTask<Logger>>();
+            for (int i = 0; i < POOL_WORKERS; i++) {
+                probes.add(pool.submit(() -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return Logger.getBound();
+                }));
+            }
+            for (var probe : probes) {
+                assertNull(probe.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testLargeMethodDefaultStack() throws InterruptedException {
+        var source = generateLargeMethod(LARGE_METHOD_STATEMENTS);
+        runWithDefaultStack(() -> {
+            try {
+                var ast = TestUtils.analyze(source, SymbolContext.create());
+                assertTrue(run(ast).dataflow.getBlocks().size() > LARGE_METHOD_STATEMENTS / 2);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * @return The method <code>run</code>, the first member of the first class after the
+     *         main class of the specified program.
+     */
+    private static MethodDecl run(Program ast) {
+        return (MethodDecl) ((ClassDeclSimple) ast.cl.get(0)).ml.get(0);
+    }
+
+    private static ClassInfo runClass(Program ast, SymbolContext symbolContext) {
+        return symbolContext.lookupClass(((ClassDeclSimple) ast.cl.get(0)).i.id);
+    }
+
+    private static DefiniteAssignment definiteAssignment(Program ast, SymbolContext symbolContext) {
+        var class_ = runClass(ast, symbolContext);
+        var method = symbolContext.lookupMethod(Names.intern("run"), class_);
+        return new DefiniteAssignment(run(ast).dataflow.getReversePostorder()).analyze(method, class_);
+    }
+
+    /**
+     * @return The block holding the return statement of the specified blocks.
+     */
+    private static Block exit(Block[] blocks) {
+        return Arrays.stream(blocks)
+                .filter(b -> b.instructionCount() > 0 && b.getInstruction(0).getStatement() instanceof Return)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    public void testDefiniteAssignment() throws Exception {
+        var symbolContext = SymbolContext.create();
+        var ast = TestUtils.analyze(LOOP, symbolContext);
+        assertEquals(List.of(), definiteAssignment(ast, symbolContext).uninitializedVariables());
+    }
+
+    @Test
+    public void testDefiniteAssignmentOnOneBranch() throws Exception {
+        // the cases of a switch share a scope, so the default case sees x undeclared
+        var symbolContext = SymbolContext.create();
+        var logger = Logger.create().buffered();
+        var ast = TestUtils.analyze("""
+                class Main {
+                    public static void main(String[] a) {
+                        System.out.println(new Branch().run(1));
+                    }
+                }
+
+                class Branch {
+                    public int run(int p) {
+                        int y = p;
+                        switch (p) {
+                            case 1:
+                                int x = 1;
+                                y = x;
+                                break;
+                            default:
+                                y = x + y;
+                        }
+                        return y;
+                    }
+                }
+                """, symbolContext, logger);
+        assertEquals(1, logger.getErrorCount());
+
+        var uninitialized = definiteAssignment(ast, symbolContext).uninitializedVariables();
+        assertEquals(1, uninitialized.size());
+        assertEquals("x", uninitialized.get(0).name());
+        assertEquals(16, uninitialized.get(0).lineNumber());
+    }
+
+    @Test
+    public void testReachingDefinitions() throws Exception {
+        var ast = TestUtils.analyze(LOOP, SymbolContext.create());
+        var blocks = run(ast).dataflow.getReversePostorder();
+        var reachingDefinitions = new ReachingDefinitions(blocks).analyze();
+        var reaching = reachingDefinitions.reachingIn(exit(blocks)).stream()
+                .map(ReachingDefinitions.Definition::variable)
+                .collect(Collectors.groupingBy(v -> v, Collectors.counting()));
+        assertEquals(1, (long) reaching.get("x"));
+        assertEquals(2, (long) reaching.get("y"));  // the declaration and the loop body
+    }
+
+    @Test
+    public void testAvailableExpressions() throws Exception {
+        var symbolContext = SymbolContext.create();
+        var ast = TestUtils.analyze(LOOP, symbolContext);
+        var blocks = run(ast).dataflow.getReversePostorder();
+        var availableExpressions = new AvailableExpressions(blocks).analyze(runClass(ast, symbolContext));
+        var available = availableExpressions.availableIn(exit(blocks)).stream()
+                .map(AvailableExpressions.Computation::text)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("p + 1", "y < x"), available);
+
+        // in reverse postorder, every block sees its final input on its first visit but the
+        // loop header, which is visited once more when the back edge brings the output of the
+        // body. that changes nothing, so no other block is queued again
+        var solution = availableExpressions.getSolution();
+        assertEquals(5, blocks.length);
+        assertEquals(blocks.length + 1, solution.getVisits());
+        assertEquals(blocks.length, solution.getChanges());
+    }
+}
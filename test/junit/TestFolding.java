@@ -0,0 +1,212 @@
+import ast.*;
+import semantics.table.SymbolContext;
+import semantics.visitor.Fold;
+import semantics.visitor.FoldingVisitor;
+
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TestFolding {
+    /**
+     * @return The expressions printed by the main method of a program which prints each of
+     *         the specified ones, after folding.
+     */
+    private static Expression[] foldPrinted(String... expressions) throws Exception {
+        var sb = new StringBuilder("class Main {\n    public static void main(String[] a) {\n");
+        for (var e : expressions) {
+            sb.append("        System.out.println(").append(e).append(");\n");
+        }
+        var symbolContext = SymbolContext.create();
+        var ast = TestUtils.analyze(sb.append("    }\n}\n").toString(), symbolContext);
+        ast.accept(new FoldingVisitor(symbolContext));
+        var printed = new Expression[expressions.length];
+        for (int i = 0; i < printed.length; i++) {
+            printed[i] = ((Print) ast.m.sl.get(i)).e;
+        }
+        return printed;
+    }
+
+    private static void assertInteger(int expected, Expression e) {
+        assertTrue("not folded: " + e, e instanceof IntegerLiteral);
+        assertEquals(expected, ((IntegerLiteral) e).i);
+    }
+
+    private static void assertString(String expected, Expression e) {
+        assertTrue("not folded: " + e, e instanceof StringLiteral);
+        assertEquals(expected, ((StringLiteral) e).s);
+    }
+
+    /**
+     * @return The statements of the only method of the only class of the specified program.
+     */
+    private static StatementList body(Program ast) {
+        return ((MethodDecl) ((ClassDeclSimple) ast.cl.get(0)).ml.get(0)).sl;
+    }
+
+    @Test
+    public void testArithmetic() throws Exception {
+        var e = foldPrinted("3 * 4 + 5", "-7 / 2", "-7 % 2", "~5 ^ 3 | 8 & 12", "-(2 - 5)");
+        assertInteger(17, e[0]);
+        assertInteger(-3, e[1]);
+        assertInteger(-1, e[2]);
+        assertInteger(~5 ^ 3 | 8 & 12, e[3]);
+        assertInteger(3, e[4]);
+    }
+
+    @Test
+    public void testOverflowIsNotFolded() throws Exception {
+        // the generated code adds in 64-bit registers, so the sum does not wrap around to
+        // a negative int, and is left to be computed at run time
+        var e = foldPrinted("2147483647 + 1", "65536 * 65536", "2147483647 + 1 - 1");
+        assertTrue(e[0] instanceof Plus);
+        assertTrue(e[1] instanceof Times);
+        assertTrue(e[2] instanceof Minus);
+    }
+
+    @Test
+    public void testShiftCountIsMasked() throws Exception {
+        // like shl, sar and shr, shifts by the low 6 bits of the count
+        var e = foldPrinted("1 << 64", "1 << 65", "-16 >> 66", "1 << 40", "-1 >>> 1");
+        assertInteger(1, e[0]);
+        assertInteger(2, e[1]);
+        assertInteger(-4, e[2]);
+        assertTrue(e[3] instanceof LeftShift);  // 2^40 does not fit an int
+        assertTrue(e[4] instanceof UnsignedRightShift);  // 2^63 - 1 does not either
+    }
+
+    @Test
+    public void testDivisionByZeroIsNotFolded() throws Exception {
+        var e = foldPrinted("7 / 0", "7 % 0", "7 / (2 - 2)");
+        assertTrue(e[0] instanceof Divide);
+        assertTrue(e[1] instanceof Mod);
+        assertTrue(e[2] instanceof Divide);
+        assertInteger(0, ((Divide) e[2]).e2);  // the divisor itself is folded
+    }
+
+    @Test
+    public void testConcatenationOrder() throws Exception {
+        var e = foldPrinted("\"a\" + 1 + 2", "1 + 2 + \"a\"", "\"a\" + (1 + 2)", "true + \"a\" + false",
+                "\"a\" + -3");
+        assertString("a12", e[0]);
+        assertString("3a", e[1]);
+        assertString("a3", e[2]);
+        assertString("trueafalse", e[3]);
+        assertString("a-3", e[4]);
+    }
+
+    @Test
+    public void testLogic() throws Exception {
+        var e = foldPrinted("1 < 2 && 2 < 1", "!(1 == 2)", "true ? 7 : 8", "false || 3 >= 3");
+        assertTrue(e[0] instanceof False);
+        assertTrue(e[1] instanceof True);
+        assertInteger(7, e[2]);
+        assertTrue(e[3] instanceof True);
+    }
+
+    @Test
+    public void testPropagation() throws Exception {
+        var symbolContext = SymbolContext.create();
+        var ast = TestUtils.analyze("""
+                class Main {
+                    public static void main(String[] a) {
+                        System.out.println(new Loop().run(1));
+                    }
+                }
+
+                class Loop {
+                    public int run(int p) {
+                        int once = 6;
+                        int twice = 1;
+                        int twiceAgain = once * 7;
+                        twice = 2;
+                        System.out.println(twiceAgain);
+                        System.out.println(twice);
+                        System.out.println(p);
+                        return once;
+                    }
+                }
+                """, symbolContext);
+        var folder = new FoldingVisitor(symbolContext);
+        ast.accept(folder);
+        var sl = body(ast);
+        assertInteger(42, ((VarInit) sl.get(2)).e);
+        assertInteger(42, ((Print) sl.get(4)).e);
+        assertTrue(((Print) sl.get(5)).e instanceof IdentifierExp);  // assigned after initialization
+        assertTrue(((Print) sl.get(6)).e instanceof IdentifierExp);  // a parameter
+        assertInteger(6, ((Return) sl.get(7)).e);
+        assertEquals(3, folder.getFolds().get(Fold.PROPAGATION));
+    }
+
+    @Test
+    public void testBranchPruning() throws Exception {
+        var symbolContext = SymbolContext.create();
+        var ast = TestUtils.analyze("""
+                class Main {
+                    public static void main(String[] a) {
+                        System.out.println(new Branches().run(1));
+                    }
+                }
+
+                class Branches {
+                    public int run(int p) {
+                        boolean never = 1 > 2;
+                        if (never) {
+                            p = 1;
+                        }
+                        if (!never) {
+                            p = 2;
+                        }
+                        while (never) {
+                            p = 3;
+                        }
+                        if (never) {
+                            return 4;
+                        } else {
+                            return 5;
+                        }
+                    }
+                }
+                """, symbolContext);
+        var folder = new FoldingVisitor(symbolContext);
+        ast.accept(folder);
+        var sl = body(ast);
+        assertTrue(sl.get(1) instanceof NoOp);
+        assertTrue(sl.get(2) instanceof Block);
+        assertTrue(sl.get(3) instanceof NoOp);
+        // the branch holding the other return is pruned, leaving one
+        var taken = (Block) sl.get(4);
+        assertInteger(5, ((Return) taken.sl.get(0)).e);
+        assertEquals(4, folder.getFolds().get(Fold.BRANCH));
+    }
+
+    @Test
+    public void testMissingReturnInPrunedBranchIsReported() throws Exception {
+        // folding runs after dataflow analysis, so if (true) still does not count as returning
+        var source = Files.createTempFile("MissingReturn", ".java");
+        try {
+            Files.writeString(source, """
+                    class Main {
+                        public static void main(String[] a) {
+                            System.out.println(new Returns().run());
+                        }
+                    }
+
+                    class Returns {
+                        public int run() {
+                            if (true) {
+                                return 1;
+                            }
+                        }
+                    }
+                    """);
+            new JavaTestBuilder()
+                    .assertSystemErr(err -> assertTrue(err, err.contains("Missing return statement")))
+                    .assertExitFailure()
+                    .testCompiler(source.toString());
+        } finally {
+            Files.delete(source);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+import commons.Names;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TestNames {
+    @Test
+    public void testInternedNamesAreClearedWhenTooMany() {
+        int reserved = Names.reserve("reserved");
+        Names.acquire();
+        int first = Names.intern("name0");
+        for (int i = 1; i <= Names.MAX_NAMES; i++) {
+            Names.intern("name" + i);
+        }
+        assertEquals(first, Names.intern("name0"));
+        assertEquals("name0", Names.name(first));
+
+        Names.acquire();  // a concurrent compilation keeps the names valid
+        Names.release();
+        assertEquals("name0", Names.name(first));
+
+        Names.release();
+        assertEquals("reserved", Names.name(reserved));
+        assertEquals(reserved, Names.intern("reserved"));
+        try {
+            Names.name(first + Names.MAX_NAMES);
+            fail("not cleared");
+        } catch (IndexOutOfBoundsException expected) {
+            // forgotten
+        }
+        assertEquals(reserved + 1, Names.intern("name" + Names.MAX_NAMES));  // ids are assigned again
+    }
+}
@@ -0,0 +1,94 @@
+import commons.OutputRouter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TestParallelCompilation {
+    private static final int JOBS = 8;
+    private static final int RUNS = 3;
+
+    /**
+     * @return The sources of the CodeGen tests, followed by sources which fail static or
+     *         dataflow analysis, so that the output holds both assembly and diagnostics.
+     */
+    private static List<String> sources() {
+        var sources = new ArrayList<String>();
+        for (var directory : new String[] {"test/resources/CodeGen/src", "test/resources/Dataflow", "test/resources/Semantics"}) {
+            var files = new File(directory).listFiles((dir, name) -> name.endsWith(".java")
+                    && (directory.endsWith("src") || name.contains("Fail")));
+            assertNotNull(directory, files);
+            Arrays.sort(files);
+            for (var file : files) {
+                sources.add(file.getPath());
+            }
+        }
+        return sources;
+    }
+
+    private static OutputRouter.Captured compile(List<String> options, List<String> sources) {
+        var args = new ArrayList<>(options);
+        args.addAll(sources);
+        return OutputRouter.capture(() -> Java.run(args.toArray(new String[0])));
+    }
+
+    private static void assertSameOutput(String message, OutputRouter.Captured expected, OutputRouter.Captured actual) {
+        assertEquals(message, expected.status(), actual.status());
+        assertEquals(message, expected.out().toString(StandardCharsets.UTF_8), actual.out().toString(StandardCharsets.UTF_8));
+        assertEquals(message, expected.err().toString(StandardCharsets.UTF_8), actual.err().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testOutputDoesNotDependOnJobs() {
+        var sources = sources();
+        var sequential = compile(List.of(), sources);
+        assertNotEquals("some sources fail", 0, sequential.status());
+        assertTrue(sequential.out().size() > 0);
+        assertTrue(sequential.err().size() > 0);
+        for (int run = 0; run < RUNS; run++) {
+            assertSameOutput("run " + run, sequential, compile(List.of("-j", String.valueOf(JOBS)), sources));
+        }
+    }
+
+    @Test
+    public void testOutputFilesDoNotDependOnJobs() throws IOException {
+        var sources = sources();
+        var sequentialDirectory = Files.createTempDirectory("sequential");
+        var parallelDirectory = Files.createTempDirectory("parallel");
+        try {
+            var sequential = compile(List.of("-d", sequentialDirectory.toString()), sources);
+            var parallel = compile(List.of("-j", String.valueOf(JOBS), "-d", parallelDirectory.toString()), sources);
+            assertSameOutput("diagnostics", sequential, parallel);
+
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(sequentialDirectory)) {
+                files = listing.sorted().toList();
+            }
+            assertFalse(files.isEmpty());
+            for (var file : files) {
+                var other = parallelDirectory.resolve(file.getFileName());
+                assertTrue(other.toString(), Files.exists(other));
+                assertEquals(file.getFileName().toString(), Files.readString(file), Files.readString(other));
+            }
+            try (Stream<Path> listing = Files.list(parallelDirectory)) {
+                assertEquals(files.size(), listing.count());
+            }
+        } finally {
+            for (var directory : new Path[] {sequentialDirectory, parallelDirectory}) {
+                try (Stream<Path> files = Files.walk(directory)) {
+                    files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+import codegen.AsmLine;
+import codegen.AsmLine.*;
+import codegen.Peephole;
+import codegen.Rewrite;
+import codegen.platform.IDestination;
+import codegen.platform.ISource;
+import codegen.platform.Immediate;
+import codegen.platform.Label;
+import codegen.platform.Memory;
+import codegen.platform.Operation;
+import codegen.platform.isa.ISAProvider;
+import commons.Counts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static codegen.platform.Operation.*;
+import static codegen.platform.Register.*;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestPeephole {
+    private static final Label L = Label.of("L");
+    private static final Label M = Label.of("M");
+    private static final Memory LOCAL = Memory.of(RBP, -8);
+
+    /**
+     * Renders lines in failure messages as x86-64 assembly.
+     */
+    @BeforeClass
+    public static void selectISA() {
+        ISAProvider.getISA_x86_64().select();
+    }
+
+    private static Op op(Operation op, ISource src, IDestination dst) {
+        return new Op(op, src, dst, "");
+    }
+
+    private static Immediate imm(int n) {
+        return Immediate.of(n);
+    }
+
+    /**
+     * Asserts that optimizing the specified lines gives the expected ones, applying exactly
+     * the specified rewrites.
+     */
+    private static void assertOptimized(List<AsmLine> expected, List<AsmLine> code, Rewrite... rewrites) {
+        var lines = new ArrayList<>(code);
+        var counts = new Counts<>(Rewrite.class);
+        new Peephole(counts).optimize(lines);
+        assertEquals(expected, lines);
+        var applied = new Counts<>(Rewrite.class);
+        for (var rewrite : rewrites) {
+            applied.count(rewrite);
+        }
+        for (var rewrite : Rewrite.values()) {
+            assertEquals(rewrite.name(), applied.get(rewrite), counts.get(rewrite));
+        }
+    }
+
+    private static void assertUnchanged(AsmLine... code) {
+        assertOptimized(Arrays.asList(code), Arrays.asList(code));
+    }
+
+    @Test
+    public void testPushPop() {
+        assertOptimized(List.of(op(MOV, RAX, RDI)),
+                List.of(op(PUSH, RAX, null), op(POP, null, RDI)), Rewrite.PUSH_POP);
+    }
+
+    @Test
+    public void testPushPopOfTheSameRegister() {
+        assertOptimized(List.of(), List.of(op(PUSH, RAX, null), op(POP, null, RAX)), Rewrite.PUSH_POP);
+    }
+
+    @Test
+    public void testPushPopBetweenMemory() {
+        // there is no move from memory to memory
+        assertUnchanged(op(PUSH, LOCAL, null), op(POP, null, Memory.of(RBP, -16)));
+        // pushing changes the stack pointer
+        assertUnchanged(op(PUSH, Memory.of(RSP, 8), null), op(POP, null, RAX));
+    }
+
+    @Test
+    public void testSelfMove() {
+        assertOptimized(List.of(op(ADD, RDI, RAX)),
+                List.of(op(MOV, RAX, RAX), op(ADD, RDI, RAX)), Rewrite.SELF_MOVE);
+    }
+
+    @Test
+    public void testMoveBetweenRegisters() {
+        assertUnchanged(op(MOV, RDI, RAX), op(ADD, RDI, RAX));
+        assertUnchanged(op(MOV, LOCAL, RAX), op(MOV, RAX, LOCAL));
+    }
+
+    @Test
+    public void testStoreReload() {
+        assertOptimized(List.of(op(MOV, RDI, LOCAL), op(MOV, RDI, RAX)),
+                List.of(op(MOV, RDI, LOCAL), op(MOV, LOCAL, RAX)), Rewrite.STORE_RELOAD);
+        assertOptimized(List.of(op(MOV, RDI, LOCAL)),
+                List.of(op(MOV, RDI, LOCAL), op(MOV, LOCAL, RDI)), Rewrite.STORE_RELOAD);
+    }
+
+    @Test
+    public void testReloadOfAnotherLocationOrAfterALabel() {
+        assertUnchanged(op(MOV, RDI, LOCAL), op(MOV, Memory.of(RBP, -16), RAX));
+        // another block may store to the location before jumping to the label
+        assertUnchanged(op(MOV, RDI, LOCAL), new Define(L), op(MOV, LOCAL, RAX));
+    }
+
+    @Test
+    public void testMoveChain() {
+        assertOptimized(List.of(op(MOV, imm(1), RDI), op(MOV, imm(2), RAX)),
+                List.of(op(MOV, imm(1), RAX), op(MOV, RAX, RDI), op(MOV, imm(2), RAX)), Rewrite.MOVE_CHAIN);
+    }
+
+    @Test
+    public void testMoveChainThroughALiveRegister() {
+        // read again
+        assertUnchanged(op(MOV, imm(1), RAX), op(MOV, RAX, RDI), op(ADD, RAX, RSI));
+        // live at labels, jumps and returns
+        assertUnchanged(op(MOV, imm(1), RAX), op(MOV, RAX, RDI), new Define(L));
+        assertUnchanged(op(MOV, imm(1), RAX), op(MOV, RAX, RDI), new Jump(JMP, L, ""));
+        assertUnchanged(op(MOV, imm(1), RAX), op(MOV, RAX, RDI), op(RET, null, null));
+        // passed to a call
+        assertUnchanged(op(MOV, imm(1), RSI), op(MOV, RSI, RDI), new Call(L, true, ""));
+    }
+
+    @Test
+    public void testDeadMove() {
+        assertOptimized(List.of(op(MOV, imm(2), RAX)),
+                List.of(op(MOV, imm(1), RAX), op(MOV, imm(2), RAX)), Rewrite.DEAD_MOVE);
+        // clobbered by a call without being passed to it
+        assertOptimized(List.of(new Call(L, true, "")),
+                List.of(op(MOV, imm(1), R10), new Call(L, true, "")), Rewrite.DEAD_MOVE);
+    }
+
+    @Test
+    public void testMoveIntoALiveRegister() {
+        assertUnchanged(op(MOV, imm(1), RAX), op(MOV, Memory.of(RAX, 0), RAX));
+        assertUnchanged(op(MOV, imm(1), RDI), new Call(L, true, ""));
+        // synthetic functions may take arguments in any register
+        assertUnchanged(op(MOV, imm(1), R10), new Call(L, false, ""));
+        assertUnchanged(op(MOV, imm(1), RAX), new Define(L), op(MOV, imm(2), RAX));
+    }
+
+    @Test
+    public void testConstantBranchTaken() {
+        assertOptimized(List.of(op(MOV, imm(0), RAX), new Jump(JMP, L, "")),
+                List.of(op(MOV, imm(0), RAX), op(TEST, RAX, RAX), new Jump(JE, L, "")),
+                Rewrite.CONSTANT_BRANCH);
+    }
+
+    @Test
+    public void testConstantBranchNotTaken() {
+        assertOptimized(List.of(op(MOV, imm(3), RAX), op(RET, null, null)),
+                List.of(op(MOV, imm(3), RAX), op(CMP, imm(5), RAX), new Jump(JGE, L, ""), op(RET, null, null)),
+                Rewrite.CONSTANT_BRANCH);
+    }
+
+    @Test
+    public void testConstantBranchWithLiveFlags() {
+        // the next branch reads the flags of the comparison
+        assertUnchanged(op(MOV, imm(3), RAX), op(CMP, imm(5), RAX), new Jump(JGE, L, ""), new Jump(JL, M, ""));
+        // the comparison is not the one the branch reads
+        assertUnchanged(op(MOV, imm(0), RAX), new Define(M), op(TEST, RAX, RAX), new Jump(JE, L, ""));
+        assertUnchanged(op(MOV, imm(0), RAX), op(CMP, RDI, RAX), new Jump(JE, L, ""));
+    }
+
+    @Test
+    public void testBranchOverJump() {
+        assertOptimized(List.of(new Jump(JGE, M, ""), new Define(L)),
+                List.of(new Jump(JL, L, ""), new Jump(JMP, M, ""), new Define(L)), Rewrite.BRANCH_OVER_JUMP);
+    }
+
+    @Test
+    public void testBranchOverJumpToAnotherLabel() {
+        assertUnchanged(new Jump(JL, L, ""), new Jump(JMP, M, ""), new Define(Label.of("N")), new Define(L));
+        // the unsigned comparison has no inverse among the generated jumps
+        assertUnchanged(new Jump(JAE, L, ""), new Jump(JMP, M, ""), new Define(L));
+    }
+
+    @Test
+    public void testJumpToNext() {
+        assertOptimized(List.of(new Align(4), new Define(M), new Define(L)),
+                List.of(new Jump(JMP, L, ""), new Align(4), new Define(M), new Define(L)),
+                Rewrite.JUMP_TO_NEXT);
+        assertOptimized(List.of(new Define(L)),
+                List.of(new Jump(JNE, L, ""), new Define(L)), Rewrite.JUMP_TO_NEXT);
+    }
+
+    @Test
+    public void testJumpOverAnInstruction() {
+        assertUnchanged(new Jump(JE, L, ""), op(RET, null, null), new Define(L));
+    }
+
+    @Test
+    public void testUnreachable() {
+        assertOptimized(List.of(new Jump(JMP, L, ""), new Define(M), op(RET, null, null)),
+                List.of(new Jump(JMP, L, ""), op(MOV, imm(1), RAX), op(RET, null, null), new Define(M),
+                        op(RET, null, null)),
+                Rewrite.UNREACHABLE, Rewrite.UNREACHABLE);
+    }
+
+    @Test
+    public void testReachableAfterALabel() {
+        assertUnchanged(op(RET, null, null), new Define(L), op(RET, null, null));
+        assertUnchanged(new Jump(JMP, L, ""), new Align(4), new Define(M), op(RET, null, null));
+    }
+
+    @Test
+    public void testCounts() {
+        var counts = new Counts<>(Rewrite.class);
+        counts.count(Rewrite.SELF_MOVE);
+        counts.count(Rewrite.SELF_MOVE);
+        counts.count(Rewrite.UNREACHABLE);
+        assertEquals(2, counts.get(Rewrite.SELF_MOVE));
+        assertEquals(0, counts.get(Rewrite.PUSH_POP));
+        assertEquals(3, counts.total());
+        assertArrayEquals(Rewrite.values(), counts.keys());
+
+        var more = new Counts<>(Rewrite.class);
+        more.count(Rewrite.UNREACHABLE);
+        counts.add(more);
+        assertEquals(2, counts.get(Rewrite.UNREACHABLE));
+        assertEquals(4, counts.total());
+        assertEquals(1, more.total());
+    }
+}
@@ -0,0 +1,116 @@
+import codegen.LinearScanAllocator;
+import codegen.platform.Register;
+import codegen.platform.isa.ISAProvider;
+import ir.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestRegisterAllocation {
+    private static final int REGISTERS = LinearScanAllocator.REGISTERS.size();
+
+    /**
+     * Renders registers in failure messages as x86-64 assembly.
+     */
+    @BeforeClass
+    public static void selectISA() {
+        ISAProvider.getISA_x86_64().select();
+    }
+
+    /**
+     * A single block which computes the specified number of values from a parameter and
+     * then prints all of them, so that they are all live at once, after copying the
+     * specified constant, if any, into a register which is printed last.
+     */
+    private static final class Pressure {
+        final Function function = new Function(Function.Kind.METHOD, "pressure", null, null);
+        final VirtualRegister p = function.newParameter(IrType.INT, "p");
+        final List<VirtualRegister> values = new ArrayList<>();
+        final VirtualRegister constant;
+
+        Pressure(int count, Constant copied) {
+            var b = function.newBlock();
+            function.addBlock(b);
+            constant = copied != null ? function.newVariable(IrType.INT, "c") : null;
+            if (constant != null) {
+                b.add(new Copy(constant, copied));
+            }
+            for (int i = 0; i < count; i++) {
+                var v = function.newVariable(IrType.INT, "v" + i);
+                b.add(new Binary(v, Binary.Operator.ADD, p, Constant.of(i)));
+                values.add(v);
+            }
+            for (var v : values) {
+                b.add(new Print(Print.Kind.INT, v));
+            }
+            if (constant != null) {
+                b.add(new Print(Print.Kind.INT, constant));
+            }
+            b.add(new Return());
+        }
+
+        LinearScanAllocator allocate() {
+            return new LinearScanAllocator(function, new LoopNestForest(function));
+        }
+    }
+
+    @Test
+    public void testEnoughRegisters() {
+        var pressure = new Pressure(REGISTERS, null);
+        var allocator = pressure.allocate();
+        var used = new HashSet<Register>();
+        for (var v : pressure.values) {
+            assertNotNull(v.toString(), allocator.getRegister(v));
+            assertEquals(-1, allocator.getSlot(v));
+            assertTrue("shared " + allocator.getRegister(v), used.add(allocator.getRegister(v)));
+        }
+        assertEquals(0, allocator.getSlotCount());
+        assertEquals(LinearScanAllocator.REGISTERS, allocator.getUsedRegisters());
+    }
+
+    @Test
+    public void testSpillingUnderPressure() {
+        int count = REGISTERS + 2;
+        var pressure = new Pressure(count, null);
+        var allocator = pressure.allocate();
+
+        var registers = new HashSet<Register>();
+        var slots = new HashSet<Integer>();
+        for (var v : pressure.values) {
+            var register = allocator.getRegister(v);
+            int slot = allocator.getSlot(v);
+            assertNull(allocator.getConstant(v));
+            if (register != null) {
+                assertEquals(v.toString(), -1, slot);
+                assertTrue("shared " + register, registers.add(register));
+            } else {
+                assertTrue(v.toString(), slot >= 0 && slot < allocator.getSlotCount());
+                assertTrue("shared slot " + slot, slots.add(slot));
+            }
+        }
+        // every value is live while the last one is computed, so exactly two must spill
+        assertEquals(REGISTERS, registers.size());
+        assertEquals(2, slots.size());
+        assertEquals(2, allocator.getSlotCount());
+    }
+
+    @Test
+    public void testConstantIsRematerializedRatherThanSpilled() {
+        var pressure = new Pressure(REGISTERS, Constant.of(42));
+        var allocator = pressure.allocate();
+
+        // the copy of the constant weighs nothing, so it gives up its register first
+        assertNull(allocator.getRegister(pressure.constant));
+        assertEquals(-1, allocator.getSlot(pressure.constant));
+        assertEquals(Constant.of(42), allocator.getConstant(pressure.constant));
+        for (var v : pressure.values) {
+            assertNotNull(v.toString(), allocator.getRegister(v));
+        }
+        assertEquals(0, allocator.getSlotCount());
+    }
+}
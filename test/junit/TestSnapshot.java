@@ -0,0 +1,136 @@
+import ast.Program;
+import codegen.Emitter;
+import codegen.Generator;
+import codegen.platform.isa.ISA;
+import codegen.platform.isa.ISAProvider;
+import commons.Logger;
+import phase.*;
+import snapshot.AstSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TestSnapshot {
+    private static final File SOURCES = new File("test/resources/CodeGen/src");
+
+    private record Compiled(int status, String assembly) {}
+
+    private static File[] sources() {
+        var sources = SOURCES.listFiles((dir, name) -> name.endsWith(".java"));
+        assertNotNull(sources);
+        Arrays.sort(sources);
+        return sources;
+    }
+
+    /**
+     * @return The initial state of a compilation of the specified source, from the specified
+     *         AST if not <code>null</code>.
+     */
+    private static CompilerState initialState(File source, Program ast, ISA isa, ByteArrayOutputStream assembly) {
+        return CompilerState.builder()
+                .status(CompilerState.EXIT_SUCCESS)
+                .sourceFile(source)
+                .isa(isa)
+                .logger(Logger.create())
+                .generator(Generator.create(isa, Emitter.to(assembly)))
+                .ast(ast)
+                .build();
+    }
+
+    private static Program parse(File source) throws InterruptedException {
+        var isa = ISAProvider.getISA_x86_64();
+        isa.acquire();
+        try {
+            var state = new CompilerPhaseChain()
+                    .add(new ScanPhase())
+                    .add(new ParsePhase())
+                    .run(initialState(source, null, isa, new ByteArrayOutputStream()));
+            assertEquals(source.getName(), CompilerState.EXIT_SUCCESS, state.getStatus());
+            return state.getAst();
+        } finally {
+            isa.release();
+        }
+    }
+
+    /**
+     * @return The assembly generated for the specified source, parsed again unless the
+     *         specified AST is not <code>null</code>.
+     */
+    private static Compiled compile(File source, Program ast, boolean viaIr) throws InterruptedException {
+        var isa = ISAProvider.getISA_x86_64();
+        var assembly = new ByteArrayOutputStream();
+        isa.acquire();
+        try {
+            var phases = new CompilerPhaseChain()
+                    .add(new ScanPhase())
+                    .add(new ParsePhase())
+                    .add(new StaticAnalysisPhase())
+                    .add(new DataflowAnalysisPhase())
+                    .add(new ConstantFoldingPhase());
+            if (viaIr) {
+                phases.add(new IrLoweringPhase(false, true));
+            }
+            var state = phases.add(new CodeGenerationPhase(viaIr))
+                    .run(initialState(source, ast, isa, assembly));
+            return new Compiled(state.getStatus(), assembly.toString(StandardCharsets.UTF_8));
+        } finally {
+            isa.release();
+        }
+    }
+
+    private static void assertRejected(String message, byte[] snapshot) {
+        try {
+            AstSnapshot.read(snapshot);
+            fail(message);
+        } catch (IOException expected) {
+            // rejected
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        for (var source : sources()) {
+            var snapshot = AstSnapshot.write(parse(source));
+            assertArrayEquals(source.getName(), snapshot, AstSnapshot.write(AstSnapshot.read(snapshot)));
+            for (boolean viaIr : new boolean[] {false, true}) {
+                // every compilation rewrites its AST, so each one reads the snapshot again
+                assertEquals(source.getName(), compile(source, null, viaIr),
+                        compile(source, AstSnapshot.read(snapshot), viaIr));
+            }
+        }
+    }
+
+    @Test
+    public void testCorruptSnapshotsAreRejected() throws Exception {
+        var snapshot = AstSnapshot.write(parse(new File(SOURCES, "ConstantFolding.java")));
+        for (int length = 0; length < snapshot.length; length++) {
+            var truncated = Arrays.copyOf(snapshot, length);
+            assertRejected("truncated to " + length, truncated);
+        }
+        var trailing = Arrays.copyOf(snapshot, snapshot.length + 1);
+        assertRejected("trailing byte", trailing);
+
+        for (int i : new int[] {0, 7}) {  // the magic number and the version
+            var header = snapshot.clone();
+            header[i] ^= 1;
+            assertRejected("header byte " + i, header);
+        }
+
+        // any other byte may still decode to some program, but never fails otherwise
+        for (int i = 8; i < snapshot.length; i++) {
+            var corrupt = snapshot.clone();
+            corrupt[i] ^= 0x5A;
+            try {
+                AstSnapshot.read(corrupt);
+            } catch (IOException expected) {
+                // rejected
+            }
+        }
+    }
+}
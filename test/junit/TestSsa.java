@@ -0,0 +1,139 @@
+import ir.*;
+import ir.ssa.SsaBuilder;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class TestSsa {
+    /**
+     * A loop whose body branches and joins again before jumping back to the header:
+     * <pre>
+     * b0: x = 0; jump b1
+     * b1: branch x &lt; p, b2, b5
+     * b2: branch x &lt; 5, b3, b4
+     * b3: y = x + 1; x = y; jump b6
+     * b4: jump b6
+     * b6: print x; jump b1
+     * b5: return x
+     * b7: return       (unreachable)
+     * </pre>
+     */
+    private static final class Loop {
+        final Function function = new Function(Function.Kind.METHOD, "loop", null, IrType.INT);
+        final VirtualRegister p = function.newParameter(IrType.INT, "p");
+        final VirtualRegister x = function.newVariable(IrType.INT, "x");
+        final VirtualRegister y = function.newVariable(IrType.INT, "y");
+        final BasicBlock[] b = new BasicBlock[8];
+
+        Loop() {
+            for (int i = 0; i < b.length; i++) {
+                b[i] = function.newBlock();
+                function.addBlock(b[i]);
+            }
+            b[0].add(new Copy(x, Constant.of(0)));
+            b[0].add(new Jump(b[1]));
+            b[1].add(new Branch(Condition.LT, x, p, b[2], b[5]));
+            b[2].add(new Branch(Condition.LT, x, Constant.of(5), b[3], b[4]));
+            b[3].add(new Binary(y, Binary.Operator.ADD, x, Constant.of(1)));
+            b[3].add(new Copy(x, y));
+            b[3].add(new Jump(b[6]));
+            b[4].add(new Jump(b[6]));
+            b[6].add(new Print(Print.Kind.INT, x));
+            b[6].add(new Jump(b[1]));
+            b[5].add(new Return(x));
+            b[7].add(new Return());
+            function.linkPredecessors();
+        }
+    }
+
+    private static List<Phi> phis(BasicBlock b) {
+        return b.getInstructions().stream()
+                .filter(i -> i instanceof Phi)
+                .map(i -> (Phi) i)
+                .toList();
+    }
+
+    @Test
+    public void testDominators() {
+        var loop = new Loop();
+        var b = loop.b;
+        var tree = new DominatorTree(loop.function);
+
+        assertEquals(b[0], tree.getReversePostorder().get(0));
+        assertEquals(7, tree.getReversePostorder().size());
+        assertEquals(-1, tree.indexOf(b[7]));
+
+        assertNull(tree.getImmediateDominator(b[0]));
+        assertEquals(b[0], tree.getImmediateDominator(b[1]));
+        assertEquals(b[1], tree.getImmediateDominator(b[2]));
+        assertEquals(b[2], tree.getImmediateDominator(b[3]));
+        assertEquals(b[2], tree.getImmediateDominator(b[4]));
+        assertEquals(b[2], tree.getImmediateDominator(b[6]));  // through either branch
+        assertEquals(b[1], tree.getImmediateDominator(b[5]));
+        assertEquals(new HashSet<>(List.of(b[2], b[5])), new HashSet<>(tree.getChildren(b[1])));
+
+        assertTrue(tree.dominates(b[1], b[6]));
+        assertTrue(tree.dominates(b[6], b[6]));
+        assertFalse(tree.dominates(b[3], b[6]));
+        assertFalse(tree.dominates(b[6], b[1]));  // the back edge does not dominate the header
+
+        assertEquals(List.of(), tree.getFrontier(b[0]));
+        assertEquals(List.of(b[1]), tree.getFrontier(b[1]));  // a loop header is in its own frontier
+        assertEquals(List.of(b[1]), tree.getFrontier(b[2]));
+        assertEquals(List.of(b[6]), tree.getFrontier(b[3]));
+        assertEquals(List.of(b[6]), tree.getFrontier(b[4]));
+        assertEquals(List.of(), tree.getFrontier(b[5]));
+        assertEquals(List.of(b[1]), tree.getFrontier(b[6]));
+    }
+
+    @Test
+    public void testPhiPlacement() {
+        var loop = new Loop();
+        var b = loop.b;
+        loop.function.removeUnreachableBlocks();
+        new SsaBuilder(loop.function).build();
+
+        // x is assigned in b0 and b3, whose iterated frontier is b6 and b1, and live there;
+        // y is assigned in b3 only, and the parameter never, so neither needs a phi
+        for (var block : loop.function.getBlocks()) {
+            var expected = block == b[1] || block == b[6] ? 1 : 0;
+            assertEquals(block.getLabel(), expected, phis(block).size());
+        }
+        var header = phis(b[1]).get(0);
+        var join = phis(b[6]).get(0);
+        assertEquals(b[0].getInstructions().get(0).getResult(), header.getValue(b[0]));
+        assertEquals(join.getResult(), header.getValue(b[6]));
+        assertEquals(header.getResult(), join.getValue(b[4]));
+        var increment = (Copy) b[3].getInstructions().get(1);
+        assertEquals(increment.getResult(), join.getValue(b[3]));
+
+        // every register is now defined once, and the parameter is still read as is
+        var defined = new HashSet<VirtualRegister>();
+        for (var block : loop.function.getBlocks()) {
+            for (var i : block.getInstructions()) {
+                if (i.getResult() != null) {
+                    assertTrue(i.toString(), defined.add(i.getResult()));
+                }
+            }
+        }
+        assertFalse(defined.contains(loop.p));
+        assertEquals(loop.p, ((Branch) b[1].getTerminator()).getRight());
+    }
+
+    @Test
+    public void testDeadVariableGetsNoPhi() {
+        var loop = new Loop();
+        var b = loop.b;
+        // z is assigned on both paths into the join, but never read after it
+        var z = loop.function.newVariable(IrType.INT, "z");
+        b[3].getInstructions().add(0, new Copy(z, Constant.of(1)));
+        b[4].getInstructions().add(0, new Copy(z, Constant.of(2)));
+        loop.function.removeUnreachableBlocks();
+        new SsaBuilder(loop.function).build();
+        assertEquals(1, phis(b[1]).size());  // of x only
+        assertEquals(1, phis(b[6]).size());
+    }
+}
@@ -0,0 +1,51 @@
+class BinarySearch {
+    public static void main(String[] a) {
+        System.out.println(new Searcher().run(8192, 300));
+    }
+}
+
+// Searches a sorted array for every value up to twice its largest element, many times over
+class Searcher {
+    int[] numbers;
+
+    public int run(int size, int rounds) {
+        int i;
+        int round;
+        int found;
+        numbers = new int[size];
+        for (i = 0; i < size; i++) {
+            numbers[i] = 2 * i;
+        }
+
+        found = 0;
+        for (round = 0; round < rounds; round++) {
+            for (i = 0; i < 2 * size; i++) {
+                if (this.search(i)) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    public boolean search(int value) {
+        int low;
+        int high;
+        int middle;
+        boolean found;
+        low = 0;
+        high = numbers.length - 1;
+        found = false;
+        while (!found && low <= high) {
+            middle = (low + high) / 2;
+            if (numbers[middle] < value) {
+                low = middle + 1;
+            } else if (value < numbers[middle]) {
+                high = middle - 1;
+            } else {
+                found = true;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,55 @@
+class BubbleSort {
+    public static void main(String[] a) {
+        System.out.println(new Sorter().run(12000));
+    }
+}
+
+// Sorts an array in reverse order with bubble sort, so that every comparison swaps
+class Sorter {
+    int[] numbers;
+
+    public int run(int size) {
+        int i;
+        numbers = new int[size];
+        i = 0;
+        while (i < size) {
+            numbers[i] = size - i;
+            i++;
+        }
+        i = this.sort();
+        return this.check();
+    }
+
+    public int sort() {
+        int i;
+        int j;
+        int t;
+        i = numbers.length - 1;
+        while (0 < i) {
+            j = 0;
+            while (j < i) {
+                if (numbers[j + 1] < numbers[j]) {
+                    t = numbers[j];
+                    numbers[j] = numbers[j + 1];
+                    numbers[j + 1] = t;
+                }
+                j++;
+            }
+            i--;
+        }
+        return 0;
+    }
+
+    // returns the number of elements out of order, which should be 0
+    public int check() {
+        int i;
+        int wrong;
+        wrong = 0;
+        for (i = 1; i < numbers.length; i++) {
+            if (numbers[i] < numbers[i - 1]) {
+                wrong++;
+            }
+        }
+        return wrong;
+    }
+}
@@ -0,0 +1,41 @@
+class MatrixMultiply {
+    public static void main(String[] a) {
+        System.out.println(new Matrices().run(500));
+    }
+}
+
+// Multiplies two square matrices, stored row by row in flat arrays, and sums the product
+class Matrices {
+    public int run(int n) {
+        int[] a;
+        int[] b;
+        int[] c;
+        int i;
+        int j;
+        int k;
+        int sum;
+        a = new int[n * n];
+        b = new int[n * n];
+        c = new int[n * n];
+        for (i = 0; i < n * n; i++) {
+            a[i] = i % 7;
+            b[i] = i % 5;
+        }
+
+        for (i = 0; i < n; i++) {
+            for (j = 0; j < n; j++) {
+                sum = 0;
+                for (k = 0; k < n; k++) {
+                    sum = sum + a[i * n + k] * b[k * n + j];
+                }
+                c[i * n + j] = sum;
+            }
+        }
+
+        sum = 0;
+        for (i = 0; i < n * n; i++) {
+            sum = sum + c[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,38 @@
+class Sieve {
+    public static void main(String[] a) {
+        System.out.println(new Primes().run(200000, 150));
+    }
+}
+
+// Counts the primes below a bound with the sieve of Eratosthenes, several times over
+class Primes {
+    public int run(int bound, int rounds) {
+        int round;
+        int count;
+        count = 0;
+        for (round = 0; round < rounds; round++) {
+            count = this.count(bound);
+        }
+        return count;
+    }
+
+    public int count(int bound) {
+        boolean[] composite;
+        int i;
+        int j;
+        int count;
+        composite = new boolean[bound];
+        count = 0;
+        for (i = 2; i < bound; i++) {
+            if (!composite[i]) {
+                count++;
+                j = i + i;
+                while (j < bound) {
+                    composite[j] = true;
+                    j = j + i;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,51 @@
+class Main {
+    public static void main(String[] args) {
+        System.out.println(new Minus().run(7));
+    }
+}
+
+class Minus {
+    int f;
+    int[] arr;
+
+    public int run(int p) {
+        int x;
+        int i;
+
+        x = 10;
+        x -= 3;
+        System.out.println(x);
+        x -= p + 5;
+        System.out.println(x);
+        x -= p;
+        System.out.println(x);
+
+        f = 20;
+        f -= 6;
+        System.out.println(f);
+        f -= p * 2;
+        System.out.println(f);
+        f -= x;
+        System.out.println(f);
+
+        arr = new int[4];
+        arr[1] = 9;
+        arr[1] -= 4;
+        System.out.println(arr[1]);
+        i = p - 5;
+        arr[i] = 30;
+        arr[i] -= arr[1] + p;
+        System.out.println(arr[i]);
+        arr[3] -= f;
+        System.out.println(arr[3]);
+
+        i = 0;
+        while (i < 3) {
+            arr[0] -= i + 1;
+            i += 1;
+        }
+        System.out.println(arr[0]);
+
+        return x - f;
+    }
+}
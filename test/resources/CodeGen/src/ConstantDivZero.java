@@ -0,0 +1,7 @@
+class Main {
+    public static void main(String[] args) {
+        int zero = 0;
+        System.out.println(1);
+        System.out.println(7 / (zero * 3));
+    }
+}
@@ -0,0 +1,81 @@
+class Main {
+    public static void main(String[] args) {
+        int a = 3 * 4 + 5;
+        int b = a << 2;
+        boolean t = a > 10 && true;
+        boolean never = false;
+        int n;
+        int i;
+
+        System.out.println(a);
+        System.out.println(b);
+        System.out.println(t);
+        System.out.println(-7 / 2);
+        System.out.println(-7 % 2);
+        System.out.println(-16 >> 2);
+        System.out.println(~5 ^ 3 | 8 & 12);
+        System.out.println("ab" + "cd" + 1 + 2 + true);
+        System.out.println(1 + 2 + "x" + 1 + 2);
+        System.out.println(true ? 7 : 8);
+        System.out.println(!(1 == 2) != false);
+
+        if (false) {
+            System.out.println(999);
+        } else {
+            System.out.println(a == 17);
+        }
+        while (never) {
+            System.out.println(998);
+        }
+
+        n = 0;
+        i = 0;
+        while (i < 3) {
+            int c = 10;
+            n = n + c / 5 + i % 2;
+            i = i + 1;
+        }
+        System.out.println(n);
+
+        System.out.println(new Folds().half(9));
+        System.out.println(new Folds().pick());
+        System.out.println(new Folds().loop());
+        System.out.println(new Folds().field());
+    }
+}
+
+class Folds {
+    int k = 2 * 21;
+
+    public int half(int x) {
+        int d = 2;
+        int r = x / d;
+        r /= d;
+        return r;
+    }
+
+    public int pick() {
+        if (false) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    public int loop() {
+        int m = 0;
+        boolean never = 1 > 2;
+        while (never) {
+            return m;
+        }
+        return m + 3;
+    }
+
+    public int field() {
+        boolean check = 1 < 2;
+        if (check) {
+            return k;
+        }
+        return 0;
+    }
+}
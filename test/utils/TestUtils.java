@@ -1,7 +1,19 @@
+import ast.Program;
+import commons.Logger;
+import dataflow.visitor.DataflowVisitor;
+import java_cup.runtime.ComplexSymbolFactory;
+import parser.parser;
+import scanner.scanner;
+import semantics.table.SymbolContext;
+import semantics.visitor.ClassVisitor;
+import semantics.visitor.GlobalVisitor;
+import semantics.visitor.LocalVisitor;
+
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.StringReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -193,6 +205,59 @@ public final class TestUtils {
 
     // endregion
 
+    // region Analyze Source Code
+
+    /**
+     * Scans, parses and analyzes the specified Java source code in process,
+     * through static semantic and dataflow analysis, and asserts that no
+     * error is reported.
+     *
+     * @param source        the Java source code to be analyzed.
+     * @param symbolContext the symbol context the analyses fill in.
+     * @return the abstract syntax tree of the source code, as annotated by
+     * the analyses.
+     * @throws Exception if the source code can't be parsed.
+     * @see #analyze(String, SymbolContext, Logger)
+     */
+    public static Program analyze(String source, SymbolContext symbolContext) throws Exception {
+        Logger logger = Logger.create();
+        Program ast = analyze(source, symbolContext, logger);
+        assertFalse("analysis reported errors.", logger.hasError());
+        return ast;
+    }
+
+    /**
+     * Scans, parses and analyzes the specified Java source code in process,
+     * through static semantic and dataflow analysis, reporting errors to the
+     * specified logger.
+     *
+     * @param source        the Java source code to be analyzed.
+     * @param symbolContext the symbol context the analyses fill in.
+     * @param logger        the logger bound while analyzing, e.g. a
+     *                      {@link Logger#buffered() buffered} one to keep
+     *                      expected errors out of {@code System.err}.
+     * @return the abstract syntax tree of the source code, as annotated by
+     * the analyses.
+     * @throws Exception if the source code can't be parsed.
+     */
+    public static Program analyze(String source, SymbolContext symbolContext, Logger logger) throws Exception {
+        Logger.bind(logger);
+        try {
+            ComplexSymbolFactory factory = new ComplexSymbolFactory();
+            Program ast = (Program) new parser(new scanner(new StringReader(source), factory), factory)
+                    .parse().value;
+            ast.accept(new GlobalVisitor(symbolContext));
+            ast.accept(new ClassVisitor(symbolContext));
+            ast.accept(new LocalVisitor(symbolContext));
+            ast.accept(new DataflowVisitor(symbolContext));
+            return ast;
+        } finally {
+            Logger.unbind();
+        }
+    }
+
+    // endregion
+
     // region Execute Command Line Commands
 
     /**
@@ -21,6 +21,13 @@ PATH_TO_BOOT_C_DIR = Path("src/runtime")             # contains boot.c
 # Your compiler invocation (same as the bash script)
 COMPILER_CMD = ["java", "-cp", "build/classes:lib/*", "Java"]
 
+# Code generation modes, by name: the extra compiler flags of each
+MODES = {
+  "ast": [],                 # straight from the AST
+  "ir": ["--via-ir"],        # from the three-address IR, through SSA form
+  "o1": ["-O1"],             # from the IR, with register allocation
+}
+
 # Toolchain
 CLANG = "clang"
 ROSETTA_RUN = ["arch", "-x86_64"]  # run x86_64 binary via Rosetta on Apple Silicon
@@ -68,6 +75,7 @@ def ensure_empty_dir(p: Path) -> None:
 @dataclass
 class TestResult:
   name: str
+  mode: str
   ok: bool
   native_rc: int
   ref_rc: int
@@ -75,18 +83,20 @@ class TestResult:
   note: str = ""
 
 
-def build_and_run_one(java_file: Path, boot_c: Path) -> TestResult:
+def build_and_run_one(java_file: Path, boot_c: Path, mode: str) -> TestResult:
   name = java_file.stem
+  stem = name if mode == "ast" else f"{name}.{mode}"
 
-  asm_path = ASM_DIR / f"{name}.S"
-  native_exe = NATIVE_DIR / name
-  ref_classes = REF_DIR / name
+  asm_path = ASM_DIR / f"{stem}.S"
+  native_exe = NATIVE_DIR / stem
+  ref_classes = REF_DIR / stem
 
   # 1) Compile Java -> assembly using your compiler
-  cp = run(COMPILER_CMD + [str(java_file)])
+  cp = run(COMPILER_CMD + MODES[mode] + [str(java_file)])
   if cp.returncode != 0:
     return TestResult(
       name=name,
+      mode=mode,
       ok=False,
       native_rc=999,
       ref_rc=999,
@@ -105,6 +115,7 @@ def build_and_run_one(java_file: Path, boot_c: Path) -> TestResult:
   if build.returncode != 0:
     return TestResult(
       name=name,
+      mode=mode,
       ok=False,
       native_rc=build.returncode,
       ref_rc=999,
@@ -125,7 +136,7 @@ def build_and_run_one(java_file: Path, boot_c: Path) -> TestResult:
   diff_path = None
   note = f"{cp.stderr}" if cp.stderr else ""
   if not ok:
-    diff_path = DIFF_DIR / f"{name}.diff"
+    diff_path = DIFF_DIR / f"{stem}.diff"
     a = ref_out.splitlines(keepends=True)
     b = native_out.splitlines(keepends=True)
     delta = difflib.unified_diff(
@@ -143,6 +154,7 @@ def build_and_run_one(java_file: Path, boot_c: Path) -> TestResult:
 
   return TestResult(
     name=name,
+    mode=mode,
     ok=ok,
     native_rc=native.returncode,
     ref_rc=ref.returncode,
@@ -157,11 +169,11 @@ def render_running_panel(running: set[str]) -> "Panel":
   body = "\n".join(sorted(running))
   return Panel.fit(body, title="In progress", border_style="cyan", padding=(0, 1))
 
-def run_one_with_events(java_file: Path, boot_c: Path, events: "Queue[tuple[str, str]]") -> TestResult:
-  name = java_file.stem
+def run_one_with_events(java_file: Path, boot_c: Path, mode: str, events: "Queue[tuple[str, str]]") -> TestResult:
+  name = f"{java_file.stem} ({mode})"
   events.put(("start", name))
   try:
-    return build_and_run_one(java_file, boot_c)
+    return build_and_run_one(java_file, boot_c, mode)
   finally:
     events.put(("done", name))
 
@@ -173,7 +185,15 @@ def main() -> int:
     nargs="*",
     help="Optional: one or more test base names (e.g., Foo Bar for Foo.java Bar.java). If omitted, runs all tests.",
   )
+  ap.add_argument(
+    "--mode",
+    action="append",
+    choices=[*MODES, "all"],
+    help="Code generation mode to test each source in, repeatable (default: ast). 'all' tests every mode.",
+  )
   args = ap.parse_args()
+  requested = args.mode or ["ast"]
+  modes = list(MODES) if "all" in requested else list(dict.fromkeys(requested))
 
   boot_c = PATH_TO_BOOT_C_DIR / "boot.c"
   if not boot_c.exists():
@@ -204,9 +224,10 @@ def main() -> int:
     return 2
 
   results: list[TestResult] = []
+  jobs = [(jf, mode) for jf in java_files for mode in modes]
 
   # Concurrency limit: up to 5 tests running at once
-  max_workers = min(5, len(java_files)) if java_files else 1
+  max_workers = min(5, len(jobs)) if jobs else 1
 
   events: "Queue[tuple[str, str]]" = Queue()
   running: set[str] = set()
@@ -220,7 +241,7 @@ def main() -> int:
       TimeElapsedColumn(),
       console=console,
     )
-    task = progress.add_task("Running tests", total=len(java_files))
+    task = progress.add_task("Running tests", total=len(jobs))
 
     live = Live(
       Group(progress, render_running_panel(running)),
@@ -231,8 +252,8 @@ def main() -> int:
 
     with live:
       with ThreadPoolExecutor(max_workers=max_workers) as ex:
-        future_to_file = {ex.submit(run_one_with_events, jf, boot_c, events): jf for jf in java_files}
-        pending = set(future_to_file.keys())
+        future_to_job = {ex.submit(run_one_with_events, jf, boot_c, mode, events): (jf, mode) for jf, mode in jobs}
+        pending = set(future_to_job.keys())
 
         while pending:
           # Wait a bit so we can also refresh the "in progress" list frequently
@@ -258,10 +279,11 @@ def main() -> int:
             try:
               res = fut.result()
             except Exception as e:
-              jf = future_to_file.get(fut)
+              jf, mode = future_to_job.get(fut, (None, "?"))
               name = jf.stem if jf else "<unknown>"
               res = TestResult(
                 name=name,
+                mode=mode,
                 ok=False,
                 native_rc=999,
                 ref_rc=999,
@@ -279,7 +301,7 @@ def main() -> int:
   else:
     # Fallback: parallelize without live "in progress" UI
     with ThreadPoolExecutor(max_workers=max_workers) as ex:
-      futures = [ex.submit(build_and_run_one, jf, boot_c) for jf in java_files]
+      futures = [ex.submit(build_and_run_one, jf, boot_c, mode) for jf, mode in jobs]
       for fut in as_completed(futures):
         results.append(fut.result())
 
@@ -290,18 +312,19 @@ def main() -> int:
   if console:
     table = Table(title="Test results")
     table.add_column("Test")
+    table.add_column("Mode")
     table.add_column("Status")
     table.add_column("Note")
     table.add_column("Diff")
     for r in results:
       status = "[green]PASS[/green]" if r.ok else "[red]FAIL[/red]"
       diff = str(r.diff_path) if r.diff_path else "[green]100%[/green]"
-      table.add_row(r.name, status, r.note.rstrip(), diff.rstrip())
+      table.add_row(r.name, r.mode, status, r.note.rstrip(), diff.rstrip())
     console.print(table)
     console.print(f"\nOverall: {passed}/{len(results)} passed, {failed} failed")
   else:
     for r in results:
-      print(f"{r.name}: {'PASS' if r.ok else 'FAIL'} {('- ' + r.note.rstrip()) if r.note else ''}")
+      print(f"{r.name} ({r.mode}): {'PASS' if r.ok else 'FAIL'} {('- ' + r.note.rstrip()) if r.note else ''}")
       if r.diff_path:
         print(f"  diff: {r.diff_path}")
     print(f"Overall: {passed}/{len(results)} passed, {failed} failed")